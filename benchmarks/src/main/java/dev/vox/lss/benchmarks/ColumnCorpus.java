@@ -0,0 +1,144 @@
+package dev.vox.lss.benchmarks;
+
+import dev.vox.lss.common.wire.NativeToV20Translator;
+import dev.vox.lss.common.wire.WireSectionCursor;
+import dev.vox.lss.common.wire.WireSectionCursor.Layout;
+import dev.vox.lss.common.wire.WireSectionCursor.WireColumn;
+import dev.vox.lss.common.wire.WireSectionCursor.WireContainer;
+import dev.vox.lss.common.wire.WireSectionCursor.WireSection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * Deterministic synthetic columns for the suites: NATIVE section arrays (registry ids, as
+ * the transcoder hands them over) and their v20 translations. Same shape + seed, same
+ * bytes, on every machine — so two runs compare the code, never the corpus.
+ *
+ * <p>Content is run-coherent rather than uniform noise (each voxel repeats its
+ * predecessor most of the time), which keeps palette widths and zstd ratios in the
+ * range real terrain produces. Three shapes bracket what a server serves: mostly
+ * single-value sections, a cave-heavy mix at wide palettes, and a water column.
+ */
+public final class ColumnCorpus {
+    private ColumnCorpus() {}
+
+    public enum Shape { PLAINS, CAVES, OCEAN }
+
+    static final int MIN_SECTION_Y = -4;
+    static final int SECTIONS = 24;
+
+    // Registry ids are indexes into these tables (the translate lookups below).
+    private static final String[] BLOCKS = {
+            "minecraft:air", "minecraft:stone", "minecraft:deepslate", "minecraft:dirt",
+            "minecraft:grass_block[snowy=false]", "minecraft:water[level=0]", "minecraft:sand",
+            "minecraft:gravel", "minecraft:coal_ore", "minecraft:iron_ore",
+            "minecraft:copper_ore", "minecraft:deepslate_iron_ore", "minecraft:deepslate_diamond_ore",
+            "minecraft:andesite", "minecraft:diorite", "minecraft:granite", "minecraft:tuff",
+            "minecraft:cave_air", "minecraft:lava[level=0]", "minecraft:clay",
+            "minecraft:short_grass", "minecraft:oak_log[axis=y]", "minecraft:oak_leaves[distance=1,persistent=false,waterlogged=false]",
+            "minecraft:kelp[age=3]", "minecraft:seagrass", "minecraft:glow_lichen[down=false,east=false,north=true,south=false,up=false,waterlogged=false,west=false]",
+            "minecraft:moss_block", "minecraft:calcite", "minecraft:smooth_basalt", "minecraft:amethyst_block",
+            "minecraft:bedrock", "minecraft:redstone_ore[lit=false]",
+    };
+    private static final String[] BIOMES = {
+            "minecraft:plains", "minecraft:dripstone_caves", "minecraft:lush_caves",
+            "minecraft:ocean", "minecraft:deep_ocean",
+    };
+
+    public static final IntFunction<String> BLOCK_IDENTITY = id -> BLOCKS[id];
+    public static final IntFunction<String> BIOME_IDENTITY = id -> BIOMES[id];
+
+    private static final int AIR = 0, STONE = 1, DEEPSLATE = 2, DIRT = 3, GRASS = 4,
+            WATER = 5, SAND = 6, GRAVEL = 7, CAVE_AIR = 17;
+
+    /** A NATIVE section-array body for {@code shape}. */
+    public static byte[] nativeColumn(Shape shape, long seed) {
+        var rng = new Random(seed * 31 + shape.ordinal());
+        var sections = new ArrayList<WireSection>(SECTIONS);
+        for (int i = 0; i < SECTIONS; i++) {
+            sections.add(section(shape, MIN_SECTION_Y + i, rng));
+        }
+        return WireSectionCursor.emit(new WireColumn(List.of(), sections), Layout.NATIVE);
+    }
+
+    /** The v20 translation of {@link #nativeColumn} (what the wire and the store carry). */
+    public static byte[] v20Column(Shape shape, long seed) {
+        return NativeToV20Translator.translate(nativeColumn(shape, seed),
+                BLOCK_IDENTITY, BIOME_IDENTITY);
+    }
+
+    /** {@code count} v20 columns of mixed shapes — the dictionary-compression corpus. */
+    public static List<byte[]> mixedV20(int count) {
+        var out = new ArrayList<byte[]>(count);
+        var shapes = Shape.values();
+        for (int i = 0; i < count; i++) out.add(v20Column(shapes[i % shapes.length], i));
+        return out;
+    }
+
+    private static WireSection section(Shape shape, int y, Random rng) {
+        int[] palette;
+        boolean sky = false;
+        switch (shape) {
+            case PLAINS -> {
+                if (y < 0) palette = new int[]{DEEPSLATE, 11, 12, 16, CAVE_AIR, 31};
+                else if (y < 3) palette = new int[]{STONE, 8, 9, 10, 13, 14, 15, GRAVEL, CAVE_AIR};
+                else if (y == 3) palette = new int[]{STONE, DIRT, GRASS, AIR, 20, 21, 22};
+                else { palette = new int[]{AIR}; sky = true; }
+            }
+            case CAVES -> {
+                if (y < 5) {
+                    palette = new int[]{STONE, DEEPSLATE, CAVE_AIR, 8, 9, 10, 11, 12, 13, 14,
+                            15, 16, 18, 19, 25, 26, 27, 28, 29, 31, GRAVEL, DIRT, WATER};
+                } else if (y == 5) palette = new int[]{STONE, DIRT, GRASS, AIR, 20};
+                else { palette = new int[]{AIR}; sky = true; }
+            }
+            case OCEAN -> {
+                if (y < 2) palette = new int[]{STONE, DEEPSLATE, 8, 9, GRAVEL};
+                else if (y < 4) palette = new int[]{WATER, SAND, GRAVEL, 19, 23, 24};
+                else if (y == 4) palette = new int[]{WATER};
+                else { palette = new int[]{AIR}; sky = true; }
+            }
+            default -> throw new IllegalArgumentException(shape.toString());
+        }
+        byte[] skyLight = new byte[2048];
+        if (sky) {
+            Arrays.fill(skyLight, (byte) 0xFF);
+        } else {
+            for (int i = 0; i < skyLight.length; i++) skyLight[i] = (byte) (rng.nextInt(4) * 0x11);
+        }
+        int biome = switch (shape) {
+            case PLAINS -> 0;
+            case CAVES -> y < 5 ? 1 + rng.nextInt(2) : 0;
+            case OCEAN -> 3 + rng.nextInt(2);
+        };
+        var biomes = new WireContainer(0, new int[]{biome}, new long[0]);
+        if (palette.length == 1) {
+            int id = palette[0];
+            int nonEmpty = id == AIR || id == CAVE_AIR ? 0 : 4096;
+            int fluids = id == WATER ? 4096 : 0;
+            return new WireSection(y, nonEmpty, fluids,
+                    new WireContainer(0, palette, new long[0]), biomes, null, skyLight);
+        }
+        int[] voxels = new int[4096];
+        int current = 0;
+        int nonEmpty = 0, fluids = 0;
+        for (int i = 0; i < voxels.length; i++) {
+            // Runs: keep the previous block ~85% of the time, else jump — mostly to the
+            // section's base block (palette index 0), the way real terrain is dominated.
+            if (rng.nextInt(100) >= 85) {
+                current = rng.nextInt(3) == 0 ? rng.nextInt(palette.length) : 0;
+            }
+            voxels[i] = current;
+            int id = palette[current];
+            if (id != AIR && id != CAVE_AIR) nonEmpty++;
+            if (id == WATER) fluids++;
+        }
+        int bits = Math.max(4, 32 - Integer.numberOfLeadingZeros(palette.length - 1));
+        var blocks = new WireContainer(bits, palette, WireSectionCursor.pack(voxels, bits));
+        return new WireSection(y, nonEmpty, fluids, blocks, biomes, null, skyLight);
+    }
+}
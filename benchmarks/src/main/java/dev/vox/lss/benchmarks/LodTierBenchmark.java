@@ -0,0 +1,60 @@
+package dev.vox.lss.benchmarks;
+
+import dev.vox.lss.common.wire.LodTierDownsampler;
+import dev.vox.lss.common.wire.SectionDelta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-recipient column builds: the LOD tier downsample a far-disc ask costs, and the
+ * section digest plus delta a resync to a section-delta session costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LodTierBenchmark {
+
+    private byte[] v20Body;
+    private SectionDelta.Digest current;
+    private SectionDelta.Digest base;
+
+    @Setup
+    public void setup() {
+        this.v20Body = ColumnCorpus.v20Column(ColumnCorpus.Shape.CAVES, 1);
+        this.current = SectionDelta.digest(this.v20Body);
+        this.base = SectionDelta.digest(ColumnCorpus.v20Column(ColumnCorpus.Shape.CAVES, 2));
+    }
+
+    @Benchmark
+    public byte[] downsampleTier1() {
+        return LodTierDownsampler.downsample(this.v20Body, 1);
+    }
+
+    @Benchmark
+    public byte[] downsampleTier3() {
+        return LodTierDownsampler.downsample(this.v20Body, 3);
+    }
+
+    @Benchmark
+    public SectionDelta.Digest digest() {
+        return SectionDelta.digest(this.v20Body);
+    }
+
+    @Benchmark
+    public SectionDelta.Delta delta() {
+        return SectionDelta.between(this.v20Body, this.current, this.base);
+    }
+}
@@ -0,0 +1,87 @@
+package dev.vox.lss.benchmarks;
+
+import dev.vox.lss.common.store.StoreCodec;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The zstd column codecs, plain and against the shared column dictionary: one compress
+ * per served column on the processing thread (or a prepare shard), one decompress per
+ * raw-needing recipient of a store frame and per client decode. Walks a mixed-shape
+ * corpus so a run cannot settle into one column's cache footprint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StoreCodecBenchmark {
+
+    private static final int CORPUS = 48;
+
+    @Param({"zstd", "zstd-dict"})
+    public String codecName;
+
+    private StoreCodec codec;
+    private List<byte[]> raw;
+    private byte[][] frames;
+    private int next;
+
+    @Setup
+    public void setup() {
+        this.codec = this.codecName.equals("zstd-dict")
+                ? StoreCodec.zstdWithDictionaryOrNull() : StoreCodec.zstdOrNull();
+        if (this.codec == null) {
+            throw new IllegalStateException("zstd native unavailable on this platform");
+        }
+        this.raw = ColumnCorpus.mixedV20(CORPUS);
+        this.frames = new byte[CORPUS][];
+        for (int i = 0; i < CORPUS; i++) {
+            this.frames[i] = this.codec.compress(this.raw.get(i));
+        }
+    }
+
+    /** The size half of the comparison, reported by JMH beside the time: raw and frame
+     *  bytes through {@link #compress} per iteration (their ratio is the codec's). */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Sizes {
+        public long rawBytes;
+        public long frameBytes;
+    }
+
+    private int advance() {
+        int i = this.next;
+        this.next = i + 1 == CORPUS ? 0 : i + 1;
+        return i;
+    }
+
+    @Benchmark
+    public byte[] compress(Sizes sizes) {
+        byte[] in = this.raw.get(advance());
+        byte[] frame = this.codec.compress(in);
+        sizes.rawBytes += in.length;
+        sizes.frameBytes += frame.length;
+        return frame;
+    }
+
+    @Benchmark
+    public byte[] decompress() {
+        int i = advance();
+        return this.codec.decompress(this.frames[i], this.raw.get(i).length);
+    }
+}
@@ -0,0 +1,89 @@
+package dev.vox.lss.benchmarks;
+
+import dev.vox.lss.common.PositionUtil;
+import dev.vox.lss.common.voxel.ColumnTimestampCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The timestamp cache the router consults on every declared position: lookups across a
+ * populated 256-chunk disc (hits in shuffled order, so tile locality is not free), misses
+ * outside it, and the stamp write every delivery makes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimestampCacheBenchmark {
+
+    private static final String DIM = "minecraft:overworld";
+    private static final int RADIUS = 256;
+    private static final long STAMP = ColumnTimestampCache.TS_EPOCH_SECONDS + 86_400L;
+
+    private ColumnTimestampCache cache;
+    private long[] inside;
+    private long[] outside;
+    private int next;
+
+    @Setup
+    public void setup() {
+        this.cache = new ColumnTimestampCache(256L << 20, TimeUnit.SECONDS.toNanos(30));
+        int side = 2 * RADIUS + 1;
+        this.inside = new long[side * side];
+        int n = 0;
+        for (int x = -RADIUS; x <= RADIUS; x++) {
+            for (int z = -RADIUS; z <= RADIUS; z++) {
+                long packed = PositionUtil.packPosition(x, z);
+                this.cache.put(DIM, packed, STAMP + n, STAMP);
+                this.inside[n++] = packed;
+            }
+        }
+        var rng = new Random(7);
+        for (int i = this.inside.length - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            long t = this.inside[i];
+            this.inside[i] = this.inside[j];
+            this.inside[j] = t;
+        }
+        this.outside = new long[4096];
+        for (int i = 0; i < this.outside.length; i++) {
+            this.outside[i] = PositionUtil.packPosition(RADIUS * 4 + rng.nextInt(1024),
+                    RADIUS * 4 + rng.nextInt(1024));
+        }
+    }
+
+    private int advance(int length) {
+        int i = this.next;
+        this.next = i + 1 >= length ? 0 : i + 1;
+        return i;
+    }
+
+    @Benchmark
+    public long getHit() {
+        return this.cache.get(DIM, this.inside[advance(this.inside.length)]);
+    }
+
+    @Benchmark
+    public long getMiss() {
+        return this.cache.get(DIM, this.outside[advance(this.outside.length)]);
+    }
+
+    @Benchmark
+    public void putExisting() {
+        int i = advance(this.inside.length);
+        this.cache.put(DIM, this.inside[i], STAMP + i + 1, STAMP);
+    }
+}
@@ -0,0 +1,68 @@
+package dev.vox.lss.benchmarks;
+
+import dev.vox.lss.common.wire.NativeToV20Translator;
+import dev.vox.lss.common.wire.WireSectionCursor;
+import dev.vox.lss.common.wire.WireSectionCursor.Layout;
+import dev.vox.lss.common.wire.WireSectionCursor.WireColumn;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The column wire path per served column: the v20 parse and emit, the bounds-only scan
+ * the store and the legacy translators run, and the native-to-v20 translate every disk
+ * serve pays after the transcoder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireCodecBenchmark {
+
+    @Param({"PLAINS", "CAVES", "OCEAN"})
+    public ColumnCorpus.Shape shape;
+
+    private byte[] nativeBody;
+    private byte[] v20Body;
+    private WireColumn v20Parsed;
+
+    @Setup
+    public void setup() {
+        this.nativeBody = ColumnCorpus.nativeColumn(this.shape, 1);
+        this.v20Body = ColumnCorpus.v20Column(this.shape, 1);
+        this.v20Parsed = WireSectionCursor.parse(this.v20Body, Layout.V20);
+    }
+
+    @Benchmark
+    public WireColumn parseV20() {
+        return WireSectionCursor.parse(this.v20Body, Layout.V20);
+    }
+
+    @Benchmark
+    public byte[] emitV20() {
+        return WireSectionCursor.emit(this.v20Parsed, Layout.V20);
+    }
+
+    @Benchmark
+    public int scanV20() {
+        return WireSectionCursor.scan(this.v20Body, 0, Layout.V20);
+    }
+
+    @Benchmark
+    public byte[] translateNativeToV20() {
+        return NativeToV20Translator.translate(this.nativeBody,
+                ColumnCorpus.BLOCK_IDENTITY, ColumnCorpus.BIOME_IDENTITY);
+    }
+}
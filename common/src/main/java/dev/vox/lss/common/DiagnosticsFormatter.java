@@ -375,11 +375,17 @@ public final class DiagnosticsFormatter {
                 // memo_hits: miss-memo rung hits (fresh memoized absence skipped the redundant
                 // re-read and escalated straight to generation) — law A5's virtual not-founds.
                 // The LOD-store state rides the same line as a token (store=off / store=<mode>
-                // h=... m=...) — a new LINE would break the golden-order pins.
+                // h=... m=...) — a new LINE would break the golden-order pins. A running
+                // store also carries the shared region-header cache (its sweep and backfill
+                // are the cache's main consumers).
                 diskReader != null
                         ? diskReader.getDiagnostics()
                                 + String.format(", memo_hits=%d", diag.getTotalMemoHits())
                                 + (storeDiag != null ? ", " + storeDiag.formatToken(storeMode) : "")
+                                + (storeDiag != null && storeMode != null
+                                        && storeMode != dev.vox.lss.common.store.LodStoreMode.OFF
+                                        ? dev.vox.lss.common.region.RegionHeaderCache.shared().diagToken()
+                                        : "")
                         : "disabled",
                 generationDiagnosticsOrNull, generationDiagnosticsOrNull != null,
                 diag.getTotalGenOrderGated(), diag.getTotalGenCompletionInversions(),
@@ -157,6 +157,18 @@ public final class HandshakeGate {
         return new Decision(Outcome.REGISTER, true, dialect);
     }
 
+    /**
+     * The server-capabilities bits the session config acknowledges: C2S shapes the client
+     * may switch to only once the server agrees. Today that is
+     * {@link LSSConstants#CAPABILITY_COMPACT_WANT_SETS}, granted to a CURRENT-dialect client
+     * that declared it — a compat dialect's reply has no trailer to carry it. Zero means
+     * the trailer is not written at all.
+     */
+    public static int serverCapabilities(int clientCapabilities, WireDialect dialect) {
+        if (dialect != WireDialect.CURRENT) return 0;
+        return clientCapabilities & LSSConstants.CAPABILITY_COMPACT_WANT_SETS;
+    }
+
     /** Pre-Via-guard overload (no mismatch signal): kept so every existing gate pin
      *  stays byte-identical — {@code viaMismatch=false} is exactly the guard-off /
      *  probe-no-signal behavior. Production call sites use the 8-arg form; each
@@ -35,6 +35,43 @@ public final class LSSConstants {
     // src:3); pre-store clients keep the byte verbatim by the unknown-values rule.
     public static final byte COLUMN_SOURCE_STORE = 3;
 
+    // Multi-resolution LOD tiers (far-disc downsampling, LodTierDownsampler): tier t
+    // serves every 2^t-cubed cell as one block. The ASK rides the C2S clientTimestamp —
+    // the batch request shape is frozen, and every server ever shipped treats any
+    // ts <= 0 as "no data" — so a no-data ask for tier t is declared as -1 - t (-1 stays
+    // full resolution; -2..-4 are tiers 1..3). A tier-unaware server simply serves full
+    // resolution. The ANSWER is a trailing tier byte on the VoxelColumn frame, written
+    // only when nonzero — a full-res frame is byte-identical to today's, and a tiered
+    // frame only ever answers a tier ask, which only tier-aware clients send (they read
+    // the byte tolerantly, absent = 0). No protocol bump, no capability bit.
+    public static final int LOD_TIER_MAX = 3;
+    /** Floor for the client's {@code lodTierStartChunks} (nonzero values): the nearest
+     *  coarse ring stays well outside any vanilla render distance, where a 2x cell is
+     *  already sub-pixel. */
+    public static final int MIN_LOD_TIER_START_CHUNKS = 32;
+
+    /** The tier a position at Chebyshev distance {@code ring} wants when tiers start at
+     *  {@code startChunks} (0 = off): tier t covers {@code ring > startChunks << (t-1)}. */
+    public static int lodTierForRing(int ring, int startChunks) {
+        if (startChunks <= 0 || ring <= startChunks) return 0;
+        int tier = 1;
+        while (tier < LOD_TIER_MAX && ring > (startChunks << tier)) tier++;
+        return tier;
+    }
+
+    /** The clientTimestamp a no-data ask for {@code tier} declares (tier 0 = -1). */
+    public static long lodTierAskTimestamp(int tier) {
+        return -1L - tier;
+    }
+
+    /** The tier a declared clientTimestamp asks for: 0 for any ts >= -1 (resyncs and
+     *  plain first asks), {@code -1 - ts} clamped to {@link #LOD_TIER_MAX} below that. */
+    public static int requestedLodTier(long clientTimestamp) {
+        if (clientTimestamp >= -1) return 0;
+        long tier = -1L - clientTimestamp;
+        return (int) Math.min(tier, LOD_TIER_MAX);
+    }
+
     // Channel identifiers (used as Minecraft resource location strings)
     public static final String CHANNEL_HANDSHAKE = "lss:handshake_c2s";
     public static final String CHANNEL_CHUNK_REQUEST = "lss:batch_chunk_req";
@@ -77,6 +114,16 @@ public final class LSSConstants {
     // request is the capability declaration — released clients never request, never
     // receive). Raw byte[] bodies (ColumnStampsWire), same family as the two above.
     public static final String CHANNEL_COL_STAMPS = "lss:col_stamps";
+    // Packed columns: S2C frames carrying several adjacent columns under ONE zstd frame
+    // (ColumnPackWire), sent only to sessions that declared CAPABILITY_PACKED_COLUMNS.
+    // Raw byte[] bodies like the three above.
+    public static final String CHANNEL_COLUMN_PACK = "lss:column_pack";
+    // Compact want-sets: C2S declarations in the WantSetWire encoding (varint position
+    // and timestamp deltas, optionally a diff against the previous declaration). Sent
+    // INSTEAD of CHANNEL_CHUNK_REQUEST, and only once the server acknowledged
+    // CAPABILITY_COMPACT_WANT_SETS in its session config — the declaration must never
+    // reach a server that would discard it.
+    public static final String CHANNEL_WANT_SET = "lss:want_set";
 
     // Time conversion constants
     public static final long NANOS_PER_SECOND = 1_000_000_000L;
@@ -137,6 +184,23 @@ public final class LSSConstants {
      *  scale with cores but stop well short of starving the rest of the server. */
     public static final int AUTO_DISK_READER_THREADS_PRIORITIZED_MAX = 8;
     public static final int MAX_DISK_READER_THREADS = 64;
+    /** AUTO processing-prepare shard count: one shard per this many cores, so boxes under
+     *  it keep the inline prepare (a hand-off costs more than one core saves). */
+    public static final int AUTO_PREPARE_SHARD_CORES = 8;
+    /** AUTO ceiling for prepare shards — past it the single delivery pass, not the
+     *  compress work, is the cycle's floor. */
+    public static final int AUTO_PREPARE_SHARDS_MAX = 4;
+    public static final int MAX_PREPARE_SHARDS = 32;
+    /** AUTO probe serializer threads: one per this many cores. The pool only has to keep
+     *  pace with the tick's probe budget, so it stays smaller than the reader pool. */
+    public static final int AUTO_PROBE_SERIALIZER_CORES = 4;
+    public static final int AUTO_PROBE_SERIALIZERS_MAX = 4;
+    public static final int MAX_PROBE_SERIALIZERS = 32;
+    /** AUTO client column decode threads: one per this many cores, capped — the drain
+     *  thread's in-order dispatch bounds what more decoders could add. */
+    public static final int AUTO_COLUMN_DECODE_CORES = 4;
+    public static final int AUTO_COLUMN_DECODE_THREADS_MAX = 4;
+    public static final int MAX_COLUMN_DECODE_THREADS = 16;
     /** Disk-read concurrency gate floor (disk-read-concurrency-gate-plan.md). 0 is a
      *  first-class value above it — AUTO, see
      *  ServerConfigBase.effectiveMaxConcurrentDiskReads — so validate() clamps only
@@ -151,6 +215,16 @@ public final class LSSConstants {
      *  half-pooling would hand store-off servers pure downside on exactly the workloads
      *  where disk reads dominate (both gate reviews' convergent MAJOR). */
     public static final int AUTO_DISK_READ_GATE_DIVISOR = 2;
+    /** Dense cold-join rung (RegionBulkCache): submissions into ONE region within
+     *  {@link #BULK_REGION_WINDOW_MS} that switch it to a whole-file read. A quarter of
+     *  the region's slots — a joining player's want-set over cold terrain crosses it
+     *  within a few router passes; scattered re-requests and edge regions never do. */
+    public static final int BULK_REGION_MIN_SUBMITS = 256;
+    public static final long BULK_REGION_WINDOW_MS = 4_000L;
+    /** How long a region image serves slices before the per-chunk path takes over again. */
+    public static final long BULK_REGION_TTL_MS = 15_000L;
+    /** Heap budget for retained region images across all dimensions. */
+    public static final long BULK_REGION_CACHE_BYTES = 64L << 20;
     /** Global bandwidth ceiling bound — same 1 GiB rationale as the per-player bound
      *  above (bounds only what an admin deliberately types). */
     public static final long MAX_BYTES_PER_SECOND_GLOBAL_LIMIT = 1_073_741_824;
@@ -173,6 +247,11 @@ public final class LSSConstants {
     public static final int MAX_GENERATION_RING_SPREAD = 2;
     public static final int MIN_GENERATION_TIMEOUT = 1;
     public static final int MAX_GENERATION_TIMEOUT = 600;
+    /** Aging for the server-wide generation queue ({@code GenerationAdmissionQueue}): each
+     *  this many ticks a ticket waits counts as one Chebyshev ring nearer its nearest
+     *  requesting player, so far work is ranked behind other players' near work but cannot
+     *  starve there — a 64-ring gap closes in 16 s, well inside the generation timeout. */
+    public static final int GENERATION_QUEUE_AGING_TICKS_PER_RING = 5;
     public static final int MIN_DIRTY_BROADCAST_INTERVAL = 1;
     public static final int MAX_DIRTY_BROADCAST_INTERVAL = 300;
     /** Drain cadence when dirty SENDS are disabled (dirtyBroadcastIntervalSeconds = 0):
@@ -222,6 +301,15 @@ public final class LSSConstants {
     public static final int MIN_LOD_STORE_MAX_MB = 64;
     public static final int MAX_LOD_STORE_MAX_MB = 1_048_576;
 
+    // The hot-frame cache is one direct ByteBuffer (int-indexed), so 1 GB is a hard
+    // ceiling as well as far past any spawn/hub working set.
+    public static final int MIN_LOD_STORE_HOT_CACHE_MB = 0;
+    public static final int MAX_LOD_STORE_HOT_CACHE_MB = 1024;
+
+    // Cold tier: 0 = off; a year is already past any useful "not served lately".
+    public static final int MIN_LOD_STORE_COLD_COMPRESSION_DAYS = 0;
+    public static final int MAX_LOD_STORE_COLD_COMPRESSION_DAYS = 365;
+
     public static final int MIN_LOD_STORE_RESWEEP_SECONDS = 0;
     public static final int MAX_LOD_STORE_RESWEEP_SECONDS = 3600;
 
@@ -229,9 +317,15 @@ public final class LSSConstants {
      *  ~10 col/s the walk cannot finish a large world in useful time (worse than off —
      *  it holds the thread and the hasRow probes for nothing); above ~1000 the
      *  single-threaded synchronous read (~1-2 ms healthy) is the limiter anyway and the
-     *  value would only mislead. */
+     *  value would only mislead. The ceiling is 10000 since the walk grew region workers
+     *  (lodStoreBackfillWorkers): the cap is shared across them, and eight workers plus
+     *  the bulk rung sustain several thousand col/s on an idle NVMe box. */
     public static final int MIN_LOD_STORE_BACKFILL_CPS = 10;
-    public static final int MAX_LOD_STORE_BACKFILL_CPS = 1000;
+    public static final int MAX_LOD_STORE_BACKFILL_CPS = 10000;
+    /** Backfill region-worker clamp: 1 = the single-threaded walk. Past ~8 the store's
+     *  one deposit batcher is the limiter, not the region reads. */
+    public static final int MIN_LOD_STORE_BACKFILL_WORKERS = 1;
+    public static final int MAX_LOD_STORE_BACKFILL_WORKERS = 8;
     /** Backfill tick-health ceiling (smoothed MSPT): the walk pauses above this. RETIRED
      *  as config 2026-08-02 (config review section 6) — its clamp band was 20..50 and its own
      *  comment conceded that >= 50 never pauses and <= 20 never runs on a busy server, so a
@@ -360,13 +454,55 @@ public final class LSSConstants {
      *  session registers normally: no compat rung, no version bump. INERT at E1 — the
      *  client-side composition compiles the bit OFF until E2 flips the defaults. */
     public static final int CAPABILITY_FAR_PLAYERS = 4;
+    /** Section-delta re-serves: the client can apply a VoxelColumn frame carrying only the
+     *  changed sections of a column it holds (the trailing delta block — see
+     *  {@code SectionDelta}). Masked like every unknown bit at an older server, which
+     *  keeps serving whole columns. */
+    public static final int CAPABILITY_SECTION_DELTAS = 8;
+    /** Dictionary frames: the client holds the shared {@code ColumnDictionary} and can
+     *  decode {@link #COLUMN_CODEC_ZSTD_DICT} columns. Declared together with the
+     *  dictionary's version in the byte at {@link #CAPABILITY_DICTIONARY_VERSION_SHIFT}
+     *  — the capability word is the only handshake field an older server reads without
+     *  rejecting the packet, so the version rides it. A version the server does not hold
+     *  is treated as no dictionary (plain codec-1 frames). */
+    public static final int CAPABILITY_ZSTD_DICTIONARY = 16;
+    public static final int CAPABILITY_DICTIONARY_VERSION_SHIFT = 8;
+    /** Raw column framing: the client reads uncompressed connection frames itself, ahead
+     *  of Minecraft's decompressor, so the server may ship a zstd column frame past the
+     *  connection's zlib (data-length 0) at any size. Declared only when the client could
+     *  install that handler; masked like every unknown bit at an older server. */
+    public static final int CAPABILITY_RAW_COLUMN_FRAMING = 32;
+    /** Packed columns: the client can unpack a {@link #CHANNEL_COLUMN_PACK} frame — up to
+     *  {@link #COLUMN_PACK_MAX_COLUMNS} columns of one 4x4-chunk tile compressed as one
+     *  zstd frame, so identity strings and terrain repeated across neighbours compress
+     *  once. Declared with {@link #CAPABILITY_ZSTD_COLUMNS}; masked like every unknown
+     *  bit at an older server, which keeps shipping one frame per column. */
+    public static final int CAPABILITY_PACKED_COLUMNS = 64;
+    /** Compact want-sets: the client can declare on {@link #CHANNEL_WANT_SET}. Unlike the
+     *  S2C bits the SERVER must agree before the client switches, so a server that
+     *  supports it echoes the bit in the session config's trailing server-capabilities
+     *  VarInt — written only to clients that declared it, which are the only ones that
+     *  read past the data version. */
+    public static final int CAPABILITY_COMPACT_WANT_SETS = 128;
+    /** Most columns one pack carries — one 4x4 tile. */
+    public static final int COLUMN_PACK_MAX_COLUMNS = 16;
+    /** Raw section bytes one pack may carry before the packer closes it and starts the
+     *  next: bounds the client's one-shot decompress and the frame a late member waits
+     *  behind. A tile of typical columns (10-40 KiB raw) fits whole. */
+    public static final int COLUMN_PACK_MAX_RAW_BYTES = 1_048_576;
+    /** Per-dimension bound on the server's section-digest base table (delta re-serves):
+     *  the most recently served resync/in-memory columns, ~100-300 B each. */
+    public static final int SECTION_DIGEST_CACHE_COLUMNS = 16_384;
 
     // VoxelColumn codec tag values (one wire byte, protocol 19+, after the source tag).
     // Unlike the source tag, unknown values are NOT passed through verbatim client-side:
     // the codec byte changes how the section bytes must be read, so the decode drain
-    // treats anything outside {0,1} as a decode failure (ingest-failure re-serve).
+    // treats anything outside {0,1,2} as a decode failure (ingest-failure re-serve).
     public static final byte COLUMN_CODEC_RAW = 0;
     public static final byte COLUMN_CODEC_ZSTD = 1;
+    /** A zstd-1 frame against the shared {@code ColumnDictionary} — only ever sent to a
+     *  session that declared {@link #CAPABILITY_ZSTD_DICTIONARY} at our version. */
+    public static final byte COLUMN_CODEC_ZSTD_DICT = 2;
 
     /** Columns whose raw section bytes are below this never compress (codec 0): the frame
      *  header wins nothing on tiny bodies and the 0-section clear must stay raw (the
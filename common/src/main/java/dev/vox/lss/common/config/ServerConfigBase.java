@@ -107,6 +107,27 @@ public abstract class ServerConfigBase extends JsonConfig {
      * pool at derivation.
      */
     public int maxConcurrentDiskReads = 0;
+    /**
+     * Processing-thread prepare shards: the compress/decompress work of each cycle's
+     * drained disk results runs on this many worker threads, players hashed to shards,
+     * before the processing thread delivers them in order. <b>0 = AUTO (the default)</b>,
+     * one shard per {@link LSSConstants#AUTO_PREPARE_SHARD_CORES} cores up to
+     * {@link LSSConstants#AUTO_PREPARE_SHARDS_MAX} — see
+     * {@link #effectivePrepareShards()}. 1 keeps the prepare inline on the processing
+     * thread (the pre-shard behavior); delivery, dedup, and every stamp stay single-threaded
+     * either way.
+     */
+    public int processingPrepareShards = 0;
+    /**
+     * Loaded-chunk probe serializer threads: the server tick only copies a probed column's
+     * sections and light, and this many workers write and translate the copies, so the
+     * serialize cost leaves the tick. <b>0 = AUTO (the default)</b>, one thread per
+     * {@link LSSConstants#AUTO_PROBE_SERIALIZER_CORES} cores, 1 to
+     * {@link LSSConstants#AUTO_PROBE_SERIALIZERS_MAX} — see
+     * {@link #effectiveProbeSerializerThreads()}. <b>-1 serializes on the tick thread</b>
+     * (the pre-pool behavior; any negative value normalizes to it).
+     */
+    public int probeSerializerThreads = 0;
     /**
      * Per-player send-queue cap. The default is the wire batch cap: under v17 replace
      * semantics a player's backlog is at most ONE wire batch, and a payload only enqueues
@@ -164,6 +185,33 @@ public abstract class ServerConfigBase extends JsonConfig {
      * pre-summary behavior).
      */
     public boolean enableRegionSummaries = true;
+    /**
+     * Multi-resolution LOD tiers: answer a client's tier ask (a no-data declaration of
+     * {@code -1 - tier}, see {@code LSSConstants.requestedLodTier}) with the column
+     * downsampled to {@code 2^tier}-block cells — far-disc columns ship a fraction of the
+     * bytes and decode work. Derived per session at registration (CURRENT dialect only),
+     * so a flip needs a rejoin. Off = tier asks serve full resolution, exactly the
+     * pre-tier behavior. Inert for clients that never ask (the client knob defaults off).
+     */
+    public boolean enableLodTiers = true;
+    /**
+     * Section-delta re-serves: when a client re-asks for a column it holds (a dirty
+     * re-request after an edit), ship only the sections whose content changed plus a
+     * keep-the-rest map, instead of the whole column. Applies to sessions that declared
+     * the capability; derived at registration, so a flip needs a rejoin. Off = every
+     * resync ships the full column (the pre-delta behavior).
+     */
+    public boolean enableSectionDeltas = true;
+    /**
+     * Dictionary-framed columns: compress against the shared built-in column dictionary
+     * (identity strings and section framing every column repeats), on the wire to
+     * sessions that declared the same dictionary version and in the LOD store. Rides on
+     * {@code useCompressedColumns}; derived per session at registration, so a flip needs
+     * a rejoin. The store records its codec, so flipping this rebuilds the store once —
+     * which is why it ships off: an upgrade must never silently wipe an existing store.
+     * Off = plain zstd-1 frames everywhere (the pre-dictionary behavior).
+     */
+    public boolean useColumnDictionary = false;
 
     /**
      * Transport yield (vanilla-first-lod-yield-plan.md v2.1, v0.10.0 stage A2): while the
@@ -201,6 +249,18 @@ public abstract class ServerConfigBase extends JsonConfig {
     /** 32 -> 40 by user decision 2026-08-08 (config rework), matching the per-player cap. */
     public int generationConcurrencyLimitGlobal = 40;
     public int generationTimeoutSeconds = 60;
+    /**
+     * LOD-only generation: missing chunks are generated up to the LIGHT status — the last
+     * one the LOD serve reads — and serialized straight from the proto-chunk, skipping the
+     * spawn pass and the FULL promotion (entity load, block-entity and ticking registration)
+     * a far-away column never needs. The proto-chunk still saves like any partially
+     * generated chunk: a dropped one would strand the feature decoration its neighbors
+     * already spilled into it, and a player who walks in later resumes from it instead of
+     * regenerating. Such columns are not FULL on disk, so they serve from the LOD store, or
+     * from a repeat (load-only) pull when the store is off. Read at service start. No clamp:
+     * boolean.
+     */
+    public boolean lodOnlyGeneration = false;
     /**
      * Seconds between dirty-column pushes to clients. <b>0 = dirty pushes DISABLED</b>
      * (v0.11.0, dirty-broadcast-interval-zero-plan.md): no {@code DirtyColumnsS2CPayload}
@@ -288,6 +348,19 @@ public abstract class ServerConfigBase extends JsonConfig {
      */
     @HiddenFromFile // expert rollback switch — honored from files, never written (2026-08-08 rework)
     public boolean useSelectiveNbtParse = true;
+    /**
+     * When true (default), dense cold reads ingest whole region files: a region drawing a
+     * quarter of its slots in reads within a few seconds (a join or teleport over cold
+     * terrain) is read in ONE positional read on the IOWorker and its remaining records
+     * are served as slices, and the store backfill reads each region it has to fill the
+     * same way, decoding on a small pool. Only clean internal records are served this way
+     * — external and malformed records, and slots saved since the image was read, take
+     * the per-chunk path. Fabric-only in effect (the split's raw rung; Paper reads route
+     * through Moonrise). Set false to keep every read per chunk as a rollback. No clamp:
+     * a boolean has no out-of-range value.
+     */
+    @HiddenFromFile // expert rollback switch — honored from files, never written
+    public boolean useBulkRegionReads = true;
     /**
      * When true (default), disk-read column serving transcodes region NBT straight into
      * wire bytes — palette ids and bit-storage longs copied verbatim off the NBT — instead
@@ -313,6 +386,28 @@ public abstract class ServerConfigBase extends JsonConfig {
      */
     @HiddenFromFile // expert rollback switch — honored from files, never written (2026-08-08 rework)
     public boolean useCompressedColumns = true;
+    /**
+     * When true, zstd column frames skip the connection's zlib for sessions whose client
+     * declared {@code CAPABILITY_RAW_COLUMN_FRAMING}: the frame goes out with the
+     * uncompressed data-length marker instead of being deflated a second time on the
+     * netty thread (~0% gain on an already-zstd body) and inflated again on the client.
+     * Every other packet, and raw (codec 0) columns, still compress as before. Off by
+     * default: a proxy in front of the server (Velocity) rejects an uncompressed frame
+     * over the compression threshold, and the server cannot tell it is behind one. Turn
+     * it on only when clients connect directly. Derived per session at registration. No
+     * clamp: boolean.
+     */
+    public boolean bypassConnectionCompression = false;
+    /**
+     * When true (default), full-resolution columns resolved in the same processing cycle
+     * for a session that declared {@code CAPABILITY_PACKED_COLUMNS} ship as packs: up to
+     * {@code COLUMN_PACK_MAX_COLUMNS} columns of one 4x4-chunk tile compressed as one zstd
+     * frame, so neighbours share the block names and terrain patterns each single frame
+     * pays for on its own. Store-frame hits, deltas and tier bodies still ship alone; the
+     * bandwidth limit keeps charging raw bytes. Derived per session at registration. No
+     * clamp: boolean.
+     */
+    public boolean packColumns = true;
     /**
      * When true (default), clients running the legacy protocol-16 mod (v0.6.x) get a
      * translated LOD session through the v16 compat shim (docs/planning/v16-compat-design.md)
@@ -447,6 +542,15 @@ public abstract class ServerConfigBase extends JsonConfig {
      * box is simply gated down (measured 32 col/s under load at the old 100 cap).
      */
     public int lodStoreBackfillColumnsPerSecond = 500;
+    /**
+     * Region workers the store backfill may run in parallel. 1 (the default) is the
+     * single-threaded walk; higher values are an opt-in for operators who want a large
+     * world warmed fast. The walk starts with one worker and adds one per second while
+     * neither restraint gate fires, halving on every pause, so a loaded server stays at
+     * one. The column-rate cap above is shared by all workers. Inert on Paper (no
+     * backfill).
+     */
+    public int lodStoreBackfillWorkers = 1;
     // NOTE: lodStoreBackfillTickCeilingMillis is RETIRED (2026-08-02, config review section 6)
     // — now LSSConstants.LOD_STORE_BACKFILL_TICK_CEILING_MS. Its clamp band was 20..50 and both
     // ends were degenerate by its own documentation (>= 50 never pauses, <= 20 never runs on a
@@ -459,15 +563,58 @@ public abstract class ServerConfigBase extends JsonConfig {
      * surprises more than disk growth does, and at the old 2048 default a
      * pregenerated world entered a backfill<->eviction treadmill forever). A nonzero
      * value (clamped 64..1048576) opts into the bound for quota-limited hosts: above it
-     * the batcher evicts oldest-timestamp rows in batches and returns pages via
-     * incremental_vacuum. NOTE the eviction order is oldest FIRST-DEPOSITED (a row's
-     * ts is set when it enters and is not refreshed by hits), so a capped store sheds
-     * its longest-resident terrain, not its least-recently-served. Evicted columns
-     * re-warm on their next serve, and the affected backfill regions are un-marked so
-     * an enabled backfill revisits them; the backfill also hard-stops near an active
-     * cap rather than churn it.
+     * the batcher evicts rows in batches, in {@link #lodStoreEvictionPolicy} order, and
+     * returns pages via incremental_vacuum. Evicted columns re-warm on their next
+     * serve, and the affected backfill regions are un-marked so an enabled backfill
+     * revisits them; the backfill also hard-stops near an active cap rather than churn
+     * it.
      */
     public int lodStoreMaxMB = 0;
+    /**
+     * Which rows a capped store evicts first (inert while {@link #lodStoreMaxMB} is 0):
+     * {@code "lru"} (least recently served — the default), {@code "lfu"} (fewest hits,
+     * aged hourly), {@code "anchor"} (farthest from each dimension's most-requested
+     * positions, so spawn and hubs stay warm), or {@code "oldest"} (the pre-policy
+     * oldest-timestamp order, no hit tracking). Hits are tracked only under a cap and a
+     * hit-ordered policy. Read at store start; unknown values normalize to "lru".
+     */
+    public String lodStoreEvictionPolicy = "lru";
+    /**
+     * Off-heap hot-frame cache in front of the SQLite store (MB; 0 = off): the most
+     * recently served compressed frames, held in one direct buffer reserved at store
+     * start, so spawn and hub columns every joining player asks for skip SQLite
+     * entirely. Counts against {@code -XX:MaxDirectMemorySize} (which defaults to the
+     * heap size), not the heap; clamped to 1024. Entries are dropped as their rows are
+     * rewritten, invalidated, swept or evicted, so the cache never serves stale bytes.
+     */
+    public int lodStoreHotCacheMB = 64;
+    /**
+     * Store each distinct section once (SQLite store): column rows become manifests of
+     * content-addressed, refcounted section bodies, so repeated terrain — deep stone,
+     * ocean floor, sky-light-only air — is written once across the whole store. Costs
+     * a split per deposit on the batcher and a compress per frame-form hit; rows
+     * written while it is off (or whose body cannot split) stay whole-column, and
+     * toggling never invalidates the store. Kill-switch.
+     */
+    public boolean lodStoreSectionDedup = true;
+    /**
+     * Cold-tier recompression (days; 0 = off): store rows neither deposited nor served
+     * for this long are recompressed at a high zstd level by the store's idle write
+     * thread — a few rows at a time, yielding to every deposit — shrinking the long
+     * tail of a large world's store. Cold rows read back exactly as before (at a
+     * slightly higher decode cost on a hit), and a row re-served from fresh data is
+     * written back at the fast level. Clamped to 365.
+     */
+    public int lodStoreColdCompressionDays = 7;
+    /**
+     * One database per dimension (SQLite store): each dimension gets its own file, WAL
+     * and write thread under the store's {@code dims/} directory, so a sweep, drop or
+     * eviction pass in one dimension never stalls another's writes. Dimensions an
+     * existing store already holds stay in the main file; turning this off deletes the
+     * per-dimension files (derived data — they re-warm in the main file). No clamp:
+     * boolean.
+     */
+    public boolean lodStoreShardByDimension = true;
 
     /**
      * Resolved disk-reader pool size, honouring the 0 = AUTO default.
@@ -487,6 +634,21 @@ public abstract class ServerConfigBase extends JsonConfig {
                 LSSConstants.AUTO_DISK_READER_THREADS_PRIORITIZED_MAX);
     }
 
+    /** Resolved prepare-shard count, honouring the 0 = AUTO default (1 = inline). */
+    public int effectivePrepareShards() {
+        if (processingPrepareShards > 0) return processingPrepareShards;
+        return Math.clamp(Runtime.getRuntime().availableProcessors()
+                / LSSConstants.AUTO_PREPARE_SHARD_CORES, 1, LSSConstants.AUTO_PREPARE_SHARDS_MAX);
+    }
+
+    /** Resolved probe serializer pool size, honouring the 0 = AUTO default (0 = inline). */
+    public int effectiveProbeSerializerThreads() {
+        if (probeSerializerThreads < 0) return 0;
+        if (probeSerializerThreads > 0) return probeSerializerThreads;
+        return Math.clamp(Runtime.getRuntime().availableProcessors()
+                / LSSConstants.AUTO_PROBE_SERIALIZER_CORES, 1, LSSConstants.AUTO_PROBE_SERIALIZERS_MAX);
+    }
+
     /**
      * Resolved disk-read gate capacity K, honouring the 0 = AUTO default
      * (disk-read-concurrency-gate-plan.md — the {@code effectiveDiskReaderThreads}
@@ -543,6 +705,11 @@ public abstract class ServerConfigBase extends JsonConfig {
         return lodStoreMaxMB <= 0 ? Long.MAX_VALUE : lodStoreMaxMB * 1024L * 1024L;
     }
 
+    /** The hot-frame cache's arena size for {@code Environment.hotCacheBytes} (0 = off). */
+    public long lodStoreHotCacheBytes() {
+        return Math.max(lodStoreHotCacheMB, 0) * 1024L * 1024L;
+    }
+
     /**
      * One-line effective-config echo, INFO-logged once at service start on both platforms.
      *
@@ -798,6 +965,10 @@ public abstract class ServerConfigBase extends JsonConfig {
         // clamps into the supported band — the same shape as lodStoreMaxMB.
         diskReaderThreads = diskReaderThreads <= 0 ? 0 : Math.clamp(diskReaderThreads,
                 LSSConstants.MIN_DISK_READER_THREADS, LSSConstants.MAX_DISK_READER_THREADS);
+        processingPrepareShards = processingPrepareShards <= 0 ? 0
+                : Math.min(processingPrepareShards, LSSConstants.MAX_PREPARE_SHARDS);
+        probeSerializerThreads = probeSerializerThreads < 0 ? -1
+                : Math.min(probeSerializerThreads, LSSConstants.MAX_PROBE_SERIALIZERS);
         // Same 0 = AUTO shape (negative normalizes to AUTO, mirroring diskReaderThreads —
         // never to 1, which would be the TIGHTEST gate); the pool clamp applies at
         // derivation, where the resolved pool size is known.
@@ -852,8 +1023,17 @@ public abstract class ServerConfigBase extends JsonConfig {
         // pattern; only a nonzero opt-in cap gets the 64..1048576 floor/ceiling.
         lodStoreMaxMB = lodStoreMaxMB <= 0 ? 0 : Math.clamp(lodStoreMaxMB,
                 LSSConstants.MIN_LOD_STORE_MAX_MB, LSSConstants.MAX_LOD_STORE_MAX_MB);
+        lodStoreEvictionPolicy = dev.vox.lss.common.store.StoreEvictionPolicy
+                .normalize(lodStoreEvictionPolicy).configValue();
+        lodStoreHotCacheMB = Math.clamp(lodStoreHotCacheMB,
+                LSSConstants.MIN_LOD_STORE_HOT_CACHE_MB, LSSConstants.MAX_LOD_STORE_HOT_CACHE_MB);
+        lodStoreColdCompressionDays = Math.clamp(lodStoreColdCompressionDays,
+                LSSConstants.MIN_LOD_STORE_COLD_COMPRESSION_DAYS,
+                LSSConstants.MAX_LOD_STORE_COLD_COMPRESSION_DAYS);
         lodStoreBackfillColumnsPerSecond = Math.clamp(lodStoreBackfillColumnsPerSecond,
                 LSSConstants.MIN_LOD_STORE_BACKFILL_CPS, LSSConstants.MAX_LOD_STORE_BACKFILL_CPS);
+        lodStoreBackfillWorkers = Math.clamp(lodStoreBackfillWorkers,
+                LSSConstants.MIN_LOD_STORE_BACKFILL_WORKERS, LSSConstants.MAX_LOD_STORE_BACKFILL_WORKERS);
         xrayObfuscation = XrayMaskPolicy.normalizeMode(xrayObfuscation);
         if (xrayHiddenBlocks == null) xrayHiddenBlocks = defaultXrayHiddenBlocks();
         xrayMaxBlockHeight = Math.clamp(xrayMaxBlockHeight, LSSConstants.MIN_XRAY_MAX_BLOCK_HEIGHT, LSSConstants.MAX_XRAY_MAX_BLOCK_HEIGHT);
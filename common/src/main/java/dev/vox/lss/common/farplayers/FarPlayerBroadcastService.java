@@ -122,6 +122,7 @@ public final class FarPlayerBroadcastService {
 
     private final Map<UUID, ViewerState> viewers = new HashMap<>();
     private final VanishBridge vanishBridge;
+    private final FarPlayerSpatialIndex grid = new FarPlayerSpatialIndex();
 
     // Diag counters (FARP §3.2: far-player bytes get their OWN counters — never folded
     // into service.bytes_sent/wire_bytes, which feed the cross-identity audits).
@@ -130,6 +131,13 @@ public final class FarPlayerBroadcastService {
     private final AtomicLong entriesSent = new AtomicLong();
     private final AtomicLong suppressedUnchanged = new AtomicLong();
     private final AtomicLong bytesSent = new AtomicLong();
+    // Per-pass cost of the visibility stage (the last broadcast tick, not cumulative):
+    // occupied grid cells, candidates the viewers' ring queries handed the filter
+    // ladder, and the pass's wall time. candidates/viewers ≈ the per-viewer scan width
+    // the grid bought (the full scan was the whole online list per viewer).
+    private final AtomicLong lastTickCells = new AtomicLong();
+    private final AtomicLong lastTickCandidates = new AtomicLong();
+    private final AtomicLong lastTickMicros = new AtomicLong();
 
     public FarPlayerBroadcastService(VanishBridge vanishBridge) {
         this.vanishBridge = vanishBridge == null ? (v, t) -> true : vanishBridge;
@@ -176,6 +184,9 @@ public final class FarPlayerBroadcastService {
     public long entriesSent() { return entriesSent.get(); }
     public long suppressedUnchanged() { return suppressedUnchanged.get(); }
     public long bytesSent() { return bytesSent.get(); }
+    public long lastTickCells() { return lastTickCells.get(); }
+    public long lastTickCandidates() { return lastTickCandidates.get(); }
+    public long lastTickMicros() { return lastTickMicros.get(); }
 
     /** The /lsslod diag line (rendered only while subscribers exist or counters moved —
      *  the conditional-slot convention). */
@@ -185,7 +196,10 @@ public final class FarPlayerBroadcastService {
                 + ", updates=" + updateFramesSent.get()
                 + ", entries=" + entriesSent.get()
                 + ", suppressed=" + suppressedUnchanged.get()
-                + ", bytes=" + bytesSent.get();
+                + ", bytes=" + bytesSent.get()
+                + ", grid_cells=" + lastTickCells.get()
+                + ", candidates=" + lastTickCandidates.get()
+                + ", tick_us=" + lastTickMicros.get();
     }
 
     // ---- the broadcast tick ----
@@ -203,26 +217,40 @@ public final class FarPlayerBroadcastService {
     public void tick(long nowMillis, List<PlayerSnapshot> online, Settings settings,
                      FrameSender sender) {
         if (viewers.isEmpty() || "off".equals(settings.mode())) return;
+        long startNanos = System.nanoTime();
         Map<UUID, PlayerSnapshot> byUuid = new HashMap<>(online.size());
         for (var s : online) {
             byUuid.put(s.uuid(), s);
         }
+        // The grid is built once per pass; each viewer then ranges over the cells its
+        // ring reaches instead of the whole online list.
+        grid.rebuild(online, settings.maxDistanceBlocks());
+        long candidates = 0;
         for (var entry : viewers.entrySet()) {
             var viewerUuid = entry.getKey();
             var state = entry.getValue();
             var viewerSnap = byUuid.get(viewerUuid);
             if (viewerSnap == null) continue; // not in this tick's world (join/quit edge)
             if (state.prefs == null || !state.prefs.enabled()) continue;
-            tickViewer(nowMillis, viewerUuid, state, viewerSnap, online, settings, sender);
+            candidates += tickViewer(nowMillis, viewerUuid, state, viewerSnap, online, settings, sender);
         }
+        lastTickCells.set(grid.cellCount());
+        lastTickCandidates.set(candidates);
+        lastTickMicros.set((System.nanoTime() - startNanos) / 1_000);
     }
 
-    private void tickViewer(long nowMillis, UUID viewerUuid, ViewerState state,
-                            PlayerSnapshot viewer, List<PlayerSnapshot> online,
-                            Settings settings, FrameSender sender) {
-        // Visible set under the filter ladder (SeeU's proven order + LSS privacy).
+    /** One viewer's pass; returns how many grid candidates its ring query produced. */
+    private int tickViewer(long nowMillis, UUID viewerUuid, ViewerState state,
+                           PlayerSnapshot viewer, List<PlayerSnapshot> online,
+                           Settings settings, FrameSender sender) {
+        // Visible set under the filter ladder (SeeU's proven order + LSS privacy), over
+        // the grid's candidates only — the ring can never reach past the cells queried.
+        int[] candidates = grid.query(viewer.dimension(), viewer.x(), viewer.z(),
+                ringMaxBlocks(state, settings));
+        int candidateCount = grid.lastQuerySize();
         var visible = new ArrayList<PlayerSnapshot>();
-        for (var target : online) {
+        for (int i = 0; i < candidateCount; i++) {
+            var target = online.get(candidates[i]);
             if (isVisible(viewerUuid, state, viewer, target, settings)) {
                 visible.add(target);
             }
@@ -231,12 +259,7 @@ public final class FarPlayerBroadcastService {
         // WHOLESALE, so the served set is capped nearest-first (the want-set idiom) —
         // beyond-cap players simply wait for churn, never break the session.
         if (visible.size() > FarPlayerWire.MAX_UPDATE_ENTRIES) {
-            visible.sort(java.util.Comparator.comparingDouble(t -> {
-                double dx = t.x() - viewer.x();
-                double dz = t.z() - viewer.z();
-                return dx * dx + dz * dz;
-            }));
-            visible.subList(FarPlayerWire.MAX_UPDATE_ENTRIES, visible.size()).clear();
+            visible = nearest(visible, viewer, FarPlayerWire.MAX_UPDATE_ENTRIES);
         }
 
         // Roster maintenance. A pending full roster (subscribe/prefs/dim change) sends
@@ -261,7 +284,7 @@ public final class FarPlayerBroadcastService {
                 state.epoch--; // the epoch the client never saw must not burn
                 state.indexByUuid.clear();
                 state.nextIndex = 0;
-                return;
+                return candidateCount;
             }
             state.fullRosterPending = false;
             state.lastFullRosterMillis = nowMillis;
@@ -301,7 +324,7 @@ public final class FarPlayerBroadcastService {
                         new FarPlayerWire.Roster(state.epoch, false,
                                 new ArrayList<>(addsThisFrame), removedIdx));
                 if (!sender.send(viewerUuid, LSSConstants.CHANNEL_FAR_PLAYER_ROSTER, frame)) {
-                    return; // withheld: nothing was mutated, next tick re-diffs
+                    return candidateCount; // withheld: nothing was mutated, next tick re-diffs
                 }
                 for (var a : addsThisFrame) {
                     state.indexByUuid.put(a.uuid(), a.index());
@@ -411,7 +434,7 @@ public final class FarPlayerBroadcastService {
                 rowRef.equipmentHash = equipHash;
             });
         }
-        if (entries.isEmpty() && !fullSent) return;
+        if (entries.isEmpty() && !fullSent) return candidateCount;
         // Chunk under the per-payload dictionary bound (review MAJOR: the first frame
         // after a full roster carries EVERY visible player's equipment — a populated
         // hub can exceed MAX_DICT_ENTRIES, and encode THROWS on the server tick).
@@ -441,7 +464,7 @@ public final class FarPlayerBroadcastService {
                     state.epoch, viewer.dimension(), settings.updateIntervalTicks(),
                     new ArrayList<>(entries.subList(from, to))));
             if (!sender.send(viewerUuid, LSSConstants.CHANNEL_FAR_PLAYER_UPDATES, frame)) {
-                return; // withheld: un-sent chunks' rows stay uncommitted, next tick re-sends
+                return candidateCount; // withheld: un-sent chunks' rows stay uncommitted, next tick re-sends
             }
             updateFramesSent.incrementAndGet();
             entriesSent.addAndGet(to - from);
@@ -451,6 +474,7 @@ public final class FarPlayerBroadcastService {
             }
             from = to;
         }
+        return candidateCount;
     }
 
     /** The filter ladder, in SeeU's proven order plus the LSS privacy additions. */
@@ -467,11 +491,8 @@ public final class FarPlayerBroadcastService {
         double dx = target.x() - viewer.x();
         double dz = target.z() - viewer.z();
         double distSq = dx * dx + dz * dz;
-        int max = settings.maxDistanceBlocks();
+        int max = ringMaxBlocks(state, settings);
         var prefs = state.prefs;
-        if (prefs != null && prefs.maxDistanceBlocks() > 0) {
-            max = Math.min(max, prefs.maxDistanceBlocks());
-        }
         int min = settings.minDistanceBlocks();
         if (prefs != null) {
             min = Math.max(min, prefs.minDistanceBlocks());
@@ -501,6 +522,75 @@ public final class FarPlayerBroadcastService {
         return true;
     }
 
+    /** The ring's outer edge: the viewer's prefs intersect the server cap. */
+    private static int ringMaxBlocks(ViewerState state, Settings settings) {
+        int max = settings.maxDistanceBlocks();
+        var prefs = state.prefs;
+        if (prefs != null && prefs.maxDistanceBlocks() > 0) {
+            max = Math.min(max, prefs.maxDistanceBlocks());
+        }
+        return max;
+    }
+
+    /**
+     * The {@code k} targets nearest the viewer, in their original (online-list) order —
+     * a selection of the k-th smallest distance, then one filtering pass, instead of a
+     * full sort of the visible set. Ties at the cut keep the earliest listed.
+     */
+    static ArrayList<PlayerSnapshot> nearest(List<PlayerSnapshot> visible, PlayerSnapshot viewer,
+                                             int k) {
+        int n = visible.size();
+        double[] dist = new double[n];
+        for (int i = 0; i < n; i++) {
+            var t = visible.get(i);
+            double dx = t.x() - viewer.x();
+            double dz = t.z() - viewer.z();
+            dist[i] = dx * dx + dz * dz;
+        }
+        double cut = kthSmallest(dist.clone(), k - 1);
+        int below = 0;
+        for (double d : dist) {
+            if (d < cut) below++;
+        }
+        int tiesAllowed = k - below;
+        var kept = new ArrayList<PlayerSnapshot>(k);
+        for (int i = 0; i < n; i++) {
+            if (dist[i] < cut || (dist[i] == cut && tiesAllowed-- > 0)) {
+                kept.add(visible.get(i));
+            }
+        }
+        return kept;
+    }
+
+    /** Hoare quickselect: the value of rank {@code rank} (0-based) in {@code a}; permutes
+     *  {@code a}. */
+    private static double kthSmallest(double[] a, int rank) {
+        int lo = 0, hi = a.length - 1;
+        while (lo < hi) {
+            double pivot = a[(lo + hi) >>> 1];
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (a[i] < pivot) i++;
+                while (a[j] > pivot) j--;
+                if (i <= j) {
+                    double tmp = a[i];
+                    a[i] = a[j];
+                    a[j] = tmp;
+                    i++;
+                    j--;
+                }
+            }
+            if (rank <= j) {
+                hi = j;
+            } else if (rank >= i) {
+                lo = i;
+            } else {
+                break;
+            }
+        }
+        return a[rank];
+    }
+
     private static boolean isExcluded(PlayerSnapshot target, List<String> exclude) {
         if (exclude == null || exclude.isEmpty()) return false;
         String uuid = target.uuid().toString();
@@ -0,0 +1,115 @@
+package dev.vox.lss.common.farplayers;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The broadcast tick's per-dimension coarse grid over the online snapshots. Built ONCE
+ * per broadcast pass (O(P)), then every viewer queries the cells its ring can reach
+ * instead of walking the whole online list — the O(viewers × players) scan becomes
+ * O(viewers × nearby players).
+ *
+ * <p>The cell edge is the tick's server distance cap (never below
+ * {@link #MIN_CELL_BLOCKS}), so a ring bounded by that cap reaches at most 3×3 cells
+ * whatever the cap is. The grid is only a candidate prefilter: the filter ladder still
+ * runs its exact distance test on every candidate.
+ *
+ * <p>Candidates come back as ordinals into the tick's online list, ASCENDING — the
+ * visible set keeps online-list order exactly as the full scan produced it (roster
+ * indices are handed out in that order).
+ *
+ * <p>THREADING: the broadcast service's single thread; one instance is reused across
+ * ticks so a steady roster allocates nothing but its cell buckets.
+ */
+final class FarPlayerSpatialIndex {
+
+    /** Floor on the cell edge: a tiny cap must not explode the cell count. */
+    static final int MIN_CELL_BLOCKS = 128;
+
+    /** One cell's members (ordinals into the online list), appended in list order. */
+    private static final class Bucket {
+        int[] ordinals = new int[4];
+        int size;
+
+        void add(int ordinal) {
+            if (this.size == this.ordinals.length) {
+                this.ordinals = Arrays.copyOf(this.ordinals, this.size * 2);
+            }
+            this.ordinals[this.size++] = ordinal;
+        }
+    }
+
+    private final Map<String, Map<Long, Bucket>> cellsByDimension = new HashMap<>();
+    private int cellBlocks = MIN_CELL_BLOCKS;
+    private int cellCount;
+    private int[] scratch = new int[64];
+    private int lastQuerySize;
+
+    /** Rebuild over {@code online} with cells of {@code maxDistanceBlocks} (floored). */
+    void rebuild(List<FarPlayerBroadcastService.PlayerSnapshot> online, int maxDistanceBlocks) {
+        this.cellsByDimension.clear();
+        this.cellBlocks = Math.max(maxDistanceBlocks, MIN_CELL_BLOCKS);
+        this.cellCount = 0;
+        for (int i = 0; i < online.size(); i++) {
+            var s = online.get(i);
+            var cells = this.cellsByDimension.computeIfAbsent(s.dimension(), d -> new HashMap<>());
+            long key = cellKey(cell(s.x()), cell(s.z()));
+            var bucket = cells.get(key);
+            if (bucket == null) {
+                bucket = new Bucket();
+                cells.put(key, bucket);
+                this.cellCount++;
+            }
+            bucket.add(i);
+        }
+    }
+
+    /** Occupied cells across every dimension after the last {@link #rebuild}. */
+    int cellCount() {
+        return this.cellCount;
+    }
+
+    /**
+     * Ordinals of every snapshot in {@code dimension} whose cell intersects the square of
+     * half-edge {@code radiusBlocks} around (x, z), ascending. The returned array is a
+     * reused scratch buffer — valid until the next query; only the first
+     * {@link #lastQuerySize()} slots are meaningful.
+     */
+    int[] query(String dimension, double x, double z, int radiusBlocks) {
+        this.lastQuerySize = 0;
+        var cells = this.cellsByDimension.get(dimension);
+        if (cells == null) return this.scratch;
+        int r = Math.max(radiusBlocks, 0);
+        int minX = cell(x - r), maxX = cell(x + r);
+        int minZ = cell(z - r), maxZ = cell(z + r);
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cz = minZ; cz <= maxZ; cz++) {
+                var bucket = cells.get(cellKey(cx, cz));
+                if (bucket == null) continue;
+                int need = this.lastQuerySize + bucket.size;
+                if (need > this.scratch.length) {
+                    this.scratch = Arrays.copyOf(this.scratch, Math.max(need, this.scratch.length * 2));
+                }
+                System.arraycopy(bucket.ordinals, 0, this.scratch, this.lastQuerySize, bucket.size);
+                this.lastQuerySize = need;
+            }
+        }
+        // Buckets are each ascending; one sort restores list order across cells.
+        Arrays.sort(this.scratch, 0, this.lastQuerySize);
+        return this.scratch;
+    }
+
+    int lastQuerySize() {
+        return this.lastQuerySize;
+    }
+
+    private int cell(double coord) {
+        return (int) Math.floor(coord / this.cellBlocks);
+    }
+
+    private static long cellKey(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+}
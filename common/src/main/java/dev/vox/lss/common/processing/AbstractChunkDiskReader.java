@@ -33,6 +33,82 @@ public abstract class AbstractChunkDiskReader {
 
     private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
     private static final int QUEUE_CAPACITY_PER_THREAD = 32;
+    /** Most submissions one coalesced store lookup resolves (see {@link StoreBatch}). */
+    static final int STORE_BATCH_MAX = 64;
+
+    /**
+     * One coalesced frame-rung store lookup. The processing thread appends each
+     * submission's position to its dimension's open batch; the FIRST member task to
+     * reach the store rung seals the batch and resolves every member with one
+     * {@code getFrameBatch} (a few ranged seeks per region instead of a statement per
+     * column), and later members read their slot instead of querying. Each member keeps
+     * its own pool task — headroom, the gate, and the one-result-per-submit envelope
+     * are per column — and books its own store hit/miss.
+     *
+     * <p>Batches grow with the backlog: an idle pool seals a batch after its first
+     * member (no latency is added to wait for more), while a backlogged warm join seals
+     * whatever the router queued behind the running tasks. Every member is a submitted
+     * read, so an early lookup still falls inside that read's in-flight window — the
+     * delivery-side stale guard covers it exactly as it covers a slow single lookup.
+     * A member the header rung answers leaves its slot unread. The raw rung does not
+     * batch: its hit cost is the decompress and hash, which a batch would serialize onto
+     * the sealing thread.
+     */
+    private static final class StoreBatch {
+        private final String dimension;
+        private final long[] positions = new long[STORE_BATCH_MAX];
+        private int size;
+        private boolean sealed;
+        // Held across the lookup by the sealing member; never by the processing thread,
+        // whose appends take only the batch's own monitor (tryAdd must not wait on SQL).
+        private final Object resolveLock = new Object();
+        private boolean resolving;
+        private dev.vox.lss.common.store.LodStoreService.FrameHit[] results;
+
+        StoreBatch(String dimension) {
+            this.dimension = dimension;
+        }
+
+        /** The member's slot, or -1 when sealed, full, or already holding the position. */
+        synchronized int tryAdd(long packed) {
+            if (this.sealed || this.size == this.positions.length) return -1;
+            for (int i = 0; i < this.size; i++) {
+                if (this.positions[i] == packed) return -1;
+            }
+            this.positions[this.size] = packed;
+            return this.size++;
+        }
+
+        private synchronized long[] seal() {
+            this.sealed = true;
+            return java.util.Arrays.copyOf(this.positions, this.size);
+        }
+
+        /** The member's frame lookup — resolving the whole batch on the first call. A
+         *  batch call that throws (contained by contract; belt) propagates to the sealing
+         *  member's rung, which books it as its own errored miss; the other members fall
+         *  back to single lookups. */
+        dev.vox.lss.common.store.LodStoreService.FrameHit frameHit(
+                dev.vox.lss.common.store.LodStoreService store, DiskReaderDiagnostics diag,
+                int slot) {
+            // A member's own slot was written before its task was submitted.
+            long packed = this.positions[slot];
+            dev.vox.lss.common.store.LodStoreService.FrameHit[] resolved;
+            synchronized (this.resolveLock) {
+                if (!this.resolving) {
+                    this.resolving = true;
+                    long[] members = seal();
+                    this.results = store.getFrameBatch(this.dimension, members);
+                    diag.recordStoreBatch(members.length);
+                }
+                resolved = this.results;
+            }
+            if (resolved == null || slot >= resolved.length) {
+                return store.getFrame(this.dimension, packed);
+            }
+            return resolved[slot];
+        }
+    }
 
     /** The header rung's serve-latency margin — the shared freshness-claim doctrine
      *  (see {@code RegionStampTable.FRESH_CLAIM_MARGIN_SECONDS}'s javadoc). */
@@ -86,6 +162,10 @@ public abstract class AbstractChunkDiskReader {
     private final AtomicInteger gateParkedCount = new AtomicInteger();
     private final int gateParkCapacity;
 
+    // Coalesced store lookups (frame rung only — see StoreBatch). Processing-thread
+    // only, like every submit: the dimension's batch still accepting members.
+    private final java.util.HashMap<String, StoreBatch> openStoreBatches = new java.util.HashMap<>();
+
     private final ExecutorService executor;
     private final ArrayBlockingQueue<Runnable> workQueue;
     private final int threadCount;
@@ -354,6 +434,20 @@ public abstract class AbstractChunkDiskReader {
                                      long submissionOrder, long clientTimestamp,
                                      ReadOperation operation) {
         if (isShutdown()) return;
+        StoreBatch storeBatch = null;
+        int storeSlot = -1;
+        if (this.serveStoreFrames && this.store != null) {
+            long packed = dev.vox.lss.common.PositionUtil.packPosition(chunkX, chunkZ);
+            storeBatch = this.openStoreBatches.get(dimension);
+            storeSlot = storeBatch == null ? -1 : storeBatch.tryAdd(packed);
+            if (storeSlot < 0) {
+                storeBatch = new StoreBatch(dimension);
+                storeSlot = storeBatch.tryAdd(packed);
+                this.openStoreBatches.put(dimension, storeBatch);
+            }
+        }
+        final StoreBatch batch = storeBatch;
+        final int slot = storeSlot;
 
         try {
             this.tasksInFlight.incrementAndGet();
@@ -361,7 +455,7 @@ public abstract class AbstractChunkDiskReader {
                 try {
                     if (!isShutdown()) {
                         readAndDeliver(playerUuid, chunkX, chunkZ, dimension, submissionOrder,
-                                clientTimestamp, operation);
+                                clientTimestamp, operation, batch, slot);
                     }
                 } catch (Throwable t) {
                     // Last-resort containment (Phase 1 review MAJOR-1): every expected
@@ -434,7 +528,7 @@ public abstract class AbstractChunkDiskReader {
      * contract (a store failure reads as a miss and counts {@code store.errors}).
      */
     private boolean storeServedHit(UUID playerUuid, int chunkX, int chunkZ, String dimension,
-                                    long submissionOrder) {
+                                    long submissionOrder, StoreBatch batch, int slot) {
         var s = this.store;
         if (s == null) return false;
         long packed = dev.vox.lss.common.PositionUtil.packPosition(chunkX, chunkZ);
@@ -446,7 +540,8 @@ public abstract class AbstractChunkDiskReader {
             // never to a second get() of the same row).
             dev.vox.lss.common.store.LodStoreService.FrameHit hit;
             try {
-                hit = s.getFrame(dimension, packed);
+                hit = batch != null ? batch.frameHit(s, this.diag, slot)
+                        : s.getFrame(dimension, packed);
             } catch (Throwable t) {
                 s.diagnostics().recordError();
                 hit = null;
@@ -475,6 +570,17 @@ public abstract class AbstractChunkDiskReader {
                         false, false, false, true, submissionOrder, 0L));
                 return true;
             }
+            if (hit.wirefmt() == dev.vox.lss.common.store.LodStoreService.WIREFMT_V20_SECTIONS) {
+                // Section-dedup row: the store reassembled the RAW v20 body (it keeps no
+                // frame). Delivered as raw bytes; the delivery compresses per recipient
+                // capability, as for the translated 19 rows below.
+                s.diagnostics().recordHit(System.nanoTime() - t0);
+                addResult(playerUuid, new ChunkReadResult(playerUuid, chunkX, chunkZ, hit.frame(),
+                        dimension, hit.usize() + LSSConstants.ESTIMATED_COLUMN_OVERHEAD_BYTES,
+                        hit.columnTimestamp(),
+                        false, false, false, true, submissionOrder, 0L));
+                return true;
+            }
             if (hit.wirefmt() == dev.vox.lss.common.store.LodStoreService.WIREFMT_NATIVE_19) {
                 // Pre-migration native-layout row (C4, XVER §5.3): decompress (fhash
                 // already validated in the store) and translate to the canonical v20
@@ -595,7 +701,7 @@ public abstract class AbstractChunkDiskReader {
 
     private void readAndDeliver(UUID playerUuid, int chunkX, int chunkZ, String dimension,
                                  long submissionOrder, long clientTimestamp,
-                                 ReadOperation operation) {
+                                 ReadOperation operation, StoreBatch batch, int slot) {
         if (isShutdown()) return;
         // Header freshness rung (region-summary-sync-plan.md P1) — FIRST: cheaper than
         // the store rung once memoized (pure memory vs a b-tree row fetch) and it makes
@@ -635,7 +741,9 @@ public abstract class AbstractChunkDiskReader {
                 }
             }
         }
-        if (storeServedHit(playerUuid, chunkX, chunkZ, dimension, submissionOrder)) return;
+        if (storeServedHit(playerUuid, chunkX, chunkZ, dimension, submissionOrder, batch, slot)) {
+            return;
+        }
 
         // The disk-read concurrency gate (disk-read-concurrency-gate-plan.md): the
         // expensive NBT phase starts here, so the permit check sits AFTER the store rung
@@ -868,6 +976,14 @@ public abstract class AbstractChunkDiskReader {
         // so existing diagnostics goldens do not move; when engaged it makes the fallback observable
         // (the only end-to-end signal — no automated test can reach the C2ME path). limit/max shows
         // how far AIMD has backed LSS off under shared-IO load.
+        // Rendered only once a coalesced store lookup has run (frame serving with a store),
+        // so store-less and raw-rung lines are unchanged: mean members per lookup.
+        long batches = this.diag.getStoreBatchesCount();
+        if (batches > 0) {
+            base += String.format(", store_batch=%.1f",
+                    this.diag.getStoreBatchMembersCount() / (double) batches);
+        }
+        base += this.diag.bulkToken();
         var t = this.throttle;
         if (t == null) return base;
         return base + ", read_throttle=ENGAGED(" + t.currentLimit() + "/" + t.maxLimit() + ")";
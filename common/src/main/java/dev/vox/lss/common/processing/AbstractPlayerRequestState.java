@@ -10,6 +10,7 @@ import dev.vox.lss.common.PositionUtil;
 import dev.vox.lss.common.SharedBandwidthLimiter;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.PriorityQueue;
@@ -36,6 +37,10 @@ public abstract class AbstractPlayerRequestState<T> {
     private volatile boolean hasHandshake = false;
     private volatile int capabilities = 0;
     private volatile boolean wantsCompressedColumns;
+    private volatile boolean servesLodTiers;
+    private volatile boolean wantsSectionDeltas;
+    private volatile boolean wantsDictionaryColumns;
+    private volatile boolean wantsPackedColumns;
     // The dimension this state was REGISTERED under — invariant for the state's lifetime
     // (a dimension change replaces the state via removePlayer+registerPlayer). The router
     // uses it to reject a stale snapshot's dimension: a multi-tick processing cycle can
@@ -49,6 +54,9 @@ public abstract class AbstractPlayerRequestState<T> {
 
     // Owned by processing thread (single-threaded access)
     private final Long2ObjectOpenHashMap<PendingRequest> pendingByPosition = new Long2ObjectOpenHashMap<>();
+    // Columns held back this cycle for a packed-columns payload (wantsPackedColumns); the
+    // processor publishes them at cycle end. Counted in enqueuedColumns from staging on.
+    private ArrayList<ColumnPacker.Staged> stagedPackColumns = new ArrayList<>();
     // Owned by main thread (drained from readyPayloads, flushed to the wire)
     private final PriorityQueue<QueuedPayload<T>> sendQueue = new PriorityQueue<>();
     private final LongOpenHashSet diskReadDone = new LongOpenHashSet();
@@ -182,6 +190,12 @@ public abstract class AbstractPlayerRequestState<T> {
     // on a cycle where no new batch arrived (batches land at 1Hz; the pass runs at 20Hz).
     private IncomingBatch appliedWantSet;
 
+    // The positions of that same applied want-set, for the tick thread's generation admission
+    // queue: a queued ticket whose position the latest declaration no longer names (the player
+    // moved on) is released there instead of holding its gen slot until the timeout. Built on
+    // apply and never mutated after publication; null until the first batch is applied.
+    private volatile LongOpenHashSet declaredPositions;
+
     // Admission slots: held counts are derived from the pending map (single-writer:
     // processing thread; volatile for /lsslod command reads). The sync cap stays
     // immutable; genSlotCap is VOLATILE since v0.11.0 stage C (/lsslod set): the tick
@@ -251,6 +265,63 @@ public abstract class AbstractPlayerRequestState<T> {
         this.wantsCompressedColumns = wants;
     }
 
+    /**
+     * True when a tier ask ({@code clientTimestamp < -1}, see
+     * {@link LSSConstants#requestedLodTier}) from this session is answered with a
+     * downsampled column. Derived ONCE at registration like
+     * {@link #wantsCompressedColumns}: {@code enableLodTiers} AND the session is the
+     * CURRENT dialect (a legacy frame has no tier byte, and a legacy client never asks).
+     * False = every ask serves full resolution, exactly as before tiers existed.
+     */
+    public boolean servesLodTiers() {
+        return this.servesLodTiers;
+    }
+
+    public void setServesLodTiers(boolean serves) {
+        this.servesLodTiers = serves;
+    }
+
+    /**
+     * Section-delta re-serves: set at registration when the server enables them AND the
+     * session declared {@link LSSConstants#CAPABILITY_SECTION_DELTAS} on the CURRENT
+     * dialect. False = every resync ships the whole column, exactly as before.
+     */
+    public boolean wantsSectionDeltas() {
+        return this.wantsSectionDeltas;
+    }
+
+    public void setWantsSectionDeltas(boolean wants) {
+        this.wantsSectionDeltas = wants;
+    }
+
+    /**
+     * Dictionary frames (codec 2): set at registration when {@link #wantsCompressedColumns}
+     * holds, the server's dictionary codec is live, and the session declared
+     * {@link LSSConstants#CAPABILITY_ZSTD_DICTIONARY} at the server's dictionary version
+     * on the CURRENT dialect. False = codec-1 frames, exactly as before.
+     */
+    public boolean wantsDictionaryColumns() {
+        return this.wantsDictionaryColumns;
+    }
+
+    public void setWantsDictionaryColumns(boolean wants) {
+        this.wantsDictionaryColumns = wants;
+    }
+
+    /**
+     * Packed columns: set at registration when {@link #wantsCompressedColumns} holds, the
+     * server enables {@code packColumns}, and the session declared
+     * {@link LSSConstants#CAPABILITY_PACKED_COLUMNS} on the CURRENT dialect. False = one
+     * frame per column, exactly as before.
+     */
+    public boolean wantsPackedColumns() {
+        return this.wantsPackedColumns;
+    }
+
+    public void setWantsPackedColumns(boolean wants) {
+        this.wantsPackedColumns = wants;
+    }
+
     public void markHandshakeComplete() {
         this.hasHandshake = true;
     }
@@ -363,9 +434,19 @@ public abstract class AbstractPlayerRequestState<T> {
         this.backlogSizeSnapshot = this.backlog.size();
         this.appliedWantSet = batch.size() == 0 ? null : batch;
         publishWantSet(this.appliedWantSet);
+        var declared = new LongOpenHashSet(batch.size());
+        for (var req : batch.requests()) declared.add(PositionUtil.packPosition(req.cx(), req.cz()));
+        this.declaredPositions = declared;
         return dropped;
     }
 
+    /** Whether the latest applied declaration still names {@code (cx, cz)} — true before
+     *  the first one is applied. Any thread: the generation queue's want check. */
+    public boolean stillDeclares(int cx, int cz) {
+        var declared = this.declaredPositions;
+        return declared == null || declared.contains(PositionUtil.packPosition(cx, cz));
+    }
+
     /** The player's ACTUAL chunk, stamped by the platform's main/pump thread each lifecycle
      *  tick — the ring origin for the order-spread gate and the inversion evidence counter.
      *  One packed volatile long so the processing thread never sees a torn x/z pair. */
@@ -658,6 +739,12 @@ public abstract class AbstractPlayerRequestState<T> {
     @FunctionalInterface
     public interface PayloadSender<T> {
         void send(T payload) throws Exception;
+
+        /** Puts a packed-columns payload on the wire — a different channel on Paper,
+         *  where both payload kinds are bare byte[] bodies. */
+        default void sendPack(T payload) throws Exception {
+            send(payload);
+        }
     }
 
     private static final long[] NO_DROPPED_POSITIONS = new long[0];
@@ -859,21 +946,26 @@ public abstract class AbstractPlayerRequestState<T> {
 
             var queued = this.sendQueue.peek();
             try {
-                sender.send(queued.payload());
+                if (queued.packMembers() != null) {
+                    sender.sendPack(queued.payload());
+                } else {
+                    sender.send(queued.payload());
+                }
                 this.sendQueue.poll();
                 // Stamp BEFORE the decrement: the router checks the enqueued rung first,
                 // so a stamp while still enqueued is inert — but decrement-then-stamp
                 // would leave a nanosecond window (enqueued gone, stamp not yet visible)
                 // where a crossing re-ask slips past both rungs to a redundant re-serve.
-                stampDeparted(queued.packedPos());
-                // Sibling, not nested: stampDeparted no-ops when the grace is disabled,
-                // and probe suppression must not vanish with it (review P1).
-                stampProbeSuppress(queued.packedPos());
-                decrementEnqueued(queued.packedPos());
-                this.bandwidth.recordSend(queued.estimatedBytes());
+                // A pack departs every member at once.
+                if (queued.packMembers() == null) {
+                    departed(queued.packedPos());
+                } else {
+                    for (long member : queued.packMembers()) departed(member);
+                }
+                this.bandwidth.recordSend(queued.estimatedBytes(), queued.columnCount());
                 globalLimiter.recordSend(queued.estimatedBytes());
                 paceWritten += queued.estimatedBytes();
-                diag.recordSectionSent(queued.estimatedBytes());
+                diag.recordSectionsSent(queued.columnCount(), queued.estimatedBytes());
                 // Shipped size (frame for codec-1 payloads) — the wire_bytes gauge that
                 // makes /lsslod diag match observed bandwidth (design §5: the limiter
                 // keeps charging raw; this counter is the observability half).
@@ -910,8 +1002,15 @@ public abstract class AbstractPlayerRequestState<T> {
                 var droppedList = new LongArrayList(dropped.length + this.sendQueue.size());
                 droppedList.addElements(0, dropped);
                 for (var entry : this.sendQueue) {
-                    droppedList.add(entry.packedPos());
-                    decrementEnqueued(entry.packedPos());
+                    if (entry.packMembers() == null) {
+                        droppedList.add(entry.packedPos());
+                        decrementEnqueued(entry.packedPos());
+                        continue;
+                    }
+                    for (long member : entry.packMembers()) {
+                        droppedList.add(member);
+                        decrementEnqueued(member);
+                    }
                 }
                 this.sendQueue.clear();
                 dropped = droppedList.toLongArray();
@@ -949,18 +1048,39 @@ public abstract class AbstractPlayerRequestState<T> {
         var it = this.sendQueue.iterator();
         while (it.hasNext()) {
             var entry = it.next();
-            long packed = entry.packedPos();
-            if (PositionUtil.chebyshevDistance(PositionUtil.unpackX(packed),
-                    PositionUtil.unpackZ(packed), pcx, pcz) <= radiusChunks) continue;
-            if (isWithinDepartureGrace(packed)) continue;
+            // A pack goes only when every member would: one in-range member keeps the
+            // frame, whose neighbours are then a tile's width from the radius at most.
+            long[] members = entry.packMembers() != null
+                    ? entry.packMembers() : new long[]{entry.packedPos()};
+            boolean keep = false;
+            for (long packed : members) {
+                if (PositionUtil.chebyshevDistance(PositionUtil.unpackX(packed),
+                        PositionUtil.unpackZ(packed), pcx, pcz) <= radiusChunks
+                        || isWithinDepartureGrace(packed)) {
+                    keep = true;
+                    break;
+                }
+            }
+            if (keep) continue;
             it.remove();
-            decrementEnqueued(packed);
             if (pruned == null) pruned = new LongArrayList();
-            pruned.add(packed);
+            for (long packed : members) {
+                decrementEnqueued(packed);
+                pruned.add(packed);
+            }
         }
         return pruned == null ? NO_DROPPED_POSITIONS : pruned.toLongArray();
     }
 
+    /** Send-success bookkeeping for one column position (see the flush loop). */
+    private void departed(long packed) {
+        stampDeparted(packed);
+        // Sibling, not nested: stampDeparted no-ops when the grace is disabled,
+        // and probe suppression must not vanish with it (review P1).
+        stampProbeSuppress(packed);
+        decrementEnqueued(packed);
+    }
+
     /** Test seam: position the prune cadence counter (the interval is 1200 flushes —
      *  driving it for real would floor-send the queue empty long before the prune). */
     void setFlushTickCounterForTest(int value) {
@@ -1144,6 +1264,11 @@ public abstract class AbstractPlayerRequestState<T> {
         return pending;
     }
 
+    /** The pending entry at this position without resolving it (null when none). */
+    public PendingRequest peekPendingByPosition(int cx, int cz) {
+        return this.pendingByPosition.get(PositionUtil.packPosition(cx, cz));
+    }
+
     public boolean hasPendingRequest(int cx, int cz) {
         return this.pendingByPosition.containsKey(PositionUtil.packPosition(cx, cz));
     }
@@ -1232,6 +1357,33 @@ public abstract class AbstractPlayerRequestState<T> {
         this.readyPayloads.add(payload);
     }
 
+    /** Hand a packed-columns payload to the flush. Its members were counted enqueued
+     *  when they were staged ({@link #stagePackColumn}), so nothing is counted here. */
+    public void addReadyPack(QueuedPayload<T> pack) {
+        this.readyPayloads.add(pack);
+    }
+
+    /** Hold one column back for this cycle's packs (processing thread). It counts as
+     *  enqueued from here on, exactly as if its own payload had been queued. */
+    public void stagePackColumn(ColumnPacker.Staged column) {
+        this.enqueuedColumns.merge(column.packedPos(), 1, Integer::sum);
+        this.stagedPackColumns.add(column);
+    }
+
+    /** Take every column staged since the last take (processing thread); empty when none. */
+    public List<ColumnPacker.Staged> takeStagedPackColumns() {
+        if (this.stagedPackColumns.isEmpty()) return List.of();
+        var taken = this.stagedPackColumns;
+        this.stagedPackColumns = new ArrayList<>();
+        return taken;
+    }
+
+    /** Release a taken column's enqueued count — it is re-queued as a single payload or
+     *  not at all (processing thread). */
+    public void releaseStagedPackColumn(long packed) {
+        decrementEnqueued(packed);
+    }
+
     // ---- Getters ----
 
     public UUID getPlayerUUID() { return this.playerUuid; }
@@ -2,6 +2,7 @@ package dev.vox.lss.common.processing;
 
 import dev.vox.lss.common.LSSConstants;
 import dev.vox.lss.common.store.StoreCodec;
+import dev.vox.lss.common.wire.SectionDelta;
 
 /**
  * One served column's section bytes in raw and/or zstd-frame form, converting lazily and
@@ -12,7 +13,9 @@ import dev.vox.lss.common.store.StoreCodec;
  * raw-needing recipient of a store frame), never one per recipient.
  *
  * <p><b>Thread-confined by contract</b>: all access happens on the processing thread
- * within one delivery drain — no synchronization, plain fields.
+ * within one delivery drain — no synchronization, plain fields. The one hand-off is the
+ * drain's prepare pass ({@code ColumnPrepareShards}): one worker warms one holder and the
+ * processing thread waits for it before delivering, so ownership moves and never shares.
  *
  * <p>{@link #frame()} returns null (⇒ codec 0) when compression is not worth shipping:
  * no codec attached (server natives unavailable / useCompressedColumns off), raw below
@@ -21,26 +24,62 @@ import dev.vox.lss.common.store.StoreCodec;
  * varint without a decompress), or a frame that did not shrink the input (zstd worst
  * case is raw + raw/255 + header, so "frame smaller" is not a given for incompressible
  * input; shipping raw is then strictly better bytes AND spares the client a decompress).
+ *
+ * <p>{@link #dictFrame} is the third form — the same rules against the shared
+ * {@code ColumnDictionary} (codec 2), memoized alongside. A dictionary store's hits
+ * enter as {@link #ofDictFrame}: dictionary sessions ship them verbatim, everyone else
+ * pays the one lazy decompress (and codec-1 sessions one recompress).
  */
 public final class ColumnBytes {
 
     private final StoreCodec codec; // null => frame() always null (raw-only)
     private byte[] raw;
     private byte[] frame;
+    /** The dictionary codec the dictFrame form belongs to (set by ofDictFrame or the
+     *  first dictFrame call), and that form — both null until then. */
+    private StoreCodec dictCodec;
+    private byte[] dictFrame;
+    private boolean dictFrameRefused;
     private final int rawSize;
+    /** The LOD tier these bytes are (0 = full resolution; see {@link #tierBuild}). */
+    private final int tier;
+    /** For a section-delta holder: the column timestamp the recipient must hold, and the
+     *  keep map (see {@link #ofDelta}); 0/null for every full-column holder. */
+    private final long deltaBase;
+    private final SectionDelta.Keep keep;
     /** frame() computed and answered "not worth it" — memoize the refusal, not just the frame. */
     private boolean frameRefused;
 
-    private ColumnBytes(StoreCodec codec, byte[] raw, byte[] frame, int rawSize) {
+    private ColumnBytes(StoreCodec codec, byte[] raw, byte[] frame, int rawSize, int tier) {
+        this(codec, raw, frame, rawSize, tier, 0L, null);
+    }
+
+    private ColumnBytes(StoreCodec codec, byte[] raw, byte[] frame, int rawSize, int tier,
+                        long deltaBase, SectionDelta.Keep keep) {
         this.codec = codec;
         this.raw = raw;
         this.frame = frame;
         this.rawSize = rawSize;
+        this.tier = tier;
+        this.deltaBase = deltaBase;
+        this.keep = keep;
     }
 
     /** Raw section bytes in hand (live/disk/generation serves, clears). */
     public static ColumnBytes ofRaw(StoreCodec codec, byte[] raw) {
-        return new ColumnBytes(codec, raw, null, raw.length);
+        return new ColumnBytes(codec, raw, null, raw.length, 0);
+    }
+
+    /** Downsampled section bytes for LOD {@code tier} (the {@link #tierBuild} compute). */
+    public static ColumnBytes ofTier(StoreCodec codec, byte[] raw, int tier) {
+        return new ColumnBytes(codec, raw, null, raw.length, tier);
+    }
+
+    /** A section-delta body (the {@link #deltaBuild} compute): only the changed sections,
+     *  applied over the recipient's copy stamped {@code deltaBase} per {@code keep}. */
+    public static ColumnBytes ofDelta(StoreCodec codec, byte[] raw, long deltaBase,
+                                      SectionDelta.Keep keep) {
+        return new ColumnBytes(codec, raw, null, raw.length, 0, deltaBase, keep);
     }
 
     /**
@@ -49,7 +88,17 @@ public final class ColumnBytes {
      * only fetched while compression is live — the reader rung's gate).
      */
     public static ColumnBytes ofFrame(StoreCodec codec, byte[] frame, int rawSize) {
-        return new ColumnBytes(codec, null, frame, rawSize);
+        return new ColumnBytes(codec, null, frame, rawSize, 0);
+    }
+
+    /** Stored dictionary frame in hand (hits on a {@link StoreCodec#usesDictionary()}
+     *  store): the {@link #ofFrame} contract, framed by {@code dictCodec}. */
+    public static ColumnBytes ofDictFrame(StoreCodec codec, StoreCodec dictCodec,
+                                          byte[] dictFrame, int rawSize) {
+        var bytes = new ColumnBytes(codec, null, null, rawSize, 0);
+        bytes.dictCodec = dictCodec;
+        bytes.dictFrame = dictFrame;
+        return bytes;
     }
 
     /** The raw (uncompressed) section byte length, known without materializing either form. */
@@ -66,7 +115,8 @@ public final class ColumnBytes {
      */
     public byte[] raw() {
         if (this.raw == null) {
-            byte[] out = this.codec.decompress(this.frame, this.rawSize);
+            byte[] out = this.frame != null ? this.codec.decompress(this.frame, this.rawSize)
+                    : this.dictCodec.decompress(this.dictFrame, this.rawSize);
             if (out.length != this.rawSize) {
                 throw new IllegalStateException("column frame decompressed to " + out.length
                         + " bytes, expected " + this.rawSize);
@@ -96,7 +146,7 @@ public final class ColumnBytes {
                 || this.rawSize < LSSConstants.COLUMN_COMPRESS_MIN_BYTES) {
             return null;
         }
-        byte[] f = this.codec.compress(this.raw);
+        byte[] f = this.codec.compress(raw());
         if (f.length >= this.rawSize) {
             this.frameRefused = true;
             return null;
@@ -105,6 +155,30 @@ public final class ColumnBytes {
         return f;
     }
 
+    /**
+     * The dictionary frame to ship (codec 2), or null when this column does not ship one
+     * — the {@link #frame()} refusals, with {@code dictCodec} standing in for the
+     * attached codec (null = the dictionary is off). A dictionary-store frame enters
+     * pre-built and is held to the same must-shrink rule. Memoized like frame().
+     */
+    public byte[] dictFrame(StoreCodec dictCodec) {
+        if (this.dictFrame != null) {
+            return this.dictFrame.length >= this.rawSize ? null : this.dictFrame;
+        }
+        if (this.dictFrameRefused || dictCodec == null
+                || this.rawSize < LSSConstants.COLUMN_COMPRESS_MIN_BYTES) {
+            return null;
+        }
+        byte[] f = dictCodec.compress(raw());
+        if (f.length >= this.rawSize) {
+            this.dictFrameRefused = true;
+            return null;
+        }
+        this.dictCodec = dictCodec;
+        this.dictFrame = f;
+        return f;
+    }
+
     // The C2 legacy-egress build memo (XVER §4.2, review MAJOR-2): the translated build
     // depends only on (this column's raw bytes × wants-compressed) — the registry is
     // server-global — so at most TWO distinct builds exist per column. Memoized here,
@@ -132,6 +206,71 @@ public final class ColumnBytes {
         return this.legacyRawBuild;
     }
 
+    /** The LOD tier of these bytes — 0 for every full-resolution holder. */
+    public int tier() {
+        return this.tier;
+    }
+
+    // The LOD-tier build memo — the legacyBuild pattern: a downsample depends only on
+    // (this column's raw bytes × tier), so a dedup group whose recipients ask the same
+    // tier costs ONE downsample (+ at most one compress, memoized on the returned
+    // holder), never one per recipient. Lazily allocated: most columns never tier.
+    private ColumnBytes[] tierBuilds;
+
+    /** The memoized tier-{@code tier} holder for this column ({@code tier >= 1}).
+     *  {@code compute} runs at most once per tier; its throw propagates uncached. */
+    public ColumnBytes tierBuild(int tier, java.util.function.Supplier<ColumnBytes> compute) {
+        if (this.tierBuilds == null) {
+            this.tierBuilds = new ColumnBytes[LSSConstants.LOD_TIER_MAX + 1];
+        }
+        ColumnBytes built = this.tierBuilds[tier];
+        if (built == null) {
+            built = compute.get();
+            this.tierBuilds[tier] = built;
+        }
+        return built;
+    }
+
+    /** The column timestamp a delta holder applies over — 0 for every full-column holder. */
+    public long deltaBase() {
+        return this.deltaBase;
+    }
+
+    /** The delta holder's keep map — null for every full-column holder. */
+    public SectionDelta.Keep keep() {
+        return this.keep;
+    }
+
+    // Section digests + the delta-build memo (same pattern again): the digest depends only
+    // on this column's raw bytes, and a delta only on (raw × the recipient's base stamp) —
+    // a dedup group re-asking after one edit shares one base, so ONE slot memoizes it,
+    // including the "no delta, ship full" refusal.
+    private SectionDelta.Digest digest;
+    private long deltaBuildBase;
+    private ColumnBytes deltaBuilt;
+    private boolean deltaBuildDone;
+
+    /** This column's section digests, computed on first need and memoized. Throws on a
+     *  malformed body — the caller's containment serves full. */
+    public SectionDelta.Digest digest() {
+        if (this.digest == null) {
+            this.digest = SectionDelta.digest(raw());
+        }
+        return this.digest;
+    }
+
+    /** The memoized delta holder over {@code baseTimestamp}, or null when
+     *  {@code compute} answered "serve full". A different base recomputes. */
+    public ColumnBytes deltaBuild(long baseTimestamp,
+                                  java.util.function.Supplier<ColumnBytes> compute) {
+        if (!this.deltaBuildDone || this.deltaBuildBase != baseTimestamp) {
+            this.deltaBuilt = compute.get();
+            this.deltaBuildBase = baseTimestamp;
+            this.deltaBuildDone = true;
+        }
+        return this.deltaBuilt;
+    }
+
     /** True when {@link #raw()} is already materialized (no decompress would run).
      *  Observability for the compress/decompress-once pins. */
     public boolean rawMaterialized() {
@@ -142,4 +281,9 @@ public final class ColumnBytes {
     public boolean frameMaterialized() {
         return this.frame != null;
     }
+
+    /** True when a dictionary frame is already materialized (no compress would run). */
+    public boolean dictFrameMaterialized() {
+        return this.dictFrame != null;
+    }
 }
@@ -0,0 +1,47 @@
+package dev.vox.lss.common.processing;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Transport cost of zstd column frames at the connection compressor — the
+ * {@code bypassConnectionCompression} A/B measurement. Each platform's framing handler
+ * times every compressed column frame from the moment it leaves the packet encoder to
+ * the moment the frame is handed on toward the socket: on the vanilla path that span
+ * is the connection's deflate of an already-zstd body, on the bypass path a one-byte
+ * header and a copy. {@link #nanosPerMiB} is the exporter's CPU-per-MB figure; compare
+ * it across a run with the key on and one with it off.
+ *
+ * <p>Multi-thread producers (every connection's netty event loop) — all adders. The
+ * instance exists unconditionally on the processor, so the exporter schema is the same
+ * whether or not any session ever negotiated the bypass.
+ */
+public final class ColumnFramingDiagnostics {
+
+    private static final long BYTES_PER_MIB = 1L << 20;
+
+    private final LongAdder frames = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+    private final LongAdder bypassed = new LongAdder();
+
+    /** One compressed column frame handed on toward the socket: its encoded size, the
+     *  time the framing step took, and whether it skipped the connection compressor. */
+    public void recordFrame(int frameBytes, long elapsedNanos, boolean bypassedCompressor) {
+        this.frames.increment();
+        this.bytes.add(frameBytes);
+        this.nanos.add(Math.max(0, elapsedNanos));
+        if (bypassedCompressor) this.bypassed.increment();
+    }
+
+    public long getFrames() { return this.frames.sum(); }
+    public long getBytes() { return this.bytes.sum(); }
+    public long getNanos() { return this.nanos.sum(); }
+    public long getBypassed() { return this.bypassed.sum(); }
+
+    /** Framing nanoseconds per MiB of column frames over the run so far; 0 before the
+     *  first frame. */
+    public long nanosPerMiB() {
+        long b = this.bytes.sum();
+        return b == 0 ? 0 : (long) ((double) this.nanos.sum() * BYTES_PER_MIB / b);
+    }
+}
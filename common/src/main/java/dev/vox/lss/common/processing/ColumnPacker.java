@@ -0,0 +1,115 @@
+package dev.vox.lss.common.processing;
+
+import dev.vox.lss.common.LSSConstants;
+import dev.vox.lss.common.PositionUtil;
+import dev.vox.lss.common.store.StoreCodec;
+import dev.vox.lss.common.wire.ColumnPackWire;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Packed columns ({@link LSSConstants#CAPABILITY_PACKED_COLUMNS}): groups the columns one
+ * processing cycle staged for a session into 4x4-chunk tiles and compresses each tile as
+ * ONE zstd frame over the members' concatenated raw bodies ({@link ColumnPackWire}). The
+ * v20 body already carries its identity strings inline, so one frame across a tile is the
+ * shared dictionary: the first column's strings and terrain patterns are back-references
+ * for every neighbour after it, where per-column frames pay them once each.
+ *
+ * <p>Pure and thread-confined like {@link ColumnBytes}: the processor calls it on the
+ * processing thread at cycle end and hands each built body to the platform carrier.
+ */
+public final class ColumnPacker {
+
+    /** Chunks per tile edge, as a shift (4 chunks). */
+    static final int TILE_SHIFT = 2;
+
+    /** One column held back for packing — everything its single-column build would need,
+     *  should its tile not pack after all. */
+    public record Staged(int chunkX, int chunkZ, String dimension, long timestamp,
+                         long submissionOrder, ColumnBytes bytes, int estimatedBytes,
+                         byte source) {
+        public long packedPos() {
+            return PositionUtil.packPosition(this.chunkX, this.chunkZ);
+        }
+    }
+
+    /** A built pack: the wire body, the members' summed RAW estimate (the limiter's
+     *  charge — unchanged by packing), the shipped estimate, the earliest member's
+     *  submission order, and the member positions. */
+    public record Built(byte[] body, int estimatedBytes, int wireBytes, long submissionOrder,
+                        long[] members) {}
+
+    private ColumnPacker() {}
+
+    /**
+     * Split staged columns into candidate packs: by dimension and 4x4 tile, tiles in
+     * first-seen order and members in staging order, a tile closing early at
+     * {@link LSSConstants#COLUMN_PACK_MAX_COLUMNS} members or
+     * {@link LSSConstants#COLUMN_PACK_MAX_RAW_BYTES} raw bytes. A one-column group is
+     * the caller's to ship alone.
+     */
+    public static List<List<Staged>> group(List<Staged> staged) {
+        var tiles = new LinkedHashMap<TileKey, List<Staged>>();
+        for (var column : staged) {
+            tiles.computeIfAbsent(new TileKey(column.dimension(),
+                    column.chunkX() >> TILE_SHIFT, column.chunkZ() >> TILE_SHIFT),
+                    k -> new ArrayList<>()).add(column);
+        }
+        var groups = new ArrayList<List<Staged>>();
+        for (var tile : tiles.values()) {
+            var current = new ArrayList<Staged>();
+            long rawBytes = 0;
+            for (var column : tile) {
+                int raw = column.bytes().rawSize();
+                if (!current.isEmpty() && (current.size() >= LSSConstants.COLUMN_PACK_MAX_COLUMNS
+                        || rawBytes + raw > LSSConstants.COLUMN_PACK_MAX_RAW_BYTES)) {
+                    groups.add(current);
+                    current = new ArrayList<>();
+                    rawBytes = 0;
+                }
+                current.add(column);
+                rawBytes += raw;
+            }
+            groups.add(current);
+        }
+        return groups;
+    }
+
+    /**
+     * Build one pack over {@code group} (two or more columns of one dimension) with
+     * {@code codec}, tagged {@code codecTag} (1, or 2 for the dictionary codec). Null when
+     * the frame does not shrink the members' raw total — {@link ColumnBytes#frame()}'s
+     * rule — leaving the members to ship alone.
+     */
+    public static Built build(List<Staged> group, StoreCodec codec, byte codecTag) {
+        int total = 0;
+        for (var column : group) total += column.bytes().rawSize();
+        byte[] raw = new byte[total];
+        var members = new ColumnPackWire.Member[group.size()];
+        long[] positions = new long[group.size()];
+        int offset = 0;
+        int estimated = 0;
+        long submissionOrder = Long.MAX_VALUE;
+        for (int i = 0; i < group.size(); i++) {
+            var column = group.get(i);
+            byte[] body = column.bytes().raw();
+            System.arraycopy(body, 0, raw, offset, body.length);
+            offset += body.length;
+            members[i] = new ColumnPackWire.Member(column.chunkX(), column.chunkZ(),
+                    column.timestamp(), column.source(), body.length);
+            positions[i] = column.packedPos();
+            estimated += column.estimatedBytes();
+            submissionOrder = Math.min(submissionOrder, column.submissionOrder());
+        }
+        byte[] frame = codec.compress(raw);
+        if (frame.length >= total) return null;
+        byte[] body = ColumnPackWire.encode(group.get(0).dimension(), codecTag, members, frame);
+        return new Built(body, estimated,
+                body.length + LSSConstants.ESTIMATED_COLUMN_OVERHEAD_BYTES,
+                submissionOrder, positions);
+    }
+
+    private record TileKey(String dimension, int tileX, int tileZ) {}
+}
@@ -0,0 +1,122 @@
+package dev.vox.lss.common.processing;
+
+import dev.vox.lss.common.Brand;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Worker shards for the processing thread's per-result prepare work: the compress /
+ * decompress that turns a drained disk result into the form its recipients ship. Each
+ * task is keyed by its primary requester, so one player's results always land on the
+ * same shard in submission order; the processing thread blocks in {@link #run} until
+ * every shard has finished, then delivers single-threaded as before.
+ *
+ * <p>Only {@link ColumnBytes} holders cross the hand-off. A holder is touched by exactly
+ * one worker (one task per holder), and the submit/{@code Future.get} pair orders the
+ * worker's writes before the processing thread's reads — the holder's thread-confinement
+ * contract, moved across one happens-before edge. Routing, dedup, the timestamp cache,
+ * and the store stay processing-thread-owned.
+ *
+ * <p>Tasks must not throw for control flow: a task failure is swallowed here because the
+ * delivery path recomputes the same form lazily inside its own per-delivery containment.
+ */
+final class ColumnPrepareShards {
+
+    /** Below this many tasks in one drain the hand-off costs more than it saves. */
+    static final int MIN_PARALLEL_TASKS = 8;
+
+    private final ExecutorService[] workers;
+
+    ColumnPrepareShards(int shards) {
+        this.workers = new ExecutorService[shards];
+        for (int i = 0; i < shards; i++) {
+            String name = Brand.shortName() + "-Prepare-" + i;
+            this.workers[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, name);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    int shardCount() {
+        return this.workers.length;
+    }
+
+    static int shardOf(UUID player, int shards) {
+        return Math.floorMod(player.hashCode() * 0x9E3779B9, shards);
+    }
+
+    /**
+     * Run every task on its player's shard and wait for all of them. Returns each shard's
+     * busy time in nanoseconds, or null when the batch ran inline (too small to be worth
+     * the hand-off, or the workers are shut down).
+     */
+    long[] run(List<UUID> keys, List<Runnable> tasks) {
+        int shards = this.workers.length;
+        if (tasks.size() < MIN_PARALLEL_TASKS) {
+            runInline(tasks);
+            return null;
+        }
+        List<List<Runnable>> slices = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) slices.add(new ArrayList<>());
+        for (int i = 0; i < tasks.size(); i++) {
+            slices.get(shardOf(keys.get(i), shards)).add(tasks.get(i));
+        }
+        long[] busy = new long[shards];
+        List<Future<?>> futures = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            var slice = slices.get(i);
+            if (slice.isEmpty()) continue;
+            final int shard = i;
+            try {
+                futures.add(this.workers[i].submit(() -> {
+                    long start = System.nanoTime();
+                    runInline(slice);
+                    busy[shard] = System.nanoTime() - start;
+                }));
+            } catch (RejectedExecutionException e) {
+                // Shutdown raced the drain: do this shard's slice here instead.
+                runInline(slice);
+            }
+        }
+        // Wait uninterruptibly: returning while a worker still writes a holder would hand
+        // the delivery pass a half-built one. Tasks are milliseconds; shutdown's
+        // interrupt is re-asserted afterwards for the processing loop to see.
+        boolean interrupted = false;
+        for (var future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (Exception e) {
+                    break; // runInline contains task failures; nothing else can throw
+                }
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+        return busy;
+    }
+
+    private static void runInline(List<Runnable> tasks) {
+        for (var task : tasks) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                // The delivery pass recomputes this form lazily under its own containment.
+            }
+        }
+    }
+
+    void shutdown() {
+        for (var worker : this.workers) worker.shutdown();
+    }
+}
@@ -15,7 +15,14 @@ public class DiskReaderDiagnostics {
     private final AtomicLong gatedCount = new AtomicLong();
     private final AtomicLong gateStopsCount = new AtomicLong();
     private final AtomicLong headerHitsCount = new AtomicLong();
+    private final AtomicLong storeBatchesCount = new AtomicLong();
+    private final AtomicLong storeBatchMembersCount = new AtomicLong();
     private final AtomicLong totalReadTimeNanos = new AtomicLong();
+    private final AtomicLong bulkRegionsCount = new AtomicLong();
+    private final AtomicLong bulkBytesCount = new AtomicLong();
+    private final AtomicLong bulkRecordsCount = new AtomicLong();
+    private final AtomicLong bulkReadNanos = new AtomicLong();
+    private final AtomicLong bulkServesCount = new AtomicLong();
 
     public void recordSubmitted() { this.submittedCount.incrementAndGet(); }
     public void recordCompleted(long readTimeNanos) {
@@ -50,6 +57,40 @@ public class DiskReaderDiagnostics {
      *  EWMA (no IO was measured). A mechanism counter like {@code memo_hits}. */
     public void recordHeaderHit() { this.headerHitsCount.incrementAndGet(); }
 
+    /** One coalesced store lookup resolved for {@code members} submissions (the reader's
+     *  StoreBatch). A mechanism counter: members still count their own store hit/miss. */
+    public void recordStoreBatch(int members) {
+        this.storeBatchesCount.incrementAndGet();
+        this.storeBatchMembersCount.addAndGet(members);
+    }
+
+    /** One whole-region read ({@code RegionFileBulkReader}): {@code bytes} read in one
+     *  positional read taking {@code nanos}, slicing {@code records} clean records. A
+     *  mechanism counter — the columns it feeds still count their own read outcomes. */
+    public void recordBulkRegion(long bytes, int records, long nanos) {
+        this.bulkRegionsCount.incrementAndGet();
+        this.bulkBytesCount.addAndGet(bytes);
+        this.bulkRecordsCount.addAndGet(records);
+        this.bulkReadNanos.addAndGet(nanos);
+    }
+
+    /** One column decoded from a bulk slice instead of its own record read. */
+    public void recordBulkServe() { this.bulkServesCount.incrementAndGet(); }
+
+    /**
+     * The {@code bulk=} status token: regions read whole, columns served from their
+     * slices, and the whole-file read throughput. Empty until the first bulk read, so
+     * lines from servers that never trigger one (and every existing golden) are unchanged.
+     */
+    public String bulkToken() {
+        long regions = this.bulkRegionsCount.get();
+        if (regions == 0) return "";
+        long nanos = Math.max(1, this.bulkReadNanos.get());
+        double mbPerSec = (this.bulkBytesCount.get() / (1024.0 * 1024.0)) / (nanos / 1e9);
+        return String.format(java.util.Locale.ROOT, ", bulk=%dr/%dc@%.0fMB/s",
+                regions, this.bulkServesCount.get(), mbPerSec);
+    }
+
     public String formatDiagnostics(int pendingCount) {
         long completed = this.completedCount.get();
         double avgMs = completed > 0 ? (this.totalReadTimeNanos.get() / (double) completed) / LSSConstants.NANOS_PER_MS : 0;
@@ -73,6 +114,8 @@ public class DiskReaderDiagnostics {
     public long getGatedCount() { return this.gatedCount.get(); }
     public long getGateStopsCount() { return this.gateStopsCount.get(); }
     public long getHeaderHitsCount() { return this.headerHitsCount.get(); }
+    public long getStoreBatchesCount() { return this.storeBatchesCount.get(); }
+    public long getStoreBatchMembersCount() { return this.storeBatchMembersCount.get(); }
     public long getSubmittedCount() { return this.submittedCount.get(); }
     public long getCompletedCount() { return this.completedCount.get(); }
     public long getNotFoundCount() { return this.notFoundCount.get(); }
@@ -80,5 +123,10 @@ public class DiskReaderDiagnostics {
     public long getErrorCount() { return this.errorCount.get(); }
     public long getSaturationCount() { return this.saturationCount.get(); }
     public long getTotalReadTimeNanos() { return this.totalReadTimeNanos.get(); }
+    public long getBulkRegionsCount() { return this.bulkRegionsCount.get(); }
+    public long getBulkBytesCount() { return this.bulkBytesCount.get(); }
+    public long getBulkRecordsCount() { return this.bulkRecordsCount.get(); }
+    public long getBulkReadNanos() { return this.bulkReadNanos.get(); }
+    public long getBulkServesCount() { return this.bulkServesCount.get(); }
 
 }
@@ -0,0 +1,250 @@
+package dev.vox.lss.common.processing;
+
+import dev.vox.lss.common.LSSConstants;
+import dev.vox.lss.common.PositionUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The server-wide generation queue between the processing thread's ticket requests and the
+ * platform generation service. Before it, each drained request was submitted in arrival
+ * order and a capacity rejection was dropped — so with several players flying apart, one
+ * player's far-corner tickets held the global slots while another's ring-1 misses bounced
+ * and waited for their next re-declaration.
+ *
+ * <p>Requests are coalesced by position (one entry, every requesting player a waiter) and
+ * each {@link #admit} pass submits them nearest-first across ALL players: the rank is the
+ * Chebyshev distance to the nearest live waiter, lowered by one ring for every
+ * {@link LSSConstants#GENERATION_QUEUE_AGING_TICKS_PER_RING} ticks the entry has waited, so
+ * far entries still drain eventually. A rejected entry stays queued (its processing-thread
+ * slot stays held — that slot cap bounds the queue). An entry nobody wants any more is
+ * cancelled: a waiter whose player's latest declaration no longer names the position (it
+ * moved on — the ingress range is only the outer bound of that), or queued past the
+ * generation timeout, is released with the transient outcome, and a waiter whose session is
+ * gone or changed dimension is dropped silently, like the drain's dimension guard (its slot
+ * died with the replaced state). A removed player handle releases at once, as the direct
+ * submit always did.
+ *
+ * <p>Owned by the tick thread (Fabric/NeoForge main, the Paper/Folia pump); command threads
+ * read the diagnostics racily.
+ */
+public final class GenerationAdmissionQueue {
+
+    /** {@link PlayerLocator} answer for a player that is gone, unregistered, or in another
+     *  dimension than the one asked about. */
+    public static final long NO_PLAYER = Long.MIN_VALUE;
+
+    /** {@link PlayerLocator} answer for a live session that cannot take a ticket right now
+     *  (a removed player handle mid respawn-swap): the waiter is released, not dropped. */
+    public static final long RELEASE = Long.MIN_VALUE + 1;
+
+    /** The packed chunk of a player in {@code dimension}, {@link #NO_PLAYER} or
+     *  {@link #RELEASE}. */
+    @FunctionalInterface
+    public interface PlayerLocator {
+        long playerChunk(UUID player, String dimension);
+    }
+
+    /** Whether {@code player}'s latest declared want-set still names the position. */
+    @FunctionalInterface
+    public interface WantCheck {
+        boolean stillWanted(UUID player, int cx, int cz);
+    }
+
+    /** The platform half: the generation service and the transient-failure feed. */
+    public interface Sink {
+        /** Submit one waiter; true when admitted (a fresh slot or a piggyback). */
+        boolean submit(UUID player, String dimension, int cx, int cz, long submissionOrder);
+
+        /** Free the waiter's processing-thread slot with the transient outcome. */
+        void release(UUID player, String dimension, int cx, int cz, long submissionOrder);
+    }
+
+    private record Key(String dimension, int cx, int cz) {}
+
+    private record Waiter(UUID player, long submissionOrder) {}
+
+    private static final class Entry {
+        final Key key;
+        final List<Waiter> waiters = new ArrayList<>(2);
+        final long enqueuedTick;
+        long rank;
+
+        Entry(Key key, long enqueuedTick) {
+            this.key = key;
+            this.enqueuedTick = enqueuedTick;
+        }
+    }
+
+    // Admission waits, in ticks, of the most recent admissions — percentiles over a ring so
+    // the diag reflects CURRENT contention (the LodStoreDiagnostics read-latency pattern).
+    private static final int WAIT_RING = 512;
+
+    private final LinkedHashMap<Key, Entry> pending = new LinkedHashMap<>();
+    private final int timeoutTicks;
+    private long tick;
+
+    private final AtomicLongArray recentWaitTicks = new AtomicLongArray(WAIT_RING);
+    private volatile long admitted;
+    private volatile long coalesced;
+    private volatile long cancelled;
+    private volatile long expired;
+
+    /** @param timeoutTicks queue wait after which a waiter is released (the generation
+     *                      timeout — a queued ticket gets no longer than an admitted one) */
+    public GenerationAdmissionQueue(int timeoutTicks) {
+        this.timeoutTicks = timeoutTicks;
+    }
+
+    /** Queue a ticket request; a second player asking for a queued position joins it. */
+    public void offer(UUID player, String dimension, int cx, int cz, long submissionOrder) {
+        var key = new Key(dimension, cx, cz);
+        var entry = this.pending.get(key);
+        if (entry == null) {
+            entry = new Entry(key, this.tick);
+            this.pending.put(key, entry);
+        } else {
+            this.coalesced++;
+        }
+        entry.waiters.add(new Waiter(player, submissionOrder));
+    }
+
+    /**
+     * One tick's pass: cancel what nobody wants, then submit the rest nearest-first until
+     * the sink rejects them. An admitted entry's remaining waiters piggyback on it.
+     *
+     * @param wanted     the players' latest declarations — a waiter its player stopped
+     *                   declaring is released, even well inside the range
+     * @param wantRadius the ingress range guard's radius ({@code lodDistanceChunks} plus
+     *                   the buffer) — a waiter farther than this could not re-declare it
+     */
+    public void admit(PlayerLocator locator, WantCheck wanted, int wantRadius, Sink sink) {
+        try {
+            if (!this.pending.isEmpty()) admitPass(locator, wanted, wantRadius, sink);
+        } finally {
+            // After the pass: a request offered and admitted on the same tick waited 0.
+            this.tick++;
+        }
+    }
+
+    private void admitPass(PlayerLocator locator, WantCheck wanted, int wantRadius, Sink sink) {
+        var ranked = new ArrayList<Entry>(this.pending.size());
+        var iter = this.pending.values().iterator();
+        while (iter.hasNext()) {
+            var entry = iter.next();
+            var key = entry.key;
+            long waited = this.tick - entry.enqueuedTick;
+            boolean timedOut = waited > this.timeoutTicks;
+            int nearest = Integer.MAX_VALUE;
+            var waiters = entry.waiters.iterator();
+            while (waiters.hasNext()) {
+                var waiter = waiters.next();
+                long chunk = locator.playerChunk(waiter.player(), key.dimension());
+                if (chunk == NO_PLAYER) {
+                    waiters.remove();
+                    continue;
+                }
+                int distance = chunk == RELEASE ? Integer.MAX_VALUE
+                        : PositionUtil.chebyshevDistance(key.cx(), key.cz(),
+                                PositionUtil.unpackX(chunk), PositionUtil.unpackZ(chunk));
+                if (timedOut || distance > wantRadius
+                        || !wanted.stillWanted(waiter.player(), key.cx(), key.cz())) {
+                    waiters.remove();
+                    sink.release(waiter.player(), key.dimension(), key.cx(), key.cz(),
+                            waiter.submissionOrder());
+                    if (timedOut) this.expired++;
+                    else this.cancelled++;
+                    continue;
+                }
+                nearest = Math.min(nearest, distance);
+            }
+            if (entry.waiters.isEmpty()) {
+                iter.remove();
+                continue;
+            }
+            entry.rank = (long) nearest * LSSConstants.GENERATION_QUEUE_AGING_TICKS_PER_RING - waited;
+            ranked.add(entry);
+        }
+        // Stable sort: equal ranks keep arrival order.
+        ranked.sort((a, b) -> Long.compare(a.rank, b.rank));
+        for (var entry : ranked) {
+            if (submit(entry, sink)) this.pending.remove(entry.key);
+        }
+    }
+
+    /** Submit one entry: the first waiter the sink accepts leads, the rest piggyback. */
+    private boolean submit(Entry entry, Sink sink) {
+        var key = entry.key;
+        int lead = -1;
+        for (int i = 0; i < entry.waiters.size(); i++) {
+            var waiter = entry.waiters.get(i);
+            if (sink.submit(waiter.player(), key.dimension(), key.cx(), key.cz(), waiter.submissionOrder())) {
+                lead = i;
+                break;
+            }
+        }
+        if (lead < 0) return false;
+        for (int i = 0; i < entry.waiters.size(); i++) {
+            if (i == lead) continue;
+            var waiter = entry.waiters.get(i);
+            // A piggyback never bounces on the service's caps; a platform that does bounce
+            // one hands the slot back like any other transient outcome.
+            if (!sink.submit(waiter.player(), key.dimension(), key.cx(), key.cz(), waiter.submissionOrder())) {
+                sink.release(waiter.player(), key.dimension(), key.cx(), key.cz(), waiter.submissionOrder());
+            }
+        }
+        long n = this.admitted;
+        this.recentWaitTicks.set((int) (n % WAIT_RING), this.tick - entry.enqueuedTick);
+        this.admitted = n + 1;
+        return true;
+    }
+
+    /** Drop a departing player's waiters — its slots die with its state (no release). */
+    public void removePlayer(UUID player) {
+        var iter = this.pending.values().iterator();
+        while (iter.hasNext()) {
+            var entry = iter.next();
+            entry.waiters.removeIf(w -> w.player().equals(player));
+            if (entry.waiters.isEmpty()) iter.remove();
+        }
+    }
+
+    public void clear() {
+        this.pending.clear();
+    }
+
+    /** Queued positions. Tick thread for exact values; command threads read racily. */
+    public int size() {
+        return this.pending.size();
+    }
+
+    public long getAdmitted() { return this.admitted; }
+    public long getCoalesced() { return this.coalesced; }
+    public long getCancelled() { return this.cancelled; }
+    public long getExpired() { return this.expired; }
+
+    /** Queue-wait percentile ({@code 0 < p <= 1}) over the most recent admissions, in
+     *  milliseconds at the nominal tick rate. 0 before the first admission. */
+    public long waitPercentileMillis(double p) {
+        int filled = (int) Math.min(this.admitted, WAIT_RING);
+        if (filled == 0) return 0;
+        long[] copy = new long[filled];
+        for (int i = 0; i < filled; i++) copy[i] = this.recentWaitTicks.get(i);
+        Arrays.sort(copy);
+        long ticks = copy[Math.min(filled - 1, (int) Math.floor(p * filled))];
+        return ticks * 1000 / LSSConstants.TICKS_PER_SECOND;
+    }
+
+    /** The generation diag line's queue tail (appended to the service's own counters). */
+    public String diagToken() {
+        return String.format(", queued=%d, queue_wait_p50=%dms, p95=%dms, p99=%dms,"
+                        + " coalesced=%d, queue_cancelled=%d, queue_expired=%d",
+                size(), waitPercentileMillis(0.50), waitPercentileMillis(0.95),
+                waitPercentileMillis(0.99), this.coalesced, this.cancelled, this.expired);
+    }
+}
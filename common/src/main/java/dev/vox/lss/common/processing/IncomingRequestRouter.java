@@ -345,6 +345,10 @@ class IncomingRequestRouter<PS extends AbstractPlayerRequestState<?>> {
                                              Long2ObjectMap<LoadedColumnData> probes, String dimension) {
         var probe = probes.get(packed);
         if (probe == null) return false;
+        // A pooled probe finishes serializing here (normally long done); one whose worker
+        // serialize failed is no probe — the column takes the disk/generation ladder.
+        probe = probe.awaitSerialized();
+        if (probe == null) return false;
 
         long order = this.ctx.sequence().next();
         boolean allAir = probe.serializedSections() == null || probe.serializedSections().length == 0;
@@ -352,7 +356,8 @@ class IncomingRequestRouter<PS extends AbstractPlayerRequestState<?>> {
         try {
             sent = !allAir
                     && this.processor.enqueueLoadedColumn(state, probe, this.cycleNow, order, dimension,
-                            dev.vox.lss.common.LSSConstants.COLUMN_SOURCE_IN_MEMORY);
+                            false, dev.vox.lss.common.LSSConstants.COLUMN_SOURCE_IN_MEMORY,
+                            null, req.clientTimestamp());
         } catch (Throwable t) {
             // Per-delivery containment for the probe path (4-agent round, pipeline F1):
             // compression added a real throw source to this build (ColumnBytes.frame() ->
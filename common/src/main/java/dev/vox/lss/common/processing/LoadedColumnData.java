@@ -1,16 +1,95 @@
 package dev.vox.lss.common.processing;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
 /**
  * Snapshot of a loaded chunk column's pre-serialized section data.
  * Built on the server thread (platform-specific serialization), consumed on the processing thread.
  *
- * @param cx                 chunk X coordinate
- * @param cz                 chunk Z coordinate
- * @param serializedSections section bytes in MC-native wire format
- * @param estimatedBytes     estimated wire size
+ * <p>A probe column may instead be <b>deferred</b> ({@link #deferred}): the server thread
+ * copied the column's sections and light and a {@link ProbeSerializerPool} worker is
+ * serializing the copy. The processing thread calls {@link #awaitSerialized()} before
+ * reading the bytes — by then the worker has normally had the rest of the tick to finish,
+ * so the wait is rare and short, and it is the processing thread's, never the tick's.
+ *
+ * <p>Accessors: {@code cx()}, {@code cz()}, {@code serializedSections()} (section bytes in
+ * MC-native wire format; null or empty = all air) and {@code estimatedBytes()} (estimated
+ * wire size). On a deferred column the last two wait for the worker.
  */
-public record LoadedColumnData(
-        int cx, int cz,
-        byte[] serializedSections,
-        int estimatedBytes
-) {}
+public final class LoadedColumnData {
+    private final int cx;
+    private final int cz;
+    private final byte[] serializedSections;
+    private final int estimatedBytes;
+    /** Non-null for a deferred column: resolves to the serialized column, or null when the
+     *  worker's serialize failed (contained there — the column falls through as "no probe"). */
+    private final Future<LoadedColumnData> pending;
+
+    public LoadedColumnData(int cx, int cz, byte[] serializedSections, int estimatedBytes) {
+        this(cx, cz, serializedSections, estimatedBytes, null);
+    }
+
+    private LoadedColumnData(int cx, int cz, byte[] serializedSections, int estimatedBytes,
+                             Future<LoadedColumnData> pending) {
+        this.cx = cx;
+        this.cz = cz;
+        this.serializedSections = serializedSections;
+        this.estimatedBytes = estimatedBytes;
+        this.pending = pending;
+    }
+
+    /** A column whose serialization is still running on a worker. */
+    public static LoadedColumnData deferred(int cx, int cz, Future<LoadedColumnData> pending) {
+        return new LoadedColumnData(cx, cz, null, 0, pending);
+    }
+
+    public int cx() {
+        return this.cx;
+    }
+
+    public int cz() {
+        return this.cz;
+    }
+
+    public byte[] serializedSections() {
+        if (this.pending == null) return this.serializedSections;
+        var done = awaitSerialized();
+        return done != null ? done.serializedSections : null;
+    }
+
+    public int estimatedBytes() {
+        if (this.pending == null) return this.estimatedBytes;
+        var done = awaitSerialized();
+        return done != null ? done.estimatedBytes : 0;
+    }
+
+    /**
+     * The serialized column — {@code this} when it was built ready, else the worker's result
+     * once it completes. Returns null when the deferred serialize failed (or the wait was
+     * interrupted by shutdown, re-asserted): the caller treats that as no probe at all, never
+     * as an all-air column. VirtualMachineErrors thrown on the worker propagate here, the
+     * same containment boundary the inline probe path draws.
+     */
+    public LoadedColumnData awaitSerialized() {
+        if (this.pending == null) return this;
+        try {
+            return this.pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof VirtualMachineError vme) throw vme;
+            return null;
+        } catch (CancellationException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LoadedColumnData[cx=" + this.cx + ", cz=" + this.cz
+                + (this.pending != null ? ", deferred" : ", bytes=" + this.estimatedBytes) + "]";
+    }
+}
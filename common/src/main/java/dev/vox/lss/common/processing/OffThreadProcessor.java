@@ -5,6 +5,8 @@ import dev.vox.lss.common.Brand;
 import dev.vox.lss.common.LSSLogger;
 import dev.vox.lss.common.PositionUtil;
 import dev.vox.lss.common.voxel.ColumnTimestampCache;
+import dev.vox.lss.common.wire.LodTierDownsampler;
+import dev.vox.lss.common.wire.SectionDelta;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 
 import java.nio.file.Path;
@@ -82,12 +84,19 @@ public abstract class OffThreadProcessor<PlayerState extends AbstractPlayerReque
 
     // Cross-player disk read deduplication (processing-thread-owned)
     private final DedupTracker dedupTracker = new DedupTracker();
+    // Section-delta base table (processing-thread-owned): what a client re-asking with a
+    // given column timestamp holds, section by section — see forRecipient.
+    private final SectionDigestCache sectionDigests =
+            new SectionDigestCache(LSSConstants.SECTION_DIGEST_CACHE_COLUMNS);
     // LOD-store counters (docs/planning/lod-store-implementation-plan.md). The zero
     // instance exists unconditionally — all-zero while lodStore=off — so the
     // diagnostics/exporter schema is identical across the kill-switch A/B arms; with a
     // store attached, the STORE's own instance (shared with the reader rung) is served.
     private final dev.vox.lss.common.store.LodStoreDiagnostics storeDiagnostics =
             new dev.vox.lss.common.store.LodStoreDiagnostics();
+    // Connection-framing cost of compressed column frames (bypassConnectionCompression),
+    // fed by the platforms' netty handlers.
+    private final ColumnFramingDiagnostics framingDiagnostics = new ColumnFramingDiagnostics();
     // The LOD store (null while lodStore=off). Attached once at service init, before
     // start(). The processor owns the DELIVERY-PATH side of the store contract: deposits
     // AFTER the stale guard, the invalidation fan-out, and the ghost-guard delete.
@@ -96,6 +105,12 @@ public abstract class OffThreadProcessor<PlayerState extends AbstractPlayerReque
     // everyone (useCompressedColumns off, or the server-side zstd native probe failed).
     // Attached once at service init before start(); read by the processing thread.
     private volatile dev.vox.lss.common.store.StoreCodec wireCodec;
+    // The ColumnDictionary codec (codec-2 frames). Null = no session ships dictionary
+    // frames (useColumnDictionary off, or compression itself is off). Same lifecycle.
+    private volatile dev.vox.lss.common.store.StoreCodec wireDictionaryCodec;
+    /** Prepare workers for the phase-2 holder builds; null = prepare lazily on this
+     *  thread. Attached once before {@link #start()}, shut down with the processor. */
+    private volatile ColumnPrepareShards prepareShards;
     // NOTE (Phase 3 review + 4-agent round R2-M2): the dirty->store invalidation
     // fan-out stays ON on BOTH platforms, deliberately. A Fabric gating experiment
     // (save-hook deposits looked like they made the drain invalidation redundant)
@@ -118,6 +133,11 @@ public abstract class OffThreadProcessor<PlayerState extends AbstractPlayerReque
             new dev.vox.lss.common.LogThrottle(60_000);
     private final dev.vox.lss.common.LogThrottle deliveryErrorWarn =
             new dev.vox.lss.common.LogThrottle(60_000);
+    private final dev.vox.lss.common.LogThrottle packErrorWarn =
+            new dev.vox.lss.common.LogThrottle(60_000);
+    // True while publishColumnPacks re-builds a tile's members one by one: the platform
+    // build then ships them alone instead of staging them again.
+    private boolean publishingPacks;
     private long cycleNow; // cached epochSeconds for current processing cycle
     // Per-cycle phase-completion flags (processing-thread only): a failed cycle re-queues only
     // the lossless events whose phase did NOT complete, so an already-applied phase is never
@@ -589,23 +609,88 @@ public abstract class OffThreadProcessor<PlayerState extends AbstractPlayerReque
                                           boolean staleAgainstEdit,
                                           byte source,
                                           ColumnBytes sharedBytes) {
+        return enqueueLoadedColumn(state, column, columnTimestamp, submissionOrder,
+                dimension, staleAgainstEdit, source, sharedBytes, 0L);
+    }
+
+    /** As above, answering the recipient's declared {@code clientTimestamp} — a tier ask
+     *  ({@link LSSConstants#requestedLodTier}) ships the downsampled build. */
+    protected boolean enqueueLoadedColumn(PlayerState state, LoadedColumnData column,
+                                          long columnTimestamp,
+                                          long submissionOrder,
+                                          String dimension,
+                                          boolean staleAgainstEdit,
+                                          byte source,
+                                          ColumnBytes sharedBytes,
+                                          long clientTimestamp) {
         if (column.serializedSections() == null || column.serializedSections().length == 0) {
             return false;
         }
 
-        int estimatedBytes = column.serializedSections().length + LSSConstants.ESTIMATED_COLUMN_OVERHEAD_BYTES;
-
         // Store timestamp for up-to-date checks (skipped when stale so the edit re-resolves)
         long packed = PositionUtil.packPosition(column.cx(), column.cz());
         if (!staleAgainstEdit) {
             this.timestampCache.put(dimension, packed, columnTimestamp, this.cycleNow);
         }
 
-        return buildAndEnqueueColumnPayload(state, column.cx(), column.cz(), dimension,
-                columnTimestamp, submissionOrder,
+        ColumnBytes served = forRecipient(state,
                 sharedBytes != null ? sharedBytes
                         : ColumnBytes.ofRaw(this.wireCodec, column.serializedSections()),
-                estimatedBytes, source);
+                clientTimestamp, dimension, packed, columnTimestamp, source);
+        int estimatedBytes = served.rawSize() + LSSConstants.ESTIMATED_COLUMN_OVERHEAD_BYTES;
+        return buildAndEnqueueColumnPayload(state, column.cx(), column.cz(), dimension,
+                columnTimestamp, submissionOrder, served, estimatedBytes, source);
+    }
+
+    /**
+     * The holder this recipient is served from: {@code bytes} itself for a full-res ask
+     * (or a session that does not serve tiers), else the memoized downsampled build
+     * ({@link ColumnBytes#tierBuild}) — shared by every recipient of the drained result
+     * that asked the same tier. The column timestamp is unchanged: a tier is a coarser
+     * view of the SAME content, so the timestamp cache, the stamps, and the store row all
+     * stay full-resolution facts, and a later full-res refinement ask still resolves
+     * through the ordinary ladder.
+     *
+     * <p>A full-res serve to a section-delta session next consults the digest base table:
+     * a resync whose declared stamp is the table's entry for this position ships only the
+     * changed sections ({@link ColumnBytes#deltaBuild}). EVERY serve to such a session
+     * records its digest — memory, disk, store and generation alike, first asks included
+     * (a store frame decompresses for it): a version any delta client holds must be in
+     * the table, or a second version served under the same stamp could not poison the
+     * entry and a later delta would land on sections that client never had. Each digest
+     * is the base for the NEXT re-ask, so a build's second and later edits go out as
+     * deltas to every viewer. Any digest/delta failure serves full.
+     */
+    private ColumnBytes forRecipient(PlayerState state, ColumnBytes bytes, long clientTimestamp,
+                                     String dimension, long packed, long columnTimestamp,
+                                     byte source) {
+        int tier = state.servesLodTiers() ? LSSConstants.requestedLodTier(clientTimestamp) : 0;
+        if (tier > 0) {
+            return bytes.tierBuild(tier, () -> ColumnBytes.ofTier(this.wireCodec,
+                    LodTierDownsampler.downsample(bytes.raw(), tier), tier));
+        }
+        if (!state.wantsSectionDeltas() || columnTimestamp <= 0) {
+            return bytes;
+        }
+        try {
+            var current = bytes.digest();
+            ColumnBytes served = bytes;
+            var base = clientTimestamp > 0 && columnTimestamp > clientTimestamp
+                    ? this.sectionDigests.baseFor(dimension, packed, clientTimestamp) : null;
+            if (base != null) {
+                ColumnBytes delta = bytes.deltaBuild(clientTimestamp, () -> {
+                    var d = SectionDelta.between(bytes.raw(), current, base);
+                    return d == null ? null
+                            : ColumnBytes.ofDelta(this.wireCodec, d.body(), clientTimestamp, d.keep());
+                });
+                if (delta != null) served = delta;
+            }
+            this.sectionDigests.put(dimension, packed, columnTimestamp, current);
+            return served;
+        } catch (RuntimeException e) {
+            // A body the digest walk rejects still ships — whole, as it always did.
+            return bytes;
+        }
     }
 
     /**
@@ -624,6 +709,107 @@ public abstract class OffThreadProcessor<PlayerState extends AbstractPlayerReque
                                                              ColumnBytes bytes, int estimatedBytes,
                                                              byte source);
 
+    /**
+     * Packed columns: called by the platform build for a CURRENT-dialect column before it
+     * picks a codec. Holds the column back for this cycle's tile packs and returns true
+     * when the session takes packs and the column can ride one — a full-resolution,
+     * whole-column body with its raw form in hand, between the compression floor and
+     * the pack cap. A stored frame (store hit) is NOT re-opened to pack it: it ships
+     * alone, verbatim, as before. False = build the single payload as usual.
+     */
+    protected final boolean stageForPack(PlayerState state, int cx, int cz, String dimension,
+                                         long columnTimestamp, long submissionOrder,
+                                         ColumnBytes bytes, int estimatedBytes, byte source) {
+        if (this.publishingPacks || !state.wantsPackedColumns() || this.wireCodec == null
+                || bytes.tier() != 0 || bytes.deltaBase() != 0 || !bytes.rawMaterialized()
+                || bytes.rawSize() < LSSConstants.COLUMN_COMPRESS_MIN_BYTES
+                || bytes.rawSize() > LSSConstants.COLUMN_PACK_MAX_RAW_BYTES) {
+            return false;
+        }
+        state.stagePackColumn(new ColumnPacker.Staged(cx, cz, dimension, columnTimestamp,
+                submissionOrder, bytes, estimatedBytes, source));
+        return true;
+    }
+
+    /**
+     * Platform hook: queue one built pack for {@code state}'s flush
+     * ({@link AbstractPlayerRequestState#addReadyPack}). False = this platform has no
+     * pack carrier, and the members ship alone.
+     */
+    protected boolean enqueueColumnPack(PlayerState state, ColumnPacker.Built pack) {
+        return false;
+    }
+
+    /**
+     * Cycle end: pack every column staged this cycle. Each tile of two or more columns
+     * becomes one frame (the dictionary codec for a dictionary session); a lone column, a
+     * tile whose frame would not shrink, or a failed build ships its members one by one
+     * through the ordinary build — a member that build refuses is answered up_to_date,
+     * as every other caller answers a refused column.
+     */
+    private void publishColumnPacks() {
+        for (var state : this.players.values()) {
+            var staged = state.takeStagedPackColumns();
+            if (staged.isEmpty()) continue;
+            var dictCodec = state.wantsDictionaryColumns() ? this.wireDictionaryCodec : null;
+            var codec = dictCodec != null ? dictCodec : this.wireCodec;
+            byte codecTag = dictCodec != null
+                    ? LSSConstants.COLUMN_CODEC_ZSTD_DICT : LSSConstants.COLUMN_CODEC_ZSTD;
+            for (var group : ColumnPacker.group(staged)) {
+                ColumnPacker.Built built = null;
+                if (codec != null && group.size() >= dev.vox.lss.common.wire.ColumnPackWire.MIN_PACK_COLUMNS) {
+                    try {
+                        built = ColumnPacker.build(group, codec, codecTag);
+                    } catch (RuntimeException e) {
+                        long n = this.packErrorWarn.recordAndTryAcquire(System.nanoTime() / 1_000_000);
+                        if (n > 0) {
+                            LSSLogger.error("Failed to pack " + group.size() + " columns for "
+                                    + state.getPlayerName() + ", shipping them one by one ("
+                                    + n + " pack failure(s) since the last report)", e);
+                        }
+                    }
+                }
+                if (built != null && enqueueColumnPack(state, built)) {
+                    for (int i = 0; i < group.size(); i++) {
+                        this.ctx.diagnostics().incrementColumnCodec(true);
+                    }
+                    continue;
+                }
+                shipStagedAlone(state, group);
+            }
+        }
+    }
+
+    private void shipStagedAlone(PlayerState state, List<ColumnPacker.Staged> group) {
+        this.publishingPacks = true;
+        try {
+            for (var column : group) {
+                long packed = column.packedPos();
+                state.releaseStagedPackColumn(packed);
+                boolean sent;
+                try {
+                    sent = buildAndEnqueueColumnPayload(state, column.chunkX(), column.chunkZ(),
+                            column.dimension(), column.timestamp(), column.submissionOrder(),
+                            column.bytes(), column.estimatedBytes(), column.source());
+                } catch (RuntimeException e) {
+                    long n = this.packErrorWarn.recordAndTryAcquire(System.nanoTime() / 1_000_000);
+                    if (n > 0) {
+                        LSSLogger.error("Failed to build column " + column.chunkX() + ", "
+                                + column.chunkZ() + " for " + state.getPlayerName() + " ("
+                                + n + " pack failure(s) since the last report)", e);
+                    }
+                    sent = false;
+                }
+                if (!sent) {
+                    this.ctx.sendActions().add(new SendAction.ColumnUpToDate(
+                            state.getPlayerUUID(), packed, state));
+                }
+            }
+        } finally {
+            this.publishingPacks = false;
+        }
+    }
+
     // ---- Processing loop ----
 
     private void processingLoop() {
@@ -672,7 +858,9 @@ public abstract class OffThreadProcessor<PlayerState extends AbstractPlayerReque
             }
 
             try {
+                long cycleStart = System.nanoTime();
                 this.processCycle(take);
+                this.ctx.diagnostics().recordCycleNanos(System.nanoTime() - cycleStart);
                 this.consecutiveErrors = 0;
             } catch (Throwable t) {
                 // Catch Throwable (not just Exception) so a transient Error doesn't silently
@@ -770,6 +958,7 @@ public abstract class OffThreadProcessor<PlayerState extends AbstractPlayerReque
         beforeRouteHook();
         applyLateDirtyEvents();
         routeIncomingRequests(take.snapshot());
+        publishColumnPacks();
 
         if (++this.evictionCounter >= EVICTION_INTERVAL_CYCLES) {
             this.evictionCounter = 0;
@@ -1048,14 +1237,39 @@ public abstract class OffThreadProcessor<PlayerState extends AbstractPlayerReque
 
     // ---- Phase 2: Drain disk reader results (with cross-player dedup dispatch) ----
 
+    /** One result taken off a player's reader queue this cycle, with the holder the
+     *  prepare pass built for it (null for non-data results). */
+    private static final class Drained<S> {
+        final UUID playerUuid;
+        final S state;
+        final String dimension;
+        final ChunkReadResult result;
+        ColumnBytes columnBytes;
+
+        Drained(UUID playerUuid, S state, String dimension, ChunkReadResult result) {
+            this.playerUuid = playerUuid;
+            this.state = state;
+            this.dimension = dimension;
+            this.result = result;
+        }
+    }
+
+    /**
+     * Phase 2 in three passes: take every player's queued results (guards applied), build
+     * and warm each result's {@link ColumnBytes} — on the prepare shards when attached,
+     * players hashed to shards — then deliver in take order on this thread. Only the
+     * holder build moves off-thread; the stale guard, stamps, deposits, and dedup fan-out
+     * run here exactly as before.
+     */
     private void drainDiskResultsForAllPlayers(TickSnapshot snapshot) {
+        if (this.diskReader == null) return;
+        var drained = new ArrayList<Drained<PlayerState>>();
         for (var entry : snapshot.playerDimensions().entrySet()) {
             var state = this.players.get(entry.getKey());
             if (state == null) continue;
             UUID playerUuid = entry.getKey();
             String dimension = entry.getValue();
 
-            if (this.diskReader == null) continue;
             var queue = this.diskReader.getPlayerQueue(state.getPlayerUUID());
             if (queue == null) continue;
 
@@ -1076,116 +1290,193 @@ public abstract class OffThreadProcessor<PlayerState extends AbstractPlayerReque
                 // dimension strings match trivially. (Null = bare test rig, guard skipped.)
                 String registered = state.registeredDimension();
                 if (registered != null && !registered.equals(result.dimension())) continue;
-                int cx = result.chunkX();
-                int cz = result.chunkZ();
-                long packed = PositionUtil.packPosition(cx, cz);
-
-                // A dirty invalidation overtook this read while it was in flight: the bytes
-                // may predate the edit. Deliver the column (better than nothing), but leave
-                // diskReadDone and the timestamp cache unset so the client's dirty
-                // re-request re-resolves from disk instead of drawing a false up_to_date.
-                boolean staleAgainstEdit = consumeInvalidatedInFlight(dimension, packed);
-
-                // ONE holder per drained result (plan §0.4): every dedup recipient's build
-                // and the store deposit share it, so a mixed-capability group costs one
-                // compress, never one per recipient. Null for non-data results (all-air /
-                // not-found / saturated). A store-FRAME hit (plan §3) wraps the validated
-                // frame — capable recipients ship it verbatim; raw-needing recipients
-                // (v16/no-capability) cost one lazy ~24 µs decompress here on the
-                // processing thread, bounded and rare.
-                ColumnBytes columnBytes;
-                if (result.frameBytes() != null) {
-                    columnBytes = ColumnBytes.ofFrame(this.wireCodec, result.frameBytes(),
-                            result.frameRawSize());
-                } else if (result.sectionBytes() != null) {
-                    columnBytes = ColumnBytes.ofRaw(this.wireCodec, result.sectionBytes());
-                } else {
-                    columnBytes = null;
-                }
+                drained.add(new Drained<>(playerUuid, state, dimension, result));
+            }
+        }
+        if (drained.isEmpty()) return;
+
+        prepareColumnBytes(drained);
+
+        for (var d : drained) {
+            UUID playerUuid = d.playerUuid;
+            var state = d.state;
+            String dimension = d.dimension;
+            var result = d.result;
+            ColumnBytes columnBytes = d.columnBytes;
+            int cx = result.chunkX();
+            int cz = result.chunkZ();
+            long packed = PositionUtil.packPosition(cx, cz);
 
-                deliverDiskResult(playerUuid, state, result, columnBytes,
-                        result.submissionOrder(), dimension, staleAgainstEdit);
-
-                if (result.headerFresh()) {
-                    // Header freshness rung (P1): no bytes exist — never a deposit (the
-                    // raw==null shape below would normalize to a fabricated ALL-AIR row).
-                    // Refresh the timestamp cache at stamp + 1 so the next re-ask hits
-                    // the router's cheap rung: the non-strict tscache compare
-                    // (cached <= clientTs) then fires exactly iff clientTs > stamp — the
-                    // header rung's own margined bound, preserved (the stamp already
-                    // carries the serve-latency margin from the reader). MONOTONIC MAX
-                    // (P1 review MAJOR): put() overwrites unconditionally and a LOWER
-                    // cached value is strictly MORE permissive, so a header-derived
-                    // bound must never replace a higher acquisition stamp the server
-                    // actually observed — the downgrade would persist a memo-derived
-                    // claim globally (lss-timestamps.bin) and bypass the rung's own
-                    // 5 s re-validation forever. Stale-guarded like every stamp write.
-                    if (!staleAgainstEdit) {
-                        long refreshed = result.columnTimestamp() + 1;
-                        long existing = this.timestampCache.get(result.dimension(), packed);
-                        if (refreshed > existing) {
-                            this.timestampCache.put(result.dimension(), packed,
-                                    refreshed, this.cycleNow);
-                        }
-                    }
-                } else if (!staleAgainstEdit && !result.saturated() && !result.notFound()) {
-                    // Store timestamp so reconnecting clients get up-to-date responses
-                    this.timestampCache.put(result.dimension(), packed, result.columnTimestamp(), this.cycleNow);
-                    // LOD-store deposit — the delivery-path choke point, ONCE per drained
-                    // result (not per dedup recipient), strictly AFTER the stale guard: an
-                    // edit-overtaken read must never populate the store (§1). Store hits
-                    // are not re-deposited. All-air (null section bytes here) normalizes
-                    // to byte[0] at the store boundary. Deliberately independent of the
-                    // per-recipient payload-build outcome (the gen flavor matches): a
-                    // send rejection loses the delivery, not the bytes.
-                    if (this.store != null && !result.fromStore()) {
-                        depositColumn(result.dimension(), packed, result.sectionBytes(),
-                                columnBytes, result.columnTimestamp(),
-                                result.srcStampSeconds());
-                    }
-                } else if (result.notFound()) {
-                    // Disk says the chunk no longer exists (region trimmed/deleted outside
-                    // MC). A stale cached stamp would answer up_to_date to data-claiming
-                    // clients forever — ghost terrain for a chunk the server cannot serve.
-                    // Stamps ONLY: the full invalidate() also clears miss-memo entries, and
-                    // this not-found is the very observation the memo write in
-                    // handleDiskNotFound just recorded — full invalidation here would erase
-                    // every memo the instant it was written.
-                    int removed = this.timestampCache.invalidateStamps(result.dimension(), new long[]{packed});
-                    if (removed > 0 && !this.invalidationDirty) {
-                        this.invalidationDirty = true;
-                        this.invalidationCountdown = INVALIDATE_SAVE_MAX_CYCLES;
-                    }
-                    // Ghost guard, store half (§1 fan-out): storage POSITIVELY answered
-                    // "no such chunk" — the store row must die or the store re-serves
-                    // deleted terrain forever. Gated on authoritativeMiss: an
-                    // error/timeout triage says nothing about existence, and deleting a
-                    // good row on a transient timeout would just cost a re-deposit.
-                    if (this.store != null && result.authoritativeMiss()) {
-                        this.store.delete(result.dimension(), packed);
+            // A dirty invalidation overtook this read while it was in flight: the bytes
+            // may predate the edit. Deliver the column (better than nothing), but leave
+            // diskReadDone and the timestamp cache unset so the client's dirty
+            // re-request re-resolves from disk instead of drawing a false up_to_date.
+            boolean staleAgainstEdit = consumeInvalidatedInFlight(dimension, packed);
+
+            deliverDiskResult(playerUuid, state, result, columnBytes,
+                    result.submissionOrder(), dimension, staleAgainstEdit);
+
+            if (result.headerFresh()) {
+                // Header freshness rung (P1): no bytes exist — never a deposit (the
+                // raw==null shape below would normalize to a fabricated ALL-AIR row).
+                // Refresh the timestamp cache at stamp + 1 so the next re-ask hits
+                // the router's cheap rung: the non-strict tscache compare
+                // (cached <= clientTs) then fires exactly iff clientTs > stamp — the
+                // header rung's own margined bound, preserved (the stamp already
+                // carries the serve-latency margin from the reader). MONOTONIC MAX
+                // (P1 review MAJOR): put() overwrites unconditionally and a LOWER
+                // cached value is strictly MORE permissive, so a header-derived
+                // bound must never replace a higher acquisition stamp the server
+                // actually observed — the downgrade would persist a memo-derived
+                // claim globally (lss-timestamps.bin) and bypass the rung's own
+                // 5 s re-validation forever. Stale-guarded like every stamp write.
+                if (!staleAgainstEdit) {
+                    long refreshed = result.columnTimestamp() + 1;
+                    long existing = this.timestampCache.get(result.dimension(), packed);
+                    if (refreshed > existing) {
+                        this.timestampCache.put(result.dimension(), packed,
+                                refreshed, this.cycleNow);
                     }
                 }
+            } else if (!staleAgainstEdit && !result.saturated() && !result.notFound()) {
+                // Store timestamp so reconnecting clients get up-to-date responses
+                this.timestampCache.put(result.dimension(), packed, result.columnTimestamp(), this.cycleNow);
+                // LOD-store deposit — the delivery-path choke point, ONCE per drained
+                // result (not per dedup recipient), strictly AFTER the stale guard: an
+                // edit-overtaken read must never populate the store (§1). Store hits
+                // are not re-deposited. All-air (null section bytes here) normalizes
+                // to byte[0] at the store boundary. Deliberately independent of the
+                // per-recipient payload-build outcome (the gen flavor matches): a
+                // send rejection loses the delivery, not the bytes.
+                if (this.store != null && !result.fromStore()) {
+                    depositColumn(result.dimension(), packed, result.sectionBytes(),
+                            columnBytes, result.columnTimestamp(),
+                            result.srcStampSeconds());
+                }
+            } else if (result.notFound()) {
+                // Disk says the chunk no longer exists (region trimmed/deleted outside
+                // MC). A stale cached stamp would answer up_to_date to data-claiming
+                // clients forever — ghost terrain for a chunk the server cannot serve.
+                // Stamps ONLY: the full invalidate() also clears miss-memo entries, and
+                // this not-found is the very observation the memo write in
+                // handleDiskNotFound just recorded — full invalidation here would erase
+                // every memo the instant it was written.
+                int removed = this.timestampCache.invalidateStamps(result.dimension(), new long[]{packed});
+                if (removed > 0 && !this.invalidationDirty) {
+                    this.invalidationDirty = true;
+                    this.invalidationCountdown = INVALIDATE_SAVE_MAX_CYCLES;
+                }
+                // Ghost guard, store half (§1 fan-out): storage POSITIVELY answered
+                // "no such chunk" — the store row must die or the store re-serves
+                // deleted terrain forever. Gated on authoritativeMiss: an
+                // error/timeout triage says nothing about existence, and deleting a
+                // good row on a transient timeout would just cost a re-deposit.
+                if (this.store != null && result.authoritativeMiss()) {
+                    this.store.delete(result.dimension(), packed);
+                }
+            }
 
-                // Dispatch the same result to attached players in the dedup group
-                var group = this.dedupTracker.removeGroup(packed, dimension);
-                if (group != null) {
-                    for (var attachment : group.attached()) {
-                        var attachedState = this.players.get(attachment.playerUuid());
-                        if (attachedState == null) continue;
-                        // Same stale-snapshot session guard as the primary: an attached
-                        // player's state can also be swapped mid-cycle by a dimension change.
-                        String attachedRegistered = attachedState.registeredDimension();
-                        if (attachedRegistered != null
-                                && !attachedRegistered.equals(result.dimension())) continue;
-                        deliverDiskResult(attachment.playerUuid(), attachedState, result,
-                                columnBytes, attachment.submissionOrder(), dimension,
-                                staleAgainstEdit);
-                    }
+            // Dispatch the same result to attached players in the dedup group
+            var group = this.dedupTracker.removeGroup(packed, dimension);
+            if (group != null) {
+                for (var attachment : group.attached()) {
+                    var attachedState = this.players.get(attachment.playerUuid());
+                    if (attachedState == null) continue;
+                    // Same stale-snapshot session guard as the primary: an attached
+                    // player's state can also be swapped mid-cycle by a dimension change.
+                    String attachedRegistered = attachedState.registeredDimension();
+                    if (attachedRegistered != null
+                            && !attachedRegistered.equals(result.dimension())) continue;
+                    deliverDiskResult(attachment.playerUuid(), attachedState, result,
+                            columnBytes, attachment.submissionOrder(), dimension,
+                            staleAgainstEdit);
                 }
             }
         }
     }
 
+    /**
+     * ONE holder per drained result (plan §0.4): every dedup recipient's build and the
+     * store deposit share it, so a mixed-capability group costs one compress, never one
+     * per recipient. Null for non-data results (all-air / not-found / saturated). A
+     * store-FRAME hit (plan §3) wraps the validated frame — capable recipients ship it
+     * verbatim; raw-needing recipients (v16/no-capability) cost one lazy decompress.
+     *
+     * <p>With prepare shards attached, each holder's likeliest form is also warmed on the
+     * primary requester's shard before delivery: the store's form when the result will be
+     * deposited (the deposit then reuses it — §3 "compress once, use twice"), else the
+     * form the primary ships. Dedup recipients wanting another form still convert lazily
+     * at delivery, as every recipient did before the shards.
+     */
+    private void prepareColumnBytes(List<Drained<PlayerState>> drained) {
+        // A dictionary store's frames are codec-2: dictionary sessions ship them
+        // verbatim and the holder decompresses with the store's own codec.
+        var store = this.store;
+        var frameCodec = store != null ? store.frameCodec() : null;
+        var shards = this.prepareShards;
+        var keys = new ArrayList<UUID>();
+        var tasks = new ArrayList<Runnable>();
+        for (var d : drained) {
+            var result = d.result;
+            ColumnBytes columnBytes;
+            if (result.frameBytes() != null && frameCodec != null
+                    && frameCodec.usesDictionary()) {
+                columnBytes = ColumnBytes.ofDictFrame(this.wireCodec, frameCodec,
+                        result.frameBytes(), result.frameRawSize());
+            } else if (result.frameBytes() != null) {
+                columnBytes = ColumnBytes.ofFrame(this.wireCodec, result.frameBytes(),
+                        result.frameRawSize());
+            } else if (result.sectionBytes() != null) {
+                columnBytes = ColumnBytes.ofRaw(this.wireCodec, result.sectionBytes());
+            } else {
+                columnBytes = null;
+            }
+            d.columnBytes = columnBytes;
+            if (shards == null || columnBytes == null || this.wireCodec == null) continue;
+            Runnable warm = warmTask(columnBytes, d.state, result,
+                    store != null && !result.fromStore(), frameCodec);
+            if (warm != null) {
+                keys.add(d.playerUuid);
+                tasks.add(warm);
+            }
+        }
+        if (tasks.isEmpty()) return;
+        long[] busy = shards.run(keys, tasks);
+        if (busy != null) this.ctx.diagnostics().recordShardPrepare(busy, tasks.size());
+    }
+
+    /** The prepare-shard task materializing {@code bytes}' likeliest shipped form, or null
+     *  when that form is already in hand. A result the store will take gets the form
+     *  {@link #depositColumn} reuses for {@code frameCodec}. Reads recipient state HERE,
+     *  on the processing thread; the task itself touches only the holder. */
+    private Runnable warmTask(ColumnBytes bytes, PlayerState state, ChunkReadResult result,
+                              boolean deposits, dev.vox.lss.common.store.StoreCodec frameCodec) {
+        if (deposits) {
+            if (frameCodec != null && frameCodec.usesDictionary()) {
+                return bytes.dictFrameMaterialized() ? null : () -> bytes.dictFrame(frameCodec);
+            }
+            return bytes.frameMaterialized() ? null : bytes::frame;
+        }
+        var pending = state.peekPendingByPosition(result.chunkX(), result.chunkZ());
+        long clientTimestamp = pending != null ? pending.clientTimestamp() : 0L;
+        if (state.servesLodTiers() && LSSConstants.requestedLodTier(clientTimestamp) > 0) {
+            // A tier ask downsamples the raw body at delivery.
+            return bytes.rawMaterialized() ? null : bytes::raw;
+        }
+        if (state.wantsPackedColumns() && bytes.rawMaterialized()) {
+            // A packed session compresses this column with its tile at cycle end.
+            return null;
+        }
+        var dictCodec = this.wireDictionaryCodec;
+        if (state.wantsDictionaryColumns() && dictCodec != null) {
+            return bytes.dictFrameMaterialized() ? null : () -> bytes.dictFrame(dictCodec);
+        }
+        if (state.wantsCompressedColumns()) {
+            return bytes.frameMaterialized() ? null : bytes::frame;
+        }
+        return bytes.rawMaterialized() ? null : bytes::raw;
+    }
+
     /**
      * Deliver one disk read result to one recipient: resolve the pending entry (freeing its
      * slot), then answer with not-found fallback / column data / up-to-date — or, for a
@@ -1275,10 +1566,14 @@ public abstract class OffThreadProcessor<PlayerState extends AbstractPlayerReque
                 byte source = result.fromStore()
                         ? LSSConstants.COLUMN_SOURCE_STORE : LSSConstants.COLUMN_SOURCE_DISK;
                 boolean allAir = columnBytes == null;
+                ColumnBytes served = allAir ? null : forRecipient(state, columnBytes,
+                        pending != null ? pending.clientTimestamp() : 0L, result.dimension(),
+                        packed, result.columnTimestamp(), source);
                 boolean sent = !allAir
                         && buildAndEnqueueColumnPayload(state, cx, cz, result.dimension(),
                                 result.columnTimestamp(), submissionOrder,
-                                columnBytes, result.estimatedBytes(),
+                                served, served == columnBytes ? result.estimatedBytes()
+                                        : served.rawSize() + LSSConstants.ESTIMATED_COLUMN_OVERHEAD_BYTES,
                                 source);
                 if (!sent) {
                     // All-air chunk (no visible sections): a resync client (claimsData) may hold
@@ -1321,6 +1616,8 @@ public abstract class OffThreadProcessor<PlayerState extends AbstractPlayerReque
     // (dictCount==0 ⇔ sectionCount==0); the client's isClearColumn still reads only the
     // leading VarInt, and the C2 legacy translators collapse it back to the 1-byte form.
     private static final byte[] ZERO_SECTION_COLUMN = new byte[]{0x00, 0x00};
+    private static final SectionDelta.Digest EMPTY_DIGEST =
+            new SectionDelta.Digest(new int[0], new long[0]);
 
     /**
      * Store deposit with opportunistic frame reuse (plan §3 "compress once, use twice"):
@@ -1330,13 +1627,17 @@ public abstract class OffThreadProcessor<PlayerState extends AbstractPlayerReque
      * built yet — the deposit runs after the primary's build but before the dedup
      * fan-out, so a later recipient's frame is missed, accepted) deposit raw as before.
      * {@code raw} is always in hand at both call sites (never a store hit), so
-     * {@code holder.raw()} costs nothing here.
+     * {@code holder.raw()} costs nothing here. The reusable form is the one the store's
+     * codec writes: the dictionary frame for a dictionary store, else the plain frame.
      */
     private void depositColumn(String dimension, long packed, byte[] raw,
                                ColumnBytes holder, long columnTimestamp,
                                long srcStampSeconds) {
-        if (holder != null && holder.frameMaterialized()) {
-            byte[] frame = holder.frame();
+        var frameCodec = this.store.frameCodec();
+        boolean dictStore = frameCodec != null && frameCodec.usesDictionary();
+        if (holder != null && (dictStore ? holder.dictFrameMaterialized()
+                : holder.frameMaterialized())) {
+            byte[] frame = dictStore ? holder.dictFrame(frameCodec) : holder.frame();
             if (this.store.depositFrame(dimension, packed, frame, holder.rawSize(),
                     dev.vox.lss.common.store.LodStoreService.contentHash(holder.raw()),
                     dev.vox.lss.common.store.LodStoreService.contentHash(frame),
@@ -1357,6 +1658,11 @@ public abstract class OffThreadProcessor<PlayerState extends AbstractPlayerReque
     boolean sendEmptiedColumn(PlayerState state, int cx, int cz, String dimension,
                               long columnTimestamp, long submissionOrder, byte source) {
         int est = ZERO_SECTION_COLUMN.length + LSSConstants.ESTIMATED_COLUMN_OVERHEAD_BYTES;
+        // The clear is a version too: a delta client now holds nothing at this stamp.
+        if (state.wantsSectionDeltas()) {
+            this.sectionDigests.put(dimension, PositionUtil.packPosition(cx, cz),
+                    columnTimestamp, EMPTY_DIGEST);
+        }
         // Clears are ALWAYS codec 0 (the ONE common pin, plan §0.8): the 1-byte body is
         // far below COLUMN_COMPRESS_MIN_BYTES, so the holder refuses a frame
         // structurally and the client's clear detection keeps its decompress-free read.
@@ -1640,7 +1946,8 @@ public abstract class OffThreadProcessor<PlayerState extends AbstractPlayerReque
                     : ColumnBytes.ofRaw(this.wireCodec, genSections);
             boolean sent = !allAir && this.enqueueLoadedColumn(state, entry.columnData(),
                     entry.columnTimestamp(), entry.submissionOrder(), entry.dimension(), genStale,
-                    LSSConstants.COLUMN_SOURCE_GENERATION, genBytes);
+                    LSSConstants.COLUMN_SOURCE_GENERATION, genBytes,
+                    pending != null ? pending.clientTimestamp() : 0L);
             // LOD-store deposit, generation flavor — same delivery-path choke point,
             // same stale-guard condition (a genStale outcome carries pre-edit bytes and
             // must not populate the store). All-air deposits byte[0] so a warm all-air
@@ -1698,6 +2005,11 @@ public abstract class OffThreadProcessor<PlayerState extends AbstractPlayerReque
         return s != null ? s.diagnostics() : this.storeDiagnostics;
     }
 
+    /** The column-framing counter family (see {@link ColumnFramingDiagnostics}). */
+    public ColumnFramingDiagnostics getFramingDiagnostics() {
+        return this.framingDiagnostics;
+    }
+
     /**
      * Attach the wire codec for compressed column shipping (protocol 19,
      * useCompressedColumns). Null (never attached) means every session ships raw —
@@ -1715,6 +2027,35 @@ public abstract class OffThreadProcessor<PlayerState extends AbstractPlayerReque
         return this.wireCodec;
     }
 
+    /**
+     * Attach the {@code ColumnDictionary} codec (useColumnDictionary, on top of a live
+     * wire codec). Null (never attached) means no session is offered codec-2 frames.
+     * Same lifecycle as {@link #attachWireCodec}.
+     */
+    public final void attachWireDictionaryCodec(dev.vox.lss.common.store.StoreCodec codec) {
+        this.wireDictionaryCodec = codec;
+    }
+
+    /** The attached dictionary codec, or null while dictionary frames are off. */
+    protected final dev.vox.lss.common.store.StoreCodec wireDictionaryCodec() {
+        return this.wireDictionaryCodec;
+    }
+
+    /** True when a dictionary codec is attached — the server-side term of every
+     *  session's {@code wantsDictionaryColumns} derivation at registration. */
+    public final boolean dictionaryFramesLive() {
+        return this.wireDictionaryCodec != null;
+    }
+
+    /**
+     * Attach {@code shards} prepare workers (processingPrepareShards, resolved). Fewer than
+     * two keeps the prepare on the processing thread — a single worker would only add a
+     * hand-off. Must happen before {@link #start()}.
+     */
+    public final void attachPrepareShards(int shards) {
+        if (shards >= 2) this.prepareShards = new ColumnPrepareShards(shards);
+    }
+
     /** Attach the LOD store (lodStore != off). Must happen before {@link #start()}. */
     public void attachStore(dev.vox.lss.common.store.LodStoreService store) {
         this.store = store;
@@ -1785,8 +2126,10 @@ public abstract class OffThreadProcessor<PlayerState extends AbstractPlayerReque
             // lets a queued-but-not-started drain no-op instead of spending part of the
             // SHUTDOWN_JOIN_MS window writing a stale full file first. (A drain already
             // RUNNING finishes before the submit below — same FIFO executor.)
+            // Compacting: the full base holds whatever a discarded delta carried, and the
+            // next boot reads no journal.
             this.saveScheduler.discardPending();
-            var snapshot = this.timestampCache.snapshotForSave();
+            var snapshot = this.timestampCache.snapshotForSave(true);
             try {
                 this.saveExecutor.submit(() -> snapshot.save(this.dataDir))
                         .get(SHUTDOWN_JOIN_MS, TimeUnit.MILLISECONDS);
@@ -1798,5 +2141,7 @@ public abstract class OffThreadProcessor<PlayerState extends AbstractPlayerReque
         // Stop the save thread (graceful: any queued periodic save still runs) so it cannot
         // outlive the server run and pin the Paper plugin classloader across a /reload.
         this.saveExecutor.shutdown();
+        var shards = this.prepareShards;
+        if (shards != null) shards.shutdown();
     }
 }
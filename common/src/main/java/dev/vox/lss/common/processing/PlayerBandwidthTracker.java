@@ -66,8 +66,13 @@ public class PlayerBandwidthTracker {
     }
 
     public void recordSend(int bytes) {
+        recordSend(bytes, 1);
+    }
+
+    /** One payload carrying {@code columns} columns (a packed-columns frame). */
+    public void recordSend(int bytes, int columns) {
         this.availableTokens -= bytes; // may go negative — debt, paid down by the refill
-        this.totalSectionsSent++;
+        this.totalSectionsSent += columns;
         this.totalBytesSent += bytes;
     }
 
@@ -0,0 +1,47 @@
+package dev.vox.lss.common.processing;
+
+import dev.vox.lss.common.Brand;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Worker pool for the serialize half of the loaded-chunk probe. The server thread takes a
+ * cheap copy of the column (section palettes and light layers — the platform serializer's
+ * snapshot) and hands the expensive half — {@code section.write}, the v20 translation, and
+ * any xray masking — to {@link #submit}, which returns a
+ * {@linkplain LoadedColumnData#deferred deferred} column for the tick snapshot. The
+ * processing thread waits on it when routing reaches the position.
+ *
+ * <p>Serialize bodies must contain their own failures and return null for "no probe"
+ * (the probe-path containment moves onto the worker with the work). A submit that races
+ * {@link #shutdown} runs the body inline, so a probe is never silently lost.
+ */
+public final class ProbeSerializerPool {
+    private final ExecutorService workers;
+
+    public ProbeSerializerPool(int threads) {
+        var index = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, Brand.shortName() + "-ProbeSerialize-" + index.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** Serialize {@code body} on a worker; the returned column resolves to its result. */
+    public LoadedColumnData submit(int cx, int cz, Supplier<LoadedColumnData> body) {
+        try {
+            return LoadedColumnData.deferred(cx, cz, this.workers.submit(body::get));
+        } catch (RejectedExecutionException e) {
+            return body.get();
+        }
+    }
+
+    public void shutdown() {
+        this.workers.shutdown();
+    }
+}
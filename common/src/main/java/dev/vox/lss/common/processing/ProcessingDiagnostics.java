@@ -37,6 +37,15 @@ public class ProcessingDiagnostics {
     // cols_zstd + cols_raw == columns built; both zero pre-capability / config-off.
     private volatile long totalColumnsCompressed;
     private volatile long totalColumnsRaw;
+    // Cycle timing: the last cycle's wall time, the worst seen, and the prepare shards'
+    // busy time during the last cycle's drain (one entry per shard; empty when the drain
+    // prepared inline). The array is replaced, never mutated, so a reader sees one cycle.
+    private volatile long lastCycleNanos;
+    private volatile long maxCycleNanos;
+    private volatile long[] lastShardPrepareNanos = NO_SHARDS;
+    private volatile long totalColumnsPrepared;
+
+    private static final long[] NO_SHARDS = new long[0];
 
     public void resetTickCounters() {
         procTickDiskQueued = 0;
@@ -45,6 +54,7 @@ public class ProcessingDiagnostics {
         procTickInMemory = 0;
         procTickSkippedDuplicate = 0;
         procTickUpToDate = 0;
+        lastShardPrepareNanos = NO_SHARDS;
     }
 
     // Per-tick increment methods
@@ -139,6 +149,18 @@ public class ProcessingDiagnostics {
         if (compressed) totalColumnsCompressed++; else totalColumnsRaw++;
     }
 
+    /** Wall time of one completed processing cycle. */
+    public void recordCycleNanos(long nanos) {
+        lastCycleNanos = nanos;
+        if (nanos > maxCycleNanos) maxCycleNanos = nanos;
+    }
+
+    /** One sharded drain prepare: each shard's busy time and the columns it prepared. */
+    public void recordShardPrepare(long[] shardNanos, int columns) {
+        lastShardPrepareNanos = shardNanos;
+        totalColumnsPrepared += columns;
+    }
+
     // Per-tick getters (read by main thread)
     public int getLastDiskQueued() { return procTickDiskQueued; }
     public int getLastDiskDrained() { return procTickDiskDrained; }
@@ -163,4 +185,9 @@ public class ProcessingDiagnostics {
     public long getTotalGenCompletionInversions() { return totalGenCompletionInversions; }
     public long getTotalColumnsCompressed() { return totalColumnsCompressed; }
     public long getTotalColumnsRaw() { return totalColumnsRaw; }
+    public long getLastCycleNanos() { return lastCycleNanos; }
+    public long getMaxCycleNanos() { return maxCycleNanos; }
+    /** Per-shard prepare busy time of the last cycle — a copy; empty when inline. */
+    public long[] getLastShardPrepareNanos() { return lastShardPrepareNanos.clone(); }
+    public long getTotalColumnsPrepared() { return totalColumnsPrepared; }
 }
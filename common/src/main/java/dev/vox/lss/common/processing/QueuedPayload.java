@@ -1,5 +1,7 @@
 package dev.vox.lss.common.processing;
 
+import dev.vox.lss.common.LSSConstants;
+
 /**
  * A ready-to-send column payload queued for the main-thread flush, ordered by submission
  * sequence. Generic over the platform payload type (Fabric: CustomPacketPayload,
@@ -16,17 +18,40 @@ package dev.vox.lss.common.processing;
  * bounds client decode/ingest WORK, which scales with raw bytes — design §5).
  * {@code wireBytes} is the SHIPPED size (frame or raw + envelope estimate) — the
  * {@code wire_bytes} diagnostics counter's input, counted at send success.
+ *
+ * <p>{@code packMembers} is null for a single column. A packed-columns payload
+ * ({@link LSSConstants#CAPABILITY_PACKED_COLUMNS}) lists every member position there —
+ * the send, drop and prune bookkeeping runs once per member — and carries the members'
+ * summed estimates; {@code packedPos} is then its first member.
  */
 public record QueuedPayload<T>(T payload, int estimatedBytes, int wireBytes,
-                               long submissionOrder, long packedPos)
+                               long submissionOrder, long packedPos, long[] packMembers)
         implements Comparable<QueuedPayload<T>> {
 
+    /** A single column. */
+    public QueuedPayload(T payload, int estimatedBytes, int wireBytes,
+                         long submissionOrder, long packedPos) {
+        this(payload, estimatedBytes, wireBytes, submissionOrder, packedPos, null);
+    }
+
     /** Pre-compression shape (wireBytes == estimatedBytes) — raw-shipping call sites
      *  and the existing test rigs. */
     public QueuedPayload(T payload, int estimatedBytes, long submissionOrder, long packedPos) {
         this(payload, estimatedBytes, estimatedBytes, submissionOrder, packedPos);
     }
 
+    /** A packed-columns payload carrying the columns at {@code members}. */
+    public static <T> QueuedPayload<T> ofPack(T payload, int estimatedBytes, int wireBytes,
+                                              long submissionOrder, long[] members) {
+        return new QueuedPayload<>(payload, estimatedBytes, wireBytes, submissionOrder,
+                members[0], members);
+    }
+
+    /** Columns this payload carries: the members of a pack, else 1. */
+    public int columnCount() {
+        return this.packMembers == null ? 1 : this.packMembers.length;
+    }
+
     @Override
     public int compareTo(QueuedPayload<T> other) {
         return Long.compare(this.submissionOrder, other.submissionOrder);
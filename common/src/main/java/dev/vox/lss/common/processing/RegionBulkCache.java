@@ -0,0 +1,180 @@
+package dev.vox.lss.common.processing;
+
+import dev.vox.lss.common.LSSConstants;
+import dev.vox.lss.common.region.RegionFileBulkReader;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The reader's dense cold-join rung: decides WHEN a region is worth reading whole and
+ * holds the resulting images while their slices are consumed. The router's reads are
+ * the signal — a region drawing {@link LSSConstants#BULK_REGION_MIN_SUBMITS} reads
+ * within {@link LSSConstants#BULK_REGION_WINDOW_MS} is a want-set covering most of it
+ * (a join or a teleport over cold terrain), and one whole-file read replaces the hundreds
+ * of per-record seeks still queued behind it.
+ *
+ * <p>Each slot is served AT MOST ONCE per image and only while its live location word
+ * still equals the one the image was read under: a save after the bulk read moves the
+ * record (vanilla allocates before it frees), so a mismatch falls back to the per-chunk
+ * read, and a re-request after the dirty broadcast always reads fresh. Images expire
+ * after {@link LSSConstants#BULK_REGION_TTL_MS}, are dropped once fully consumed, and are
+ * bounded by {@link LSSConstants#BULK_REGION_CACHE_BYTES} oldest-first.
+ *
+ * <p>Regions are keyed by an identity-stable {@code scope} naming the dimension — the
+ * reader passes its per-dimension region storage, so the executor-side read needs no
+ * dimension string. Threading: the per-dimension IO executors; every method is a short
+ * monitor, and the whole-file read itself happens outside it, on the caller.
+ */
+public final class RegionBulkCache {
+
+    private record Key(Object scope, int rx, int rz) {}
+
+    private static final class Density {
+        long windowStartMillis;
+        int submits;
+        boolean armed;
+        boolean loading;
+    }
+
+    private static final class Image {
+        final RegionFileBulkReader.RegionRecords records;
+        final long loadedMillis;
+        final boolean[] taken = new boolean[1024];
+        int remaining;
+
+        Image(RegionFileBulkReader.RegionRecords records, long loadedMillis) {
+            this.records = records;
+            this.loadedMillis = loadedMillis;
+            this.remaining = records.recordCount();
+        }
+    }
+
+    /** A served slice: the still-compressed record payload + its version byte. */
+    public record Slice(byte[] payload, byte version) {}
+
+    private final int minSubmits;
+    private final long windowMillis;
+    private final long ttlMillis;
+    private final long budgetBytes;
+    private final HashMap<Key, Density> density = new HashMap<>();
+    private final LinkedHashMap<Key, Image> images = new LinkedHashMap<>();
+    private long retainedBytes;
+
+    public RegionBulkCache() {
+        this(LSSConstants.BULK_REGION_MIN_SUBMITS, LSSConstants.BULK_REGION_WINDOW_MS,
+                LSSConstants.BULK_REGION_TTL_MS, LSSConstants.BULK_REGION_CACHE_BYTES);
+    }
+
+    RegionBulkCache(int minSubmits, long windowMillis, long ttlMillis, long budgetBytes) {
+        this.minSubmits = minSubmits;
+        this.windowMillis = windowMillis;
+        this.ttlMillis = ttlMillis;
+        this.budgetBytes = budgetBytes;
+    }
+
+    /** Counts one disk read for the chunk's region. */
+    public synchronized void noteSubmit(Object scope, int cx, int cz, long nowMillis) {
+        var key = new Key(scope, cx >> 5, cz >> 5);
+        var d = this.density.get(key);
+        if (d == null) {
+            if (this.density.size() >= 1024) pruneDensity(nowMillis);
+            d = new Density();
+            d.windowStartMillis = nowMillis;
+            this.density.put(key, d);
+        } else if (nowMillis - d.windowStartMillis > this.windowMillis) {
+            d.windowStartMillis = nowMillis;
+            d.submits = 0;
+        }
+        if (++d.submits >= this.minSubmits && !d.loading && !this.images.containsKey(key)) {
+            d.armed = true;
+        }
+    }
+
+    /** True when the region is dense enough to read whole and holds no live image. The
+     *  arming is consumed — one caller loads; the rest keep reading per chunk until the
+     *  image lands in {@link #put}. */
+    public synchronized boolean claimLoad(Object scope, int rx, int rz) {
+        var d = this.density.get(new Key(scope, rx, rz));
+        if (d == null || !d.armed) return false;
+        d.armed = false;
+        d.loading = true;
+        d.submits = 0; // the next image needs a fresh window's worth of demand
+        return true;
+    }
+
+    /** Publishes a freshly read region image, ending the {@link #claimLoad} (null = the
+     *  read declined or failed; nothing kept, the region may re-arm). */
+    public synchronized void put(Object scope, int rx, int rz,
+                                 RegionFileBulkReader.RegionRecords records, long nowMillis) {
+        var key = new Key(scope, rx, rz);
+        var d = this.density.get(key);
+        if (d != null) d.loading = false;
+        if (records == null || records.fileBytes() > this.budgetBytes) return;
+        var old = this.images.remove(key);
+        if (old != null) this.retainedBytes -= old.records.fileBytes();
+        this.images.put(key, new Image(records, nowMillis));
+        this.retainedBytes += records.fileBytes();
+        var it = this.images.values().iterator();
+        while (this.retainedBytes > this.budgetBytes && it.hasNext()) {
+            this.retainedBytes -= it.next().records.fileBytes();
+            it.remove();
+        }
+    }
+
+    /**
+     * The chunk's slice from a live image, or null (no image, expired, already served,
+     * no clean record, or the slot moved since the image was read — {@code liveLocation}
+     * is the region file's CURRENT location word for the chunk). Null always means "read
+     * this chunk the normal way", never "absent".
+     */
+    public synchronized Slice take(Object scope, int cx, int cz, int liveLocation,
+                                   long nowMillis) {
+        if (this.images.isEmpty()) return null;
+        var key = new Key(scope, cx >> 5, cz >> 5);
+        var image = this.images.get(key);
+        if (image == null) return null;
+        if (nowMillis - image.loadedMillis > this.ttlMillis) {
+            drop(key, image);
+            return null;
+        }
+        int slot = ((cz & 31) << 5) | (cx & 31);
+        var records = image.records;
+        if (image.taken[slot] || !records.hasRecord(slot)) return null;
+        image.taken[slot] = true;
+        if (--image.remaining == 0) drop(key, image);
+        if (records.location(slot) != liveLocation) return null;
+        return new Slice(records.payload(slot), records.version(slot));
+    }
+
+    /** Region images currently retained (diagnostics/tests). */
+    public synchronized int imageCount() {
+        return this.images.size();
+    }
+
+    public synchronized long retainedBytes() {
+        return this.retainedBytes;
+    }
+
+    public synchronized void clear() {
+        this.images.clear();
+        this.density.clear();
+        this.retainedBytes = 0;
+    }
+
+    private void drop(Key key, Image image) {
+        this.images.remove(key);
+        this.retainedBytes -= image.records.fileBytes();
+    }
+
+    private void pruneDensity(long nowMillis) {
+        for (Iterator<Map.Entry<Key, Density>> it = this.density.entrySet().iterator(); it.hasNext(); ) {
+            var d = it.next().getValue();
+            if (!d.armed && !d.loading && nowMillis - d.windowStartMillis > this.windowMillis) {
+                it.remove();
+            }
+        }
+    }
+}
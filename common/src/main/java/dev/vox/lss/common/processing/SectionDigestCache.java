@@ -0,0 +1,75 @@
+package dev.vox.lss.common.processing;
+
+import dev.vox.lss.common.wire.SectionDelta;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The delta re-serve base table: per position, the section digests of the column
+ * version last served at a given column timestamp. A client re-asking with that
+ * timestamp holds exactly those sections, so the serve can ship only the sections
+ * whose digest changed ({@link SectionDelta}).
+ *
+ * <p>Keyed by CONTENT (position + timestamp), not by recipient: any client declaring
+ * the timestamp holds the same bytes, so one entry serves every viewer of a build. A
+ * second, different digest recorded under the SAME timestamp (two edits inside one
+ * stamp second) makes the timestamp ambiguous — the entry is POISONED (a null digest)
+ * until a different timestamp replaces it, so neither version ever serves as a base.
+ *
+ * <p>Bounded LRU per dimension ({@code capacityPerDimension}); entries are ~100-300 B,
+ * so the default bound costs a few MiB per dimension. Single-threaded — processing
+ * thread only, like {@link DedupTracker}.
+ */
+class SectionDigestCache {
+
+    /** {@code digest == null}: a poisoned (ambiguous-timestamp) entry — never a base. */
+    record Entry(long columnTimestamp, SectionDelta.Digest digest) {}
+
+    private final Map<String, Long2ObjectLinkedOpenHashMap<Entry>> byDimension = new HashMap<>();
+    private final int capacityPerDimension;
+
+    SectionDigestCache(int capacityPerDimension) {
+        this.capacityPerDimension = capacityPerDimension;
+    }
+
+    /** The base digest for a client holding {@code clientTimestamp} at this position
+     *  (refreshing its recency), or null when none is known or the stamp is ambiguous. */
+    SectionDelta.Digest baseFor(String dimension, long packed, long clientTimestamp) {
+        var dimMap = this.byDimension.get(dimension);
+        if (dimMap == null) return null;
+        var entry = dimMap.getAndMoveToLast(packed);
+        return entry != null && entry.columnTimestamp() == clientTimestamp ? entry.digest() : null;
+    }
+
+    /** Record the digest served at {@code columnTimestamp} (see the class doc for the
+     *  same-timestamp ambiguity rule). Non-positive timestamps are never bases. */
+    void put(String dimension, long packed, long columnTimestamp, SectionDelta.Digest digest) {
+        if (columnTimestamp <= 0) return;
+        var dimMap = this.byDimension.computeIfAbsent(dimension,
+                k -> new Long2ObjectLinkedOpenHashMap<>());
+        var existing = dimMap.get(packed);
+        if (existing != null && existing.columnTimestamp() == columnTimestamp) {
+            if (existing.digest() != null && !existing.digest().sameContent(digest)) {
+                dimMap.put(packed, new Entry(columnTimestamp, null));
+            }
+            return;
+        }
+        dimMap.putAndMoveToLast(packed, new Entry(columnTimestamp, digest));
+        while (dimMap.size() > this.capacityPerDimension) {
+            dimMap.removeFirst();
+        }
+    }
+
+    /** Total entries across dimensions (diagnostics/tests). */
+    int size() {
+        int total = 0;
+        for (var dimMap : this.byDimension.values()) total += dimMap.size();
+        return total;
+    }
+
+    void clear() {
+        this.byDimension.clear();
+    }
+}
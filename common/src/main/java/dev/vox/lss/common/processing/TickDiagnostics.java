@@ -23,6 +23,9 @@ public class TickDiagnostics {
     private volatile int lastTickQueuePeak;
     private volatile int lastTickSkippedDuplicate;
     private volatile int lastTickUpToDate;
+    private volatile long lastCycleNanos;
+    private volatile long maxCycleNanos;
+    private volatile long[] lastShardPrepareNanos = new long[0];
 
     // Current-tick accumulators (written during tick processing)
     private int curTickSectionsSent;
@@ -71,6 +74,9 @@ public class TickDiagnostics {
         this.lastTickQueuePeak = this.curTickQueuePeak;
         this.lastTickSkippedDuplicate = diag.getLastSkippedDuplicate();
         this.lastTickUpToDate = diag.getLastUpToDate();
+        this.lastCycleNanos = diag.getLastCycleNanos();
+        this.maxCycleNanos = diag.getMaxCycleNanos();
+        this.lastShardPrepareNanos = diag.getLastShardPrepareNanos();
         this.curTickSectionsSent = 0;
         this.curTickBytesFlushed = 0;
         this.curTickQueuePeak = 0;
@@ -93,9 +99,15 @@ public class TickDiagnostics {
     }
 
     public void recordSectionSent(int estimatedBytes) {
-        this.curTickSectionsSent++;
+        recordSectionsSent(1, estimatedBytes);
+    }
+
+    /** {@code columns} columns sent in one payload (a packed-columns frame) — the section
+     *  counts stay per column, whatever carried them. */
+    public void recordSectionsSent(int columns, int estimatedBytes) {
+        this.curTickSectionsSent += columns;
         this.curTickBytesFlushed += estimatedBytes;
-        this.totalSectionsSent++;
+        this.totalSectionsSent += columns;
         this.totalBytesSent += estimatedBytes;
     }
 
@@ -153,10 +165,23 @@ public class TickDiagnostics {
     }
 
     public String formatSummary(long bwRate, long maxBytesPerSecondGlobal) {
-        return String.format("sent=%d/tick, disk=%d/%d, utd=%d, bw=%s/%s",
+        return String.format("sent=%d/tick, disk=%d/%d, utd=%d, bw=%s/%s, cycle=%.1f/%.1fms%s",
                 lastTickSectionsSent, lastTickDiskDrained, lastTickDiskQueued,
                 lastTickUpToDate,
-                DiagnosticsFormatter.formatBytes(bwRate), DiagnosticsFormatter.formatBytes(maxBytesPerSecondGlobal));
+                DiagnosticsFormatter.formatBytes(bwRate), DiagnosticsFormatter.formatBytes(maxBytesPerSecondGlobal),
+                lastCycleNanos / 1e6, maxCycleNanos / 1e6, formatShardPrepare(lastShardPrepareNanos));
+    }
+
+    /** ", shards=a/b/c ms" — each prepare shard's busy time in the last cycle; "" when the
+     *  drain prepared inline (no shards, or a batch too small to hand off). */
+    static String formatShardPrepare(long[] shardNanos) {
+        if (shardNanos.length == 0) return "";
+        var sb = new StringBuilder(", shards=");
+        for (int i = 0; i < shardNanos.length; i++) {
+            if (i > 0) sb.append('/');
+            sb.append(String.format("%.1f", shardNanos[i] / 1e6));
+        }
+        return sb.append("ms").toString();
     }
 
 }
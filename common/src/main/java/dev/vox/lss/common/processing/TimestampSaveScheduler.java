@@ -23,6 +23,10 @@ import java.util.concurrent.atomic.AtomicReference;
  * philosophy as the want-set's supersession. Worst-case retention is one snapshot being
  * written plus one in the slot, no matter how slow the disk is.
  *
+ * <p>Journal deltas cannot simply be dropped — a superseded delta's tiles would never
+ * reach the journal — so a newer snapshot first {@linkplain ColumnTimestampCache#absorbOlder
+ * absorbs} the one it replaces. A full snapshot supersedes outright, as before.
+ *
  * <p>The executor must be the processor's single-threaded FIFO save executor: a
  * multi-threaded executor could run two drains concurrently and publish an older snapshot's
  * atomic rename after a newer one's. That guarantee is per-instance — cross-instance
@@ -54,7 +58,14 @@ final class TimestampSaveScheduler {
      * queue depth is bounded regardless of how slow saves are.
      */
     void schedule(ColumnTimestampCache snapshot) {
-        if (this.pending.getAndSet(snapshot) == null) {
+        ColumnTimestampCache previous;
+        do {
+            previous = this.pending.get();
+            // Mutates only the unpublished snapshot; on a lost race (the drain took
+            // `previous`) the absorbed tiles are merely written twice, in order.
+            if (previous != null) snapshot.absorbOlder(previous);
+        } while (!this.pending.compareAndSet(previous, snapshot));
+        if (previous == null) {
             try {
                 this.saveExecutor.execute(this::drain);
             } catch (RejectedExecutionException e) {
@@ -0,0 +1,54 @@
+package dev.vox.lss.common.processing;
+
+import dev.vox.lss.common.wire.WantSetWire;
+import dev.vox.lss.common.wire.WireFormatException;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The server half of compact want-sets ({@link WantSetWire}): each session's last
+ * declaration, the base its next diff applies to. Connection-scoped like
+ * {@code WireDialectTracker} — dropped at the network DISCONNECT hooks, never by the
+ * dimension-change remove+register cycle, because the client's encoder does not reset
+ * there and would otherwise ship diffs against a base the server forgot.
+ *
+ * <p>Thread-safe; frames of one session arrive on one thread (Fabric/NeoForge main,
+ * Paper messenger or region thread), so a per-session read-then-write needs no lock.
+ */
+public final class WantSetReceiver {
+
+    private final Map<UUID, WantSetWire.Declaration> held = new ConcurrentHashMap<>();
+    private final AtomicLong staleDiffs = new AtomicLong();
+
+    /**
+     * Decode {@code body} against the session's held declaration and hold the result.
+     * Null for a diff against a declaration this session does not hold (counted; the
+     * client's next whole frame heals it). Throws {@link WireFormatException} for a
+     * malformed frame, leaving the held base untouched.
+     */
+    public WantSetWire.Declaration accept(UUID uuid, byte[] body) {
+        var declaration = WantSetWire.decode(body, this.held.get(uuid));
+        if (declaration == null) {
+            this.staleDiffs.incrementAndGet();
+            return null;
+        }
+        this.held.put(uuid, declaration);
+        return declaration;
+    }
+
+    public void onDisconnect(UUID uuid) {
+        this.held.remove(uuid);
+    }
+
+    /** Diffs dropped for want of their base, this service lifetime. */
+    public long staleDiffs() {
+        return this.staleDiffs.get();
+    }
+
+    public int sessionCount() {
+        return this.held.size();
+    }
+}
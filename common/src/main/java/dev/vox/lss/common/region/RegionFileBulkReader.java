@@ -0,0 +1,214 @@
+package dev.vox.lss.common.region;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Whole-region ingestion: ONE positional read of an entire {@code .mca}, then every
+ * record sliced out of that buffer. Region files are sector-laid-out, so a region that is
+ * mostly wanted costs one sequential read instead of up to 1024 seeks — the store
+ * backfill's per-region walk and the reader's dense cold-join rung both come through here.
+ * Inflate + transcode stay with the caller (its own pool/thread): this class only moves
+ * bytes.
+ *
+ * <p><b>Only clean internal records are served.</b> Every shape the per-chunk path treats
+ * specially — an external ({@code .mcc}) stream, a zero-length or truncated record, a
+ * location pointing past the end of the file — is reported as {@link RegionRecords#needsFallback
+ * needsFallback}, and the caller reads that ONE chunk through its authoritative per-chunk
+ * path (which mirrors vanilla's resolution, warn throttle included). The bulk view never
+ * decides a chunk is absent when the header says it is present.
+ *
+ * <p>The caller owns consistency with concurrent saves: the backfill stamps acquisition
+ * before the read (a save racing the read is sweep-visible) and reads through
+ * {@link #readSettled}, and the reader's rung reads under the region file's monitor on the
+ * IO executor and re-checks each slot's live location before serving a slice
+ * ({@link RegionRecords#location}).
+ */
+public final class RegionFileBulkReader {
+    private RegionFileBulkReader() {}
+
+    public static final int SECTOR_BYTES = 4096;
+    static final int SLOTS = RegionHeaderCache.SLOTS;
+    static final int HEADER_BYTES = RegionHeaderCache.HEADER_BYTES;
+    /** Vanilla's record header: a 4-byte length (version byte included) + the version. */
+    static final int RECORD_HEADER_BYTES = 5;
+    /** Vanilla's external-stream flag on the version byte. */
+    static final int EXTERNAL_FLAG = 0x80;
+    /** Largest file read whole. Past it the bulk rung declines and callers stay per-chunk:
+     *  a typical region is 1-20 MB, and an outsized one (a giant-NBT modded world) is
+     *  exactly where pinning the whole file on the heap is the wrong trade. */
+    public static final long MAX_BULK_FILE_BYTES = 64L << 20;
+
+    /** Reads {@code mca} whole. Null = missing, shorter than its header, or over
+     *  {@link #MAX_BULK_FILE_BYTES} — the caller falls back to per-chunk reads. */
+    public static RegionRecords read(Path mca) throws IOException {
+        try (var channel = FileChannel.open(mca, StandardOpenOption.READ)) {
+            return read(channel);
+        } catch (java.nio.file.NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * {@link #read(Path)} for a file a live server may be saving into without its lock (the
+     * online backfill). The image is not atomic: a chunk relocated mid-read frees sectors
+     * another chunk's save can reuse before those bytes are read. So the location table is
+     * read again afterwards, and every slot whose word moved demotes to needsFallback.
+     * Vanilla writes a record's new sectors before publishing its word and frees the old
+     * ones after, so an unmoved word's slice is the record it names.
+     */
+    public static RegionRecords readSettled(Path mca) throws IOException {
+        try (var channel = FileChannel.open(mca, StandardOpenOption.READ)) {
+            var records = read(channel);
+            if (records == null) return null;
+            var table = ByteBuffer.allocate(SLOTS * 4);
+            while (table.hasRemaining()) {
+                if (channel.read(table, table.position()) < 0) return null;
+            }
+            records.demoteMoved(table.flip());
+            return records;
+        } catch (java.nio.file.NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /** Reads an already-open region channel whole (positional — the channel's own
+     *  position is untouched, so a shared handle stays safe). Null as {@link #read(Path)}. */
+    public static RegionRecords read(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size < HEADER_BYTES || size > MAX_BULK_FILE_BYTES) return null;
+        byte[] file = new byte[(int) size];
+        var buf = ByteBuffer.wrap(file);
+        // One logical read; the loop only absorbs short returns. A file that shrank
+        // under us keeps what was read — slots past the end resolve needsFallback.
+        while (buf.hasRemaining()) {
+            if (channel.read(buf, buf.position()) < 0) break;
+        }
+        return parse(file, buf.position());
+    }
+
+    /** Slices a whole-file image ({@code length} valid bytes). Null if the header is cut. */
+    public static RegionRecords parse(byte[] file, int length) {
+        if (length < HEADER_BYTES) return null;
+        var view = ByteBuffer.wrap(file, 0, length);
+        int[] locations = new int[SLOTS];
+        int[] offsets = new int[SLOTS];
+        int[] lengths = new int[SLOTS];
+        byte[] versions = new byte[SLOTS];
+        byte[] state = new byte[SLOTS];
+        int records = 0;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            int location = view.getInt(slot * 4);
+            locations[slot] = location;
+            if (location == 0) continue;
+            long start = (long) (location >>> 8) * SECTOR_BYTES;
+            long sectors = location & 0xFF;
+            if (start < HEADER_BYTES || start + RECORD_HEADER_BYTES > length) {
+                state[slot] = RegionRecords.FALLBACK;
+                continue;
+            }
+            int declared = view.getInt((int) start);
+            byte version = view.get((int) start + 4);
+            int payload = declared - 1;
+            if (declared <= 0 || (version & EXTERNAL_FLAG) != 0
+                    || payload > sectors * SECTOR_BYTES - RECORD_HEADER_BYTES
+                    || start + RECORD_HEADER_BYTES + payload > length) {
+                state[slot] = RegionRecords.FALLBACK;
+                continue;
+            }
+            offsets[slot] = (int) start + RECORD_HEADER_BYTES;
+            lengths[slot] = payload;
+            versions[slot] = version;
+            state[slot] = RegionRecords.PRESENT;
+            records++;
+        }
+        return new RegionRecords(file, length, locations, offsets, lengths, versions, state, records);
+    }
+
+    /**
+     * One region's sliced records, indexed by the z-major slot ({@code (cz & 31) << 5 |
+     * (cx & 31)}). Slices are copied out on demand; the file image is held until the
+     * instance is dropped, so holders bound their retention (the reader's cache is
+     * byte-budgeted, the backfill holds one region at a time).
+     */
+    public static final class RegionRecords {
+        static final byte ABSENT = 0;
+        static final byte PRESENT = 1;
+        static final byte FALLBACK = 2;
+
+        private final byte[] file;
+        private final int fileBytes;
+        private final int[] locations;
+        private final int[] offsets;
+        private final int[] lengths;
+        private final byte[] versions;
+        private final byte[] state;
+        private int recordCount;
+
+        RegionRecords(byte[] file, int fileBytes, int[] locations, int[] offsets, int[] lengths,
+                      byte[] versions, byte[] state, int recordCount) {
+            this.file = file;
+            this.fileBytes = fileBytes;
+            this.locations = locations;
+            this.offsets = offsets;
+            this.lengths = lengths;
+            this.versions = versions;
+            this.state = state;
+            this.recordCount = recordCount;
+        }
+
+        /** Demotes every slot whose word in {@code liveTable} (a location table as read
+         *  from offset 0) differs from the image's to needsFallback. Returns the count. */
+        int demoteMoved(ByteBuffer liveTable) {
+            int moved = 0;
+            for (int slot = 0; slot < SLOTS; slot++) {
+                if (liveTable.getInt(slot * 4) == this.locations[slot]) continue;
+                if (this.state[slot] == PRESENT) this.recordCount--;
+                this.state[slot] = FALLBACK;
+                moved++;
+            }
+            return moved;
+        }
+
+        /** The slot's raw location word as read (offset &lt;&lt; 8 | sectors; 0 = absent). */
+        public int location(int slot) {
+            return this.locations[slot];
+        }
+
+        /** True when the slot carries a clean internal record this view can serve. */
+        public boolean hasRecord(int slot) {
+            return this.state[slot] == PRESENT;
+        }
+
+        /** True when the header names the slot but this view cannot serve it (external
+         *  stream or a malformed record): read it through the per-chunk path. */
+        public boolean needsFallback(int slot) {
+            return this.state[slot] == FALLBACK;
+        }
+
+        /** The slot's still-compressed payload (a fresh copy), or null without a record. */
+        public byte[] payload(int slot) {
+            if (this.state[slot] != PRESENT) return null;
+            int from = this.offsets[slot];
+            return java.util.Arrays.copyOfRange(this.file, from, from + this.lengths[slot]);
+        }
+
+        /** The slot's compression/version byte (meaningful only where {@link #hasRecord}). */
+        public byte version(int slot) {
+            return this.versions[slot];
+        }
+
+        /** Clean internal records in this region. */
+        public int recordCount() {
+            return this.recordCount;
+        }
+
+        /** Bytes read from disk for this region (the whole-file image). */
+        public int fileBytes() {
+            return this.fileBytes;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package dev.vox.lss.common.region;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One shared reader for region-file headers (the first 8 KiB of an {@code .mca}: the
+ * 1024-slot location table, then the 1024-slot save-second table). The store's startup
+ * sweep, the freshness stamp table, and the store backfill each used to open and read the
+ * same header independently; all three now come through here, so a region examined by one
+ * is a cache hit for the next — one stat and zero header reads while its mtime holds.
+ *
+ * <p>Entries are keyed by path and validated by mtime. An entry is only kept when its
+ * mtime was SETTLED at read time (its second strictly before the current second) — the
+ * store sweep's 1 s-granularity rule: a save landing in the same second as the read
+ * would otherwise produce an EQUAL mtime and be hidden behind the cached header forever.
+ * A header read under a stale stat can only be NEWER than its key, and the next stat
+ * misses it — every mismatch re-reads, never serves older bytes.
+ *
+ * <p>Reads go through a per-thread direct buffer (no per-read allocation, no heap-to-native
+ * copy inside the channel), not a mapping: a mapped region file cannot be unmapped
+ * deterministically, and on Windows a live mapping blocks the game's own truncate/replace
+ * of that file. Threading: any thread (the reader pool, the summary sweeper, the store
+ * writer, the backfill walker); the LRU is a short monitor, IO happens outside it.
+ */
+public final class RegionHeaderCache {
+
+    static final int HEADER_BYTES = 8192;
+    static final int LOCATION_BYTES = 4096;
+    static final int SLOTS = 1024;
+    /** Retained headers (≈4.2 KiB each — a presence bitmap plus the second table): ~17 MB,
+     *  enough that a boot's sweep and the backfill plan that follows it share reads. */
+    static final int MAX_CACHED_HEADERS = 4096;
+
+    private static final RegionHeaderCache SHARED = new RegionHeaderCache(MAX_CACHED_HEADERS);
+
+    private static final ThreadLocal<ByteBuffer> READ_BUFFER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(HEADER_BYTES));
+
+    /**
+     * One region's header. {@code saveSeconds} holds the RAW save-second words (u32 as
+     * int), z-major; a slot is meaningful only where {@link #present} holds — location 0
+     * means the chunk is absent from the file. {@code saveSeconds} is null for a file cut
+     * short inside the second table (presence is still known; second-table consumers treat
+     * it as unreadable). Immutable once published: callers must not write into the arrays.
+     */
+    public record RegionHeader(long mtimeMillis, long[] presentBits, int[] saveSeconds) {
+        public boolean present(int slot) {
+            return (this.presentBits[slot >>> 6] & (1L << slot)) != 0;
+        }
+
+        public int presentCount() {
+            int n = 0;
+            for (long word : this.presentBits) n += Long.bitCount(word);
+            return n;
+        }
+    }
+
+    private final int maxEntries;
+    private final LinkedHashMap<Path, RegionHeader> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong reads = new AtomicLong();
+
+    RegionHeaderCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, RegionHeader> eldest) {
+                return size() > RegionHeaderCache.this.maxEntries;
+            }
+        };
+    }
+
+    /** The process-wide cache every header consumer shares. */
+    public static RegionHeaderCache shared() {
+        return SHARED;
+    }
+
+    /** Stat {@code mca} and return its header. Null = missing, unstattable, or shorter than
+     *  the location table. */
+    public RegionHeader read(Path mca) {
+        long mtime;
+        try {
+            mtime = Files.getLastModifiedTime(mca).toMillis();
+        } catch (Exception e) {
+            return null;
+        }
+        return read(mca, mtime);
+    }
+
+    /**
+     * The header of {@code mca} as of a stat the caller already took ({@code mtimeMillis}),
+     * from the cache when that stat still matches. Null = unreadable (no full location
+     * table, IO error).
+     */
+    public RegionHeader read(Path mca, long mtimeMillis) {
+        synchronized (this.entries) {
+            var cached = this.entries.get(mca);
+            if (cached != null && cached.mtimeMillis() == mtimeMillis) {
+                this.hits.incrementAndGet();
+                return cached;
+            }
+        }
+        // The settle test uses the clock BEFORE the read: a save after this instant lands
+        // in this second or later, so it can never carry an mtime equal to a settled key.
+        boolean settled = mtimeMillis / 1000L < System.currentTimeMillis() / 1000L;
+        var header = readHeader(mca, mtimeMillis);
+        this.reads.incrementAndGet();
+        synchronized (this.entries) {
+            if (header != null && settled) {
+                this.entries.put(mca, header);
+            } else {
+                this.entries.remove(mca);
+            }
+        }
+        return header;
+    }
+
+    /** Headers served from memory since start (diagnostics and tests). */
+    public long hits() {
+        return this.hits.get();
+    }
+
+    /** Headers actually read from disk since start (diagnostics and tests). */
+    public long reads() {
+        return this.reads.get();
+    }
+
+    /** The diag store-token slot: {@code " hdr=812h/40r"} — headers served from memory
+     *  over headers read from disk, across every consumer sharing the cache. */
+    public String diagToken() {
+        return " hdr=" + this.hits.get() + "h/" + this.reads.get() + "r";
+    }
+
+    private static RegionHeader readHeader(Path mca, long mtimeMillis) {
+        ByteBuffer buf = READ_BUFFER.get().clear();
+        try (FileChannel ch = FileChannel.open(mca)) {
+            while (buf.hasRemaining()) {
+                if (ch.read(buf, buf.position()) < 0) break;
+            }
+        } catch (Exception e) {
+            return null;
+        }
+        if (buf.position() < LOCATION_BYTES) return null;
+        long[] present = new long[SLOTS / 64];
+        for (int i = 0; i < SLOTS; i++) {
+            if (buf.getInt(i * 4) != 0) present[i >>> 6] |= 1L << i;
+        }
+        int[] seconds = null;
+        if (buf.position() == HEADER_BYTES) {
+            seconds = new int[SLOTS];
+            for (int i = 0; i < SLOTS; i++) seconds[i] = buf.getInt(LOCATION_BYTES + i * 4);
+        }
+        return new RegionHeader(mtimeMillis, present, seconds);
+    }
+}
@@ -3,8 +3,6 @@ package dev.vox.lss.common.region;
 import dev.vox.lss.common.LSSLogger;
 import dev.vox.lss.common.PositionUtil;
 
-import java.nio.ByteBuffer;
-import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.concurrent.ConcurrentHashMap;
@@ -448,7 +446,7 @@ public final class RegionStampTable {
                 entry.statDeadlineNanos = now + STAT_HORIZON_NANOS;
                 return h;
             }
-            NormalizedHeader read = readNormalizedHeader(mca);
+            NormalizedHeader read = readNormalizedHeader(mca, mtime);
             // Publish ORDER (final panel): the new snapshot must land BEFORE the new
             // stat deadline. The lock-free fast path reads (header, deadline) without
             // the monitor — a deadline pushed ahead of setHeader let a concurrent
@@ -555,39 +553,31 @@ public final class RegionStampTable {
      * read as a negative int, tool-damaged headers) become {@link #NEVER_SECOND}, so
      * the compare can only ever fail toward serving. {@code degenerate} marks the
      * garbage-second-on-EXISTING-chunk shape (never plain absence) — the tile stamp's
-     * whole-region poison. Null = unreadable.
+     * whole-region poison. Null = unreadable. The bytes come from the shared
+     * {@link RegionHeaderCache} under the stat just taken — a region the store sweep or
+     * the backfill already read costs no second read here.
      */
-    private static NormalizedHeader readNormalizedHeader(Path mca) {
+    private static NormalizedHeader readNormalizedHeader(Path mca, long mtimeMillis) {
         long nowSec = System.currentTimeMillis() / 1000L;
         long ceiling = nowSec + FUTURE_SKEW_ALLOWANCE_SECONDS;
-        try (FileChannel ch = FileChannel.open(mca)) {
-            ByteBuffer buf = ByteBuffer.allocate(8192);
-            int read = 0;
-            while (read < 8192) {
-                int n = ch.read(buf, read);
-                if (n < 0) return null;
-                read += n;
+        var header = RegionHeaderCache.shared().read(mca, mtimeMillis);
+        if (header == null || header.saveSeconds() == null) return null;
+        int[] stamps = new int[1024];
+        boolean degenerate = false;
+        for (int i = 0; i < 1024; i++) {
+            if (!header.present(i)) {
+                stamps[i] = NEVER_SECOND;
+                continue;
             }
-            int[] stamps = new int[1024];
-            boolean degenerate = false;
-            for (int i = 0; i < 1024; i++) {
-                int loc = buf.getInt(i * 4);
-                if (loc == 0) {
-                    stamps[i] = NEVER_SECOND;
-                    continue;
-                }
-                long sec = buf.getInt(4096 + i * 4) & 0xFFFF_FFFFL;
-                if (sec <= 0 || sec > ceiling) {
-                    stamps[i] = NEVER_SECOND;
-                    degenerate = true;
-                } else {
-                    stamps[i] = (int) sec;
-                }
+            long sec = header.saveSeconds()[i] & 0xFFFF_FFFFL;
+            if (sec <= 0 || sec > ceiling) {
+                stamps[i] = NEVER_SECOND;
+                degenerate = true;
+            } else {
+                stamps[i] = (int) sec;
             }
-            return new NormalizedHeader(stamps, degenerate);
-        } catch (Exception e) {
-            return null;
         }
+        return new NormalizedHeader(stamps, degenerate);
     }
 
     // ---- test seams ----
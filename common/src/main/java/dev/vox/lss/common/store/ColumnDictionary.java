@@ -0,0 +1,193 @@
+package dev.vox.lss.common.store;
+
+import dev.vox.lss.common.LSSConstants;
+import dev.vox.lss.common.wire.WireBytes;
+import dev.vox.lss.common.wire.WireSectionCursor;
+import dev.vox.lss.common.wire.WireSectionCursor.Layout;
+import dev.vox.lss.common.wire.WireSectionCursor.WireColumn;
+import dev.vox.lss.common.wire.WireSectionCursor.WireContainer;
+import dev.vox.lss.common.wire.WireSectionCursor.WireSection;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * The shared zstd column dictionary: a raw-content prefix both ends of a
+ * {@link LSSConstants#COLUMN_CODEC_ZSTD_DICT} frame (and a dictionary store's rows) load,
+ * so a ~5 KB column no longer relearns the same identity strings and section framing in
+ * every frame. Most of a v20 body's redundancy ACROSS columns is its leading identity
+ * dictionary ({@code VarInt len + "minecraft:deepslate[axis=y]"} …) — per frame those
+ * strings are literals; against this prefix they are a handful of back-references.
+ *
+ * <p>Built, not trained at runtime: the content is a deterministic function of
+ * {@link #VERSION} (the common identities in the exact wire framing, plus emitter-shaped
+ * air/stone sections), so a client and server that agree on the version hold
+ * byte-identical dictionaries with nothing to transfer — the handshake carries the
+ * version ({@link #capabilityBits}) and a mismatch simply falls back to plain frames.
+ * Store frames ship verbatim on the wire, which is what rules out per-dimension or
+ * per-server trained dictionaries here: every receiving client would need that exact
+ * dictionary first. ANY content change must bump {@link #VERSION} (the CRC is pinned
+ * by test) — a store records the version in its codec name and rebuilds on change.
+ *
+ * <p>Order matters: zstd reaches the END of a dictionary with the shortest offsets, so
+ * the most frequent identities come last.
+ */
+public final class ColumnDictionary {
+
+    /** Dictionary content generation; rides the handshake capability word. 1..255. */
+    public static final int VERSION = 1;
+
+    private ColumnDictionary() {}
+
+    private static final class Holder {
+        static final byte[] CONTENT = build();
+    }
+
+    /** The dictionary bytes for {@link #VERSION} (shared — callers must not mutate). */
+    static byte[] content() {
+        return Holder.CONTENT;
+    }
+
+    /** CRC32 of the content — the pin that forces a {@link #VERSION} bump on change. */
+    public static long checksum() {
+        var crc = new CRC32();
+        crc.update(Holder.CONTENT);
+        return crc.getValue();
+    }
+
+    /** The handshake bits a client holding this dictionary declares: the capability bit
+     *  plus {@link #VERSION} in the dictionary-version byte. */
+    public static int capabilityBits() {
+        return LSSConstants.CAPABILITY_ZSTD_DICTIONARY
+                | (VERSION << LSSConstants.CAPABILITY_DICTIONARY_VERSION_SHIFT);
+    }
+
+    /** True when {@code capabilities} declares the dictionary AND the same version as
+     *  ours — the whole negotiation (a different version is just "no dictionary"). */
+    public static boolean declaredBy(int capabilities) {
+        return (capabilities & LSSConstants.CAPABILITY_ZSTD_DICTIONARY) != 0
+                && ((capabilities >>> LSSConstants.CAPABILITY_DICTIONARY_VERSION_SHIFT)
+                        & 0xFF) == VERSION;
+    }
+
+    // ---- content ------------------------------------------------------------------
+
+    // Rarest first (see the class doc): biomes, then cave/nether/end blocks, then the
+    // surface and the stone/deepslate/air bulk every overworld column carries.
+    private static final List<String> IDENTITIES = List.of(
+            "minecraft:the_void", "minecraft:small_end_islands", "minecraft:end_barrens",
+            "minecraft:end_midlands", "minecraft:end_highlands", "minecraft:the_end",
+            "minecraft:basalt_deltas", "minecraft:soul_sand_valley",
+            "minecraft:warped_forest", "minecraft:crimson_forest",
+            "minecraft:nether_wastes", "minecraft:mushroom_fields", "minecraft:badlands",
+            "minecraft:eroded_badlands", "minecraft:wooded_badlands",
+            "minecraft:cherry_grove", "minecraft:bamboo_jungle", "minecraft:sparse_jungle",
+            "minecraft:jungle", "minecraft:mangrove_swamp", "minecraft:swamp",
+            "minecraft:savanna_plateau", "minecraft:windswept_savanna", "minecraft:savanna",
+            "minecraft:ice_spikes", "minecraft:snowy_beach", "minecraft:snowy_taiga",
+            "minecraft:snowy_plains", "minecraft:snowy_slopes", "minecraft:frozen_peaks",
+            "minecraft:jagged_peaks", "minecraft:stony_peaks", "minecraft:grove",
+            "minecraft:meadow", "minecraft:windswept_forest",
+            "minecraft:windswept_gravelly_hills", "minecraft:windswept_hills",
+            "minecraft:old_growth_spruce_taiga", "minecraft:old_growth_pine_taiga",
+            "minecraft:old_growth_birch_forest", "minecraft:taiga",
+            "minecraft:flower_forest", "minecraft:sunflower_plains",
+            "minecraft:dark_forest", "minecraft:birch_forest", "minecraft:forest",
+            "minecraft:desert", "minecraft:stony_shore", "minecraft:beach",
+            "minecraft:frozen_river", "minecraft:river", "minecraft:deep_frozen_ocean",
+            "minecraft:frozen_ocean", "minecraft:deep_cold_ocean", "minecraft:cold_ocean",
+            "minecraft:deep_lukewarm_ocean", "minecraft:lukewarm_ocean",
+            "minecraft:warm_ocean", "minecraft:deep_ocean", "minecraft:ocean",
+            "minecraft:deep_dark", "minecraft:lush_caves", "minecraft:dripstone_caves",
+            "minecraft:plains",
+            "minecraft:end_stone", "minecraft:chorus_flower[age=5]",
+            "minecraft:crimson_nylium", "minecraft:warped_nylium",
+            "minecraft:crimson_stem[axis=y]", "minecraft:warped_stem[axis=y]",
+            "minecraft:nether_wart_block", "minecraft:warped_wart_block",
+            "minecraft:shroomlight", "minecraft:glowstone", "minecraft:ancient_debris",
+            "minecraft:nether_gold_ore", "minecraft:nether_quartz_ore",
+            "minecraft:magma_block", "minecraft:blackstone", "minecraft:basalt[axis=y]",
+            "minecraft:soul_soil", "minecraft:soul_sand", "minecraft:netherrack",
+            "minecraft:lava[level=0]",
+            "minecraft:sculk", "minecraft:sculk_vein[down=true,east=false,north=false,"
+                    + "south=false,up=false,waterlogged=false,west=false]",
+            "minecraft:amethyst_block", "minecraft:budding_amethyst",
+            "minecraft:smooth_basalt", "minecraft:calcite", "minecraft:dripstone_block",
+            "minecraft:pointed_dripstone[thickness=tip,vertical_direction=down,"
+                    + "waterlogged=false]",
+            "minecraft:pointed_dripstone[thickness=tip,vertical_direction=up,"
+                    + "waterlogged=false]",
+            "minecraft:moss_block", "minecraft:moss_carpet", "minecraft:clay",
+            "minecraft:glow_lichen[down=false,east=false,north=false,south=false,"
+                    + "up=true,waterlogged=false,west=false]",
+            "minecraft:raw_iron_block", "minecraft:raw_copper_block",
+            "minecraft:emerald_ore", "minecraft:diamond_ore", "minecraft:lapis_ore",
+            "minecraft:gold_ore", "minecraft:redstone_ore[lit=false]",
+            "minecraft:deepslate_emerald_ore", "minecraft:deepslate_diamond_ore",
+            "minecraft:deepslate_lapis_ore", "minecraft:deepslate_gold_ore",
+            "minecraft:deepslate_redstone_ore[lit=false]",
+            "minecraft:deepslate_copper_ore", "minecraft:deepslate_iron_ore",
+            "minecraft:deepslate_coal_ore", "minecraft:copper_ore", "minecraft:iron_ore",
+            "minecraft:coal_ore", "minecraft:infested_stone", "minecraft:obsidian",
+            "minecraft:mud", "minecraft:mangrove_roots[waterlogged=false]",
+            "minecraft:cherry_log[axis=y]", "minecraft:mangrove_log[axis=y]",
+            "minecraft:acacia_log[axis=y]", "minecraft:jungle_log[axis=y]",
+            "minecraft:dark_oak_log[axis=y]", "minecraft:birch_log[axis=y]",
+            "minecraft:spruce_log[axis=y]", "minecraft:oak_log[axis=y]",
+            "minecraft:jungle_leaves[distance=1,persistent=false,waterlogged=false]",
+            "minecraft:acacia_leaves[distance=1,persistent=false,waterlogged=false]",
+            "minecraft:dark_oak_leaves[distance=1,persistent=false,waterlogged=false]",
+            "minecraft:birch_leaves[distance=1,persistent=false,waterlogged=false]",
+            "minecraft:spruce_leaves[distance=1,persistent=false,waterlogged=false]",
+            "minecraft:oak_leaves[distance=3,persistent=false,waterlogged=false]",
+            "minecraft:oak_leaves[distance=2,persistent=false,waterlogged=false]",
+            "minecraft:oak_leaves[distance=1,persistent=false,waterlogged=false]",
+            "minecraft:vine[east=false,north=false,south=false,up=false,west=true]",
+            "minecraft:vine[east=true,north=false,south=false,up=false,west=false]",
+            "minecraft:cactus[age=0]", "minecraft:sugar_cane[age=0]",
+            "minecraft:dead_bush", "minecraft:lily_pad", "minecraft:pumpkin",
+            "minecraft:sweet_berry_bush[age=3]", "minecraft:brown_mushroom",
+            "minecraft:red_mushroom", "minecraft:azure_bluet", "minecraft:oxeye_daisy",
+            "minecraft:cornflower", "minecraft:poppy", "minecraft:dandelion",
+            "minecraft:large_fern[half=upper]", "minecraft:large_fern[half=lower]",
+            "minecraft:fern", "minecraft:tall_grass[half=upper]",
+            "minecraft:tall_grass[half=lower]", "minecraft:short_grass",
+            "minecraft:kelp[age=25]", "minecraft:kelp_plant",
+            "minecraft:tall_seagrass[half=upper]", "minecraft:tall_seagrass[half=lower]",
+            "minecraft:seagrass", "minecraft:blue_ice", "minecraft:packed_ice",
+            "minecraft:ice", "minecraft:powder_snow", "minecraft:snow_block",
+            "minecraft:snow[layers=1]", "minecraft:grass_block[snowy=true]",
+            "minecraft:terracotta", "minecraft:red_sandstone", "minecraft:red_sand",
+            "minecraft:sandstone", "minecraft:sand", "minecraft:podzol[snowy=false]",
+            "minecraft:mycelium[snowy=false]", "minecraft:rooted_dirt",
+            "minecraft:coarse_dirt", "minecraft:gravel", "minecraft:tuff",
+            "minecraft:andesite", "minecraft:diorite", "minecraft:granite",
+            "minecraft:cave_air", "minecraft:water[level=0]", "minecraft:bedrock",
+            "minecraft:deepslate[axis=y]", "minecraft:dirt",
+            "minecraft:grass_block[snowy=false]", "minecraft:stone", "minecraft:air");
+
+    private static byte[] build() {
+        var out = new WireBytes.Writer(16 * 1024);
+        // The section framing the emitter writes for the two bulk shapes: sky-lit air
+        // above the surface and unlit solid stone below it (bits 0, one palette index,
+        // empty data; biomes likewise).
+        byte[] sky = new byte[2048];
+        Arrays.fill(sky, (byte) 0xFF);
+        var single = new WireContainer(0, new int[] { 1 }, new long[0]);
+        var biome = new WireContainer(0, new int[] { 0 }, new long[0]);
+        out.writeBytes(WireSectionCursor.emit(new WireColumn(
+                List.of("minecraft:plains", "minecraft:stone"),
+                List.of(new WireSection(0, 4096, 0, single, biome, null, null))), Layout.V20));
+        var air = new WireContainer(0, new int[] { 1 }, new long[0]);
+        out.writeBytes(WireSectionCursor.emit(new WireColumn(
+                List.of("minecraft:plains", "minecraft:air"),
+                List.of(new WireSection(0, 0, 0, air, biome, null, sky))), Layout.V20));
+        // The identities in the dictionary's own framing (VarInt length + UTF-8), so a
+        // match covers the length byte too.
+        for (String identity : IDENTITIES) {
+            out.writeUtf(identity);
+        }
+        return out.toByteArray();
+    }
+}
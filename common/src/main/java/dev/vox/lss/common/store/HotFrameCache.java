@@ -0,0 +1,200 @@
+package dev.vox.lss.common.store;
+
+import dev.vox.lss.common.store.LodStoreService.FrameHit;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+
+/**
+ * The SQLite store's hot-frame cache: validated compressed frames of recently served rows,
+ * held OFF-HEAP in one fixed direct arena, so the few thousand columns a warm join at spawn
+ * hammers are answered without a B-tree descent or a JNI blob copy. The budget is
+ * allocated once at store start and never grows; the GC sees one buffer, not a frame per
+ * entry.
+ *
+ * <p><b>Layout:</b> the arena is a log-structured ring. Frames are written contiguously at
+ * the head; {@link #ring} holds the entries in arena order starting just past the head.
+ * Making room walks that order: a dead entry is reclaimed, a live entry hit since the head
+ * last passed it gets a second chance (its bit clears and the head steps over it), anything
+ * else is evicted. A frame that does not fit before the arena's end wraps the head to 0,
+ * leaving the tail gap for the next pass.
+ *
+ * <p><b>Never stale:</b> every row mutation goes through {@link #beginWrite} BEFORE its
+ * SQL runs (dropping the entry and pinning the position's stripe) and {@link #endWrites}
+ * AFTER it commits or rolls back (stamping the stripe with a new sequence). A fill carries
+ * the sequence read before its SQL lookup and is refused while its stripe is pinned or was
+ * stamped since — so a lookup that raced a write can never park its pre-write bytes here.
+ * Stripes are coarse (false refusals only cost a later fill), never per-position state.
+ *
+ * <p>Threading: reader-pool threads (lookups, fills) and the batcher (write brackets);
+ * one monitor, held for map work and one frame copy.
+ */
+final class HotFrameCache {
+
+    static final int STRIPES = 1024;
+    /** Frames above this share of the arena are not cached: one outsized column must not
+     *  flush the working set it was meant to sit beside. */
+    static final int MAX_ENTRY_SHARE = 16;
+
+    private record Key(int dimId, long pos) {}
+
+    private static final class Entry {
+        final Key key;
+        final int offset;
+        final int length;
+        /** Arena footprint: at least one byte, so an all-air (empty) frame still has an
+         *  unambiguous place in the ring order. */
+        final int span;
+        final int usize;
+        final long ts;
+        final int wirefmt;
+        boolean referenced;
+        boolean live = true;
+
+        Entry(Key key, int offset, int length, int usize, long ts, int wirefmt) {
+            this.key = key;
+            this.offset = offset;
+            this.length = length;
+            this.span = Math.max(length, 1);
+            this.usize = usize;
+            this.ts = ts;
+            this.wirefmt = wirefmt;
+        }
+    }
+
+    private final ByteBuffer arena;
+    private final int capacity;
+    private final int maxEntryBytes;
+    private final LodStoreDiagnostics diag;
+    private final HashMap<Key, Entry> index = new HashMap<>();
+    private final ArrayDeque<Entry> ring = new ArrayDeque<>();
+    private int head;
+    private long liveBytes;
+    private long seq;
+    private final long[] stripeSeq = new long[STRIPES];
+    private final int[] stripePending = new int[STRIPES];
+
+    private HotFrameCache(ByteBuffer arena, LodStoreDiagnostics diag) {
+        this.arena = arena;
+        this.capacity = arena.capacity();
+        this.maxEntryBytes = this.capacity / MAX_ENTRY_SHARE;
+        this.diag = diag;
+        diag.recordHotCacheSize(0, this.capacity);
+    }
+
+    /** A cache of {@code capacityBytes}, or null when off (0) or the direct arena cannot
+     *  be reserved (the store then serves exactly as before, counted nowhere). */
+    static HotFrameCache createOrNull(long capacityBytes, LodStoreDiagnostics diag) {
+        if (capacityBytes <= 0) return null;
+        try {
+            return new HotFrameCache(ByteBuffer.allocateDirect(
+                    (int) Math.min(capacityBytes, Integer.MAX_VALUE - 8)), diag);
+        } catch (OutOfMemoryError e) {
+            return null;
+        }
+    }
+
+    /** The cached frame, or null (counted a hot miss). The frame is a fresh heap copy. */
+    synchronized FrameHit get(int dimId, long pos) {
+        Entry e = this.index.get(new Key(dimId, pos));
+        if (e == null) {
+            this.diag.recordHotMiss();
+            return null;
+        }
+        e.referenced = true;
+        this.diag.recordHotHit();
+        byte[] frame = new byte[e.length];
+        this.arena.get(e.offset, frame);
+        return new FrameHit(frame, e.usize, e.ts, e.wirefmt);
+    }
+
+    /** The sequence a lookup must read BEFORE its SQL and hand to {@link #put}. */
+    synchronized long fillStamp() {
+        return this.seq;
+    }
+
+    /** Cache a validated frame read under {@code stamp}; refused if a write to its stripe
+     *  is pending or landed since, or the frame is outsized. */
+    synchronized void put(int dimId, long pos, FrameHit hit, long stamp) {
+        int length = hit.frame().length;
+        if (length > this.maxEntryBytes) return;
+        int stripe = stripe(dimId, pos);
+        if (this.stripePending[stripe] > 0 || this.stripeSeq[stripe] > stamp) return;
+        var key = new Key(dimId, pos);
+        drop(this.index.remove(key));
+        int offset = allocate(Math.max(length, 1));
+        this.arena.put(offset, hit.frame());
+        var e = new Entry(key, offset, length, hit.usize(), hit.columnTimestamp(), hit.wirefmt());
+        this.ring.addLast(e);
+        this.index.put(key, e);
+        this.liveBytes += length;
+        this.diag.recordHotCacheSize(this.liveBytes, this.capacity);
+    }
+
+    /** Batcher, before a row write: drops the position and pins its stripe. Returns the
+     *  stripe for the matching {@link #endWrites}. */
+    synchronized int beginWrite(int dimId, long pos) {
+        int stripe = stripe(dimId, pos);
+        this.stripePending[stripe]++;
+        drop(this.index.remove(new Key(dimId, pos)));
+        this.diag.recordHotCacheSize(this.liveBytes, this.capacity);
+        return stripe;
+    }
+
+    /** Batcher, after the writes' commit (or rollback): unpins and stamps their stripes. */
+    synchronized void endWrites(int[] stripes, int count) {
+        this.seq++;
+        for (int i = 0; i < count; i++) {
+            this.stripePending[stripes[i]]--;
+            this.stripeSeq[stripes[i]] = this.seq;
+        }
+    }
+
+    synchronized int entryCount() {
+        return this.index.size();
+    }
+
+    private void drop(Entry e) {
+        if (e == null) return;
+        e.live = false;
+        this.liveBytes -= e.length;
+    }
+
+    /** Make {@code span} contiguous bytes at the head and claim them. */
+    private int allocate(int span) {
+        while (true) {
+            if (this.capacity - this.head < span) {
+                // Wrap: entries between the head and the end stay where they are — they
+                // are now the far side of the ring.
+                while (!this.ring.isEmpty() && this.ring.peekFirst().offset >= this.head) {
+                    this.ring.addLast(this.ring.pollFirst());
+                }
+                this.head = 0;
+            }
+            Entry first = this.ring.peekFirst();
+            if (first == null || first.offset >= this.head + span
+                    || first.offset < this.head) {
+                int at = this.head;
+                this.head += span;
+                return at;
+            }
+            this.ring.pollFirst();
+            if (!first.live) continue;
+            if (first.referenced) {
+                first.referenced = false;
+                this.ring.addLast(first);
+                this.head = first.offset + first.span;
+                continue;
+            }
+            this.index.remove(first.key);
+            drop(first);
+            this.diag.recordHotEviction();
+        }
+    }
+
+    private static int stripe(int dimId, long pos) {
+        long h = (pos ^ ((long) dimId << 40)) * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 54) & (STRIPES - 1);
+    }
+}
@@ -1,6 +1,8 @@
 package dev.vox.lss.common.store;
 
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * Counters for the LOD store (docs/planning/lod-store-implementation-plan.md §1). The
@@ -17,6 +19,10 @@ import java.util.concurrent.atomic.AtomicLong;
  * <p>The object exists unconditionally (zeros while {@code lodStore=off}) so the
  * diagnostics/exporter schema is identical in every mode — the soak checker requires a
  * stable snapshot shape across the kill-switch A/B arms.
+ *
+ * <p>A sharded store ({@code lodStoreShardByDimension}) shares ONE instance across its
+ * shards: counters simply sum, and each shard past the root writes its queue/file gauges
+ * into its own slot, which the gauge getters add in — status lines keep reading totals.
  */
 public final class LodStoreDiagnostics {
 
@@ -31,6 +37,14 @@ public final class LodStoreDiagnostics {
     private final AtomicLong depositSkips = new AtomicLong();
     private final AtomicLong errors = new AtomicLong();
     private final AtomicLong sqlEvictions = new AtomicLong();
+    // Eviction quality (access-aware eviction): hits/misses counted only once the cap
+    // has evicted something — the serve hit rate the cap actually leaves — and misses
+    // on positions the cap evicted recently (the store's recent-eviction memory), i.e.
+    // rows a better victim choice would have kept.
+    private volatile boolean evictedOnce;
+    private final AtomicLong postEvictionHits = new AtomicLong();
+    private final AtomicLong postEvictionMisses = new AtomicLong();
+    private final AtomicLong evictionRegrets = new AtomicLong();
     // Rows the freshness sweep dropped (stale header / vanished region / absent chunk /
     // mask drift / unresolvable dim). The ONLY live observable that a sweep actually
     // culled something — the Paper unfired-event soak gates on it moving.
@@ -42,6 +56,20 @@ public final class LodStoreDiagnostics {
     private final AtomicLong backfillReads = new AtomicLong();
     private final AtomicLong backfillDeposits = new AtomicLong();
     private final AtomicLong backfillSkips = new AtomicLong();
+    // Section dedup (wirefmt 21 rows): deposit sections found already stored / newly
+    // written, and zero-ref sections the batcher's GC deleted.
+    private final AtomicLong sectionsReused = new AtomicLong();
+    private final AtomicLong sectionsWritten = new AtomicLong();
+    private final AtomicLong sectionsCollected = new AtomicLong();
+    // Hot-frame cache (lodStoreHotCacheMB > 0): lookups answered from the off-heap arena
+    // vs passed through to SQLite, and live entries the arena's ring evicted for room.
+    private final AtomicLong hotHits = new AtomicLong();
+    private final AtomicLong hotMisses = new AtomicLong();
+    private final AtomicLong hotEvictions = new AtomicLong();
+    // Cold tier (lodStoreColdCompressionDays > 0): rows the idle walk moved to the
+    // high-ratio level, and the stored bytes that saved (frames + sections).
+    private final AtomicLong coldRows = new AtomicLong();
+    private final AtomicLong coldBytesSaved = new AtomicLong();
     // Hit-read latency (store reads only — never fed by the NBT path). The ring holds the
     // most recent hit latencies so read_p95_us reflects CURRENT behavior (§0 metric 3
     // gates on hit p95); a whole-run percentile would bury a late regression under an
@@ -57,15 +85,28 @@ public final class LodStoreDiagnostics {
     private volatile long dbBytes;         // SQLite main file size
     private volatile long walBytes;        // SQLite -wal size
     private volatile long checkpointMsMax; // slowest TRUNCATE checkpoint observed
+    private volatile long hotBytes;        // live frame bytes in the hot cache
+    private volatile long hotCapacity;     // hot-cache arena size (0 = cache off)
+    // Shard N > 0's {queue, db, wal} gauges (see the class doc).
+    private static final int SHARD_QUEUE = 0;
+    private static final int SHARD_DB = 1;
+    private static final int SHARD_WAL = 2;
+    private final ConcurrentHashMap<Integer, AtomicLongArray> shardGauges = new ConcurrentHashMap<>();
+    private volatile boolean coldEnabled;  // cold walk configured (gates the status slot)
+    private volatile long coldRatePerMin;  // cold rows recompressed per minute, last gauge tick
 
     public void recordHit(long readNanos) {
         this.hits.incrementAndGet();
+        if (this.evictedOnce) this.postEvictionHits.incrementAndGet();
         this.readTotalNanos.addAndGet(readNanos);
         long n = this.readCount.getAndIncrement();
         this.recentReadNanos.set((int) (n % READ_LATENCY_RING), readNanos);
     }
 
-    public void recordMiss() { this.misses.incrementAndGet(); }
+    public void recordMiss() {
+        this.misses.incrementAndGet();
+        if (this.evictedOnce) this.postEvictionMisses.incrementAndGet();
+    }
     public void recordDeposit() { this.deposits.incrementAndGet(); }
     public void recordDepositDrop() { this.depositDrops.incrementAndGet(); }
     public void recordDepositSkip() { this.depositSkips.incrementAndGet(); }
@@ -82,15 +123,72 @@ public final class LodStoreDiagnostics {
     public long getMigrateAnomalies() { return this.migrateAnomalies.get(); }
     /** Size-cap SQL rows evicted (total; the one-shot cap log points here — the
      *  ongoing capped steady-state stays observable via '/lsslod store status'). */
-    public void recordSqlEvictions(int rows) { this.sqlEvictions.addAndGet(rows); }
+    public void recordSqlEvictions(int rows) {
+        this.sqlEvictions.addAndGet(rows);
+        if (rows > 0) this.evictedOnce = true;
+    }
+    public void recordEvictionRegret() { this.evictionRegrets.incrementAndGet(); }
     public void recordSweepDrops(long rows) { this.sweepDrops.addAndGet(rows); }
     public void recordBackfillRead() { this.backfillReads.incrementAndGet(); }
     public void recordBackfillDeposit() { this.backfillDeposits.incrementAndGet(); }
     public void recordBackfillSkip() { this.backfillSkips.incrementAndGet(); }
+    public void recordSectionDedup(int reused, int written) {
+        this.sectionsReused.addAndGet(reused);
+        this.sectionsWritten.addAndGet(written);
+    }
+    public void recordSectionGc(int sections) { this.sectionsCollected.addAndGet(sections); }
+    public void recordHotHit() { this.hotHits.incrementAndGet(); }
+    public void recordHotMiss() { this.hotMisses.incrementAndGet(); }
+    public void recordHotEviction() { this.hotEvictions.incrementAndGet(); }
+    /** One cold-walk batch: {@code rows} retagged to the cold tier, {@code bytesSaved}
+     *  the stored bytes their recompression shed (0 for rows already at their floor). */
+    public void recordColdRecompressed(int rows, long bytesSaved) {
+        this.coldRows.addAndGet(rows);
+        this.coldBytesSaved.addAndGet(bytesSaved);
+    }
+    public long getColdRows() { return this.coldRows.get(); }
+    public long getColdBytesSaved() { return this.coldBytesSaved.get(); }
+    public void setColdTier(boolean enabled, long ratePerMin) {
+        this.coldEnabled = enabled;
+        this.coldRatePerMin = ratePerMin;
+    }
+    public long getColdRatePerMin() { return this.coldRatePerMin; }
+    public void recordHotCacheSize(long bytes, long capacity) {
+        this.hotBytes = bytes;
+        this.hotCapacity = capacity;
+    }
 
     public void setQueueDepth(long depth) { this.queueDepth = depth; }
     public void setDbBytes(long bytes) { this.dbBytes = bytes; }
     public void setWalBytes(long bytes) { this.walBytes = bytes; }
+    /** Shard-slot gauge writes; shard 0 is the root file's own gauge. */
+    public void setQueueDepth(int shard, long depth) {
+        if (shard == 0) this.queueDepth = depth;
+        else shardSlot(shard).set(SHARD_QUEUE, depth);
+    }
+    public void setDbBytes(int shard, long bytes) {
+        if (shard == 0) this.dbBytes = bytes;
+        else shardSlot(shard).set(SHARD_DB, bytes);
+    }
+    public void setWalBytes(int shard, long bytes) {
+        if (shard == 0) this.walBytes = bytes;
+        else shardSlot(shard).set(SHARD_WAL, bytes);
+    }
+    /** One shard's own file gauges (its fallbacks when a stat fails). */
+    public long getDbBytes(int shard) {
+        return shard == 0 ? this.dbBytes : shardSlot(shard).get(SHARD_DB);
+    }
+    public long getWalBytes(int shard) {
+        return shard == 0 ? this.walBytes : shardSlot(shard).get(SHARD_WAL);
+    }
+    private AtomicLongArray shardSlot(int shard) {
+        return this.shardGauges.computeIfAbsent(shard, s -> new AtomicLongArray(3));
+    }
+    private long shardSum(int gauge) {
+        long sum = 0;
+        for (var slot : this.shardGauges.values()) sum += slot.get(gauge);
+        return sum;
+    }
     public void recordCheckpointMs(long ms) {
         if (ms > this.checkpointMsMax) this.checkpointMsMax = ms;
     }
@@ -102,14 +200,25 @@ public final class LodStoreDiagnostics {
     public long getDepositSkips() { return this.depositSkips.get(); }
     public long getErrors() { return this.errors.get(); }
     public long getSqlEvictions() { return this.sqlEvictions.get(); }
+    public long getPostEvictionHits() { return this.postEvictionHits.get(); }
+    public long getPostEvictionMisses() { return this.postEvictionMisses.get(); }
+    public long getEvictionRegrets() { return this.evictionRegrets.get(); }
     public long getSweepDrops() { return this.sweepDrops.get(); }
     public long getBackfillReads() { return this.backfillReads.get(); }
     public long getBackfillDeposits() { return this.backfillDeposits.get(); }
     public long getBackfillSkips() { return this.backfillSkips.get(); }
-    public long getQueueDepth() { return this.queueDepth; }
-    public long getDbBytes() { return this.dbBytes; }
-    public long getWalBytes() { return this.walBytes; }
+    public long getSectionsReused() { return this.sectionsReused.get(); }
+    public long getSectionsWritten() { return this.sectionsWritten.get(); }
+    public long getSectionsCollected() { return this.sectionsCollected.get(); }
+    public long getQueueDepth() { return this.queueDepth + shardSum(SHARD_QUEUE); }
+    public long getDbBytes() { return this.dbBytes + shardSum(SHARD_DB); }
+    public long getWalBytes() { return this.walBytes + shardSum(SHARD_WAL); }
     public long getCheckpointMsMax() { return this.checkpointMsMax; }
+    public long getHotHits() { return this.hotHits.get(); }
+    public long getHotMisses() { return this.hotMisses.get(); }
+    public long getHotEvictions() { return this.hotEvictions.get(); }
+    public long getHotBytes() { return this.hotBytes; }
+    public long getHotCapacity() { return this.hotCapacity; }
 
     /** Mean store-hit read latency in whole microseconds (0 before the first hit). */
     public long getReadAvgMicros() {
@@ -117,6 +226,52 @@ public final class LodStoreDiagnostics {
         return n == 0 ? 0 : (this.readTotalNanos.get() / n) / 1_000;
     }
 
+    /** Store hit rate since the first cap eviction, in tenths of a percent (0..1000);
+     *  -1 before any eviction or any post-eviction lookup. */
+    public long getPostEvictionHitRatePermille() {
+        long h = this.postEvictionHits.get();
+        long total = h + this.postEvictionMisses.get();
+        return total == 0 ? -1 : h * 1000 / total;
+    }
+
+    /**
+     * The status-line eviction slot: empty until the cap has evicted (the conditional-slot
+     * convention — an uncapped store's line is unchanged), then
+     * {@code " evict_hit=97.3% regret=12"}.
+     */
+    public String evictionToken() {
+        long permille = getPostEvictionHitRatePermille();
+        if (!this.evictedOnce || permille < 0) return "";
+        return " evict_hit=" + (permille / 10) + "." + (permille % 10) + "% regret="
+                + this.evictionRegrets.get();
+    }
+
+    /**
+     * The status-line hot-cache slot: empty while the cache is off (conditional-slot
+     * convention), else {@code " hot=12/64MB hot_hit=81.4% hot_evict=3021"} — live frame
+     * MB over the arena, and the share of store lookups the arena answered.
+     */
+    public String hotCacheToken() {
+        long capacity = this.hotCapacity;
+        if (capacity <= 0) return "";
+        long h = this.hotHits.get();
+        long total = h + this.hotMisses.get();
+        long permille = total == 0 ? 0 : h * 1000 / total;
+        return " hot=" + (this.hotBytes >> 20) + "/" + (capacity >> 20) + "MB hot_hit="
+                + (permille / 10) + "." + (permille % 10) + "% hot_evict=" + this.hotEvictions.get();
+    }
+
+    /**
+     * The status-line cold-tier slot: empty while the walk is off (conditional-slot
+     * convention), else {@code " cold=48211 cold_saved=96MB cold_rate=240/min"} — rows
+     * recompressed, the bytes that shed, and the walk's pace over the last gauge tick.
+     */
+    public String coldTierToken() {
+        if (!this.coldEnabled) return "";
+        return " cold=" + this.coldRows.get() + " cold_saved=" + (this.coldBytesSaved.get() >> 20)
+                + "MB cold_rate=" + this.coldRatePerMin + "/min";
+    }
+
     /** p95 of the most recent (≤512) store-hit read latencies, whole microseconds —
      *  §0 metric 3's hit-latency gate input. Best-effort under concurrent writes. */
     public long getReadP95Micros() {
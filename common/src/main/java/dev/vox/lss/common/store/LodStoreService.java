@@ -44,6 +44,10 @@ public interface LodStoreService {
      *  form every post-C2 row deposits as. */
     int WIREFMT_NATIVE_19 = 19;
     int WIREFMT_V20 = 20;
+    /** A section-dedup row (SQLite only): the blob is a manifest of shared section
+     *  bodies that reassemble to a v20 body. A {@link StoreHit} reports 20; a
+     *  {@link FrameHit} keeps 21 and carries the reassembled RAW body, not a frame. */
+    int WIREFMT_V20_SECTIONS = 21;
 
     /** A store hit: wire-format section bytes ({@code length == 0} = all-air) plus the
      *  stored column timestamp. {@code wirefmt} (C4, XVER §5): the row's body format —
@@ -60,7 +64,8 @@ public interface LodStoreService {
      *  compressed-columns-implementation-plan.md §3): the stored zstd frame, its
      *  validated uncompressed size, and the stored column timestamp.
      *  {@code usize == 0} = all-air ({@code frame} is empty). {@code wirefmt}: see
-     *  {@link StoreHit} — a 19 row's decompressed body is NATIVE layout. */
+     *  {@link StoreHit} — a 19 row's decompressed body is NATIVE layout, and a 21 hit's
+     *  {@code frame} is the uncompressed v20 body of a section-dedup row. */
     record FrameHit(byte[] frame, int usize, long columnTimestamp, int wirefmt) {
         public FrameHit(byte[] frame, int usize, long columnTimestamp) {
             this(frame, usize, columnTimestamp, 20);
@@ -140,6 +145,26 @@ public interface LodStoreService {
         return null;
     }
 
+    /**
+     * Batched {@link #getFrame} for positions that arrived together (one reader-pool
+     * coalesced store rung): one result per position, index-aligned, null = miss, under
+     * exactly the per-position contract of {@code getFrame} — never throws, all-air is
+     * {@code usize == 0}. An engine answers a ring-adjacent group with a few ranged
+     * seeks instead of one statement per column. Default: one {@code getFrame} each.
+     */
+    default FrameHit[] getFrameBatch(String dimension, long[] packed) {
+        var out = new FrameHit[packed.length];
+        for (int i = 0; i < packed.length; i++) out[i] = getFrame(dimension, packed[i]);
+        return out;
+    }
+
+    /** The codec {@link #getFrame} frames (and {@link #depositFrame} expects) are in — a
+     *  {@link StoreCodec#usesDictionary() dictionary} codec means codec-2 frames. Null
+     *  when frames are unsupported (the default). */
+    default StoreCodec frameCodec() {
+        return null;
+    }
+
     /**
      * Enqueue a deposit (processing thread; the write happens on the batcher thread).
      * {@code sectionBytes} null or empty both mean all-air and are normalized to
@@ -0,0 +1,181 @@
+package dev.vox.lss.common.store;
+
+import dev.vox.lss.common.wire.IdentityDictionary;
+import dev.vox.lss.common.wire.WireBytes;
+import dev.vox.lss.common.wire.WireFormatException;
+import dev.vox.lss.common.wire.WireSectionCursor;
+import dev.vox.lss.common.wire.WireSectionCursor.Layout;
+import dev.vox.lss.common.wire.WireSectionCursor.WireColumn;
+import dev.vox.lss.common.wire.WireSectionCursor.WireContainer;
+import dev.vox.lss.common.wire.WireSectionCursor.WireSection;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The byte-domain half of the store's section dedup ({@code wirefmt = 21} rows): a v20
+ * column body split into self-contained per-section bodies, and the inverse.
+ *
+ * <p>Each section body is an ordinary one-section v20 body with its OWN first-seen
+ * dictionary and {@code sectionY} zeroed — so the same stone/deepslate section stores
+ * once whatever column or height it came from; the Y lives in the row's manifest.
+ * Reassembly re-indexes every section into a fresh first-seen dictionary (blocks then
+ * biomes per section — the emitter walk), which reproduces the canonical body. A body
+ * whose reassembly is NOT byte-identical (a foreign dictionary order, an unreferenced
+ * entry) is refused at split time and stored whole, so a dedup row always reads back
+ * as the exact bytes deposited. Pure and MC-free; batcher thread and readers.
+ */
+final class SectionDedup {
+    private SectionDedup() {}
+
+    /** A split column: section Ys (body order) and their self-contained bodies. */
+    record Split(int[] sectionYs, byte[][] bodies) {}
+
+    /**
+     * Splits {@code v20Body} into per-section bodies, or returns null when the body
+     * cannot dedup: malformed, a clear (no sections), or not canonical (see the class
+     * doc). Never throws.
+     */
+    static Split split(byte[] v20Body) {
+        WireColumn column;
+        try {
+            column = WireSectionCursor.parse(v20Body, Layout.V20);
+        } catch (RuntimeException e) {
+            return null;
+        }
+        var sections = column.sections();
+        if (sections.isEmpty()) return null;
+        List<String> srcDict = column.dictionary();
+        int[] ys = new int[sections.size()];
+        byte[][] bodies = new byte[sections.size()][];
+        try {
+            for (int i = 0; i < ys.length; i++) {
+                var s = sections.get(i);
+                var dict = new IdentityDictionary();
+                var local = reindex(s, 0, srcDict, dict);
+                ys[i] = s.sectionY();
+                bodies[i] = WireSectionCursor.emit(new WireColumn(dict.entries(), List.of(local)),
+                        Layout.V20);
+            }
+            if (!Arrays.equals(v20Body, join(ys, bodies))) return null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+        return new Split(ys, bodies);
+    }
+
+    /**
+     * Reassembles a column from per-section bodies (the {@link #split} inverse).
+     *
+     * @throws WireFormatException on a malformed section body
+     */
+    static byte[] join(int[] sectionYs, byte[][] bodies) {
+        var dict = new IdentityDictionary();
+        var out = new ArrayList<WireSection>(bodies.length);
+        for (int i = 0; i < bodies.length; i++) {
+            var local = WireSectionCursor.parse(bodies[i], Layout.V20);
+            if (local.sections().size() != 1) {
+                throw new WireFormatException("section body holds " + local.sections().size()
+                        + " sections");
+            }
+            out.add(reindex(local.sections().get(0), sectionYs[i], local.dictionary(), dict));
+        }
+        return WireSectionCursor.emit(new WireColumn(dict.entries(), out), Layout.V20);
+    }
+
+    private static WireSection reindex(WireSection s, int sectionY, List<String> srcDict,
+                                       IdentityDictionary dict) {
+        // Blocks before biomes: the first-seen order every emitter walks.
+        var blocks = reindex(s.blocks(), srcDict, dict);
+        var biomes = reindex(s.biomes(), srcDict, dict);
+        return new WireSection(sectionY, s.nonEmptyBlockCount(), s.fluidCount(), blocks,
+                biomes, s.blockLight(), s.skyLight());
+    }
+
+    private static WireContainer reindex(WireContainer c, List<String> srcDict,
+                                         IdentityDictionary dict) {
+        int[] palette = new int[c.palette().length];
+        for (int i = 0; i < palette.length; i++) {
+            int v = c.palette()[i];
+            if (v < 0 || v >= srcDict.size()) {
+                throw new WireFormatException("palette index " + v + " beyond dictionary of "
+                        + srcDict.size());
+            }
+            palette[i] = dict.indexOf(srcDict.get(v));
+        }
+        return new WireContainer(c.bits(), palette, c.data());
+    }
+
+    // ---- content key ------------------------------------------------------------
+
+    private static final VarHandle LONGS =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * The 64-bit content key of a section body — the {@code sections} primary key.
+     * Word-at-a-time multiply-rotate mixing (the byte loop is the cost at backfill
+     * rates, as with {@link LodStoreService#contentHash}). Not a security hash: a
+     * collision is caught at deposit by the stored CRC/size check and the row is stored
+     * whole, and at read by the row's own content hash.
+     */
+    static long sectionKey(byte[] body) {
+        long h = 0x9E3779B97F4A7C15L ^ body.length;
+        int i = 0;
+        for (; i + 8 <= body.length; i += 8) {
+            h = mix(h, (long) LONGS.get(body, i));
+        }
+        long tail = 0;
+        for (int shift = 0; i < body.length; i++, shift += 8) {
+            tail |= (body[i] & 0xFFL) << shift;
+        }
+        h = mix(h, tail);
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static long mix(long h, long v) {
+        h ^= v * 0xC2B2AE3D27D4EB4FL;
+        return Long.rotateLeft(h, 31) * 0x9E3779B97F4A7C15L + 0x165667B19E3779F9L;
+    }
+
+    // ---- row manifest -------------------------------------------------------------
+
+    /** A dedup row's blob: {@code VarInt count; count × (byte sectionY, long key)}. */
+    static byte[] encodeManifest(int[] sectionYs, long[] keys) {
+        var out = new WireBytes.Writer(WireBytes.MAX_VARINT_BYTES + sectionYs.length * 9);
+        out.writeVarInt(sectionYs.length);
+        for (int i = 0; i < sectionYs.length; i++) {
+            out.writeByte(sectionYs[i]);
+            out.writeLong(keys[i]);
+        }
+        return out.toByteArray();
+    }
+
+    /** The decoded manifest: section Ys and keys, body order. */
+    record Manifest(int[] sectionYs, long[] keys) {}
+
+    /** @throws WireFormatException on a malformed manifest */
+    static Manifest decodeManifest(byte[] blob) {
+        var in = new WireBytes.Reader(blob);
+        int n = in.readVarIntCount("manifestSections");
+        if (n > 256) {
+            throw new WireFormatException("manifest of " + n + " sections exceeds 256");
+        }
+        int[] ys = new int[n];
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            ys[i] = in.readByte();
+            keys[i] = in.readLong();
+        }
+        if (in.remaining() != 0) {
+            throw new WireFormatException(in.remaining() + " trailing bytes after manifest");
+        }
+        return new Manifest(ys, keys);
+    }
+}
@@ -1,6 +1,7 @@
 package dev.vox.lss.common.store;
 
 import dev.vox.lss.common.Brand;
+import dev.vox.lss.common.LSSConstants;
 import dev.vox.lss.common.LSSLogger;
 import dev.vox.lss.common.PositionUtil;
 
@@ -13,6 +14,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -73,6 +75,14 @@ import java.util.function.Function;
  * {@code wal_checkpoint(TRUNCATE)} above a size threshold (PASSIVE checkpoints cannot
  * reset the WAL under continuous readers) and feeds {@code store.wal_bytes}/{@code
  * db_bytes}/{@code checkpoint_ms_max}.
+ *
+ * <p><b>Shards ({@code shardByDimension}):</b> the instance the platform holds is the
+ * ROOT store; each dimension it does not already hold gets a shard — a full store of its
+ * own (file, WAL, writer, batcher, tombstones, sweep) under {@code dims/} — and every
+ * per-dimension entry point routes there first ({@link #shardFor}). A long sweep, drop,
+ * vacuum or eviction pass in one dimension no longer stalls another's deposits. The
+ * shards share the codec, diagnostics and hot cache; the size cap is split between the
+ * files in proportion to their size ({@link #capShare}).
  */
 public final class SqliteLodStore implements LodStoreService {
 
@@ -97,6 +107,11 @@ public final class SqliteLodStore implements LodStoreService {
      *  v0.9.x rows), 20 = the canonical v20 dictionary layout. */
     static final int WIREFMT_NATIVE_19 = LodStoreService.WIREFMT_NATIVE_19;
     static final int WIREFMT_V20 = LodStoreService.WIREFMT_V20;
+    /** Section-dedup rows (see {@link #applyDeposit}): blob = a manifest of shared
+     *  {@code sections} rows. Additive — no schema bump: the side tables are CREATE IF
+     *  NOT EXISTS (the ts-index precedent in loadDims), 20-rows stay valid beside them,
+     *  and a jar with dedup off keeps reading 21-rows and writes 20-rows over them. */
+    static final int WIREFMT_V20_SECTIONS = LodStoreService.WIREFMT_V20_SECTIONS;
     /** Rows per background-migration batch (C4 §5.4). One batch runs per IDLE batcher
      *  iteration (the 200 ms queue-poll timeout) plus a busy FLOOR of one batch per 32
      *  applied ops (review #3 — strict idle-gating starved the walk to zero under any
@@ -130,6 +145,34 @@ public final class SqliteLodStore implements LodStoreService {
      *  serve rung uses). Null = walk waits (serves still translate via the reader). */
     private volatile java.util.function.UnaryOperator<byte[]> legacyMigrationTranslator;
 
+    /** Row/section {@code ctier} values: the codec level that wrote the stored blob. */
+    static final int CTIER_FAST = 0;
+    static final int CTIER_COLD = 1;
+    /** The rows the cold walk may still visit — also the partial index's predicate, so
+     *  the walk's SELECT repeats it verbatim to stay on the index. All-air rows
+     *  (usize 0) have no body to recompress. */
+    private static final String COLD_CANDIDATE = "ctier = " + CTIER_FAST
+            + " AND wirefmt >= " + WIREFMT_V20 + " AND usize > 0";
+    /** Rows per cold-walk batch. Small on purpose: a level-19 compress is the most
+     *  expensive thing the batcher does per row. Batches run on idle iterations only —
+     *  unlike the migration walk there is no busy floor: the cold walk is a space win,
+     *  never a correctness one, so it never holds up a queued op. */
+    private static final int COLD_ROWS_PER_BATCH = 4;
+    /** After a full pass over every dim, the walk sleeps this long: rows only age past
+     *  the cutoff at wall-clock pace, so an immediate rescan would find nothing. */
+    private static final long COLD_RESCAN_NANOS = TimeUnit.MINUTES.toNanos(15);
+
+    // ---- Cold-tier walk state (batcher thread only) ----
+    /** Dims left in the current pass; refilled from dimIds when a pass starts. */
+    private final java.util.ArrayDeque<Integer> coldDims = new java.util.ArrayDeque<>();
+    /** In-memory (src_stamp, pos) cursor within the head dim — a restart rescans from
+     *  the oldest row, which is cheap: retagged rows have left the partial index. */
+    private long coldCursorStamp = Long.MIN_VALUE;
+    private long coldCursorPos = Long.MIN_VALUE;
+    private boolean coldResting;
+    private long coldRestUntilNanos;
+    private long coldRowsAtLastGauge;
+
     private static final String DB_FILE = "store.db";
     private static final int PAGE_SIZE = 16384;
     private static final int WRITE_TXN_ROWS = 64;
@@ -142,6 +185,19 @@ public final class SqliteLodStore implements LodStoreService {
     // as soon as it has covered the byte deficit; this only bounds how long one pass
     // can hold the batcher when the store is enormously over cap.
     private static final int EVICTION_MAX_ROWS_PER_DIM = 512;
+    /** Hit positions buffered between access flushes (one flush per gauge tick). Past
+     *  it only positions already buffered keep counting — the sample bound that keeps a
+     *  hit storm from growing the buffer. */
+    private static final int MAX_PENDING_ACCESS = 65_536;
+    /** LFU aging period: every access row's hit count halves this often. */
+    static final long ACCESS_AGING_SECONDS = 3600;
+    /** ANCHOR: the most-hit positions per dimension that distances are measured from. */
+    private static final int EVICTION_ANCHORS = 16;
+    /** ANCHOR: the oldest rows per dimension a pass ranks by anchor distance. */
+    private static final int EVICTION_ANCHOR_POOL = 4 * EVICTION_MAX_ROWS_PER_DIM;
+    /** Evicted positions remembered for the eviction-regret counter, and for how long. */
+    private static final int MAX_REGRET_ENTRIES = 65_536;
+    private static final long REGRET_WINDOW_NANOS = TimeUnit.MINUTES.toNanos(15);
     // Whole-dimension drops materialize at most this many positions at a time.
     private static final int DROP_BATCH_ROWS = 4096;
     // Evict down to this fraction of the cap rather than to exactly the cap, so a
@@ -153,6 +209,11 @@ public final class SqliteLodStore implements LodStoreService {
     // deposits, while bounding how long the batcher sits in the drain (a long batcher
     // stall is what lets tombstones expire under their own queued deletes).
     private static final int MAX_VACUUM_PAGES_PER_TICK = 2048;
+    /** Zero-ref sections deleted per GC batch: one batch per idle batcher iteration,
+     *  and up to {@link #SECTION_GC_BATCHES_PER_EVICTION} after each eviction pass (the
+     *  cap must see the pages the evicted rows' sections held before re-measuring). */
+    private static final int SECTION_GC_BATCH = 512;
+    private static final int SECTION_GC_BATCHES_PER_EVICTION = 16;
     /** Writer-side failures within one session before the one-way off latch. */
     private static final int WRITE_FAILURE_LATCH = 20;
     /** Sanity ceiling on a row's self-declared uncompressed size (real columns are
@@ -161,7 +222,17 @@ public final class SqliteLodStore implements LodStoreService {
     private static final int MAX_ROW_USIZE = 16 << 20;
     private static final byte[] EMPTY = new byte[0];
 
-    /** Everything the platform must provide (kept as one bundle so tests can fake it). */
+    /** Everything the platform must provide (kept as one bundle so tests can fake it).
+     *  {@code columnDictionary}: frame every blob against the shared
+     *  {@link ColumnDictionary} — a different codec name, so flipping it rebuilds.
+     *  {@code evictionPolicy}: the victim order above {@code maxDbBytes} (read once at
+     *  construction; never affects the store's contents, so any flip is safe).
+     *  {@code coldCompressionDays}: rows not served for this many days are recompressed
+     *  at {@link StoreCodec#COLD_LEVEL} by the batcher's idle walk (0 = off; frames
+     *  decode the same either way, so any flip is safe too).
+     *  {@code shardByDimension}: every dimension the root file does not already hold
+     *  gets its own database, writer and WAL under {@code dims/} (see
+     *  {@link #shardFor}); turning it off deletes the shards (derived data). */
     // NOTE: no knownDimensions list — the sweep iterates the DIMS TABLE, so every
     // dimension the store holds rows for gets a freshness pass; a dim the resolver
     // cannot place fail-safe drops. A caller-frozen list exempted late-created worlds.
@@ -169,7 +240,89 @@ public final class SqliteLodStore implements LodStoreService {
                               Function<String, Path> regionDirResolver,
                               Function<String, String> maskFingerprintResolver,
                               int resweepSeconds, long maxDbBytes,
-                              String registryFingerprint) {
+                              String registryFingerprint, boolean sectionDedup,
+                              boolean columnDictionary, StoreEvictionPolicy evictionPolicy,
+                              long hotCacheBytes, int coldCompressionDays,
+                              boolean shardByDimension) {
+
+        public Environment {
+            if (evictionPolicy == null) evictionPolicy = StoreEvictionPolicy.OLDEST;
+            if (hotCacheBytes < 0) hotCacheBytes = 0;
+            if (coldCompressionDays < 0) coldCompressionDays = 0;
+        }
+
+        /** Pre-shard shape: one database file for every dimension. */
+        public Environment(Path storeDir, String mcVersion, int wireVersion,
+                           Function<String, Path> regionDirResolver,
+                           Function<String, String> maskFingerprintResolver,
+                           int resweepSeconds, long maxDbBytes,
+                           String registryFingerprint, boolean sectionDedup,
+                           boolean columnDictionary, StoreEvictionPolicy evictionPolicy,
+                           long hotCacheBytes, int coldCompressionDays) {
+            this(storeDir, mcVersion, wireVersion, regionDirResolver,
+                    maskFingerprintResolver, resweepSeconds, maxDbBytes, registryFingerprint,
+                    sectionDedup, columnDictionary, evictionPolicy, hotCacheBytes,
+                    coldCompressionDays, false);
+        }
+
+        /** Pre-cold-tier shape: every row stays at the fast level. */
+        public Environment(Path storeDir, String mcVersion, int wireVersion,
+                           Function<String, Path> regionDirResolver,
+                           Function<String, String> maskFingerprintResolver,
+                           int resweepSeconds, long maxDbBytes,
+                           String registryFingerprint, boolean sectionDedup,
+                           boolean columnDictionary, StoreEvictionPolicy evictionPolicy,
+                           long hotCacheBytes) {
+            this(storeDir, mcVersion, wireVersion, regionDirResolver,
+                    maskFingerprintResolver, resweepSeconds, maxDbBytes, registryFingerprint,
+                    sectionDedup, columnDictionary, evictionPolicy, hotCacheBytes, 0);
+        }
+
+        /** Pre-hot-cache shape: every lookup goes to SQLite. */
+        public Environment(Path storeDir, String mcVersion, int wireVersion,
+                           Function<String, Path> regionDirResolver,
+                           Function<String, String> maskFingerprintResolver,
+                           int resweepSeconds, long maxDbBytes,
+                           String registryFingerprint, boolean sectionDedup,
+                           boolean columnDictionary, StoreEvictionPolicy evictionPolicy) {
+            this(storeDir, mcVersion, wireVersion, regionDirResolver,
+                    maskFingerprintResolver, resweepSeconds, maxDbBytes, registryFingerprint,
+                    sectionDedup, columnDictionary, evictionPolicy, 0L);
+        }
+
+        /** Pre-eviction-policy shape: oldest-timestamp eviction, no hit tracking. */
+        public Environment(Path storeDir, String mcVersion, int wireVersion,
+                           Function<String, Path> regionDirResolver,
+                           Function<String, String> maskFingerprintResolver,
+                           int resweepSeconds, long maxDbBytes,
+                           String registryFingerprint, boolean sectionDedup,
+                           boolean columnDictionary) {
+            this(storeDir, mcVersion, wireVersion, regionDirResolver,
+                    maskFingerprintResolver, resweepSeconds, maxDbBytes, registryFingerprint,
+                    sectionDedup, columnDictionary, StoreEvictionPolicy.OLDEST);
+        }
+
+        /** Pre-dictionary shape: plain zstd-1 frames. */
+        public Environment(Path storeDir, String mcVersion, int wireVersion,
+                           Function<String, Path> regionDirResolver,
+                           Function<String, String> maskFingerprintResolver,
+                           int resweepSeconds, long maxDbBytes,
+                           String registryFingerprint, boolean sectionDedup) {
+            this(storeDir, mcVersion, wireVersion, regionDirResolver,
+                    maskFingerprintResolver, resweepSeconds, maxDbBytes, registryFingerprint,
+                    sectionDedup, false);
+        }
+
+        /** Pre-section-dedup shape: rows store whole. */
+        public Environment(Path storeDir, String mcVersion, int wireVersion,
+                           Function<String, Path> regionDirResolver,
+                           Function<String, String> maskFingerprintResolver,
+                           int resweepSeconds, long maxDbBytes,
+                           String registryFingerprint) {
+            this(storeDir, mcVersion, wireVersion, regionDirResolver,
+                    maskFingerprintResolver, resweepSeconds, maxDbBytes, registryFingerprint,
+                    false);
+        }
 
         /** Pre-registry-fingerprint shape (tests without a platform registry). */
         public Environment(Path storeDir, String mcVersion, int wireVersion,
@@ -177,7 +330,7 @@ public final class SqliteLodStore implements LodStoreService {
                            Function<String, String> maskFingerprintResolver,
                            int resweepSeconds, long maxDbBytes) {
             this(storeDir, mcVersion, wireVersion, regionDirResolver,
-                    maskFingerprintResolver, resweepSeconds, maxDbBytes, "");
+                    maskFingerprintResolver, resweepSeconds, maxDbBytes, "", false);
         }
 
         /** Pre-Phase-5 shape (tests): no size cap. */
@@ -186,7 +339,7 @@ public final class SqliteLodStore implements LodStoreService {
                            Function<String, String> maskFingerprintResolver,
                            int resweepSeconds) {
             this(storeDir, mcVersion, wireVersion, regionDirResolver,
-                    maskFingerprintResolver, resweepSeconds, Long.MAX_VALUE, "");
+                    maskFingerprintResolver, resweepSeconds, Long.MAX_VALUE, "", false);
         }
     }
 
@@ -259,6 +412,32 @@ public final class SqliteLodStore implements LodStoreService {
     // any future front cache MUST register here or resweep culls won't reach it.
     private volatile java.util.function.BiConsumer<String, long[]> sweepDropListener;
 
+    // Access tracking for the hit-ordered eviction policies and the cold walk. Reader
+    // threads count hits into the pending buffer (one map merge per hit, nothing per
+    // miss); the batcher folds it into the access table on the gauge cadence, stamping
+    // the flush second as the sampled last-access time. Off entirely (trackAccess=false)
+    // for OLDEST and for an uncapped store unless the cold tier is on — nothing else
+    // ever consults it.
+    private final boolean trackAccess;
+    private final ConcurrentHashMap<String, ConcurrentHashMap<Long, Integer>> pendingAccess =
+            new ConcurrentHashMap<>();
+    private final java.util.concurrent.atomic.AtomicInteger pendingAccessCount =
+            new java.util.concurrent.atomic.AtomicInteger();
+    private long lastAccessAgingNanos = System.nanoTime();
+    /** Recently evicted positions (eviction nanoTime), so a miss on one counts as an
+     *  eviction regret. Batcher-written, reader-removed; bounded by trimRecentlyEvicted. */
+    private final ConcurrentHashMap<String, ConcurrentHashMap<Long, Long>> recentlyEvicted =
+            new ConcurrentHashMap<>();
+
+    /** The off-heap hot-frame cache in front of the reader path; null when
+     *  {@code hotCacheBytes} is 0 or the arena could not be reserved. Every lods row
+     *  write is bracketed by {@link #hotWrite} / {@link #releaseHotWrites} so a cached
+     *  frame can never outlive the row it was read from. */
+    private final HotFrameCache hotCache;
+    // Batcher-confined: stripes pinned by row writes not yet committed.
+    private int[] hotPending = new int[64];
+    private int hotPendingCount;
+
     // The tombstone map (the memory tier's proven protocol, §threading above).
     private final ConcurrentHashMap<String, ConcurrentHashMap<Long, Long>> tombstones =
             new ConcurrentHashMap<>();
@@ -269,6 +448,9 @@ public final class SqliteLodStore implements LodStoreService {
     private Connection writer;
     private final Map<String, Integer> dimIds = new HashMap<>();
     private final Map<String, PreparedStatement> insertByDim = new HashMap<>();
+    /** Cached writer statements, by SQL — section dedup and the access flush (closed
+     *  with the writer). */
+    private final Map<String, PreparedStatement> sectionStatements = new HashMap<>();
     private int txnRows;
     private long lastGaugeRefreshNanos;
     private long nextResweepNanos;
@@ -294,14 +476,36 @@ public final class SqliteLodStore implements LodStoreService {
     private final List<Connection> allReaderConns = new ArrayList<>();
     private final ConcurrentHashMap<String, Integer> dimIdsShared = new ConcurrentHashMap<>();
 
+    // ---- Per-dimension shards (env.shardByDimension; see the class doc) ----
+    /** Shard databases live in {@code <storeDir>/dims/<dimension slug>/}. */
+    private static final String SHARD_DIR = "dims";
+    /** The root this instance is a shard of; null on the root itself. */
+    private final SqliteLodStore root;
+    /** 0 on the root: the shard's gauge slot and hot-cache key space. */
+    private final int shardIndex;
+    /** Dimensions the ROOT file serves: every one it already held at open (a store
+     *  written unsharded keeps all its rows) plus the overworld. Fixed for the session,
+     *  so a dimension's tombstones and deposits always meet in one batcher. Null when
+     *  unsharded and on shards. */
+    private final Set<String> rootDims;
+    /** Dimension → its shard (root only; null when unsharded). */
+    private final ConcurrentHashMap<String, SqliteLodStore> shards;
+    /** Dimensions whose shard failed to open this session: their writes drop instead of
+     *  retrying a failing open on every deposit. */
+    private final Set<String> failedShards;
+    private int nextShardIndex = 1; // guarded by shards
+    /** This file's last measured live size, read by the other files' {@link #capShare}. */
+    private volatile long liveBytesGauge;
+
     /** Null when the codec native or the SQLite native/DB cannot serve this platform —
      *  the caller warns once and runs without the disk tier (degrade, never crash). */
     public static SqliteLodStore createOrNull(LodStoreMode mode, Environment env,
                                               LodStoreDiagnostics diag) {
         try {
-            StoreCodec codec = StoreCodec.zstdOrNull();
+            StoreCodec codec = env.columnDictionary() ? StoreCodec.zstdWithDictionaryOrNull()
+                    : StoreCodec.zstdOrNull();
             if (codec == null) return null;
-            return new SqliteLodStore(mode, codec, env, diag);
+            return new SqliteLodStore(mode, codec, env, diag, null, 0, null);
         } catch (Throwable t) {
             LSSLogger.warn("LOD store: SQLite engine unavailable — running without the"
                     + " disk store", t);
@@ -309,12 +513,30 @@ public final class SqliteLodStore implements LodStoreService {
         }
     }
 
+    /** {@code sweepDropListener} is the root's fan-out when opening a shard: it must be in
+     *  place before the batcher starts, since the shard's startup sweep runs there. */
     private SqliteLodStore(LodStoreMode mode, StoreCodec codec, Environment env,
-                           LodStoreDiagnostics diag) throws Exception {
+                           LodStoreDiagnostics diag, SqliteLodStore root, int shardIndex,
+                           java.util.function.BiConsumer<String, long[]> sweepDropListener)
+            throws Exception {
         this.mode = mode;
         this.codec = codec;
         this.env = env;
         this.diag = diag;
+        this.root = root;
+        this.shardIndex = shardIndex;
+        this.sweepDropListener = sweepDropListener;
+        // The cold walk reads last-serve seconds from the same table, whatever the cap.
+        this.trackAccess = (env.evictionPolicy().tracksAccess() && env.maxDbBytes() < Long.MAX_VALUE)
+                || env.coldCompressionDays() > 0;
+        // One arena for the whole store: shards key into it by shardIndex (hotDim).
+        this.hotCache = root != null ? root.hotCache
+                : HotFrameCache.createOrNull(env.hotCacheBytes(), diag);
+        if (root == null && this.hotCache == null && env.hotCacheBytes() > 0) {
+            LSSLogger.warn("LOD store: could not reserve the " + (env.hotCacheBytes() >> 20)
+                    + " MB hot-frame cache (raise -XX:MaxDirectMemorySize or lower"
+                    + " lodStoreHotCacheMB) — serving from SQLite only");
+        }
         Files.createDirectories(env.storeDir());
         // noexec /tmp: sqlite-jdbc extracts its native lib to org.sqlite.tmpdir; the
         // world folder is always writable+executable for the server.
@@ -326,10 +548,159 @@ public final class SqliteLodStore implements LodStoreService {
         // or corruption drops the DB and recreates it fresh — before the batcher exists.
         openOrRecreateWriter();
         initMigrationState();
-        this.batcher = new Thread(this::batcherLoop, Brand.shortName() + " LOD Store SQLite");
+        if (root == null && env.shardByDimension()) {
+            var owned = new HashSet<>(this.dimIdsShared.keySet());
+            owned.add(LSSConstants.DIM_STR_OVERWORLD);
+            this.rootDims = Set.copyOf(owned);
+            this.shards = new ConcurrentHashMap<>();
+            this.failedShards = ConcurrentHashMap.newKeySet();
+        } else {
+            this.rootDims = null;
+            this.shards = null;
+            this.failedShards = null;
+            if (root == null) deleteShardDirs();
+        }
+        this.batcher = new Thread(this::batcherLoop, Brand.shortName() + " LOD Store SQLite"
+                + (root == null ? "" : " " + env.storeDir().getFileName()));
         this.batcher.setDaemon(true);
         this.batcher.setPriority(Thread.MIN_PRIORITY + 1);
         this.batcher.start();
+        if (this.shards != null) openExistingShards();
+    }
+
+    // ---- shards ----
+
+    /**
+     * The store holding {@code dimension}'s rows. Unsharded (and on a shard) that is
+     * always this instance; sharded, the root keeps {@link #rootDims} and every other
+     * dimension lives in its own shard — opened by its first write ({@code create}); a
+     * read before then gets null (no rows exist anywhere). The miss re-checks under the
+     * open lock, so an invalidation can never slip between a racing first deposit's
+     * shard open and its enqueue.
+     */
+    private SqliteLodStore shardFor(String dimension, boolean create) {
+        if (this.shards == null || this.rootDims.contains(dimension)) return this;
+        SqliteLodStore shard = this.shards.get(dimension);
+        if (shard != null) return shard;
+        if (create) return openShard(dimension);
+        synchronized (this.shards) {
+            return this.shards.get(dimension);
+        }
+    }
+
+    /** Every distinct shard (a slug collision shares one file between dimensions). */
+    private Collection<SqliteLodStore> shardStores() {
+        return this.shards == null ? List.of() : new HashSet<>(this.shards.values());
+    }
+
+    private SqliteLodStore openShard(String dimension) {
+        synchronized (this.shards) {
+            SqliteLodStore shard = this.shards.get(dimension);
+            if (shard != null || this.shutdown.get() || this.failedShards.contains(dimension)) {
+                return shard;
+            }
+            Path dir = this.env.storeDir().resolve(SHARD_DIR).resolve(
+                    dimension.toLowerCase(java.util.Locale.ROOT).replaceAll("[^a-z0-9_.-]", "_"));
+            // A slug collision: the file is already open for another dimension. A second
+            // instance would contend for it, so the dimensions share the one shard.
+            for (var open : this.shards.values()) {
+                if (open.env.storeDir().equals(dir)) {
+                    this.shards.put(dimension, open);
+                    return open;
+                }
+            }
+            shard = openShardAt(dir);
+            if (shard == null) {
+                this.failedShards.add(dimension);
+                return null;
+            }
+            this.shards.put(dimension, shard);
+            return shard;
+        }
+    }
+
+    private SqliteLodStore openShardAt(Path dir) {
+        int index;
+        synchronized (this.shards) {
+            index = this.nextShardIndex++;
+        }
+        var e = this.env;
+        // hotCacheBytes 0: the root's arena serves every shard.
+        var shardEnv = new Environment(dir, e.mcVersion(), e.wireVersion(), e.regionDirResolver(),
+                e.maskFingerprintResolver(), e.resweepSeconds(), e.maxDbBytes(),
+                e.registryFingerprint(), e.sectionDedup(), e.columnDictionary(),
+                e.evictionPolicy(), 0L, e.coldCompressionDays(), false);
+        try {
+            var shard = new SqliteLodStore(this.mode, this.codec, shardEnv, this.diag, this, index,
+                    this.sweepDropListener);
+            shard.legacyMigrationTranslator = this.legacyMigrationTranslator;
+            return shard;
+        } catch (Throwable t) {
+            LSSLogger.warn("LOD store: could not open the dimension shard at " + dir
+                    + " — that dimension runs without the store this session", t);
+            return null;
+        }
+    }
+
+    /** Opens every shard a previous session left under {@code dims/} (root, at open):
+     *  each routes the dimensions its own dims table holds. One holding none (its first
+     *  deposit never landed) closes again; a later first write reopens it. */
+    private void openExistingShards() {
+        Path dir = this.env.storeDir().resolve(SHARD_DIR);
+        if (!Files.isDirectory(dir)) return;
+        List<Path> found;
+        try (var list = Files.list(dir)) {
+            found = list.filter(Files::isDirectory).sorted().toList();
+        } catch (IOException e) {
+            LSSLogger.warn("LOD store: could not list the dimension shards — each opens"
+                    + " on its dimension's first write instead", e);
+            return;
+        }
+        for (Path shardDir : found) {
+            SqliteLodStore shard = openShardAt(shardDir);
+            if (shard == null) continue;
+            boolean routed = false;
+            for (String dimension : shard.dimIdsShared.keySet()) {
+                if (this.rootDims.contains(dimension)) continue;
+                if (this.shards.putIfAbsent(dimension, shard) == null) routed = true;
+            }
+            if (!routed) shard.shutdown();
+        }
+    }
+
+    /** Sharding off: shards a previous session left are unreachable derived data. */
+    private void deleteShardDirs() {
+        Path dir = this.env.storeDir().resolve(SHARD_DIR);
+        if (!Files.isDirectory(dir)) return;
+        LSSLogger.info("LOD store: per-dimension shards are off — deleting " + dir
+                + " (derived data; those dimensions re-warm in the main store)");
+        try (var walk = Files.walk(dir)) {
+            for (Path p : walk.sorted(java.util.Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(p);
+            }
+        } catch (IOException e) {
+            LSSLogger.warn("LOD store: could not delete every shard under " + dir, e);
+        }
+    }
+
+    /** The hot cache's dimension key: shards share the root's arena, and their dim ids
+     *  restart at 1, so the shard index namespaces them. */
+    private int hotDim(int dimId) {
+        return (this.shardIndex << 16) | dimId;
+    }
+
+    /** This file's share of the size cap: all of it unsharded; sharded, while the files
+     *  together exceed it, the cap split in proportion to each file's live size — every
+     *  file evicts its own policy-ordered victims and together they converge on the one
+     *  store-wide cap. */
+    private long capShare(long liveBytes) {
+        long cap = this.env.maxDbBytes();
+        SqliteLodStore top = this.root != null ? this.root : this;
+        if (top.shards == null || cap == Long.MAX_VALUE) return cap;
+        long total = top.liveBytesGauge;
+        for (var shard : top.shardStores()) total += shard.liveBytesGauge;
+        if (total <= cap || total <= 0) return cap;
+        return (long) ((double) cap * liveBytes / total);
     }
 
     // ---- lifecycle / meta ----
@@ -380,6 +751,40 @@ public final class SqliteLodStore implements LodStoreService {
                     + " seen_mtime INTEGER, PRIMARY KEY (dim, rpos)) WITHOUT ROWID");
             st.execute("CREATE TABLE IF NOT EXISTS backfill (dim TEXT, rx INTEGER,"
                     + " rz INTEGER, done INTEGER, PRIMARY KEY (dim, rx, rz)) WITHOUT ROWID");
+            // Section dedup (wirefmt 21): content-addressed section bodies keyed by
+            // SectionDedup.sectionKey, each row's references by manifest index, and
+            // refcounts the triggers keep — every delete path (row deletes, eviction,
+            // sweep, drops, upsert replaces) releases its sections with no per-path
+            // code. Zero-ref sections wait for the batcher's GC (gcSections).
+            st.execute("CREATE TABLE IF NOT EXISTS sections (hash INTEGER PRIMARY KEY,"
+                    + " crc INTEGER NOT NULL, usize INTEGER NOT NULL, refs INTEGER NOT NULL,"
+                    + " blob BLOB NOT NULL)");
+            st.execute("CREATE INDEX IF NOT EXISTS sections_gc ON sections (refs)"
+                    + " WHERE refs <= 0");
+            // Cold tier (additive, like the tables above): which codec level wrote a
+            // section's blob — the walk's "already done" mark, never read to decode.
+            if (!tableHasColumn("sections", "ctier")) {
+                st.execute("ALTER TABLE sections ADD COLUMN ctier INTEGER NOT NULL DEFAULT "
+                        + CTIER_FAST);
+            }
+            st.execute("CREATE TABLE IF NOT EXISTS section_refs (dim INTEGER, pos INTEGER,"
+                    + " idx INTEGER, hash INTEGER NOT NULL, PRIMARY KEY (dim, pos, idx))"
+                    + " WITHOUT ROWID");
+            st.execute("CREATE TRIGGER IF NOT EXISTS section_refs_inc AFTER INSERT ON"
+                    + " section_refs BEGIN UPDATE sections SET refs = refs + 1"
+                    + " WHERE hash = new.hash; END");
+            st.execute("CREATE TRIGGER IF NOT EXISTS section_refs_dec AFTER DELETE ON"
+                    + " section_refs BEGIN UPDATE sections SET refs = refs - 1"
+                    + " WHERE hash = old.hash; END");
+            // Access-aware eviction: sampled last-access second + hit count per HIT row
+            // (never-hit rows have none). Additive like the sections tables; each lods
+            // table's delete trigger drops a row's entry with it, and a re-deposit
+            // (an UPDATE) keeps it — a position's popularity outlives its bytes.
+            st.execute("CREATE TABLE IF NOT EXISTS access (dim INTEGER, pos INTEGER,"
+                    + " atime INTEGER NOT NULL, hits INTEGER NOT NULL,"
+                    + " PRIMARY KEY (dim, pos)) WITHOUT ROWID");
+            st.execute("CREATE INDEX IF NOT EXISTS access_lru ON access (dim, atime)");
+            st.execute("CREATE INDEX IF NOT EXISTS access_lfu ON access (dim, hits, atime)");
         }
         this.writer.setAutoCommit(false);
         this.writer.commit();
@@ -426,7 +831,7 @@ public final class SqliteLodStore implements LodStoreService {
         if (!"3".equals(meta.get("schema_version"))
                 || !"19".equals(meta.get("wire_format_version"))
                 || !this.env.mcVersion().equals(meta.get("mc_version"))
-                || !StoreCodec.NAME.equals(meta.get("codec"))
+                || !this.codec.name().equals(meta.get("codec"))
                 || !this.env.registryFingerprint().equals(meta.get("registry_fingerprint"))) {
             return;
         }
@@ -441,6 +846,8 @@ public final class SqliteLodStore implements LodStoreService {
                             + " ADD COLUMN wirefmt INTEGER NOT NULL DEFAULT "
                             + WIREFMT_NATIVE_19);
                 }
+                createSectionRefTriggers(st, dimId);
+                ensureColdTier(st, dimId);
                 try (ResultSet rs = st.executeQuery("SELECT count(*) FROM lods_" + dimId)) {
                     rs.next();
                     total += rs.getLong(1);
@@ -476,7 +883,7 @@ public final class SqliteLodStore implements LodStoreService {
                 && STORE_LAYOUT.equals(meta.get("store_layout"))
                 && String.valueOf(this.env.wireVersion()).equals(meta.get("wire_format_version"))
                 && this.env.mcVersion().equals(meta.get("mc_version"))
-                && StoreCodec.NAME.equals(meta.get("codec"))
+                && this.codec.name().equals(meta.get("codec"))
                 // Registry drift (4-agent round R2-M3): stored wire bytes embed GLOBAL
                 // block-state/biome registry ids, which are assignment-order dependent —
                 // a mod or datapack change shifts them while region files stay
@@ -494,7 +901,7 @@ public final class SqliteLodStore implements LodStoreService {
                     "schema_version", String.valueOf(SCHEMA_VERSION),
                     "wire_format_version", String.valueOf(this.env.wireVersion()),
                     "mc_version", this.env.mcVersion(),
-                    "codec", StoreCodec.NAME,
+                    "codec", this.codec.name(),
                     // Structural layout key (C4 mega-plan): metaMatches compares meta
                     // only, never table structure — a C1..C3-era dev store (meta 4∧20,
                     // NO wirefmt column) would otherwise open "valid" and latch dead at
@@ -529,11 +936,50 @@ public final class SqliteLodStore implements LodStoreService {
             for (int id : this.dimIds.values()) {
                 st.execute("CREATE INDEX IF NOT EXISTS lods_" + id + "_ts ON lods_"
                         + id + " (ts)");
+                // Same additive rule for the section-dedup triggers; a v0.9.x table has
+                // no wirefmt column until maybeLazyUpgradeFromV19 adds it (and the
+                // triggers with it).
+                if (tableHasColumn("lods_" + id, "wirefmt")) {
+                    createSectionRefTriggers(st, id);
+                    ensureColdTier(st, id);
+                }
+                createAccessTrigger(st, id);
             }
         }
         this.writer.commit();
     }
 
+    /** Releases a dedup row's section references whenever the row is deleted or its
+     *  blob replaced (see the sections tables in openWriter). */
+    private static void createSectionRefTriggers(Statement st, int dimId) throws SQLException {
+        String release = " WHEN old.wirefmt = " + WIREFMT_V20_SECTIONS
+                + " BEGIN DELETE FROM section_refs WHERE dim = " + dimId
+                + " AND pos = old.pos; END";
+        st.execute("CREATE TRIGGER IF NOT EXISTS lods_" + dimId + "_unref_del AFTER DELETE ON"
+                + " lods_" + dimId + release);
+        st.execute("CREATE TRIGGER IF NOT EXISTS lods_" + dimId + "_unref_upd AFTER UPDATE OF"
+                + " blob ON lods_" + dimId + release);
+    }
+
+    /** The cold tier's row tag + candidate index (additive: an existing table gains the
+     *  column with every row at the fast tier, and the partial index holds only rows
+     *  the walk may still visit, in deposit-second order). */
+    private void ensureColdTier(Statement st, int dimId) throws SQLException {
+        if (!tableHasColumn("lods_" + dimId, "ctier")) {
+            st.execute("ALTER TABLE lods_" + dimId
+                    + " ADD COLUMN ctier INTEGER NOT NULL DEFAULT " + CTIER_FAST);
+        }
+        st.execute("CREATE INDEX IF NOT EXISTS lods_" + dimId + "_cold ON lods_" + dimId
+                + " (src_stamp) WHERE " + COLD_CANDIDATE);
+    }
+
+    /** Drops a row's access entry whenever the row itself is deleted (every delete path). */
+    private static void createAccessTrigger(Statement st, int dimId) throws SQLException {
+        st.execute("CREATE TRIGGER IF NOT EXISTS lods_" + dimId + "_access_del AFTER DELETE ON"
+                + " lods_" + dimId + " BEGIN DELETE FROM access WHERE dim = " + dimId
+                + " AND pos = old.pos; END");
+    }
+
     private void deleteDbFiles() throws java.io.IOException {
         for (String suffix : new String[]{"", "-wal", "-shm"}) {
             try {
@@ -559,6 +1005,10 @@ public final class SqliteLodStore implements LodStoreService {
             try { ps.close(); } catch (Exception ignored) { }
         }
         this.insertByDim.clear();
+        for (var ps : this.sectionStatements.values()) {
+            try { ps.close(); } catch (Exception ignored) { }
+        }
+        this.sectionStatements.clear();
         if (this.writer != null) {
             try { this.writer.close(); } catch (Exception ignored) { }
             this.writer = null;
@@ -572,35 +1022,59 @@ public final class SqliteLodStore implements LodStoreService {
         return this.mode;
     }
 
+    @Override
+    public StoreCodec frameCodec() {
+        return this.codec;
+    }
+
     @Override
     public StoreHit get(String dimension, long packed) {
+        SqliteLodStore shard = shardFor(dimension, false);
+        if (shard != this) return shard == null ? null : shard.get(dimension, packed);
         if (!this.serving || this.latchedOff) return null;
         var tombs = this.tombstones.get(dimension);
-        if (tombs != null && tombs.containsKey(packed)) return null;
+        if (tombs != null && tombs.containsKey(packed)) {
+            noteEvictedMiss(dimension, packed);
+            return null;
+        }
         // A dimension mid-drop must not serve the rows it has not reached yet.
         if (this.droppingDims.contains(dimension)) return null;
         Integer dimId = this.dimIdsShared.get(dimension);
         if (dimId == null) return null;
+        FrameHit hot = hotFrame(dimId, dimension, packed);
+        long stamp = hotStamp();
         try {
+            if (hot != null) {
+                if (hot.usize() == 0) return new StoreHit(EMPTY, hot.columnTimestamp(), hot.wirefmt());
+                if (hot.wirefmt() == WIREFMT_V20_SECTIONS) {
+                    return new StoreHit(hot.frame(), hot.columnTimestamp(), WIREFMT_V20);
+                }
+                // Validated when it was cached; the arena holds it verbatim.
+                return new StoreHit(this.codec.decompress(hot.frame(), hot.usize()),
+                        hot.columnTimestamp(), hot.wirefmt());
+            }
             Connection c = readerConnection();
             if (c == null) return null;
-            PreparedStatement ps = readerStatement(c, dimId, READER_STMT_GET,
-                    "SELECT ts, chash, usize, wirefmt, blob FROM lods_" + dimId + " WHERE pos=?");
+            PreparedStatement ps = readerStatement(c, dimId, READER_STMT_GET, rowSql(dimId));
             ps.setLong(1, packed);
             try (ResultSet rs = ps.executeQuery()) {
-                if (!rs.next()) return null;
+                if (!rs.next()) {
+                    noteEvictedMiss(dimension, packed);
+                    return null;
+                }
+                noteHit(dimension, packed);
                 long ts = rs.getLong(1);
                 long chash = rs.getLong(2);
-                int usize = rs.getInt(3);
-                int wirefmt = rs.getInt(4);
+                int usize = rs.getInt(4);
+                int wirefmt = rs.getInt(5);
                 if (usize == 0) return new StoreHit(EMPTY, ts, wirefmt);
-                if (usize < 0 || usize > MAX_ROW_USIZE) {
-                    // Bound the alloc BEFORE trusting the row's own size field — a
-                    // bit-rotted usize otherwise allocates whatever it says (R1).
-                    throw new IllegalStateException("row integrity failure at " + packed
-                            + " (usize " + usize + " out of bounds)");
+                // A bit-rotted usize otherwise allocates whatever it says.
+                checkRowUsize(packed, usize);
+                byte[] blob = rs.getBytes(6);
+                if (wirefmt == WIREFMT_V20_SECTIONS) {
+                    return new StoreHit(readSectionRow(rs, packed, usize, chash, blob), ts,
+                            WIREFMT_V20);
                 }
-                byte[] blob = rs.getBytes(5);
                 byte[] raw = this.codec.decompress(blob, usize);
                 // Per-row hash dispatch (C4): pre-migration 19-rows were written under
                 // FNV-1a 64 (schema 3); everything else validates under CRC32C.
@@ -610,6 +1084,7 @@ public final class SqliteLodStore implements LodStoreService {
                     throw new IllegalStateException("row integrity failure at " + packed
                             + " (usize/chash mismatch)");
                 }
+                hotFill(dimId, packed, new FrameHit(blob, usize, ts, wirefmt), stamp);
                 return new StoreHit(raw, ts, wirefmt);
             }
         } catch (Throwable t) {
@@ -641,40 +1116,56 @@ public final class SqliteLodStore implements LodStoreService {
      */
     @Override
     public FrameHit getFrame(String dimension, long packed) {
+        SqliteLodStore shard = shardFor(dimension, false);
+        if (shard != this) return shard == null ? null : shard.getFrame(dimension, packed);
         if (!this.serving || this.latchedOff) return null;
         var tombs = this.tombstones.get(dimension);
-        if (tombs != null && tombs.containsKey(packed)) return null;
+        if (tombs != null && tombs.containsKey(packed)) {
+            noteEvictedMiss(dimension, packed);
+            return null;
+        }
         // A dimension mid-drop must not serve the rows it has not reached yet.
         if (this.droppingDims.contains(dimension)) return null;
         Integer dimId = this.dimIdsShared.get(dimension);
         if (dimId == null) return null;
+        FrameHit hot = hotFrame(dimId, dimension, packed);
+        if (hot != null) return hot;
+        long stamp = hotStamp();
         try {
             Connection c = readerConnection();
             if (c == null) return null;
             PreparedStatement ps = readerStatement(c, dimId, READER_STMT_GET_FRAME,
-                    "SELECT ts, fhash, usize, wirefmt, blob FROM lods_" + dimId + " WHERE pos=?");
+                    rowSql(dimId));
             ps.setLong(1, packed);
             try (ResultSet rs = ps.executeQuery()) {
-                if (!rs.next()) return null;
-                long ts = rs.getLong(1);
-                long fhash = rs.getLong(2);
-                int usize = rs.getInt(3);
-                int wirefmt = rs.getInt(4);
-                if (usize == 0) return new FrameHit(EMPTY, 0, ts, wirefmt);
-                if (usize < 0 || usize > MAX_ROW_USIZE) {
-                    throw new IllegalStateException("row integrity failure at " + packed
-                            + " (usize " + usize + " out of bounds)");
+                if (!rs.next()) {
+                    noteEvictedMiss(dimension, packed);
+                    return null;
                 }
-                byte[] blob = rs.getBytes(5);
-                // Per-row hash dispatch (C4) — see get().
-                long expect = wirefmt == WIREFMT_NATIVE_19
-                        ? LodStoreService.legacyContentHashFnv(blob) : contentHash(blob);
-                if (expect != fhash
-                        || this.codec.declaredContentSize(blob) != usize) {
-                    throw new IllegalStateException("row integrity failure at " + packed
-                            + " (fhash/declared-size mismatch)");
+                noteHit(dimension, packed);
+                long ts = rs.getLong(1);
+                long fhash = rs.getLong(3);
+                int usize = rs.getInt(4);
+                int wirefmt = rs.getInt(5);
+                FrameHit hit;
+                if (usize == 0) {
+                    hit = new FrameHit(EMPTY, 0, ts, wirefmt);
+                } else {
+                    checkRowUsize(packed, usize);
+                    byte[] blob = rs.getBytes(6);
+                    if (wirefmt == WIREFMT_V20_SECTIONS) {
+                        // A dedup row has no stored frame: hand back the reassembled RAW
+                        // body (tagged 21) and let the delivery compress it per recipient
+                        // like any raw source — a compress here would run on the reader
+                        // thread once per hit.
+                        hit = new FrameHit(readSectionRow(rs, packed, usize, rs.getLong(2), blob),
+                                usize, ts, WIREFMT_V20_SECTIONS);
+                    } else {
+                        hit = checkedFrame(packed, ts, fhash, usize, wirefmt, blob);
+                    }
                 }
-                return new FrameHit(blob, usize, ts, wirefmt);
+                hotFill(dimId, packed, hit, stamp);
+                return hit;
             }
         } catch (Throwable t) {
             invalidateReaderStatement(dimId, READER_STMT_GET_FRAME);
@@ -692,6 +1183,183 @@ public final class SqliteLodStore implements LodStoreService {
         }
     }
 
+    /**
+     * Batched {@link #getFrame} over the clustered {@code pos} key: positions are grouped
+     * by chunk column within a region and each group is ONE indexed range seek (the
+     * {@link #regionRows} shape — cz within a region never crosses the sign flip, so the
+     * interval is exact), instead of one statement execution per position. Rows inside a
+     * seek's interval that nobody asked for are skipped. Every returned row passes the
+     * same frame checks and row-poison purge as {@link #getFrame}; a dedup row (which
+     * needs its joined sections) is resolved through {@link #getFrame} after the scan.
+     * A transient SQL failure leaves the unresolved tail as misses.
+     */
+    @Override
+    public FrameHit[] getFrameBatch(String dimension, long[] packed) {
+        SqliteLodStore shard = shardFor(dimension, false);
+        if (shard != this) {
+            return shard == null ? new FrameHit[packed.length] : shard.getFrameBatch(dimension, packed);
+        }
+        var out = new FrameHit[packed.length];
+        if (!this.serving || this.latchedOff || packed.length == 0) return out;
+        if (this.droppingDims.contains(dimension)) return out;
+        Integer dimId = this.dimIdsShared.get(dimension);
+        if (dimId == null) return out;
+        var tombs = this.tombstones.get(dimension);
+        Map<Long, Integer> slots = new HashMap<>();
+        // (cx, region z) -> [min cz, max cz] of the asked positions, in key order.
+        var seeks = new java.util.TreeMap<Long, int[]>();
+        for (int i = 0; i < packed.length; i++) {
+            long pos = packed[i];
+            if (tombs != null && tombs.containsKey(pos)) {
+                noteEvictedMiss(dimension, pos);
+                continue;
+            }
+            if ((out[i] = hotFrame(dimId, dimension, pos)) != null) continue;
+            if (slots.putIfAbsent(pos, i) != null) continue;
+            int cx = PositionUtil.unpackX(pos);
+            int cz = PositionUtil.unpackZ(pos);
+            int[] span = seeks.computeIfAbsent(((long) cx << 32) | ((cz >> 5) & 0xFFFFFFFFL),
+                    k -> new int[]{cz, cz});
+            span[0] = Math.min(span[0], cz);
+            span[1] = Math.max(span[1], cz);
+        }
+        if (slots.isEmpty()) return out;
+        long stamp = hotStamp();
+        boolean[] found = new boolean[packed.length];
+        var deferred = new ArrayList<Integer>();
+        try {
+            Connection c = readerConnection();
+            if (c == null) return out;
+            PreparedStatement ps = readerStatement(c, dimId, READER_STMT_FRAME_RANGE,
+                    "SELECT l.ts, l.chash, l.fhash, l.usize, l.wirefmt, l.blob, l.pos FROM lods_"
+                            + dimId + " l WHERE l.pos BETWEEN ? AND ?");
+            for (var seek : seeks.entrySet()) {
+                int cx = (int) (seek.getKey() >> 32);
+                ps.setLong(1, PositionUtil.packPosition(cx, seek.getValue()[0]));
+                ps.setLong(2, PositionUtil.packPosition(cx, seek.getValue()[1]));
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        long pos = rs.getLong(7);
+                        Integer slot = slots.get(pos);
+                        if (slot == null) continue;
+                        found[slot] = true;
+                        int wirefmt = rs.getInt(5);
+                        if (wirefmt == WIREFMT_V20_SECTIONS) {
+                            deferred.add(slot);
+                            continue;
+                        }
+                        noteHit(dimension, pos);
+                        try {
+                            long ts = rs.getLong(1);
+                            int usize = rs.getInt(4);
+                            if (usize == 0) {
+                                out[slot] = new FrameHit(EMPTY, 0, ts, wirefmt);
+                            } else {
+                                checkRowUsize(pos, usize);
+                                out[slot] = checkedFrame(pos, ts, rs.getLong(3), usize,
+                                        wirefmt, rs.getBytes(6));
+                            }
+                            hotFill(dimId, pos, out[slot], stamp);
+                        } catch (SQLException e) {
+                            throw e;
+                        } catch (Throwable t) {
+                            // Row poison: purge this row only; the scan continues.
+                            this.diag.recordError();
+                            enqueueControl(new Op.DeleteRows(dimension, new long[]{pos}));
+                            if (this.readErrorWarned.compareAndSet(false, true)) {
+                                LSSLogger.warn("LOD store read failed — served from disk instead"
+                                        + " (counted store.errors; further failures are silent)", t);
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (Throwable t) {
+            invalidateReaderStatement(dimId, READER_STMT_FRAME_RANGE);
+            this.diag.recordError();
+            if (this.readErrorWarned.compareAndSet(false, true)) {
+                LSSLogger.warn("LOD store read failed — served from disk instead (counted"
+                        + " store.errors; further failures are silent)", t);
+            }
+            return out;
+        }
+        for (int slot : deferred) {
+            out[slot] = getFrame(dimension, packed[slot]);
+        }
+        for (var e : slots.entrySet()) {
+            if (!found[e.getValue()]) noteEvictedMiss(dimension, e.getKey());
+        }
+        for (int i = 0; i < packed.length; i++) {
+            Integer slot = slots.get(packed[i]);
+            if (slot != null && slot != i) out[i] = out[slot];
+        }
+        return out;
+    }
+
+    /** The hot cache's frame for a position that already passed the tombstone and
+     *  drop gates (a hit still counts toward access tracking), or null. */
+    private FrameHit hotFrame(int dimId, String dimension, long packed) {
+        if (this.hotCache == null) return null;
+        FrameHit hit = this.hotCache.get(hotDim(dimId), packed);
+        if (hit != null) noteHit(dimension, packed);
+        return hit;
+    }
+
+    /** Read BEFORE a lookup's SQL — the fill guard's half of the write bracket. */
+    private long hotStamp() {
+        return this.hotCache == null ? 0 : this.hotCache.fillStamp();
+    }
+
+    private void hotFill(int dimId, long packed, FrameHit hit, long stamp) {
+        if (this.hotCache != null) this.hotCache.put(hotDim(dimId), packed, hit, stamp);
+    }
+
+    /** Bound the alloc BEFORE trusting a row's own size field (R1). */
+    private static void checkRowUsize(long packed, int usize) {
+        if (usize < 0 || usize > MAX_ROW_USIZE) {
+            throw new IllegalStateException("row integrity failure at " + packed
+                    + " (usize " + usize + " out of bounds)");
+        }
+    }
+
+    /** The frame-level integrity checks a stored (non-dedup) frame must pass. */
+    private FrameHit checkedFrame(long packed, long ts, long fhash, int usize, int wirefmt,
+                                  byte[] blob) {
+        // Per-row hash dispatch (C4) — see get().
+        long expect = wirefmt == WIREFMT_NATIVE_19
+                ? LodStoreService.legacyContentHashFnv(blob) : contentHash(blob);
+        if (expect != fhash
+                || this.codec.declaredContentSize(blob) != usize) {
+            throw new IllegalStateException("row integrity failure at " + packed
+                    + " (fhash/declared-size mismatch)");
+        }
+        return new FrameHit(blob, usize, ts, wirefmt);
+    }
+
+    /** Counts one hit toward the next access flush (reader threads; see trackAccess). */
+    private void noteHit(String dimension, long packed) {
+        if (!this.trackAccess) return;
+        var hits = this.pendingAccess.computeIfAbsent(dimension, d -> new ConcurrentHashMap<>());
+        if (hits.computeIfPresent(packed, (k, n) -> n + 1) != null) return;
+        // A NEW position past the bound is dropped from this flush's sample; the
+        // positions already buffered keep counting.
+        if (this.pendingAccessCount.get() >= MAX_PENDING_ACCESS) return;
+        if (hits.putIfAbsent(packed, 1) == null) {
+            this.pendingAccessCount.incrementAndGet();
+        } else {
+            hits.computeIfPresent(packed, (k, n) -> n + 1);
+        }
+    }
+
+    /** A miss on a position the cap evicted recently is an eviction regret (counted
+     *  once — the entry is consumed). */
+    private void noteEvictedMiss(String dimension, long packed) {
+        var evicted = this.recentlyEvicted.get(dimension);
+        if (evicted != null && evicted.remove(packed) != null) {
+            this.diag.recordEvictionRegret();
+        }
+    }
+
     /** Thread-confined read-only connection (created lazily per reader-pool thread). */
     private Connection readerConnection() {
         Connection c = this.readerConn.get();
@@ -750,6 +1418,64 @@ public final class SqliteLodStore implements LodStoreService {
 
     private static final int READER_STMT_GET = 0;
     private static final int READER_STMT_GET_FRAME = 1;
+    private static final int READER_STMT_FRAME_RANGE = 2;
+
+    /**
+     * The row lookup both read kinds share. A dedup row's sections join in the SAME
+     * statement, so the row and its sections come from one read snapshot (a separate
+     * section query could see a later replace's refs). Non-dedup rows join nothing —
+     * the {@code wirefmt} term gates the join — and read as one result row.
+     */
+    private static String rowSql(int dimId) {
+        return "SELECT l.ts, l.chash, l.fhash, l.usize, l.wirefmt, l.blob,"
+                + " r.idx, s.crc, s.usize, s.blob FROM lods_" + dimId + " l"
+                + " LEFT JOIN section_refs r ON l.wirefmt = " + WIREFMT_V20_SECTIONS
+                + " AND r.dim = " + dimId + " AND r.pos = l.pos"
+                + " LEFT JOIN sections s ON s.hash = r.hash"
+                + " WHERE l.pos = ? ORDER BY r.idx";
+    }
+
+    /**
+     * Reassembles a dedup row from its joined result rows ({@code rs} on the first).
+     * Every section is vetted against its stored size/CRC and the manifest's key, and
+     * the reassembled body against the row's own usize/chash — a missing, extra, or
+     * bit-rotted section is row poison like any other integrity failure.
+     */
+    private byte[] readSectionRow(ResultSet rs, long packed, int usize, long chash,
+                                  byte[] manifestBlob) throws SQLException {
+        var manifest = SectionDedup.decodeManifest(manifestBlob);
+        int n = manifest.sectionYs().length;
+        byte[][] bodies = new byte[n][];
+        for (int i = 0; i < n; i++) {
+            if (i > 0 && !rs.next()) {
+                throw new IllegalStateException("row integrity failure at " + packed
+                        + " (" + i + " of " + n + " sections referenced)");
+            }
+            byte[] sblob = rs.getBytes(10);
+            int susize = rs.getInt(9);
+            if (sblob == null || rs.getInt(7) != i || susize <= 0 || susize > MAX_ROW_USIZE) {
+                throw new IllegalStateException("row integrity failure at " + packed
+                        + " (section " + i + " missing or out of bounds)");
+            }
+            byte[] body = this.codec.decompress(sblob, susize);
+            if (body.length != susize || contentHash(body) != rs.getLong(8)
+                    || SectionDedup.sectionKey(body) != manifest.keys()[i]) {
+                throw new IllegalStateException("row integrity failure at " + packed
+                        + " (section " + i + " hash mismatch)");
+            }
+            bodies[i] = body;
+        }
+        if (n == 0 || rs.next()) {
+            throw new IllegalStateException("row integrity failure at " + packed
+                    + " (manifest/reference count mismatch)");
+        }
+        byte[] raw = SectionDedup.join(manifest.sectionYs(), bodies);
+        if (raw.length != usize || contentHash(raw) != chash) {
+            throw new IllegalStateException("row integrity failure at " + packed
+                    + " (usize/chash mismatch)");
+        }
+        return raw;
+    }
 
     /**
      * Per-thread per-dimension cached reader SELECTs (2026-08-05 review P4): every disk
@@ -767,7 +1493,7 @@ public final class SqliteLodStore implements LodStoreService {
 
     private PreparedStatement readerStatement(Connection c, int dimId, int kind, String sql)
             throws SQLException {
-        long key = ((long) dimId << 1) | kind;
+        long key = ((long) dimId << 2) | kind;
         var cache = this.readerStatements.get();
         PreparedStatement ps = cache.get(key);
         if (ps == null || ps.isClosed()) {
@@ -780,7 +1506,7 @@ public final class SqliteLodStore implements LodStoreService {
     /** Drop (and close) the calling thread's cached statement after a read failure — a
      *  broken statement must not wedge the thread's future reads on that dimension. */
     private void invalidateReaderStatement(int dimId, int kind) {
-        PreparedStatement ps = this.readerStatements.get().remove(((long) dimId << 1) | kind);
+        PreparedStatement ps = this.readerStatements.get().remove(((long) dimId << 2) | kind);
         if (ps != null) {
             try { ps.close(); } catch (Exception ignored) { }
         }
@@ -789,6 +1515,11 @@ public final class SqliteLodStore implements LodStoreService {
     @Override
     public boolean deposit(String dimension, long packed, byte[] sectionBytes, long columnTimestamp,
                            long acquiredEpochSeconds) {
+        SqliteLodStore shard = shardFor(dimension, true);
+        if (shard != this) {
+            return shard != null && shard.deposit(dimension, packed, sectionBytes,
+                    columnTimestamp, acquiredEpochSeconds);
+        }
         if (this.shutdown.get() || this.latchedOff) return false;
         byte[] normalized = sectionBytes == null || sectionBytes.length == 0 ? EMPTY : sectionBytes;
         // src_stamp: the byte-ACQUISITION wall second (read start / gen serialization),
@@ -830,6 +1561,11 @@ public final class SqliteLodStore implements LodStoreService {
         // The frame path never carries all-air (that stays the raw path's byte[0]
         // normalization) — refuse nonsense so the caller's raw fallback handles it.
         if (frame == null || frame.length == 0 || usize <= 0) return false;
+        SqliteLodStore shard = shardFor(dimension, true);
+        if (shard != this) {
+            return shard != null && shard.depositFrame(dimension, packed, frame, usize,
+                    chash, fhash, columnTimestamp, srcStampSeconds);
+        }
         if (this.shutdown.get() || this.latchedOff) return false;
         long nowSeconds = System.currentTimeMillis() / 1000L;
         long stamp = srcStampSeconds > 0 ? Math.min(srcStampSeconds, nowSeconds) : nowSeconds;
@@ -848,6 +1584,11 @@ public final class SqliteLodStore implements LodStoreService {
 
     @Override
     public void invalidate(String dimension, long[] positions) {
+        SqliteLodStore shard = shardFor(dimension, false);
+        if (shard != this) {
+            if (shard != null) shard.invalidate(dimension, positions);
+            return; // no shard yet: it has no rows to protect
+        }
         // Guard BEFORE the tombstone stamp (review B2): a latched store's batcher has
         // exited, so nothing ever sweeps tombstones again — the dirty fan-out would
         // grow the map for the rest of the session while the store serves nothing the
@@ -863,6 +1604,11 @@ public final class SqliteLodStore implements LodStoreService {
 
     @Override
     public void delete(String dimension, long packed) {
+        SqliteLodStore shard = shardFor(dimension, false);
+        if (shard != this) {
+            if (shard != null) shard.delete(dimension, packed);
+            return;
+        }
         if (this.shutdown.get() || this.latchedOff) return; // see invalidate()
         this.tombstones.computeIfAbsent(dimension, k -> new ConcurrentHashMap<>())
                 .put(packed, System.nanoTime());
@@ -890,13 +1636,19 @@ public final class SqliteLodStore implements LodStoreService {
      *  write — a driver that keeps walking would burn IO for nothing and claim
      *  progress (review MAJOR). */
     public boolean isHealthy() {
-        return this.serving && !this.latchedOff;
+        if (!this.serving || this.latchedOff) return false;
+        for (var shard : shardStores()) {
+            if (!shard.isHealthy()) return false;
+        }
+        return true;
     }
 
     /** Row-existence check WITHOUT the blob fetch + decompress + integrity hash a full
      *  get() pays — the backfill's skip rung (review finding: a warm region walk was
      *  1024 back-to-back full-row reads). Tombstones honored like get(). */
     public boolean hasRow(String dimension, long packed) {
+        SqliteLodStore shard = shardFor(dimension, false);
+        if (shard != this) return shard != null && shard.hasRow(dimension, packed);
         if (!this.serving || this.latchedOff) return false;
         var tombs = this.tombstones.get(dimension);
         if (tombs != null && tombs.containsKey(packed)) return false;
@@ -927,11 +1679,17 @@ public final class SqliteLodStore implements LodStoreService {
      *  have a moment earlier — acceptable for a remediation lever. */
     public void requestDropAllRows() {
         enqueueControl(new Op.DropAll());
+        for (var shard : shardStores()) shard.requestDropAllRows();
     }
 
     /** Backfill progress (Phase 4): mark a region fully processed (batcher-written,
      *  dropped with the DB — derived data). */
     public void markBackfillRegionDone(String dimension, int rx, int rz) {
+        SqliteLodStore shard = shardFor(dimension, true);
+        if (shard != this) {
+            if (shard != null) shard.markBackfillRegionDone(dimension, rx, rz);
+            return;
+        }
         enqueueControl(new Op.BackfillMark(dimension, rx, rz));
     }
 
@@ -942,6 +1700,10 @@ public final class SqliteLodStore implements LodStoreService {
      *  whose deposits were lost. False on timeout, shutdown, or a latched store. */
     public boolean awaitDepositQueueEmpty(long timeoutMs) {
         long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        for (var shard : shardStores()) {
+            long left = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (!shard.awaitDepositQueueEmpty(Math.max(0, left))) return false;
+        }
         while (true) {
             if (this.latchedOff || this.shutdown.get()) return false;
             if (this.queue.isEmpty()) return true;
@@ -957,6 +1719,8 @@ public final class SqliteLodStore implements LodStoreService {
 
     /** Whether a region was already backfilled (backfill-thread read connection). */
     public boolean isBackfillRegionDone(String dimension, int rx, int rz) {
+        SqliteLodStore shard = shardFor(dimension, false);
+        if (shard != this) return shard != null && shard.isBackfillRegionDone(dimension, rx, rz);
         if (this.latchedOff) return true; // latched store: do no work
         try {
             Connection c = readerConnection();
@@ -978,7 +1742,13 @@ public final class SqliteLodStore implements LodStoreService {
 
     /** Blocks until the startup sweep finishes (test/harness seam). */
     public boolean awaitSweep(long timeoutMs) throws InterruptedException {
-        return this.sweepDone.await(timeoutMs, TimeUnit.MILLISECONDS);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        if (!this.sweepDone.await(timeoutMs, TimeUnit.MILLISECONDS)) return false;
+        for (var shard : shardStores()) {
+            if (!shard.awaitSweep(Math.max(0,
+                    TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())))) return false;
+        }
+        return true;
     }
 
     /** Registers the sweep-drop fan-out (called on the batcher thread with each swept
@@ -986,6 +1756,7 @@ public final class SqliteLodStore implements LodStoreService {
      *  tier's invalidate). Set before serving starts. */
     public void setSweepDropListener(java.util.function.BiConsumer<String, long[]> listener) {
         this.sweepDropListener = listener;
+        for (var shard : shardStores()) shard.setSweepDropListener(listener);
     }
 
     private void notifySweepDrops(String dimension, List<Long> positions) {
@@ -1005,6 +1776,12 @@ public final class SqliteLodStore implements LodStoreService {
     @Override
     public void shutdown() {
         if (!this.shutdown.compareAndSet(false, true)) return;
+        if (this.shards != null) {
+            // Under the open lock: a racing first deposit sees shutdown and opens nothing.
+            synchronized (this.shards) {
+                for (var shard : shardStores()) shard.shutdown();
+            }
+        }
         this.serving = false; // a post-shutdown get() must miss, not race closing conns
         this.batcher.interrupt();
         try {
@@ -1033,7 +1810,7 @@ public final class SqliteLodStore implements LodStoreService {
             }
             closeWriter();
         }
-        this.diag.setQueueDepth(0);
+        this.diag.setQueueDepth(this.shardIndex, 0);
     }
 
     // ---- batcher thread ----
@@ -1138,6 +1915,7 @@ public final class SqliteLodStore implements LodStoreService {
              PreparedStatement del = this.writer.prepareStatement(
                      "DELETE FROM lods_" + dimId + " WHERE pos=?")) {
             for (Row row : rows) {
+                hotWrite(dimId, row.pos());
                 if (row.usize() == 0) {
                     // All-air row (C6 review M-1): usize 0 is the LEGITIMATE all-air
                     // shape, not corruption — the serve path short-circuits it before
@@ -1253,9 +2031,190 @@ public final class SqliteLodStore implements LodStoreService {
                         : "") + " of " + this.migrateTotal + " walked");
     }
 
+    /**
+     * One cold-tier batch (batcher thread; idle iterations only, and never while the
+     * migration walk is pending — it rewrites the same rows). Up to
+     * {@link #COLD_ROWS_PER_BATCH} fast-tier rows of the head dim whose deposit second
+     * AND last recorded serve are both older than {@code coldCompressionDays} are
+     * recompressed at {@link StoreCodec#COLD_LEVEL}:
+     * a v20 row's frame in place (new {@code fhash}, same {@code chash}/{@code usize},
+     * so serves and the hot cache read it exactly as before), a dedup row's fast-tier
+     * sections (shared sections are done once, for every row that references them).
+     * A recompression that is not smaller keeps the old bytes and only retags. A row
+     * failing its integrity check is left alone — the serve path owns purging it.
+     * Re-deposits reset {@code ctier}, so a row warmed again re-enters the fast tier.
+     *
+     * @return true when the batch committed real work (see maybeMigrateBatch)
+     */
+    private boolean maybeColdBatch(long nowNanos) throws SQLException {
+        int days = this.env.coldCompressionDays();
+        if (days <= 0 || this.migratePending) return false;
+        if (this.coldResting) {
+            if (nowNanos - this.coldRestUntilNanos < 0) return false;
+            this.coldResting = false;
+        }
+        if (this.coldDims.isEmpty()) {
+            this.coldDims.addAll(this.dimIds.values());
+            this.coldCursorStamp = Long.MIN_VALUE;
+            this.coldCursorPos = Long.MIN_VALUE;
+            if (this.coldDims.isEmpty()) {
+                restCold(nowNanos);
+                return false;
+            }
+        }
+        int dimId = this.coldDims.peekFirst();
+        long cutoff = System.currentTimeMillis() / 1000L - days * 86_400L;
+        record Row(long pos, long stamp, int wirefmt, int usize, long chash, long fhash,
+                   byte[] blob) {}
+        var rows = new java.util.ArrayList<Row>(COLD_ROWS_PER_BATCH);
+        try (PreparedStatement ps = this.writer.prepareStatement(
+                "SELECT l.pos, l.src_stamp, l.wirefmt, l.usize, l.chash, l.fhash, l.blob"
+                        + " FROM lods_" + dimId + " l WHERE " + COLD_CANDIDATE
+                        + " AND src_stamp < ? AND (src_stamp > ? OR (src_stamp = ? AND l.pos > ?))"
+                        + " AND NOT EXISTS (SELECT 1 FROM access a WHERE a.dim = " + dimId
+                        + " AND a.pos = l.pos AND a.atime >= ?)"
+                        + " ORDER BY src_stamp, l.pos LIMIT " + COLD_ROWS_PER_BATCH)) {
+            ps.setLong(1, cutoff);
+            ps.setLong(2, this.coldCursorStamp);
+            ps.setLong(3, this.coldCursorStamp);
+            ps.setLong(4, this.coldCursorPos);
+            ps.setLong(5, cutoff);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(new Row(rs.getLong(1), rs.getLong(2), rs.getInt(3), rs.getInt(4),
+                            rs.getLong(5), rs.getLong(6), rs.getBytes(7)));
+                }
+            }
+        }
+        if (rows.isEmpty()) {
+            // Dim exhausted for this pass; the pass rests once every dim is.
+            this.coldDims.pollFirst();
+            this.coldCursorStamp = Long.MIN_VALUE;
+            this.coldCursorPos = Long.MIN_VALUE;
+            if (this.coldDims.isEmpty()) restCold(nowNanos);
+            return false;
+        }
+        var last = rows.get(rows.size() - 1);
+        this.coldCursorStamp = last.stamp();
+        this.coldCursorPos = last.pos();
+        int retagged = 0;
+        long saved = 0;
+        for (Row row : rows) {
+            long rowSaved = row.wirefmt() == WIREFMT_V20_SECTIONS
+                    ? coldSections(dimId, row.pos()) : coldFrame(dimId, row.pos(), row.usize(),
+                            row.chash(), row.fhash(), row.blob());
+            if (rowSaved < 0) continue; // integrity failure: the serve path purges it
+            saved += rowSaved;
+            retagged++;
+        }
+        commitTxn();
+        this.diag.recordColdRecompressed(retagged, saved);
+        return retagged > 0;
+    }
+
+    private void restCold(long nowNanos) {
+        this.coldResting = true;
+        this.coldRestUntilNanos = nowNanos + COLD_RESCAN_NANOS;
+    }
+
+    /** A v20 row's frame at the cold level; returns the bytes saved, -1 when the stored
+     *  frame fails its checks. The {@code fhash} guard yields to a concurrent rewrite. */
+    private long coldFrame(int dimId, long pos, int usize, long chash, long fhash, byte[] blob)
+            throws SQLException {
+        byte[] raw;
+        try {
+            if (usize > MAX_ROW_USIZE || contentHash(blob) != fhash
+                    || this.codec.declaredContentSize(blob) != usize) return -1;
+            raw = this.codec.decompress(blob, usize);
+            if (raw.length != usize || contentHash(raw) != chash) return -1;
+        } catch (RuntimeException e) {
+            return -1;
+        }
+        byte[] cold = this.codec.compressCold(raw);
+        boolean smaller = cold.length < blob.length;
+        if (smaller) hotWrite(dimId, pos);
+        try (PreparedStatement up = this.writer.prepareStatement(smaller
+                ? "UPDATE lods_" + dimId + " SET blob=?, fhash=?, ctier=" + CTIER_COLD
+                        + " WHERE pos=? AND fhash=?"
+                : "UPDATE lods_" + dimId + " SET ctier=" + CTIER_COLD
+                        + " WHERE pos=? AND fhash=?")) {
+            int i = 1;
+            if (smaller) {
+                up.setBytes(i++, cold);
+                up.setLong(i++, contentHash(cold));
+            }
+            up.setLong(i++, pos);
+            up.setLong(i, fhash);
+            up.executeUpdate();
+        }
+        this.txnRows++;
+        return smaller ? blob.length - cold.length : 0;
+    }
+
+    /** A dedup row's fast-tier sections at the cold level, then the row's own tag (its
+     *  manifest blob is unchanged, so no hot-cache bracket). Returns the bytes saved,
+     *  -1 when a section fails its checks. */
+    private long coldSections(int dimId, long pos) throws SQLException {
+        record Section(long hash, long crc, int usize, byte[] blob) {}
+        var sections = new java.util.ArrayList<Section>();
+        try (PreparedStatement ps = this.writer.prepareStatement(
+                "SELECT s.hash, s.crc, s.usize, s.blob FROM section_refs r"
+                        + " JOIN sections s ON s.hash = r.hash"
+                        + " WHERE r.dim = ? AND r.pos = ? AND s.ctier = " + CTIER_FAST)) {
+            ps.setInt(1, dimId);
+            ps.setLong(2, pos);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    sections.add(new Section(rs.getLong(1), rs.getLong(2), rs.getInt(3),
+                            rs.getBytes(4)));
+                }
+            }
+        }
+        long saved = 0;
+        try (PreparedStatement up = this.writer.prepareStatement(
+                "UPDATE sections SET blob=?, ctier=" + CTIER_COLD + " WHERE hash=? AND ctier="
+                        + CTIER_FAST);
+             PreparedStatement tag = this.writer.prepareStatement(
+                     "UPDATE sections SET ctier=" + CTIER_COLD + " WHERE hash=? AND ctier="
+                             + CTIER_FAST)) {
+            for (Section section : sections) {
+                byte[] body;
+                try {
+                    if (section.usize() <= 0 || section.usize() > MAX_ROW_USIZE) return -1;
+                    body = this.codec.decompress(section.blob(), section.usize());
+                    if (body.length != section.usize() || contentHash(body) != section.crc()) {
+                        return -1;
+                    }
+                } catch (RuntimeException e) {
+                    return -1;
+                }
+                byte[] cold = this.codec.compressCold(body);
+                if (cold.length < section.blob().length) {
+                    up.setBytes(1, cold);
+                    up.setLong(2, section.hash());
+                    up.executeUpdate();
+                    saved += section.blob().length - cold.length;
+                } else {
+                    tag.setLong(1, section.hash());
+                    tag.executeUpdate();
+                }
+                this.txnRows++;
+            }
+        }
+        try (PreparedStatement up = this.writer.prepareStatement(
+                "UPDATE lods_" + dimId + " SET ctier=" + CTIER_COLD + " WHERE pos=? AND wirefmt="
+                        + WIREFMT_V20_SECTIONS)) {
+            up.setLong(1, pos);
+            up.executeUpdate();
+        }
+        this.txnRows++;
+        return saved;
+    }
+
     @Override
     public void setLegacyMigrationTranslator(java.util.function.UnaryOperator<byte[]> t) {
         this.legacyMigrationTranslator = t;
+        for (var shard : shardStores()) shard.setLegacyMigrationTranslator(t);
     }
 
     @Override
@@ -1315,6 +2274,8 @@ public final class SqliteLodStore implements LodStoreService {
                 if (op == null) {
                     commitTxn(); // idle flush: never hold a sub-batch across the snapshot cadence
                     migrationWorked = maybeMigrateBatch();
+                    if (maybeColdBatch(now)) migrationWorked = true;
+                    if (gcSections() > 0) commitTxn();
                     this.opsSinceMigrateBatch = 0;
                 } else {
                     apply(op);
@@ -1364,15 +2325,21 @@ public final class SqliteLodStore implements LodStoreService {
                     latchOff("repeated write failures", t);
                 }
             }
-            this.diag.setQueueDepth(queueDepth());
-        }
-        // Graceful exit: flush queued deletes (never shed — see controlQueue), then the
-        // txn. Containment is PER OP: one failing delete must not abandon the rest
-        // (the boot sweep is the cross-restart backstop for whatever still fails —
-        // an invalidated column's later region save advances its header stamp).
+            this.diag.setQueueDepth(this.shardIndex, queueDepth());
+        }
+        // Graceful exit: flush queued deletes (never shed — see controlQueue) and
+        // backfill done-marks, then the txn. A mark is only enqueued once its region's
+        // deposits were TAKEN, and the loop above applied every taken op before it
+        // exited, so committing it here can never outrun its rows — and the offline
+        // builder's last region is not re-walked for want of one poll (a latched store's
+        // rolled-back rows are why marks stay out on that path). Containment is
+        // PER OP: one failing delete must not abandon the rest (the boot sweep is the
+        // cross-restart backstop for whatever still fails — an invalidated column's
+        // later region save advances its header stamp).
         Op op;
         while ((op = this.controlQueue.poll()) != null) {
-            if (op instanceof Op.DeleteRows) {
+            if (op instanceof Op.DeleteRows
+                    || (op instanceof Op.BackfillMark && !this.latchedOff)) {
                 try {
                     apply(op);
                 } catch (Throwable ignored) {
@@ -1392,7 +2359,7 @@ public final class SqliteLodStore implements LodStoreService {
                     + " (derived data)", t);
         }
         this.queue.clear();
-        this.diag.setQueueDepth(0);
+        this.diag.setQueueDepth(this.shardIndex, 0);
     }
 
     /** TEST-ONLY fault seam (review C3): the next N applied ops throw before any of
@@ -1443,6 +2410,7 @@ public final class SqliteLodStore implements LodStoreService {
                     try (PreparedStatement ps = this.writer.prepareStatement(
                             "DELETE FROM lods_" + dimId + " WHERE pos=?")) {
                         for (long p : del.positions()) {
+                            hotWrite(dimId, p);
                             ps.setLong(1, p);
                             ps.executeUpdate();
                         }
@@ -1548,7 +2516,16 @@ public final class SqliteLodStore implements LodStoreService {
         int usize;
         long chash;
         long fhash;
-        if (dep.preFramed()) {
+        int wirefmt = WIREFMT_V20;
+        DedupRow dedup = this.env.sectionDedup() ? prepareDedup(dep) : null;
+        if (dedup != null) {
+            // fhash 0: a dedup row has no stored frame (getFrame compresses on hit).
+            blob = dedup.manifest();
+            usize = dedup.usize();
+            chash = dedup.chash();
+            fhash = 0L;
+            wirefmt = WIREFMT_V20_SECTIONS;
+        } else if (dep.preFramed()) {
             blob = dep.bytes();
             usize = dep.usize();
             chash = dep.chash();
@@ -1568,7 +2545,7 @@ public final class SqliteLodStore implements LodStoreService {
         if (insert == null) {
             insert = this.writer.prepareStatement("INSERT INTO lods_" + dimId
                     + " (pos, ts, chash, usize, src_stamp, fhash, wirefmt, blob)"
-                    + " VALUES (?,?,?,?,?,?,20,?)"
+                    + " VALUES (?,?,?,?,?,?,?,?)"
                     + " ON CONFLICT(pos) DO UPDATE SET ts=excluded.ts,"
                     + " chash=excluded.chash, usize=excluded.usize,"
                     + " src_stamp=excluded.src_stamp, fhash=excluded.fhash,"
@@ -1576,10 +2553,13 @@ public final class SqliteLodStore implements LodStoreService {
                     // re-deposit over an unmigrated 19-row that left the tag would
                     // carry CRC hashes under an FNV dispatch — purged as corrupt on
                     // its next hit.
-                    + " wirefmt=excluded.wirefmt, blob=excluded.blob"
+                    + " wirefmt=excluded.wirefmt, blob=excluded.blob,"
+                    // A rewritten row is fresh by definition: back to the fast tier.
+                    + " ctier=" + CTIER_FAST
                     + " WHERE excluded.ts >= ts");
             this.insertByDim.put(dep.dim(), insert);
         }
+        hotWrite(dimId, dep.packed());
         insert.setLong(1, dep.packed());
         insert.setLong(2, dep.ts());
         insert.setLong(3, chash);
@@ -1587,9 +2567,12 @@ public final class SqliteLodStore implements LodStoreService {
         // src_stamp: the deposit-CALL wall second (never the column ts — see deposit()).
         insert.setLong(5, dep.srcStampSeconds());
         insert.setLong(6, fhash);
-        insert.setBytes(7, blob);
+        insert.setInt(7, wirefmt);
+        insert.setBytes(8, blob);
         if (insert.executeUpdate() > 0) {
             this.diag.recordDeposit();
+            // The replaced row's refs are already released (the unref_upd trigger).
+            if (dedup != null) insertSectionRefs(dimId, dep.packed(), dedup.keys());
         } else {
             this.diag.recordDepositSkip(); // lost latest-wins to a newer-stamped row
         }
@@ -1620,6 +2603,7 @@ public final class SqliteLodStore implements LodStoreService {
         if (tombs != null) {
             Long t = tombs.get(dep.packed());
             if (t != null && t >= dep.enqueuedNanos()) {
+                hotWrite(dimId, dep.packed());
                 try (PreparedStatement ps = this.writer.prepareStatement(
                         "DELETE FROM lods_" + dimId + " WHERE pos=?")) {
                     ps.setLong(1, dep.packed());
@@ -1635,6 +2619,118 @@ public final class SqliteLodStore implements LodStoreService {
         }
     }
 
+    /** A deposit in dedup form: the manifest blob, the whole body's usize/chash, and
+     *  the section keys (manifest order) its refs point at. */
+    private record DedupRow(byte[] manifest, int usize, long chash, long[] keys) {}
+
+    /**
+     * Splits a deposit into shared sections and writes the ones not yet stored, or
+     * returns null to store the row whole: an all-air row (the 0-byte shape), a body
+     * {@link SectionDedup#split} refuses, or a section key already held by DIFFERENT
+     * bytes (a key collision — the stored CRC/size disagree). Sections written for a
+     * deposit that then loses latest-wins sit at zero refs until the next GC.
+     */
+    private DedupRow prepareDedup(Op.Deposit dep) throws SQLException {
+        int usize = dep.preFramed() ? dep.usize() : dep.bytes().length;
+        if (usize <= 0 || usize > MAX_ROW_USIZE) return null;
+        byte[] raw;
+        try {
+            raw = dep.preFramed() ? this.codec.decompress(dep.bytes(), usize) : dep.bytes();
+        } catch (RuntimeException e) {
+            return null;
+        }
+        if (raw.length != usize) return null;
+        var split = SectionDedup.split(raw);
+        if (split == null) return null;
+        byte[][] bodies = split.bodies();
+        long[] keys = new long[bodies.length];
+        long[] crcs = new long[bodies.length];
+        // key -> body index of the first occurrence still to be written
+        var missing = new java.util.LinkedHashMap<Long, Integer>();
+        PreparedStatement lookup = sectionStatement(
+                "SELECT crc, usize FROM sections WHERE hash=?");
+        for (int i = 0; i < bodies.length; i++) {
+            keys[i] = SectionDedup.sectionKey(bodies[i]);
+            crcs[i] = contentHash(bodies[i]);
+            Integer first = missing.get(keys[i]);
+            if (first != null) {
+                if (crcs[first] != crcs[i] || bodies[first].length != bodies[i].length) {
+                    return null;
+                }
+                continue;
+            }
+            lookup.setLong(1, keys[i]);
+            try (ResultSet rs = lookup.executeQuery()) {
+                if (!rs.next()) {
+                    missing.put(keys[i], i);
+                } else if (rs.getLong(1) != crcs[i] || rs.getInt(2) != bodies[i].length) {
+                    return null;
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            PreparedStatement insert = sectionStatement(
+                    "INSERT INTO sections (hash, crc, usize, refs, blob) VALUES (?,?,?,0,?)");
+            for (int i : missing.values()) {
+                insert.setLong(1, keys[i]);
+                insert.setLong(2, crcs[i]);
+                insert.setInt(3, bodies[i].length);
+                insert.setBytes(4, this.codec.compress(bodies[i]));
+                insert.executeUpdate();
+            }
+            bumpTxn(missing.size());
+        }
+        this.diag.recordSectionDedup(bodies.length - missing.size(), missing.size());
+        return new DedupRow(SectionDedup.encodeManifest(split.sectionYs(), keys), usize,
+                contentHash(raw), keys);
+    }
+
+    private void insertSectionRefs(int dimId, long packed, long[] keys) throws SQLException {
+        PreparedStatement ps = sectionStatement(
+                "INSERT INTO section_refs (dim, pos, idx, hash) VALUES (?,?,?,?)");
+        for (int i = 0; i < keys.length; i++) {
+            ps.setInt(1, dimId);
+            ps.setLong(2, packed);
+            ps.setInt(3, i);
+            ps.setLong(4, keys[i]);
+            ps.executeUpdate();
+        }
+    }
+
+    private PreparedStatement sectionStatement(String sql) throws SQLException {
+        PreparedStatement ps = this.sectionStatements.get(sql);
+        if (ps == null) {
+            ps = this.writer.prepareStatement(sql);
+            this.sectionStatements.put(sql, ps);
+        }
+        return ps;
+    }
+
+    /**
+     * Deletes up to {@link #SECTION_GC_BATCH} sections no row references any more
+     * (the {@code sections_gc} partial index makes finding them an index walk). Runs
+     * on the batcher only, so it can never race a deposit between its section lookup
+     * and its ref inserts. Returns the number deleted.
+     */
+    private int gcSections() throws SQLException {
+        int n;
+        try (PreparedStatement ps = this.writer.prepareStatement(
+                "DELETE FROM sections WHERE hash IN"
+                        + " (SELECT hash FROM sections WHERE refs <= 0 LIMIT "
+                        + SECTION_GC_BATCH + ")")) {
+            n = ps.executeUpdate();
+        }
+        if (n > 0) {
+            this.diag.recordSectionGc(n);
+            bumpTxn(n);
+        } else if (this.txnRows == 0) {
+            // Even a no-op DELETE opened a write transaction (autocommit is off); an
+            // idle batcher must not sit on the write lock until its next real op.
+            this.writer.commit();
+        }
+        return n;
+    }
+
     private int dimIdFor(String dimension) throws SQLException {
         Integer id = this.dimIds.get(dimension);
         if (id != null) return id;
@@ -1654,11 +2750,14 @@ public final class SqliteLodStore implements LodStoreService {
                     // deposit writes 20; DEFAULT 19 exists only on the lazy-upgrade
                     // ALTER (existing v0.9.x rows ARE native-layout).
                     + " fhash INTEGER NOT NULL, wirefmt INTEGER NOT NULL DEFAULT 20,"
-                    + " blob BLOB NOT NULL)");
+                    + " blob BLOB NOT NULL, ctier INTEGER NOT NULL DEFAULT " + CTIER_FAST + ")");
             // ts index (review A2): eviction's ORDER BY ts and the sweep's index-only
             // key scan both need it — without it each is a full scan of the blob pages.
             st.execute("CREATE INDEX IF NOT EXISTS lods_" + next + "_ts ON lods_"
                     + next + " (ts)");
+            createSectionRefTriggers(st, next);
+            createAccessTrigger(st, next);
+            ensureColdTier(st, next);
         }
         this.writer.commit();
         this.dimIds.put(dimension, next);
@@ -1690,6 +2789,28 @@ public final class SqliteLodStore implements LodStoreService {
         // The open txn's memo clears are durable now (a memo DELETE always bumps txnRows,
         // so it cannot be pending when the branch above skipped) — review F5.
         this.txnReopened.clear();
+        releaseHotWrites();
+    }
+
+    /** Before a lods row write: drop the position from the hot cache and pin its stripe
+     *  until the write's commit — a reader racing the write can then never cache the
+     *  pre-write frame. Batcher thread. */
+    private void hotWrite(int dimId, long pos) {
+        if (this.hotCache == null) return;
+        if (this.hotPendingCount == this.hotPending.length) {
+            this.hotPending = java.util.Arrays.copyOf(this.hotPending, this.hotPendingCount * 2);
+        }
+        this.hotPending[this.hotPendingCount++] = this.hotCache.beginWrite(hotDim(dimId), pos);
+    }
+
+    /** After a commit or rollback: unpin every stripe {@link #hotWrite} pinned. Any
+     *  writer commit makes ALL of the batcher's open writes durable, so releasing the
+     *  whole list is always exact. */
+    private void releaseHotWrites() {
+        if (this.hotPendingCount == 0) return;
+        this.hotCache.endWrites(this.hotPending, this.hotPendingCount);
+        this.hotPendingCount = 0;
+        if (this.hotPending.length > 4096) this.hotPending = new int[64];
     }
 
     /**
@@ -1705,6 +2826,7 @@ public final class SqliteLodStore implements LodStoreService {
      */
     private void rollbackTxn() {
         try { this.writer.rollback(); this.txnRows = 0; } catch (Throwable ignored) { }
+        releaseHotWrites();
         long[] entry;
         while ((entry = this.txnReopened.pollFirst()) != null) {
             var set = this.sweepReopened.get((int) entry[0]);
@@ -1775,21 +2897,38 @@ public final class SqliteLodStore implements LodStoreService {
 
     private void maybeRefreshGauges(long nowNanos) {
         if (nowNanos - this.lastGaugeRefreshNanos < GAUGE_REFRESH_NANOS) return;
+        long sinceLastGauge = nowNanos - this.lastGaugeRefreshNanos;
         this.lastGaugeRefreshNanos = nowNanos;
+        if (this.root == null) { // the counters are store-wide: one rate, from the root
+            long coldRows = this.diag.getColdRows();
+            this.diag.setColdTier(this.env.coldCompressionDays() > 0,
+                    (coldRows - this.coldRowsAtLastGauge) * TimeUnit.MINUTES.toNanos(1)
+                            / sinceLastGauge);
+            this.coldRowsAtLastGauge = coldRows;
+        }
         try {
-            this.diag.setDbBytes(Files.exists(this.dbPath) ? Files.size(this.dbPath) : 0);
+            this.diag.setDbBytes(this.shardIndex,
+                    Files.exists(this.dbPath) ? Files.size(this.dbPath) : 0);
             Path wal = this.dbPath.resolveSibling(DB_FILE + "-wal");
             long walBytes = Files.exists(wal) ? Files.size(wal) : 0;
-            this.diag.setWalBytes(walBytes);
+            this.diag.setWalBytes(this.shardIndex, walBytes);
             if (walBytes > WAL_CHECKPOINT_BYTES) {
                 commitTxn();
                 checkpointTruncate();
                 walBytes = Files.exists(wal) ? Files.size(wal) : 0;
-                this.diag.setWalBytes(walBytes);
+                this.diag.setWalBytes(this.shardIndex, walBytes);
             }
-            // Phase 5 size cap: above it, evict the oldest-ts rows in batches and
-            // return the pages (auto_vacuum=INCREMENTAL, armed at DB creation).
-            // Evicted columns re-warm on their next serve.
+            // Fold the readers' buffered hits in first, so this tick's victim order
+            // sees them; then drop regret entries past their window.
+            if (this.trackAccess) {
+                flushAccess();
+                maybeAgeAccess(nowNanos);
+            }
+            trimRecentlyEvicted(nowNanos);
+            // Phase 5 size cap: above it, evict rows in batches — in the configured
+            // policy's order (evictBatch) — and return the pages
+            // (auto_vacuum=INCREMENTAL, armed at DB creation). Evicted columns re-warm
+            // on their next serve.
             //
             // The cap is measured against the LOGICAL size — (page_count -
             // freelist_count) * page_size — never Files.size(). Two defects lived in
@@ -1817,7 +2956,9 @@ public final class SqliteLodStore implements LodStoreService {
             // whether or not the vacuum keeps up; the vacuum is now purely about
             // returning space to the filesystem.
             long liveBytes = logicalDbBytes();
-            if (liveBytes > this.env.maxDbBytes()) {
+            this.liveBytesGauge = liveBytes;
+            long cap = capShare(liveBytes);
+            if (liveBytes > cap) {
                 commitTxn();
                 // Firm cap (review B12): ONE 512-row/dim batch per 5 s tick
                 // (~780 KB/s) is out-runnable by deposits — the backfill default alone
@@ -1826,29 +2967,37 @@ public final class SqliteLodStore implements LodStoreService {
                 // and with the ts index each pass is an index walk, not a table scan.
                 // Evict to a little UNDER the cap: landing exactly on it puts the
                 // store back into this branch on the very next gauge tick.
-                long target = (long) (this.env.maxDbBytes() * EVICTION_TARGET_FRACTION);
+                long target = (long) (cap * EVICTION_TARGET_FRACTION);
                 for (int pass = 0; pass < MAX_EVICTION_PASSES_PER_TICK
-                        && liveBytes > this.env.maxDbBytes(); pass++) {
-                    int evicted = evictOldestBatch(liveBytes - target);
+                        && liveBytes > cap; pass++) {
+                    int evicted = evictBatch(liveBytes - target);
                     if (evicted == 0) break;
-                    // Count + (once) log BEFORE the vacuum: evictOldestBatch has
+                    // Count + (once) log BEFORE the vacuum: evictBatch has
                     // already committed its deletions, and a vacuum/commit throw is
                     // swallowed by this method's containment — the counter and the one
                     // cap line must not vanish with it (review: a store that evicts
                     // fine but cannot vacuum would treadmill with evicted=0 and no
                     // line, the exact observability hole §2 closes).
                     this.diag.recordSqlEvictions(evicted);
+                    // Release the evicted rows' now-unshared sections BEFORE
+                    // re-measuring, or their pages still count against the cap.
+                    for (int gc = 0; gc < SECTION_GC_BATCHES_PER_EVICTION; gc++) {
+                        if (gcSections() < SECTION_GC_BATCH) break;
+                    }
+                    commitTxn();
                     // Exactly ONE cap line per server session (store-cap-behavior-plan
                     // §2, user decision): once a store is at its cap, eviction is a
                     // steady-state fact, not news — the ~5 s gauge cadence turned this
                     // line into permanent spam on a treadmilling store. The single
                     // emission carries the durable context + where the ongoing state
                     // stays observable.
-                    if (this.capLogLatch.compareAndSet(false, true)) {
-                        this.capLogEmissions++;
+                    SqliteLodStore top = this.root != null ? this.root : this; // one per store
+                    if (top.capLogLatch.compareAndSet(false, true)) {
+                        top.capLogEmissions++;
                         LSSLogger.info("LOD store size cap: evicted " + evicted
-                                + " oldest rows (live " + (liveBytes >> 20) + " MB > cap "
-                                + (this.env.maxDbBytes() >> 20) + " MB) — the store is at "
+                                + " rows, policy " + this.env.evictionPolicy().configValue()
+                                + " (live " + (liveBytes >> 20) + " MB > cap "
+                                + (cap >> 20) + " MB) — the store is at "
                                 + "its size cap and will keep evicting silently; running "
                                 + "totals in '/lsslod store status' (evicted=), raise or "
                                 + "zero lodStoreMaxMB (0 = uncapped) for full retention");
@@ -1861,7 +3010,9 @@ public final class SqliteLodStore implements LodStoreService {
                 // budget bounds the batcher's time here.
                 drainIncrementalVacuum(MAX_VACUUM_PAGES_PER_TICK);
                 this.writer.commit();
-                this.diag.setDbBytes(Files.exists(this.dbPath) ? Files.size(this.dbPath) : 0);
+                this.diag.setDbBytes(this.shardIndex,
+                        Files.exists(this.dbPath) ? Files.size(this.dbPath) : 0);
+                this.liveBytesGauge = liveBytes;
             }
         } catch (Throwable ignored) {
             // gauge refresh is best-effort; a failed checkpoint retries next interval
@@ -1881,13 +3032,16 @@ public final class SqliteLodStore implements LodStoreService {
 
     /** DropAll fence for the backfill's done-marks (review B9). */
     long dropGeneration() {
-        return this.dropGeneration;
+        long generation = this.dropGeneration;
+        for (var shard : shardStores()) generation += shard.dropGeneration();
+        return generation;
     }
 
     /** Closes and unregisters the CURRENT thread's reader connection — the backfill
      *  worker's exit hook (review B6: each start() thread otherwise leaks its
      *  ThreadLocal connection until store shutdown). */
     void closeReaderConnForCurrentThread() {
+        for (var shard : shardStores()) shard.closeReaderConnForCurrentThread();
         Connection c = this.readerConn.get();
         if (c == null) return;
         this.readerConn.remove();
@@ -1907,8 +3061,13 @@ public final class SqliteLodStore implements LodStoreService {
     @Override
     public String stateToken() {
         if (this.latchedOff) return "latched";
-        if (!this.serving) return "sweeping";
-        return "ok";
+        String state = this.serving ? "ok" : "sweeping";
+        for (var shard : shardStores()) {
+            String shardState = shard.stateToken();
+            if (shardState.equals("latched")) return shardState;
+            if (shardState.equals("sweeping")) state = shardState;
+        }
+        return state;
     }
 
     /** Reads a single-value PRAGMA off the writer connection. Batcher-thread only. */
@@ -1943,7 +3102,7 @@ public final class SqliteLodStore implements LodStoreService {
         try {
             return Files.exists(this.dbPath) ? Files.size(this.dbPath) : 0;
         } catch (IOException e) {
-            return this.diag.getDbBytes();
+            return this.diag.getDbBytes(this.shardIndex);
         }
     }
 
@@ -1985,14 +3144,16 @@ public final class SqliteLodStore implements LodStoreService {
      *  pace, which ate the stop gate's 5% margin at small caps (review MINOR).
      *  Falls back to the gauges if the stat fails. */
     long approxSizeBytes() {
+        long shardBytes = 0;
+        for (var shard : shardStores()) shardBytes += shard.approxSizeBytes();
         try {
             long db = Files.exists(this.dbPath) ? Files.size(this.dbPath) : 0;
             Path wal = this.dbPath.resolveSibling(DB_FILE + "-wal");
             long walBytes = Files.exists(wal) ? Files.size(wal) : 0;
-            return db + Math.min(walBytes, WAL_CHECKPOINT_BYTES);
+            return shardBytes + db + Math.min(walBytes, WAL_CHECKPOINT_BYTES);
         } catch (Exception e) {
-            return this.diag.getDbBytes()
-                    + Math.min(this.diag.getWalBytes(), WAL_CHECKPOINT_BYTES);
+            return shardBytes + this.diag.getDbBytes(this.shardIndex)
+                    + Math.min(this.diag.getWalBytes(this.shardIndex), WAL_CHECKPOINT_BYTES);
         }
     }
 
@@ -2020,10 +3181,14 @@ public final class SqliteLodStore implements LodStoreService {
         return this.capLogEmissions;
     }
 
-    /** Oldest-ts eviction ACROSS all dims (a real cross-dimension merge since the
+    /** One eviction candidate: its policy rank is {@code (key1, key2)} ascending —
+     *  comparable ACROSS dimensions, which is what the global merge sorts on. */
+    private record Candidate(String dim, int dimId, long pos, long len, long key1, long key2) { }
+
+    /** Policy-ordered eviction ACROSS all dims (a real cross-dimension merge since the
      *  2026-08-05 review's F4 — see below), sized to the DEFICIT rather than to a fixed
      *  batch, and bounded at {@link #EVICTION_MAX_ROWS_PER_DIM} candidate rows/dim per
-     *  pass so one pass cannot monopolise the batcher.
+     *  ranked stream per pass so one pass cannot monopolise the batcher.
      *
      *  <p>This used to delete a flat 512 rows/dim however far over the cap the store
      *  actually was, and {@link #MAX_EVICTION_PASSES_PER_TICK} compounded that to 4096
@@ -2037,48 +3202,37 @@ public final class SqliteLodStore implements LodStoreService {
      *  HashMap order against one shared budget, so the first dimension absorbed the
      *  entire deficit per pass and across passes — under sustained cap pressure one
      *  dim's genuinely-warm rows were hollowed out while the others kept everything.
-     *  Candidates (≤ {@link #EVICTION_MAX_ROWS_PER_DIM} per dim, today's worst-case pass
-     *  work) are now merged by ascending ts — ties broken by dimId then pos for
-     *  determinism — and consumed in GLOBAL age order until the deficit is covered
-     *  ({@code remaining > 0} checked before each victim, so the last one may overshoot,
-     *  exactly like the per-dim loop did). Single-dim stores behave bit-identically
-     *  modulo ts TIES, which the sort now breaks deterministically by pos where the old
-     *  path took SQLite's scan order. Per-dim candidate collection stops early once a
-     *  dim's own bytes cover the whole deficit (no later row of it can be a victim), so
-     *  the typical steady-state pass steps a handful of rows, not 512×dims.
+     *  Each dim's candidates ({@link #evictionCandidates}) are now merged by policy rank
+     *  — ties broken by dimId then pos for determinism — and consumed in GLOBAL rank
+     *  order until the deficit is covered ({@code remaining > 0} checked before each
+     *  victim, so the last one may overshoot, exactly like the per-dim loop did). Per-dim
+     *  candidates are cut once a dim's own bytes cover the whole deficit (no later row of
+     *  it can be a victim), so the typical steady-state pass steps a handful of rows.
      *
      *  <p>Freed pages are ≥ freed blob bytes (page granularity), so covering the
      *  deficit in blob bytes always clears it in page bytes; the caller re-measures
      *  and runs another pass if not. Evicted positions go through the tombstone
      *  protocol like any delete so readers cannot race a half-removed row. */
-    private int evictOldestBatch(long bytesToFree) throws SQLException {
-        record Candidate(String dim, int dimId, long pos, long len, long ts) { }
+    private int evictBatch(long bytesToFree) throws SQLException {
         var candidates = new ArrayList<Candidate>();
         for (var entry : List.copyOf(this.dimIds.entrySet())) {
+            var ranked = evictionCandidates(entry.getKey(), entry.getValue(), bytesToFree);
+            // Per-dim cut (three-lens review): the victim set is the globally-lowest-rank
+            // prefix covering the deficit, so no single dim can ever contribute more than
+            // the rows covering the WHOLE deficit — once this dim's own cumulative bytes
+            // reach it, its later-ranked rows cannot be victims.
             long dimBytes = 0;
-            try (Statement st = this.writer.createStatement();
-                 ResultSet rs = st.executeQuery("SELECT pos, length(\"blob\"), ts FROM lods_"
-                         + entry.getValue() + " ORDER BY ts ASC LIMIT "
-                         + EVICTION_MAX_ROWS_PER_DIM)) {
-                while (rs.next()) {
-                    long len = Math.max(1L, rs.getLong(2));
-                    candidates.add(new Candidate(entry.getKey(), entry.getValue(),
-                            rs.getLong(1), len, rs.getLong(3)));
-                    // Per-dim early stop (three-lens review): the victim set is the
-                    // globally-oldest prefix covering the deficit, so no single dim can
-                    // ever contribute more than the rows covering the WHOLE deficit —
-                    // once this dim's own cumulative bytes reach it, later (younger) rows
-                    // of this dim cannot be victims. Restores the pre-merge shape's
-                    // typical-case cost (a handful of row-steps, not 512×dims per pass).
-                    dimBytes += len;
-                    if (dimBytes >= bytesToFree) break;
-                }
+            for (var cand : ranked) {
+                candidates.add(cand);
+                dimBytes += cand.len();
+                if (dimBytes >= bytesToFree) break;
             }
         }
-        candidates.sort(java.util.Comparator.comparingLong(Candidate::ts)
+        candidates.sort(java.util.Comparator.comparingLong(Candidate::key1)
+                .thenComparingLong(Candidate::key2)
                 .thenComparingInt(Candidate::dimId).thenComparingLong(Candidate::pos));
 
-        // Victims in global age order, grouped per dim for the delete ladder below.
+        // Victims in global rank order, grouped per dim for the delete ladder below.
         var victimsByDim = new java.util.LinkedHashMap<String, List<Long>>();
         var dimIdByKey = new HashMap<String, Integer>();
         long remaining = bytesToFree;
@@ -2115,10 +3269,193 @@ public final class SqliteLodStore implements LodStoreService {
             }
             this.writer.commit();
             evicted += deleteRows(dimIdByKey.get(entry.getKey()), oldest);
+            var regrets = this.recentlyEvicted.computeIfAbsent(entry.getKey(),
+                    k -> new ConcurrentHashMap<>());
+            for (long pos : oldest) regrets.put(pos, now);
         }
         return evicted;
     }
 
+    /** SELECT-list term for a row's eviction size: a dedup row's blob is only its
+     *  manifest, so its stand-in is the UNCOMPRESSED body — an over-estimate (shared
+     *  sections free nothing), so a pass under-evicts and the caller's re-measure runs
+     *  another, never the empty-the-store overshoot described on evictBatch. */
+    private static final String EVICTION_LEN = "CASE WHEN l.wirefmt = " + WIREFMT_V20_SECTIONS
+            + " THEN l.usize ELSE length(l.\"blob\") END";
+
+    /**
+     * One dimension's eviction candidates in the policy's rank order (ascending =
+     * evicted first), each stream bounded by an index walk:
+     * <ul>
+     *   <li>OLDEST: {@code ORDER BY ts} over the ts index — rank = ts.</li>
+     *   <li>LRU / LFU: two streams merged — rows never hit since deposit (the ts-index
+     *       walk, anti-joined against access; their recency is the deposit second) and
+     *       hit rows (the access_lru / access_lfu index walk). LRU ranks by last access
+     *       second; LFU by hit count, then last access.</li>
+     *   <li>ANCHOR: the {@link #EVICTION_ANCHOR_POOL} oldest rows, ranked by distance to
+     *       the nearest of the dim's {@link #EVICTION_ANCHORS} most-hit positions,
+     *       farthest first (no hits yet = plain oldest order).</li>
+     * </ul>
+     * The LRU/LFU never-hit stream walks in ts order but ranks by deposit second; the
+     * two track each other closely (both are set at deposit), so the merge is
+     * approximate only across re-deposits. Every stream except ANCHOR's pool stops
+     * reading once its own rows cover {@code bytesToFree}: that prefix alone covers the
+     * deficit, so no later row of the stream can become a victim.
+     */
+    private List<Candidate> evictionCandidates(String dim, int dimId, long bytesToFree)
+            throws SQLException {
+        var out = new ArrayList<Candidate>();
+        String table = "lods_" + dimId;
+        switch (this.env.evictionPolicy()) {
+            case OLDEST -> {
+                try (Statement st = this.writer.createStatement();
+                     ResultSet rs = st.executeQuery("SELECT l.pos, " + EVICTION_LEN + ", l.ts"
+                             + " FROM " + table + " l ORDER BY l.ts ASC LIMIT "
+                             + EVICTION_MAX_ROWS_PER_DIM)) {
+                    long covered = 0;
+                    while (covered < bytesToFree && rs.next()) {
+                        long len = Math.max(1L, rs.getLong(2));
+                        out.add(new Candidate(dim, dimId, rs.getLong(1), len, rs.getLong(3), 0L));
+                        covered += len;
+                    }
+                }
+                return out; // already in rank order
+            }
+            case LRU, LFU -> {
+                boolean lfu = this.env.evictionPolicy() == StoreEvictionPolicy.LFU;
+                try (Statement st = this.writer.createStatement();
+                     ResultSet rs = st.executeQuery("SELECT l.pos, " + EVICTION_LEN + ", l.src_stamp"
+                             + " FROM " + table + " l WHERE NOT EXISTS (SELECT 1 FROM access a"
+                             + " WHERE a.dim = " + dimId + " AND a.pos = l.pos)"
+                             + " ORDER BY l.ts ASC LIMIT " + EVICTION_MAX_ROWS_PER_DIM)) {
+                    long covered = 0;
+                    while (covered < bytesToFree && rs.next()) {
+                        long len = Math.max(1L, rs.getLong(2));
+                        long deposited = rs.getLong(3);
+                        out.add(lfu ? new Candidate(dim, dimId, rs.getLong(1), len, 0L, deposited)
+                                : new Candidate(dim, dimId, rs.getLong(1), len, deposited, 0L));
+                        covered += len;
+                    }
+                }
+                try (Statement st = this.writer.createStatement();
+                     ResultSet rs = st.executeQuery("SELECT a.pos, " + EVICTION_LEN + ", a.atime,"
+                             + " a.hits FROM access a JOIN " + table + " l ON l.pos = a.pos"
+                             + " WHERE a.dim = " + dimId + " ORDER BY "
+                             + (lfu ? "a.hits, a.atime" : "a.atime") + " LIMIT "
+                             + EVICTION_MAX_ROWS_PER_DIM)) {
+                    long covered = 0;
+                    while (covered < bytesToFree && rs.next()) {
+                        long len = Math.max(1L, rs.getLong(2));
+                        long atime = rs.getLong(3);
+                        out.add(lfu ? new Candidate(dim, dimId, rs.getLong(1), len, rs.getLong(4), atime)
+                                : new Candidate(dim, dimId, rs.getLong(1), len, atime, 1L));
+                        covered += len;
+                    }
+                }
+            }
+            case ANCHOR -> {
+                var anchors = new ArrayList<long[]>();
+                try (Statement st = this.writer.createStatement();
+                     ResultSet rs = st.executeQuery("SELECT pos FROM access WHERE dim = " + dimId
+                             + " ORDER BY hits DESC LIMIT " + EVICTION_ANCHORS)) {
+                    while (rs.next()) {
+                        long p = rs.getLong(1);
+                        anchors.add(new long[]{PositionUtil.unpackX(p), PositionUtil.unpackZ(p)});
+                    }
+                }
+                try (Statement st = this.writer.createStatement();
+                     ResultSet rs = st.executeQuery("SELECT l.pos, " + EVICTION_LEN + ", l.ts"
+                             + " FROM " + table + " l ORDER BY l.ts ASC LIMIT "
+                             + EVICTION_ANCHOR_POOL)) {
+                    while (rs.next()) {
+                        long pos = rs.getLong(1);
+                        long nearest = 0;
+                        if (!anchors.isEmpty()) {
+                            nearest = Long.MAX_VALUE;
+                            long x = PositionUtil.unpackX(pos), z = PositionUtil.unpackZ(pos);
+                            for (long[] a : anchors) {
+                                long dx = x - a[0], dz = z - a[1];
+                                nearest = Math.min(nearest, dx * dx + dz * dz);
+                            }
+                        }
+                        // Farthest first: the negated distance ranks ascending.
+                        out.add(new Candidate(dim, dimId, pos, Math.max(1L, rs.getLong(2)),
+                                -nearest, rs.getLong(3)));
+                    }
+                }
+            }
+        }
+        out.sort(java.util.Comparator.comparingLong(Candidate::key1)
+                .thenComparingLong(Candidate::key2).thenComparingLong(Candidate::pos));
+        return out;
+    }
+
+    /**
+     * Folds the readers' buffered hits into the access table (batcher, gauge cadence):
+     * last access = this flush's epoch second, hit count summed. Only rows still present
+     * gain an entry — a hit whose row was deleted since is dropped here, so the table
+     * never holds orphans. One commit per flush.
+     */
+    private void flushAccess() throws SQLException {
+        if (this.pendingAccessCount.get() == 0) return;
+        commitTxn();
+        long nowSeconds = System.currentTimeMillis() / 1000L;
+        int flushed = 0;
+        for (var entry : this.pendingAccess.entrySet()) {
+            Integer dimId = this.dimIds.get(entry.getKey());
+            var hits = entry.getValue();
+            PreparedStatement ps = dimId == null ? null : sectionStatement(
+                    "INSERT INTO access (dim, pos, atime, hits) SELECT " + dimId + ", pos, ?, ?"
+                            + " FROM lods_" + dimId + " WHERE pos = ?"
+                            + " ON CONFLICT (dim, pos) DO UPDATE SET atime = excluded.atime,"
+                            + " hits = hits + excluded.hits");
+            // remove-then-write: a hit racing this loop lands in a fresh entry for the
+            // next flush instead of being lost.
+            for (Long pos : List.copyOf(hits.keySet())) {
+                Integer n = hits.remove(pos);
+                if (n == null) continue;
+                this.pendingAccessCount.decrementAndGet();
+                if (ps == null) continue;
+                ps.setLong(1, nowSeconds);
+                ps.setLong(2, n);
+                ps.setLong(3, pos);
+                ps.executeUpdate();
+                flushed++;
+            }
+        }
+        if (flushed > 0) this.writer.commit();
+    }
+
+    /** LFU aging: halve every hit count once per {@link #ACCESS_AGING_SECONDS}. */
+    private void maybeAgeAccess(long nowNanos) throws SQLException {
+        if (this.env.evictionPolicy() != StoreEvictionPolicy.LFU) return;
+        if (nowNanos - this.lastAccessAgingNanos < TimeUnit.SECONDS.toNanos(ACCESS_AGING_SECONDS)) return;
+        this.lastAccessAgingNanos = nowNanos;
+        try (Statement st = this.writer.createStatement()) {
+            st.executeUpdate("UPDATE access SET hits = hits / 2 WHERE hits > 1");
+        }
+        this.writer.commit();
+    }
+
+    /** Bounds the regret memory: entries past {@link #REGRET_WINDOW_NANOS} go, then,
+     *  if still over {@link #MAX_REGRET_ENTRIES}, arbitrary ones until under. */
+    private void trimRecentlyEvicted(long nowNanos) {
+        int total = 0;
+        for (var evicted : this.recentlyEvicted.values()) {
+            evicted.values().removeIf(at -> nowNanos - at > REGRET_WINDOW_NANOS);
+            total += evicted.size();
+        }
+        if (total <= MAX_REGRET_ENTRIES) return;
+        for (var evicted : this.recentlyEvicted.values()) {
+            var it = evicted.keySet().iterator();
+            while (total > MAX_REGRET_ENTRIES && it.hasNext()) {
+                it.next();
+                it.remove();
+                total--;
+            }
+        }
+    }
+
     private void checkpointTruncate() throws SQLException {
         long t0 = System.nanoTime();
         boolean busy = false;
@@ -2263,25 +3600,28 @@ public final class SqliteLodStore implements LodStoreService {
             int rx = (int) (rpos >> 32);
             int rz = (int) rpos;
             Path mca = regionDir.resolve("r." + rx + "." + rz + ".mca");
-            if (!Files.exists(mca)) {
-                List<Long> rows = new ArrayList<>(regionRows(dimId, rpos).keySet());
-                droppedVanished += deleteRows(dimId, rows);
-                droppedPositions.addAll(rows);
-                droppedPositions = flushSweepDrops(dimension, droppedPositions);
-                continue;
-            }
             // Capture the mtime BEFORE the header read, and record THAT value as
             // seen_mtime only after this region's rows were actually judged against
             // its header. Recording a fresh stat (the old shutdown-time bulk
             // recordRegionMtimes) marked regions "seen" whose headers were NEVER
             // examined — a save landing after the last examination was then skipped
             // by the != compare forever, turning Paper's "save + one sweep" staleness
-            // bound into unbounded cross-restart staleness (review MAJOR).
-            long mtime = Files.getLastModifiedTime(mca).toMillis();
+            // bound into unbounded cross-restart staleness (review MAJOR). The stat is
+            // also the existence check: one stat per region, not two.
+            long mtime;
+            try {
+                mtime = Files.getLastModifiedTime(mca).toMillis();
+            } catch (java.nio.file.NoSuchFileException e) {
+                List<Long> rows = new ArrayList<>(regionRows(dimId, rpos).keySet());
+                droppedVanished += deleteRows(dimId, rows);
+                droppedPositions.addAll(rows);
+                droppedPositions = flushSweepDrops(dimension, droppedPositions);
+                continue;
+            }
             Long seen = seenMtimes.get(rpos);
             if (seen != null && seen == mtime) continue; // unchanged: zero row IO
             checkedRegions++;
-            int[] headerStamps = readHeaderTimestamps(mca);
+            int[] headerStamps = readHeaderTimestamps(mca, mtime);
             Map<Long, Long> rows = regionRows(dimId, rpos);
             if (headerStamps == null) {
                 if (this.shutdown.get()) throw new InterruptedException("shutdown during sweep");
@@ -2335,29 +3675,20 @@ public final class SqliteLodStore implements LodStoreService {
         this.writer.commit();
     }
 
-    private int[] readHeaderTimestamps(Path mca) {
-        try (var ch = java.nio.channels.FileChannel.open(mca)) {
-            var buf = java.nio.ByteBuffer.allocate(8192);
-            int read = 0;
-            while (read < 8192) {
-                int n = ch.read(buf, read);
-                if (n < 0) return null;
-                read += n;
-            }
-            buf.flip();
-            int[] stamps = new int[1024];
-            for (int i = 0; i < 1024; i++) {
-                int loc = buf.getInt(i * 4);
-                // loc == 0: the chunk is ABSENT from a still-present region file — it was
-                // deleted (region tools) or never saved. Fail-safe like the vanished-region
-                // rule, at chunk granularity: MAX_VALUE makes the >= compare drop the row,
-                // so the store never intercepts the miss that regenerates a deleted chunk.
-                stamps[i] = loc == 0 ? Integer.MAX_VALUE : buf.getInt(4096 + i * 4);
-            }
-            return stamps;
-        } catch (Exception e) {
-            return null;
+    /** The region header's save seconds, through the shared
+     *  {@link dev.vox.lss.common.region.RegionHeaderCache} under the sweep's stat. */
+    private int[] readHeaderTimestamps(Path mca, long mtimeMillis) {
+        var header = dev.vox.lss.common.region.RegionHeaderCache.shared().read(mca, mtimeMillis);
+        if (header == null || header.saveSeconds() == null) return null;
+        int[] stamps = new int[1024];
+        for (int i = 0; i < 1024; i++) {
+            // Absent (location 0): the chunk is ABSENT from a still-present region file — it
+            // was deleted (region tools) or never saved. Fail-safe like the vanished-region
+            // rule, at chunk granularity: MAX_VALUE makes the >= compare drop the row,
+            // so the store never intercepts the miss that regenerates a deleted chunk.
+            stamps[i] = header.present(i) ? header.saveSeconds()[i] : Integer.MAX_VALUE;
         }
+        return stamps;
     }
 
     private int deleteRows(int dimId, List<Long> positions) throws SQLException {
@@ -2365,11 +3696,13 @@ public final class SqliteLodStore implements LodStoreService {
         try (PreparedStatement ps = this.writer.prepareStatement(
                 "DELETE FROM lods_" + dimId + " WHERE pos=?")) {
             for (long pos : positions) {
+                hotWrite(dimId, pos);
                 ps.setLong(1, pos);
                 ps.executeUpdate();
             }
         }
         this.writer.commit();
+        releaseHotWrites();
         return positions.size();
     }
 
@@ -3,16 +3,26 @@ package dev.vox.lss.common.store;
 import dev.vox.lss.common.Brand;
 import dev.vox.lss.common.LSSLogger;
 import dev.vox.lss.common.PositionUtil;
+import dev.vox.lss.common.processing.DiskReaderDiagnostics;
+import dev.vox.lss.common.region.RegionFileBulkReader;
+import dev.vox.lss.common.region.RegionHeaderCache;
 
-import java.nio.ByteBuffer;
-import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 
@@ -26,14 +36,17 @@ import java.util.function.Function;
  * <p><b>Self-restraint</b> (the plan's explicit anti-goal is v1's "pause while any
  * player backlog is nonempty", which never releases under 1 Hz re-declaration):
  * <ul>
- *   <li>one MIN_PRIORITY thread, ONE synchronous read at a time;</li>
+ *   <li>MIN_PRIORITY threads, ONE synchronous read at a time per region worker;
+ *       {@code lodStoreBackfillWorkers} above 1 walks that many regions in parallel, but
+ *       the active count is AIMD-limited — it starts at one, grows by one per quiet
+ *       rate window and halves on every restraint poll below;</li>
  *   <li>{@code readerHeadroom} — pauses while the player-serving reader pool has no
  *       spare capacity (the same self-restraint gate the want-set router obeys);</li>
  *   <li>{@code tickHealthy} — pauses while the server tick is over the ceiling (the
  *       plan's MSPT gate; the platform wires its own tick-time source);</li>
  *   <li>a column-rate cap ({@code lodStoreBackfillColumnsPerSecond}, default
  *       {@value #DEFAULT_COLUMNS_PER_SECOND}/s) so an idle server still trickles
- *       rather than bursts.</li>
+ *       rather than bursts — shared by all workers, never per worker.</li>
  * </ul>
  *
  * <p><b>Resumability:</b> finished regions are marked in the store's {@code backfill}
@@ -41,6 +54,15 @@ import java.util.function.Function;
  * restart re-enumerates and skips done regions. Columns whose store row already exists
  * are skipped without a read ({@code get()} — the row's freshness is the sweep's job).
  *
+ * <p><b>Bulk rung</b> (optional {@link RecordDecoder}): the first column of a region that
+ * actually needs a read pulls the WHOLE {@code .mca} in one positional read
+ * ({@link RegionFileBulkReader}); the region's remaining reads decode from that image on
+ * a small MIN_PRIORITY pool, prefetched at most {@link #BULK_LOOKAHEAD_PER_THREAD} per
+ * thread ahead of the paced walk — so restraint and the rate cap still bound the work
+ * (a pause stops new prefetches; at most the lookahead is in flight). Warm regions never
+ * trigger the read (hasRow skips come first); external/malformed records and any region
+ * the bulk reader declines fall back to the per-column {@link ColumnReader}.
+ *
  * <p>All failure shapes are contained per column/region (counted {@code
  * store.errors} via the store's own paths where applicable); the driver never throws
  * out of its thread.
@@ -90,6 +112,23 @@ public final class StoreBackfill {
     private final BooleanSupplier tickHealthy;
     private final int columnsPerSecond;
 
+    /** Platform seam for the bulk rung: inflate + serialize one still-compressed region
+     *  record (payload + version byte, as sliced by {@link RegionFileBulkReader}) through
+     *  the same serializers serves use. Same null/throw contract as {@link ColumnReader}.
+     *  Called from the decode pool — implementations must be thread-safe. */
+    @FunctionalInterface
+    public interface RecordDecoder {
+        byte[] decode(String dimension, int cx, int cz, byte[] payload, byte version) throws Exception;
+    }
+
+    /** Decodes in flight per pool thread ahead of the walk cursor. */
+    static final int BULK_LOOKAHEAD_PER_THREAD = 2;
+    /** Decode pool ceiling: past ~4 a region walker's deposits are the limiter. */
+    static final int MAX_DECODE_THREADS = 4;
+
+    private final RecordDecoder recordDecoder; // null = per-column reads only
+    private final DiskReaderDiagnostics bulkDiagnostics; // null-tolerant
+
     private final AtomicBoolean running = new AtomicBoolean();
     private final AtomicBoolean stopRequested = new AtomicBoolean();
     private volatile Thread worker;
@@ -103,12 +142,71 @@ public final class StoreBackfill {
     // (denser, near-spawn) prefix OVERestimates columns-left for the sparse frontier —
     // acceptable for a `~` estimate.
     private volatile int planRegionsTotal;
-    private volatile int planRegionsWalked;
-    private volatile long presentChunksSeen;
+    private final AtomicInteger planRegionsWalked = new AtomicInteger();
+    private final AtomicLong presentChunksSeen = new AtomicLong();
+    private volatile long walkStartNanos;
     /** Rate-cap windows completed (worker-written, read after join — the wiring pin's
      *  counter: pacing asserts on this, never wall-clock). */
     private volatile long rateWindows;
 
+    // Multi-worker walk state (lodStoreBackfillWorkers). The tallies, the shared rate
+    // window and the AIMD limit are all per-run; the first terminal condition any worker
+    // hits is kept in haltLine and ends every worker at its next column.
+    private final int maxWorkers;
+    private volatile boolean offline;
+    private volatile Tally tally = new Tally();
+    private volatile String haltLine;
+    private volatile boolean shutdownInterrupted;
+    private volatile WorkerLimit workerLimit = new WorkerLimit(1, 1);
+    private final Object paceLock = new Object();
+    private long windowStartNanos; // paceLock
+    private int windowCols;        // paceLock
+    private volatile boolean restrainedInWindow;
+    // Worker 0 has left its loop: the plan is spent or the walk halted. Only its paced
+    // visits grow the limit, so a helper parked past this point would wait forever.
+    private volatile boolean driverDone;
+    private final AtomicInteger parkedWorkers = new AtomicInteger();
+
+    /** One run's counters, shared by every worker. */
+    private static final class Tally {
+        final LongAdder deposited = new LongAdder();
+        final LongAdder skipped = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder regionsDone = new LongAdder();
+        final LongAdder pauses = new LongAdder();
+        final LongAdder visited = new LongAdder();
+    }
+
+    /**
+     * The walk's additive-increase / multiplicative-decrease worker limit. Every rate
+     * window that closes with neither gate firing admits one more worker (up to the
+     * configured maximum); every restraint poll halves the limit (floor 1). Workers whose
+     * id is at or above {@link #active()} park between columns, so a busy server sheds
+     * parallel IO within one poll and a quiet one ramps back a worker per second.
+     * Package-visible for the AIMD pin.
+     */
+    static final class WorkerLimit {
+        private final int max;
+        private double limit;
+
+        WorkerLimit(int max, int initial) {
+            this.max = Math.max(1, max);
+            this.limit = Math.max(1, Math.min(this.max, initial));
+        }
+
+        synchronized void grow() {
+            this.limit = Math.min(this.max, this.limit + 1);
+        }
+
+        synchronized void shrink() {
+            this.limit = Math.max(1, this.limit * 0.5);
+        }
+
+        synchronized int active() {
+            return (int) this.limit;
+        }
+    }
+
     /** Package-visible default-rate ctor (tests). */
     StoreBackfill(SqliteLodStore store,
                   Function<String, Path> regionDirResolver,
@@ -129,6 +227,25 @@ public final class StoreBackfill {
                          BooleanSupplier readerHeadroom,
                          BooleanSupplier tickHealthy,
                          int columnsPerSecond) {
+        this(store, regionDirResolver, spawnChunkResolver, dimensions, columnReader,
+                readerHeadroom, tickHealthy, columnsPerSecond, null, null, 1);
+    }
+
+    /** Full ctor: {@code recordDecoder} enables whole-region reads (null = the
+     *  per-column walk); their throughput lands in {@code bulkDiagnostics} (nullable).
+     *  {@code maxWorkers} region workers walk in parallel under the AIMD limit (1 = the
+     *  single-thread walk). */
+    public StoreBackfill(SqliteLodStore store,
+                         Function<String, Path> regionDirResolver,
+                         Function<String, long[]> spawnChunkResolver,
+                         List<String> dimensions,
+                         ColumnReader columnReader,
+                         BooleanSupplier readerHeadroom,
+                         BooleanSupplier tickHealthy,
+                         int columnsPerSecond,
+                         RecordDecoder recordDecoder,
+                         DiskReaderDiagnostics bulkDiagnostics,
+                         int maxWorkers) {
         this.store = store;
         this.regionDirResolver = regionDirResolver;
         this.spawnChunkResolver = spawnChunkResolver;
@@ -137,6 +254,9 @@ public final class StoreBackfill {
         this.readerHeadroom = readerHeadroom;
         this.tickHealthy = tickHealthy;
         this.columnsPerSecond = Math.max(1, columnsPerSecond);
+        this.recordDecoder = recordDecoder;
+        this.bulkDiagnostics = bulkDiagnostics;
+        this.maxWorkers = Math.max(1, maxWorkers);
     }
 
     /** Idempotent start; returns false if already running. */
@@ -149,6 +269,7 @@ public final class StoreBackfill {
         this.stopRequested.set(false);
         if (!this.running.compareAndSet(false, true)) return false;
         this.rateWindows = 0; // per-run counter — a stop/start cycle must not accumulate
+        this.offline = false;
         this.statusLine = "starting"; // not last run's terminal line (review B10)
         var t = new Thread(this::run, Brand.shortName() + " Store Backfill");
         t.setDaemon(true);
@@ -158,7 +279,26 @@ public final class StoreBackfill {
         return true;
     }
 
-    /** Requests stop; the worker exits at the next column boundary. */
+    /**
+     * Runs the whole walk on the CALLING thread and returns its terminal status line —
+     * the entry for a server that is not serving players (maintenance windows, the
+     * standalone store builder). The restraint gates and the rate cap are off and every
+     * worker starts admitted: with nobody to yield to, the walk runs at disk speed.
+     * Returns null if a walk is already running.
+     */
+    public String runOffline() {
+        if (this.running.get()) return null;
+        this.stopRequested.set(false);
+        if (!this.running.compareAndSet(false, true)) return null;
+        this.rateWindows = 0;
+        this.offline = true;
+        this.statusLine = "starting";
+        this.worker = Thread.currentThread();
+        run();
+        return this.statusLine;
+    }
+
+    /** Requests stop; the workers exit at the next column boundary. */
     public boolean stop() {
         if (!this.running.get()) return false;
         this.stopRequested.set(true);
@@ -196,7 +336,10 @@ public final class StoreBackfill {
     record RegionRef(String dim, int rx, int rz, Path mca, int chebFromSpawn) {}
 
     private void run() {
-        long deposited = 0, skipped = 0, errors = 0, regionsDone = 0, pauses = 0;
+        int decodeThreads = Math.max(1, Math.min(MAX_DECODE_THREADS,
+                Runtime.getRuntime().availableProcessors() / 4));
+        ExecutorService decodePool = this.recordDecoder == null ? null : newDecodePool(decodeThreads);
+        List<Thread> helpers = new ArrayList<>();
         try {
             // The store serves nothing until its startup sweep completes, and get()/
             // hasRow() read as misses in that window — starting the walk early would
@@ -219,15 +362,95 @@ public final class StoreBackfill {
             // Progress reset HERE, at walk start — a second start() must never show the
             // prior run's counts (SET review).
             this.planRegionsTotal = plan.size();
-            this.planRegionsWalked = 0;
-            this.presentChunksSeen = 0;
+            this.planRegionsWalked.set(0);
+            this.presentChunksSeen.set(0);
+            this.tally = new Tally();
+            this.haltLine = null;
+            this.shutdownInterrupted = false;
+            this.workerLimit = new WorkerLimit(this.maxWorkers, this.offline ? this.maxWorkers : 1);
+            this.windowStartNanos = System.nanoTime();
+            this.windowCols = 0;
+            this.restrainedInWindow = false;
+            this.driverDone = false;
+            this.walkStartNanos = System.nanoTime();
             long capBytes = this.store.sizeCapBytes();
             LSSLogger.info(describePlan(plan, capBytes));
-            long windowStartNanos = System.nanoTime();
-            int windowCols = 0;
-            for (int ri = 0; ri < plan.size(); ri++) {
+            // Regions are handed out nearest-first from one shared cursor, so N workers
+            // walk the same order one region apart, and the done-mark stays per region.
+            var cursor = new AtomicInteger();
+            for (int id = 1; id < this.maxWorkers; id++) {
+                final int workerId = id;
+                var t = new Thread(() -> workerLoop(workerId, plan, capBytes, cursor,
+                        decodePool, decodeThreads), Brand.shortName() + " Store Backfill " + id);
+                t.setDaemon(true);
+                t.setPriority(Thread.MIN_PRIORITY);
+                helpers.add(t);
+                t.start();
+            }
+            workerLoop(0, plan, capBytes, cursor, decodePool, decodeThreads);
+            this.driverDone = true;
+            for (Thread t : helpers) {
+                joinHelper(t, helpers);
+            }
+            Tally n = this.tally;
+            if (this.haltLine != null) {
+                this.statusLine = this.haltLine;
+            } else if (this.shutdownInterrupted) {
+                this.statusLine = "stopped (shutdown): " + n.regionsDone + " regions, "
+                        + n.deposited + " deposited, " + n.skipped + " skipped, "
+                        + n.errors + " errors";
+            } else {
+                this.statusLine = (this.stopRequested.get() ? "stopped: " : "complete: ")
+                        + n.regionsDone + " regions, " + n.deposited + " deposited, "
+                        + n.skipped + " skipped, " + n.errors + " errors, " + n.pauses + " pauses";
+            }
+        } catch (Throwable t) {
+            this.statusLine = "failed: " + t;
+            LSSLogger.warn("Store backfill aborted", t);
+        } finally {
+            for (Thread t : helpers) t.interrupt();
+            if (decodePool != null) decodePool.shutdownNow();
+            // Close THIS worker thread's reader connection (review B6): each start()
+            // thread otherwise leaks its ThreadLocal conn until store shutdown.
+            this.store.closeReaderConnForCurrentThread();
+            // The summary must print on EVERY exit path (the interrupt path used to
+            // swallow it, so the one line carrying the error count never appeared).
+            LSSLogger.info("Store backfill " + this.statusLine);
+            this.running.set(false);
+        }
+    }
+
+    /** Waits out one helper worker. A shutdown interrupt landing here (worker 0 already
+     *  returned) is forwarded to every helper — they exit at their next column. */
+    private void joinHelper(Thread t, List<Thread> helpers) {
+        try {
+            t.join();
+        } catch (InterruptedException e) {
+            this.shutdownInterrupted = true;
+            this.stopRequested.set(true);
+            for (Thread h : helpers) h.interrupt();
+            try {
+                t.join(3000);
+            } catch (InterruptedException ignored) {
+                // second shutdown interrupt: the helpers are daemon and already told
+            }
+        }
+    }
+
+    /**
+     * One region worker: claims regions off the shared cursor until the plan is spent or
+     * the walk halts. Worker 0 runs on the driver thread; the others are MIN_PRIORITY
+     * helpers. Terminal conditions found here (cap, latch, disk floor, an unexpected
+     * throw) record the FIRST halt line and end every worker at its next boundary.
+     */
+    private void workerLoop(int id, List<RegionRef> plan, long capBytes,
+                            AtomicInteger cursor,
+                            ExecutorService decodePool, int decodeThreads) {
+        try {
+            while (!halted()) {
+                int ri = cursor.getAndIncrement();
+                if (ri >= plan.size()) break;
                 RegionRef region = plan.get(ri);
-                if (this.stopRequested.get()) break;
                 // Hard stop at an active cap (store-cap-behavior-plan §3) — never a
                 // pause: a full store does not un-fill itself, and each further
                 // deposit evicts an OLDER (nearer-spawn) row, inverting the walk's
@@ -235,14 +458,14 @@ public final class StoreBackfill {
                 // raises the cap and re-runs resumes exactly here.
                 if (capBytes != Long.MAX_VALUE && this.store.approxSizeBytes()
                         >= (long) (capBytes * CAP_STOP_FRACTION)) {
-                    this.statusLine = "capped: store at size cap, " + regionsDone
-                            + " regions done, " + (plan.size() - ri) + " unwalked";
+                    halt("capped: store at size cap, " + this.tally.regionsDone
+                            + " regions done, " + (plan.size() - ri) + " unwalked");
                     return;
                 }
                 if (!this.store.isHealthy()) {
                     // A latched store no-ops every write while counters would keep
                     // claiming progress — burning a world's worth of IO for nothing.
-                    this.statusLine = "aborted: store unhealthy (latched off?)";
+                    halt("aborted: store unhealthy (latched off?)");
                     LSSLogger.warn("Store backfill aborted — store no longer healthy");
                     return;
                 }
@@ -258,160 +481,234 @@ public final class StoreBackfill {
                 // review — nothing in the codebase consulted free space at all.)
                 long usable = usableSpaceBytes();
                 if (usable >= 0 && usable < MIN_FREE_SPACE_BYTES) {
-                    this.statusLine = "stopped: low disk (" + (usable >> 20) + " MB free), "
-                            + regionsDone + " regions done, " + (plan.size() - ri) + " unwalked";
-                    LSSLogger.warn("Store backfill stopped — only " + (usable >> 20)
-                            + " MB free on the store volume (floor "
-                            + (MIN_FREE_SPACE_BYTES >> 20) + " MB). " + (plan.size() - ri)
-                            + " regions left unwalked; they resume once space is freed. "
-                            + "Set lodStoreMaxMB to bound the store, or lodStore=off.");
+                    if (halt("stopped: low disk (" + (usable >> 20) + " MB free), "
+                            + this.tally.regionsDone + " regions done, " + (plan.size() - ri)
+                            + " unwalked")) {
+                        LSSLogger.warn("Store backfill stopped — only " + (usable >> 20)
+                                + " MB free on the store volume (floor "
+                                + (MIN_FREE_SPACE_BYTES >> 20) + " MB). " + (plan.size() - ri)
+                                + " regions left unwalked; they resume once space is freed. "
+                                + "Set lodStoreMaxMB to bound the store, or lodStore=off.");
+                    }
                     return;
                 }
-                int[] present = presentChunks(region.mca());
-                if (present == null) continue; // unreadable header: skip, sweep owns it
-                // Bump AFTER the null-check (SET review): an unreadable region counted
-                // as walked-with-zero would bias the columns/region average low.
-                this.planRegionsWalked++;
-                int presentCount = 0;
-                for (int slot : present) {
-                    if (slot != 0) presentCount++;
+                walkRegion(id, region, decodePool, decodeThreads);
+            }
+        } catch (InterruptedException e) {
+            // Shutdown interrupt outside a read (a pause, a rate-window sleep).
+            this.shutdownInterrupted = true;
+            this.stopRequested.set(true);
+        } catch (Throwable t) {
+            if (halt("failed: " + t)) LSSLogger.warn("Store backfill aborted", t);
+        } finally {
+            if (id != 0) this.store.closeReaderConnForCurrentThread(); // review B6, per helper
+        }
+    }
+
+    /** One region's column walk (any worker). */
+    private void walkRegion(int id, RegionRef region, ExecutorService decodePool,
+                            int decodeThreads) throws InterruptedException {
+        Tally n = this.tally;
+        var present = presentChunks(region.mca());
+        if (present == null) return; // unreadable header: skip, sweep owns it
+        // Bump AFTER the null-check (SET review): an unreadable region counted
+        // as walked-with-zero would bias the columns/region average low.
+        this.planRegionsWalked.incrementAndGet();
+        this.presentChunksSeen.addAndGet(present.presentCount());
+        long regionErrors = 0;
+        // B9: fence against a concurrent `invalidate all` — a region judged
+        // before the drop must not be done-marked after it.
+        long dropGenAtStart = this.store.dropGeneration();
+        // B8: only THIS walk's sheds veto the done-mark (the old global
+        // deposit-drop snapshot let any serve-path shed anywhere deny every
+        // region durable progress — a busy server re-walked the world each
+        // restart).
+        boolean regionShed = false;
+        var bulk = decodePool == null ? null
+                : new BulkRegion(region, decodePool, decodeThreads);
+        try {
+            for (int idx = 0; idx < 1024; idx++) {
+                if (halted()) break;
+                if (!present.present(idx)) continue;
+                // A worker above the AIMD limit holds its place until the limit
+                // grows back (worker 0 never parks).
+                parkWhileOverLimit(id);
+                // Restraint + rate cap cover EVERY visited column — the skip rung
+                // included (review: a warm region walk was 1024 unpaced full-row
+                // reads; hasRow is the cheap existence probe, but even it is paced).
+                n.pauses.add(pauseWhileRestrained());
+                if (halted()) break;
+                if (!this.store.isHealthy()) {
+                    // Mid-region latch (R3): deposit()/hasRow() silently no-op under
+                    // the latch — without this check the rest of the region is up to
+                    // 1024 real disk reads whose results all evaporate.
+                    halt("aborted: store unhealthy (latched off?)");
+                    LSSLogger.warn("Store backfill aborted — store no longer healthy");
+                    return;
                 }
-                this.presentChunksSeen += presentCount;
-                long regionErrors = 0;
-                // B9: fence against a concurrent `invalidate all` — a region judged
-                // before the drop must not be done-marked after it.
-                long dropGenAtStart = this.store.dropGeneration();
-                // B8: only THIS walk's sheds veto the done-mark (the old global
-                // deposit-drop snapshot let any serve-path shed anywhere deny every
-                // region durable progress — a busy server re-walked the world each
-                // restart).
-                boolean regionShed = false;
-                for (int idx = 0; idx < 1024; idx++) {
-                    if (this.stopRequested.get()) break;
-                    if (present[idx] == 0) continue;
-                    // Restraint + rate cap cover EVERY visited column — the skip rung
-                    // included (review: a warm region walk was 1024 unpaced full-row
-                    // reads; hasRow is the cheap existence probe, but even it is paced).
-                    pauses += pauseWhileRestrained();
-                    if (this.stopRequested.get()) break;
-                    if (!this.store.isHealthy()) {
-                        // Mid-region latch (R3): deposit()/hasRow() silently no-op under
-                        // the latch — without this check the rest of the region is up to
-                        // 1024 real disk reads whose results all evaporate.
-                        this.statusLine = "aborted: store unhealthy (latched off?)";
-                        LSSLogger.warn("Store backfill aborted — store no longer healthy");
-                        return;
-                    }
-                    int cx = (region.rx() << 5) + (idx & 31);
-                    int cz = (region.rz() << 5) + (idx >> 5);
-                    long packed = PositionUtil.packPosition(cx, cz);
-                    if (this.store.hasRow(region.dim(), packed)) {
-                        skipped++;
-                        this.store.diagnostics().recordBackfillSkip();
-                    } else {
-                        try {
-                            // Acquisition stamp BEFORE the read (R1-M2): a save landing
-                            // while the read runs must not be sweep-invisible.
-                            long acquiredSeconds = System.currentTimeMillis() / 1000L;
-                            byte[] bytes = this.columnReader.read(region.dim(), cx, cz);
-                            this.store.diagnostics().recordBackfillRead();
-                            if (bytes != null) {
-                                if (!this.store.deposit(region.dim(), packed, bytes,
-                                        System.currentTimeMillis() / 1000L, acquiredSeconds)) {
-                                    regionShed = true;
-                                }
-                                deposited++;
-                                this.store.diagnostics().recordBackfillDeposit();
-                            } else {
-                                skipped++;
-                                this.store.diagnostics().recordBackfillSkip();
-                            }
-                        } catch (InterruptedException ie) {
-                            // Shutdown interrupt mid-read (review B14): restore the
-                            // flag and stop — not an error, no phantom store.errors,
-                            // and the interrupt must not be swallowed.
-                            Thread.currentThread().interrupt();
-                            this.stopRequested.set(true);
-                            break;
-                        } catch (Throwable e) {
-                            // Throwable, not Exception (round-3 review). The walk's
-                            // serialization runs SYNCHRONOUSLY on this thread
-                            // (readColumnBytesSyncForBackfill), unlike the pooled read
-                            // path where future.get wraps pool-side throwables in an
-                            // ExecutionException. So an Error from one hostile or corrupt
-                            // chunk — the allocation-class failure the disk reader
-                            // broadened its OWN containment to Throwable for, twice —
-                            // escaped this per-column belt to the run-level handler and
-                            // aborted the entire walk. The poison region never gets
-                            // done-marked and lodStoreBackfill defaults on, so every
-                            // subsequent boot re-enumerates, re-hits the same column and
-                            // re-aborts: every region after it in the plan, other
-                            // dimensions included, stays cold permanently.
-                            errors++;
-                            regionErrors++;
-                            // Visible to operators: backfill failures count store.errors
-                            // (review: the exact A7 failure mode this feature re-enters
-                            // was invisible to every exporter).
-                            this.store.diagnostics().recordError();
-                            if (errors <= 3) {
-                                LSSLogger.warn("Store backfill: read failed at " + region.dim()
-                                        + " [" + cx + "," + cz + "] — skipping", e);
+                int cx = (region.rx() << 5) + (idx & 31);
+                int cz = (region.rz() << 5) + (idx >> 5);
+                long packed = PositionUtil.packPosition(cx, cz);
+                if (this.store.hasRow(region.dim(), packed)) {
+                    n.skipped.increment();
+                    this.store.diagnostics().recordBackfillSkip();
+                } else {
+                    try {
+                        // Acquisition stamp BEFORE the read (R1-M2): a save landing
+                        // while the read runs must not be sweep-invisible.
+                        long acquiredSeconds = System.currentTimeMillis() / 1000L;
+                        byte[] bytes;
+                        if (bulk != null && bulk.serves(idx)) {
+                            // The bulk image was read after ITS stamp, not this one.
+                            acquiredSeconds = bulk.acquiredSeconds;
+                            bytes = bulk.take(idx, present);
+                        } else {
+                            bytes = this.columnReader.read(region.dim(), cx, cz);
+                        }
+                        this.store.diagnostics().recordBackfillRead();
+                        if (bytes != null) {
+                            if (!this.store.deposit(region.dim(), packed, bytes,
+                                    System.currentTimeMillis() / 1000L, acquiredSeconds)) {
+                                regionShed = true;
                             }
+                            n.deposited.increment();
+                            this.store.diagnostics().recordBackfillDeposit();
+                        } else {
+                            n.skipped.increment();
+                            this.store.diagnostics().recordBackfillSkip();
+                        }
+                    } catch (InterruptedException ie) {
+                        // Shutdown interrupt mid-read (review B14): restore the
+                        // flag and stop — not an error, no phantom store.errors,
+                        // and the interrupt must not be swallowed.
+                        Thread.currentThread().interrupt();
+                        this.stopRequested.set(true);
+                        break;
+                    } catch (Throwable e) {
+                        // Throwable, not Exception (round-3 review). The walk's
+                        // serialization runs SYNCHRONOUSLY on this thread
+                        // (readColumnBytesSyncForBackfill), unlike the pooled read
+                        // path where future.get wraps pool-side throwables in an
+                        // ExecutionException. So an Error from one hostile or corrupt
+                        // chunk — the allocation-class failure the disk reader
+                        // broadened its OWN containment to Throwable for, twice —
+                        // escaped this per-column belt to the run-level handler and
+                        // aborted the entire walk. The poison region never gets
+                        // done-marked and lodStoreBackfill defaults on, so every
+                        // subsequent boot re-enumerates, re-hits the same column and
+                        // re-aborts: every region after it in the plan, other
+                        // dimensions included, stays cold permanently.
+                        n.errors.increment();
+                        regionErrors++;
+                        // Visible to operators: backfill failures count store.errors
+                        // (review: the exact A7 failure mode this feature re-enters
+                        // was invisible to every exporter).
+                        this.store.diagnostics().recordError();
+                        if (n.errors.sum() <= 3) {
+                            LSSLogger.warn("Store backfill: read failed at " + region.dim()
+                                    + " [" + cx + "," + cz + "] — skipping", e);
                         }
                     }
-                    // Rate cap: columnsPerSecond visited columns per 1 s window.
-                    windowCols++;
-                    if (windowCols >= this.columnsPerSecond) {
-                        this.rateWindows++;
-                        long elapsed = System.nanoTime() - windowStartNanos;
-                        long remain = 1_000_000_000L - elapsed;
-                        if (remain > 0) Thread.sleep(remain / 1_000_000L + 1);
-                        windowStartNanos = System.nanoTime();
-                        windowCols = 0;
-                    }
-                    this.statusLine = "running: " + this.planRegionsWalked + "/"
-                            + this.planRegionsTotal + " regions, "
-                            + deposited + " deposited, " + skipped + " skipped, "
-                            + errors + " errors, " + pauses + " pauses, "
-                            + remainingEstimate();
-                }
-                // Done-mark ONLY a cleanly processed region: errors or shed deposits
-                // would otherwise turn transient IO trouble into permanent warm-holes
-                // that resumability never revisits (review MAJOR). An unmarked region
-                // re-walks cheaply (hasRow skips). The mark waits for the deposit queue
-                // to DRAIN first (4-agent round R3): the mark rides the priority control
-                // queue, so an undrained mark could commit AHEAD of this region's still-
-                // queued deposits — a crash in that window left a done-marked region
-                // whose columns were never written; and sampling drops before the drain
-                // let a post-sample shed slip under the depositsShed guard. A drain
-                // timeout just skips the mark — the region re-walks next run.
-                boolean drained = this.store.awaitDepositQueueEmpty(5000);
-                if (!this.stopRequested.get() && regionErrors == 0 && drained
-                        && !regionShed
-                        && this.store.dropGeneration() == dropGenAtStart) {
-                    this.store.markBackfillRegionDone(region.dim(), region.rx(), region.rz());
-                    regionsDone++;
                 }
+                n.visited.increment();
+                paceVisit();
+                this.statusLine = runningLine();
             }
-            this.statusLine = (this.stopRequested.get() ? "stopped: " : "complete: ")
-                    + regionsDone + " regions, " + deposited + " deposited, "
-                    + skipped + " skipped, " + errors + " errors, " + pauses + " pauses";
-        } catch (InterruptedException e) {
-            this.statusLine = "stopped (shutdown): " + regionsDone + " regions, "
-                    + deposited + " deposited, " + skipped + " skipped, "
-                    + errors + " errors";
-        } catch (Throwable t) {
-            this.statusLine = "failed: " + t;
-            LSSLogger.warn("Store backfill aborted", t);
         } finally {
-            // Close THIS worker thread's reader connection (review B6): each start()
-            // thread otherwise leaks its ThreadLocal conn until store shutdown.
-            this.store.closeReaderConnForCurrentThread();
-            // The summary must print on EVERY exit path (the interrupt path used to
-            // swallow it, so the one line carrying the error count never appeared).
-            LSSLogger.info("Store backfill " + this.statusLine);
-            this.running.set(false);
+            if (bulk != null) bulk.close();
         }
+        // Done-mark ONLY a cleanly processed region: errors or shed deposits
+        // would otherwise turn transient IO trouble into permanent warm-holes
+        // that resumability never revisits (review MAJOR). An unmarked region
+        // re-walks cheaply (hasRow skips). The mark waits for the deposit queue
+        // to DRAIN first (4-agent round R3): the mark rides the priority control
+        // queue, so an undrained mark could commit AHEAD of this region's still-
+        // queued deposits — a crash in that window left a done-marked region
+        // whose columns were never written; and sampling drops before the drain
+        // let a post-sample shed slip under the depositsShed guard. A drain
+        // timeout just skips the mark — the region re-walks next run.
+        boolean drained = this.store.awaitDepositQueueEmpty(5000);
+        if (!halted() && regionErrors == 0 && drained
+                && !regionShed
+                && this.store.dropGeneration() == dropGenAtStart) {
+            this.store.markBackfillRegionDone(region.dim(), region.rx(), region.rz());
+            n.regionsDone.increment();
+        }
+    }
+
+    /** Stop requested or a terminal condition recorded — every worker's exit test. */
+    private boolean halted() {
+        return this.stopRequested.get() || this.haltLine != null;
+    }
+
+    /** Records a terminal status line; the FIRST one wins (true = this call's). */
+    private synchronized boolean halt(String line) {
+        if (this.haltLine != null) return false;
+        this.haltLine = line;
+        this.statusLine = line;
+        return true;
+    }
+
+    private String runningLine() {
+        Tally n = this.tally;
+        String line = "running: " + this.planRegionsWalked.get() + "/"
+                + this.planRegionsTotal + " regions, "
+                + n.deposited + " deposited, " + n.skipped + " skipped, "
+                + n.errors + " errors, " + n.pauses + " pauses, "
+                + remainingEstimate();
+        double elapsedSeconds = (System.nanoTime() - this.walkStartNanos) / 1e9;
+        double rate = elapsedSeconds > 0 ? n.visited.sum() / elapsedSeconds : 0;
+        line += ", " + Math.round(rate) + " col/s, ETA " + etaFor(remainingColumns(), rate);
+        if (this.maxWorkers > 1) {
+            line += ", workers " + this.workerLimit.active() + "/" + this.maxWorkers;
+        }
+        return line;
+    }
+
+    /**
+     * The shared rate cap: {@code columnsPerSecond} visited columns per 1 s window across
+     * ALL workers. The worker that fills a window sleeps its remainder HOLDING the pace
+     * monitor, so every other worker waits on it too — the cap bounds the walk's total,
+     * never each worker's share. Every window that closes (filled, or a second old) with
+     * no restraint seen admits one more worker. Offline runs are unpaced.
+     */
+    private void paceVisit() throws InterruptedException {
+        if (this.offline) return;
+        synchronized (this.paceLock) {
+            this.windowCols++;
+            long elapsed = System.nanoTime() - this.windowStartNanos;
+            boolean full = this.windowCols >= this.columnsPerSecond;
+            if (!full && elapsed < 1_000_000_000L) return;
+            if (full) {
+                this.rateWindows++;
+                long remain = 1_000_000_000L - elapsed;
+                if (remain > 0) Thread.sleep(remain / 1_000_000L + 1);
+            }
+            this.windowStartNanos = System.nanoTime();
+            this.windowCols = 0;
+            if (!this.restrainedInWindow) this.workerLimit.grow();
+            this.restrainedInWindow = false;
+        }
+    }
+
+    /** Holds a helper above the AIMD limit. It walks on once worker 0 is done: the limit
+     *  only grows on worker 0's paced visits, and the helper's claimed region still has to
+     *  finish and be done-marked. */
+    private void parkWhileOverLimit(int id) throws InterruptedException {
+        if (id < this.workerLimit.active() || halted() || this.driverDone) return;
+        this.parkedWorkers.incrementAndGet();
+        try {
+            while (id >= this.workerLimit.active() && !halted() && !this.driverDone) {
+                Thread.sleep(PAUSE_POLL_MILLIS);
+            }
+        } finally {
+            this.parkedWorkers.decrementAndGet();
+        }
+    }
+
+    /** Helpers parked over the limit right now (package-visible: the parked-helper pin). */
+    int parkedWorkerCount() {
+        return this.parkedWorkers.get();
     }
 
     /** All not-yet-done regions of all dims, Chebyshev-nearest-to-spawn first
@@ -464,8 +761,13 @@ public final class StoreBackfill {
      *  reader of the three volatile progress counters; the arithmetic lives in the
      *  static below so the test can pin every branch directly. */
     String remainingEstimate() {
-        return remainingEstimateFor(this.planRegionsTotal, this.planRegionsWalked,
-                this.presentChunksSeen);
+        return remainingEstimateFor(this.planRegionsTotal, this.planRegionsWalked.get(),
+                this.presentChunksSeen.get());
+    }
+
+    private long remainingColumns() {
+        return columnsLeftFor(this.planRegionsTotal, this.planRegionsWalked.get(),
+                this.presentChunksSeen.get());
     }
 
     /** Before the first region completes there is no measured average, so the columns
@@ -473,11 +775,30 @@ public final class StoreBackfill {
      *  present-chunks/region. Package-visible for the test's arithmetic-table pin. */
     static String remainingEstimateFor(int total, int walked, long seen) {
         int remaining = Math.max(0, total - walked);
-        long columnsLeft = walked > 0
+        return "~" + remaining + " regions / " + (walked > 0 ? "~" : "<=")
+                + columnsLeftFor(total, walked, seen) + " columns left";
+    }
+
+    /** The columns term of {@link #remainingEstimateFor} (the ETA divides it by the
+     *  observed rate). */
+    static long columnsLeftFor(int total, int walked, long seen) {
+        int remaining = Math.max(0, total - walked);
+        return walked > 0
                 ? remaining * (seen / Math.max(1, walked))
                 : remaining * 1024L;
-        return "~" + remaining + " regions / " + (walked > 0 ? "~" : "<=") + columnsLeft
-                + " columns left";
+    }
+
+    /** {@code ~2h05m} / {@code ~7m} / {@code ~40s}; "unknown" before any column has been
+     *  visited. Package-visible for the formatting pin. */
+    static String etaFor(long columnsLeft, double columnsPerSecond) {
+        if (columnsPerSecond <= 0) return "unknown";
+        long seconds = (long) Math.ceil(columnsLeft / columnsPerSecond);
+        if (seconds >= 3600) {
+            return String.format(java.util.Locale.ROOT, "~%dh%02dm", seconds / 3600,
+                    (seconds % 3600) / 60);
+        }
+        if (seconds >= 60) return "~" + (seconds / 60) + "m";
+        return "~" + seconds + "s";
     }
 
     /** The §3 start-of-walk line: region count + size estimate + cap consequence.
@@ -519,31 +840,133 @@ public final class StoreBackfill {
                 bytes / (1024.0 * 1024.0 * 1024.0));
     }
 
-    /** The region header's location table: nonzero = chunk present. Null = unreadable. */
-    private int[] presentChunks(Path mca) {
-        try (FileChannel ch = FileChannel.open(mca)) {
-            ByteBuffer buf = ByteBuffer.allocate(4096);
-            int read = 0;
-            while (read < 4096) {
-                int n = ch.read(buf, read);
-                if (n < 0) return null;
-                read += n;
+    private static ExecutorService newDecodePool(int threads) {
+        return Executors.newFixedThreadPool(threads, r -> {
+            var t = new Thread(r, Brand.shortName() + " Store Backfill Decode");
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        });
+    }
+
+    /**
+     * One region's bulk state for the walk (owned by the one worker walking the region). The whole-file read is
+     * LAZY — the first column that misses {@code hasRow} pays it, so a warm region costs
+     * no more IO than its header — and the acquisition stamp is taken BEFORE it (R1-M2,
+     * the per-column rule at region granularity). Decodes are prefetched in walk order
+     * over present, not-yet-stored slots; a prefetched column whose row appears before
+     * the walk reaches it is cancelled at region end, never deposited.
+     */
+    private final class BulkRegion {
+        private final RegionRef region;
+        private final ExecutorService pool;
+        private final int lookahead;
+        private final Map<Integer, Future<byte[]>> inFlight = new HashMap<>();
+        private RegionFileBulkReader.RegionRecords records;
+        private boolean declined;
+        private int prefetchCursor;
+        long acquiredSeconds;
+
+        BulkRegion(RegionRef region, ExecutorService pool, int threads) {
+            this.region = region;
+            this.pool = pool;
+            this.lookahead = BULK_LOOKAHEAD_PER_THREAD * threads;
+        }
+
+        /** True when slot {@code idx} is served from the region image (loading it on
+         *  first need); false = the per-column reader owns this column. */
+        boolean serves(int idx) {
+            if (this.records == null && !this.declined) load();
+            return this.records != null && this.records.hasRecord(idx);
+        }
+
+        private void load() {
+            this.acquiredSeconds = System.currentTimeMillis() / 1000L;
+            long start = System.nanoTime();
+            try {
+                // Settled: a live server saves into this file without our lock, so a
+                // record relocated during the read falls back to the per-column path.
+                this.records = RegionFileBulkReader.readSettled(this.region.mca());
+            } catch (Exception e) {
+                this.records = null; // contained: the region walks per column
             }
-            buf.flip();
-            int[] loc = new int[1024];
-            for (int i = 0; i < 1024; i++) loc[i] = buf.getInt(i * 4);
-            return loc;
-        } catch (Exception e) {
-            return null;
+            if (this.records == null) {
+                this.declined = true;
+                return;
+            }
+            var diag = StoreBackfill.this.bulkDiagnostics;
+            if (diag != null) {
+                diag.recordBulkRegion(this.records.fileBytes(), this.records.recordCount(),
+                        System.nanoTime() - start);
+            }
+        }
+
+        byte[] take(int idx, RegionHeaderCache.RegionHeader present) throws Exception {
+            var pending = this.inFlight.remove(idx);
+            this.prefetchCursor = Math.max(this.prefetchCursor, idx + 1);
+            prefetch(present);
+            byte[] bytes = pending != null ? await(pending) : decode(idx);
+            var diag = StoreBackfill.this.bulkDiagnostics;
+            if (diag != null) diag.recordBulkServe();
+            return bytes;
+        }
+
+        private void prefetch(RegionHeaderCache.RegionHeader present) {
+            while (this.inFlight.size() < this.lookahead && this.prefetchCursor < 1024) {
+                int slot = this.prefetchCursor++;
+                if (!present.present(slot) || !this.records.hasRecord(slot)) continue;
+                int cx = (this.region.rx() << 5) + (slot & 31);
+                int cz = (this.region.rz() << 5) + (slot >> 5);
+                if (StoreBackfill.this.store.hasRow(this.region.dim(),
+                        PositionUtil.packPosition(cx, cz))) continue;
+                this.inFlight.put(slot, this.pool.submit(() -> decode(slot)));
+            }
+        }
+
+        private byte[] decode(int slot) throws Exception {
+            int cx = (this.region.rx() << 5) + (slot & 31);
+            int cz = (this.region.rz() << 5) + (slot >> 5);
+            return StoreBackfill.this.recordDecoder.decode(this.region.dim(), cx, cz,
+                    this.records.payload(slot), this.records.version(slot));
+        }
+
+        /** Drop unconsumed prefetches and the region image (region end, stop, abort). */
+        void close() {
+            for (var f : this.inFlight.values()) f.cancel(true);
+            this.inFlight.clear();
+            this.records = null;
         }
     }
 
+    /** A prefetched decode's result, its failure rethrown as the synchronous read would
+     *  have thrown it — the per-column containment counts it identically. */
+    private static byte[] await(Future<byte[]> pending) throws Exception {
+        try {
+            return pending.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception ex) throw ex;
+            if (cause instanceof Error err) throw err;
+            throw e;
+        }
+    }
+
+    /** The region header's presence table (shared {@link RegionHeaderCache} — the boot
+     *  sweep has normally just read it). Null = missing or unreadable. */
+    private RegionHeaderCache.RegionHeader presentChunks(Path mca) {
+        return RegionHeaderCache.shared().read(mca);
+    }
+
     /** Returns the number of pause intervals slept (observability: the status line and
      *  gate evidence need to show restraint actually FIRING, not just existing). */
     private long pauseWhileRestrained() throws InterruptedException {
+        if (this.offline) return 0;
         long pauses = 0;
-        while (!this.stopRequested.get()
+        while (!halted()
                 && (!this.readerHeadroom.getAsBoolean() || !this.tickHealthy.getAsBoolean())) {
+            // Multiplicative decrease: each poll under restraint halves the worker limit.
+            this.restrainedInWindow = true;
+            this.workerLimit.shrink();
             this.statusLine = "paused (yielding to players/tick)";
             Thread.sleep(PAUSE_POLL_MILLIS);
             pauses++;
@@ -1,6 +1,8 @@
 package dev.vox.lss.common.store;
 
 import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
 
 /**
  * The shared store + wire blob codec: zstd level 1 — the store Phase 0 decision
@@ -22,33 +24,93 @@ import com.github.luben.zstd.Zstd;
  * <p>Phase 2 records the codec name in the DB {@code meta} table: a codec change is a
  * drop-and-rebuild, never a migration. (deflate-1 remains the recorded zero-dependency
  * fallback should zstd ever have to be dropped — a decision, not a runtime rung.)
+ *
+ * <p>A {@link #zstdWithDictionaryOrNull() dictionary codec} is the same level against the
+ * shared {@link ColumnDictionary}: its frames are codec-2 on the wire and only decode
+ * with the dictionary loaded, so it is a DIFFERENT codec to the store ({@link #name()}
+ * carries the dictionary version — a dictionary store drops and rebuilds like any
+ * codec change). The digested dictionaries are built once per instance and are safe
+ * for concurrent use.
+ *
+ * <p>The store's cold tier ({@link #compressCold}) is the SAME codec at
+ * {@link #COLD_LEVEL}: a zstd frame decodes identically whatever level wrote it (and a
+ * single-shot frame's window never exceeds its content), so cold frames need no tag to
+ * read, stay wire-valid verbatim, and leave the meta codec name alone.
  */
 public final class StoreCodec {
 
     public static final String NAME = "zstd-1";
     private static final int LEVEL = 1;
+    /** The cold tier's level: smaller frames for an order of magnitude more compress
+     *  time, paid once per row on the idle batcher, never on a serve. */
+    public static final int COLD_LEVEL = 19;
 
-    private StoreCodec() {}
+    // All null for the plain codec.
+    private final ZstdDictCompress dictCompress;
+    private final ZstdDictCompress dictCompressCold;
+    private final ZstdDictDecompress dictDecompress;
+
+    private StoreCodec(ZstdDictCompress dictCompress, ZstdDictCompress dictCompressCold,
+                       ZstdDictDecompress dictDecompress) {
+        this.dictCompress = dictCompress;
+        this.dictCompressCold = dictCompressCold;
+        this.dictDecompress = dictDecompress;
+    }
 
     /** A working codec, or null when the zstd native cannot serve this platform. */
     public static StoreCodec zstdOrNull() {
         try {
-            var codec = new StoreCodec();
-            byte[] probe = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0};
-            byte[] back = codec.decompress(codec.compress(probe), probe.length);
-            return java.util.Arrays.equals(probe, back) ? codec : null;
+            return probed(new StoreCodec(null, null, null));
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    /** A working {@link ColumnDictionary} codec, or null when the zstd native cannot
+     *  serve this platform (same probe as {@link #zstdOrNull()}). */
+    public static StoreCodec zstdWithDictionaryOrNull() {
+        try {
+            byte[] dict = ColumnDictionary.content();
+            return probed(new StoreCodec(new ZstdDictCompress(dict, LEVEL),
+                    new ZstdDictCompress(dict, COLD_LEVEL), new ZstdDictDecompress(dict)));
         } catch (Throwable t) {
             return null;
         }
     }
 
+    private static StoreCodec probed(StoreCodec codec) {
+        byte[] probe = new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0};
+        byte[] back = codec.decompress(codec.compress(probe), probe.length);
+        return java.util.Arrays.equals(probe, back) ? codec : null;
+    }
+
+    /** The store {@code meta} codec name: {@link #NAME}, plus the dictionary version for
+     *  a dictionary codec. */
+    public String name() {
+        return this.dictCompress == null ? NAME
+                : NAME + "+dict-v" + ColumnDictionary.VERSION;
+    }
+
+    /** True for a {@link ColumnDictionary} codec (codec-2 frames). */
+    public boolean usesDictionary() {
+        return this.dictCompress != null;
+    }
+
     public byte[] compress(byte[] raw) {
-        return Zstd.compress(raw, LEVEL);
+        return this.dictCompress == null ? Zstd.compress(raw, LEVEL)
+                : Zstd.compress(raw, this.dictCompress);
+    }
+
+    /** The cold tier: same frame format (and dictionary), {@link #COLD_LEVEL}. */
+    public byte[] compressCold(byte[] raw) {
+        return this.dictCompressCold == null ? Zstd.compress(raw, COLD_LEVEL)
+                : Zstd.compress(raw, this.dictCompressCold);
     }
 
     /** {@code usize} is the stored uncompressed size — zstd needs the exact output size. */
     public byte[] decompress(byte[] compressed, int usize) {
-        return Zstd.decompress(compressed, usize);
+        return this.dictDecompress == null ? Zstd.decompress(compressed, usize)
+                : Zstd.decompress(compressed, this.dictDecompress, usize);
     }
 
     /**
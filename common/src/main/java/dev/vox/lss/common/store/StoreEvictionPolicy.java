@@ -0,0 +1,49 @@
+package dev.vox.lss.common.store;
+
+import java.util.Locale;
+
+/**
+ * The {@code lodStoreEvictionPolicy} switch: which rows a capped store sheds first when
+ * {@code lodStoreMaxMB} binds. Only consulted above the cap — an uncapped store never
+ * evicts, whatever this says.
+ *
+ * <ul>
+ *   <li>{@link #OLDEST} — oldest stored timestamp first (the pre-policy order). Hits
+ *       are not tracked at all.</li>
+ *   <li>{@link #LRU} — least recently SERVED first. A row never hit since it was
+ *       deposited counts its deposit second as its last access (a deposit IS a serve).</li>
+ *   <li>{@link #LFU} — fewest hits first, ties by recency; hit counts halve every
+ *       {@link SqliteLodStore#ACCESS_AGING_SECONDS} so yesterday's hub cannot pin the
+ *       store forever.</li>
+ *   <li>{@link #ANCHOR} — among the oldest rows, the ones FARTHEST from the dimension's
+ *       most-hit positions first: spawn and hub terrain every joining player requests
+ *       survives while remote one-off columns go.</li>
+ * </ul>
+ *
+ * <p>Unknown values normalize to the compiled default {@link #LRU} (a typo must not
+ * silently fall back to the policy the option exists to replace). Pinned by
+ * {@code ConfigValidationTest}.
+ */
+public enum StoreEvictionPolicy {
+    OLDEST, LRU, LFU, ANCHOR;
+
+    public static StoreEvictionPolicy normalize(String value) {
+        if (value == null) return LRU;
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "oldest", "fifo" -> OLDEST;
+            case "lfu" -> LFU;
+            case "anchor" -> ANCHOR;
+            default -> LRU;
+        };
+    }
+
+    /** True when the store must record hits for this policy to order victims. */
+    public boolean tracksAccess() {
+        return this != OLDEST;
+    }
+
+    /** The config-file spelling. */
+    public String configValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,168 @@
+package dev.vox.lss.common.store.offline;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Minimal MC-free NBT reader for the offline store builder: a region record's payload
+ * inflated per its {@code RegionFileVersion} id, then parsed into plain Java values —
+ * compounds as {@code Map<String, Object>}, lists as {@code List<Object>}, numbers boxed,
+ * arrays as {@code byte[]/int[]/long[]}, strings as {@code String}.
+ *
+ * <p>The typed getters mirror the 26.2 {@code CompoundTag} accessors the serve path uses
+ * (a getter answers only for ITS tag type — a list-of-longs is not a long array, a
+ * string is not a number), so the transcoder's fallback gates read the same shapes the
+ * live transcoder reads. Hostile input is bounded the way {@code NbtIo} bounds it: array
+ * and list lengths are checked against the bytes actually remaining before anything is
+ * allocated, and nesting stops at vanilla's depth of 512.
+ */
+public final class NbtTree {
+    private NbtTree() {}
+
+    static final int MAX_DEPTH = 512;
+    /** Inflated-record ceiling: far past any real chunk, low enough that a hostile
+     *  deflate stream cannot balloon the builder's heap. */
+    static final int MAX_INFLATED_BYTES = 64 << 20;
+
+    /** {@code RegionFileVersion} ids the builder can inflate (LZ4 needs a library the
+     *  common module does not carry; custom compression is a plugin's own format). */
+    public static final byte VERSION_GZIP = 1;
+    public static final byte VERSION_DEFLATE = 2;
+    public static final byte VERSION_NONE = 3;
+
+    /** Inflates + parses one region record. Null = a stream version this reader does not
+     *  handle (the caller leaves the column to the live walk). */
+    public static Map<String, Object> readRecord(byte[] payload, byte version) throws IOException {
+        InputStream source = new ByteArrayInputStream(payload);
+        InputStream in = switch (version) {
+            case VERSION_GZIP -> new GZIPInputStream(source);
+            case VERSION_DEFLATE -> new InflaterInputStream(source);
+            case VERSION_NONE -> source;
+            default -> null;
+        };
+        if (in == null) return null;
+        // Inflated size is unknown up front; read it whole so the length checks below
+        // bound against real bytes (a 64 KiB claim over a 10-byte tail fails, never allocates).
+        byte[] raw;
+        try (in) {
+            raw = in.readNBytes(MAX_INFLATED_BYTES + 1);
+        }
+        if (raw.length > MAX_INFLATED_BYTES) {
+            throw new IOException("record inflates past " + (MAX_INFLATED_BYTES >> 20) + " MiB");
+        }
+        return parse(raw);
+    }
+
+    /** Parses an uncompressed root compound. */
+    public static Map<String, Object> parse(byte[] raw) throws IOException {
+        var reader = new Reader(raw);
+        int type = reader.in.readUnsignedByte();
+        if (type != 10) throw new IOException("root tag is not a compound (" + type + ")");
+        reader.in.readUTF(); // root name, unused
+        return reader.compound(0);
+    }
+
+    private static final class Reader {
+        final ByteArrayInputStream bytes;
+        final DataInputStream in;
+
+        Reader(byte[] raw) {
+            this.bytes = new ByteArrayInputStream(raw);
+            this.in = new DataInputStream(this.bytes);
+        }
+
+        int length(int elementBytes) throws IOException {
+            int n = this.in.readInt();
+            if (n < 0 || (long) n * elementBytes > this.bytes.available()) {
+                throw new IOException("NBT length " + n + " exceeds the remaining "
+                        + this.bytes.available() + " bytes");
+            }
+            return n;
+        }
+
+        Map<String, Object> compound(int depth) throws IOException {
+            if (depth > MAX_DEPTH) throw new IOException("NBT nested deeper than " + MAX_DEPTH);
+            var map = new HashMap<String, Object>();
+            while (true) {
+                int type = this.in.readUnsignedByte();
+                if (type == 0) return map;
+                String name = this.in.readUTF();
+                map.put(name, value(type, depth + 1));
+            }
+        }
+
+        Object value(int type, int depth) throws IOException {
+            switch (type) {
+                case 1: return this.in.readByte();
+                case 2: return this.in.readShort();
+                case 3: return this.in.readInt();
+                case 4: return this.in.readLong();
+                case 5: return this.in.readFloat();
+                case 6: return this.in.readDouble();
+                case 7: {
+                    byte[] a = new byte[length(1)];
+                    this.in.readFully(a);
+                    return a;
+                }
+                case 8: return this.in.readUTF();
+                case 9: {
+                    int elementType = this.in.readUnsignedByte();
+                    int n = length(1); // every element is at least one byte (end-typed: none)
+                    if (elementType == 0 && n > 0) throw new IOException("non-empty list of end tags");
+                    var list = new ArrayList<Object>(Math.min(n, 1024));
+                    for (int i = 0; i < n; i++) list.add(value(elementType, depth + 1));
+                    return list;
+                }
+                case 10: return compound(depth);
+                case 11: {
+                    int[] a = new int[length(4)];
+                    for (int i = 0; i < a.length; i++) a[i] = this.in.readInt();
+                    return a;
+                }
+                case 12: {
+                    long[] a = new long[length(8)];
+                    for (int i = 0; i < a.length; i++) a[i] = this.in.readLong();
+                    return a;
+                }
+                default: throw new IOException("unknown NBT tag type " + type);
+            }
+        }
+    }
+
+    // ---- typed getters (CompoundTag-shaped: the wrong tag type reads as absent) ----
+
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> compound(Map<String, Object> tag, String key) {
+        return tag.get(key) instanceof Map<?, ?> m ? (Map<String, Object>) m : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static List<Object> list(Map<String, Object> tag, String key) {
+        return tag.get(key) instanceof List<?> l ? (List<Object>) l : null;
+    }
+
+    public static String string(Map<String, Object> tag, String key) {
+        return tag.get(key) instanceof String s ? s : null;
+    }
+
+    public static byte[] byteArray(Map<String, Object> tag, String key) {
+        return tag.get(key) instanceof byte[] a ? a : null;
+    }
+
+    public static long[] longArray(Map<String, Object> tag, String key) {
+        return tag.get(key) instanceof long[] a ? a : null;
+    }
+
+    /** Any numeric tag as an int ({@code getIntOr}); {@code fallback} otherwise. */
+    public static int intOr(Map<String, Object> tag, String key, int fallback) {
+        return tag.get(key) instanceof Number n ? n.intValue() : fallback;
+    }
+}
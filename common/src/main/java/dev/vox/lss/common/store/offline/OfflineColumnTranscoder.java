@@ -0,0 +1,330 @@
+package dev.vox.lss.common.store.offline;
+
+import dev.vox.lss.common.wire.IdentityCodec;
+import dev.vox.lss.common.wire.IdentityDictionary;
+import dev.vox.lss.common.wire.NativeSectionShape;
+import dev.vox.lss.common.wire.NativeToV20Translator;
+import dev.vox.lss.common.wire.WireSectionCursor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Chunk NBT → v20 column body without Minecraft: the platform serializer's TRANSCODE
+ * path ({@code NbtSectionSerializer.transcodeSection} + {@code emitV20Direct}) re-stated
+ * over a {@link StoreBuildProfile}'s registry tables. Palette entries resolve to the
+ * profile's global ids (its tables are id-ordered, so an index IS the id), the count
+ * headers come from the same raw-long histogram, and the column goes out through the
+ * same {@link NativeToV20Translator#convertIndexed} + {@link WireSectionCursor#emit}
+ * pair — so every column this class produces is byte-identical to what the live server
+ * would deposit for the same record.
+ *
+ * <p><b>It only produces what it can prove.</b> Every shape the live transcoder hands to
+ * its OBJECT path (a Global-config palette, missing or mis-sized block data, a non-long
+ * data tag, an empty palette) and every palette entry whose canonical identity is not in
+ * the profile (a state the live codec would default-fill, substitute with air, or
+ * DataFix) DECLINES the whole column: {@link #transcode} returns null, the column is
+ * counted per reason, and the live server serves and stores it on first request.
+ * Masked dimensions never reach this class (the builder skips them).
+ *
+ * <p>Thread-safe: the lookups are immutable after construction; decode pool threads
+ * share one instance.
+ */
+public final class OfflineColumnTranscoder {
+
+    private static final byte[] EMPTY = new byte[0];
+    private static final long[] EMPTY_LONGS = new long[0];
+
+    private final String[] blockStates;
+    private final Map<String, Integer> blockIds;
+    private final boolean[] air;
+    private final boolean[] fluid;
+    private final String[] biomes;
+    private final Map<String, Integer> biomeIds;
+    private final int defaultBiome;
+    private final int airId;
+
+    /** Why columns were declined (reported in the builder's summary). */
+    final AtomicLong declinedShape = new AtomicLong();
+    final AtomicLong declinedIdentity = new AtomicLong();
+    final AtomicLong declinedStream = new AtomicLong();
+
+    public OfflineColumnTranscoder(StoreBuildProfile profile) {
+        this.blockStates = profile.blockStates;
+        this.blockIds = new HashMap<>(profile.blockStates.length * 2);
+        for (int id = 0; id < profile.blockStates.length; id++) {
+            if (profile.blockStates[id] != null) this.blockIds.put(profile.blockStates[id], id);
+        }
+        this.air = new boolean[profile.blockStates.length];
+        for (int id : profile.airStates) this.air[id] = true;
+        this.fluid = new boolean[profile.blockStates.length];
+        for (int id : profile.fluidStates) this.fluid[id] = true;
+        this.biomes = profile.biomes;
+        this.biomeIds = new HashMap<>(profile.biomes.length * 2);
+        for (int id = 0; id < profile.biomes.length; id++) {
+            if (profile.biomes[id] != null) this.biomeIds.put(profile.biomes[id], id);
+        }
+        this.defaultBiome = profile.defaultBiome;
+        this.airId = this.blockIds.getOrDefault("minecraft:air", -1);
+    }
+
+    /** A record straight from the region file: inflate, parse, transcode. Null = not
+     *  servable OR declined (see the class doc). */
+    public byte[] transcodeRecord(byte[] payload, byte version, int minSectionY, int maxSectionY)
+            throws java.io.IOException {
+        var chunk = NbtTree.readRecord(payload, version);
+        if (chunk == null) {
+            this.declinedStream.incrementAndGet();
+            return null;
+        }
+        return transcode(chunk, minSectionY, maxSectionY);
+    }
+
+    /** The serializer's {@code serializeChunkNbt} gate + assembly over one parsed chunk. */
+    public byte[] transcode(Map<String, Object> chunk, int minSectionY, int maxSectionY) {
+        String status = NbtTree.string(chunk, "Status");
+        if (!"minecraft:full".equals(status) && !"full".equals(status)) return null;
+        var sections = NbtTree.list(chunk, "sections");
+        if (sections == null) return null;
+
+        var parsed = new ArrayList<Section>(sections.size());
+        for (Object element : sections) {
+            if (!(element instanceof Map<?, ?>)) {
+                this.declinedShape.incrementAndGet();
+                return null;
+            }
+            @SuppressWarnings("unchecked")
+            var tag = (Map<String, Object>) element;
+            int sectionY = NbtTree.intOr(tag, "Y", Integer.MIN_VALUE);
+            if (sectionY == Integer.MIN_VALUE) continue;
+            if (sectionY < minSectionY || sectionY > maxSectionY) continue;
+            byte[] blockLight = orEmpty(NbtTree.byteArray(tag, "BlockLight"));
+            byte[] skyLight = orEmpty(NbtTree.byteArray(tag, "SkyLight"));
+            Section s;
+            try {
+                s = section(tag, sectionY, blockLight, skyLight);
+            } catch (Declined d) {
+                (d.identity ? this.declinedIdentity : this.declinedShape).incrementAndGet();
+                return null;
+            }
+            if (s != null) parsed.add(s);
+        }
+
+        // Boundary-light band — the serializer's exact rule (sky-lit air only within one
+        // section of the content band; block-lit air always kept).
+        int minContent = Integer.MAX_VALUE, maxContent = Integer.MIN_VALUE;
+        for (var p : parsed) {
+            if (p.nonEmpty != 0) {
+                minContent = Math.min(minContent, p.sectionY);
+                maxContent = Math.max(maxContent, p.sectionY);
+            }
+        }
+        final boolean noContent = minContent == Integer.MAX_VALUE;
+        final int lo = minContent - 1, hi = maxContent + 1;
+        parsed.removeIf(p -> p.nonEmpty == 0 && !p.litByBlock
+                && (noContent || p.sectionY < lo || p.sectionY > hi));
+        if (parsed.isEmpty()) return new byte[0];
+
+        var dict = new IdentityDictionary();
+        var out = new ArrayList<WireSectionCursor.WireSection>(parsed.size());
+        for (var p : parsed) {
+            boolean twoShorts = NativeSectionShape.NATIVE_COUNT_SHORTS == 2;
+            out.add(new WireSectionCursor.WireSection(
+                    (byte) p.sectionY,
+                    twoShorts ? p.nonEmpty
+                            : NativeSectionShape.foldedCountFabricFamily(p.nonEmpty, p.fluid),
+                    twoShorts ? p.fluid : 0,
+                    NativeToV20Translator.convertIndexed(p.blockBits, p.blockIds, p.blockData,
+                            true, dict, this::blockIdentity),
+                    NativeToV20Translator.convertIndexed(p.biomeBits, p.biomeIds, p.biomeData,
+                            false, dict, this::biomeIdentity),
+                    p.litByBlock ? p.blockLight : null,
+                    p.litBySky ? p.skyLight : null));
+        }
+        return WireSectionCursor.emit(new WireSectionCursor.WireColumn(dict.entries(), out),
+                WireSectionCursor.Layout.V20);
+    }
+
+    private record Section(int sectionY, int blockBits, int[] blockIds, long[] blockData,
+                           int biomeBits, int[] biomeIds, long[] biomeData,
+                           int nonEmpty, int fluid, byte[] blockLight, byte[] skyLight,
+                           boolean litByBlock, boolean litBySky) {}
+
+    /** A shape the live transcoder would hand to its object path (or an identity the
+     *  profile cannot vouch for): the column is left to the live server. */
+    private static final class Declined extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        final boolean identity;
+
+        Declined(boolean identity) {
+            super(null, null, false, false);
+            this.identity = identity;
+        }
+    }
+
+    private Section section(Map<String, Object> tag, int sectionY, byte[] blockLight,
+                            byte[] skyLight) throws Declined {
+        int blockBits = 0;
+        int[] blockIds;
+        long[] blockData = EMPTY_LONGS;
+        int nonEmpty = 0, fluidCount = 0;
+
+        var bs = NbtTree.compound(tag, "block_states");
+        if (bs == null) {
+            // Light-only cap entry: an all-air single container, counts 0.
+            if (this.airId < 0) throw new Declined(true);
+            blockIds = new int[]{this.airId};
+        } else {
+            var palette = NbtTree.list(bs, "palette");
+            int n = palette == null ? 0 : palette.size();
+            if (n == 0 || n > 256) throw new Declined(false);
+            blockIds = new int[n];
+            for (int i = 0; i < n; i++) blockIds[i] = blockId(palette.get(i));
+            if (n == 1) {
+                if (!this.air[blockIds[0]]) {
+                    nonEmpty = 4096;
+                    if (this.fluid[blockIds[0]]) fluidCount = 4096;
+                }
+            } else {
+                blockBits = n <= 16 ? 4 : 32 - Integer.numberOfLeadingZeros(n - 1);
+                long[] data = NbtTree.longArray(bs, "data");
+                int vpl = 64 / blockBits;
+                if (data == null || data.length != (4096 + vpl - 1) / vpl) throw new Declined(false);
+                blockData = data;
+                // Same LSB-first histogram as SimpleBitStorage.getAll; an out-of-range
+                // index throws like the live path's (a read error, not a decline).
+                int[] hist = new int[n];
+                long mask = (1L << blockBits) - 1;
+                int count = 0;
+                histogram:
+                for (long cell : data) {
+                    for (int j = 0; j < vpl; j++) {
+                        hist[(int) (cell & mask)]++;
+                        cell >>>= blockBits;
+                        if (++count == 4096) break histogram;
+                    }
+                }
+                for (int i = 0; i < n; i++) {
+                    int c = hist[i];
+                    if (c == 0 || this.air[blockIds[i]]) continue;
+                    nonEmpty += c;
+                    if (this.fluid[blockIds[i]]) fluidCount += c;
+                }
+            }
+        }
+
+        // Biomes: any imperfection collapses to the default single container, exactly
+        // as the live transcoder (and the object path's strict result()) does.
+        int biomeBits = 0;
+        int[] biomeIds = null;
+        long[] biomeData = EMPTY_LONGS;
+        var bt = NbtTree.compound(tag, "biomes");
+        if (bt != null) {
+            var palette = NbtTree.list(bt, "palette");
+            int n = palette == null ? -1 : palette.size();
+            if (n == 0 || n > 8) throw new Declined(false);
+            if (n > 0) {
+                int[] ids = new int[n];
+                boolean clean = true;
+                for (int i = 0; i < n && clean; i++) {
+                    int id = palette.get(i) instanceof String name ? biomeId(name) : -1;
+                    if (id < 0) clean = false;
+                    else ids[i] = id;
+                }
+                if (clean) {
+                    if (n == 1) {
+                        biomeIds = ids;
+                    } else {
+                        int bits = 32 - Integer.numberOfLeadingZeros(n - 1);
+                        if (bt.get("data") != null && NbtTree.longArray(bt, "data") == null) {
+                            throw new Declined(false);
+                        }
+                        long[] data = NbtTree.longArray(bt, "data");
+                        int vpl = 64 / bits;
+                        if (data != null && data.length == (64 + vpl - 1) / vpl) {
+                            biomeBits = bits;
+                            biomeIds = ids;
+                            biomeData = data;
+                        }
+                    }
+                }
+            }
+        }
+        if (biomeIds == null) {
+            biomeIds = new int[]{this.defaultBiome};
+            biomeBits = 0;
+            biomeData = EMPTY_LONGS;
+        }
+
+        boolean litByBlock = blockLight.length == 2048 && hasNonZeroNibble(blockLight);
+        boolean litBySky = skyLight.length == 2048 && hasNonZeroNibble(skyLight);
+        if (nonEmpty == 0 && !litByBlock && !litBySky) return null;
+        return new Section(sectionY, blockBits, blockIds, blockData, biomeBits, biomeIds,
+                biomeData, nonEmpty, fluidCount, blockLight, skyLight, litByBlock, litBySky);
+    }
+
+    /** A palette entry's global id via its canonical identity; anything the profile does
+     *  not list verbatim declines (the live codec would default-fill or air-substitute). */
+    private int blockId(Object entry) throws Declined {
+        if (!(entry instanceof Map<?, ?> raw)) throw new Declined(true);
+        @SuppressWarnings("unchecked")
+        var tag = (Map<String, Object>) raw;
+        String name = NbtTree.string(tag, "Name");
+        if (name == null) throw new Declined(true);
+        var props = NbtTree.compound(tag, "Properties");
+        Map<String, String> values = null;
+        if (props != null && !props.isEmpty()) {
+            values = new HashMap<>(props.size() * 2);
+            for (var e : props.entrySet()) {
+                if (!(e.getValue() instanceof String v)) throw new Declined(true);
+                values.put(e.getKey(), v);
+            }
+        }
+        Integer id;
+        try {
+            id = this.blockIds.get(IdentityCodec.canonical(namespaced(name), values));
+        } catch (IllegalArgumentException e) {
+            throw new Declined(true);
+        }
+        if (id == null) throw new Declined(true);
+        return id;
+    }
+
+    private int biomeId(String name) {
+        return this.biomeIds.getOrDefault(namespaced(name), -1);
+    }
+
+    /** {@code Identifier.tryParse}'s default namespace. */
+    private static String namespaced(String name) {
+        return name.indexOf(':') < 0 ? "minecraft:" + name : name;
+    }
+
+    private String blockIdentity(int id) {
+        return id >= 0 && id < this.blockStates.length ? this.blockStates[id] : null;
+    }
+
+    private String biomeIdentity(int id) {
+        return id >= 0 && id < this.biomes.length ? this.biomes[id] : null;
+    }
+
+    private static byte[] orEmpty(byte[] a) {
+        return a == null ? EMPTY : a;
+    }
+
+    private static boolean hasNonZeroNibble(byte[] light) {
+        for (byte b : light) {
+            if (b != 0) return true;
+        }
+        return false;
+    }
+
+    /** Columns declined so far, by reason: {shape, identity, stream}. */
+    public long[] declinedCounts() {
+        return new long[]{this.declinedShape.get(), this.declinedIdentity.get(),
+                this.declinedStream.get()};
+    }
+}
@@ -0,0 +1,165 @@
+package dev.vox.lss.common.store.offline;
+
+import dev.vox.lss.common.LSSConstants;
+import dev.vox.lss.common.LSSLogger;
+import dev.vox.lss.common.store.LodStores;
+import dev.vox.lss.common.store.SqliteLodStore;
+import dev.vox.lss.common.store.StoreBackfill;
+import dev.vox.lss.common.store.StoreEvictionPolicy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a world's LOD store with no server running: the store a live backfill would
+ * eventually write, produced by the same {@link StoreBackfill} walk (nearest-spawn
+ * first, done-marks, whole-region reads, parallel region workers) in its
+ * {@linkplain StoreBackfill#runOffline() offline} mode, with {@link OfflineColumnTranscoder}
+ * standing in for the platform serializer.
+ *
+ * <p>The store it writes carries the meta of the {@link StoreBuildProfile} it was given,
+ * so the server that exported the profile opens it as its own; a server with different
+ * registries, wire version or codec flags drops it and rebuilds, exactly as it would any
+ * foreign store. Columns the transcoder declines are simply absent — the live server
+ * reads and stores them on first request, or its own backfill fills them (a region the
+ * builder finished is done-marked, so the live walk only revisits unfinished regions).
+ * Masked dimensions are skipped entirely: the mask needs the engine's live view.
+ *
+ * <p>Runs against a world nobody is writing: the builder takes the store's own file
+ * lock, but region files saved mid-build would be read half-written. Stop the server
+ * first.
+ */
+public final class OfflineStoreBuilder {
+
+    private final Path worldRoot;
+    private final StoreBuildProfile profile;
+    private final int workers;
+
+    public OfflineStoreBuilder(Path worldRoot, StoreBuildProfile profile, int workers) {
+        this.worldRoot = worldRoot;
+        this.profile = profile;
+        this.workers = Math.max(LSSConstants.MIN_LOD_STORE_BACKFILL_WORKERS,
+                Math.min(LSSConstants.MAX_LOD_STORE_BACKFILL_WORKERS, workers));
+    }
+
+    /** The profile a server left next to its store: {@code <store dir>/build-profile.json}. */
+    public static Path defaultProfilePath(Path worldRoot) {
+        return LodStores.brandedStoreDir(worldRoot).resolve(StoreBuildProfile.FILE_NAME);
+    }
+
+    /** One build's outcome; {@link #toString()} is the CLI's summary line. */
+    public record Result(String walkLine, List<String> skippedDimensions, long declinedShape,
+                         long declinedIdentity, long declinedStream) {
+        @Override
+        public String toString() {
+            return walkLine + "; declined " + declinedShape + " shape, " + declinedIdentity
+                    + " identity, " + declinedStream + " stream"
+                    + (skippedDimensions.isEmpty() ? "" : "; skipped masked " + skippedDimensions);
+        }
+    }
+
+    /** Runs the whole build on the calling thread. Throws when the store cannot open. */
+    public Result build() throws IOException {
+        if (this.profile.wireVersion != LSSConstants.PROTOCOL_VERSION) {
+            throw new IOException("build profile targets wire version " + this.profile.wireVersion
+                    + "; this builder emits " + LSSConstants.PROTOCOL_VERSION);
+        }
+        var dims = new HashMap<String, StoreBuildProfile.Dimension>();
+        var skipped = new ArrayList<String>();
+        for (var dim : this.profile.dimensions) {
+            if (dim.maskFingerprint == null || "off".equals(dim.maskFingerprint)) {
+                dims.put(dim.id, dim);
+            } else {
+                skipped.add(dim.id);
+            }
+        }
+        Map<String, Path> regionDirs = new HashMap<>();
+        for (var dim : dims.values()) regionDirs.put(dim.id, this.worldRoot.resolve(dim.regionDir));
+
+        var env = new SqliteLodStore.Environment(
+                LodStores.brandedStoreDir(this.worldRoot), this.profile.mcVersion,
+                this.profile.wireVersion, regionDirs::get, dim -> "off",
+                // No resweep: nothing is saving; no size cap: the operator sized the disk.
+                0, Long.MAX_VALUE, this.profile.registryFingerprint,
+                this.profile.sectionDedup, this.profile.columnDictionary,
+                StoreEvictionPolicy.OLDEST, 0L, 0, this.profile.shardByDimension);
+        if (!(LodStores.createOrNull(env) instanceof SqliteLodStore store)) {
+            throw new IOException("could not open the LOD store under "
+                    + LodStores.brandedStoreDir(this.worldRoot) + " (see the log)");
+        }
+
+        var transcoder = new OfflineColumnTranscoder(this.profile);
+        String line;
+        try {
+            var backfill = new StoreBackfill(store, regionDirs::get,
+                    dim -> new long[]{dims.get(dim).spawnChunkX, dims.get(dim).spawnChunkZ},
+                    List.copyOf(dims.keySet()),
+                    (dim, cx, cz) -> {
+                        var d = dims.get(dim);
+                        byte[][] record = readChunkRecord(regionDirs.get(dim), cx, cz);
+                        return record == null ? null
+                                : transcoder.transcodeRecord(record[0], record[1][0],
+                                        d.minSectionY, d.maxSectionY);
+                    },
+                    () -> true, () -> true,
+                    LSSConstants.MAX_LOD_STORE_BACKFILL_CPS,
+                    (dim, cx, cz, payload, version) -> {
+                        var d = dims.get(dim);
+                        return transcoder.transcodeRecord(payload, version,
+                                d.minSectionY, d.maxSectionY);
+                    },
+                    null, this.workers);
+            line = backfill.runOffline();
+            if (!store.awaitDepositQueueEmpty(60_000L)) {
+                LSSLogger.warn("Offline store build: deposit queue did not drain in 60s;"
+                        + " shutdown flushes the rest");
+            }
+        } finally {
+            store.shutdown();
+        }
+        long[] declined = transcoder.declinedCounts();
+        return new Result(line, List.copyOf(skipped), declined[0], declined[1], declined[2]);
+    }
+
+    /**
+     * One chunk's raw record ({@code {payload}, {version}}) via the region header — the
+     * path for slots the whole-region read hands back (external streams, odd headers,
+     * files past the bulk ceiling). Null = no record. The external flag is resolved here:
+     * the payload then comes from the {@code c.X.Z.mcc} sidecar, read whole.
+     */
+    static byte[][] readChunkRecord(Path regionDir, int cx, int cz) throws IOException {
+        Path mca = regionDir.resolve("r." + (cx >> 5) + "." + (cz >> 5) + ".mca");
+        if (!Files.isRegularFile(mca)) return null;
+        try (var ch = FileChannel.open(mca, StandardOpenOption.READ)) {
+            var word = ByteBuffer.allocate(4);
+            if (ch.read(word, 4L * ((cx & 31) + ((cz & 31) << 5))) != 4) return null;
+            int location = word.flip().getInt();
+            long offset = (long) (location >>> 8) * 4096L;
+            if (location == 0 || offset < 8192L) return null;
+            var head = ByteBuffer.allocate(5);
+            if (ch.read(head, offset) != 5) return null;
+            head.flip();
+            int length = head.getInt();
+            byte version = head.get();
+            if ((version & 0x80) != 0) {
+                Path mcc = regionDir.resolve("c." + cx + "." + cz + ".mcc");
+                if (!Files.isRegularFile(mcc)) return null;
+                return new byte[][]{Files.readAllBytes(mcc), {(byte) (version & 0x7F)}};
+            }
+            if (length <= 1 || offset + 4 + length > ch.size()) return null;
+            var payload = ByteBuffer.allocate(length - 1);
+            while (payload.hasRemaining()) {
+                if (ch.read(payload, offset + 5 + payload.position()) < 0) return null;
+            }
+            return new byte[][]{payload.array(), {version}};
+        }
+    }
+}
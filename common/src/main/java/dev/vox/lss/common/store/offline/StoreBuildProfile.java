@@ -0,0 +1,109 @@
+package dev.vox.lss.common.store.offline;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Everything the offline builder needs from a running server and cannot derive from the
+ * world files: the registry tables the v20 emit names blocks and biomes by, the two
+ * per-state facts the section count headers need (air, fluid), and the store meta a
+ * server compares on open ({@code mc_version}, wire version, registry fingerprint, codec
+ * choice) — a store built against a different profile would simply be dropped and
+ * rebuilt by the server it was meant for.
+ *
+ * <p>Written by the platform next to the store ({@link #FILE_NAME}) every time a store
+ * opens, so one boot of the target server (same jar, same mods and datapacks) leaves an
+ * up-to-date profile behind; the builder reads it from the world's store directory or
+ * an explicit path. Plain GSON fields, like the config classes.
+ */
+public final class StoreBuildProfile {
+
+    public static final String FILE_NAME = "build-profile.json";
+    /** Bumped on any field change the builder cannot read compatibly. */
+    public static final int FORMAT = 1;
+
+    public int format = FORMAT;
+    public String mcVersion;
+    public int wireVersion;
+    public String registryFingerprint;
+    public boolean sectionDedup;
+    public boolean columnDictionary;
+    /** The server's {@code lodStoreShardByDimension}: the builder lays dimensions out the
+     *  same way (an unsharded open would delete the server's per-dimension files). */
+    public boolean shardByDimension;
+    /** Canonical block-state identity ({@code IdentityCodec} form), indexed by global id. */
+    public String[] blockStates;
+    /** Global ids whose state is air (the count header's non-empty test). */
+    public int[] airStates;
+    /** Global ids whose state carries a fluid (the count header's fluid test). */
+    public int[] fluidStates;
+    /** Biome identity, indexed by the container strategy's holder id. */
+    public String[] biomes;
+    /** Holder id of the biome an unreadable biome container collapses to. */
+    public int defaultBiome;
+    public List<Dimension> dimensions = new ArrayList<>();
+
+    public static final class Dimension {
+        public String id;
+        /** Region directory relative to the world root ({@code region}, {@code DIM-1/region}, ...). */
+        public String regionDir;
+        public int minSectionY;
+        public int maxSectionY;
+        public int spawnChunkX;
+        public int spawnChunkZ;
+        /** The store's x-ray mask fingerprint for this dimension; {@code off} = unmasked. */
+        public String maskFingerprint;
+    }
+
+    private static final Gson GSON = new GsonBuilder().create();
+
+    public static StoreBuildProfile read(Path file) throws IOException {
+        var profile = GSON.fromJson(Files.readString(file), StoreBuildProfile.class);
+        if (profile == null) throw new IOException("empty build profile: " + file);
+        profile.validate();
+        return profile;
+    }
+
+    /** Atomic replace (temp + move) — a server killed mid-write leaves the old profile. */
+    public void write(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(tmp, GSON.toJson(this));
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /** Throws {@link IOException} naming the first missing or inconsistent field. */
+    void validate() throws IOException {
+        if (this.format != FORMAT) {
+            throw new IOException("build profile format " + this.format + " (this builder reads "
+                    + FORMAT + ") — re-export it with the matching server jar");
+        }
+        if (this.mcVersion == null || this.registryFingerprint == null
+                || this.blockStates == null || this.biomes == null || this.dimensions == null) {
+            throw new IOException("build profile is missing required fields");
+        }
+        if (this.defaultBiome < 0 || this.defaultBiome >= this.biomes.length) {
+            throw new IOException("build profile default biome " + this.defaultBiome + " out of range");
+        }
+        for (int[] ids : new int[][]{this.airStates, this.fluidStates}) {
+            if (ids == null) throw new IOException("build profile is missing its state flags");
+            for (int id : ids) {
+                if (id < 0 || id >= this.blockStates.length) {
+                    throw new IOException("build profile state id " + id + " out of range");
+                }
+            }
+        }
+        for (var dim : this.dimensions) {
+            if (dim.id == null || dim.regionDir == null || dim.minSectionY > dim.maxSectionY) {
+                throw new IOException("build profile dimension entry is incomplete");
+            }
+        }
+    }
+}
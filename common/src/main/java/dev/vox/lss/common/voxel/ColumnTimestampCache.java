@@ -5,22 +5,32 @@ import dev.vox.lss.common.LSSLogger;
 import dev.vox.lss.common.PositionUtil;
 import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 
 /**
  * Per-dimension timestamp cache for served columns, stored as per-region FLAT TILES
@@ -44,15 +54,30 @@ import java.util.concurrent.atomic.AtomicLong;
  * For every in-range stamp the u32 offset is LOSSLESS — router semantics are
  * bit-identical to the map implementation this replaced.
  *
- * <p>Persistent: saved to disk periodically and on shutdown (format v2; v1 files
- * migrate in place at load), loaded on startup.
+ * <p>Persistent: a BASE file ({@code lss-timestamps.bin}, format v3; v2 files load as
+ * they are and v1 files migrate in place) plus an append-only JOURNAL of whole-tile
+ * records ({@code lss-timestamps.journal}). The live cache tracks which tiles changed
+ * since the last snapshot, so a routine save appends just those tiles (a removed tile
+ * appends a tombstone) — cost proportional to what changed, not to the cache. Once the
+ * journal has taken as many tiles as the cache holds, the next snapshot is a full one
+ * that rewrites the base under a fresh generation and drops the journal (compaction);
+ * the shutdown save always compacts. The base's generation id is echoed in the journal
+ * header, so a journal left over from an older base is never replayed onto a newer one.
+ * Loading is base + journal replay, merged additively as before.
  *
  * <p>Single-threaded — must only be called from the processing thread.
  */
 public class ColumnTimestampCache {
 
-    private static final int FORMAT_VERSION = 2;
+    private static final int FORMAT_VERSION = 3;
     private static final String FILE_NAME = "lss-timestamps.bin";
+    private static final String JOURNAL_FILE_NAME = "lss-timestamps.journal";
+    private static final int JOURNAL_FORMAT_VERSION = 1;
+    /** Journal header: version (int) + the base generation it extends (long). */
+    private static final int JOURNAL_HEADER_BYTES = 4 + 8;
+    /** Journal floor before compaction: below ~4 MB of appended tiles a small cache keeps
+     *  appending rather than rewriting its base every few saves. */
+    private static final int MIN_COMPACTION_TILES = 1024;
     private static final dev.vox.lss.common.LogThrottle SAVE_FAIL_WARN =
             new dev.vox.lss.common.LogThrottle(60_000);
     /** 2025-01-01T00:00:00Z — every legitimate LSS stamp postdates it (design §2).
@@ -62,7 +87,7 @@ public class ColumnTimestampCache {
     /** v1 on-disk record size (8B packed position + 8B stamp) — the migration loader's
      *  sanity bound. */
     private static final int V1_DISK_BYTES_PER_ENTRY = 16;
-    /** v2 on-disk tile record: 8B regionKey + 4B liveCount + 1024×4B slots. */
+    /** v2/v3 on-disk tile record: 8B regionKey + 4B liveCount + 1024×4B slots. */
     private static final int TILE_RECORD_BYTES = 8 + 4 + 4096;
     /** save()/load() stream buffer — see the buffering note in save(). */
     private static final int IO_BUFFER_BYTES = 1 << 16;
@@ -109,6 +134,31 @@ public class ColumnTimestampCache {
     // written like all cache state.
     private boolean preEpochWarned;
 
+    // ---- Incremental persistence (processing-thread state, live instance only) ----
+    // Set by load(): only a cache with a data dir tracks dirty tiles — a cache that is
+    // never saved must not grow a dirty set forever.
+    private boolean persistent;
+    // Regions whose tile changed (or vanished) since the last snapshot, per dimension.
+    private final Map<String, LongOpenHashSet> dirtyRegions = new HashMap<>();
+    // Generation of the base the journal currently extends; 0 = none known yet.
+    private long generation;
+    // No loadable base + journal matching this cache exists yet: the next snapshot is full.
+    private boolean fullSaveDue = true;
+    // Tile records appended since the last base write — the compaction trigger.
+    private long journaledTiles;
+    // Raised by a failed save on the executor (shared with every snapshot): whatever that
+    // save carried is not on disk, so the next snapshot must be full to converge.
+    private AtomicBoolean persistFailed = new AtomicBoolean();
+
+    // ---- Snapshot-only state (set by snapshotForSave) ----
+    // Non-zero on a snapshot: a full snapshot writes its base under it; a delta appends
+    // under it.
+    private long saveGeneration;
+    // A delta snapshot holds only dirty tiles plus the tombstones below, and save()
+    // appends it to the journal instead of rewriting the base.
+    private boolean journalDelta;
+    private Map<String, LongOpenHashSet> removedRegions;
+
     public ColumnTimestampCache(long maxBytesPerDimension, long missTtlNanos) {
         this.maxBytesPerDimension = Math.max(TILE_HEAP_BYTES, maxBytesPerDimension);
         this.missTtlNanos = Math.max(0, missTtlNanos);
@@ -144,6 +194,7 @@ public class ColumnTimestampCache {
                 tile.slots[slot] = 0;
                 if (--tile.liveCount == 0) tiles.remove(region);
                 bumpLiveSize(dimension, -1);
+                markDirty(dimension, region);
             }
         } else {
             if (timestamp <= TS_EPOCH_SECONDS && !preEpochWarned) {
@@ -166,7 +217,11 @@ public class ColumnTimestampCache {
                 tile.liveCount++;
                 bumpLiveSize(dimension, 1);
             }
-            tile.slots[slot] = offsetOf(timestamp);
+            int offset = offsetOf(timestamp);
+            if (tile.slots[slot] != offset) {
+                tile.slots[slot] = offset;
+                markDirty(dimension, region);
+            }
             tile.lastTouchEpochSeconds = now;
         }
         // A positive stamp IS the miss-clear choke point: every serve path (probe, disk
@@ -184,6 +239,12 @@ public class ColumnTimestampCache {
         liveSizes.merge(dimension, delta, Integer::sum);
     }
 
+    /** Queue a region's tile for the next journal append (no-op unless persistent). */
+    private void markDirty(String dimension, long region) {
+        if (!persistent) return;
+        dirtyRegions.computeIfAbsent(dimension, k -> new LongOpenHashSet()).add(region);
+    }
+
     // ---- Miss memo API (processing thread only, like everything else here) ----
 
     /** Record an AUTHORITATIVE disk miss (storage answered "no such chunk" — never an
@@ -261,6 +322,7 @@ public class ColumnTimestampCache {
                 tile.slots[slot] = 0;
                 removed++;
                 if (--tile.liveCount == 0) tiles.remove(PositionUtil.packRegionOf(pos));
+                markDirty(dimension, PositionUtil.packRegionOf(pos));
             }
         }
         if (removed > 0) bumpLiveSize(dimension, -removed);
@@ -304,6 +366,7 @@ public class ColumnTimestampCache {
             int dimEvicted = 0;
             for (int i = 0; i < excess; i++) {
                 tiles.remove(victims.get(i).key());
+                markDirty(entry.getKey(), victims.get(i).key());
                 dimEvicted += victims.get(i).liveCount();
             }
             if (dimEvicted > 0) {
@@ -345,11 +408,19 @@ public class ColumnTimestampCache {
     // ---- Persistence ----
 
     /**
-     * Saves the cache to {@code <dataDir>/lss-timestamps.bin} using atomic write.
-     * v2 format: version (int) + dimensionCount (int) + per-dimension: key (UTF) +
-     * tileCount (int) + per tile: regionKey (long) + liveCount (int) + 1024 slots (int).
+     * Persists this cache under {@code dataDir}. A delta snapshot (see
+     * {@link #snapshotForSave}) appends its tiles to {@code lss-timestamps.journal}; any
+     * other instance rewrites {@code lss-timestamps.bin} with an atomic write under a fresh
+     * generation and then drops the journal it superseded.
+     * v3 format: version (int) + generation (long) + dimensionCount (int) + per-dimension:
+     * key (UTF) + tileCount (int) + per tile: regionKey (long) + liveCount (int) +
+     * 1024 slots (int). v2 is the same without the generation.
      */
     public void save(Path dataDir) {
+        if (journalDelta) {
+            appendJournal(dataDir);
+            return;
+        }
         // NEVER-TOUCHED (no dimension ever cached) skips the save — an idle server
         // creates no file. An EMPTIED cache must still write: a stale file left on disk
         // would resurrect invalidated stamps on the next boot (the debounced-save pin's
@@ -360,6 +431,9 @@ public class ColumnTimestampCache {
         for (var tiles : caches.values()) {
             if (liveTileCount(tiles) > 0) liveDims++;
         }
+        // Never reuse a generation: a journal surviving a crash between the rename and its
+        // delete below would otherwise replay OLDER tile states over the new base.
+        long baseGeneration = saveGeneration != 0 ? saveGeneration : newGeneration();
 
         var file = dataDir.resolve(FILE_NAME);
         // Unique tmp name: two writers overlapping across a Paper /reload (old instance's
@@ -373,6 +447,7 @@ public class ColumnTimestampCache {
             try (var out = new DataOutputStream(new BufferedOutputStream(
                     Files.newOutputStream(tmpFile), IO_BUFFER_BYTES))) {
                 out.writeInt(FORMAT_VERSION);
+                out.writeLong(baseGeneration);
                 out.writeInt(liveDims);
                 for (var entry : caches.entrySet()) {
                     var tiles = entry.getValue();
@@ -400,6 +475,9 @@ public class ColumnTimestampCache {
                 // JsonConfig.save): a torn file on crash is tolerable, the loader discards it.
                 Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
             }
+            // The base now holds everything the journal did; a journal that survives this
+            // delete is keyed to the old generation and is never replayed.
+            Files.deleteIfExists(dataDir.resolve(JOURNAL_FILE_NAME));
             // debug, not info: besides the ~5-min periodic save, the invalidation debounce
             // saves within ~2s of any dirty-broadcast — on a busy server that is a console
             // line every few seconds (#32). Failures below still WARN.
@@ -407,21 +485,117 @@ public class ColumnTimestampCache {
                 LSSLogger.debug("Saved " + size() + " timestamp cache entries to " + file);
             }
         } catch (IOException e) {
-            // Throttled (log-sweep top finding): the invalidation debounce re-saves ~2 s
-            // after any dirty broadcast, so on a full/read-only disk this warned (with
-            // stack) every few seconds forever — the same cadence that demoted the
-            // SUCCESS line to debug above.
-            long n = SAVE_FAIL_WARN.recordAndTryAcquire(System.nanoTime() / 1_000_000);
-            if (n > 0) {
-                LSSLogger.warn("Failed to save timestamp cache to " + file
-                        + " (" + n + " failed save(s) since the last report)", e);
-            }
+            persistFailed.set(true);
+            warnSaveFailure(file, e);
             try { Files.deleteIfExists(tmpFile); } catch (IOException e2) {
                 // covered by the aggregate above; the tmp file is retried next save
             }
         }
     }
 
+    /**
+     * Appends this delta snapshot's tiles to the journal as ONE batch: recordCount (int) +
+     * per record: dimension (UTF) + regionKey (long) + liveCount (int, 0 = tombstone) +
+     * 1024 slots (live records only) — then a CRC32 (long) over the batch. A new journal
+     * starts with its header. The batch goes down in a single append, so a crash tears at
+     * most the tail batch, which the loader's CRC check rejects.
+     */
+    private void appendJournal(Path dataDir) {
+        int records = 0;
+        for (var tiles : caches.values()) records += tiles.size();
+        for (var removed : removedRegions.values()) records += removed.size();
+        if (records == 0) return;
+
+        var journal = dataDir.resolve(JOURNAL_FILE_NAME);
+        try {
+            long existingBytes = Files.exists(journal) ? Files.size(journal) : 0;
+            if (existingBytes > 0 && journalGeneration(journal) != saveGeneration) {
+                // The base this delta extends is not the one on disk (its full save failed,
+                // or another instance compacted across a /reload): appending would record
+                // tiles the loader will never replay. Fail over to a full save.
+                persistFailed.set(true);
+                if (LSSLogger.isDebugEnabled()) {
+                    LSSLogger.debug("Timestamp journal " + journal + " belongs to another base; deferring to a full save");
+                }
+                return;
+            }
+            var bytes = new ByteArrayOutputStream(records * (TILE_RECORD_BYTES + 32) + 32);
+            var out = new DataOutputStream(bytes);
+            if (existingBytes == 0) {
+                out.writeInt(JOURNAL_FORMAT_VERSION);
+                out.writeLong(saveGeneration);
+            }
+            int batchStart = bytes.size();
+            out.writeInt(records);
+            for (var entry : caches.entrySet()) {
+                for (var e : entry.getValue().long2ObjectEntrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeLong(e.getLongKey());
+                    out.writeInt(e.getValue().liveCount);
+                    for (int slot : e.getValue().slots) out.writeInt(slot);
+                }
+            }
+            for (var entry : removedRegions.entrySet()) {
+                var it = entry.getValue().iterator();
+                while (it.hasNext()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeLong(it.nextLong());
+                    out.writeInt(0);
+                }
+            }
+            out.flush();
+            byte[] batch = bytes.toByteArray();
+            var crc = new CRC32();
+            crc.update(batch, batchStart, batch.length - batchStart);
+            out.writeLong(crc.getValue());
+            out.flush();
+            batch = bytes.toByteArray();
+
+            Files.createDirectories(dataDir);
+            try (var ch = FileChannel.open(journal, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                var buf = ByteBuffer.wrap(batch);
+                while (buf.hasRemaining()) ch.write(buf);
+            }
+            if (LSSLogger.isDebugEnabled()) {
+                LSSLogger.debug("Appended " + records + " timestamp cache tile(s) to " + journal);
+            }
+        } catch (IOException e) {
+            persistFailed.set(true);
+            warnSaveFailure(journal, e);
+        }
+    }
+
+    /** The generation a journal's header names; 0 for a torn or foreign header. */
+    private static long journalGeneration(Path journal) throws IOException {
+        try (var in = new DataInputStream(Files.newInputStream(journal))) {
+            if (in.readInt() != JOURNAL_FORMAT_VERSION) return 0;
+            return in.readLong();
+        } catch (EOFException e) {
+            return 0;
+        }
+    }
+
+    private static void warnSaveFailure(Path file, IOException e) {
+        // Throttled (log-sweep top finding): the invalidation debounce re-saves ~2 s
+        // after any dirty broadcast, so on a full/read-only disk this warned (with
+        // stack) every few seconds forever — the same cadence that demoted the
+        // SUCCESS line to debug above.
+        long n = SAVE_FAIL_WARN.recordAndTryAcquire(System.nanoTime() / 1_000_000);
+        if (n > 0) {
+            LSSLogger.warn("Failed to save timestamp cache to " + file
+                    + " (" + n + " failed save(s) since the last report)", e);
+        }
+    }
+
+    private static long newGeneration() {
+        long g;
+        do {
+            g = ThreadLocalRandom.current().nextLong();
+        } while (g == 0);
+        return g;
+    }
+
     /** Tiles with at least one live slot — what save() actually persists. */
     private static int liveTileCount(Long2ObjectOpenHashMap<Tile> tiles) {
         int n = 0;
@@ -465,14 +639,19 @@ public class ColumnTimestampCache {
     }
 
     /**
-     * Loads the cache from {@code <dataDir>/lss-timestamps.bin}. Existing entries are
-     * preserved (loaded entries are added/overwritten — the additive-merge property is
-     * test-pinned). v1 files (the released per-entry format) migrate in place at load
-     * (design §6): each record buckets into its tile through the §2.2 clamp rules and
-     * every loaded tile's lastTouch resets to load time — exactly the old behavior of
-     * resetting insertionTimes. The v1 file is never rewritten; the next save writes v2.
+     * Loads the cache from {@code <dataDir>/lss-timestamps.bin} plus the journal that
+     * extends it. Existing entries are preserved (loaded entries are added/overwritten —
+     * the additive-merge property is test-pinned). v1 files (the released per-entry
+     * format) migrate in place at load (design §6): each record buckets into its tile
+     * through the §2.2 clamp rules and every loaded tile's lastTouch resets to load time —
+     * exactly the old behavior of resetting insertionTimes. The v1 file is never
+     * rewritten here; the next save writes a full v3 base. v2 bases carry no generation,
+     * so no journal is replayed onto them.
+     *
+     * <p>Also arms dirty-tile tracking: only a cache with a data dir ever saves.
      */
     public void load(Path dataDir) {
+        persistent = true;
         // Before the missing-file early return: orphans next to a missing/corrupt main
         // file must still be swept.
         sweepOrphanedTempFiles(dataDir);
@@ -488,6 +667,12 @@ public class ColumnTimestampCache {
             return;
         }
 
+        // The base and journal are staged together and merged at the end: a journal
+        // record is a tile's WHOLE later state and replaces the base's copy, while the
+        // merge into live state stays additive at slot granularity.
+        var staged = new HashMap<String, Long2ObjectOpenHashMap<Tile>>();
+        long baseGeneration = 0;
+        boolean baseComplete = false;
         try (var in = new DataInputStream(new BufferedInputStream(
                 Files.newInputStream(file), IO_BUFFER_BYTES))) {
             int version = in.readInt();
@@ -495,82 +680,197 @@ public class ColumnTimestampCache {
                 loadV1(in, file, fileSize, now);
                 return;
             }
-            if (version != FORMAT_VERSION) {
+            if (version != 2 && version != FORMAT_VERSION) {
                 // Includes the DOWNGRADE path read the other way: an old build reading a
-                // v2 file warns + starts cold (the cache is an optimization, a cold
+                // newer file warns + starts cold (the cache is an optimization, a cold
                 // start self-heals via re-serves) — same policy here for unknowns.
                 LSSLogger.warn("Timestamp cache " + file + " has unsupported version " + version + ", discarding");
                 return;
             }
-            // Sanity-bound the declared tile counts by what the file can physically hold,
-            // mirroring the v1 loader's defense; a liveCount outside 1..1024 or
-            // disagreeing with the scanned slots aborts the rest ("discarding rest").
-            // The +1 slop is DELIBERATE (review-verified): header/dimension-name bytes
-            // mean a truncated file can legitimately declare N tiles while
-            // fileSize/TILE_RECORD_BYTES reads N-1 — an exact bound would discard the
-            // whole dimension at this rung instead of letting the tile loop keep every
-            // COMPLETE tile and stop at the EOF. The bound only exists to reject absurd
-            // counts before allocation.
-            long maxPlausibleTiles = fileSize / TILE_RECORD_BYTES + 1;
-            int dimCount = in.readInt();
-            int totalLoaded = 0;
-            for (int d = 0; d < dimCount; d++) {
-                String dimension = in.readUTF();
-                int tileCount = in.readInt();
-                if (tileCount < 0 || tileCount > maxPlausibleTiles) {
-                    LSSLogger.warn("Timestamp cache " + file + " has invalid tile count " + tileCount
-                            + " for dimension " + dimension + ", discarding rest");
-                    return;
+            if (version == FORMAT_VERSION) baseGeneration = in.readLong();
+            baseComplete = readBaseTiles(in, file, fileSize, now, staged);
+        } catch (IOException e) {
+            LSSLogger.warn("Failed to load timestamp cache from " + file, e);
+        }
+        int baseEntries = 0;
+        for (var tiles : staged.values()) {
+            for (Tile tile : tiles.values()) baseEntries += tile.liveCount;
+        }
+
+        int replayed = 0;
+        boolean journalClean = true;
+        var journal = dataDir.resolve(JOURNAL_FILE_NAME);
+        if (Files.exists(journal)) {
+            if (baseGeneration != 0) {
+                replayed = replayJournal(journal, baseGeneration, now, staged);
+                journalClean = replayed >= 0;
+            } else {
+                journalClean = false;
+            }
+        }
+
+        mergeLoaded(staged);
+        if (baseComplete && journalClean) {
+            // Disk holds exactly base + journal: later saves may keep appending to it.
+            generation = baseGeneration;
+            journaledTiles = replayed;
+            fullSaveDue = false;
+        }
+        LSSLogger.info("Loaded " + baseEntries + " timestamp cache entries from " + file
+                + (replayed > 0 ? " (+" + replayed + " journaled tile(s))" : ""));
+    }
+
+    /** Reads a v2/v3 base body into {@code staged}. False when the rest was discarded. */
+    private boolean readBaseTiles(DataInputStream in, Path file, long fileSize, long now,
+                                  Map<String, Long2ObjectOpenHashMap<Tile>> staged) throws IOException {
+        // Sanity-bound the declared tile counts by what the file can physically hold,
+        // mirroring the v1 loader's defense; a liveCount outside 1..1024 or
+        // disagreeing with the scanned slots aborts the rest ("discarding rest").
+        // The +1 slop is DELIBERATE (review-verified): header/dimension-name bytes
+        // mean a truncated file can legitimately declare N tiles while
+        // fileSize/TILE_RECORD_BYTES reads N-1 — an exact bound would discard the
+        // whole dimension at this rung instead of letting the tile loop keep every
+        // COMPLETE tile and stop at the EOF. The bound only exists to reject absurd
+        // counts before allocation.
+        long maxPlausibleTiles = fileSize / TILE_RECORD_BYTES + 1;
+        int dimCount = in.readInt();
+        for (int d = 0; d < dimCount; d++) {
+            String dimension = in.readUTF();
+            int tileCount = in.readInt();
+            if (tileCount < 0 || tileCount > maxPlausibleTiles) {
+                LSSLogger.warn("Timestamp cache " + file + " has invalid tile count " + tileCount
+                        + " for dimension " + dimension + ", discarding rest");
+                return false;
+            }
+            var tiles = staged.computeIfAbsent(dimension, k -> new Long2ObjectOpenHashMap<>());
+            for (int t = 0; t < tileCount; t++) {
+                long regionKey = in.readLong();
+                Tile tile = readTile(in, file, in.readInt(), now);
+                if (tile == null) return false;
+                // Staged per tile: a mid-tile EOF throws to load()'s catch, and every
+                // COMPLETE tile before it still merges (the §8 truncation pin).
+                tiles.put(regionKey, tile);
+            }
+        }
+        return true;
+    }
+
+    /** One tile's 1024 slots, validated against its declared live count; null (after a
+     *  warning) when they disagree or the count is out of range. */
+    private static Tile readTile(DataInputStream in, Path file, int liveCount, long now) throws IOException {
+        if (liveCount < 1 || liveCount > 1024) {
+            LSSLogger.warn("Timestamp cache " + file + " has invalid tile liveCount "
+                    + liveCount + ", discarding rest");
+            return null;
+        }
+        Tile tile = new Tile();
+        int nonzero = 0;
+        for (int s = 0; s < 1024; s++) {
+            tile.slots[s] = in.readInt();
+            if (tile.slots[s] != 0) nonzero++;
+        }
+        if (nonzero != liveCount) {
+            LSSLogger.warn("Timestamp cache " + file + " tile liveCount " + liveCount
+                    + " disagrees with " + nonzero + " nonzero slots, discarding rest");
+            return null;
+        }
+        tile.liveCount = liveCount;
+        tile.lastTouchEpochSeconds = now;
+        return tile;
+    }
+
+    /**
+     * Replays every intact journal batch onto {@code staged}, in append order. Returns
+     * the number of tile records replayed, or -1 when the journal does not cleanly extend
+     * this base (foreign generation, torn or corrupt batch) — the intact prefix is still
+     * applied, and the caller forces a full save so nothing is ever appended after garbage.
+     */
+    private static int replayJournal(Path journal, long baseGeneration, long now,
+                                     Map<String, Long2ObjectOpenHashMap<Tile>> staged) {
+        var crc = new CRC32();
+        int replayed = 0;
+        try (var checked = new CheckedInputStream(new BufferedInputStream(
+                Files.newInputStream(journal), IO_BUFFER_BYTES), crc);
+             var in = new DataInputStream(checked)) {
+            if (in.readInt() != JOURNAL_FORMAT_VERSION || in.readLong() != baseGeneration) {
+                LSSLogger.info("Ignoring timestamp journal " + journal + " — it extends a different base");
+                return -1;
+            }
+            while (true) {
+                crc.reset();
+                int records;
+                try {
+                    records = in.readInt();
+                } catch (EOFException e) {
+                    return replayed; // clean end: every batch was whole
                 }
-                var tiles = caches.computeIfAbsent(dimension, k -> new Long2ObjectOpenHashMap<>());
-                for (int t = 0; t < tileCount; t++) {
-                    long regionKey = in.readLong();
+                if (records < 1) throw new IOException("invalid batch record count " + records);
+                // Staged per batch: a batch applies whole or not at all.
+                record Entry(String dimension, long region, Tile tile) {}
+                var batch = new ArrayList<Entry>(Math.min(records, 4096));
+                for (int r = 0; r < records; r++) {
+                    String dimension = in.readUTF();
+                    long region = in.readLong();
                     int liveCount = in.readInt();
-                    if (liveCount < 1 || liveCount > 1024) {
-                        LSSLogger.warn("Timestamp cache " + file + " has invalid tile liveCount "
-                                + liveCount + ", discarding rest");
-                        return;
+                    Tile tile = null;
+                    if (liveCount != 0) {
+                        tile = readTile(in, journal, liveCount, now);
+                        if (tile == null) return -1;
                     }
-                    Tile tile = new Tile();
-                    int nonzero = 0;
-                    for (int s = 0; s < 1024; s++) {
-                        tile.slots[s] = in.readInt();
-                        if (tile.slots[s] != 0) nonzero++;
-                    }
-                    if (nonzero != liveCount) {
-                        LSSLogger.warn("Timestamp cache " + file + " tile liveCount " + liveCount
-                                + " disagrees with " + nonzero + " nonzero slots, discarding rest");
-                        return;
+                    batch.add(new Entry(dimension, region, tile));
+                }
+                long expected = crc.getValue();
+                if (in.readLong() != expected) {
+                    LSSLogger.warn("Timestamp journal " + journal + " has a corrupt batch, discarding rest");
+                    return -1;
+                }
+                for (var e : batch) {
+                    var tiles = staged.computeIfAbsent(e.dimension(), k -> new Long2ObjectOpenHashMap<>());
+                    if (e.tile() == null) {
+                        tiles.remove(e.region());
+                    } else {
+                        tiles.put(e.region(), e.tile());
                     }
-                    tile.liveCount = liveCount;
-                    tile.lastTouchEpochSeconds = now;
-                    // Additive merge at SLOT granularity (the documented load contract:
-                    // loaded entries add/overwrite, in-memory-only entries survive) — a
-                    // whole-tile put would silently delete live stamps sharing a region
-                    // with any file tile.
-                    Tile previous = tiles.get(regionKey);
-                    if (previous != null) {
-                        for (int s = 0; s < 1024; s++) {
-                            if (tile.slots[s] == 0 && previous.slots[s] != 0) {
-                                tile.slots[s] = previous.slots[s];
-                                tile.liveCount++;
-                            }
+                }
+                replayed += records;
+            }
+        } catch (EOFException e) {
+            // A batch cut short by a crash mid-append: everything before it stands.
+            LSSLogger.info("Timestamp journal " + journal + " ends in a torn batch, keeping "
+                    + replayed + " replayed tile(s)");
+            return -1;
+        } catch (IOException e) {
+            LSSLogger.warn("Failed to replay timestamp journal " + journal, e);
+            return -1;
+        }
+    }
+
+    /** Merges staged file tiles into the live maps at SLOT granularity. */
+    private void mergeLoaded(Map<String, Long2ObjectOpenHashMap<Tile>> staged) {
+        for (var entry : staged.entrySet()) {
+            String dimension = entry.getKey();
+            if (entry.getValue().isEmpty()) continue;
+            var tiles = caches.computeIfAbsent(dimension, k -> new Long2ObjectOpenHashMap<>());
+            for (var e : entry.getValue().long2ObjectEntrySet()) {
+                long regionKey = e.getLongKey();
+                Tile tile = e.getValue();
+                // Additive merge at SLOT granularity (the documented load contract:
+                // loaded entries add/overwrite, in-memory-only entries survive) — a
+                // whole-tile put would silently delete live stamps sharing a region
+                // with any file tile.
+                Tile previous = tiles.get(regionKey);
+                if (previous != null) {
+                    for (int s = 0; s < 1024; s++) {
+                        if (tile.slots[s] == 0 && previous.slots[s] != 0) {
+                            tile.slots[s] = previous.slots[s];
+                            tile.liveCount++;
                         }
                     }
-                    tiles.put(regionKey, tile);
-                    // Mirror bump PER TILE, inside the loop: a mid-tile EOF throws to the
-                    // outer catch, and a batched end-of-dimension bump would leave every
-                    // already-inserted tile invisible to liveSizes — the next invalidation
-                    // then drives the exporter's per-dimension gauge negative for the rest
-                    // of the session.
-                    int delta = tile.liveCount - (previous == null ? 0 : previous.liveCount);
-                    if (delta != 0) bumpLiveSize(dimension, delta);
-                    totalLoaded += liveCount;
                 }
+                tiles.put(regionKey, tile);
+                int delta = tile.liveCount - (previous == null ? 0 : previous.liveCount);
+                if (delta != 0) bumpLiveSize(dimension, delta);
             }
-            LSSLogger.info("Loaded " + totalLoaded + " timestamp cache entries from " + file);
-        } catch (IOException e) {
-            LSSLogger.warn("Failed to load timestamp cache from " + file, e);
         }
     }
 
@@ -609,25 +909,124 @@ public class ColumnTimestampCache {
 
     /**
      * Creates a defensive copy of the timestamp data for async saving — per-tile
-     * {@code int[].clone()}, ~13x cheaper than the old per-entry map copy (the
-     * transient save-time memory spike shrinks by the same factor). Should only be
-     * used for {@link #save}.
+     * {@code int[].clone()}. Should only be used for {@link #save}. On a persistent
+     * (loaded) cache this is INCREMENTAL: only tiles dirtied since the previous snapshot
+     * are copied, plus tombstones for dirty tiles that no longer exist, and the snapshot's
+     * save appends them to the journal. A full copy (a base rewrite) is taken instead when
+     * no extendable base is known (first save, v1/v2 or damaged files), after a failed
+     * save, or when the journal has grown past the cache itself (compaction — amortized,
+     * each full write is paid for by at least as many appended tiles).
      */
     public ColumnTimestampCache snapshotForSave() {
+        return snapshotForSave(false);
+    }
+
+    /** {@link #snapshotForSave()}, forcing a full base rewrite when {@code compact} (the
+     *  shutdown save: the next boot then reads no journal at all). */
+    public ColumnTimestampCache snapshotForSave(boolean compact) {
         // Miss memo deliberately NOT copied (ttl 0): misses never persist across a save.
         var snapshot = new ColumnTimestampCache(this.maxBytesPerDimension, 0);
+        snapshot.persistFailed = this.persistFailed;
+        if (!persistent) {
+            copyTiles(snapshot, null);
+            return snapshot;
+        }
+        int dirtyCount = 0;
+        for (var dirty : dirtyRegions.values()) dirtyCount += dirty.size();
+        long liveTiles = 0;
+        for (var tiles : caches.values()) liveTiles += tiles.size();
+        boolean failed = persistFailed.getAndSet(false);
+        if (compact || fullSaveDue || failed
+                || journaledTiles + dirtyCount > Math.max(liveTiles, MIN_COMPACTION_TILES)) {
+            copyTiles(snapshot, null);
+            generation = newGeneration();
+            snapshot.saveGeneration = generation;
+            journaledTiles = 0;
+            // A never-touched cache's full save writes no base, so there is nothing yet
+            // for a journal to extend.
+            fullSaveDue = caches.isEmpty();
+        } else {
+            copyTiles(snapshot, dirtyRegions);
+            snapshot.journalDelta = true;
+            snapshot.saveGeneration = generation;
+            snapshot.removedRegions = new HashMap<>();
+            for (var entry : dirtyRegions.entrySet()) {
+                var tiles = caches.get(entry.getKey());
+                var it = entry.getValue().iterator();
+                while (it.hasNext()) {
+                    long region = it.nextLong();
+                    if (tiles == null || !tiles.containsKey(region)) {
+                        snapshot.removedRegions.computeIfAbsent(entry.getKey(),
+                                k -> new LongOpenHashSet()).add(region);
+                    }
+                }
+            }
+            journaledTiles += dirtyCount;
+        }
+        dirtyRegions.clear();
+        return snapshot;
+    }
+
+    /** Copies live tiles into {@code snapshot}: all of them, or only the listed regions. */
+    private void copyTiles(ColumnTimestampCache snapshot, Map<String, LongOpenHashSet> only) {
         for (var entry : caches.entrySet()) {
-            var tilesCopy = new Long2ObjectOpenHashMap<Tile>(entry.getValue().size());
+            LongOpenHashSet filter = null;
+            if (only != null) {
+                filter = only.get(entry.getKey());
+                if (filter == null) continue;
+            }
+            var tilesCopy = new Long2ObjectOpenHashMap<Tile>(
+                    filter != null ? filter.size() : entry.getValue().size());
             for (var e : entry.getValue().long2ObjectEntrySet()) {
-                Tile src = e.getValue();
-                Tile copy = new Tile();
-                System.arraycopy(src.slots, 0, copy.slots, 0, 1024);
-                copy.liveCount = src.liveCount;
-                copy.lastTouchEpochSeconds = src.lastTouchEpochSeconds;
-                tilesCopy.put(e.getLongKey(), copy);
+                if (filter != null && !filter.contains(e.getLongKey())) continue;
+                tilesCopy.put(e.getLongKey(), copyOf(e.getValue()));
             }
             snapshot.caches.put(entry.getKey(), tilesCopy);
         }
-        return snapshot;
+    }
+
+    private static Tile copyOf(Tile src) {
+        Tile copy = new Tile();
+        System.arraycopy(src.slots, 0, copy.slots, 0, 1024);
+        copy.liveCount = src.liveCount;
+        copy.lastTouchEpochSeconds = src.lastTouchEpochSeconds;
+        return copy;
+    }
+
+    /**
+     * Folds an older, not-yet-written snapshot into this newer one, for the save
+     * scheduler's latest-wins slot: dropping a superseded DELTA would lose its tiles from
+     * the journal for good. A full snapshot already holds everything older, so it
+     * absorbs nothing. A delta absorbs the older snapshot's tiles and tombstones wherever
+     * it has no newer word of its own; absorbing a full snapshot turns it into a full one
+     * under that snapshot's generation. Only this (unpublished) snapshot is mutated — the
+     * older one may be in a concurrent drain, and its tile copies are shared read-only.
+     */
+    public void absorbOlder(ColumnTimestampCache older) {
+        if (!journalDelta) return;
+        for (var entry : older.caches.entrySet()) {
+            var mine = caches.computeIfAbsent(entry.getKey(), k -> new Long2ObjectOpenHashMap<>());
+            var removed = removedRegions.get(entry.getKey());
+            for (var e : entry.getValue().long2ObjectEntrySet()) {
+                if (mine.containsKey(e.getLongKey())) continue;
+                if (removed != null && removed.contains(e.getLongKey())) continue;
+                mine.put(e.getLongKey(), e.getValue());
+            }
+        }
+        if (!older.journalDelta) {
+            journalDelta = false;
+            saveGeneration = older.saveGeneration;
+            removedRegions = null;
+            return;
+        }
+        for (var entry : older.removedRegions.entrySet()) {
+            var mine = caches.get(entry.getKey());
+            var it = entry.getValue().iterator();
+            while (it.hasNext()) {
+                long region = it.nextLong();
+                if (mine != null && mine.containsKey(region)) continue;
+                removedRegions.computeIfAbsent(entry.getKey(), k -> new LongOpenHashSet()).add(region);
+            }
+        }
     }
 }
@@ -0,0 +1,131 @@
+package dev.vox.lss.common.wire;
+
+import dev.vox.lss.common.LSSConstants;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The packed-column wire codec ({@link LSSConstants#CHANNEL_COLUMN_PACK}): several columns
+ * of one dimension compressed as ONE zstd frame over their concatenated v20 bodies, so the
+ * identity strings and terrain neighbours repeat back-reference across columns instead of
+ * being paid once per frame. Same family as {@code ColumnStampsWire}: raw byte[] bodies on
+ * both platforms, version byte, hostile-decode caps before any allocation. The frame is
+ * opaque here — compressing and decompressing are the callers' (the codec lives with the
+ * platform's zstd holder).
+ *
+ * <pre>
+ * pack := version:u8=1 dimension:utf codec:u8(1|2)
+ *         count:varint(2..COLUMN_PACK_MAX_COLUMNS)
+ *         count x { chunkX:i32 chunkZ:i32 timestamp:i64 source:i8 rawLength:varint }
+ *         frame:bytes (the rest)   decompresses to the members' bodies, in order
+ * </pre>
+ *
+ * <p>Every member is a whole full-resolution column — tier and delta bodies never pack —
+ * so a member decodes exactly as a single column frame with the same fields would.
+ */
+public final class ColumnPackWire {
+
+    public static final int VERSION = 1;
+    /** Fewest members a pack carries: a lone column ships as its own frame. */
+    public static final int MIN_PACK_COLUMNS = 2;
+
+    /** One member's header: its body is {@code rawLength} bytes of the decompressed frame,
+     *  following the earlier members'. */
+    public record Member(int chunkX, int chunkZ, long timestamp, byte source, int rawLength) {}
+
+    /** Decoded frame. {@code totalRawLength} is the members' summed body size — the exact
+     *  size the frame must decompress to. */
+    public record Pack(String dimension, byte codec, Member[] members, long totalRawLength,
+                       byte[] frame) {}
+
+    private ColumnPackWire() {}
+
+    /** Encode one pack. Caller guarantees a valid member count, lengths in
+     *  {@code [1, MAX_SECTIONS_SIZE]} and a compressed codec; each is still re-checked
+     *  here so a producer bug fails loudly at build, not at the client. */
+    public static byte[] encode(String dimension, byte codec, Member[] members, byte[] frame) {
+        if (members.length < MIN_PACK_COLUMNS
+                || members.length > LSSConstants.COLUMN_PACK_MAX_COLUMNS) {
+            throw new WireFormatException("pack count " + members.length + " outside ["
+                    + MIN_PACK_COLUMNS + ", " + LSSConstants.COLUMN_PACK_MAX_COLUMNS + "]");
+        }
+        if (dimension == null || dimension.isEmpty()
+                || dimension.getBytes(StandardCharsets.UTF_8).length
+                        > LSSConstants.MAX_DIMENSION_STRING_LENGTH) {
+            throw new WireFormatException("pack dimension null/empty or over "
+                    + LSSConstants.MAX_DIMENSION_STRING_LENGTH + " UTF bytes");
+        }
+        checkCodec(codec);
+        if (frame == null || frame.length == 0) throw new WireFormatException("empty pack frame");
+        var w = new WireBytes.Writer(frame.length + 16 + members.length * 22);
+        w.writeByte(VERSION);
+        w.writeUtf(dimension);
+        w.writeByte(codec);
+        w.writeVarInt(members.length);
+        long total = 0;
+        for (var m : members) {
+            checkLength(m.rawLength());
+            total += m.rawLength();
+            w.writeInt(m.chunkX());
+            w.writeInt(m.chunkZ());
+            w.writeLong(m.timestamp());
+            w.writeByte(m.source());
+            w.writeVarInt(m.rawLength());
+        }
+        checkTotal(total);
+        w.writeBytes(frame);
+        return w.toByteArray();
+    }
+
+    /** Decode + validate the header; the frame itself is left compressed. */
+    public static Pack decode(byte[] body) {
+        var r = new WireBytes.Reader(body);
+        int v = r.readUnsignedByte();
+        if (v != VERSION) throw new WireFormatException("pack version " + v + " != " + VERSION);
+        String dimension = r.readUtf(LSSConstants.MAX_DIMENSION_STRING_LENGTH);
+        if (dimension.isEmpty()) throw new WireFormatException("empty pack dimension");
+        byte codec = (byte) r.readByte();
+        checkCodec(codec);
+        int count = r.readVarInt();
+        if (count < MIN_PACK_COLUMNS || count > LSSConstants.COLUMN_PACK_MAX_COLUMNS) {
+            throw new WireFormatException("pack count " + count + " outside ["
+                    + MIN_PACK_COLUMNS + ", " + LSSConstants.COLUMN_PACK_MAX_COLUMNS + "]");
+        }
+        var members = new Member[count];
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            int cx = r.readInt();
+            int cz = r.readInt();
+            long timestamp = r.readLong();
+            byte source = (byte) r.readByte();
+            int rawLength = r.readVarInt();
+            checkLength(rawLength);
+            total += rawLength;
+            members[i] = new Member(cx, cz, timestamp, source, rawLength);
+        }
+        checkTotal(total);
+        if (r.remaining() == 0) throw new WireFormatException("empty pack frame");
+        return new Pack(dimension, codec, members, total, r.readBytes(r.remaining()));
+    }
+
+    private static void checkCodec(byte codec) {
+        if (codec != LSSConstants.COLUMN_CODEC_ZSTD && codec != LSSConstants.COLUMN_CODEC_ZSTD_DICT) {
+            throw new WireFormatException("pack codec " + codec + " is not a zstd codec");
+        }
+    }
+
+    private static void checkLength(int rawLength) {
+        if (rawLength < 1 || rawLength > LSSConstants.MAX_SECTIONS_SIZE) {
+            throw new WireFormatException("pack member length " + rawLength + " outside [1, "
+                    + LSSConstants.MAX_SECTIONS_SIZE + "]");
+        }
+    }
+
+    /** The decompression-bomb bound: the whole pack decompresses in one allocation. */
+    private static void checkTotal(long total) {
+        if (total > LSSConstants.MAX_SECTIONS_SIZE) {
+            throw new WireFormatException("pack members total " + total + " bytes, over "
+                    + LSSConstants.MAX_SECTIONS_SIZE);
+        }
+    }
+}
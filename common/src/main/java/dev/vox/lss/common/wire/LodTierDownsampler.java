@@ -0,0 +1,269 @@
+package dev.vox.lss.common.wire;
+
+import dev.vox.lss.common.wire.WireSectionCursor.Layout;
+import dev.vox.lss.common.wire.WireSectionCursor.WireColumn;
+import dev.vox.lss.common.wire.WireSectionCursor.WireContainer;
+import dev.vox.lss.common.wire.WireSectionCursor.WireSection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Byte-domain v20 → coarse-tier v20 downsampling for the far LOD disc. Tier
+ * {@code t} (1..{@link dev.vox.lss.common.LSSConstants#LOD_TIER_MAX}) collapses every
+ * {@code f³} cell ({@code f = 2^t}) of each section to one representative block and
+ * writes it back over the whole cell, so the output is an ordinary full-shape v20
+ * body — every consumer ingests it unchanged, and the bytes shrink where it matters:
+ * palettes lose the rare states (narrower widths, often a single-value container) and
+ * the cell-replicated longs compress far better.
+ * Rules:
+ * <ul>
+ * <li>Representative: the most frequent NON-AIR identity in the cell when non-air
+ *     fills at least half of it, else the cell's most frequent air identity
+ *     (surfaces keep their silhouette; thin features fade, as at any far mip).
+ *     Ties break on the lowest palette slot — deterministic.</li>
+ * <li>Light: per-cell maximum nibble (a coarse cell never renders darker than its
+ *     brightest voxel). Biomes pass through verbatim — already 4³-coarse.</li>
+ * <li>Widths recomputed on the compacted palette with the v20 emitter rule
+ *     ({@code n==1 -> 0, else clamp(ceillog2(n), 4, 12)}); {@code nonEmptyBlockCount}
+ *     recounted, {@code fluidCount} recounted from fluid-bearing identities.</li>
+ * <li>The dictionary is rebuilt first-seen over the output walk (blocks then biomes per
+ *     section) so unreferenced identities drop out; a clear column stays the
+ *     empty-dictionary clear frame.</li>
+ * </ul>
+ * Pure and MC-free (the air/fluid sets are canonical identity strings), so the
+ * processing thread runs it and the unit tests pin it without a registry.
+ */
+public final class LodTierDownsampler {
+    private LodTierDownsampler() {}
+
+    private static final int SIDE = 16;
+
+    /**
+     * Downsamples a v20 section-array body to {@code tier}. Tier 0 returns the input
+     * array itself (full resolution — callers need not special-case it).
+     *
+     * @throws IllegalArgumentException on a tier outside {@code [0, LOD_TIER_MAX]}
+     * @throws WireFormatException on malformed input
+     */
+    public static byte[] downsample(byte[] v20Body, int tier) {
+        if (tier < 0 || tier > dev.vox.lss.common.LSSConstants.LOD_TIER_MAX) {
+            throw new IllegalArgumentException("LOD tier " + tier);
+        }
+        if (tier == 0) {
+            return v20Body;
+        }
+        var column = WireSectionCursor.parse(v20Body, Layout.V20);
+        if (column.sections().isEmpty()) {
+            return v20Body; // the clear frame has nothing to coarsen
+        }
+        List<String> srcDict = column.dictionary();
+        boolean[] air = new boolean[srcDict.size()];
+        boolean[] fluid = new boolean[srcDict.size()];
+        for (int i = 0; i < air.length; i++) {
+            air[i] = isAir(srcDict.get(i));
+            fluid[i] = isFluidBearing(srcDict.get(i));
+        }
+        int f = 1 << tier;
+        var dict = new IdentityDictionary();
+        var sections = new ArrayList<WireSection>(column.sections().size());
+        for (var s : column.sections()) {
+            sections.add(downsampleSection(s, f, srcDict, air, fluid, dict));
+        }
+        return WireSectionCursor.emit(new WireColumn(dict.entries(), sections), Layout.V20);
+    }
+
+    private static WireSection downsampleSection(WireSection s, int f, List<String> srcDict,
+                                                 boolean[] air, boolean[] fluid,
+                                                 IdentityDictionary dict) {
+        var blocks = s.blocks();
+        // Resolve every voxel to a SOURCE dictionary index (palette-decoded).
+        int[] voxels;
+        if (blocks.bits() == 0) {
+            voxels = null; // single-value: every cell's representative is that value
+        } else {
+            int[] slots = WireSectionCursor.unpack(blocks.data(), blocks.bits(),
+                    WireSectionCursor.BLOCK_ENTRIES);
+            voxels = new int[slots.length];
+            int[] palette = blocks.palette();
+            for (int i = 0; i < slots.length; i++) {
+                if (slots[i] >= palette.length) {
+                    throw new WireFormatException("block palette slot " + slots[i]
+                            + " beyond palette of " + palette.length);
+                }
+                voxels[i] = palette[slots[i]];
+            }
+        }
+
+        int[] out;
+        if (voxels == null) {
+            out = null;
+        } else {
+            out = new int[WireSectionCursor.BLOCK_ENTRIES];
+            int[] counts = new int[srcDict.size()];
+            int[] seen = new int[f * f * f];
+            for (int y0 = 0; y0 < SIDE; y0 += f) {
+                for (int z0 = 0; z0 < SIDE; z0 += f) {
+                    for (int x0 = 0; x0 < SIDE; x0 += f) {
+                        int rep = cellRepresentative(voxels, x0, y0, z0, f, air, counts, seen);
+                        fillCell(out, x0, y0, z0, f, rep);
+                    }
+                }
+            }
+        }
+
+        // Compact the palette over the output, first-seen (the emitter rule).
+        WireContainer newBlocks;
+        int nonEmpty;
+        int fluidCount;
+        if (out == null) {
+            int v = blocks.palette()[0];
+            newBlocks = new WireContainer(0, new int[] { dict.indexOf(srcDict.get(v)) }, new long[0]);
+            nonEmpty = air[v] ? 0 : WireSectionCursor.BLOCK_ENTRIES;
+            fluidCount = fluid[v] ? WireSectionCursor.BLOCK_ENTRIES : 0;
+        } else {
+            int[] slotOf = new int[srcDict.size()];
+            Arrays.fill(slotOf, -1);
+            int[] slotValues = new int[WireSectionCursor.BLOCK_ENTRIES];
+            int n = 0;
+            nonEmpty = 0;
+            fluidCount = 0;
+            for (int i = 0; i < out.length; i++) {
+                int v = out[i];
+                if (!air[v]) nonEmpty++;
+                if (fluid[v]) fluidCount++;
+                int slot = slotOf[v];
+                if (slot < 0) {
+                    slot = n;
+                    slotOf[v] = slot;
+                    slotValues[n++] = v;
+                }
+                out[i] = slot;
+            }
+            int[] palette = new int[n];
+            for (int i = 0; i < n; i++) {
+                palette[i] = dict.indexOf(srcDict.get(slotValues[i]));
+            }
+            int bits = blockBits(n);
+            newBlocks = bits == 0
+                    ? new WireContainer(0, palette, new long[0])
+                    : new WireContainer(bits, palette, WireSectionCursor.pack(out, bits));
+        }
+
+        // Biomes verbatim, re-indexed into the rebuilt dictionary (after blocks — the
+        // first-seen walk order the emitters use).
+        var biomes = s.biomes();
+        int[] biomePalette = new int[biomes.palette().length];
+        for (int i = 0; i < biomePalette.length; i++) {
+            int v = biomes.palette()[i];
+            if (v < 0 || v >= srcDict.size()) {
+                throw new WireFormatException("biome index " + v + " beyond dictionary of "
+                        + srcDict.size());
+            }
+            biomePalette[i] = dict.indexOf(srcDict.get(v));
+        }
+        var newBiomes = new WireContainer(biomes.bits(), biomePalette, biomes.data());
+
+        return new WireSection(s.sectionY(), nonEmpty, Math.min(fluidCount, nonEmpty),
+                newBlocks, newBiomes,
+                maxLight(s.blockLight(), f), maxLight(s.skyLight(), f));
+    }
+
+    /** The cell's representative (see the class rules). {@code counts} is all-zero on
+     *  entry and restored to all-zero on exit; {@code seen} is scratch. */
+    private static int cellRepresentative(int[] voxels, int x0, int y0, int z0, int f,
+                                          boolean[] air, int[] counts, int[] seen) {
+        int distinct = 0;
+        int solid = 0;
+        for (int y = y0; y < y0 + f; y++) {
+            for (int z = z0; z < z0 + f; z++) {
+                int row = (y * SIDE + z) * SIDE;
+                for (int x = x0; x < x0 + f; x++) {
+                    int v = voxels[row + x];
+                    if (counts[v]++ == 0) seen[distinct++] = v;
+                    if (!air[v]) solid++;
+                }
+            }
+        }
+        boolean wantSolid = solid * 2 >= f * f * f;
+        int best = -1;
+        int bestCount = 0;
+        for (int i = 0; i < distinct; i++) {
+            int v = seen[i];
+            int c = counts[v];
+            counts[v] = 0;
+            if (air[v] == wantSolid) continue;
+            if (c > bestCount || (c == bestCount && v < best)) {
+                best = v;
+                bestCount = c;
+            }
+        }
+        return best;
+    }
+
+    private static void fillCell(int[] out, int x0, int y0, int z0, int f, int v) {
+        for (int y = y0; y < y0 + f; y++) {
+            for (int z = z0; z < z0 + f; z++) {
+                int row = (y * SIDE + z) * SIDE;
+                Arrays.fill(out, row + x0, row + x0 + f, v);
+            }
+        }
+    }
+
+    /** Per-cell max nibble, replicated over the cell (vanilla DataLayer nibble order:
+     *  even index = low nibble). Null (absent layer) passes through. */
+    private static byte[] maxLight(byte[] light, int f) {
+        if (light == null) return null;
+        byte[] out = new byte[light.length];
+        for (int y0 = 0; y0 < SIDE; y0 += f) {
+            for (int z0 = 0; z0 < SIDE; z0 += f) {
+                for (int x0 = 0; x0 < SIDE; x0 += f) {
+                    int max = 0;
+                    for (int y = y0; y < y0 + f && max < 15; y++) {
+                        for (int z = z0; z < z0 + f; z++) {
+                            int row = (y * SIDE + z) * SIDE;
+                            for (int x = x0; x < x0 + f; x++) {
+                                int idx = row + x;
+                                int nibble = (light[idx >> 1] >> ((idx & 1) << 2)) & 0xF;
+                                if (nibble > max) max = nibble;
+                            }
+                        }
+                    }
+                    for (int y = y0; y < y0 + f; y++) {
+                        for (int z = z0; z < z0 + f; z++) {
+                            int row = (y * SIDE + z) * SIDE;
+                            for (int x = x0; x < x0 + f; x++) {
+                                int idx = row + x;
+                                out[idx >> 1] |= (byte) (max << ((idx & 1) << 2));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return out;
+    }
+
+    /** The v20 block-width rule: {@code n==1 -> 0, else clamp(ceillog2(n), 4, 12)}. */
+    private static int blockBits(int n) {
+        if (n <= 1) return 0;
+        int bits = 32 - Integer.numberOfLeadingZeros(n - 1);
+        return Math.max(WireSectionCursor.BLOCK_MIN_INDEXED_BITS, bits);
+    }
+
+    static boolean isAir(String identity) {
+        return identity.equals("minecraft:air")
+                || identity.equals("minecraft:cave_air")
+                || identity.equals("minecraft:void_air");
+    }
+
+    static boolean isFluidBearing(String identity) {
+        int bracket = identity.indexOf('[');
+        String name = bracket < 0 ? identity : identity.substring(0, bracket);
+        return name.equals("minecraft:water")
+                || name.equals("minecraft:lava")
+                || name.equals("minecraft:bubble_column")
+                || identity.contains("waterlogged=true");
+    }
+}
@@ -0,0 +1,254 @@
+package dev.vox.lss.common.wire;
+
+import dev.vox.lss.common.wire.WireSectionCursor.Layout;
+import dev.vox.lss.common.wire.WireSectionCursor.WireColumn;
+import dev.vox.lss.common.wire.WireSectionCursor.WireContainer;
+import dev.vox.lss.common.wire.WireSectionCursor.WireSection;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Section-level delta re-serves: per-section content digests of a v20 body, and the
+ * "changed sections + keep the rest" body built from two digests of the same column.
+ *
+ * <p><b>Digest.</b> One 64-bit hash per section over its RESOLVED content — every
+ * voxel's and biome cell's canonical identity, both light layers, the two counts, the
+ * section Y — so it is independent of palette order, container width, and dictionary
+ * numbering: two serializers (probe vs NBT) emitting the same content agree. Not a
+ * security hash; a collision keeps one stale section until the next edit re-digests it.
+ *
+ * <p><b>Delta.</b> Built only when the topmost section Y is unchanged, so the client's
+ * implicit-sky fill from the base serve is still exact. Sections whose digest differs
+ * (or that are new) ship in an ordinary v20 body with a rebuilt dictionary; the
+ * {@link Keep} map says which held section Ys stay as they are. A Y inside the keep span
+ * that is neither kept nor shipped became all-air on the server and is air-filled —
+ * exactly what a full resync serve would do for it.
+ */
+public final class SectionDelta {
+    private SectionDelta() {}
+
+    /** Section Ys (body order) and their content hashes. Arrays are not copied. */
+    public record Digest(int[] sectionYs, long[] hashes) {
+        public boolean isEmpty() {
+            return this.sectionYs.length == 0;
+        }
+
+        /** The topmost section Y; only meaningful when not {@link #isEmpty()}. */
+        public int top() {
+            int top = Integer.MIN_VALUE;
+            for (int y : this.sectionYs) top = Math.max(top, y);
+            return top;
+        }
+
+        int indexOf(int sectionY) {
+            for (int i = 0; i < this.sectionYs.length; i++) {
+                if (this.sectionYs[i] == sectionY) return i;
+            }
+            return -1;
+        }
+
+        /** Same section Ys and hashes, in the same order. */
+        public boolean sameContent(Digest other) {
+            return java.util.Arrays.equals(this.sectionYs, other.sectionYs)
+                    && java.util.Arrays.equals(this.hashes, other.hashes);
+        }
+    }
+
+    /**
+     * The "keep the rest" map: bit {@code i} set = the client keeps its held section at
+     * {@code minSectionY + i}. Span covers every Y of the base and the current column
+     * up to the (shared) top, so {@code span <= 256} (section Y is a wire byte).
+     */
+    public record Keep(int minSectionY, int span, byte[] bits) {
+        /** Encoded size bound (1 + VarInt span + 32 bitmap bytes). */
+        public static final int MAX_ENCODED_BYTES = 1 + WireBytes.MAX_VARINT_BYTES + 32;
+
+        public boolean kept(int sectionY) {
+            int i = sectionY - this.minSectionY;
+            return i >= 0 && i < this.span && (this.bits[i >> 3] & (1 << (i & 7))) != 0;
+        }
+
+        public boolean covers(int sectionY) {
+            int i = sectionY - this.minSectionY;
+            return i >= 0 && i < this.span;
+        }
+
+        public int keptCount() {
+            int n = 0;
+            for (byte b : this.bits) n += Integer.bitCount(b & 0xFF);
+            return n;
+        }
+
+        /** {@code byte minSectionY; VarInt span; ceil(span/8) bitmap bytes}. */
+        public byte[] encode() {
+            var out = new WireBytes.Writer(MAX_ENCODED_BYTES);
+            out.writeByte(this.minSectionY);
+            out.writeVarInt(this.span);
+            out.writeBytes(this.bits);
+            return out.toByteArray();
+        }
+
+        /** @throws WireFormatException on a malformed or over-long map */
+        public static Keep decode(byte[] encoded) {
+            var in = new WireBytes.Reader(encoded);
+            int minY = in.readByte();
+            int span = in.readVarIntCount("keepSpan");
+            if (span > 256) {
+                throw new WireFormatException("keep span " + span + " exceeds 256");
+            }
+            byte[] bits = in.readBytes((span + 7) >> 3);
+            if (in.remaining() != 0) {
+                throw new WireFormatException(in.remaining() + " trailing bytes after keep map");
+            }
+            return new Keep(minY, span, bits);
+        }
+    }
+
+    /** A built delta: the changed-sections v20 body plus its keep map. */
+    public record Delta(byte[] body, Keep keep) {}
+
+    /** Digests a v20 section-array body. @throws WireFormatException on malformed input */
+    public static Digest digest(byte[] v20Body) {
+        return digest(WireSectionCursor.parse(v20Body, Layout.V20));
+    }
+
+    static Digest digest(WireColumn column) {
+        List<String> dict = column.dictionary();
+        long[] identityHashes = new long[dict.size()];
+        for (int i = 0; i < identityHashes.length; i++) {
+            identityHashes[i] = identityHash(dict.get(i));
+        }
+        var sections = column.sections();
+        int[] ys = new int[sections.size()];
+        long[] hashes = new long[sections.size()];
+        for (int i = 0; i < ys.length; i++) {
+            var s = sections.get(i);
+            ys[i] = s.sectionY();
+            hashes[i] = sectionHash(s, identityHashes);
+        }
+        return new Digest(ys, hashes);
+    }
+
+    /**
+     * The delta that turns a client holding {@code base} into one holding the column
+     * {@code v20Body} (whose digest is {@code current}), or null when a full serve is
+     * required or no smaller: either side empty (clears and first data are full serves),
+     * the top section Y moved, or every current section changed.
+     */
+    public static Delta between(byte[] v20Body, Digest current, Digest base) {
+        if (current.isEmpty() || base.isEmpty() || current.top() != base.top()) return null;
+        int n = current.sectionYs().length;
+        boolean[] ship = new boolean[n];
+        int shipped = 0;
+        for (int i = 0; i < n; i++) {
+            int b = base.indexOf(current.sectionYs()[i]);
+            if (b < 0 || base.hashes()[b] != current.hashes()[i]) {
+                ship[i] = true;
+                shipped++;
+            }
+        }
+        if (shipped == n) return null;
+
+        int top = current.top();
+        int minY = top;
+        for (int y : current.sectionYs()) minY = Math.min(minY, y);
+        for (int y : base.sectionYs()) minY = Math.min(minY, y);
+        int span = top - minY + 1;
+        byte[] bits = new byte[(span + 7) >> 3];
+        for (int i = 0; i < n; i++) {
+            if (!ship[i]) {
+                int bit = current.sectionYs()[i] - minY;
+                bits[bit >> 3] |= (byte) (1 << (bit & 7));
+            }
+        }
+        var keep = new Keep(minY, span, bits);
+        if (shipped == 0) {
+            return new Delta(WireSectionCursor.emit(new WireColumn(List.of(), List.of()),
+                    Layout.V20), keep);
+        }
+
+        // Subset body: the shipped sections, palettes re-indexed into a rebuilt
+        // first-seen dictionary (blocks then biomes per section — the emitter walk).
+        var column = WireSectionCursor.parse(v20Body, Layout.V20);
+        List<String> srcDict = column.dictionary();
+        var dict = new IdentityDictionary();
+        var out = new ArrayList<WireSection>(shipped);
+        for (int i = 0; i < n; i++) {
+            if (!ship[i]) continue;
+            var s = column.sections().get(i);
+            out.add(new WireSection(s.sectionY(), s.nonEmptyBlockCount(), s.fluidCount(),
+                    reindex(s.blocks(), srcDict, dict), reindex(s.biomes(), srcDict, dict),
+                    s.blockLight(), s.skyLight()));
+        }
+        return new Delta(WireSectionCursor.emit(new WireColumn(dict.entries(), out),
+                Layout.V20), keep);
+    }
+
+    private static WireContainer reindex(WireContainer c, List<String> srcDict,
+                                         IdentityDictionary dict) {
+        int[] palette = new int[c.palette().length];
+        for (int i = 0; i < palette.length; i++) {
+            palette[i] = dict.indexOf(srcDict.get(c.palette()[i]));
+        }
+        return new WireContainer(c.bits(), palette, c.data());
+    }
+
+    // ---- hashing ----------------------------------------------------------------
+
+    private static final long SEED = 0x243F6A8885A308D3L;
+
+    private static long mix(long h, long v) {
+        h ^= v * 0x9E3779B97F4A7C15L;
+        return Long.rotateLeft(h, 27) * 0xC2B2AE3D27D4EB4FL + 0x165667B19E3779F9L;
+    }
+
+    /** FNV-1a 64 over the identity's UTF-8 bytes, finalized through {@link #mix}. */
+    static long identityHash(String identity) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : identity.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xFF);
+            h *= 0x100000001b3L;
+        }
+        return mix(SEED, h);
+    }
+
+    private static long sectionHash(WireSection s, long[] identityHashes) {
+        long h = mix(SEED, s.sectionY());
+        h = mix(h, ((long) s.nonEmptyBlockCount() << 16) | (s.fluidCount() & 0xFFFF));
+        h = containerHash(h, s.blocks(), WireSectionCursor.BLOCK_ENTRIES, identityHashes);
+        h = containerHash(h, s.biomes(), WireSectionCursor.BIOME_ENTRIES, identityHashes);
+        h = lightHash(h, s.blockLight());
+        return lightHash(h, s.skyLight());
+    }
+
+    private static long containerHash(long h, WireContainer c, int entries,
+                                      long[] identityHashes) {
+        int[] palette = c.palette();
+        if (c.bits() == 0) {
+            long v = identityHashes[palette[0]];
+            for (int i = 0; i < entries; i++) h = mix(h, v);
+            return h;
+        }
+        int[] slots = WireSectionCursor.unpack(c.data(), c.bits(), entries);
+        for (int slot : slots) {
+            if (slot >= palette.length) {
+                throw new WireFormatException("palette slot " + slot + " beyond palette of "
+                        + palette.length);
+            }
+            h = mix(h, identityHashes[palette[slot]]);
+        }
+        return h;
+    }
+
+    private static long lightHash(long h, byte[] light) {
+        if (light == null) return mix(h, 0x4E4F4C49L);
+        for (int i = 0; i < light.length; i += 8) {
+            long word = 0;
+            for (int j = 0; j < 8; j++) word = (word << 8) | (light[i + j] & 0xFF);
+            h = mix(h, word);
+        }
+        return h;
+    }
+}
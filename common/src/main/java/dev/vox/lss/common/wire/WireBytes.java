@@ -23,6 +23,8 @@ public final class WireBytes {
 
     /** Maximum encoded VarInt width (Minecraft rejects a 6th continuation byte). */
     public static final int MAX_VARINT_BYTES = 5;
+    /** Maximum encoded VarLong width. */
+    public static final int MAX_VARLONG_BYTES = 10;
 
     /** Encoded width of {@code value} as a Minecraft VarInt (1-5 bytes; negatives are 5). */
     public static int varIntSize(int value) {
@@ -119,6 +121,20 @@ public final class WireBytes {
             throw new WireFormatException("VarInt wider than " + MAX_VARINT_BYTES + " bytes");
         }
 
+        /** Minecraft VarLong: {@link #readVarInt}'s shape, at most 10 bytes. */
+        public long readVarLong() {
+            long value = 0;
+            for (int i = 0; i < MAX_VARLONG_BYTES; i++) {
+                need(1, "VarLong");
+                int b = buf[pos++] & 0xFF;
+                value |= (long) (b & 0x7F) << (7 * i);
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new WireFormatException("VarLong wider than " + MAX_VARLONG_BYTES + " bytes");
+        }
+
         /** A VarInt that must be non-negative (counts, lengths). */
         public int readVarIntCount(String what) {
             int v = readVarInt();
@@ -211,6 +227,16 @@ public final class WireBytes {
             return this;
         }
 
+        public Writer writeVarLong(long value) {
+            ensure(MAX_VARLONG_BYTES);
+            while ((value & ~0x7FL) != 0) {
+                buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buf[pos++] = (byte) value;
+            return this;
+        }
+
         public Writer writeBytes(byte[] src) {
             ensure(src.length);
             System.arraycopy(src, 0, buf, pos, src.length);
@@ -13,15 +13,18 @@ import dev.vox.lss.networking.server.RequestProcessingService;
 import net.fabricmc.fabric.api.gametest.v1.GameTest;
 import net.minecraft.core.BlockPos;
 import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ChunkResult;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.TicketStorage;
+import net.minecraft.world.level.chunk.ChunkAccess;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -77,6 +80,8 @@ public class GenerationLifecycleGameTests {
     private static final int SEED_SUPPRESS_CHUNK_OFFSET = 256;
     private static final int GEN_REASK_CHUNK_OFFSET = 264;
     private static final int SERIALIZER_FAULT_CHUNK_OFFSET = 280;
+    private static final int LOD_ONLY_CHUNK_OFFSET = 288;
+    private static final int LOD_ONLY_PULL_FAULT_CHUNK_OFFSET = 296;
 
     /** Deprecated upstream without a replacement; it is the only factory that places a real
      *  ServerPlayer (player list entry + embedded-channel connection) inside a gametest. */
@@ -930,4 +935,122 @@ public class GenerationLifecycleGameTests {
         }
         return false;
     }
+
+    /**
+     * {@code lodOnlyGeneration}: the sub-FULL ticket plus the pull must generate the chunk to
+     * LIGHT, serve it from the proto-chunk, and release the ticket — without the chunk ever
+     * becoming a FULL LevelChunk (the promotion the mode exists to skip).
+     */
+    @GameTest(structure = "fabric-gametest-api-v1:empty", maxTicks = 1200)
+    public void lodOnlyGenerationServesTheProtoChunkWithoutPromotingIt(GameTestHelper helper) {
+        ServerLevel level = helper.getLevel();
+        var origin = chunkAt(helper.absolutePos(BlockPos.ZERO));
+        int cx = origin.x() + LOD_ONLY_CHUNK_OFFSET;
+        int cz = origin.z() + 3;
+        var tickets = ticketStorage(level);
+        var config = new LSSServerConfig();
+        config.generationConcurrencyLimitGlobal = 3;
+        config.generationConcurrencyLimitPerPlayer = 2;
+        config.generationTimeoutSeconds = 60;
+        config.lodOnlyGeneration = true;
+        var gen = new ChunkGenerationService(config);
+        var player = UUID.randomUUID();
+
+        helper.assertTrue(gen.submitGeneration(player, level, cx, cz, 5L), "a fresh service accepts");
+        helper.assertTrue(lssTicketCount(tickets, cx, cz) == 1,
+                "the sub-FULL ticket is still one LSS load ticket");
+
+        var outcomes = new AtomicReference<List<TickSnapshot.GenerationReadyData>>();
+        helper.succeedWhen(() -> {
+            if (outcomes.get() == null) {
+                var ready = gen.tick();
+                helper.assertTrue(!ready.isEmpty(), "waiting for the pull to reach LIGHT");
+                outcomes.set(List.copyOf(ready));
+            }
+            var ready = outcomes.get();
+            helper.assertTrue(ready.size() == 1, "one outcome for the one callback, got " + ready.size());
+            helper.assertTrue(ready.get(0).columnData() != null
+                            && ready.get(0).columnData().serializedSections() != null,
+                    "the proto-chunk must serialize its superflat sections");
+            helper.assertTrue(gen.getTotalCompleted() == 1 && gen.getTotalRemovedInFlight() == 0,
+                    "a served pull books a completion");
+            helper.assertTrue(lssTicketCount(tickets, cx, cz) == 0,
+                    "completion must release the sub-FULL ticket (the radius must match the add)");
+            helper.assertTrue(level.getChunkSource().getChunkNow(cx, cz) == null,
+                    "LOD-only must never promote the chunk to FULL");
+            gen.shutdown();
+        });
+    }
+
+    /**
+     * {@code lodOnlyGeneration}: a pull that settles without a chunk — exceptionally, or with
+     * an empty {@link ChunkResult} — fails every callback TRANSIENTLY, books removedInFlight,
+     * and DEFERS the ticket release like the timeout path (a worldgen fault fails pulls in
+     * bursts); a re-ask before the drain reuses the still-held ticket. The injected pulls
+     * settle at submit, so no chunk ever generates.
+     */
+    @GameTest(structure = "fabric-gametest-api-v1:empty")
+    public void lodOnlyPullSettlingWithoutAChunkDefersTheTicketRelease(GameTestHelper helper) {
+        ServerLevel level = helper.getLevel();
+        var origin = chunkAt(helper.absolutePos(BlockPos.ZERO));
+        int cx = origin.x() + LOD_ONLY_PULL_FAULT_CHUNK_OFFSET;
+        int cz = origin.z() + 3;
+        var tickets = ticketStorage(level);
+        var config = new LSSServerConfig();
+        config.generationConcurrencyLimitGlobal = 3;
+        config.generationConcurrencyLimitPerPlayer = 2;
+        config.generationTimeoutSeconds = 60;
+        config.lodOnlyGeneration = true;
+        // cx settles exceptionally; cx + 1 settles with an empty ChunkResult.
+        var gen = new ChunkGenerationService(config,
+                (lvl, chunk, x, z) -> {
+                    throw new AssertionError("a failed pull must never reach the serializer");
+                },
+                (lvl, x, z, status) -> x == cx
+                        ? CompletableFuture.<ChunkResult<ChunkAccess>>failedFuture(
+                                new IllegalStateException("injected worldgen fault"))
+                        : CompletableFuture.completedFuture(ChunkResult.<ChunkAccess>error("injected empty result")));
+        var playerA = UUID.randomUUID();
+        var playerB = UUID.randomUUID();
+        try {
+            helper.assertTrue(gen.submitGeneration(playerA, level, cx, cz, 7L), "seed the exceptional entry");
+            helper.assertTrue(gen.submitGeneration(playerB, level, cx, cz, 8L), "piggyback it");
+            helper.assertTrue(gen.submitGeneration(playerA, level, cx + 1, cz, 9L), "seed the empty-result entry");
+            helper.assertTrue(lssTicketCount(tickets, cx, cz) == 1 && lssTicketCount(tickets, cx + 1, cz) == 1,
+                    "premise: both tickets held");
+
+            var failures = gen.tick();
+            helper.assertTrue(failures.size() == 3,
+                    "both settled pulls must fail every callback, got " + failures.size() + " outcomes");
+            for (var outcome : failures) {
+                helper.assertTrue(outcome.columnData() == null && outcome.transientFailure(),
+                        "a failed pull is TRANSIENT (the re-declaration retries), never NOT_GENERATED");
+            }
+            helper.assertTrue(gen.getTotalRemovedInFlight() == 2
+                            && gen.getTotalCompleted() == 0 && gen.getTotalTimeouts() == 0,
+                    "each failed entry books removedInFlight once, got " + gen.getDiagnostics());
+            helper.assertTrue(gen.getActiveCount() == 0, "both failed entries must leave the active set");
+            helper.assertTrue(lssTicketCount(tickets, cx, cz) == 1 && lssTicketCount(tickets, cx + 1, cz) == 1,
+                    "the failing tick must DEFER both releases, not remove inline — a burst of"
+                            + " failed pulls releasing inline is the C2ME 60s-freeze shape");
+
+            helper.assertTrue(gen.submitGeneration(playerA, level, cx, cz, 10L),
+                    "the failures freed the per-player counts");
+            helper.assertTrue(lssTicketCount(tickets, cx, cz) == 1,
+                    "a re-ask before the drain cancels the release and reuses the held ticket");
+            gen.tick(); // drains cx + 1's release; the re-ask fails again and defers cx's
+            helper.assertTrue(lssTicketCount(tickets, cx + 1, cz) == 0,
+                    "the deferred release must drain (or the failed pull's ticket leaks forever)");
+            helper.assertTrue(lssTicketCount(tickets, cx, cz) == 1,
+                    "the reused ticket is released exactly once, by the re-ask's own failure");
+            gen.tick();
+            helper.assertTrue(lssTicketCount(tickets, cx, cz) == 0, "the re-ask's release drains");
+            helper.assertTrue(gen.getTotalSubmitted() == gen.getTotalCompleted()
+                            + gen.getTotalTimeouts() + gen.getTotalRemovedInFlight() + gen.getActiveCount(),
+                    "soak law A4 identity must hold after the failed pulls");
+        } finally {
+            gen.shutdown();
+        }
+        helper.succeed();
+    }
 }
@@ -33,6 +33,10 @@ public class LSSNetworking {
                 dev.vox.lss.networking.payloads.RegionSummaryRequestC2SPayload.TYPE,
                 dev.vox.lss.networking.payloads.RegionSummaryRequestC2SPayload.CODEC
         );
+        PayloadTypeRegistry.serverboundPlay().register(
+                dev.vox.lss.networking.payloads.WantSetC2SPayload.TYPE,
+                dev.vox.lss.networking.payloads.WantSetC2SPayload.CODEC
+        );
 
         // Server -> Client
         PayloadTypeRegistry.clientboundPlay().register(
@@ -67,5 +71,9 @@ public class LSSNetworking {
                 dev.vox.lss.networking.payloads.ColumnStampsS2CPayload.TYPE,
                 dev.vox.lss.networking.payloads.ColumnStampsS2CPayload.CODEC
         );
+        PayloadTypeRegistry.clientboundPlay().register(
+                dev.vox.lss.networking.payloads.ColumnPackS2CPayload.TYPE,
+                dev.vox.lss.networking.payloads.ColumnPackS2CPayload.CODEC
+        );
     }
 }
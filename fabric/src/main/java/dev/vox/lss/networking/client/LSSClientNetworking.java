@@ -149,6 +149,11 @@ public class LSSClientNetworking {
                 VoxelColumnS2CPayload.TYPE,
                 (payload, context) -> ClientNetGlue.onVoxelColumnFrame(payload)
         );
+
+        ClientPlayNetworking.registerGlobalReceiver(
+                dev.vox.lss.networking.payloads.ColumnPackS2CPayload.TYPE,
+                (payload, context) -> ClientNetGlue.onColumnPackFrame(payload.body())
+        );
     }
 
     private static void registerConnectionLifecycle() {
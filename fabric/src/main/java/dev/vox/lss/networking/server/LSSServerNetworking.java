@@ -154,6 +154,16 @@ public class LSSServerNetworking {
                 }
         );
 
+        ServerPlayNetworking.registerGlobalReceiver(
+                dev.vox.lss.networking.payloads.WantSetC2SPayload.TYPE,
+                (payload, context) -> {
+                    var service = requestService;
+                    if (service != null) {
+                        service.handleWantSet(context.player(), payload.body());
+                    }
+                }
+        );
+
         ServerPlayNetworking.registerGlobalReceiver(
                 BatchChunkRequestC2SPayload.TYPE,
                 (payload, context) -> {
@@ -206,6 +216,8 @@ public class LSSServerNetworking {
                 // membership — dim changes reuse that path and must keep both).
                 service.getV16CompatManager().onDisconnect(handler.getPlayer().getUUID());
                 service.getDialectTracker().onDisconnect(handler.getPlayer().getUUID());
+                // Compact want-sets: the held diff base is connection-scoped too.
+                service.getWantSets().onDisconnect(handler.getPlayer().getUUID());
                 // Far players: the subscription dies with the CONNECTION, never with the
                 // dimension-change remove+register cycle (the v18-rung checklist).
                 service.getFarPlayerService().removeViewer(handler.getPlayer().getUUID());
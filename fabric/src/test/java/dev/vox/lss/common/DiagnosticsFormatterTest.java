@@ -603,6 +603,21 @@ class DiagnosticsFormatterTest {
         assertEquals(1000, a.bytes());
     }
 
+    @Test
+    void aRunningStoreTokenCarriesTheRegionHeaderCacheCounters() {
+        var reader = new AbstractChunkDiskReader(1) {};
+        var storeDiag = new dev.vox.lss.common.store.LodStoreDiagnostics();
+        var data = DiagnosticsFormatter.collectDiagData(
+                true, 16, 111, 222, 333, 10, "tick-string", 444, 0, 0, 0,
+                new ProcessingDiagnostics(), reader, new SharedBandwidthLimiter(1 << 20),
+                null, dev.vox.lss.common.store.LodStoreMode.FULL, storeDiag, List.of());
+        assertEquals(reader.getDiagnostics() + ", memo_hits=0, "
+                        + storeDiag.formatToken(dev.vox.lss.common.store.LodStoreMode.FULL)
+                        + dev.vox.lss.common.region.RegionHeaderCache.shared().diagToken(),
+                data.diskReaderDiagnostics(),
+                "header hits/reads ride the store token; store=off keeps its bare token");
+    }
+
     // ---- format helper boundaries (CG-019) ----
 
     @Test
@@ -495,4 +495,52 @@ class FarPlayerBroadcastServiceTest {
                         .noneMatch(e -> e.name().equals("P" + (FarPlayerWire.MAX_UPDATE_ENTRIES + 49))),
                 "the farthest target is the one dropped");
     }
+
+    @Test
+    void theGridNarrowsCandidatesWithoutChangingTheVisibleSet() {
+        var svc = subscribed();
+        var world = new ArrayList<FarPlayerBroadcastService.PlayerSnapshot>();
+        world.add(snap(VIEWER, "Viewer", 0, 0));
+        world.add(snap(T1, "Near", 500, 0));
+        // A crowd far past the 2048 cap (several cells away) and one in another dimension
+        // at the viewer's own coordinates: none may be queried, none may be served.
+        for (int i = 0; i < 200; i++) {
+            world.add(snap(new UUID(3, i), "Far" + i, 100_000 + i, 100_000));
+        }
+        world.add(snapFull(T2, "Nether", "minecraft:the_nether", 10, 64, 0, false, false, true,
+                0L, null, null, null));
+        svc.tick(10_000, world, settings("on"), sender());
+        var r = rosters();
+        assertEquals(1, r.size());
+        assertEquals(List.of("Near"), r.get(0).added().stream().map(FarPlayerWire.RosterEntry::name).toList());
+        assertEquals(2, svc.lastTickCandidates(), "only the viewer's own cell neighbourhood is scanned");
+        assertEquals(3, svc.lastTickCells());
+        assertTrue(svc.diagLine().contains("grid_cells=3"), svc.diagLine());
+        assertTrue(svc.diagLine().contains("candidates=2"), svc.diagLine());
+    }
+
+    @Test
+    void ringEdgeTargetsInANeighbouringCellAreStillServed() {
+        var svc = subscribed();
+        // Viewer just below a cell edge, target just across it on the far side: the
+        // query must reach the neighbouring cell for the ring's exact test to see it.
+        var world = List.of(snap(VIEWER, "Viewer", 2047, -1), snap(T1, "Across", 4000, -1),
+                snap(T2, "Behind", 1000, -1000));
+        svc.tick(10_000, world, settings("on"), sender());
+        var names = rosters().get(0).added().stream().map(FarPlayerWire.RosterEntry::name).toList();
+        assertEquals(List.of("Across", "Behind"), names, "online-list order is preserved");
+    }
+
+    @Test
+    void nearestSelectionKeepsListOrderAndBreaksTiesByPosition() {
+        var viewer = snap(VIEWER, "Viewer", 0, 0);
+        var visible = List.of(snap(new UUID(4, 0), "d9", 900, 0), snap(new UUID(4, 1), "d1", 100, 0),
+                snap(new UUID(4, 2), "d5a", 500, 0), snap(new UUID(4, 3), "d3", -300, 0),
+                snap(new UUID(4, 4), "d5b", 0, 500), snap(new UUID(4, 5), "d7", 0, -700));
+        var kept = FarPlayerBroadcastService.nearest(visible, viewer, 3);
+        assertEquals(List.of("d1", "d5a", "d3"),
+                kept.stream().map(FarPlayerBroadcastService.PlayerSnapshot::name).toList(),
+                "the tie at the cut keeps the earlier-listed target");
+        assertEquals(visible, FarPlayerBroadcastService.nearest(visible, viewer, visible.size()));
+    }
 }
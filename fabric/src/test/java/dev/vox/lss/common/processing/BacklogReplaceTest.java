@@ -51,6 +51,24 @@ class BacklogReplaceTest {
         assertEquals(0, s.getBacklogSize());
     }
 
+    @Test
+    void stillDeclaresFollowsTheLatestAppliedBatch() {
+        var s = new TestState();
+        assertTrue(s.stillDeclares(5, 0), "nothing applied yet: no grounds to cancel");
+        s.replaceBacklogWith(batch(1, 2));
+        s.pollBacklog();
+        s.pollBacklog();
+        assertTrue(s.stillDeclares(1, 0), "admitted entries stay declared past the backlog drain");
+        assertFalse(s.stillDeclares(5, 0));
+        s.offerIncomingBatch(batch(5));
+        assertTrue(s.stillDeclares(1, 0), "an offered batch counts only once applied");
+        s.replaceBacklogWith(s.takeIncomingBatch());
+        assertFalse(s.stillDeclares(1, 0));
+        assertTrue(s.stillDeclares(5, 0));
+        s.replaceBacklogWith(batch());
+        assertFalse(s.stillDeclares(5, 0), "the explicit clear declares nothing");
+    }
+
     @Test
     void restoreBacklogPreservesOriginalOrderAheadOfRemainder() {
         var s = new TestState();
@@ -111,4 +111,61 @@ class ColumnBytesTest {
         assertThrows(Exception.class, bytes::raw,
                 "a frame that does not decompress to the recorded usize is row-poison class");
     }
+
+    @Test
+    void tierBuildMemoizedPerTier() {
+        var bytes = ColumnBytes.ofRaw(codec, compressible(1000));
+        int[] computes = new int[1];
+        var t1 = bytes.tierBuild(1, () -> {
+            computes[0]++;
+            return ColumnBytes.ofTier(codec, compressible(500), 1);
+        });
+        assertSame(t1, bytes.tierBuild(1, () -> { throw new AssertionError("recomputed"); }),
+                "the fan-out downsamples once per tier");
+        assertEquals(1, t1.tier());
+        assertEquals(0, bytes.tier());
+        var t2 = bytes.tierBuild(2, () -> {
+            computes[0]++;
+            return ColumnBytes.ofTier(codec, compressible(250), 2);
+        });
+        assertNotSame(t1, t2);
+        assertEquals(2, computes[0]);
+    }
+
+    @Test
+    void deltaBuildMemoizedPerBaseIncludingRefusal() {
+        var bytes = ColumnBytes.ofRaw(codec, compressible(1000));
+        var keep = new dev.vox.lss.common.wire.SectionDelta.Keep(0, 8, new byte[] { 1 });
+        var d = bytes.deltaBuild(100L, () -> ColumnBytes.ofDelta(codec, compressible(200), 100L, keep));
+        assertSame(d, bytes.deltaBuild(100L, () -> { throw new AssertionError("recomputed"); }),
+                "every viewer re-asking from the same base shares one build");
+        assertEquals(100L, d.deltaBase());
+        assertSame(keep, d.keep());
+        assertEquals(0L, bytes.deltaBase());
+        assertNull(bytes.keep());
+        assertNull(bytes.deltaBuild(200L, () -> null));
+        assertNull(bytes.deltaBuild(200L, () -> { throw new AssertionError("recomputed"); }),
+                "a refused delta is memoized too");
+    }
+
+    @Test
+    void dictFrameIsItsOwnMemoAndADictStoreFrameServesEveryForm() {
+        var dictCodec = StoreCodec.zstdWithDictionaryOrNull();
+        assumeTrue(dictCodec != null);
+        byte[] raw = compressible(10_000);
+        var bytes = ColumnBytes.ofRaw(codec, raw);
+        byte[] dict = bytes.dictFrame(dictCodec);
+        assertNotNull(dict);
+        assertSame(dict, bytes.dictFrame(dictCodec), "memoized across the fan-out");
+        assertFalse(bytes.frameMaterialized(), "the codec-1 form is untouched");
+        assertNull(ColumnBytes.ofRaw(codec, raw).dictFrame(null), "no dictionary codec, no form");
+
+        var stored = ColumnBytes.ofDictFrame(codec, dictCodec, dict, raw.length);
+        assertSame(dict, stored.dictFrame(dictCodec), "the stored frame ships verbatim");
+        assertFalse(stored.rawMaterialized());
+        byte[] plain = stored.frame();
+        assertNotNull(plain, "codec-1 sessions get a recompress of the decoded bytes");
+        assertArrayEquals(raw, codec.decompress(plain, raw.length));
+        assertArrayEquals(raw, stored.raw());
+    }
 }
@@ -0,0 +1,117 @@
+package dev.vox.lss.common.processing;
+
+import dev.vox.lss.common.LSSConstants;
+import dev.vox.lss.common.PositionUtil;
+import dev.vox.lss.common.store.StoreCodec;
+import dev.vox.lss.common.wire.ColumnPackWire;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * The packer behind {@link LSSConstants#CAPABILITY_PACKED_COLUMNS}: staged columns group
+ * by dimension and 4x4 tile in first-seen order, a tile splits at the member cap, and one
+ * frame over a tile's bodies decompresses to them in order — smaller than the members'
+ * own frames summed when neighbours share content — or is refused when it cannot shrink.
+ */
+class ColumnPackerTest {
+
+    private static final String OW = "minecraft:overworld";
+    private static final String NETHER = "minecraft:the_nether";
+
+    private static ColumnPacker.Staged staged(String dimension, int cx, int cz, byte[] raw) {
+        return new ColumnPacker.Staged(cx, cz, dimension, 1_000L + cx, cx * 10L + cz,
+                ColumnBytes.ofRaw(null, raw), raw.length + LSSConstants.ESTIMATED_COLUMN_OVERHEAD_BYTES,
+                LSSConstants.COLUMN_SOURCE_DISK);
+    }
+
+    /** A v20-ish body: shared identity strings, then a column-specific tail. */
+    private static byte[] column(int seed) {
+        var out = new StringBuilder("minecraft:stone minecraft:deepslate minecraft:dirt "
+                + "minecraft:grass_block[snowy=false] minecraft:water[level=0] ");
+        var random = new Random(seed);
+        while (out.length() < 4096) out.append((char) ('a' + random.nextInt(4)));
+        return out.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static List<Long> positions(List<ColumnPacker.Staged> group) {
+        var out = new ArrayList<Long>();
+        for (var column : group) out.add(column.packedPos());
+        return out;
+    }
+
+    @Test
+    void groupsByDimensionAndTileInFirstSeenOrder() {
+        var a = staged(OW, 4, 4, column(1));
+        var b = staged(OW, 0, 0, column(2));
+        var c = staged(OW, 7, 7, column(3));
+        var d = staged(NETHER, 5, 5, column(4));
+        var e = staged(OW, -1, 0, column(5)); // tile -1: a different tile than (0, 0)
+        var groups = ColumnPacker.group(List.of(a, b, c, d, e));
+        assertEquals(4, groups.size());
+        assertEquals(positions(List.of(a, c)), positions(groups.get(0)));
+        assertEquals(positions(List.of(b)), positions(groups.get(1)));
+        assertEquals(positions(List.of(d)), positions(groups.get(2)));
+        assertEquals(positions(List.of(e)), positions(groups.get(3)));
+    }
+
+    @Test
+    void aTileSplitsAtTheMemberCap() {
+        var staged = new ArrayList<ColumnPacker.Staged>();
+        for (int i = 0; i < 16; i++) staged.add(staged(OW, i & 3, i >> 2, column(i)));
+        staged.add(staged(OW, 0, 0, column(99))); // a re-serve of a member: 17 in one tile
+        var groups = ColumnPacker.group(staged);
+        assertEquals(2, groups.size());
+        assertEquals(LSSConstants.COLUMN_PACK_MAX_COLUMNS, groups.get(0).size());
+        assertEquals(1, groups.get(1).size());
+    }
+
+    @Test
+    void oneFrameDecompressesToTheMembersAndBeatsTheirOwnFrames() {
+        var codec = StoreCodec.zstdOrNull();
+        assumeTrue(codec != null);
+        var group = new ArrayList<ColumnPacker.Staged>();
+        int singles = 0;
+        var expected = new java.io.ByteArrayOutputStream();
+        for (int i = 0; i < 4; i++) {
+            byte[] raw = column(i);
+            group.add(staged(OW, i, 0, raw));
+            singles += codec.compress(raw).length;
+            expected.writeBytes(raw);
+        }
+        var built = ColumnPacker.build(group, codec, LSSConstants.COLUMN_CODEC_ZSTD);
+        assertNotNull(built);
+        var pack = ColumnPackWire.decode(built.body());
+        assertEquals(OW, pack.dimension());
+        assertEquals(4, pack.members().length);
+        assertEquals(PositionUtil.packPosition(2, 0), built.members()[2]);
+        assertEquals(1_002L, pack.members()[2].timestamp());
+        assertArrayEquals(expected.toByteArray(),
+                codec.decompress(pack.frame(), (int) pack.totalRawLength()));
+        assertTrue(pack.frame().length < singles, pack.frame().length + " packed vs "
+                + singles + " as single frames");
+        assertEquals(0L, built.submissionOrder(), "the earliest member's order");
+        int estimated = 0;
+        for (var column : group) estimated += column.estimatedBytes();
+        assertEquals(estimated, built.estimatedBytes(), "the limiter charge stays raw");
+    }
+
+    @Test
+    void aFrameThatCannotShrinkIsRefused() {
+        var codec = StoreCodec.zstdOrNull();
+        assumeTrue(codec != null);
+        var random = new Random(7);
+        byte[] x = new byte[2048];
+        byte[] y = new byte[2048];
+        random.nextBytes(x);
+        random.nextBytes(y);
+        assertNull(ColumnPacker.build(List.of(staged(OW, 0, 0, x), staged(OW, 1, 0, y)),
+                codec, LSSConstants.COLUMN_CODEC_ZSTD));
+    }
+}
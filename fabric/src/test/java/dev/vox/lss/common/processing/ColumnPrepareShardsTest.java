@@ -0,0 +1,64 @@
+package dev.vox.lss.common.processing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The prepare shards: small batches stay inline, a player's tasks all run on one shard
+ * in submission order, and a task failure never escapes into the drain.
+ */
+class ColumnPrepareShardsTest {
+
+    @Test
+    void smallBatchesRunInlineOnTheCallingThread() {
+        var shards = new ColumnPrepareShards(4);
+        try {
+            var ran = new ArrayList<Thread>();
+            var keys = List.of(UUID.randomUUID());
+            List<Runnable> tasks = List.of(() -> ran.add(Thread.currentThread()));
+            assertNull(shards.run(keys, tasks), "inline batches report no shard times");
+            assertEquals(List.of(Thread.currentThread()), ran);
+        } finally {
+            shards.shutdown();
+        }
+    }
+
+    @Test
+    void aPlayersTasksRunOnItsShardInOrderAndFailuresAreContained() {
+        var shards = new ColumnPrepareShards(3);
+        try {
+            var a = UUID.randomUUID();
+            var b = UUID.randomUUID();
+            var order = new ConcurrentHashMap<UUID, List<Integer>>();
+            var threads = new ConcurrentHashMap<UUID, Thread>();
+            var keys = new ArrayList<UUID>();
+            var tasks = new ArrayList<Runnable>();
+            for (int i = 0; i < 20; i++) {
+                var player = i % 2 == 0 ? a : b;
+                int seq = i;
+                keys.add(player);
+                tasks.add(() -> {
+                    var prior = threads.putIfAbsent(player, Thread.currentThread());
+                    assertTrue(prior == null || prior == Thread.currentThread());
+                    order.computeIfAbsent(player, k -> new ArrayList<>()).add(seq);
+                    if (seq == 4) throw new IllegalStateException("contained");
+                });
+            }
+            long[] busy = shards.run(keys, tasks);
+            assertNotNull(busy);
+            assertEquals(3, busy.length);
+            assertEquals(List.of(0, 2, 4, 6, 8, 10, 12, 14, 16, 18), order.get(a));
+            assertEquals(List.of(1, 3, 5, 7, 9, 11, 13, 15, 17, 19), order.get(b));
+            assertNotSame(Thread.currentThread(), threads.get(a));
+            assertEquals(ColumnPrepareShards.shardOf(a, 3), ColumnPrepareShards.shardOf(a, 3));
+        } finally {
+            shards.shutdown();
+        }
+    }
+}
@@ -31,6 +31,18 @@ class DiagnosticsCountersTest {
                         + d.getErrorCount() + d.getSaturationCount());
     }
 
+    @Test
+    void bulkTokenAppearsOnlyAfterAWholeRegionRead() {
+        var d = new DiskReaderDiagnostics();
+        assertEquals("", d.bulkToken(), "no bulk read keeps the status line unchanged");
+        d.recordBulkRegion(8L << 20, 900, 100_000_000L); // 8 MiB in 100 ms
+        d.recordBulkServe();
+        d.recordBulkServe();
+        assertEquals(", bulk=1r/2c@80MB/s", d.bulkToken());
+        assertEquals(900, d.getBulkRecordsCount());
+        assertEquals(0, d.getCompletedCount(), "a mechanism counter, not a read outcome");
+    }
+
     @Test
     void saturatedReadsAreNotCountedSuccessful() {
         var d = new DiskReaderDiagnostics();
@@ -92,4 +104,19 @@ class DiagnosticsCountersTest {
         assertEquals(3, tracker.getTotalDrained());
         assertNull(tracker.drainDirty("minecraft:the_nether"));
     }
+
+    @Test
+    void columnFramingCostIsPerMiBAndZeroBeforeTheFirstFrame() {
+        var d = new ColumnFramingDiagnostics();
+        assertEquals(0, d.nanosPerMiB(), "no frame yet: no division by zero");
+        d.recordFrame(512 * 1024, 3_000_000L, false); // compressed: 3 ms for 0.5 MiB
+        d.recordFrame(512 * 1024, 1_000_000L, true);  // bypassed: 1 ms for 0.5 MiB
+        d.recordFrame(100, -5L, true);                // a clock step never subtracts
+
+        assertEquals(3, d.getFrames());
+        assertEquals(2, d.getBypassed());
+        assertEquals((1L << 20) + 100, d.getBytes());
+        assertEquals(4_000_000L, d.getNanos());
+        assertEquals(4_000_000L * (1L << 20) / ((1L << 20) + 100), d.nanosPerMiB());
+    }
 }
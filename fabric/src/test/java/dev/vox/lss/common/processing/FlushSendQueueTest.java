@@ -173,6 +173,48 @@ class FlushSendQueueTest {
         assertEquals(0, dropped2.length);
     }
 
+    @Test
+    void aPackGoesThroughSendPackAndCountsEveryMember() throws Exception {
+        // Members count as enqueued from staging, so the pack itself adds nothing.
+        state.stagePackColumn(new ColumnPacker.Staged(10, 0, "minecraft:overworld", 1L, 0L,
+                ColumnBytes.ofRaw(null, new byte[1]), 0, LSSConstants.COLUMN_SOURCE_DISK));
+        state.stagePackColumn(new ColumnPacker.Staged(11, 0, "minecraft:overworld", 1L, 1L,
+                ColumnBytes.ofRaw(null, new byte[1]), 0, LSSConstants.COLUMN_SOURCE_DISK));
+        assertEquals(2, state.takeStagedPackColumns().size());
+        state.addReadyPack(QueuedPayload.ofPack("pack", 0, 0, 0L, new long[]{POS_1, POS_2}));
+        state.addReadyPayload(new QueuedPayload<>("single", 0, 1, POS_3));
+        assertTrue(state.hasEnqueuedColumn(POS_1) && state.hasEnqueuedColumn(POS_2));
+        var packs = new ArrayList<String>();
+        Thread.sleep(50);
+
+        state.flushSendQueue(BIG_ALLOCATION, limiter, diag, new AbstractPlayerRequestState.PayloadSender<>() {
+            @Override public void send(String payload) { sent.add(payload); }
+            @Override public void sendPack(String payload) { packs.add(payload); }
+        });
+
+        assertEquals(List.of("pack"), packs);
+        assertEquals(List.of("single"), sent);
+        assertFalse(state.hasEnqueuedColumn(POS_1) || state.hasEnqueuedColumn(POS_2),
+                "every member departs with the pack");
+        assertEquals(3, state.getTotalSectionsSent(), "sections count per column");
+        assertEquals(3, diag.getTotalSectionsSent());
+    }
+
+    @Test
+    void aDroppedPackReportsEveryMember() throws Exception {
+        state.addReadyPayload(new QueuedPayload<>("first", 0, 0, POS_3));
+        state.addReadyPack(QueuedPayload.ofPack("pack", 0, 0, 1L, new long[]{POS_1, POS_2}));
+        Thread.sleep(50);
+
+        long[] dropped = state.flushSendQueue(BIG_ALLOCATION, limiter, diag, p -> {
+            if (!sent.isEmpty()) throw new Exception("broken connection");
+            sent.add(p);
+        });
+
+        assertEquals(2, dropped.length);
+        assertTrue(contains(dropped, POS_1) && contains(dropped, POS_2));
+    }
+
     @Test
     void zeroAllocationSendsNothingButStillSnapshotsTheQueue() {
         state.addReadyPayload(new QueuedPayload<>("a", 100, 0, POS_1));
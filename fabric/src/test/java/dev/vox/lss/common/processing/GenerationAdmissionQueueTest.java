@@ -0,0 +1,211 @@
+package dev.vox.lss.common.processing;
+
+import dev.vox.lss.common.LSSConstants;
+import dev.vox.lss.common.PositionUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The server-wide generation queue: nearest-first across players, aging so far work still
+ * drains, one submission per coalesced position, and the ways a waiter leaves without being
+ * served (undeclared, out of range and timed out release their slot, a gone session is
+ * dropped).
+ */
+class GenerationAdmissionQueueTest {
+
+    private static final String OVERWORLD = "minecraft:overworld";
+    private static final int RADIUS = 64;
+
+    /** A generation service stand-in: {@code capacity} fresh slots, piggybacks always fit. */
+    private static final class FakeSink implements GenerationAdmissionQueue.Sink {
+        int capacity;
+        final Set<Long> active = new HashSet<>();
+        final List<String> submitted = new ArrayList<>();
+        final List<String> released = new ArrayList<>();
+
+        FakeSink(int capacity) { this.capacity = capacity; }
+
+        @Override
+        public boolean submit(UUID player, String dimension, int cx, int cz, long submissionOrder) {
+            long packed = PositionUtil.packPosition(cx, cz);
+            if (!this.active.contains(packed)) {
+                if (this.capacity == 0) return false;
+                this.capacity--;
+                this.active.add(packed);
+            }
+            this.submitted.add(cx + "," + cz + "#" + submissionOrder);
+            return true;
+        }
+
+        @Override
+        public void release(UUID player, String dimension, int cx, int cz, long submissionOrder) {
+            this.released.add(cx + "," + cz + "#" + submissionOrder);
+        }
+    }
+
+    private static GenerationAdmissionQueue.PlayerLocator at(Map<UUID, Long> chunks) {
+        return (player, dimension) -> chunks.getOrDefault(player, GenerationAdmissionQueue.NO_PLAYER);
+    }
+
+    @Test
+    void anotherPlayersNearWorkIsAdmittedBeforeAFarCorner() {
+        var queue = new GenerationAdmissionQueue(1200);
+        var a = new UUID(0, 1);
+        var b = new UUID(0, 2);
+        var chunks = new HashMap<UUID, Long>();
+        chunks.put(a, PositionUtil.packPosition(0, 0));
+        chunks.put(b, PositionUtil.packPosition(500, 0));
+        queue.offer(a, OVERWORLD, 40, 0, 1L);   // A's far corner arrived first
+        queue.offer(b, OVERWORLD, 501, 0, 2L);  // B's ring 1
+
+        var sink = new FakeSink(1);
+        queue.admit(at(chunks), (p, cx, cz) -> true, RADIUS, sink);
+        assertEquals(List.of("501,0#2"), sink.submitted, "the nearer ticket wins the one slot");
+        assertEquals(1, queue.size(), "the rejected far corner stays queued, not dropped");
+        assertTrue(sink.released.isEmpty());
+
+        sink.capacity = 1;
+        queue.admit(at(chunks), (p, cx, cz) -> true, RADIUS, sink);
+        assertEquals(List.of("501,0#2", "40,0#1"), sink.submitted);
+        assertEquals(0, queue.size());
+        assertEquals(2, queue.getAdmitted());
+    }
+
+    @Test
+    void agingLetsAWaitingFarTicketOvertakeFreshNearWork() {
+        var queue = new GenerationAdmissionQueue(1200);
+        var a = new UUID(0, 1);
+        var chunks = Map.of(a, PositionUtil.packPosition(0, 0));
+        var sink = new FakeSink(0);
+        queue.offer(a, OVERWORLD, 10, 0, 1L);
+        int waitTicks = 9 * LSSConstants.GENERATION_QUEUE_AGING_TICKS_PER_RING + 1;
+        for (int i = 0; i < waitTicks; i++) queue.admit(at(chunks), (p, cx, cz) -> true, RADIUS, sink);
+
+        queue.offer(a, OVERWORLD, 1, 0, 2L);
+        sink.capacity = 1;
+        queue.admit(at(chunks), (p, cx, cz) -> true, RADIUS, sink);
+        assertEquals(List.of("10,0#1"), sink.submitted,
+                "ten rings out, after more than nine rings' worth of waiting, beats fresh ring 1");
+        assertEquals(waitTicks * 1000L / LSSConstants.TICKS_PER_SECOND,
+                queue.waitPercentileMillis(0.5), "the admission's queue wait is recorded");
+    }
+
+    @Test
+    void aPositionWantedByTwoPlayersIsSubmittedOnceAndPiggybacked() {
+        var queue = new GenerationAdmissionQueue(1200);
+        var a = new UUID(0, 1);
+        var b = new UUID(0, 2);
+        var chunks = Map.of(a, PositionUtil.packPosition(0, 0), b, PositionUtil.packPosition(30, 0));
+        queue.offer(a, OVERWORLD, 20, 0, 1L);
+        queue.offer(b, OVERWORLD, 20, 0, 2L);
+        assertEquals(1, queue.size());
+        assertEquals(1, queue.getCoalesced());
+
+        var sink = new FakeSink(1);
+        queue.admit(at(chunks), (p, cx, cz) -> true, RADIUS, sink);
+        assertEquals(List.of("20,0#1", "20,0#2"), sink.submitted,
+                "one fresh slot, the second waiter rides it");
+        assertEquals(0, sink.capacity);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void waitersNobodyWantsAreCancelled() {
+        var queue = new GenerationAdmissionQueue(20);
+        var near = new UUID(0, 1);
+        var moved = new UUID(0, 2);
+        var gone = new UUID(0, 3);
+        var chunks = new HashMap<UUID, Long>();
+        chunks.put(near, PositionUtil.packPosition(0, 0));
+        chunks.put(moved, PositionUtil.packPosition(0, 0));
+        queue.offer(moved, OVERWORLD, 60, 0, 1L);
+        queue.offer(gone, OVERWORLD, 5, 5, 2L);
+        queue.offer(near, OVERWORLD, 3, 0, 3L);
+
+        var sink = new FakeSink(0);
+        chunks.put(moved, PositionUtil.packPosition(-10, 0)); // 70 rings from its ticket
+        queue.admit(at(chunks), (p, cx, cz) -> true, RADIUS, sink);
+        assertEquals(List.of("60,0#1"), sink.released, "out of range: the slot is handed back");
+        assertEquals(1, queue.getCancelled());
+        assertEquals(1, queue.size(), "the gone session's waiter is dropped without a release");
+
+        for (int i = 0; i < 21; i++) queue.admit(at(chunks), (p, cx, cz) -> true, RADIUS, sink);
+        assertEquals(List.of("60,0#1", "3,0#3"), sink.released, "past the timeout: released");
+        assertEquals(1, queue.getExpired());
+        assertEquals(0, queue.size());
+        assertTrue(sink.submitted.isEmpty());
+    }
+
+    private static final class DeclaringState extends AbstractPlayerRequestState<Object> {
+        DeclaringState(UUID uuid) { super(uuid, 4, 4); }
+        @Override public String getPlayerName() { return "test"; }
+
+        void declare(int... cxs) {
+            var reqs = new IncomingRequest[cxs.length];
+            for (int i = 0; i < cxs.length; i++) reqs[i] = new IncomingRequest(cxs[i], 0, -1L);
+            replaceBacklogWith(new IncomingBatch(reqs));
+        }
+    }
+
+    @Test
+    void waitersAPlayerStoppedDeclaringAreReleasedWellInsideTheRange() {
+        var queue = new GenerationAdmissionQueue(1200);
+        var a = new UUID(0, 1);
+        var state = new DeclaringState(a);
+        var chunks = new HashMap<UUID, Long>();
+        chunks.put(a, PositionUtil.packPosition(0, 0));
+        GenerationAdmissionQueue.WantCheck wanted = (player, cx, cz) -> state.stillDeclares(cx, cz);
+        state.declare(10, 11, 12, -5);
+        queue.offer(a, OVERWORLD, 10, 0, 1L);
+        queue.offer(a, OVERWORLD, 11, 0, 2L);
+        queue.offer(a, OVERWORLD, 12, 0, 3L);
+        queue.offer(a, OVERWORLD, -5, 0, 4L);
+
+        var sink = new FakeSink(0);
+        queue.admit(at(chunks), wanted, RADIUS, sink);
+        assertEquals(4, queue.size(), "all still declared: queued, slots held");
+        assertTrue(sink.released.isEmpty());
+
+        // The player turns around: 30 rings from the old tickets, far inside RADIUS, and its
+        // next declaration keeps only the position on the new side.
+        chunks.put(a, PositionUtil.packPosition(-20, 0));
+        state.declare(-19, -21, -5);
+        queue.admit(at(chunks), wanted, RADIUS, sink);
+        assertEquals(List.of("10,0#1", "11,0#2", "12,0#3"), sink.released,
+                "the stale waiters hand their slots back at once, not at the timeout");
+        assertEquals(3, queue.getCancelled());
+        assertEquals(0, queue.getExpired());
+        assertEquals(1, queue.size());
+
+        sink.capacity = 1;
+        queue.admit(at(chunks), wanted, RADIUS, sink);
+        assertEquals(List.of("-5,0#4"), sink.submitted, "the still-declared one is served");
+    }
+
+    @Test
+    void removePlayerDropsOnlyThatPlayersWaiters() {
+        var queue = new GenerationAdmissionQueue(1200);
+        var a = new UUID(0, 1);
+        var b = new UUID(0, 2);
+        queue.offer(a, OVERWORLD, 1, 0, 1L);
+        queue.offer(b, OVERWORLD, 1, 0, 2L);
+        queue.offer(a, OVERWORLD, 2, 0, 3L);
+        queue.removePlayer(a);
+        assertEquals(1, queue.size());
+
+        var sink = new FakeSink(4);
+        queue.admit(at(Map.of(b, PositionUtil.packPosition(0, 0))), (p, cx, cz) -> true, RADIUS, sink);
+        assertEquals(List.of("1,0#2"), sink.submitted);
+        assertEquals(", queued=0, queue_wait_p50=0ms, p95=0ms, p99=0ms, coalesced=1,"
+                + " queue_cancelled=0, queue_expired=0", queue.diagToken());
+    }
+}
@@ -0,0 +1,81 @@
+package dev.vox.lss.common.processing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The probe serializer pool's hand-off: a deferred column resolves to the worker's bytes,
+ * a contained failure resolves as no probe (never as all-air), and a submit after shutdown
+ * still serializes.
+ */
+class ProbeSerializerPoolTest {
+
+    @Test
+    void deferredColumnResolvesToTheWorkersResult() throws Exception {
+        var pool = new ProbeSerializerPool(2);
+        try {
+            var release = new CountDownLatch(1);
+            var ranOn = new AtomicReference<Thread>();
+            var column = pool.submit(3, -7, () -> {
+                ranOn.set(Thread.currentThread());
+                try {
+                    assertTrue(release.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return new LoadedColumnData(3, -7, new byte[]{1, 2, 3}, 3);
+            });
+            // Coordinates are known before the worker finishes; the bytes wait for it.
+            assertEquals(3, column.cx());
+            assertEquals(-7, column.cz());
+            release.countDown();
+            var done = column.awaitSerialized();
+            assertNotNull(done);
+            assertArrayEquals(new byte[]{1, 2, 3}, done.serializedSections());
+            assertArrayEquals(new byte[]{1, 2, 3}, column.serializedSections());
+            assertEquals(3, column.estimatedBytes());
+            assertNotSame(Thread.currentThread(), ranOn.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void aContainedFailureResolvesAsNoProbe() {
+        var pool = new ProbeSerializerPool(1);
+        try {
+            var column = pool.submit(0, 0, () -> null);
+            assertNull(column.awaitSerialized(), "a failed serialize is no probe, not all-air");
+            var thrown = pool.submit(1, 1, () -> { throw new IllegalStateException("uncontained"); });
+            assertNull(thrown.awaitSerialized());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void virtualMachineErrorsPropagateToTheAwaitingThread() {
+        var pool = new ProbeSerializerPool(1);
+        try {
+            var column = pool.submit(0, 0, () -> { throw new OutOfMemoryError("synthetic"); });
+            assertThrows(OutOfMemoryError.class, column::awaitSerialized);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void aSubmitAfterShutdownRunsInline() {
+        var pool = new ProbeSerializerPool(1);
+        pool.shutdown();
+        var ready = new LoadedColumnData(5, 6, new byte[]{9}, 1);
+        var column = pool.submit(5, 6, () -> ready);
+        assertSame(ready, column);
+        assertSame(ready, column.awaitSerialized());
+    }
+}
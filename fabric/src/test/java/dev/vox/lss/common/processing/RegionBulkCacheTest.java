@@ -0,0 +1,85 @@
+package dev.vox.lss.common.processing;
+
+import dev.vox.lss.common.region.RegionFileBulkReader;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The dense cold-join rung's bookkeeping: a region arms only past the density threshold
+ * inside its window, exactly one caller claims the load, a slice serves once and only
+ * while its live location matches the image, and images leave on consumption, TTL and
+ * the byte budget.
+ */
+class RegionBulkCacheTest {
+
+    private static final String DIM = "minecraft:overworld";
+
+    /** A region image with clean one-sector records in {@code slots} (sector 2 + i). */
+    private static RegionFileBulkReader.RegionRecords image(int... slots) {
+        var buf = ByteBuffer.allocate((2 + slots.length) * 4096);
+        for (int i = 0; i < slots.length; i++) {
+            buf.putInt(slots[i] * 4, ((2 + i) << 8) | 1);
+            buf.putInt((2 + i) * 4096, 2);
+            buf.put((2 + i) * 4096 + 4, (byte) 2);
+            buf.put((2 + i) * 4096 + 5, (byte) slots[i]);
+        }
+        return RegionFileBulkReader.parse(buf.array(), buf.capacity());
+    }
+
+    @Test
+    void armsPastTheThresholdInsideTheWindowAndOneCallerClaims() {
+        var cache = new RegionBulkCache(3, 1000, 10_000, 1 << 20);
+        cache.noteSubmit(DIM, 0, 0, 0);
+        cache.noteSubmit(DIM, 1, 0, 10);
+        assertFalse(cache.claimLoad(DIM, 0, 0), "two reads are not dense");
+        cache.noteSubmit(DIM, 40, 0, 2000); // another region
+        cache.noteSubmit(DIM, 2, 0, 2000);  // window expired: restarts at 1
+        assertFalse(cache.claimLoad(DIM, 0, 0));
+        cache.noteSubmit(DIM, 3, 0, 2001);
+        cache.noteSubmit(DIM, 4, 0, 2002);
+        assertTrue(cache.claimLoad(DIM, 0, 0));
+        assertFalse(cache.claimLoad(DIM, 0, 0), "the arming is consumed by one loader");
+        for (int i = 0; i < 5; i++) cache.noteSubmit(DIM, 5, 0, 2003);
+        assertFalse(cache.claimLoad(DIM, 0, 0), "no second load while the first is in flight");
+    }
+
+    @Test
+    void aSliceServesOnceAndOnlyAtItsReadLocation() {
+        var cache = new RegionBulkCache(1, 1000, 10_000, 1 << 20);
+        var records = image(0, 1, 2);
+        cache.put(DIM, 0, 0, records, 0);
+
+        var slice = cache.take(DIM, 1, 0, records.location(1), 5);
+        assertNotNull(slice);
+        assertArrayEquals(new byte[]{1}, slice.payload());
+        assertEquals(2, slice.version());
+        assertNull(cache.take(DIM, 1, 0, records.location(1), 5), "served at most once");
+        assertNull(cache.take(DIM, 2, 0, records.location(2) + (1 << 8), 5),
+                "a moved record (saved since the read) falls back");
+        assertNull(cache.take(DIM, 3, 0, 0, 5), "no record, no slice");
+        assertNull(cache.take("minecraft:the_nether", 0, 0, records.location(0), 5));
+        assertNotNull(cache.take(DIM, 0, 0, records.location(0), 5));
+        assertEquals(0, cache.imageCount(), "a fully consumed image is dropped");
+        assertEquals(0, cache.retainedBytes());
+    }
+
+    @Test
+    void imagesExpireAndStayInsideTheByteBudget() {
+        var one = image(0);
+        var cache = new RegionBulkCache(1, 1000, 100, 2L * one.fileBytes());
+        cache.put(DIM, 0, 0, one, 0);
+        assertNull(cache.take(DIM, 0, 0, one.location(0), 101), "past the TTL");
+        assertEquals(0, cache.imageCount());
+
+        cache.put(DIM, 0, 0, image(0), 200);
+        cache.put(DIM, 1, 0, image(0), 200);
+        cache.put(DIM, 2, 0, image(0), 200);
+        assertEquals(2, cache.imageCount(), "oldest image evicted over the budget");
+        assertNull(cache.take(DIM, 0, 0, one.location(0), 200));
+        assertNotNull(cache.take(DIM, 64, 0, one.location(0), 200));
+        assertEquals(one.fileBytes(), cache.retainedBytes());
+    }
+}
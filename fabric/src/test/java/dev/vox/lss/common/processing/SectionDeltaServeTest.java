@@ -0,0 +1,184 @@
+package dev.vox.lss.common.processing;
+
+import dev.vox.lss.common.LSSConstants;
+import dev.vox.lss.common.PositionUtil;
+import dev.vox.lss.common.wire.WireSectionCursor;
+import dev.vox.lss.common.wire.WireSectionCursor.Layout;
+import dev.vox.lss.common.wire.WireSectionCursor.WireColumn;
+import dev.vox.lss.common.wire.WireSectionCursor.WireContainer;
+import dev.vox.lss.common.wire.WireSectionCursor.WireSection;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The delta base table as the delivery paths feed it: a version served from the store on a
+ * first ask is recorded like any other, so the next resync ships a delta against it — and
+ * a store version whose content differs from the one already recorded under the SAME stamp
+ * poisons that stamp, so the resync of a client holding either version ships whole.
+ */
+class SectionDeltaServeTest {
+
+    private static final String DIM = LSSConstants.DIM_STR_OVERWORLD;
+    private static final long TS = 1_750_000_000L;
+    private static final int CX = 4, CZ = -2;
+    private static final long PACKED = PositionUtil.packPosition(CX, CZ);
+    private static final List<String> DICT = List.of(
+            "minecraft:air", "minecraft:stone", "minecraft:dirt", "minecraft:plains");
+    private static final int STONE = 1, DIRT = 2, PLAINS = 3;
+    private static final long POLL_DEADLINE_NANOS = 30_000_000_000L;
+
+    private static final class TestState extends AbstractPlayerRequestState<Object> {
+        TestState(UUID uuid) {
+            super(uuid, 4, 4);
+            setFrontierDampingForTest(0, System::nanoTime);
+        }
+        @Override public String getPlayerName() { return "test"; }
+        void enqueue(long clientTimestamp) {
+            offerIncomingBatch(new IncomingBatch(new IncomingRequest[] {
+                    new IncomingRequest(CX, CZ, clientTimestamp) }));
+        }
+    }
+
+    private record Served(UUID player, long columnTimestamp, long deltaBase) {}
+
+    private static final class TestProcessor extends OffThreadProcessor<TestState> {
+        final ConcurrentLinkedQueue<UUID> diskSubmits = new ConcurrentLinkedQueue<>();
+        final ConcurrentLinkedQueue<Served> served = new ConcurrentLinkedQueue<>();
+
+        TestProcessor(Map<UUID, TestState> players, AbstractChunkDiskReader reader) {
+            super(players, reader, false, null, 1, 0);
+        }
+
+        @Override
+        protected boolean submitDiskRead(UUID playerUuid, String dimension, int cx, int cz,
+                                         long order, long clientTimestamp) {
+            this.diskSubmits.add(playerUuid);
+            return true;
+        }
+
+        @Override
+        protected boolean buildAndEnqueueColumnPayload(TestState state, int cx, int cz,
+                                                       String dimension, long columnTimestamp,
+                                                       long submissionOrder, ColumnBytes bytes,
+                                                       int estimatedBytes, byte source) {
+            this.served.add(new Served(state.getPlayerUUID(), columnTimestamp, bytes.deltaBase()));
+            return true;
+        }
+    }
+
+    private static final class Rig {
+        final ConcurrentHashMap<UUID, TestState> players = new ConcurrentHashMap<>();
+        final AbstractChunkDiskReader reader = new AbstractChunkDiskReader(1) {};
+        final TestProcessor proc = new TestProcessor(this.players, this.reader);
+
+        TestState join() {
+            var state = new TestState(UUID.randomUUID());
+            state.markHandshakeComplete();
+            state.setCapabilities(LSSConstants.CAPABILITY_VOXEL_COLUMNS);
+            state.setWantsSectionDeltas(true);
+            this.players.put(state.getPlayerUUID(), state);
+            this.reader.registerPlayer(state.getPlayerUUID());
+            return state;
+        }
+
+        void cycle() {
+            var dims = new java.util.HashMap<UUID, String>();
+            for (var u : this.players.keySet()) dims.put(u, DIM);
+            this.proc.postSnapshot(new TickSnapshot(dims, Map.of(), 0, false), List.of());
+        }
+
+        /** One ask answered by one read result; returns what the player was served. */
+        Served serve(TestState state, long clientTimestamp, byte[] body, long columnTimestamp,
+                     boolean fromStore) throws InterruptedException {
+            int submits = this.proc.diskSubmits.size();
+            int served = this.proc.served.size();
+            state.enqueue(clientTimestamp);
+            cycle();
+            waitFor(() -> this.proc.diskSubmits.size() > submits, "disk submit");
+            this.reader.getPlayerQueue(state.getPlayerUUID()).add(new ChunkReadResult(
+                    state.getPlayerUUID(), CX, CZ, body, DIM,
+                    body.length + LSSConstants.ESTIMATED_COLUMN_OVERHEAD_BYTES, columnTimestamp,
+                    false, false, false, fromStore, 1L, 0L));
+            cycle();
+            waitFor(() -> this.proc.served.size() > served, "column served");
+            return List.copyOf(this.proc.served).get(served);
+        }
+
+        /** What a dirty broadcast does before the resync: the stamp and done-bit go. */
+        void edit(TestState state) throws InterruptedException {
+            var applied = new AtomicBoolean();
+            this.proc.invalidateTimestamps(DIM, new long[] { PACKED }, () -> applied.set(true));
+            this.proc.clearDiskReadDone(state.getPlayerUUID(), new long[] { PACKED });
+            cycle();
+            waitFor(applied::get, "invalidation applied");
+        }
+    }
+
+    private static void waitFor(java.util.function.BooleanSupplier condition, String what)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + POLL_DEADLINE_NANOS;
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) fail("timed out waiting for: " + what);
+            Thread.sleep(10);
+        }
+    }
+
+    private static WireSection uniform(int y, int block) {
+        return new WireSection(y, 4096, 0,
+                new WireContainer(0, new int[] { block }, new long[0]),
+                new WireContainer(0, new int[] { PLAINS }, new long[0]), null, null);
+    }
+
+    private static byte[] column(int bottom, int top) {
+        return WireSectionCursor.emit(new WireColumn(DICT,
+                List.of(uniform(0, bottom), uniform(1, top))), Layout.V20);
+    }
+
+    @Test
+    void aStoreServedFirstAskIsTheBaseForTheNextResync() throws Exception {
+        var rig = new Rig();
+        rig.proc.start();
+        try {
+            var player = rig.join();
+            var first = rig.serve(player, 0L, column(STONE, STONE), TS, true);
+            assertEquals(0L, first.deltaBase(), "a first ask ships whole");
+
+            rig.edit(player);
+            var resync = rig.serve(player, TS, column(DIRT, STONE), TS + 10, false);
+            assertEquals(TS, resync.deltaBase(),
+                    "the store-served version was recorded, so only the bottom section ships");
+        } finally {
+            rig.proc.shutdown();
+        }
+    }
+
+    @Test
+    void aStoreVersionDifferingUnderTheSameStampForcesAFullResync() throws Exception {
+        var rig = new Rig();
+        rig.proc.start();
+        try {
+            var viewer = rig.join();
+            var player = rig.join();
+            // The viewer's resync records (stone, dirt) at TS; the player is then served a
+            // store row carrying TS with other content — two edits inside one stamp second.
+            rig.serve(viewer, TS - 10, column(STONE, DIRT), TS, false);
+            rig.serve(player, 0L, column(STONE, STONE), TS, true);
+
+            rig.edit(player);
+            var resync = rig.serve(player, TS, column(DIRT, DIRT), TS + 10, false);
+            assertEquals(0L, resync.deltaBase(),
+                    "TS names two versions: a delta against the viewer's would keep the"
+                            + " player's stone top where the column now has dirt");
+        } finally {
+            rig.proc.shutdown();
+        }
+    }
+}
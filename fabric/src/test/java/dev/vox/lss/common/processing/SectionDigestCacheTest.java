@@ -0,0 +1,70 @@
+package dev.vox.lss.common.processing;
+
+import dev.vox.lss.common.wire.SectionDelta;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * The delta base table: a base is returned only for the exact timestamp recorded, a
+ * same-timestamp conflict poisons the entry until a new timestamp replaces it, and the
+ * per-dimension LRU bound evicts the least recently used position.
+ */
+class SectionDigestCacheTest {
+
+    private static SectionDelta.Digest digest(long hash) {
+        return new SectionDelta.Digest(new int[] { 0 }, new long[] { hash });
+    }
+
+    @Test
+    void baseOnlyForTheRecordedTimestamp() {
+        var cache = new SectionDigestCache(8);
+        var d = digest(1);
+        cache.put("overworld", 5L, 100L, d);
+        assertSame(d, cache.baseFor("overworld", 5L, 100L));
+        assertNull(cache.baseFor("overworld", 5L, 99L));
+        assertNull(cache.baseFor("the_nether", 5L, 100L), "dimensions are separate tables");
+        assertNull(cache.baseFor("overworld", 6L, 100L));
+    }
+
+    @Test
+    void nonPositiveTimestampsAreNeverRecorded() {
+        var cache = new SectionDigestCache(8);
+        cache.put("overworld", 5L, 0L, digest(1));
+        cache.put("overworld", 5L, -1L, digest(1));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void sameTimestampConflictPoisonsUntilReplaced() {
+        var cache = new SectionDigestCache(8);
+        cache.put("overworld", 5L, 100L, digest(1));
+        cache.put("overworld", 5L, 100L, digest(1));
+        assertEquals(1L, cache.baseFor("overworld", 5L, 100L).hashes()[0],
+                "an identical re-record is a no-op");
+        cache.put("overworld", 5L, 100L, digest(2));
+        assertNull(cache.baseFor("overworld", 5L, 100L), "two versions under one stamp");
+        cache.put("overworld", 5L, 100L, digest(1));
+        assertNull(cache.baseFor("overworld", 5L, 100L), "a poisoned stamp never re-arms");
+        var fresh = digest(3);
+        cache.put("overworld", 5L, 101L, fresh);
+        assertSame(fresh, cache.baseFor("overworld", 5L, 101L));
+    }
+
+    @Test
+    void lruEvictsLeastRecentlyUsedPerDimension() {
+        var cache = new SectionDigestCache(2);
+        cache.put("overworld", 1L, 10L, digest(1));
+        cache.put("overworld", 2L, 10L, digest(2));
+        cache.baseFor("overworld", 1L, 10L); // touch 1: 2 is now eldest
+        cache.put("overworld", 3L, 10L, digest(3));
+        cache.put("the_end", 9L, 10L, digest(9));
+        assertNull(cache.baseFor("overworld", 2L, 10L));
+        assertEquals(1L, cache.baseFor("overworld", 1L, 10L).hashes()[0]);
+        assertEquals(3, cache.size(), "the bound is per dimension");
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+}
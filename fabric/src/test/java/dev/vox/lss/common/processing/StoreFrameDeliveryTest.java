@@ -25,7 +25,8 @@ import static org.junit.jupiter.api.Assumptions.assumeTrue;
  * to the build as a frame-backed holder that never materializes raw for capable
  * recipients (verbatim end-to-end), and the deposit choke reuses a materialized wire
  * frame via {@code depositFrame} (compress-once-use-twice) with the caller-computed
- * usize/chash/fhash — falling back to the raw deposit for raw-only sessions.
+ * usize/chash/fhash — falling back to the raw deposit for raw-only sessions. A packed
+ * session's raw results ride one tile pack while a stored frame still ships alone.
  */
 class StoreFrameDeliveryTest {
 
@@ -79,6 +80,7 @@ class StoreFrameDeliveryTest {
     private static final class TestProcessor extends OffThreadProcessor<TestState> {
         record Built(int cx, int cz, ColumnBytes bytes, byte source) {}
         final ConcurrentLinkedQueue<Built> built = new ConcurrentLinkedQueue<>();
+        final ConcurrentLinkedQueue<ColumnPacker.Built> packs = new ConcurrentLinkedQueue<>();
 
         TestProcessor(Map<UUID, TestState> players, AbstractChunkDiskReader reader) {
             super(players, reader, false, null, 1, 0);
@@ -94,11 +96,21 @@ class StoreFrameDeliveryTest {
                                                        String dimension, long columnTimestamp,
                                                        long submissionOrder, ColumnBytes bytes,
                                                        int estimatedBytes, byte source) {
+            if (stageForPack(state, cx, cz, dimension, columnTimestamp, submissionOrder,
+                    bytes, estimatedBytes, source)) {
+                return true;
+            }
             if (state.wantsCompressedColumns()) bytes.frame();
             else bytes.raw();
             this.built.add(new Built(cx, cz, bytes, source));
             return true;
         }
+
+        @Override
+        protected boolean enqueueColumnPack(TestState state, ColumnPacker.Built pack) {
+            this.packs.add(pack);
+            return true;
+        }
     }
 
     private static final class Rig {
@@ -110,6 +122,10 @@ class StoreFrameDeliveryTest {
         final TestProcessor proc;
 
         Rig(boolean capableSession) {
+            this(capableSession, 0);
+        }
+
+        Rig(boolean capableSession, int prepareShards) {
             this.state = new TestState(this.uuid);
             this.state.markHandshakeComplete();
             this.state.setCapabilities(LSSConstants.CAPABILITY_VOXEL_COLUMNS);
@@ -119,6 +135,7 @@ class StoreFrameDeliveryTest {
             this.proc = new TestProcessor(this.players, this.reader);
             this.proc.attachStore(this.store);
             this.proc.attachWireCodec(codec);
+            this.proc.attachPrepareShards(prepareShards);
             this.proc.start();
         }
 
@@ -216,4 +233,63 @@ class StoreFrameDeliveryTest {
             rig.shutdown();
         }
     }
+
+    @Test
+    void preparedShardsWarmTheStoreFormSoEvenRawSessionsDepositFrames() {
+        var rig = new Rig(false, 3);
+        try {
+            // Queued while the processing thread idles, so one drain takes them all.
+            int n = ColumnPrepareShards.MIN_PARALLEL_TASKS;
+            var queue = rig.reader.getPlayerQueue(rig.uuid);
+            byte[] raw = compressibleRaw();
+            for (int i = 0; i < n; i++) {
+                queue.add(new ChunkReadResult(rig.uuid, i, 9, raw, DIM,
+                        raw.length + LSSConstants.ESTIMATED_COLUMN_OVERHEAD_BYTES, TS,
+                        false, false, false, 10L + i));
+            }
+            rig.await(() -> rig.store.frameDeposits.size() == n, "frame deposits");
+            assertTrue(rig.store.rawDeposits.isEmpty(),
+                    "the shard-built frame is the deposit, even for a raw recipient");
+            var diag = rig.proc.getDiagnostics();
+            assertEquals(n, diag.getTotalColumnsPrepared());
+            for (var built : rig.proc.built) {
+                assertTrue(built.bytes().rawMaterialized(), "raw sessions still ship raw");
+            }
+        } finally {
+            rig.shutdown();
+        }
+    }
+
+    @Test
+    void aPackedSessionPacksRawResultsAndShipsAStoredFrameAlone() {
+        var rig = new Rig(true);
+        try {
+            rig.state.setWantsPackedColumns(true);
+            var queue = rig.reader.getPlayerQueue(rig.uuid);
+            byte[] raw = compressibleRaw();
+            byte[] frame = codec.compress(raw);
+            // Queued while the processing thread idles, so one drain takes them all.
+            queue.add(new ChunkReadResult(rig.uuid, 0, 0, raw, DIM,
+                    raw.length + LSSConstants.ESTIMATED_COLUMN_OVERHEAD_BYTES, TS,
+                    false, false, false, 20L));
+            queue.add(new ChunkReadResult(rig.uuid, 1, 0, raw.clone(), DIM,
+                    raw.length + LSSConstants.ESTIMATED_COLUMN_OVERHEAD_BYTES, TS,
+                    false, false, false, 21L));
+            queue.add(new ChunkReadResult(rig.uuid, 2, 0, null, DIM,
+                    raw.length + LSSConstants.ESTIMATED_COLUMN_OVERHEAD_BYTES, TS,
+                    false, false, false, true, 22L, 0L, frame, raw.length));
+            rig.await(() -> !rig.proc.packs.isEmpty() && !rig.proc.built.isEmpty(), "delivery");
+            var pack = rig.proc.packs.poll();
+            assertArrayEquals(new long[]{PositionUtil.packPosition(0, 0),
+                    PositionUtil.packPosition(1, 0)}, pack.members());
+            assertTrue(rig.state.hasEnqueuedColumn(PositionUtil.packPosition(0, 0)),
+                    "members stay counted enqueued until the pack departs");
+            var alone = rig.proc.built.poll();
+            assertEquals(2, alone.cx());
+            assertSame(frame, alone.bytes().frame(), "the stored frame ships verbatim");
+            assertTrue(rig.proc.built.isEmpty() && rig.proc.packs.isEmpty());
+        } finally {
+            rig.shutdown();
+        }
+    }
 }
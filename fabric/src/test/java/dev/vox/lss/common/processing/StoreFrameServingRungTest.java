@@ -101,6 +101,32 @@ class StoreFrameServingRungTest {
         r.shutdown();
     }
 
+    @Test
+    void dedupRowHitDeliversTheReassembledRawBody() {
+        // A section-dedup row keeps no frame: the store hands back the raw v20 body
+        // (tagged 21) and the delivery compresses it per recipient — never a compress
+        // on the reader pool.
+        var r = reader(true);
+        var store = new StubStore();
+        byte[] raw = new byte[1024];
+        for (int i = 0; i < raw.length; i++) raw[i] = (byte) (i * 7);
+        store.frameAnswer = new LodStoreService.FrameHit(raw, raw.length, 321L,
+                LodStoreService.WIREFMT_V20_SECTIONS);
+        r.attachStore(store);
+
+        r.submitRead(PLAYER, 2, 2, DIM, 1L, () -> {
+            throw new AssertionError("the NBT operation must not run on a dedup-row hit");
+        });
+        var result = awaitResult(r);
+
+        assertTrue(result.fromStore());
+        assertNull(result.frameBytes(), "a dedup row delivers RAW, there is no stored frame");
+        assertSame(raw, result.sectionBytes());
+        assertEquals(321L, result.columnTimestamp());
+        assertEquals(1, store.diag.getHits());
+        r.shutdown();
+    }
+
     // ---- C4: pre-migration wirefmt=19 rows translate at the rung ----
 
     @Test
@@ -279,4 +305,56 @@ class StoreFrameServingRungTest {
         assertEquals(1, store.diag.getErrors());
         r.shutdown();
     }
+
+    /** Coalesced lookups: submits queued behind a busy worker join one open batch, and
+     *  the first of them to run resolves all with a single getFrameBatch — no per-column
+     *  getFrame — while each member still books its own hit and delivers its own result. */
+    @Test
+    void backloggedSubmitsShareOneBatchedLookup() throws Exception {
+        var r = reader(true);
+        var entered = new java.util.concurrent.CountDownLatch(1);
+        var release = new java.util.concurrent.CountDownLatch(1);
+        var batchSizes = new java.util.concurrent.CopyOnWriteArrayList<Integer>();
+        var store = new StubStore() {
+            @Override public FrameHit[] getFrameBatch(String dimension, long[] packed) {
+                batchSizes.add(packed.length);
+                if (batchSizes.size() == 1) {
+                    entered.countDown();
+                    try {
+                        assertTrue(release.await(5, java.util.concurrent.TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+                var out = new FrameHit[packed.length];
+                for (int i = 0; i < packed.length; i++) {
+                    out[i] = new FrameHit(new byte[]{1}, 1,
+                            dev.vox.lss.common.PositionUtil.unpackX(packed[i]));
+                }
+                return out;
+            }
+        };
+        r.attachStore(store);
+        r.submitRead(PLAYER, 0, 0, DIM, 0L, () -> { throw new AssertionError("hit expected"); });
+        assertTrue(entered.await(2, java.util.concurrent.TimeUnit.SECONDS));
+        // The single worker is busy resolving the first batch: these queue behind it.
+        for (int x = 1; x <= 5; x++) {
+            r.submitRead(PLAYER, x, 0, DIM, x, () -> { throw new AssertionError("hit expected"); });
+        }
+        release.countDown();
+        var seen = new java.util.HashSet<Long>();
+        for (int i = 0; i < 6; i++) {
+            var result = awaitResult(r);
+            assertTrue(result.fromStore());
+            assertEquals(result.chunkX(), result.columnTimestamp(), "each member reads its own slot");
+            seen.add(result.columnTimestamp());
+        }
+        assertEquals(6, seen.size());
+        assertEquals(java.util.List.of(1, 5), batchSizes, "one lookup for the whole backlog");
+        assertEquals(0, store.getFrameCalls, "members never fall back to single lookups");
+        assertEquals(6, store.diag.getHits(), "hit/miss stays one-to-one with submissions");
+        assertEquals(2, r.getDiag().getStoreBatchesCount());
+        assertTrue(r.getDiagnostics().contains("store_batch=3.0"), r.getDiagnostics());
+        r.shutdown();
+    }
 }
@@ -145,6 +145,29 @@ class TimestampSaveSchedulerTest {
                 "the discarded snapshot must not be written by the stale drain");
     }
 
+    @Test
+    void aSupersededJournalDeltaIsFoldedIntoItsSuccessor(@TempDir Path tempDir) {
+        var executor = new RecordingExecutor();
+        var scheduler = new TimestampSaveScheduler(executor, tempDir);
+        var live = new ColumnTimestampCache(1024, 0);
+        live.load(tempDir);
+        live.put(DIM, 1L, B + 100, 0L);
+        scheduler.schedule(live.snapshotForSave()); // full base
+        executor.runNext();
+
+        long far = dev.vox.lss.common.PositionUtil.packPosition(200, 0);
+        live.put(DIM, far, B + 200, 0L);
+        scheduler.schedule(live.snapshotForSave()); // delta: the far tile
+        live.invalidate(DIM, new long[]{1L});
+        scheduler.schedule(live.snapshotForSave()); // delta: a tombstone, lands in the slot
+        assertEquals(2, executor.executeCalls);
+        executor.runNext();
+
+        assertEquals(200L, loadedGet(tempDir, far),
+                "the superseded delta's tile still reaches the journal");
+        assertEquals(0L, loadedGet(tempDir, 1L));
+    }
+
     // ---- Wiring pin: the REAL processor must route due saves through the scheduler ----
 
     private static final class TestState extends AbstractPlayerRequestState<Object> {
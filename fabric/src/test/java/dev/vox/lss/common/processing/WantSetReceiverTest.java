@@ -0,0 +1,55 @@
+package dev.vox.lss.common.processing;
+
+import dev.vox.lss.common.PositionUtil;
+import dev.vox.lss.common.wire.WantSetWire;
+import dev.vox.lss.common.wire.WireFormatException;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The server's held bases: a diff applies to the session's own last declaration, a diff
+ * it cannot apply is dropped and counted until the next whole frame, a malformed frame
+ * leaves the base alone, and the disconnect forgets the session.
+ */
+class WantSetReceiverTest {
+
+    private static final long[] POSITIONS = {PositionUtil.packPosition(0, 0),
+            PositionUtil.packPosition(1, 0), PositionUtil.packPosition(0, 1)};
+    private static final long[] TIMESTAMPS = {-1L, 1_750_000_000_000L, -1L};
+
+    @Test
+    void diffsApplyPerSessionAndStaleOnesWaitForAWholeFrame() {
+        var receiver = new WantSetReceiver();
+        var alice = new UUID(0, 1);
+        var bob = new UUID(0, 2);
+        var encoder = new WantSetWire.Encoder();
+        byte[] whole = encoder.encode(0, 0, POSITIONS, TIMESTAMPS, 3);
+        byte[] diff = encoder.encode(0, 0, POSITIONS, TIMESTAMPS, 2);
+
+        assertEquals(3, receiver.accept(alice, whole).count());
+        assertEquals(2, receiver.accept(alice, diff).count());
+        assertNull(receiver.accept(bob, diff), "bob holds no base");
+        assertEquals(1, receiver.staleDiffs());
+
+        encoder.reset();
+        assertArrayEquals(POSITIONS, receiver.accept(bob, encoder.encode(0, 0, POSITIONS,
+                TIMESTAMPS, 3)).positions(), "the whole frame heals it");
+    }
+
+    @Test
+    void aMalformedFrameKeepsTheBaseAndTheDisconnectDropsIt() {
+        var receiver = new WantSetReceiver();
+        var uuid = new UUID(0, 3);
+        var encoder = new WantSetWire.Encoder();
+        receiver.accept(uuid, encoder.encode(0, 0, POSITIONS, TIMESTAMPS, 3));
+        assertThrows(WireFormatException.class, () -> receiver.accept(uuid, new byte[]{9}));
+        assertNotNull(receiver.accept(uuid, encoder.encode(0, 0, POSITIONS, TIMESTAMPS, 3)));
+
+        receiver.onDisconnect(uuid);
+        assertEquals(0, receiver.sessionCount());
+        assertNull(receiver.accept(uuid, encoder.encode(0, 0, POSITIONS, TIMESTAMPS, 3)));
+    }
+}
@@ -0,0 +1,148 @@
+package dev.vox.lss.common.region;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pins the whole-region reader's slicing against synthesized {@code .mca} images: clean
+ * records come out byte-exact with their version byte, and every shape the per-chunk path
+ * treats specially (external stream, zero length, a length past its sectors, a location
+ * past EOF or inside the header) is handed back as needsFallback — never as absent.
+ */
+class RegionFileBulkReaderTest {
+
+    @TempDir
+    Path dir;
+
+    /** Lays records out from sector 2 on; {@code version} 0x80-flagged = external. */
+    private static final class Image {
+        final ByteBuffer buf = ByteBuffer.allocate(64 * 4096);
+        int nextSector = 2;
+        int end = 8192;
+
+        Image record(int slot, byte version, byte[] payload) {
+            int sectors = (payload.length + 5 + 4095) / 4096;
+            this.buf.putInt(slot * 4, (this.nextSector << 8) | sectors);
+            int at = this.nextSector * 4096;
+            this.buf.putInt(at, payload.length + 1);
+            this.buf.put(at + 4, version);
+            this.buf.put(at + 5, payload);
+            this.nextSector += sectors;
+            this.end = this.nextSector * 4096;
+            return this;
+        }
+
+        Image location(int slot, int word) {
+            this.buf.putInt(slot * 4, word);
+            return this;
+        }
+
+        Path write(Path mca) throws Exception {
+            Files.write(mca, java.util.Arrays.copyOf(this.buf.array(), this.end));
+            return mca;
+        }
+    }
+
+    private static byte[] bytes(int fill, int length) {
+        byte[] b = new byte[length];
+        java.util.Arrays.fill(b, (byte) fill);
+        return b;
+    }
+
+    @Test
+    void cleanRecordsSliceByteExactWithTheirVersion() throws Exception {
+        var mca = new Image()
+                .record(0, (byte) 2, bytes(7, 100))
+                .record(37, (byte) 4, bytes(9, 5000)) // spans two sectors
+                .record(1023, (byte) 2, bytes(3, 1))
+                .write(this.dir.resolve("r.0.0.mca"));
+
+        var records = RegionFileBulkReader.read(mca);
+        assertNotNull(records);
+        assertEquals(3, records.recordCount());
+        assertEquals(Files.size(mca), records.fileBytes());
+        assertArrayEquals(bytes(9, 5000), records.payload(37));
+        assertEquals(4, records.version(37));
+        assertArrayEquals(bytes(7, 100), records.payload(0));
+        assertArrayEquals(bytes(3, 1), records.payload(1023));
+        assertFalse(records.hasRecord(1));
+        assertFalse(records.needsFallback(1), "location 0 is plainly absent");
+        assertNull(records.payload(1));
+        assertEquals((3 << 8) | 2, records.location(37), "the raw location word is kept");
+    }
+
+    @Test
+    void everySpecialShapeFallsBackInsteadOfReadingAbsent() throws Exception {
+        var image = new Image()
+                .record(1, (byte) (2 | 0x80), new byte[0])   // external .mcc stream
+                .record(2, (byte) 2, bytes(1, 10));
+        image.buf.putInt(3 * 4096, 0);                        // slot 2: zero length
+        image.record(3, (byte) 2, bytes(1, 10));
+        image.buf.putInt(4 * 4096, 9000);                     // slot 3: past its one sector
+        image.record(4, (byte) 2, bytes(5, 20))               // the one clean record
+                .location(5, (40 << 8) | 1)                   // past EOF
+                .location(6, (1 << 8) | 1);                   // inside the header
+        var records = RegionFileBulkReader.read(image.write(this.dir.resolve("r.1.1.mca")));
+
+        assertNotNull(records);
+        assertEquals(1, records.recordCount());
+        assertTrue(records.hasRecord(4));
+        for (int slot = 1; slot <= 6; slot++) {
+            if (slot == 4) continue;
+            assertFalse(records.hasRecord(slot), "slot " + slot);
+            assertTrue(records.needsFallback(slot), "slot " + slot + " must read per chunk");
+        }
+    }
+
+    @Test
+    void aSlotRelocatedDuringTheReadFallsBackInsteadOfServingItsOldSectors() throws Exception {
+        var image = new Image()
+                .record(0, (byte) 2, bytes(7, 100))
+                .record(1, (byte) 2, bytes(8, 100))
+                .record(2, (byte) 2, bytes(9, 100));
+        var records = RegionFileBulkReader.parse(image.buf.array(), image.end);
+        assertEquals(3, records.recordCount());
+
+        // A save moved slot 1 and cleared slot 2 between the image and the table re-read.
+        var live = ByteBuffer.allocate(4096).put(image.buf.array(), 0, 4096).flip();
+        live.putInt(1 * 4, (9 << 8) | 1);
+        live.putInt(2 * 4, 0);
+        assertEquals(2, records.demoteMoved(live));
+
+        assertTrue(records.hasRecord(0), "an unmoved word still serves");
+        assertArrayEquals(bytes(7, 100), records.payload(0));
+        for (int slot = 1; slot <= 2; slot++) {
+            assertFalse(records.hasRecord(slot), "slot " + slot);
+            assertTrue(records.needsFallback(slot), "slot " + slot + " must read per chunk");
+        }
+        assertEquals(1, records.recordCount());
+    }
+
+    @Test
+    void aSettledReadOfAQuietFileServesEveryRecord() throws Exception {
+        var mca = new Image()
+                .record(0, (byte) 2, bytes(7, 100))
+                .record(37, (byte) 4, bytes(9, 5000))
+                .write(this.dir.resolve("r.3.3.mca"));
+
+        var records = RegionFileBulkReader.readSettled(mca);
+        assertNotNull(records);
+        assertEquals(2, records.recordCount());
+        assertArrayEquals(bytes(9, 5000), records.payload(37));
+        assertNull(RegionFileBulkReader.readSettled(this.dir.resolve("r.9.9.mca")));
+    }
+
+    @Test
+    void aShortOrMissingFileIsDeclined() throws Exception {
+        Path shortFile = this.dir.resolve("r.2.2.mca");
+        Files.write(shortFile, new byte[4096]);
+        assertNull(RegionFileBulkReader.read(shortFile), "a cut header is no region image");
+        assertNull(RegionFileBulkReader.read(this.dir.resolve("r.9.9.mca")));
+    }
+}
@@ -0,0 +1,110 @@
+package dev.vox.lss.common.region;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pins the shared region-header cache: a settled header is read once and then served
+ * from memory while its mtime holds, an mtime change re-reads, an unsettled
+ * (current-second) mtime is never retained, and doubt (short or missing file) is null
+ * while a location-only file still reports presence.
+ */
+class RegionHeaderCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private Path writeRegion(String name, int slot, int saveSecond) throws Exception {
+        Path mca = this.dir.resolve(name);
+        var buf = ByteBuffer.allocate(8192);
+        buf.putInt(slot * 4, 0x0000_0201);
+        buf.putInt(4096 + slot * 4, saveSecond);
+        Files.write(mca, buf.array());
+        return mca;
+    }
+
+    private static void settle(Path mca) throws Exception {
+        Files.setLastModifiedTime(mca, FileTime.fromMillis(System.currentTimeMillis() - 5000));
+    }
+
+    @Test
+    void aSettledHeaderIsReadOnceWhileItsMtimeHolds() throws Exception {
+        var cache = new RegionHeaderCache(16);
+        Path mca = writeRegion("r.0.0.mca", 37, 1_700_000_000);
+        settle(mca);
+        var first = cache.read(mca);
+        assertNotNull(first);
+        assertTrue(first.present(37));
+        assertFalse(first.present(36));
+        assertEquals(1, first.presentCount());
+        assertEquals(1_700_000_000, first.saveSeconds()[37]);
+        long mtime = Files.getLastModifiedTime(mca).toMillis();
+        assertSame(first, cache.read(mca, mtime), "a matching stat is a cache hit");
+        assertSame(first, cache.read(mca));
+        assertEquals(1, cache.reads());
+        assertEquals(2, cache.hits());
+        assertEquals(" hdr=2h/1r", cache.diagToken());
+
+        writeRegion("r.0.0.mca", 38, 1_700_000_100);
+        Files.setLastModifiedTime(mca, FileTime.fromMillis(mtime + 2000));
+        var changed = cache.read(mca);
+        assertTrue(changed.present(38), "a changed mtime must re-read the header");
+        assertEquals(2, cache.reads());
+    }
+
+    @Test
+    void anUnsettledMtimeIsNeverRetained() throws Exception {
+        var cache = new RegionHeaderCache(16);
+        Path mca = writeRegion("r.0.0.mca", 1, 1_700_000_000);
+        Files.setLastModifiedTime(mca, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+        assertNotNull(cache.read(mca));
+        assertNotNull(cache.read(mca));
+        assertEquals(2, cache.reads(), "a same-second save could hide behind an equal mtime");
+    }
+
+    @Test
+    void shortAndMissingFilesAreNull() throws Exception {
+        var cache = new RegionHeaderCache(16);
+        Path mca = this.dir.resolve("r.0.0.mca");
+        Files.write(mca, new byte[100]);
+        settle(mca);
+        assertNull(cache.read(mca));
+        assertNull(cache.read(this.dir.resolve("r.9.9.mca")));
+        // A location table without its second table: presence only.
+        Path locOnly = this.dir.resolve("r.1.1.mca");
+        var buf = ByteBuffer.allocate(4096);
+        buf.putInt(7 * 4, 0x0000_0201);
+        Files.write(locOnly, buf.array());
+        settle(locOnly);
+        var header = cache.read(locOnly);
+        assertTrue(header.present(7));
+        assertNull(header.saveSeconds());
+    }
+
+    @Test
+    void theCapEvictsTheLeastRecentlyUsedHeader() throws Exception {
+        var cache = new RegionHeaderCache(2);
+        Path a = writeRegion("r.0.0.mca", 0, 1);
+        Path b = writeRegion("r.1.0.mca", 0, 1);
+        Path c = writeRegion("r.2.0.mca", 0, 1);
+        settle(a);
+        settle(b);
+        settle(c);
+        cache.read(a);
+        cache.read(b);
+        cache.read(a);   // a is now the most recent
+        cache.read(c);   // evicts b
+        assertEquals(3, cache.reads());
+        cache.read(a);
+        assertEquals(3, cache.reads());
+        cache.read(b);
+        assertEquals(4, cache.reads());
+    }
+}
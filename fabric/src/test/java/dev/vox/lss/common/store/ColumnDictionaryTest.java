@@ -0,0 +1,108 @@
+package dev.vox.lss.common.store;
+
+import dev.vox.lss.common.LSSConstants;
+import dev.vox.lss.common.PositionUtil;
+import dev.vox.lss.common.store.SectionDedupTest.Spec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * The shared column dictionary: its content is pinned to its version, the dictionary
+ * codec round-trips and beats the plain frame on a v20 body, the handshake negotiation
+ * accepts only our version, and a dictionary store is a different codec (rebuilt on a
+ * flip, frames that only decode with the dictionary).
+ */
+class ColumnDictionaryTest {
+
+    private static final String OW = "minecraft:overworld";
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    void contentIsPinnedToTheVersion() {
+        // Changing the dictionary content without bumping VERSION would make a client and
+        // server that agree on the version decode each other's frames as garbage.
+        assertEquals(1, ColumnDictionary.VERSION);
+        assertEquals(1077961112L, ColumnDictionary.checksum(),
+                "dictionary content changed: bump ColumnDictionary.VERSION and re-pin");
+    }
+
+    @Test
+    void dictionaryFramesRoundTripAndBeatPlainFrames() {
+        var plain = StoreCodec.zstdOrNull();
+        var dict = StoreCodec.zstdWithDictionaryOrNull();
+        assumeTrue(plain != null && dict != null);
+        byte[] body = SectionDedupTest.column(new Spec(-4, 0), new Spec(0, 1),
+                new Spec(3, 2), new Spec(7, 0));
+        byte[] frame = dict.compress(body);
+        assertEquals(body.length, dict.declaredContentSize(frame),
+                "dictionary frames declare their size (the bomb guard reads it)");
+        assertArrayEquals(body, dict.decompress(frame, body.length));
+        assertTrue(frame.length < plain.compress(body).length);
+        assertThrows(RuntimeException.class, () -> plain.decompress(frame, body.length),
+                "a dictionary frame does not decode without the dictionary");
+        assertNotEquals(plain.name(), dict.name());
+        assertTrue(dict.usesDictionary());
+        assertFalse(plain.usesDictionary());
+    }
+
+    @Test
+    void negotiationAcceptsOnlyOurVersion() {
+        int caps = LSSConstants.CAPABILITY_VOXEL_COLUMNS | LSSConstants.CAPABILITY_ZSTD_COLUMNS
+                | ColumnDictionary.capabilityBits();
+        assertTrue(ColumnDictionary.declaredBy(caps));
+        assertEquals(LSSConstants.CAPABILITY_VOXEL_COLUMNS,
+                caps & LSSConstants.CAPABILITY_VOXEL_COLUMNS, "existing bits are untouched");
+        int otherVersion = (caps & ~(0xFF << LSSConstants.CAPABILITY_DICTIONARY_VERSION_SHIFT))
+                | ((ColumnDictionary.VERSION + 1) << LSSConstants.CAPABILITY_DICTIONARY_VERSION_SHIFT);
+        assertFalse(ColumnDictionary.declaredBy(otherVersion));
+        assertFalse(ColumnDictionary.declaredBy(caps & ~LSSConstants.CAPABILITY_ZSTD_DICTIONARY));
+    }
+
+    private SqliteLodStore open(boolean dictionary) throws Exception {
+        var env = new SqliteLodStore.Environment(this.tmp.resolve("store"), "26.2-test", 20,
+                d -> this.tmp.resolve("region"), d -> "", 0, Long.MAX_VALUE, "", false,
+                dictionary);
+        SqliteLodStore store = SqliteLodStore.createOrNull(LodStoreMode.FULL, env,
+                new LodStoreDiagnostics());
+        assertNotNull(store, "SQLite engine must be available on the test JVM");
+        assertTrue(store.awaitSweep(10_000), "startup sweep must complete");
+        return store;
+    }
+
+    @Test
+    void aDictionaryStoreServesDictionaryFramesAndAFlipRebuilds() throws Exception {
+        var dict = StoreCodec.zstdWithDictionaryOrNull();
+        assumeTrue(dict != null);
+        long p = PositionUtil.packPosition(5, 6);
+        byte[] body = SectionDedupTest.column(new Spec(0, 1), new Spec(1, 0));
+        var store = open(true);
+        try {
+            assertTrue(store.frameCodec().usesDictionary());
+            store.deposit(OW, p, body, 100L, 90L);
+            LodStoreService.FrameHit hit = null;
+            for (int i = 0; i < 400 && hit == null; i++) {
+                hit = store.getFrame(OW, p);
+                if (hit == null) Thread.sleep(25);
+            }
+            assertNotNull(hit);
+            assertArrayEquals(body, dict.decompress(hit.frame(), hit.usize()));
+            assertArrayEquals(body, store.get(OW, p).sectionBytes());
+        } finally {
+            store.shutdown();
+        }
+        store = open(false);
+        try {
+            assertFalse(store.frameCodec().usesDictionary());
+            assertNull(store.get(OW, p), "a codec flip drops and rebuilds the store");
+        } finally {
+            store.shutdown();
+        }
+    }
+}
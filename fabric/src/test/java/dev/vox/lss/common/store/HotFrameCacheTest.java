@@ -0,0 +1,105 @@
+package dev.vox.lss.common.store;
+
+import dev.vox.lss.common.store.LodStoreService.FrameHit;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The store's off-heap hot-frame cache: the arena ring's second-chance eviction, the
+ * write-bracket guard that refuses a fill which raced a row write, and byte-exact
+ * serving under churn (an arena overlap bug would surface as another entry's bytes).
+ */
+class HotFrameCacheTest {
+
+    private static FrameHit frame(int fill, int length) {
+        byte[] b = new byte[length];
+        java.util.Arrays.fill(b, (byte) fill);
+        return new FrameHit(b, length * 4, 1000L + fill, 20);
+    }
+
+    @Test
+    void offOrUnreservableMeansNoCache() {
+        assertNull(HotFrameCache.createOrNull(0, new LodStoreDiagnostics()));
+        assertEquals("", new LodStoreDiagnostics().hotCacheToken(), "off keeps the status line unchanged");
+    }
+
+    @Test
+    void aHitEntrySurvivesTheWrapAndTheColdOneGoes() {
+        var diag = new LodStoreDiagnostics();
+        var cache = HotFrameCache.createOrNull(1600, diag); // 16 × 100-byte entries
+        assertNotNull(cache);
+        for (int i = 0; i < 16; i++) cache.put(0, i, frame(i, 100), cache.fillStamp());
+        assertEquals(16, cache.entryCount());
+        assertNotNull(cache.get(0, 0), "entry 0 is referenced");
+
+        cache.put(0, 16, frame(16, 100), cache.fillStamp());
+        assertNotNull(cache.get(0, 0), "a referenced entry gets its second chance");
+        assertNull(cache.get(0, 1), "the first unreferenced entry is the victim");
+        assertNotNull(cache.get(0, 16));
+        assertEquals(1, diag.getHotEvictions());
+        assertEquals(1600, diag.getHotBytes());
+    }
+
+    @Test
+    void aFillThatRacedAWriteIsRefused() {
+        var cache = HotFrameCache.createOrNull(1 << 16, new LodStoreDiagnostics());
+        cache.put(3, 42L, frame(1, 10), cache.fillStamp());
+        long stamp = cache.fillStamp();
+        int stripe = cache.beginWrite(3, 42L);
+        assertNull(cache.get(3, 42L), "the write drops the entry up front");
+
+        cache.put(3, 42L, frame(1, 10), stamp);
+        assertNull(cache.get(3, 42L), "no fill while the write is uncommitted");
+        cache.endWrites(new int[]{stripe}, 1);
+        cache.put(3, 42L, frame(1, 10), stamp);
+        assertNull(cache.get(3, 42L), "a lookup that started before the commit stays refused");
+
+        cache.put(3, 42L, frame(2, 10), cache.fillStamp());
+        assertEquals(2, cache.get(3, 42L).frame()[0], "a post-commit lookup fills");
+    }
+
+    @Test
+    void outsizedFramesAreSkippedAndAllAirIsCached() {
+        var cache = HotFrameCache.createOrNull(1600, new LodStoreDiagnostics());
+        cache.put(0, 1L, frame(1, 101), cache.fillStamp());
+        assertNull(cache.get(0, 1L), "above 1/16 of the arena is never cached");
+
+        cache.put(0, 2L, new FrameHit(new byte[0], 0, 77L, 20), cache.fillStamp());
+        FrameHit air = cache.get(0, 2L);
+        assertNotNull(air);
+        assertEquals(0, air.frame().length);
+        assertEquals(0, air.usize());
+        assertEquals(77L, air.columnTimestamp());
+        assertNull(cache.get(1, 2L), "dimensions are separate keys");
+    }
+
+    @Test
+    void churnAlwaysServesTheLastWrittenBytes() {
+        var cache = HotFrameCache.createOrNull(4096, new LodStoreDiagnostics());
+        var expected = new HashMap<Long, Integer>();
+        var rnd = new Random(11);
+        for (int step = 0; step < 50_000; step++) {
+            long pos = rnd.nextInt(200);
+            int op = rnd.nextInt(10);
+            if (op < 5) {
+                int fill = rnd.nextInt(250);
+                cache.put(0, pos, frame(fill, rnd.nextInt(257)), cache.fillStamp());
+                expected.put(pos, fill);
+            } else if (op < 6) {
+                cache.endWrites(new int[]{cache.beginWrite(0, pos)}, 1);
+                expected.remove(pos);
+            } else {
+                FrameHit hit = cache.get(0, pos);
+                if (hit == null) continue;
+                Integer fill = expected.get(pos);
+                assertNotNull(fill, "a dropped position must not serve");
+                assertEquals(1000L + fill, hit.columnTimestamp());
+                for (byte b : hit.frame()) assertEquals((byte) (int) fill, b, "step " + step);
+            }
+        }
+    }
+}
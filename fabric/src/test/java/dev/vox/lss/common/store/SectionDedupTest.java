@@ -0,0 +1,109 @@
+package dev.vox.lss.common.store;
+
+import dev.vox.lss.common.wire.IdentityDictionary;
+import dev.vox.lss.common.wire.WireSectionCursor;
+import dev.vox.lss.common.wire.WireSectionCursor.Layout;
+import dev.vox.lss.common.wire.WireSectionCursor.WireColumn;
+import dev.vox.lss.common.wire.WireSectionCursor.WireContainer;
+import dev.vox.lss.common.wire.WireSectionCursor.WireSection;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The byte-domain half of the store's section dedup: split bodies are self-contained
+ * and Y-normalized (the same section at two heights is ONE body), join reproduces the
+ * deposited bytes exactly, and anything that would not round-trip is refused.
+ */
+class SectionDedupTest {
+
+    /** One section's content: {@code variant 0} = all stone (single-value), else a
+     *  4-bit random mix seeded by the variant. */
+    record Spec(int sectionY, int variant) {}
+
+    /** A canonical v20 body (first-seen dictionary, blocks then biomes per section). */
+    static byte[] column(Spec... specs) {
+        var dict = new IdentityDictionary();
+        var sections = new ArrayList<WireSection>();
+        for (Spec spec : specs) {
+            WireContainer blocks;
+            int nonEmpty;
+            if (spec.variant() == 0) {
+                blocks = new WireContainer(0, new int[] { dict.indexOf("minecraft:stone") },
+                        new long[0]);
+                nonEmpty = 4096;
+            } else {
+                int[] palette = {
+                        dict.indexOf("minecraft:air"), dict.indexOf("minecraft:stone"),
+                        dict.indexOf("minecraft:ore_" + spec.variant()) };
+                int[] voxels = new int[4096];
+                var rng = new Random(spec.variant());
+                nonEmpty = 0;
+                for (int i = 0; i < voxels.length; i++) {
+                    voxels[i] = rng.nextInt(3);
+                    if (voxels[i] != 0) nonEmpty++;
+                }
+                blocks = new WireContainer(4, palette, WireSectionCursor.pack(voxels, 4));
+            }
+            var biomes = new WireContainer(0, new int[] { dict.indexOf("minecraft:plains") },
+                    new long[0]);
+            byte[] sky = new byte[2048];
+            java.util.Arrays.fill(sky, (byte) 0xFF);
+            sections.add(new WireSection(spec.sectionY(), nonEmpty, 0, blocks, biomes, null, sky));
+        }
+        return WireSectionCursor.emit(new WireColumn(dict.entries(), sections), Layout.V20);
+    }
+
+    @Test
+    void splitJoinRoundTripsAndSharesAcrossHeights() {
+        byte[] body = column(new Spec(-4, 1), new Spec(0, 2), new Spec(3, 1), new Spec(7, 0));
+        var split = SectionDedup.split(body);
+        assertNotNull(split);
+        assertArrayEquals(new int[] { -4, 0, 3, 7 }, split.sectionYs());
+        assertArrayEquals(split.bodies()[0], split.bodies()[2],
+                "the same content at two Ys is one body");
+        assertEquals(SectionDedup.sectionKey(split.bodies()[0]),
+                SectionDedup.sectionKey(split.bodies()[2]));
+        assertNotEquals(SectionDedup.sectionKey(split.bodies()[0]),
+                SectionDedup.sectionKey(split.bodies()[1]));
+        assertArrayEquals(body, SectionDedup.join(split.sectionYs(), split.bodies()));
+    }
+
+    @Test
+    void sectionBodiesAreSelfContained() {
+        var split = SectionDedup.split(column(new Spec(2, 3), new Spec(5, 0)));
+        assertNotNull(split);
+        var stone = WireSectionCursor.parse(split.bodies()[1], Layout.V20);
+        assertEquals(List.of("minecraft:stone", "minecraft:plains"), stone.dictionary(),
+                "a section body carries only its own identities");
+        assertEquals(0, stone.sections().get(0).sectionY());
+    }
+
+    @Test
+    void refusesWhatCannotRoundTrip() {
+        assertNull(SectionDedup.split(new byte[] { 1, 2, 3 }), "malformed");
+        assertNull(SectionDedup.split(WireSectionCursor.emit(
+                new WireColumn(List.of(), List.of()), Layout.V20)), "a clear has no sections");
+        // An unreferenced dictionary entry: valid v20, but reassembly would drop it.
+        var blocks = new WireContainer(0, new int[] { 1 }, new long[0]);
+        var biomes = new WireContainer(0, new int[] { 2 }, new long[0]);
+        byte[] foreign = WireSectionCursor.emit(new WireColumn(
+                List.of("minecraft:unused", "minecraft:stone", "minecraft:plains"),
+                List.of(new WireSection(0, 4096, 0, blocks, biomes, null, null))), Layout.V20);
+        assertNull(SectionDedup.split(foreign), "non-canonical bodies store whole");
+    }
+
+    @Test
+    void manifestRoundTrips() {
+        int[] ys = { -4, 0, 19 };
+        long[] keys = { 1L, -7L, Long.MAX_VALUE };
+        var m = SectionDedup.decodeManifest(SectionDedup.encodeManifest(ys, keys));
+        assertArrayEquals(ys, m.sectionYs());
+        assertArrayEquals(keys, m.keys());
+        assertThrows(RuntimeException.class, () -> SectionDedup.decodeManifest(new byte[] { 3, 0 }));
+    }
+}
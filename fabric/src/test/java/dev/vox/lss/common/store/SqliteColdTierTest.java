@@ -0,0 +1,240 @@
+package dev.vox.lss.common.store;
+
+import dev.vox.lss.common.PositionUtil;
+import dev.vox.lss.common.store.SectionDedupTest.Spec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * The cold tier ({@code lodStoreColdCompressionDays}): the batcher's walk recompresses
+ * rows whose deposit AND last serve are past the cutoff, both read forms hand back the
+ * same bytes afterwards, a recent serve or a re-deposit keeps a row (or puts it back) in
+ * the fast tier, and dedup rows tier their shared sections. Rows are deposited with the
+ * walk off and the store reopened with it on, so the walk's first pass sees them all;
+ * their region header is stamped before the deposits so the reopen sweep keeps them.
+ */
+class SqliteColdTierTest {
+
+    private static final String OW = "minecraft:overworld";
+    /** Acquisition second two days back: past a one-day cutoff, after the region stamps. */
+    private static final long TWO_DAYS_AGO = nowSec() - 2 * 86_400L;
+
+    @TempDir
+    Path tmp;
+
+    private static long nowSec() {
+        return System.currentTimeMillis() / 1000L;
+    }
+
+    /** A bare region header with the given chunks present, saved three days back — before
+     *  every deposit, so the reopen sweep leaves their rows alone. */
+    private void writeRegion(List<Long> present) throws Exception {
+        Path dir = Files.createDirectories(this.tmp.resolve("region"));
+        ByteBuffer buf = ByteBuffer.allocate(8192);
+        for (long pos : present) {
+            int idx = (PositionUtil.unpackX(pos) & 31) + ((PositionUtil.unpackZ(pos) & 31) << 5);
+            buf.putInt(idx * 4, (2 << 8) | 1);
+            buf.putInt(4096 + idx * 4, (int) (nowSec() - 3 * 86_400L));
+        }
+        Files.write(dir.resolve("r.0.0.mca"), buf.array());
+    }
+
+    private SqliteLodStore open(boolean sectionDedup, int coldDays) throws Exception {
+        var env = new SqliteLodStore.Environment(this.tmp.resolve("store"), "26.2-test", 20,
+                d -> this.tmp.resolve("region"), d -> "", 0, Long.MAX_VALUE, "", sectionDedup,
+                false, StoreEvictionPolicy.OLDEST, 0L, coldDays);
+        SqliteLodStore store = SqliteLodStore.createOrNull(LodStoreMode.FULL, env,
+                new LodStoreDiagnostics());
+        assertNotNull(store, "SQLite engine must be available on the test JVM");
+        assertTrue(store.awaitSweep(10_000), "startup sweep must complete");
+        return store;
+    }
+
+    private long scalar(String sql) throws Exception {
+        var ds = new org.sqlite.SQLiteDataSource();
+        ds.setUrl("jdbc:sqlite:" + this.tmp.resolve("store").resolve("store.db"));
+        try (Connection c = ds.getConnection(); Statement st = c.createStatement()) {
+            st.execute("PRAGMA busy_timeout=3000");
+            try (ResultSet rs = st.executeQuery(sql)) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private void execute(String sql) throws Exception {
+        var ds = new org.sqlite.SQLiteDataSource();
+        ds.setUrl("jdbc:sqlite:" + this.tmp.resolve("store").resolve("store.db"));
+        try (Connection c = ds.getConnection(); Statement st = c.createStatement()) {
+            st.execute("PRAGMA busy_timeout=3000");
+            st.execute(sql);
+        }
+    }
+
+    private long awaitScalar(String sql, long expect) throws Exception {
+        long v = scalar(sql);
+        for (int i = 0; i < 400 && v != expect; i++) {
+            Thread.sleep(25);
+            v = scalar(sql);
+        }
+        return v;
+    }
+
+    private static LodStoreService.StoreHit awaitHit(SqliteLodStore store, long pos)
+            throws Exception {
+        for (int i = 0; i < 400; i++) {
+            var hit = store.get(OW, pos);
+            if (hit != null) return hit;
+            Thread.sleep(25);
+        }
+        return null;
+    }
+
+    /** Word salad from a small vocabulary: the long-range repeats a higher level finds
+     *  and level 1 leaves on the table. */
+    private static byte[] compressibleRaw(int seed) {
+        String[] words = {"stone ", "deepslate ", "granite ", "andesite ", "dirt ",
+                "grass_block[snowy=false] ", "water[level=0] ", "oak_log[axis=y] ", "air "};
+        var random = new Random(seed);
+        var out = new StringBuilder();
+        while (out.length() < 16_384) out.append(words[random.nextInt(words.length)]);
+        return out.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    void oldRowsGoColdAndStillReadTheSameBytes() throws Exception {
+        var codec = StoreCodec.zstdOrNull();
+        assumeTrue(codec != null);
+        byte[][] raws = new byte[6][];
+        var positions = new ArrayList<Long>();
+        for (int i = 0; i < raws.length; i++) positions.add(PositionUtil.packPosition(i, 0));
+        writeRegion(positions);
+        var store = open(false, 0);
+        try {
+            for (int i = 0; i < raws.length; i++) {
+                raws[i] = compressibleRaw(i);
+                store.deposit(OW, positions.get(i), raws[i], 100L, TWO_DAYS_AGO);
+            }
+            for (long pos : positions) assertNotNull(awaitHit(store, pos));
+        } finally {
+            store.shutdown();
+        }
+        long fastBytes = scalar("SELECT sum(length(blob)) FROM lods_1");
+        assertEquals(0, scalar("SELECT count(*) FROM lods_1 WHERE ctier <> 0"),
+                "the walk is off at 0 days");
+
+        store = open(false, 1);
+        try {
+            assertEquals(raws.length, awaitScalar("SELECT count(*) FROM lods_1 WHERE ctier = 1",
+                    raws.length));
+            long coldBytes = scalar("SELECT sum(length(blob)) FROM lods_1");
+            assertTrue(coldBytes < fastBytes, coldBytes + " stored bytes, was " + fastBytes);
+            for (int i = 0; i < raws.length; i++) {
+                long pos = positions.get(i);
+                assertArrayEquals(raws[i], store.get(OW, pos).sectionBytes());
+                var frame = store.getFrame(OW, pos);
+                assertNotNull(frame, "a recompressed frame passes the frame integrity checks");
+                assertArrayEquals(raws[i], codec.decompress(frame.frame(), frame.usize()),
+                        "the cold frame is still a plain zstd frame");
+            }
+            var diag = store.diagnostics();
+            assertEquals(raws.length, diag.getColdRows());
+            assertEquals(fastBytes - coldBytes, diag.getColdBytesSaved());
+        } finally {
+            store.shutdown();
+        }
+    }
+
+    @Test
+    void aRecentServeOrAFreshDepositKeepsTheFastTier() throws Exception {
+        assumeTrue(StoreCodec.zstdOrNull() != null);
+        long idle = PositionUtil.packPosition(0, 0);
+        long served = PositionUtil.packPosition(1, 0);
+        long fresh = PositionUtil.packPosition(2, 0);
+        writeRegion(List.of(idle, served, fresh));
+        var store = open(false, 0);
+        try {
+            store.deposit(OW, idle, compressibleRaw(1), 100L, TWO_DAYS_AGO);
+            store.deposit(OW, served, compressibleRaw(2), 100L, TWO_DAYS_AGO);
+            store.deposit(OW, fresh, compressibleRaw(3), 100L, 0L); // stamped now
+            assertNotNull(awaitHit(store, fresh));
+        } finally {
+            store.shutdown();
+        }
+        execute("INSERT INTO access (dim, pos, atime, hits) VALUES (1, " + served + ", "
+                + System.currentTimeMillis() / 1000L + ", 1)");
+
+        store = open(false, 1);
+        try {
+            assertEquals(1, awaitScalar("SELECT count(*) FROM lods_1 WHERE ctier = 1", 1));
+            assertEquals(1, scalar("SELECT ctier FROM lods_1 WHERE pos = " + idle));
+            assertEquals(0, scalar("SELECT ctier FROM lods_1 WHERE pos = " + served),
+                    "served within the window");
+            assertEquals(0, scalar("SELECT ctier FROM lods_1 WHERE pos = " + fresh),
+                    "deposited within the window");
+            assertTrue(store.diagnostics().coldTierToken().startsWith(" cold=1 cold_saved="),
+                    store.diagnostics().coldTierToken());
+
+            byte[] rewarmed = compressibleRaw(4);
+            store.deposit(OW, idle, rewarmed, 200L, 0L);
+            assertEquals(0, awaitScalar("SELECT ctier FROM lods_1 WHERE pos = " + idle, 0),
+                    "a re-deposit writes the row back at the fast level");
+            assertArrayEquals(rewarmed, awaitHit(store, idle).sectionBytes());
+        } finally {
+            store.shutdown();
+        }
+    }
+
+    @Test
+    void dedupRowsTierTheirSharedSections() throws Exception {
+        assumeTrue(StoreCodec.zstdOrNull() != null);
+        long a = PositionUtil.packPosition(0, 0);
+        long b = PositionUtil.packPosition(1, 0);
+        byte[] bodyA = SectionDedupTest.column(new Spec(0, 1), new Spec(1, 2), new Spec(2, 0));
+        byte[] bodyB = SectionDedupTest.column(new Spec(0, 2), new Spec(5, 1), new Spec(6, 0));
+        writeRegion(List.of(a, b));
+        var store = open(true, 0);
+        try {
+            store.deposit(OW, a, bodyA, 100L, TWO_DAYS_AGO);
+            store.deposit(OW, b, bodyB, 100L, TWO_DAYS_AGO);
+            assertNotNull(awaitHit(store, a));
+            assertNotNull(awaitHit(store, b));
+        } finally {
+            store.shutdown();
+        }
+        assertEquals(2, scalar("SELECT count(*) FROM lods_1 WHERE wirefmt = 21"));
+
+        store = open(true, 1);
+        try {
+            assertEquals(2, awaitScalar("SELECT count(*) FROM lods_1 WHERE ctier = 1", 2));
+            assertEquals(0, scalar("SELECT count(*) FROM sections WHERE ctier = 0"),
+                    "every referenced section was tiered, shared ones once");
+            assertArrayEquals(bodyA, store.get(OW, a).sectionBytes());
+            var frame = store.getFrame(OW, b);
+            assertNotNull(frame);
+            assertArrayEquals(bodyB, frame.frame(), "a dedup row serves its reassembled raw body");
+        } finally {
+            store.shutdown();
+        }
+    }
+
+    @Test
+    void theStatusSlotIsEmptyWhileTheWalkIsOff() {
+        assertEquals("", new LodStoreDiagnostics().coldTierToken(),
+                "off keeps the status line unchanged");
+    }
+}
@@ -168,4 +168,120 @@ class SqliteFrameServingTest {
             store.shutdown();
         }
     }
+
+    /** The batched lookup answers exactly what one getFrame per position answers —
+     *  across region and sign boundaries, with all-air, absent, and repeated positions —
+     *  and a poisoned row in the batch is purged without failing its neighbours. */
+    @Test
+    void frameBatchMatchesSingleLookupsAcrossRegions() throws Exception {
+        var codec = StoreCodec.zstdOrNull();
+        assumeTrue(codec != null);
+        var store = open();
+        try {
+            long[] stored = {
+                    PositionUtil.packPosition(0, -1), PositionUtil.packPosition(0, 0),
+                    PositionUtil.packPosition(0, 31), PositionUtil.packPosition(0, 32),
+                    PositionUtil.packPosition(-1, -33), PositionUtil.packPosition(40, 5)};
+            for (int i = 0; i < stored.length; i++) {
+                store.deposit(OW, stored[i], realisticRaw(), 500L + i, 100L);
+            }
+            long air = PositionUtil.packPosition(1, 1);
+            store.deposit(OW, air, new byte[0], 600L, 100L);
+            for (long p : stored) assertNotNull(awaitFrame(store, OW, p));
+            assertNotNull(awaitFrame(store, OW, air));
+
+            long absent = PositionUtil.packPosition(0, 30); // inside a seek's interval
+            long[] ask = {stored[3], absent, stored[0], air, stored[1], stored[4],
+                    stored[2], stored[5], PositionUtil.packPosition(99, 99), stored[1]};
+            FrameHit[] batch = store.getFrameBatch(OW, ask);
+            assertEquals(ask.length, batch.length);
+            for (int i = 0; i < ask.length; i++) {
+                FrameHit single = store.getFrame(OW, ask[i]);
+                if (single == null) {
+                    assertNull(batch[i], "slot " + i);
+                    continue;
+                }
+                assertNotNull(batch[i], "slot " + i);
+                assertEquals(single.usize(), batch[i].usize());
+                assertEquals(single.columnTimestamp(), batch[i].columnTimestamp());
+                assertArrayEquals(single.frame(), batch[i].frame());
+            }
+            assertEquals(0, batch[3].usize(), "all-air keeps the empty-frame shape");
+
+            var ds = new org.sqlite.SQLiteDataSource();
+            ds.setUrl("jdbc:sqlite:" + this.tmp.resolve("store").resolve("store.db"));
+            try (var conn = ds.getConnection(); Statement st = conn.createStatement()) {
+                String table;
+                try (var rs = st.executeQuery("SELECT name FROM sqlite_master"
+                        + " WHERE type='table' AND name LIKE 'lods%'")) {
+                    assertTrue(rs.next());
+                    table = rs.getString(1);
+                }
+                st.execute("UPDATE " + table + " SET blob = X'DEADBEEF' WHERE pos=" + stored[1]);
+            }
+            FrameHit[] after = store.getFrameBatch(OW, new long[]{stored[0], stored[1], stored[2]});
+            assertNotNull(after[0]);
+            assertNull(after[1], "the corrupt row reads as a miss");
+            assertNotNull(after[2], "its neighbours in the same seek still serve");
+            for (int i = 0; i < 400 && store.getFrame(OW, stored[1]) != null; i++) Thread.sleep(25);
+            assertNull(store.getFrame(OW, stored[1]), "the poisoned row is purged");
+        } finally {
+            store.shutdown();
+        }
+    }
+
+    /** The hot-frame cache answers repeat lookups off-heap, but a newer deposit, a
+     *  deletion, or an invalidation over a cached position is never answered with the
+     *  cached bytes — through any read form. */
+    @Test
+    void hotCacheNeverOutlivesItsRow() throws Exception {
+        var codec = StoreCodec.zstdOrNull();
+        assumeTrue(codec != null);
+        var diag = new LodStoreDiagnostics();
+        var env = new SqliteLodStore.Environment(this.tmp.resolve("store"), "26.2-test", WIRE,
+                d -> this.tmp.resolve("region"), d -> "", 0, Long.MAX_VALUE, "", false, false,
+                StoreEvictionPolicy.OLDEST, 1L << 20);
+        SqliteLodStore store = SqliteLodStore.createOrNull(LodStoreMode.FULL, env, diag);
+        assertNotNull(store);
+        assertTrue(store.awaitSweep(10_000));
+        try {
+            long p = PositionUtil.packPosition(7, -3);
+            byte[] first = realisticRaw();
+            store.deposit(OW, p, first, 111L, 100L);
+            assertNotNull(awaitFrame(store, OW, p));
+            long hitsBefore = diag.getHotHits();
+            FrameHit cached = store.getFrame(OW, p);
+            assertEquals(hitsBefore + 1, diag.getHotHits(), "a repeat lookup is a hot hit");
+            assertArrayEquals(first, codec.decompress(cached.frame(), cached.usize()));
+            assertArrayEquals(first, store.get(OW, p).sectionBytes(), "raw form via the cache");
+            assertTrue(diag.hotCacheToken().startsWith(" hot=0/1MB hot_hit="),
+                    diag.hotCacheToken());
+
+            byte[] second = realisticRaw();
+            second[0] ^= 1;
+            store.deposit(OW, p, second, 222L, 200L);
+            for (int i = 0; i < 400; i++) {
+                FrameHit hit = store.getFrame(OW, p);
+                if (hit.columnTimestamp() == 222L) break;
+                assertArrayEquals(first, codec.decompress(hit.frame(), hit.usize()),
+                        "until the replace lands, only the old row's own bytes serve");
+                Thread.sleep(25);
+            }
+            for (int i = 0; i < 3; i++) {
+                FrameHit hit = store.getFrame(OW, p);
+                assertEquals(222L, hit.columnTimestamp(), "the replaced frame never returns");
+                assertArrayEquals(second, codec.decompress(hit.frame(), hit.usize()));
+            }
+
+            store.invalidate(OW, new long[]{p});
+            assertNull(store.getFrame(OW, p), "the tombstone gates the cache");
+            assertNull(store.getFrameBatch(OW, new long[]{p})[0]);
+            // The batcher's delete drops the (only) entry from the arena.
+            for (int i = 0; i < 400 && diag.getHotBytes() > 0; i++) Thread.sleep(25);
+            assertEquals(0, diag.getHotBytes(), "the applied delete dropped the entry");
+            assertNull(store.get(OW, p));
+        } finally {
+            store.shutdown();
+        }
+    }
 }
@@ -893,6 +893,46 @@ class SqliteLodStoreTest {
         return alive;
     }
 
+    /** The lru policy sheds never-served rows before a served one, whatever their ts:
+     *  the OLDEST row, hit before the burst, must outlive the younger rows nobody read.
+     *  The hits reach the access table on the gauge tick that precedes the cap check,
+     *  so no wait is needed between the reads and the burst. */
+    @Test
+    void lruEvictionKeepsAServedRowOverYoungerUnservedOnes() throws Exception {
+        writeRegion(OW, 0, 0, Map.of());
+        var env = new SqliteLodStore.Environment(storeDir(), "26.2-test", WIRE,
+                this::regionDir, d -> "", 0, 2_000_000L, "", false, false,
+                StoreEvictionPolicy.LRU);
+        var diag = new LodStoreDiagnostics();
+        SqliteLodStore store = SqliteLodStore.createOrNull(LodStoreMode.FULL, env, diag);
+        assertNotNull(store);
+        assertTrue(store.awaitSweep(10_000));
+        long served = PositionUtil.packPosition(0, 12);
+        store.deposit(OW, served, bytes(100, 20_000), 1000);
+        assertNotNull(awaitHit(store, OW, served));
+        for (int i = 0; i < 5; i++) assertNotNull(store.get(OW, served));
+        assertEquals("", diag.evictionToken(), "no eviction yet, no token");
+
+        int total = 200; // ~4 MB against a ~2 MB cap
+        for (int i = 1; i < total; i++) {
+            store.deposit(OW, PositionUtil.packPosition(i, 12), bytes(100 + i, 20_000), 1000 + i);
+        }
+        assertNotNull(awaitHit(store, OW, PositionUtil.packPosition(total - 1, 12)));
+        awaitStableEvictions(store);
+
+        assertNotNull(store.get(OW, served), "the served row must survive under lru");
+        int alive = countAlive(store, total);
+        assertTrue(alive < total, "the cap must have evicted something; alive=" + alive);
+        assertEquals(total - alive, diag.getEvictionRegrets(),
+                "every probe of an evicted position after its eviction is a regret");
+        // Hit/miss outcomes are the disk reader's to count; simulate one of each.
+        diag.recordHit(1_000);
+        diag.recordMiss();
+        assertEquals(" evict_hit=50.0% regret=" + (total - alive), diag.evictionToken());
+        assertEquals(0, diag.getErrors());
+        store.shutdown();
+    }
+
     /** Cap-behavior §2: the size-cap eviction INFO latches after its FIRST emission —
      *  a capped store evicts as steady state (every ~5 s gauge refresh) and the line
      *  was permanent spam on a treadmilling store. Two observed eviction rounds must
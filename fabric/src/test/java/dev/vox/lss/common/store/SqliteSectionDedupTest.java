@@ -0,0 +1,191 @@
+package dev.vox.lss.common.store;
+
+import dev.vox.lss.common.PositionUtil;
+import dev.vox.lss.common.store.SectionDedupTest.Spec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Section dedup on the SQLite store ({@code wirefmt = 21} rows): shared sections are
+ * stored once and refcounted by trigger, both read forms reassemble the exact deposited
+ * bytes, deleting rows lets the batcher's GC collect what nothing references, bodies
+ * that cannot split stay whole rows, and a rotted shared section is row poison.
+ */
+class SqliteSectionDedupTest {
+
+    private static final String OW = "minecraft:overworld";
+
+    @TempDir
+    Path tmp;
+
+    private SqliteLodStore open() throws Exception {
+        var env = new SqliteLodStore.Environment(this.tmp.resolve("store"), "26.2-test", 20,
+                d -> this.tmp.resolve("region"), d -> "", 0, Long.MAX_VALUE, "", true);
+        SqliteLodStore store = SqliteLodStore.createOrNull(LodStoreMode.FULL, env,
+                new LodStoreDiagnostics());
+        assertNotNull(store, "SQLite engine must be available on the test JVM");
+        assertTrue(store.awaitSweep(10_000), "startup sweep must complete");
+        return store;
+    }
+
+    private long scalar(String sql) throws Exception {
+        var ds = new org.sqlite.SQLiteDataSource();
+        ds.setUrl("jdbc:sqlite:" + this.tmp.resolve("store").resolve("store.db"));
+        try (Connection c = ds.getConnection(); Statement st = c.createStatement()) {
+            st.execute("PRAGMA busy_timeout=3000");
+            try (ResultSet rs = st.executeQuery(sql)) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private void execute(String sql) throws Exception {
+        var ds = new org.sqlite.SQLiteDataSource();
+        ds.setUrl("jdbc:sqlite:" + this.tmp.resolve("store").resolve("store.db"));
+        try (Connection c = ds.getConnection(); Statement st = c.createStatement()) {
+            st.execute("PRAGMA busy_timeout=3000");
+            st.execute(sql);
+        }
+    }
+
+    private static LodStoreService.StoreHit awaitHit(SqliteLodStore store, long pos)
+            throws Exception {
+        for (int i = 0; i < 400; i++) {
+            var hit = store.get(OW, pos);
+            if (hit != null) return hit;
+            Thread.sleep(25);
+        }
+        return null;
+    }
+
+    private long awaitScalar(String sql, long expect) throws Exception {
+        long v = scalar(sql);
+        for (int i = 0; i < 400 && v != expect; i++) {
+            Thread.sleep(25);
+            v = scalar(sql);
+        }
+        return v;
+    }
+
+    @Test
+    void sharedSectionsStoreOnceAndBothReadFormsReassemble() throws Exception {
+        assumeTrue(StoreCodec.zstdOrNull() != null);
+        var store = open();
+        try {
+            long a = PositionUtil.packPosition(0, 0);
+            long b = PositionUtil.packPosition(1, 0);
+            byte[] bodyA = SectionDedupTest.column(new Spec(0, 1), new Spec(1, 2), new Spec(2, 0));
+            byte[] bodyB = SectionDedupTest.column(new Spec(0, 2), new Spec(5, 1), new Spec(6, 0));
+            store.deposit(OW, a, bodyA, 100L, 90L);
+            store.deposit(OW, b, bodyB, 100L, 90L);
+            var hitA = awaitHit(store, a);
+            var hitB = awaitHit(store, b);
+            assertNotNull(hitA);
+            assertNotNull(hitB);
+            assertArrayEquals(bodyA, hitA.sectionBytes());
+            assertArrayEquals(bodyB, hitB.sectionBytes());
+            assertEquals(LodStoreService.WIREFMT_V20, hitA.wirefmt(),
+                    "dedup rows are store-internal; hits are v20");
+
+            assertEquals(3, scalar("SELECT count(*) FROM sections"), "3 distinct sections");
+            assertEquals(6, scalar("SELECT sum(refs) FROM sections"));
+            assertEquals(2, scalar("SELECT count(*) FROM lods_1 WHERE wirefmt = 21"));
+            assertEquals(3, store.diagnostics().getSectionsWritten());
+            assertEquals(3, store.diagnostics().getSectionsReused());
+
+            var frame = store.getFrame(OW, b);
+            assertNotNull(frame);
+            assertEquals(bodyB.length, frame.usize());
+            assertEquals(LodStoreService.WIREFMT_V20_SECTIONS, frame.wirefmt(),
+                    "a dedup row has no stored frame to serve verbatim");
+            assertArrayEquals(bodyB, frame.frame(),
+                    "the reassembled raw body — no compress on the reader thread");
+        } finally {
+            store.shutdown();
+        }
+    }
+
+    @Test
+    void deletesReleaseReferencesAndGcCollectsUnsharedSections() throws Exception {
+        assumeTrue(StoreCodec.zstdOrNull() != null);
+        var store = open();
+        try {
+            long a = PositionUtil.packPosition(0, 0);
+            long b = PositionUtil.packPosition(1, 0);
+            store.deposit(OW, a, SectionDedupTest.column(new Spec(0, 1), new Spec(1, 3)), 100L, 90L);
+            store.deposit(OW, b, SectionDedupTest.column(new Spec(0, 1)), 100L, 90L);
+            assertNotNull(awaitHit(store, a));
+            assertNotNull(awaitHit(store, b));
+            assertEquals(2, scalar("SELECT count(*) FROM sections"));
+
+            store.delete(OW, a);
+            assertEquals(1, awaitScalar("SELECT count(*) FROM sections", 1),
+                    "only the section b still references survives");
+            assertEquals(1, scalar("SELECT count(*) FROM section_refs"));
+            assertTrue(store.diagnostics().getSectionsCollected() >= 1);
+
+            // A newer deposit replacing b's row releases its old references too.
+            byte[] newer = SectionDedupTest.column(new Spec(0, 4));
+            store.deposit(OW, b, newer, 200L, 190L);
+            for (int i = 0; i < 400; i++) {
+                var hit = store.get(OW, b);
+                if (hit != null && hit.columnTimestamp() == 200L) break;
+                Thread.sleep(25);
+            }
+            assertArrayEquals(newer, store.get(OW, b).sectionBytes());
+            assertEquals(1, awaitScalar("SELECT count(*) FROM sections", 1),
+                    "the replaced section is collected; the new one is live");
+            assertEquals(1, scalar("SELECT sum(refs) FROM sections"));
+        } finally {
+            store.shutdown();
+        }
+    }
+
+    @Test
+    void bodiesThatCannotSplitStayWholeRows() throws Exception {
+        assumeTrue(StoreCodec.zstdOrNull() != null);
+        var store = open();
+        try {
+            long p = PositionUtil.packPosition(4, 4);
+            byte[] opaque = new byte[3000];
+            new java.util.Random(5).nextBytes(opaque);
+            store.deposit(OW, p, opaque, 100L, 90L);
+            var hit = awaitHit(store, p);
+            assertNotNull(hit);
+            assertArrayEquals(opaque, hit.sectionBytes());
+            assertEquals(1, scalar("SELECT count(*) FROM lods_1 WHERE wirefmt = 20"));
+            assertEquals(0, scalar("SELECT count(*) FROM sections"));
+        } finally {
+            store.shutdown();
+        }
+    }
+
+    @Test
+    void aRottedSharedSectionIsRowPoison() throws Exception {
+        assumeTrue(StoreCodec.zstdOrNull() != null);
+        var store = open();
+        try {
+            long p = PositionUtil.packPosition(2, 3);
+            store.deposit(OW, p, SectionDedupTest.column(new Spec(0, 1)), 100L, 90L);
+            assertNotNull(awaitHit(store, p));
+            execute("UPDATE sections SET blob = X'DEADBEEF'");
+            long errorsBefore = store.diagnostics().getErrors();
+            assertNull(store.get(OW, p), "a corrupt section reads as a miss");
+            assertTrue(store.diagnostics().getErrors() > errorsBefore);
+            for (int i = 0; i < 400 && store.getFrame(OW, p) != null; i++) Thread.sleep(25);
+            assertNull(store.getFrame(OW, p), "the poisoned row is purged");
+            assertEquals(0, awaitScalar("SELECT count(*) FROM section_refs", 0));
+        } finally {
+            store.shutdown();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package dev.vox.lss.common.store;
+
+import dev.vox.lss.common.PositionUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Per-dimension shards ({@code lodStoreShardByDimension}): a new dimension's rows land in
+ * their own file under {@code dims/} while the overworld stays in the root file, every
+ * read and backfill mark routes to the file holding the dimension, shards reopen with
+ * their rows, a dimension an unsharded store already holds stays in the root, and
+ * turning sharding off deletes the shard files.
+ */
+class SqliteShardedStoreTest {
+
+    private static final String OW = "minecraft:overworld";
+    private static final String NETHER = "minecraft:the_nether";
+    private static final long POS = PositionUtil.packPosition(0, 0);
+
+    @TempDir
+    Path tmp;
+
+    private static long nowSec() {
+        return System.currentTimeMillis() / 1000L;
+    }
+
+    private Path regionDir(String dimension) {
+        return this.tmp.resolve(dimension.equals(OW) ? "region" : "DIM-1/region");
+    }
+
+    /** A bare region header with chunk (0, 0) present, saved a minute back — before
+     *  every deposit, so the reopen sweep keeps the rows. */
+    private void writeRegion(String dimension) throws Exception {
+        Path dir = Files.createDirectories(regionDir(dimension));
+        ByteBuffer buf = ByteBuffer.allocate(8192);
+        buf.putInt(0, (2 << 8) | 1);
+        buf.putInt(4096, (int) (nowSec() - 60));
+        Files.write(dir.resolve("r.0.0.mca"), buf.array());
+    }
+
+    private SqliteLodStore open(boolean shardByDimension) throws Exception {
+        var env = new SqliteLodStore.Environment(this.tmp.resolve("store"), "26.2-test", 20,
+                this::regionDir, d -> "", 0, Long.MAX_VALUE, "", false, false,
+                StoreEvictionPolicy.OLDEST, 0L, 0, shardByDimension);
+        SqliteLodStore store = SqliteLodStore.createOrNull(LodStoreMode.FULL, env,
+                new LodStoreDiagnostics());
+        assertNotNull(store, "SQLite engine must be available on the test JVM");
+        assertTrue(store.awaitSweep(10_000), "startup sweep must complete");
+        return store;
+    }
+
+    private Path rootDb() {
+        return this.tmp.resolve("store").resolve("store.db");
+    }
+
+    private Path netherShard() {
+        return this.tmp.resolve("store").resolve("dims").resolve("minecraft_the_nether");
+    }
+
+    private static long rows(Path db) throws Exception {
+        var ds = new org.sqlite.SQLiteDataSource();
+        ds.setUrl("jdbc:sqlite:" + db);
+        try (Connection c = ds.getConnection(); Statement st = c.createStatement()) {
+            st.execute("PRAGMA busy_timeout=3000");
+            long total = 0;
+            try (ResultSet tables = st.executeQuery(
+                    "SELECT name FROM sqlite_master WHERE type='table' AND name LIKE 'lods\\_%' ESCAPE '\\'")) {
+                var names = new java.util.ArrayList<String>();
+                while (tables.next()) names.add(tables.getString(1));
+                for (String name : names) {
+                    try (Statement count = c.createStatement();
+                         ResultSet rs = count.executeQuery("SELECT count(*) FROM " + name)) {
+                        rs.next();
+                        total += rs.getLong(1);
+                    }
+                }
+            }
+            return total;
+        }
+    }
+
+    private static void awaitRow(SqliteLodStore store, String dimension) throws Exception {
+        for (int i = 0; i < 400 && !store.hasRow(dimension, POS); i++) Thread.sleep(25);
+        assertTrue(store.hasRow(dimension, POS), dimension + " row must land");
+    }
+
+    @Test
+    void aNewDimensionGetsItsOwnFileAndReadsRouteToIt() throws Exception {
+        writeRegion(OW);
+        writeRegion(NETHER);
+        byte[] overworld = {1, 2, 3};
+        byte[] nether = {4, 5, 6, 7};
+        var store = open(true);
+        try {
+            assertFalse(Files.exists(netherShard()), "a shard opens on its first write");
+            assertNull(store.get(NETHER, POS));
+            store.deposit(OW, POS, overworld, 100L, nowSec());
+            store.deposit(NETHER, POS, nether, 100L, nowSec());
+            store.markBackfillRegionDone(NETHER, 0, 0);
+            awaitRow(store, OW);
+            awaitRow(store, NETHER);
+            assertArrayEquals(nether, store.get(NETHER, POS).sectionBytes());
+            assertArrayEquals(overworld, store.get(OW, POS).sectionBytes());
+            assertTrue(store.approxSizeBytes() > Files.size(rootDb()),
+                    "the backfill's size gate counts every file");
+            assertEquals("ok", store.stateToken());
+        } finally {
+            store.shutdown();
+        }
+        assertEquals(1, rows(rootDb()));
+        assertEquals(1, rows(netherShard().resolve("store.db")));
+
+        store = open(true);
+        try {
+            assertArrayEquals(nether, store.get(NETHER, POS).sectionBytes(),
+                    "the shard reopens with its rows");
+            assertTrue(store.isBackfillRegionDone(NETHER, 0, 0));
+            assertFalse(store.isBackfillRegionDone(OW, 0, 0), "marks are per dimension");
+            store.invalidate(NETHER, new long[]{POS});
+            assertNull(store.get(NETHER, POS), "tombstones route with the dimension");
+            assertArrayEquals(overworld, store.get(OW, POS).sectionBytes());
+        } finally {
+            store.shutdown();
+        }
+    }
+
+    /** Two dimension ids that slug to one directory share that shard instead of the
+     *  second opening the file again (and dropping its writes for the session). */
+    @Test
+    void dimensionsWhoseSlugsCollideShareOneShard() throws Exception {
+        String upper = "lss_test:Caves";
+        String lower = "lss_test:caves";
+        writeRegion(upper);
+        var store = open(true);
+        try {
+            store.deposit(upper, POS, new byte[]{1, 2}, 100L, nowSec());
+            awaitRow(store, upper);
+            store.deposit(lower, POS, new byte[]{3, 4, 5}, 100L, nowSec());
+            awaitRow(store, lower);
+            assertArrayEquals(new byte[]{1, 2}, store.get(upper, POS).sectionBytes());
+            assertArrayEquals(new byte[]{3, 4, 5}, store.get(lower, POS).sectionBytes());
+            try (var dirs = Files.list(this.tmp.resolve("store").resolve("dims"))) {
+                assertEquals(1, dirs.count(), "one shard file for both dimensions");
+            }
+            // Each open instance runs a batcher named after its directory.
+            assertEquals(1, Thread.getAllStackTraces().keySet().stream()
+                    .filter(t -> t.getName().endsWith(" lss_test_caves")).count(),
+                    "one shard instance, not a second writer on the same file");
+        } finally {
+            store.shutdown();
+        }
+    }
+
+    @Test
+    void dimensionsAnUnshardedStoreHoldsStayInTheRoot() throws Exception {
+        writeRegion(NETHER);
+        byte[] nether = {9, 8, 7};
+        var store = open(false);
+        try {
+            store.deposit(NETHER, POS, nether, 100L, nowSec());
+            awaitRow(store, NETHER);
+        } finally {
+            store.shutdown();
+        }
+
+        store = open(true);
+        try {
+            assertArrayEquals(nether, store.get(NETHER, POS).sectionBytes());
+            store.deposit(NETHER, PositionUtil.packPosition(1, 0), nether, 100L, nowSec());
+            assertTrue(store.awaitDepositQueueEmpty(10_000));
+        } finally {
+            store.shutdown();
+        }
+        assertFalse(Files.exists(netherShard()), "the upgraded store kept the dimension");
+        assertEquals(2, rows(rootDb()));
+    }
+
+    @Test
+    void turningShardingOffDeletesTheShards() throws Exception {
+        writeRegion(NETHER);
+        var store = open(true);
+        try {
+            store.deposit(NETHER, POS, new byte[]{1}, 100L, nowSec());
+            awaitRow(store, NETHER);
+        } finally {
+            store.shutdown();
+        }
+        assertTrue(Files.exists(netherShard().resolve("store.db")));
+
+        store = open(false);
+        try {
+            assertFalse(Files.exists(netherShard().getParent()), "derived data: deleted");
+            assertNull(store.get(NETHER, POS), "the dimension re-warms in the root");
+        } finally {
+            store.shutdown();
+        }
+    }
+}
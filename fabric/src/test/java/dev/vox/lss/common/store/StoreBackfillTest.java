@@ -254,6 +254,62 @@ class StoreBackfillTest {
         store.shutdown();
     }
 
+    /** A FULL region image (8 KiB header + one-sector records): slot i's payload is
+     *  {i}; slots in {@code external} carry the .mcc flag and hold no inline stream. */
+    private void writeRecordRegion(int rx, int rz, int[] slots, int... external) throws Exception {
+        Files.createDirectories(regionDir());
+        ByteBuffer buf = ByteBuffer.allocate((2 + slots.length) * 4096);
+        for (int i = 0; i < slots.length; i++) {
+            int at = (2 + i) * 4096, slot = slots[i];
+            buf.putInt(slot * 4, ((2 + i) << 8) | 1);
+            boolean ext = java.util.Arrays.stream(external).anyMatch(e -> e == slot);
+            buf.putInt(at, ext ? 1 : 2);
+            buf.put(at + 4, (byte) (ext ? 0x82 : 2));
+            buf.put(at + 5, (byte) slot);
+        }
+        Files.write(regionDir().resolve("r." + rx + "." + rz + ".mca"), buf.array());
+    }
+
+    /** The bulk rung: the region's reads come from ONE whole-file read decoded per slot
+     *  (payload + version handed to the decoder), an external record takes the
+     *  per-column reader, and a warm region never pays the whole-file read. */
+    @Test
+    void bulkRungDecodesFromOneWholeRegionReadAndFallsBackPerColumn() throws Exception {
+        writeRecordRegion(0, 0, new int[]{5, 6, 7, 8}, 8);
+        writeRecordRegion(2, 0, new int[]{1});
+        SqliteLodStore store = openStore();
+        long warm = PositionUtil.packPosition(65, 0);
+        store.deposit(OW, warm, new byte[]{1}, 100);
+        for (int i = 0; i < 400 && store.get(OW, warm) == null; i++) Thread.sleep(25);
+
+        var perColumn = new ConcurrentLinkedQueue<Long>();
+        var decoded = new ConcurrentLinkedQueue<Long>();
+        var diag = new dev.vox.lss.common.processing.DiskReaderDiagnostics();
+        var bf = new StoreBackfill(store, d -> regionDir(), d -> new long[]{0, 0},
+                List.of(OW), (dim, cx, cz) -> {
+                    perColumn.add(PositionUtil.packPosition(cx, cz));
+                    return new byte[]{42};
+                }, () -> true, () -> true, 1000,
+                (dim, cx, cz, payload, version) -> {
+                    assertEquals(2, version);
+                    assertEquals(cx, payload[0], "the slot's own record must be decoded");
+                    decoded.add(PositionUtil.packPosition(cx, cz));
+                    return new byte[]{payload[0], 7};
+                }, diag, 1);
+        assertTrue(bf.start());
+        awaitDone(bf);
+
+        assertEquals(3, decoded.size(), "clean records decode from the region image");
+        assertEquals(List.of(PositionUtil.packPosition(8, 0)), List.copyOf(perColumn),
+                "only the external record reads per column");
+        assertEquals(1, diag.getBulkRegionsCount(), "the warm region pays no whole-file read");
+        assertEquals(3, diag.getBulkServesCount());
+        assertEquals(4, store.diagnostics().getBackfillDeposits());
+        assertTrue(bf.statusLine().startsWith("complete: 2 regions, 4 deposited, 1 skipped"),
+                bf.statusLine());
+        store.shutdown();
+    }
+
     /** Cap-behavior §3 estimate arithmetic (the log prose is deliberately unpinned):
      *  planned region-file bytes x the measured 0.72 LOD/region ratio. */
     @Test
@@ -430,6 +486,110 @@ class StoreBackfillTest {
                 StoreBackfill.remainingEstimateFor(1, 2, 5));
     }
 
+    /** The running line's ETA: the estimate's columns over the observed rate, and
+     *  "unknown" before any column has been visited (no divide-by-zero). */
+    @Test
+    void etaFormatsHoursMinutesAndSeconds() {
+        assertEquals(4, StoreBackfill.columnsLeftFor(3, 1, 2));
+        assertEquals(2048, StoreBackfill.columnsLeftFor(2, 0, 0));
+        assertEquals("unknown", StoreBackfill.etaFor(1000, 0));
+        assertEquals("~40s", StoreBackfill.etaFor(400, 10));
+        assertEquals("~7m", StoreBackfill.etaFor(4200, 10));
+        assertEquals("~2h05m", StoreBackfill.etaFor(7500 * 10, 10));
+    }
+
+    /** AIMD: +1 per quiet window up to the configured max, halved per restraint poll,
+     *  never below one worker (worker 0 always walks). */
+    @Test
+    void workerLimitGrowsAdditivelyAndHalvesUnderRestraint() {
+        var limit = new StoreBackfill.WorkerLimit(4, 1);
+        assertEquals(1, limit.active());
+        for (int i = 0; i < 10; i++) limit.grow();
+        assertEquals(4, limit.active(), "growth stops at the configured max");
+        limit.shrink();
+        assertEquals(2, limit.active());
+        limit.shrink();
+        limit.shrink();
+        assertEquals(1, limit.active(), "floor of one worker");
+        limit.grow();
+        assertEquals(2, limit.active());
+    }
+
+    /** Several region workers share one plan: every present column is read exactly
+     *  once, every region is done-marked, and the terminal line keeps its contract.
+     *  The reader holds each worker's FIRST read until a second thread has read too,
+     *  so a walk that never ran two workers at once would time out into errors. */
+    @Test
+    void parallelOfflineWalkSplitsRegionsAcrossWorkers() throws Exception {
+        for (int r = 0; r < 6; r++) writeRegion(r, 0, 1, 2);
+        SqliteLodStore store = openStore();
+        var reads = new ConcurrentLinkedQueue<Long>();
+        var threads = java.util.concurrent.ConcurrentHashMap.<String>newKeySet();
+        var together = new java.util.concurrent.CountDownLatch(2);
+        var bf = new StoreBackfill(store, d -> regionDir(), d -> new long[]{0, 0},
+                List.of(OW), (dim, cx, cz) -> {
+                    if (threads.add(Thread.currentThread().getName())) {
+                        together.countDown();
+                        if (!together.await(10, java.util.concurrent.TimeUnit.SECONDS)) {
+                            throw new IllegalStateException("no second worker ran");
+                        }
+                    }
+                    reads.add(PositionUtil.packPosition(cx, cz));
+                    return new byte[]{1};
+                }, () -> false, () -> false, 10, null, null, 4);
+
+        // Gates report "restrain" and the cap is 10 col/s: offline ignores both.
+        String status = bf.runOffline();
+        assertTrue(status.matches(
+                "complete: 6 regions, 12 deposited, 0 skipped, 0 errors, 0 pauses"),
+                "offline walk must finish everything unrestrained, got: " + status);
+        assertEquals(12, reads.size());
+        assertEquals(12, new java.util.HashSet<>(reads).size(), "no column read twice");
+        assertTrue(threads.size() >= 2, "regions must be split across workers: " + threads);
+        for (int r = 0; r < 6; r++) {
+            for (int i = 0; i < 400 && !store.isBackfillRegionDone(OW, r, 0); i++) Thread.sleep(25);
+            assertTrue(store.isBackfillRegionDone(OW, r, 0), "region " + r + " done-marked");
+        }
+        assertTrue(!bf.isRunning());
+        store.shutdown();
+    }
+
+    /** A helper parked over the AIMD limit must not outlive worker 0. Only worker 0's
+     *  paced visits grow the limit, so once it drains the plan nothing would admit the
+     *  helper again: the walk never finished and its claimed region was never
+     *  done-marked. The online walk starts at one worker (the state a shrink leaves);
+     *  worker 0's first read holds until the helper has claimed a region and parked,
+     *  then the plan drains well inside one rate window. */
+    @Test
+    void aHelperParkedOverTheLimitFinishesItsRegionOnceWorkerZeroDrainsThePlan()
+            throws Exception {
+        writeRegion(0, 0, 1, 2);
+        writeRegion(1, 0, 1, 2);
+        SqliteLodStore store = openStore();
+        var ref = new java.util.concurrent.atomic.AtomicReference<StoreBackfill>();
+        var firstRead = new AtomicBoolean(true);
+        var bf = new StoreBackfill(store, d -> regionDir(), d -> new long[]{0, 0},
+                List.of(OW), (dim, cx, cz) -> {
+                    if (firstRead.getAndSet(false)) {
+                        for (int i = 0; i < 400 && ref.get().parkedWorkerCount() == 0; i++) {
+                            Thread.sleep(5);
+                        }
+                    }
+                    return new byte[]{1};
+                }, () -> true, () -> true, 1000, null, null, 2);
+        ref.set(bf);
+
+        bf.start();
+        awaitDone(bf);
+        assertTrue(bf.statusLine().startsWith("complete: 2 regions, 4 deposited"),
+                bf.statusLine());
+        for (int r = 0; r < 2; r++) {
+            for (int i = 0; i < 400 && !store.isBackfillRegionDone(OW, r, 0); i++) Thread.sleep(25);
+            assertTrue(store.isBackfillRegionDone(OW, r, 0), "region " + r + " done-marked");
+        }
+        store.shutdown();
+    }
+
     /** The walk actually maintains the volatile counters the estimate reads (the
      *  static table above pins arithmetic, this pins the plumbing): a reader latch
      *  parks the walker mid-region-1 of a two-region plan, and the concurrent estimate
@@ -0,0 +1,73 @@
+package dev.vox.lss.common.store.offline;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/** Test-side NBT writer for the plain-value trees {@link NbtTree} reads back. */
+final class NbtBytes {
+    private NbtBytes() {}
+
+    static byte[] root(Map<String, Object> compound) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        var out = new DataOutputStream(bytes);
+        out.writeByte(10);
+        out.writeUTF("");
+        compound(out, compound);
+        return bytes.toByteArray();
+    }
+
+    private static void compound(DataOutputStream out, Map<?, ?> map) throws IOException {
+        for (var e : map.entrySet()) {
+            out.writeByte(type(e.getValue()));
+            out.writeUTF((String) e.getKey());
+            value(out, e.getValue());
+        }
+        out.writeByte(0);
+    }
+
+    private static int type(Object v) {
+        if (v instanceof Byte) return 1;
+        if (v instanceof Short) return 2;
+        if (v instanceof Integer) return 3;
+        if (v instanceof Long) return 4;
+        if (v instanceof byte[]) return 7;
+        if (v instanceof String) return 8;
+        if (v instanceof List<?>) return 9;
+        if (v instanceof Map<?, ?>) return 10;
+        if (v instanceof int[]) return 11;
+        if (v instanceof long[]) return 12;
+        throw new IllegalArgumentException(String.valueOf(v));
+    }
+
+    private static void value(DataOutputStream out, Object v) throws IOException {
+        switch (type(v)) {
+            case 1 -> out.writeByte((Byte) v);
+            case 2 -> out.writeShort((Short) v);
+            case 3 -> out.writeInt((Integer) v);
+            case 4 -> out.writeLong((Long) v);
+            case 7 -> {
+                out.writeInt(((byte[]) v).length);
+                out.write((byte[]) v);
+            }
+            case 8 -> out.writeUTF((String) v);
+            case 9 -> {
+                var list = (List<?>) v;
+                out.writeByte(list.isEmpty() ? 0 : type(list.get(0)));
+                out.writeInt(list.size());
+                for (Object o : list) value(out, o);
+            }
+            case 10 -> compound(out, (Map<?, ?>) v);
+            case 11 -> {
+                out.writeInt(((int[]) v).length);
+                for (int i : (int[]) v) out.writeInt(i);
+            }
+            default -> {
+                out.writeInt(((long[]) v).length);
+                for (long l : (long[]) v) out.writeLong(l);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package dev.vox.lss.common.store.offline;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The offline builder's NBT reader: every record stream version a vanilla region file
+ * writes without a library (gzip, zlib, none) reads back the same tree, the typed
+ * getters answer only for their own tag type (the live transcoder's gate semantics),
+ * and hostile lengths fail before allocating.
+ */
+class NbtTreeTest {
+
+    private static final Map<String, Object> CHUNK = Map.of(
+            "Status", "minecraft:full",
+            "xPos", 3,
+            "sections", List.of(Map.of("Y", (byte) -4, "SkyLight", new byte[]{1, 2})),
+            "data", new long[]{7L, -1L});
+
+    @Test
+    void everyPlainStreamVersionReadsTheSameTree() throws IOException {
+        byte[] raw = NbtBytes.root(CHUNK);
+        var gz = new ByteArrayOutputStream();
+        try (var out = new GZIPOutputStream(gz)) {
+            out.write(raw);
+        }
+        var zlib = new ByteArrayOutputStream();
+        try (var out = new DeflaterOutputStream(zlib)) {
+            out.write(raw);
+        }
+        for (var record : List.of(
+                Map.entry(NbtTree.VERSION_GZIP, gz.toByteArray()),
+                Map.entry(NbtTree.VERSION_DEFLATE, zlib.toByteArray()),
+                Map.entry(NbtTree.VERSION_NONE, raw))) {
+            var tree = NbtTree.readRecord(record.getValue(), record.getKey());
+            assertNotNull(tree, "version " + record.getKey());
+            assertEquals("minecraft:full", NbtTree.string(tree, "Status"));
+            assertEquals(3, NbtTree.intOr(tree, "xPos", 0));
+            assertArrayEquals(new long[]{7L, -1L}, NbtTree.longArray(tree, "data"));
+            var section = (Map<?, ?>) NbtTree.list(tree, "sections").get(0);
+            assertEquals((byte) -4, section.get("Y"));
+        }
+        assertNull(NbtTree.readRecord(raw, (byte) 4), "LZ4 is left to the live walk");
+    }
+
+    @Test
+    void gettersAnswerOnlyForTheirOwnTagType() throws IOException {
+        var tree = NbtTree.parse(NbtBytes.root(CHUNK));
+        assertNull(NbtTree.longArray(tree, "Status"));
+        assertNull(NbtTree.string(tree, "xPos"));
+        assertNull(NbtTree.compound(tree, "sections"));
+        assertNull(NbtTree.byteArray(tree, "data"));
+        assertEquals(-1, NbtTree.intOr(tree, "Status", -1));
+    }
+
+    @Test
+    void aLengthPastTheRemainingBytesFailsBeforeAllocating() throws IOException {
+        byte[] raw = NbtBytes.root(Map.of("data", new long[]{1L}));
+        // Root header (1 + 2) + tag type (1) + name (2 + 4) = the long-array length field.
+        raw[10] = 0x7F;
+        var e = assertThrows(IOException.class, () -> NbtTree.parse(raw));
+        assertTrue(e.getMessage().contains("exceeds the remaining"), e.getMessage());
+        assertThrows(IOException.class, () -> NbtTree.parse(new byte[]{8, 0, 0}),
+                "a non-compound root is refused");
+    }
+}
@@ -0,0 +1,137 @@
+package dev.vox.lss.common.store.offline;
+
+import dev.vox.lss.common.wire.WireSectionCursor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The MC-free transcoder against synthesized chunk NBT: a clean column comes out as a
+ * parseable v20 body with the serializer's count headers and boundary-light band, and
+ * every shape the live transcoder would route to its object path — or an identity the
+ * profile cannot vouch for — declines the whole column instead of guessing.
+ */
+class OfflineColumnTranscoderTest {
+
+    static StoreBuildProfile profile() {
+        var p = new StoreBuildProfile();
+        p.mcVersion = "26.2-test";
+        p.registryFingerprint = "test";
+        p.blockStates = new String[]{"minecraft:air", "minecraft:stone", "minecraft:water[level=0]"};
+        p.airStates = new int[]{0};
+        p.fluidStates = new int[]{2};
+        p.biomes = new String[]{"minecraft:plains", "minecraft:desert"};
+        p.defaultBiome = 0;
+        return p;
+    }
+
+    private static Map<String, Object> state(String name, Map<String, Object> properties) {
+        var tag = new HashMap<String, Object>();
+        tag.put("Name", name);
+        if (properties != null) tag.put("Properties", properties);
+        return tag;
+    }
+
+    /** 100 stone, 50 water, the rest air; a 4-bit packed three-entry palette. */
+    static Map<String, Object> mixedSection(int y, Object stoneEntry) {
+        long[] data = new long[256];
+        for (int i = 0; i < 150; i++) {
+            long v = i < 100 ? 1 : 2;
+            data[i >> 4] |= v << ((i & 15) * 4);
+        }
+        var blocks = new HashMap<String, Object>();
+        blocks.put("palette", List.of(state("minecraft:air", null), stoneEntry,
+                state("water", Map.of("level", "0"))));
+        blocks.put("data", data);
+        var section = new HashMap<String, Object>();
+        section.put("Y", (byte) y);
+        section.put("block_states", blocks);
+        section.put("biomes", Map.of("palette", List.of("minecraft:desert")));
+        return section;
+    }
+
+    static Map<String, Object> airSection(int y, boolean skyLit) {
+        byte[] sky = new byte[2048];
+        if (skyLit) sky[0] = (byte) 0xF0;
+        var section = new HashMap<String, Object>();
+        section.put("Y", (byte) y);
+        section.put("block_states", Map.of("palette", List.of(state("minecraft:air", null))));
+        section.put("SkyLight", sky);
+        return section;
+    }
+
+    static Map<String, Object> chunk(List<Map<String, Object>> sections) {
+        var chunk = new HashMap<String, Object>();
+        chunk.put("Status", "minecraft:full");
+        chunk.put("sections", new ArrayList<Object>(sections));
+        return chunk;
+    }
+
+    @Test
+    void aCleanColumnEmitsV20WithTheSerializersCountsAndLightBand() {
+        var transcoder = new OfflineColumnTranscoder(profile());
+        byte[] body = transcoder.transcode(chunk(List.of(
+                mixedSection(0, state("minecraft:stone", null)),
+                airSection(1, true),    // sky-lit air beside content: kept
+                airSection(5, true),    // sky-lit air outside the band: dropped
+                airSection(2, false))), // unlit air: never a section
+                -4, 19);
+
+        var column = WireSectionCursor.parse(body, WireSectionCursor.Layout.V20);
+        assertEquals(2, column.sections().size());
+        var content = column.sections().get(0);
+        assertEquals(0, content.sectionY());
+        assertEquals(150, content.nonEmptyBlockCount());
+        assertEquals(50, content.fluidCount());
+        assertEquals(4, content.blocks().bits());
+        assertEquals("minecraft:water[level=0]",
+                column.dictionary().get(content.blocks().palette()[2]));
+        assertEquals("minecraft:desert", column.dictionary().get(content.biomes().palette()[0]));
+        assertNull(content.skyLight());
+        var lit = column.sections().get(1);
+        assertEquals(1, lit.sectionY());
+        assertEquals(0, lit.nonEmptyBlockCount());
+        assertNotNull(lit.skyLight());
+        assertEquals("minecraft:plains", column.dictionary().get(lit.biomes().palette()[0]),
+                "a section without biomes takes the default");
+        assertArrayEquals(new long[]{0, 0, 0}, transcoder.declinedCounts());
+    }
+
+    @Test
+    void unservableChunksAreNullAndEmptyOnesAreZeroLength() {
+        var transcoder = new OfflineColumnTranscoder(profile());
+        var proto = chunk(List.of(mixedSection(0, state("minecraft:stone", null))));
+        proto.put("Status", "minecraft:features");
+        assertNull(transcoder.transcode(proto, -4, 19));
+        assertNull(transcoder.transcode(Map.of("Status", "full"), -4, 19), "no sections list");
+        assertArrayEquals(new byte[0], transcoder.transcode(chunk(List.of(airSection(3, true))), -4, 19),
+                "sky-lit air with no content anywhere is servable-empty");
+        assertArrayEquals(new byte[0], transcoder.transcode(
+                chunk(List.of(mixedSection(40, state("minecraft:stone", null)))), -4, 19),
+                "out-of-range sections are dropped before parse");
+    }
+
+    @Test
+    void unknownIdentitiesAndObjectPathShapesDeclineTheColumn() {
+        var transcoder = new OfflineColumnTranscoder(profile());
+        assertNull(transcoder.transcode(chunk(List.of(
+                mixedSection(0, state("modded:ore", null)))), -4, 19));
+        assertNull(transcoder.transcode(chunk(List.of(
+                mixedSection(0, state("minecraft:stone", Map.of("lit", "true"))))), -4, 19),
+                "a property set the registry never had");
+
+        var truncated = mixedSection(0, state("minecraft:stone", null));
+        @SuppressWarnings("unchecked")
+        var blocks = new HashMap<>((Map<String, Object>) truncated.get("block_states"));
+        blocks.put("data", new long[255]);
+        truncated.put("block_states", blocks);
+        assertNull(transcoder.transcode(chunk(List.of(truncated)), -4, 19));
+
+        assertArrayEquals(new long[]{1, 2, 0}, transcoder.declinedCounts());
+    }
+}
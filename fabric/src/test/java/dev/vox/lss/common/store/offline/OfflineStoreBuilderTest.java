@@ -0,0 +1,109 @@
+package dev.vox.lss.common.store.offline;
+
+import dev.vox.lss.common.LSSConstants;
+import dev.vox.lss.common.PositionUtil;
+import dev.vox.lss.common.store.LodStoreDiagnostics;
+import dev.vox.lss.common.store.LodStoreMode;
+import dev.vox.lss.common.store.LodStores;
+import dev.vox.lss.common.store.SqliteLodStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End to end over a synthesized world: the builder walks a real {@code .mca} through the
+ * offline backfill, deposits what the transcoder emits into a store the profile's server
+ * opens as its own (meta match — rows survive the reopen), leaves declined columns
+ * absent, and never touches a masked dimension.
+ */
+class OfflineStoreBuilderTest {
+
+    private static final String OW = "minecraft:overworld";
+
+    @TempDir
+    Path world;
+
+    private static byte[] zlib(byte[] raw) throws Exception {
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new DeflaterOutputStream(bytes)) {
+            out.write(raw);
+        }
+        return bytes.toByteArray();
+    }
+
+    /** One record per listed chunk in {@code r.0.0.mca}, slot i at sector 2 + i. */
+    private void writeRegion(List<Map<String, Object>> chunks) throws Exception {
+        Path dir = Files.createDirectories(this.world.resolve("region"));
+        var buf = ByteBuffer.allocate((2 + chunks.size()) * 4096);
+        for (int slot = 0; slot < chunks.size(); slot++) {
+            byte[] payload = zlib(NbtBytes.root(chunks.get(slot)));
+            int sector = 2 + slot;
+            buf.putInt(slot * 4, (sector << 8) | 1);
+            buf.putInt(sector * 4096, payload.length + 1);
+            buf.put(sector * 4096 + 4, NbtTree.VERSION_DEFLATE);
+            buf.put(sector * 4096 + 5, payload);
+        }
+        Files.write(dir.resolve("r.0.0.mca"), buf.array());
+    }
+
+    private StoreBuildProfile profile() {
+        var p = OfflineColumnTranscoderTest.profile();
+        p.wireVersion = LSSConstants.PROTOCOL_VERSION;
+        var ow = new StoreBuildProfile.Dimension();
+        ow.id = OW;
+        ow.regionDir = "region";
+        ow.minSectionY = -4;
+        ow.maxSectionY = 19;
+        ow.maskFingerprint = "off";
+        var nether = new StoreBuildProfile.Dimension();
+        nether.id = "minecraft:the_nether";
+        nether.regionDir = "DIM-1/region";
+        nether.minSectionY = 0;
+        nether.maxSectionY = 15;
+        nether.maskFingerprint = "config:1f";
+        p.dimensions = List.of(ow, nether);
+        return p;
+    }
+
+    @Test
+    void buildsAStoreTheProfilesServerOpensAsItsOwn() throws Exception {
+        writeRegion(List.of(
+                OfflineColumnTranscoderTest.chunk(List.of(OfflineColumnTranscoderTest.mixedSection(0,
+                        Map.of("Name", "minecraft:stone")))),
+                OfflineColumnTranscoderTest.chunk(List.of(OfflineColumnTranscoderTest.mixedSection(0,
+                        Map.of("Name", "modded:ore"))))));
+        var profile = profile();
+        profile.write(OfflineStoreBuilder.defaultProfilePath(this.world));
+
+        var result = new OfflineStoreBuilder(this.world,
+                StoreBuildProfile.read(OfflineStoreBuilder.defaultProfilePath(this.world)), 2).build();
+        assertTrue(result.walkLine().startsWith("complete"), result.toString());
+        assertEquals(1, result.declinedIdentity());
+        assertEquals(List.of("minecraft:the_nether"), result.skippedDimensions());
+
+        var env = new SqliteLodStore.Environment(LodStores.brandedStoreDir(this.world),
+                profile.mcVersion, profile.wireVersion, d -> this.world.resolve("region"),
+                d -> "off", 0, Long.MAX_VALUE, profile.registryFingerprint, false, false);
+        var store = SqliteLodStore.createOrNull(LodStoreMode.FULL, env, new LodStoreDiagnostics());
+        assertNotNull(store);
+        try {
+            assertTrue(store.awaitSweep(10_000));
+            assertTrue(store.hasRow(OW, PositionUtil.packPosition(0, 0)),
+                    "the built row survives the server-side meta check");
+            assertFalse(store.hasRow(OW, PositionUtil.packPosition(1, 0)),
+                    "a declined column is left for the live server");
+            assertTrue(store.isBackfillRegionDone(OW, 0, 0));
+        } finally {
+            store.shutdown();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package dev.vox.lss.common.wire;
+
+import dev.vox.lss.common.LSSConstants;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The packed-column wire codec's pins: members and frame round-trip, and every hostile
+ * shape — unknown version or codec, a lone member, a member or total past the client's
+ * section cap, an empty frame — drops the WHOLE pack before the frame is touched.
+ */
+class ColumnPackWireTest {
+
+    private static final String DIM = "minecraft:overworld";
+
+    private static ColumnPackWire.Member member(int cx, int rawLength) {
+        return new ColumnPackWire.Member(cx, -cx, 1_750_000_000_000L + cx,
+                LSSConstants.COLUMN_SOURCE_DISK, rawLength);
+    }
+
+    private static byte[] pack(ColumnPackWire.Member... members) {
+        return ColumnPackWire.encode(DIM, LSSConstants.COLUMN_CODEC_ZSTD, members,
+                new byte[]{1, 2, 3});
+    }
+
+    @Test
+    void roundTripsMembersAndFrame() {
+        var members = new ColumnPackWire.Member[]{member(4, 900), member(-5, 17_000),
+                member(6, 1)};
+        byte[] frame = {9, 8, 7, 6};
+        var decoded = ColumnPackWire.decode(ColumnPackWire.encode(DIM,
+                LSSConstants.COLUMN_CODEC_ZSTD_DICT, members, frame));
+        assertEquals(DIM, decoded.dimension());
+        assertEquals(LSSConstants.COLUMN_CODEC_ZSTD_DICT, decoded.codec());
+        assertArrayEquals(members, decoded.members());
+        assertEquals(17_901, decoded.totalRawLength());
+        assertArrayEquals(frame, decoded.frame());
+    }
+
+    @Test
+    void unknownVersionOrRawCodecDrops() {
+        byte[] f = pack(member(0, 10), member(1, 10));
+        f[0] = 2;
+        assertThrows(WireFormatException.class, () -> ColumnPackWire.decode(f));
+        assertThrows(WireFormatException.class, () -> ColumnPackWire.encode(DIM,
+                LSSConstants.COLUMN_CODEC_RAW, new ColumnPackWire.Member[]{member(0, 10),
+                        member(1, 10)}, new byte[]{1}));
+    }
+
+    @Test
+    void memberCountOutsideTheBoundsIsRefusedBothWays() {
+        assertThrows(WireFormatException.class, () -> pack(member(0, 10)),
+                "a lone column ships as its own frame");
+        var tooMany = new ColumnPackWire.Member[LSSConstants.COLUMN_PACK_MAX_COLUMNS + 1];
+        for (int i = 0; i < tooMany.length; i++) tooMany[i] = member(i, 10);
+        assertThrows(WireFormatException.class, () -> pack(tooMany));
+    }
+
+    @Test
+    void lengthsPastTheSectionCapDrop() {
+        assertThrows(WireFormatException.class,
+                () -> pack(member(0, 0), member(1, 10)), "an empty member");
+        assertThrows(WireFormatException.class, () -> pack(member(0,
+                LSSConstants.MAX_SECTIONS_SIZE / 2 + 1), member(1,
+                LSSConstants.MAX_SECTIONS_SIZE / 2 + 1)), "the one-shot decompress bound");
+    }
+
+    @Test
+    void anEmptyFrameDrops() {
+        byte[] f = pack(member(0, 10), member(1, 10));
+        byte[] cut = java.util.Arrays.copyOf(f, f.length - 3);
+        assertThrows(WireFormatException.class, () -> ColumnPackWire.decode(cut));
+    }
+}
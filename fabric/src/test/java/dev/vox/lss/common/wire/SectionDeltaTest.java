@@ -0,0 +1,139 @@
+package dev.vox.lss.common.wire;
+
+import dev.vox.lss.common.wire.WireSectionCursor.Layout;
+import dev.vox.lss.common.wire.WireSectionCursor.WireColumn;
+import dev.vox.lss.common.wire.WireSectionCursor.WireContainer;
+import dev.vox.lss.common.wire.WireSectionCursor.WireSection;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Section-level delta re-serves: digests hash resolved content (not dictionary numbering),
+ * the delta ships exactly the changed sections in a valid v20 body with a rebuilt
+ * dictionary, the keep map marks the unchanged Ys, and the full-serve fallbacks (empty
+ * side, moved top, nothing unchanged) return null.
+ */
+class SectionDeltaTest {
+
+    private static final List<String> DICT = List.of(
+            "minecraft:air", "minecraft:stone", "minecraft:dirt", "minecraft:plains");
+    private static final int STONE = 1, DIRT = 2, PLAINS = 3;
+
+    /** A uniform section of one DICT identity at {@code y}. */
+    private static WireSection uniform(int y, int block) {
+        return new WireSection(y, block == 0 ? 0 : 4096, 0,
+                new WireContainer(0, new int[] { block }, new long[0]),
+                new WireContainer(0, new int[] { PLAINS }, new long[0]), null, null);
+    }
+
+    /** A two-identity section at {@code y}: stone with one dirt voxel at {@code dirtAt}. */
+    private static WireSection speckled(int y, int dirtAt, List<String> dict) {
+        int stone = dict.indexOf("minecraft:stone");
+        int dirt = dict.indexOf("minecraft:dirt");
+        int[] slots = new int[4096];
+        slots[dirtAt] = 1;
+        return new WireSection(y, 4096, 0,
+                new WireContainer(4, new int[] { stone, dirt }, WireSectionCursor.pack(slots, 4)),
+                new WireContainer(0, new int[] { dict.indexOf("minecraft:plains") }, new long[0]),
+                null, null);
+    }
+
+    private static byte[] body(List<String> dict, WireSection... sections) {
+        return WireSectionCursor.emit(new WireColumn(dict, List.of(sections)), Layout.V20);
+    }
+
+    @Test
+    void digestIgnoresDictionaryNumbering() {
+        var reordered = List.of("minecraft:plains", "minecraft:dirt", "minecraft:stone",
+                "minecraft:air");
+        var a = SectionDelta.digest(body(DICT, speckled(0, 7, DICT)));
+        var b = SectionDelta.digest(body(reordered, speckled(0, 7, reordered)));
+        assertTrue(a.sameContent(b), "same content under another numbering digests equal");
+        var c = SectionDelta.digest(body(DICT, speckled(0, 8, DICT)));
+        assertNotEquals(a.hashes()[0], c.hashes()[0], "one moved voxel changes the hash");
+    }
+
+    @Test
+    void unchangedColumnShipsNoSectionsAndKeepsAll() {
+        byte[] v = body(DICT, uniform(0, STONE), uniform(1, DIRT));
+        var d = SectionDelta.digest(v);
+        var delta = SectionDelta.between(v, d, d);
+        assertEquals(0, WireSectionCursor.parse(delta.body(), Layout.V20).sections().size());
+        assertTrue(delta.keep().kept(0) && delta.keep().kept(1));
+        assertEquals(2, delta.keep().keptCount());
+    }
+
+    @Test
+    void shipsOnlyTheChangedSectionWithARebuiltDictionary() {
+        byte[] base = body(DICT, uniform(0, STONE), uniform(1, STONE), uniform(2, STONE));
+        byte[] current = body(DICT, uniform(0, STONE), speckled(1, 5, DICT), uniform(2, STONE));
+        var delta = SectionDelta.between(current, SectionDelta.digest(current),
+                SectionDelta.digest(base));
+        var parsed = WireSectionCursor.parse(delta.body(), Layout.V20);
+        assertEquals(1, parsed.sections().size());
+        assertEquals(1, parsed.sections().get(0).sectionY());
+        assertEquals(List.of("minecraft:stone", "minecraft:dirt", "minecraft:plains"),
+                parsed.dictionary(), "air is no longer referenced and drops out");
+        assertTrue(SectionDelta.digest(delta.body()).hashes()[0]
+                        == SectionDelta.digest(current).hashes()[1],
+                "the shipped section's content survives the re-index");
+        var keep = delta.keep();
+        assertTrue(keep.kept(0) && keep.kept(2));
+        assertFalse(keep.kept(1));
+    }
+
+    @Test
+    void aSectionThatBecameAirIsNeitherKeptNorShipped() {
+        byte[] base = body(DICT, uniform(-2, DIRT), uniform(-1, STONE), uniform(0, STONE));
+        byte[] current = body(DICT, uniform(-1, STONE), uniform(0, DIRT));
+        var delta = SectionDelta.between(current, SectionDelta.digest(current),
+                SectionDelta.digest(base));
+        var keep = delta.keep();
+        assertEquals(-2, keep.minSectionY(), "the span reaches down to the base's lowest Y");
+        assertEquals(3, keep.span());
+        assertTrue(keep.covers(-2));
+        assertFalse(keep.kept(-2), "-2 air-fills on the client");
+        assertTrue(keep.kept(-1));
+        assertFalse(keep.kept(0));
+    }
+
+    @Test
+    void fullServeFallbacks() {
+        byte[] a = body(DICT, uniform(0, STONE), uniform(1, STONE));
+        byte[] taller = body(DICT, uniform(0, STONE), uniform(1, STONE), uniform(2, DIRT));
+        byte[] allChanged = body(DICT, uniform(0, DIRT), uniform(1, DIRT));
+        byte[] clear = body(List.of());
+        var da = SectionDelta.digest(a);
+        assertNull(SectionDelta.between(taller, SectionDelta.digest(taller), da), "top moved");
+        assertNull(SectionDelta.between(allChanged, SectionDelta.digest(allChanged), da));
+        assertNull(SectionDelta.between(clear, SectionDelta.digest(clear), da));
+        assertNull(SectionDelta.between(a, da, SectionDelta.digest(clear)));
+    }
+
+    @Test
+    void keepMapRoundTripsAndRejectsMalformedInput() {
+        var keep = new SectionDelta.Keep(-4, 24, new byte[] { 5, 0, (byte) 0x80 });
+        var back = SectionDelta.Keep.decode(keep.encode());
+        assertEquals(-4, back.minSectionY());
+        assertEquals(24, back.span());
+        assertArrayEquals(keep.bits(), back.bits());
+        assertTrue(back.kept(-4) && back.kept(-2) && back.kept(19));
+        assertFalse(back.kept(20), "outside the span is never kept");
+
+        byte[] trailing = java.util.Arrays.copyOf(keep.encode(), keep.encode().length + 1);
+        assertThrows(WireFormatException.class, () -> SectionDelta.Keep.decode(trailing));
+        var w = new WireBytes.Writer(8);
+        w.writeByte(0);
+        w.writeVarInt(257);
+        assertThrows(WireFormatException.class, () -> SectionDelta.Keep.decode(w.toByteArray()));
+    }
+}
@@ -0,0 +1,188 @@
+package dev.vox.lss.common.wire;
+
+import dev.vox.lss.common.LSSConstants;
+import dev.vox.lss.common.PositionUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The compact want-set codec's pins: whole and diff frames decode to exactly the
+ * declaration sent — positions in order, timestamps exact including -1 and 0 — at a
+ * fraction of the legacy 16 bytes per entry; a diff against a base the receiver does not
+ * hold is refused, not misapplied; and every hostile shape throws before it allocates
+ * past the batch cap.
+ */
+class WantSetWireTest {
+
+    /** A ring walk around (ax, az), as the scanner emits it, with a mix of held data. */
+    private static long[][] ring(int ax, int az, int count) {
+        long[] positions = new long[count];
+        long[] timestamps = new long[count];
+        int n = 0;
+        for (int r = 0; n < count; r++) {
+            for (int dx = -r; dx <= r && n < count; dx++) {
+                for (int dz = -r; dz <= r && n < count; dz++) {
+                    if (Math.max(Math.abs(dx), Math.abs(dz)) != r) continue;
+                    positions[n] = PositionUtil.packPosition(ax + dx, az + dz);
+                    timestamps[n] = n % 3 == 0 ? 1_750_000_000_000L + n * 50L : -1L;
+                    n++;
+                }
+            }
+        }
+        return new long[][]{positions, timestamps};
+    }
+
+    private static void assertDeclares(long[] positions, long[] timestamps,
+                                       WantSetWire.Declaration decoded) {
+        assertNotNull(decoded);
+        assertArrayEquals(positions, decoded.positions());
+        assertArrayEquals(timestamps, decoded.timestamps());
+    }
+
+    @Test
+    void aWholeFrameRoundTripsAtAFractionOfTheLegacySize() {
+        var want = ring(1_000, -2_000, 1024);
+        byte[] body = WantSetWire.encode(5, null, 1_000, -2_000, want[0], want[1], 1024);
+        var decoded = WantSetWire.decode(body, null);
+        assertEquals(5, decoded.seq());
+        assertDeclares(want[0], want[1], decoded);
+        assertTrue(body.length * 3 < 1024 * 16, body.length + " bytes vs the legacy "
+                + 1024 * 16);
+    }
+
+    @Test
+    void timestampsSurviveExactlyIncludingZeroAndNoData() {
+        long[] positions = {PositionUtil.packPosition(0, 0), PositionUtil.packPosition(0, 1),
+                PositionUtil.packPosition(-5, 9), PositionUtil.packPosition(30_000_000 >> 4, 0)};
+        long[] timestamps = {-1L, 0L, Long.MAX_VALUE, 1_750_000_000_000L};
+        var decoded = WantSetWire.decode(
+                WantSetWire.encode(1, null, 0, 0, positions, timestamps, 4), null);
+        assertDeclares(positions, timestamps, decoded);
+    }
+
+    @Test
+    void anUnrepresentableTimestampIsRefusedForTheLegacyFallback() {
+        long[] positions = {PositionUtil.packPosition(0, 0), PositionUtil.packPosition(1, 0)};
+        long[] timestamps = {Long.MIN_VALUE + 5, 5L};
+        assertThrows(WireFormatException.class,
+                () -> WantSetWire.encode(1, null, 0, 0, positions, timestamps, 2));
+    }
+
+    @Test
+    void aDiffAppliesTheAnsweredAndTheNewFrontier() {
+        var first = ring(0, 0, 400);
+        byte[] whole = WantSetWire.encode(1, null, 0, 0, first[0], first[1], 400);
+        var held = WantSetWire.decode(whole, null);
+
+        // The server answered the closest 150 and a few stragglers; the scan adds 120
+        // further out, and one held entry's timestamp moved.
+        var second = ring(0, 0, 520);
+        long[] positions = Arrays.copyOfRange(second[0], 150, 520);
+        long[] timestamps = Arrays.copyOfRange(second[1], 150, 520);
+        positions[10] = positions[11];
+        timestamps[10] = timestamps[11];
+        timestamps[40] = 42L;
+        byte[] diff = WantSetWire.encode(2, held, 0, 0, positions, timestamps, positions.length);
+        assertDeclares(positions, timestamps, WantSetWire.decode(diff, held));
+        assertTrue(diff.length < WantSetWire.encode(2, null, 0, 0, positions, timestamps,
+                positions.length).length);
+    }
+
+    @Test
+    void anUnchangedRedeclarationIsAFewBytes() {
+        var want = ring(7, 7, LSSConstants.MAX_BATCH_CHUNK_REQUESTS);
+        int count = want[0].length;
+        var held = WantSetWire.decode(
+                WantSetWire.encode(9, null, 7, 7, want[0], want[1], count), null);
+        byte[] diff = WantSetWire.encode(10, held, 7, 7, want[0], want[1], count);
+        assertTrue(diff.length < 24, diff.length + " bytes");
+        var decoded = WantSetWire.decode(diff, held);
+        assertEquals(10, decoded.seq());
+        assertDeclares(want[0], want[1], decoded);
+    }
+
+    @Test
+    void aDiffAgainstABaseNotHeldIsRefused() {
+        var want = ring(0, 0, 64);
+        var held = WantSetWire.decode(WantSetWire.encode(3, null, 0, 0, want[0], want[1], 64), null);
+        byte[] diff = WantSetWire.encode(4, held, 0, 0, want[0], want[1], 64);
+        assertNull(WantSetWire.decode(diff, null));
+        assertNull(WantSetWire.decode(diff, new WantSetWire.Declaration(2, want[0], want[1])));
+    }
+
+    @Test
+    void theEncoderGoesWholeEveryFullEveryAndAfterAReset() {
+        var encoder = new WantSetWire.Encoder();
+        var want = ring(0, 0, 256);
+        WantSetWire.Declaration held = null;
+        int wholes = 0;
+        for (int i = 0; i < WantSetWire.FULL_EVERY * 2; i++) {
+            byte[] body = encoder.encode(0, 0, want[0], want[1], 256);
+            var decoded = WantSetWire.decode(body, held);
+            assertDeclares(want[0], want[1], decoded);
+            if (baseSeqOf(body) == 0) wholes++;
+            held = decoded;
+        }
+        assertEquals(2, wholes);
+        encoder.reset();
+        byte[] body = encoder.encode(0, 0, want[0], want[1], 256);
+        assertEquals(0, baseSeqOf(body), "a reset encoder cannot diff");
+        assertDeclares(want[0], want[1], WantSetWire.decode(body, null));
+    }
+
+    @Test
+    void anEmptyDeclarationIsTheBackpressureClear() {
+        var decoded = WantSetWire.decode(
+                WantSetWire.encode(1, null, 3, 4, new long[0], new long[0], 0), null);
+        assertEquals(0, decoded.count());
+    }
+
+    @Test
+    void hostileFramesThrow() {
+        var want = ring(0, 0, 8);
+        byte[] whole = WantSetWire.encode(1, null, 0, 0, want[0], want[1], 8);
+        var held = WantSetWire.decode(whole, null);
+
+        byte[] badVersion = whole.clone();
+        badVersion[0] = 2;
+        assertThrows(WireFormatException.class, () -> WantSetWire.decode(badVersion, null));
+
+        byte[] truncated = Arrays.copyOf(whole, whole.length - 2);
+        assertThrows(WireFormatException.class, () -> WantSetWire.decode(truncated, null));
+
+        assertThrows(WireFormatException.class, () -> WantSetWire.decode(
+                header(1, 0, LSSConstants.MAX_BATCH_CHUNK_REQUESTS + 1).toByteArray(), null),
+                "a count over the batch cap");
+        assertThrows(WireFormatException.class, () -> WantSetWire.decode(
+                header(1, 0, 1).writeVarInt(1 << 2 | WantSetWire.OP_COPY).toByteArray(), null),
+                "a base op in a whole frame");
+        assertThrows(WireFormatException.class, () -> WantSetWire.decode(
+                header(2, 1, 9).writeVarInt(9 << 2 | WantSetWire.OP_COPY).toByteArray(), held),
+                "a copy past the base");
+        assertThrows(WireFormatException.class, () -> WantSetWire.decode(
+                header(2, 1, 8).writeVarInt(WantSetWire.OP_COPY).toByteArray(), held),
+                "an empty op");
+        assertThrows(WireFormatException.class, () -> WantSetWire.decode(
+                header(2, 1, 8).writeVarInt(8 << 2 | 3).toByteArray(), held),
+                "an unknown op");
+        assertThrows(WireFormatException.class, () -> WantSetWire.decode(
+                header(2, 1, 8).writeVarInt(4 << 2 | WantSetWire.OP_COPY).toByteArray(), held),
+                "fewer entries than declared");
+    }
+
+    private static WireBytes.Writer header(int seq, int baseSeq, int count) {
+        return new WireBytes.Writer(32).writeByte(WantSetWire.VERSION).writeVarInt(seq)
+                .writeVarInt(baseSeq).writeVarInt(count).writeVarInt(0).writeVarInt(0)
+                .writeVarLong(0);
+    }
+
+    private static int baseSeqOf(byte[] body) {
+        var r = new WireBytes.Reader(body);
+        r.readUnsignedByte();
+        r.readVarInt();
+        return r.readVarInt();
+    }
+}
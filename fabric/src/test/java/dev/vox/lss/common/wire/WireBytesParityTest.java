@@ -41,6 +41,25 @@ class WireBytesParityTest {
         }
     }
 
+    @Test
+    void varLongEncodingMatchesFriendlyByteBufOnEdgesAndFuzz() {
+        long[] edges = {0L, 1L, 127L, 128L, Integer.MAX_VALUE, 1L << 35, 1L << 56,
+                Long.MAX_VALUE, -1L, Long.MIN_VALUE};
+        var rng = new Random(2);
+        for (int round = 0; round < 2000 + edges.length; round++) {
+            long value = round < edges.length ? edges[round] : rng.nextLong() >>> rng.nextInt(64);
+            var mc = new FriendlyByteBuf(Unpooled.buffer());
+            mc.writeVarLong(value);
+            byte[] expected = new byte[mc.readableBytes()];
+            mc.readBytes(expected);
+
+            var ours = new WireBytes.Writer(4);
+            ours.writeVarLong(value);
+            assertArrayEquals(expected, ours.toByteArray(), "encode of " + value);
+            assertEquals(value, new WireBytes.Reader(expected).readVarLong(), "decode of " + value);
+        }
+    }
+
     /**
      * Read-side parity on NON-canonical encodings (review MINOR 14): our writer never
      * produces these, but a shared wire parser must agree with MC on every input it
@@ -97,6 +116,9 @@ class WireBytesParityTest {
         assertThrows(WireFormatException.class,
                 () -> new WireBytes.Reader(new byte[] { (byte) 0x80, (byte) 0x80, (byte) 0x80,
                         (byte) 0x80, (byte) 0x80, 1 }).readVarInt());
+        byte[] elevenBytes = new byte[11];
+        java.util.Arrays.fill(elevenBytes, 0, 10, (byte) 0x80);
+        assertThrows(WireFormatException.class, () -> new WireBytes.Reader(elevenBytes).readVarLong());
         var negativeLen = new WireBytes.Writer(8).writeVarInt(-5).toByteArray();
         assertThrows(WireFormatException.class,
                 () -> new WireBytes.Reader(negativeLen).readUtf(256));
@@ -388,6 +388,67 @@ class ConfigValidationTest {
         assertEquals(0, serverConfig().lodStoreMaxMB);
     }
 
+    /** The hot-frame cache: on by default at 64 MB, 0 (and negatives) turn it off, and
+     *  the single direct arena's int-indexed ceiling bounds the top. */
+    @Test
+    void lodStoreHotCacheMBClampsAndZeroDisables() {
+        var c = serverConfig();
+        assertEquals(64, c.lodStoreHotCacheMB);
+        assertEquals(64L << 20, c.lodStoreHotCacheBytes());
+
+        c.lodStoreHotCacheMB = -5;
+        c.validate();
+        assertEquals(0, c.lodStoreHotCacheMB);
+        assertEquals(0L, c.lodStoreHotCacheBytes());
+        c.lodStoreHotCacheMB = 1_000_000;
+        c.validate();
+        assertEquals(LSSConstants.MAX_LOD_STORE_HOT_CACHE_MB, c.lodStoreHotCacheMB);
+    }
+
+    /** The cold tier: on by default at a week, 0 (and negatives) turn the walk off, and
+     *  the top clamps to a year. */
+    @Test
+    void lodStoreColdCompressionDaysClampsAndZeroDisables() {
+        var c = serverConfig();
+        assertEquals(7, c.lodStoreColdCompressionDays);
+
+        c.lodStoreColdCompressionDays = -3;
+        c.validate();
+        assertEquals(0, c.lodStoreColdCompressionDays);
+        c.lodStoreColdCompressionDays = 100_000;
+        c.validate();
+        assertEquals(LSSConstants.MAX_LOD_STORE_COLD_COMPRESSION_DAYS, c.lodStoreColdCompressionDays);
+    }
+
+    /** Eviction order under a cap: the default is hit-ordered (lru); a typo or null
+     *  normalizes back to it, never to the pre-policy oldest-first order; known spellings
+     *  canonicalize case-insensitively. */
+    @Test
+    void lodStoreEvictionPolicyDefaultsToLruAndCanonicalizes() {
+        var c = serverConfig();
+        assertEquals("lru", c.lodStoreEvictionPolicy);
+
+        c.lodStoreEvictionPolicy = "nonsense";
+        c.validate();
+        assertEquals("lru", c.lodStoreEvictionPolicy);
+        c.lodStoreEvictionPolicy = null;
+        c.validate();
+        assertEquals("lru", c.lodStoreEvictionPolicy);
+
+        c.lodStoreEvictionPolicy = " OLDEST ";
+        c.validate();
+        assertEquals("oldest", c.lodStoreEvictionPolicy);
+        c.lodStoreEvictionPolicy = "fifo";
+        c.validate();
+        assertEquals("oldest", c.lodStoreEvictionPolicy, "fifo is an alias of oldest");
+        c.lodStoreEvictionPolicy = "LFU";
+        c.validate();
+        assertEquals("lfu", c.lodStoreEvictionPolicy);
+        c.lodStoreEvictionPolicy = "anchor";
+        c.validate();
+        assertEquals("anchor", c.lodStoreEvictionPolicy);
+    }
+
     /** The 0-or-64..1048576 clamp: 0 (and negative nonsense) stays uncapped; a nonzero
      *  opt-in cap keeps the 64 floor (a tiny accidental cap would evict constantly). */
     @Test
@@ -455,6 +516,20 @@ class ConfigValidationTest {
         assertEquals(LSSConstants.MAX_LOD_STORE_BACKFILL_CPS, c.lodStoreBackfillColumnsPerSecond);
     }
 
+    /** Parallel backfill is opt-in: the default stays the single-threaded walk. */
+    @Test
+    void lodStoreBackfillWorkersDefaultsToOneAndClamps() {
+        var c = serverConfig();
+        assertEquals(1, c.lodStoreBackfillWorkers);
+        c.lodStoreBackfillWorkers = 0;
+        c.validate();
+        assertEquals(LSSConstants.MIN_LOD_STORE_BACKFILL_WORKERS, c.lodStoreBackfillWorkers);
+
+        c.lodStoreBackfillWorkers = 64;
+        c.validate();
+        assertEquals(LSSConstants.MAX_LOD_STORE_BACKFILL_WORKERS, c.lodStoreBackfillWorkers);
+    }
+
     // --- X-ray masking keys (docs/planning/antixray-compat-design.md §3) ---
 
     @Test
@@ -575,10 +650,16 @@ class ConfigValidationTest {
                         // maxConcurrentDiskReads is the same shape (store-conditional
                         // AUTO — disk-read-concurrency-gate-plan.md).
                         "diskReaderThreads", "perDimensionTimestampCacheSizeMB",
-                        "maxConcurrentDiskReads",
+                        "maxConcurrentDiskReads", "processingPrepareShards",
+                        // 0 = the hot-frame cache off.
+                        "lodStoreHotCacheMB",
+                        // 0 = the cold-tier walk off.
+                        "lodStoreColdCompressionDays",
                         // 0 = no inner ring (the default) — E1 far players.
                         "farPlayersMinDistanceBlocks" -> 0;
                 case "xrayMaxBlockHeight" -> LSSConstants.MIN_XRAY_MAX_BLOCK_HEIGHT;
+                // -1 = serialize probes on the tick thread (the pool's off switch).
+                case "probeSerializerThreads" -> -1;
                 default -> 1;
             };
             assertTrue(f.getInt(c) >= floor,
@@ -893,6 +974,26 @@ class ConfigValidationTest {
                 "above-top values display snapped to the top stop");
     }
 
+    @Test
+    void columnDecodeThreadsDefaultsToAutoAndClamps() {
+        var c = clientConfig();
+        assertEquals(0, c.columnDecodeThreads, "AUTO must be the shipped default");
+        c.validate();
+        assertEquals(0, c.columnDecodeThreads);
+        assertTrue(c.effectiveColumnDecodeThreads() >= 1
+                        && c.effectiveColumnDecodeThreads() <= LSSConstants.AUTO_COLUMN_DECODE_THREADS_MAX,
+                "AUTO resolves inside its band");
+        c.columnDecodeThreads = -3;
+        c.validate();
+        assertEquals(0, c.columnDecodeThreads, "negatives normalize to AUTO");
+        c.columnDecodeThreads = 1_000;
+        c.validate();
+        assertEquals(LSSConstants.MAX_COLUMN_DECODE_THREADS, c.columnDecodeThreads);
+        c.columnDecodeThreads = 1;
+        c.validate();
+        assertEquals(1, c.effectiveColumnDecodeThreads(), "1 = the inline drain, honoured as set");
+    }
+
     @Test
     void lodColumnsPerSecondLimitRoundTripsThroughJson() {
         // Same GSON contract as the toggles: exact key, and a saved nonzero binds back.
@@ -31,7 +31,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -80,8 +86,9 @@ class ClientColumnProcessorTest {
     private record Report(ResourceKey<Level> dimension, int chunkX, int chunkZ) {}
     private record Dispatched(int chunkX, int chunkZ, int sectionCount) {}
 
-    private final List<Report> reports = new ArrayList<>();
-    private final List<Dispatched> dispatches = new ArrayList<>();
+    // Synchronized: the pooled teardown tests report from the drain thread and the sweep.
+    private final List<Report> reports = Collections.synchronizedList(new ArrayList<>());
+    private final List<Dispatched> dispatches = Collections.synchronizedList(new ArrayList<>());
     private final ClientColumnProcessor.ColumnDispatcher recordingDispatcher =
             (d, cx, cz, data) -> dispatches.add(new Dispatched(cx, cz, data.sections().length));
 
@@ -195,6 +202,85 @@ class ClientColumnProcessorTest {
         }
     }
 
+    /** A processor decoding on {@code threads} pool workers (the seam decodes inline). */
+    private ClientColumnProcessor pooled(int threads) {
+        return new ClientColumnProcessor((d, cx, cz) -> reports.add(new Report(d, cx, cz)),
+                () -> null, threads);
+    }
+
+    /** Offers one-section columns at (0..count-1, 0); returns their positions in arrival order. */
+    private List<Report> offerRow(ClientColumnProcessor proc, int count) {
+        var positions = new ArrayList<Report>();
+        for (int cx = 0; cx < count; cx++) {
+            proc.offer(new VoxelColumnS2CPayload(cx, 0, dim, 1L, sectionWire(1, 1)), false);
+            positions.add(new Report(dim, cx, 0));
+        }
+        return positions;
+    }
+
+    /** Sweeps report in queue-then-window order, so only the multiset is pinned. */
+    private void assertReportedOnceEach(List<Report> expected) {
+        assertEquals(expected.size(), reports.size(), "every column reported exactly once: " + reports);
+        assertEquals(java.util.Set.copyOf(expected), java.util.Set.copyOf(reports));
+    }
+
+    /** Routes a teardown sweep's reports into {@link #reports}; keeps the test off disk. */
+    private final class ReportingManager extends LodRequestManager {
+        @Override
+        public void onIngestFailure(ResourceKey<Level> dimension, long packed) {
+            reports.add(new Report(dimension, PositionUtil.unpackX(packed), PositionUtil.unpackZ(packed)));
+        }
+    }
+
+    /** A drain on its own thread whose decodes stay parked until {@link #finish}. */
+    private record ParkedDrain(CountDownLatch gate, Thread thread, AtomicReference<Throwable> escaped) {
+        void finish() throws InterruptedException {
+            this.gate.countDown();
+            this.thread.join(TimeUnit.SECONDS.toMillis(30));
+            assertFalse(this.thread.isAlive(), "the drain returns once its decodes complete");
+            assertNull(this.escaped.get(), "nothing escapes the drain");
+        }
+    }
+
+    /**
+     * Starts {@code proc}'s drain with every decode parked in the translation step, and
+     * returns once both workers hold a column and the drain thread is waiting on its head:
+     * the window is polled and its decodes are in flight.
+     */
+    private ParkedDrain parkedDrain(ClientColumnProcessor proc) throws InterruptedException {
+        var gate = new CountDownLatch(1);
+        var parked = new AtomicInteger();
+        var escaped = new AtomicReference<Throwable>();
+        int epoch = proc.sessionEpochForTest();
+        UnaryOperator<byte[]> park = bytes -> {
+            parked.incrementAndGet();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return bytes;
+        };
+        var thread = new Thread(() -> {
+            try {
+                proc.drainColumnQueue(dim, LEVEL_SECTIONS, 0, false, FACTORY, park, recordingDispatcher, epoch);
+            } catch (Throwable t) {
+                escaped.set(t);
+            }
+        }, "test-column-drain");
+        thread.setDaemon(true);
+        thread.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (parked.get() < 2 || thread.getState() != Thread.State.WAITING) {
+            if (System.nanoTime() > deadline) {
+                gate.countDown();
+                fail("the drain never parked on its decode window");
+            }
+            Thread.sleep(1);
+        }
+        return new ParkedDrain(gate, thread, escaped);
+    }
+
     // ---- Queue accounting (backpressure signal + drop stats) ----
 
     @Test
@@ -585,6 +671,207 @@ class ClientColumnProcessorTest {
         assertEquals(0, processor.getQueuedCount());
     }
 
+    // ---- Pooled decode: dispatch order is arrival order ----
+
+    @Test
+    void pooledDecodeDispatchesInArrivalOrderWhateverFinishesFirst() {
+        var pooled = new ClientColumnProcessor((d, cx, cz) -> reports.add(new Report(d, cx, cz)),
+                () -> null, 4);
+        // Alternate heavy and light columns (and a repeat of one position) so the workers
+        // finish out of order; the drain must still hand them over as they arrived.
+        var expected = new ArrayList<Dispatched>();
+        try {
+            for (int i = 0; i < 24; i++) {
+                int sections = i % 3 == 0 ? LEVEL_SECTIONS : 1;
+                int cx = i == 23 ? 0 : i;
+                pooled.offer(new VoxelColumnS2CPayload(cx, 0, dim, 1L + i, sectionWire(sections, sections)), false);
+                expected.add(new Dispatched(cx, 0, sections));
+            }
+            // sectionWire writes sections at Y=0,1,..., so use minSectionY=0.
+            pooled.drainColumnQueue(dim, LEVEL_SECTIONS, 0, false, FACTORY, recordingDispatcher,
+                    pooled.sessionEpochForTest());
+            assertEquals(expected, dispatches,
+                    "a newer column for (0,0) must never be overtaken by the older one");
+            assertEquals(List.of(), reports);
+            assertEquals(0, pooled.getQueuedCount());
+            assertEquals(0, pooled.getQueuedBytes());
+        } finally {
+            pooled.shutdown();
+        }
+    }
+
+    @Test
+    void pooledDecodeReportsCorruptColumnsOnceAndDrainContinues() {
+        var pooled = pooled(2);
+        try {
+            pooled.offer(new VoxelColumnS2CPayload(1, 1, dim, 1L, truncatedColumnWire()), false);
+            pooled.offer(new VoxelColumnS2CPayload(3, 3, dim, 1L, truncatedLightWire()), false);
+            pooled.offer(new VoxelColumnS2CPayload(2, 2, dim, 1L, sectionWire(1, 1)), false);
+
+            pooled.drainColumnQueue(dim, LEVEL_SECTIONS, MIN_SECTION_Y, false, FACTORY, recordingDispatcher,
+                    pooled.sessionEpochForTest());
+
+            assertEquals(List.of(new Report(dim, 1, 1), new Report(dim, 3, 3)), reports,
+                    "a worker's decode throw reports in poll order, once");
+            assertEquals(List.of(new Dispatched(2, 2, 1)), dispatches);
+            assertEquals(0, pooled.getQueuedCount());
+        } finally {
+            pooled.shutdown();
+        }
+    }
+
+    @Test
+    void pooledDispatchErrorReportsTheHeadThenTheRestOfTheWindow() {
+        var pooled = pooled(2);
+        try {
+            var expected = offerRow(pooled, 3);
+            assertThrows(LinkageError.class, () -> pooled.drainColumnQueue(dim, LEVEL_SECTIONS,
+                    MIN_SECTION_Y, false, FACTORY,
+                    (d, cx, cz, data) -> { throw new LinkageError("boom"); },
+                    pooled.sessionEpochForTest()));
+            assertEquals(expected, reports,
+                    "the failing head reports first, then the columns already decoding behind it");
+            assertEquals(0, pooled.getQueuedCount());
+            assertEquals(0, pooled.getQueuedBytes());
+        } finally {
+            pooled.shutdown();
+        }
+    }
+
+    @Test
+    void pooledEpochBumpMidDispatchReportsTheWindowAndTheRemainder() {
+        var pooled = pooled(2);
+        var manager = new ReportingManager();
+        try {
+            offerRow(pooled, 3);
+            ClientColumnProcessor.ColumnDispatcher teardownMidDispatch = (d, cx, cz, data) -> {
+                dispatches.add(new Dispatched(cx, cz, data.sections().length));
+                pooled.reportUndispatched(manager);
+                pooled.offer(new VoxelColumnS2CPayload(40, 0, dim, 1L, sectionWire(1, 1)), false);
+            };
+            pooled.drainColumnQueue(dim, LEVEL_SECTIONS, 0, false, FACTORY, teardownMidDispatch,
+                    pooled.sessionEpochForTest());
+
+            assertEquals(List.of(new Dispatched(0, 0, 1)), dispatches,
+                    "columns already decoded in the window do not dispatch past the teardown");
+            assertEquals(List.of(new Report(dim, 1, 0), new Report(dim, 2, 0)), reports,
+                    "the sweep claims them from the window, once each");
+            assertEquals(1, pooled.getQueuedCount(), "the post-bump straggler is never polled");
+        } finally {
+            pooled.shutdown();
+        }
+    }
+
+    // ---- Pooled decode: teardown while decodes are in flight ----
+
+    @Test
+    void reportUndispatchedMidDecodeReportsEveryColumnOnceAndDispatchesNone() throws Exception {
+        var pooled = pooled(2);
+        var manager = new ReportingManager();
+        try {
+            var expected = offerRow(pooled, 12);
+            var drain = parkedDrain(pooled);
+
+            pooled.reportUndispatched(manager); // the onDimensionChange and disconnect sweep
+            pooled.offer(new VoxelColumnS2CPayload(40, 0, dim, 1L, sectionWire(1, 1)), false);
+            drain.finish();
+
+            assertReportedOnceEach(expected);
+            assertEquals(List.of(), dispatches,
+                    "a column decoded after the epoch changed is the sweep's, never the consumer's");
+            assertEquals(1, pooled.getQueuedCount(), "the stale drain never polls the straggler");
+            assertEquals(sectionWire(1, 1).length, pooled.getQueuedBytes());
+        } finally {
+            pooled.shutdown();
+        }
+    }
+
+    @Test
+    void shutdownMidDecodeReleasesTheWindowWithoutDispatchOrReport() throws Exception {
+        var pooled = pooled(2);
+        try {
+            offerRow(pooled, 12);
+            var drain = parkedDrain(pooled);
+
+            pooled.shutdown();
+            pooled.offer(new VoxelColumnS2CPayload(40, 0, dim, 1L, sectionWire(1, 1)), false);
+            drain.finish();
+
+            assertEquals(List.of(), dispatches);
+            assertEquals(List.of(), reports,
+                    "shutdown discards; the drain must not report a column the sweep claimed");
+            assertEquals(1, pooled.getQueuedCount(), "only the next session's column is left");
+            assertEquals(sectionWire(1, 1).length, pooled.getQueuedBytes());
+
+            pooled.drainColumnQueue(dim, LEVEL_SECTIONS, 0, false, FACTORY, recordingDispatcher,
+                    pooled.sessionEpochForTest());
+            assertEquals(List.of(new Dispatched(40, 0, 1)), dispatches,
+                    "the released window slots serve the next session");
+        } finally {
+            pooled.shutdown();
+        }
+    }
+
+    @Test
+    void disabledScheduleMidDecodeReportsEveryColumnOnce() throws Exception {
+        var pooled = pooled(2);
+        try {
+            var expected = offerRow(pooled, 12);
+            var drain = parkedDrain(pooled);
+
+            pooled.scheduleProcessing(false); // clears the backlog without an epoch change
+            pooled.offer(new VoxelColumnS2CPayload(40, 0, dim, 1L, sectionWire(1, 1)), false);
+            drain.finish();
+
+            assertReportedOnceEach(expected);
+            assertEquals(List.of(new Dispatched(40, 0, 1)), dispatches,
+                    "the cleared window never dispatches; the same-epoch drain goes on serving");
+            assertEquals(0, pooled.getQueuedCount());
+            assertEquals(0, pooled.getQueuedBytes());
+        } finally {
+            pooled.shutdown();
+        }
+    }
+
+    @Test
+    void erroringDecodeReleasesItsWindowWithoutStallingTheQueueBehindIt() {
+        var pooled = pooled(2);
+        var manager = new ReportingManager();
+        try {
+            byte[] poison = sectionWire(1, 1);
+            pooled.offer(new VoxelColumnS2CPayload(0, 0, dim, 1L, poison), false);
+            for (int cx = 1; cx < 12; cx++) {
+                pooled.offer(new VoxelColumnS2CPayload(cx, 0, dim, 1L, sectionWire(1, 1)), false);
+            }
+            UnaryOperator<byte[]> decodeFails = bytes -> {
+                if (bytes == poison) throw new LinkageError("boom");
+                return bytes;
+            };
+
+            assertThrows(LinkageError.class, () -> pooled.drainColumnQueue(dim, LEVEL_SECTIONS, 0, false,
+                    FACTORY, decodeFails, recordingDispatcher, pooled.sessionEpochForTest()));
+            var window = new ArrayList<Report>();
+            for (int cx = 0; cx < 2 * ClientColumnProcessor.DECODE_WINDOW_PER_THREAD; cx++) {
+                window.add(new Report(dim, cx, 0));
+            }
+            assertEquals(window, reports,
+                    "the worker's Error reports its column, then the finally reports the window");
+            assertEquals(12 - window.size(), pooled.getQueuedCount(),
+                    "only the columns never polled are still charged");
+
+            pooled.drainColumnQueue(dim, LEVEL_SECTIONS, 0, false, FACTORY, decodeFails, recordingDispatcher,
+                    pooled.sessionEpochForTest());
+            assertEquals(List.of(new Dispatched(8, 0, 1), new Dispatched(9, 0, 1),
+                            new Dispatched(10, 0, 1), new Dispatched(11, 0, 1)), dispatches,
+                    "the next drain serves the queue behind the failure on the same workers");
+            pooled.reportUndispatched(manager);
+            assertEquals(window, reports, "nothing the finally reported is left for a sweep");
+            assertEquals(0, pooled.getQueuedCount());
+        } finally {
+            pooled.shutdown();
+        }
+    }
+
     // ---- CL-040: stale-dimension columns are consumed silently ----
 
     @Test
@@ -745,9 +1032,9 @@ class ClientColumnProcessorTest {
             staticProcessor.offer(new VoxelColumnS2CPayload(1, 2, dim, 9L, new byte[0]), false);
 
             var onDimensionChange = LodRequestManager.class
-                    .getDeclaredMethod("onDimensionChange", ResourceKey.class);
+                    .getDeclaredMethod("onDimensionChange", ResourceKey.class, int.class, int.class);
             onDimensionChange.setAccessible(true);
-            onDimensionChange.invoke(manager, dimKey("destination"));
+            onDimensionChange.invoke(manager, dimKey("destination"), 0, 0);
 
             assertEquals(List.of("report", "save"), events,
                     "a dimension change must unstamp undispatched columns before the cache flush");
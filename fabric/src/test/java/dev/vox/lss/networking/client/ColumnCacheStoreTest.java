@@ -32,12 +32,26 @@ class ColumnCacheStoreTest {
         return ResourceKey.create(Registries.DIMENSION, Identifier.parse("lss_test:" + name));
     }
 
-    private static Path getCacheFile(String serverAddress, ResourceKey<Level> dimension) {
+    private static Path getCacheDir(String serverAddress, ResourceKey<Level> dimension) {
         String dimKey = dimension.identifier().toString().replaceAll("[^a-zA-Z0-9._-]", "_");
         String serverKey = serverAddress.replaceAll("[^a-zA-Z0-9._-]", "_");
         // Through the store's own resolved root (stage D) — hand-rebuilding the path
         // here would silently diverge from the adoption rule.
-        return ColumnCacheStore.cacheRoot().resolve(serverKey).resolve(dimKey + ".bin");
+        return ColumnCacheStore.cacheRoot().resolve(serverKey).resolve(dimKey);
+    }
+
+    /** The v4 flat file the tiled store migrates from (corruption tests write it raw). */
+    private static Path getLegacyCacheFile(String serverAddress, ResourceKey<Level> dimension) {
+        Path dir = getCacheDir(serverAddress, dimension);
+        return dir.resolveSibling(dir.getFileName() + ".bin");
+    }
+
+    private static long tileCount(String serverAddress, ResourceKey<Level> dimension) throws IOException {
+        Path dir = getCacheDir(serverAddress, dimension);
+        if (!Files.isDirectory(dir)) return 0;
+        try (var files = Files.list(dir)) {
+            return files.count();
+        }
     }
 
     @Test
@@ -131,7 +145,7 @@ class ColumnCacheStoreTest {
     @Test
     void invalidFormatVersionReturnsEmpty() throws IOException {
         var dim = testDimension("bad_version");
-        Path file = getCacheFile("test-bad-version", dim);
+        Path file = getLegacyCacheFile("test-bad-version", dim);
         Files.createDirectories(file.getParent());
         try (var out = new DataOutputStream(Files.newOutputStream(file))) {
             out.writeInt(999); // wrong version
@@ -146,14 +160,14 @@ class ColumnCacheStoreTest {
 
     @Test
     void excessiveOrNegativeCountReturnsEmpty() throws IOException {
-        // These headers must be the CURRENT format version: a stale v1 header dies at the
+        // These headers must be the v4 format version: a stale v1 header dies at the
         // version gate before the count guard runs, and the test passes vacuously.
         for (int badCount : new int[]{3_000_000, -1}) {
             var dim = testDimension("excess_count_" + badCount);
-            Path file = getCacheFile("test-excess", dim);
+            Path file = getLegacyCacheFile("test-excess", dim);
             Files.createDirectories(file.getParent());
             try (var out = new DataOutputStream(Files.newOutputStream(file))) {
-                out.writeInt(ColumnCacheStore.FORMAT_VERSION);
+                out.writeInt(ColumnCacheStore.LEGACY_FORMAT_VERSION);
                 out.writeInt(badCount); // outside the [0, 2_000_000] guard
             }
 
@@ -165,10 +179,10 @@ class ColumnCacheStoreTest {
     @Test
     void truncatedDataReturnsPartial() throws IOException {
         var dim = testDimension("truncated");
-        Path file = getCacheFile("test-truncated", dim);
+        Path file = getLegacyCacheFile("test-truncated", dim);
         Files.createDirectories(file.getParent());
         try (var out = new DataOutputStream(Files.newOutputStream(file))) {
-            out.writeInt(ColumnCacheStore.FORMAT_VERSION);
+            out.writeInt(ColumnCacheStore.LEGACY_FORMAT_VERSION);
             out.writeInt(5); // claims 5 entries
             // Only write 1 complete entry
             out.writeLong(42L);
@@ -205,7 +219,7 @@ class ColumnCacheStoreTest {
         // cold resync after upgrade.
         for (int oldVersion : new int[]{1, 2, 3}) {
             var dim = testDimension("discard_v" + oldVersion);
-            Path file = getCacheFile("test-discard-v" + oldVersion, dim);
+            Path file = getLegacyCacheFile("test-discard-v" + oldVersion, dim);
             Files.createDirectories(file.getParent());
             try (var out = new DataOutputStream(Files.newOutputStream(file))) {
                 out.writeInt(oldVersion);
@@ -338,8 +352,9 @@ class ColumnCacheStoreTest {
         ColumnCacheStore.save("test-minus-one", dim, map);
         var loaded = ColumnCacheStore.load("test-minus-one", dim);
 
-        assertEquals(2, loaded.size(), "-1 entries roundtrip verbatim, not filtered at save or load");
-        assertTrue(loaded.containsKey(100L));
+        // -1 IS the tile format's absent marker, so the sentinel is stored as "no entry".
+        assertEquals(1, loaded.size(), "a -1 entry persists as absent");
+        assertFalse(loaded.containsKey(100L));
         assertEquals(-1L, loaded.get(100L));
 
         var states = new ColumnStateMap();
@@ -388,7 +403,7 @@ class ColumnCacheStoreTest {
         map.put(1L, 1L);
         ColumnCacheStore.save(hostile, dim, map);
 
-        assertTrue(Files.exists(getCacheFile(hostile, dim)), "file must land inside the sanitized server dir");
+        assertTrue(Files.exists(getCacheDir(hostile, dim)), "tiles must land inside the sanitized server dir");
         // Where the raw id would have landed if separators were honored: two levels above
         // the cache root (<root>/../../traversal-target).
         assertFalse(Files.exists(cacheDir.resolve(hostile).normalize()),
@@ -397,24 +412,21 @@ class ColumnCacheStoreTest {
     }
 
     @Test
-    void oversizedSaveLoadsBackEmptyNotTruncated() {
+    void pastTheOldEntryCeilingEverythingRoundtrips() {
         var dim = testDimension("oversized");
-        // One entry over the 2_000_000 load guard (~32 MB file; kept a single test method
-        // so it can be excluded if CI memory ever becomes an issue).
-        var map = new Long2LongOpenHashMap(2_000_001);
+        // Past the v4 format's 2_000_000-entry load guard (which discarded such a file
+        // wholesale): tiles carry no entry ceiling, only a tile-file cap far above this
+        // (~124 tiles here; kept a single test method so it can be excluded if CI memory
+        // ever becomes an issue).
+        var map = new Long2LongOpenHashMap(2_002_225);
         map.defaultReturnValue(-1L);
-        for (long i = 0; i < 2_000_001; i++) map.put(i, 1L);
+        for (int x = 0; x < 1415; x++) {
+            for (int z = 0; z < 1415; z++) map.put(PositionUtil.packPosition(x - 700, z - 700), 1L + x);
+        }
 
         ColumnCacheStore.save("test-oversized", dim, map);
-        assertTrue(Files.exists(getCacheFile("test-oversized", dim)),
-                "save writes the oversized file verbatim — the entry-count guard lives load-side");
-
-        // Wholesale discard (load warns and rebuilds from scratch), never truncation —
-        // silently keeping an arbitrary 2M-entry prefix would resync stale stamps as
-        // authoritative. The discarded load must not throw and must keep the -1 sentinel.
         var loaded = ColumnCacheStore.load("test-oversized", dim);
-        assertTrue(loaded.isEmpty(), "an oversized cache must be discarded wholesale, not truncated to the cap");
-        assertEquals(-1L, loaded.defaultReturnValue(), "discarded load still answers the unknown sentinel");
+        assertEquals(map, loaded, "every entry survives — no ceiling, no truncation");
 
         ColumnCacheStore.clearForServer("test-oversized");
     }
@@ -541,32 +553,108 @@ class ColumnCacheStoreTest {
     }
 
     @Test
-    void mergeSaveEvictsFarthestFirstWhenOverTheCap() {
+    void mergeSaveEvictsFarthestTilesFirstWhenOverTheCap() throws IOException {
         var dim = testDimension("merge_evict");
         final String server = "test-merge-evict";
-        int oldCap = ColumnCacheStore.mergeEvictionCap;
+        int oldCap = ColumnCacheStore.maxTileFiles;
         try {
+            // One entry per tile (tiles are 128 chunks on a side).
             long near1 = PositionUtil.packPosition(1, 0);
-            long near2 = PositionUtil.packPosition(0, 1);
-            long near3 = PositionUtil.packPosition(1, 1);
-            long mid = PositionUtil.packPosition(2, 0);
-            long far1 = PositionUtil.packPosition(10, 0);
-            long far2 = PositionUtil.packPosition(0, 20);
-            ColumnCacheStore.save(server, dim, mapOf(mid, 4L, far1, 5L, far2, 6L));
-            ColumnCacheStore.mergeEvictionCap = 4;
-            ColumnCacheStore.mergeSave(server, dim, mapOf(near1, 1L, near2, 2L, near3, 3L),
+            long near2 = PositionUtil.packPosition(130, 0);
+            long mid = PositionUtil.packPosition(0, 300);
+            long far1 = PositionUtil.packPosition(1300, 0);
+            long far2 = PositionUtil.packPosition(0, -2600);
+            ColumnCacheStore.save(server, dim, mapOf(mid, 3L, far1, 4L, far2, 5L));
+            ColumnCacheStore.maxTileFiles = 3;
+            ColumnCacheStore.mergeSave(server, dim, mapOf(near1, 1L, near2, 2L),
                     new LongOpenHashSet(), 0, 0);
 
+            assertEquals(3, tileCount(server, dim), "capped at the tile-file threshold");
             var loaded = ColumnCacheStore.load(server, dim);
-            assertEquals(4, loaded.size(), "capped at the eviction threshold");
             assertEquals(1L, loaded.get(near1));
             assertEquals(2L, loaded.get(near2));
-            assertEquals(3L, loaded.get(near3));
-            assertEquals(4L, loaded.get(mid), "the nearest file entry survives");
+            assertEquals(3L, loaded.get(mid), "the nearest file tile survives");
             assertEquals(-1L, loaded.get(far1), "farthest history evicted first");
             assertEquals(-1L, loaded.get(far2), "farthest history evicted first");
         } finally {
-            ColumnCacheStore.mergeEvictionCap = oldCap;
+            ColumnCacheStore.maxTileFiles = oldCap;
+            ColumnCacheStore.clearForServer(server);
+        }
+    }
+
+    @Test
+    void loadTilesReadsOnlyTheRequestedTilesAsLeaves() {
+        var dim = testDimension("lazy_tiles");
+        final String server = "test-lazy-tiles";
+        try {
+            long near = PositionUtil.packPosition(-3, 5);
+            long far = PositionUtil.packPosition(4000, 4000);
+            ColumnCacheStore.save(server, dim, mapOf(near, 1000L, far, 2000L));
+
+            var state = new ColumnStateMap();
+            state.adoptLoaded(ColumnCacheStore.loadTiles(server, dim,
+                    ColumnCacheStore.tilesCovering(0, 0, 64)));
+            assertEquals(1000L, state.timestampFor(near));
+            assertEquals(-1L, state.timestampFor(far), "a tile outside the request stays on disk");
+
+            state.adoptLoaded(ColumnCacheStore.loadTiles(server, dim,
+                    ColumnCacheStore.tilesCovering(4000, 4000, 0)));
+            assertEquals(2000L, state.timestampFor(far), "the scanner's next tile loads on demand");
+            assertTrue(ColumnCacheStore.tileOutOfRange(
+                    PositionUtil.packPosition(31, 31), 0, 0, 64), "a far tile is out of range");
+            assertFalse(ColumnCacheStore.tileOutOfRange(
+                    PositionUtil.packPosition(-1, 0), 0, 0, 64), "a neighbouring tile is in range");
+        } finally {
+            ColumnCacheStore.clearForServer(server);
+        }
+    }
+
+    @Test
+    void mergeSaveLeavesUntouchedTilesAlone() throws IOException {
+        var dim = testDimension("merge_incremental");
+        final String server = "test-merge-incremental";
+        try {
+            long a = PositionUtil.packPosition(0, 0);
+            long b = PositionUtil.packPosition(1000, 1000);
+            ColumnCacheStore.save(server, dim, mapOf(a, 1L, b, 2L));
+            Path untouched = getCacheDir(server, dim).resolve("t.7.7.bin");
+            byte[] before = Files.readAllBytes(untouched);
+            Files.setLastModifiedTime(untouched, java.nio.file.attribute.FileTime.fromMillis(0));
+
+            ColumnCacheStore.mergeSave(server, dim, mapOf(a, 9L), new LongOpenHashSet(), 0, 0);
+
+            assertEquals(0, Files.getLastModifiedTime(untouched).toMillis(),
+                    "a save only opens the tiles its edits land in");
+            assertArrayEquals(before, Files.readAllBytes(untouched));
+            assertEquals(9L, ColumnCacheStore.load(server, dim).get(a));
+        } finally {
+            ColumnCacheStore.clearForServer(server);
+        }
+    }
+
+    @Test
+    void aV4FileMigratesIntoTilesOnFirstTouch() throws IOException {
+        var dim = testDimension("v4_migrate");
+        final String server = "test-v4-migrate";
+        try {
+            long kept = PositionUtil.packPosition(7, -9);
+            long cleared = PositionUtil.packPosition(8, -9);
+            ColumnCacheStore.save(server, dim, mapOf(cleared, 50L));
+            Path file = getLegacyCacheFile(server, dim);
+            try (var out = new DataOutputStream(Files.newOutputStream(file))) {
+                out.writeInt(ColumnCacheStore.LEGACY_FORMAT_VERSION);
+                out.writeInt(2);
+                out.writeLong(kept);
+                out.writeLong(1_750_000_000L);
+                out.writeLong(cleared);
+                out.writeLong(-1L); // a claim-free v4 row still deletes the tile stamp
+            }
+
+            var loaded = ColumnCacheStore.load(server, dim);
+            assertEquals(1_750_000_000L, loaded.get(kept), "v4 stamps carry over verbatim");
+            assertFalse(loaded.containsKey(cleared));
+            assertFalse(Files.exists(file), "the flat file is gone once migrated");
+        } finally {
             ColumnCacheStore.clearForServer(server);
         }
     }
@@ -576,7 +664,7 @@ class ColumnCacheStoreTest {
         var dim = testDimension("merge_corrupt");
         final String server = "test-merge-corrupt";
         try {
-            var file = getCacheFile(server, dim);
+            var file = getLegacyCacheFile(server, dim);
             Files.createDirectories(file.getParent());
             Files.write(file, new byte[]{1, 2, 3}); // truncated garbage — load() discards it
             ColumnCacheStore.mergeSave(server, dim, mapOf(100L, 1000L), new LongOpenHashSet(), 0, 0);
@@ -1154,4 +1154,35 @@ class ColumnStateMapTest {
                     "position " + i + " (stamp " + stamps[i] + " vs M " + stampM + ")");
         }
     }
+
+    // ---- LOD tiers (far-disc coarse columns) ----
+
+    @Test
+    void coarseColumnRecordsItsTierAndFullResReplacesIt() {
+        map.onReceived(POS, 5000L, 2);
+        assertEquals(2, map.heldTier(POS));
+        assertEquals(SATISFIED, map.classify(POS), "a coarse column is held data");
+        map.onReceived(POS, 6000L);
+        assertEquals(0, map.heldTier(POS), "a full-res delivery clears the coarse mark");
+    }
+
+    @Test
+    void coarseColumnOwesRingWalkOnlyWhenFinerTierWanted() {
+        map.onReceived(POS, 5000L, 2);
+        map.onUpToDate(POS);
+        int px = PositionUtil.unpackX(POS), pz = PositionUtil.unpackZ(POS);
+        assertFalse(map.ringNeedsFree(px, pz, 0, 1), "tier 2 held, tier 1 wanted: walk");
+        // Leaf-conservative: only the held tier's own want (or coarser) is needs-free.
+        assertEquals(map.ringNeedsFree(px, pz, 0, 2), map.ringNeedsFree(px, pz, 0, 3));
+    }
+
+    @Test
+    void coarseStampsNeverPersist() {
+        map.onReceived(POS, 5000L, 1);
+        assertFalse(map.mapForSave().containsKey(POS));
+        var detached = map.detachForSave();
+        assertTrue(detached.removals.contains(POS),
+                "a stale full-res file entry beneath must not outlive the coarse stamp");
+        detached.forEachPresent((packed, ts) -> assertNotEquals(POS, packed));
+    }
 }
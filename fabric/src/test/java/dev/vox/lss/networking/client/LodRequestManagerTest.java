@@ -2,6 +2,7 @@ package dev.vox.lss.networking.client;
 
 import dev.vox.lss.common.LSSConstants;
 import dev.vox.lss.common.PositionUtil;
+import dev.vox.lss.common.wire.WantSetWire;
 import dev.vox.lss.networking.payloads.BatchResponseS2CPayload;
 import dev.vox.lss.networking.payloads.SessionConfigS2CPayload;
 import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
@@ -435,6 +436,33 @@ class LodRequestManagerTest {
         assertFalse(lastBatch().contains(satisfied), "a satisfied position must never be declared");
     }
 
+    @Test
+    void anAcknowledgedSessionDeclaresCompactlyAndGoesWholeAfterAFailedSend() {
+        var ring = configureRing1Disc();
+        manager.onSessionConfig(new SessionConfigS2CPayload(LSSConstants.PROTOCOL_VERSION, true,
+                1, true, 0, LSSConstants.CAPABILITY_COMPACT_WANT_SETS), "lss-test");
+        manager.markCacheLoadedForTest();
+        var bodies = new ArrayList<byte[]>();
+        manager.setWantSetSenderForTest(bodies::add);
+
+        assertEquals(8, fireScanRing1());
+        assertEquals(List.of(), sent, "an acknowledged session never sends the legacy batch");
+        var declared = WantSetWire.decode(bodies.get(0), null);
+        assertNotNull(declared, "a session's first frame is whole");
+        long[] expected = ring.clone();
+        long[] actual = declared.positions().clone();
+        Arrays.sort(expected);
+        Arrays.sort(actual);
+        assertArrayEquals(expected, actual);
+
+        manager.setWantSetSenderForTest(body -> { throw new IllegalStateException("channel closed"); });
+        fireScanRing1();
+        manager.setWantSetSenderForTest(bodies::add);
+        fireScanRing1();
+        assertNotNull(WantSetWire.decode(bodies.get(1), null),
+                "after a failed send the server may not hold the encoder's base: whole again");
+    }
+
     @Test
     void marksSurviveSendAndAreConsumedByAnswers() {
         var ring = configureRing1Disc();
@@ -1036,6 +1064,98 @@ class LodRequestManagerTest {
         assertEquals(0, manager.getReceivedColumnCount());
     }
 
+    // ---- lazy cache tiles (tiled cache v5) ----
+
+    private static final long FAR = PositionUtil.packPosition(5000, 2);
+    private static final long FAR_NEIGHBOUR = PositionUtil.packPosition(5001, 2);
+
+    /** Arm lazy tiles against a fresh on-disk cache holding {@code file}. */
+    private String armLazyTiles(String name, Long2LongOpenHashMap file) {
+        String server = "lss-lazy-" + name + "-" + System.nanoTime();
+        manager.onSessionConfig(config(64, true), server);
+        manager.setLastDimensionForTest(dim("overworld"));
+        ColumnCacheStore.save(server, dim("overworld"), file);
+        manager.armLazyCacheTilesForTest();
+        return server;
+    }
+
+    /** Tick the gate until the tile load it started has landed. */
+    private void drainCacheGate() {
+        for (int i = 0; i < 100 && !manager.tickCacheGatePhase(); i++) {
+            ColumnCacheStore.flushPendingIo();
+        }
+        assertTrue(manager.tickCacheGatePhase(), "the tile load must land");
+    }
+
+    private static Long2LongOpenHashMap fileOf(long... pairs) {
+        var m = new Long2LongOpenHashMap();
+        for (int i = 0; i < pairs.length; i += 2) m.put(pairs[i], pairs[i + 1]);
+        return m;
+    }
+
+    @Test
+    void aTileLoadedAfterLiveColumnsArrivedDoesNotOverwriteThem() {
+        String server = armLazyTiles("live", fileOf(FAR, 1000L, FAR_NEIGHBOUR, 2000L));
+        try {
+            drainCacheGate(); // the tiles around spawn
+            manager.columnsForTest().onReceived(FAR, 7000L); // a live answer beats its tile
+
+            manager.tickMovementPhase(5000, 2);
+            drainCacheGate();
+            assertEquals(7000L, manager.columnsForTest().timestampFor(FAR),
+                    "a mid-session tile load must not rewind a live stamp to its file value");
+            assertEquals(2000L, manager.columnsForTest().timestampFor(FAR_NEIGHBOUR),
+                    "positions the session holds nothing for still fill from the tile");
+        } finally {
+            ColumnCacheStore.clearForServer(server);
+        }
+    }
+
+    @Test
+    void aRemovalRecordedBeforeItsTileLoadsStaysRemoved() {
+        String server = armLazyTiles("removal", fileOf(FAR, 1000L, FAR_NEIGHBOUR, 2000L));
+        try {
+            drainCacheGate();
+            manager.columnsForTest().onReceived(FAR, 7000L);
+            manager.columnsForTest().onIngestFailed(FAR); // lost content: a deliberate delete
+            assertEquals(-1L, manager.columnsForTest().timestampFor(FAR));
+
+            manager.tickMovementPhase(5000, 2);
+            drainCacheGate();
+            assertEquals(-1L, manager.columnsForTest().timestampFor(FAR),
+                    "the on-disk stamp the session deleted must not come back with its tile");
+            assertEquals(2000L, manager.columnsForTest().timestampFor(FAR_NEIGHBOUR));
+        } finally {
+            ColumnCacheStore.clearForServer(server);
+        }
+    }
+
+    @Test
+    void aPrunedTileIsRequestedAgainOnReentry() {
+        String server = armLazyTiles("reentry", fileOf(POS, 1000L));
+        long homeTile = ColumnCacheStore.tilesCovering(PositionUtil.unpackX(POS),
+                PositionUtil.unpackZ(POS), 0)[0];
+        try {
+            drainCacheGate();
+            assertEquals(1000L, manager.columnsForTest().timestampFor(POS));
+
+            manager.tickMovementPhase(5000, 2);
+            assertFalse(manager.loadedCacheTilesForTest().contains(homeTile),
+                    "the movement prune forgets a tile wholly out of range");
+            assertEquals(-1L, manager.columnsForTest().timestampFor(POS));
+            drainCacheGate();
+
+            manager.tickMovementPhase(0, 0);
+            assertFalse(manager.tickCacheGatePhase(), "re-entry starts a load and holds the gate");
+            assertTrue(manager.loadedCacheTilesForTest().contains(homeTile));
+            drainCacheGate();
+            assertEquals(1000L, manager.columnsForTest().timestampFor(POS),
+                    "the pruned tile's stamps come back on a return trip");
+        } finally {
+            ColumnCacheStore.clearForServer(server);
+        }
+    }
+
     // ---- Tier B v16 backward-compat: drive generation on a legacy server ----
     // (docs/planning/v16-client-compat-design.md §4). The egress rewrites first-serve stamps to
     // v16's generate trigger; the CORE state stays honest -1 (the rewrite is wire-only).
@@ -132,6 +132,29 @@ class WireParityTest {
         assertArrayEquals(expected, encode(SessionConfigS2CPayload.CODEC, p));
     }
 
+    @Test
+    void sessionConfigServerCapabilitiesRoundTripAndTrailOnlyWhenGranted() {
+        var granted = new SessionConfigS2CPayload(LSSConstants.PROTOCOL_VERSION, true, 64, true,
+                4_440, LSSConstants.CAPABILITY_COMPACT_WANT_SETS);
+        byte[] expected = ref(b -> {
+            b.writeVarInt(LSSConstants.PROTOCOL_VERSION);
+            b.writeBoolean(true);
+            b.writeVarInt(64);
+            b.writeBoolean(true);
+            b.writeVarInt(4_440);
+            b.writeVarInt(LSSConstants.CAPABILITY_COMPACT_WANT_SETS);
+        });
+        assertArrayEquals(expected, encode(SessionConfigS2CPayload.CODEC, granted));
+        assertEquals(LSSConstants.CAPABILITY_COMPACT_WANT_SETS,
+                decode(SessionConfigS2CPayload.CODEC, expected).serverCapabilities());
+
+        var plain = new SessionConfigS2CPayload(LSSConstants.PROTOCOL_VERSION, true, 64, true,
+                4_440);
+        byte[] plainBytes = encode(SessionConfigS2CPayload.CODEC, plain);
+        assertEquals(expected.length - 1, plainBytes.length, "nothing granted, nothing appended");
+        assertEquals(0, decode(SessionConfigS2CPayload.CODEC, plainBytes).serverCapabilities());
+    }
+
     @Test
     void sessionConfigToleratesForeignVersionLayout() {
         // A v15 server's 10-field SessionConfig frame. The current decoder must consume the whole
@@ -536,11 +559,13 @@ class WireParityTest {
                 dev.vox.lss.networking.payloads.FarPlayerUpdatesS2CPayload.TYPE.id().toString(),
                 dev.vox.lss.networking.payloads.RegionSummaryRequestC2SPayload.TYPE.id().toString(),
                 dev.vox.lss.networking.payloads.RegionSummaryS2CPayload.TYPE.id().toString(),
-                dev.vox.lss.networking.payloads.ColumnStampsS2CPayload.TYPE.id().toString());
+                dev.vox.lss.networking.payloads.ColumnStampsS2CPayload.TYPE.id().toString(),
+                dev.vox.lss.networking.payloads.ColumnPackS2CPayload.TYPE.id().toString(),
+                dev.vox.lss.networking.payloads.WantSetC2SPayload.TYPE.id().toString());
         assertEquals(covered, declared,
                 "every LSS channel must map to exactly one payload with a reference frame in "
                 + "this suite — a new payload requires frames in BOTH WireParityTests");
-        assertEquals(13, declared.size());
+        assertEquals(15, declared.size());
     }
 
     // ---- Region summaries (P2): the carriers add NO framing — the FriendlyByteBuf
@@ -587,6 +612,41 @@ class WireParityTest {
                 "the S2C carrier must add zero framing around the shared body");
     }
 
+    // ---- Packed columns: the carrier adds NO framing — the FriendlyByteBuf body IS the
+    // ---- ColumnPackWire byte[] verbatim (same doctrine as above).
+
+    @Test
+    void columnPackCarrierShipsTheSharedCodecBytesVerbatim() {
+        var pack = dev.vox.lss.common.wire.ColumnPackWire.encode("minecraft:overworld",
+                LSSConstants.COLUMN_CODEC_ZSTD, new dev.vox.lss.common.wire.ColumnPackWire.Member[]{
+                        new dev.vox.lss.common.wire.ColumnPackWire.Member(3, -4, 1_750_000_000_000L,
+                                LSSConstants.COLUMN_SOURCE_DISK, 900),
+                        new dev.vox.lss.common.wire.ColumnPackWire.Member(4, -4, 1_750_000_000_001L,
+                                LSSConstants.COLUMN_SOURCE_STORE, 1200)},
+                new byte[]{0x28, (byte) 0xB5, 0x2F, (byte) 0xFD});
+        assertArrayEquals(pack, encode(
+                dev.vox.lss.networking.payloads.ColumnPackS2CPayload.CODEC,
+                new dev.vox.lss.networking.payloads.ColumnPackS2CPayload(pack)),
+                "the S2C carrier must add zero framing around the shared body");
+    }
+
+    // ---- Compact want-sets: the carrier adds NO framing — the FriendlyByteBuf body IS
+    // ---- the WantSetWire byte[] verbatim (same doctrine as above).
+
+    @Test
+    void wantSetCarrierShipsTheSharedCodecBytesVerbatim() {
+        var body = dev.vox.lss.common.wire.WantSetWire.encode(1, null, 3, -4,
+                new long[]{dev.vox.lss.common.PositionUtil.packPosition(3, -4),
+                        dev.vox.lss.common.PositionUtil.packPosition(4, -4)},
+                new long[]{-1L, 1_750_000_000_000L}, 2);
+        byte[] carried = encode(
+                dev.vox.lss.networking.payloads.WantSetC2SPayload.CODEC,
+                new dev.vox.lss.networking.payloads.WantSetC2SPayload(body));
+        assertArrayEquals(body, carried, "the C2S carrier must add zero framing around the shared body");
+        assertArrayEquals(body, decode(dev.vox.lss.networking.payloads.WantSetC2SPayload.CODEC,
+                carried).body());
+    }
+
     // ---- Far players (E1): the carriers add NO framing — the FriendlyByteBuf body IS
     // ---- the FarPlayerWire byte[] verbatim, in both directions. Parity with Paper
     // ---- holds by construction (one shared codec); these frames pin the CARRIER.
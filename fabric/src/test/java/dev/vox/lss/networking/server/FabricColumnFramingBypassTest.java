@@ -0,0 +1,142 @@
+package dev.vox.lss.networking.server;
+
+import dev.vox.lss.common.LSSConstants;
+import dev.vox.lss.common.processing.ColumnFramingDiagnostics;
+import dev.vox.lss.networking.payloads.ColumnPackS2CPayload;
+import dev.vox.lss.networking.payloads.SessionConfigS2CPayload;
+import dev.vox.lss.networking.payloads.VoxelColumnS2CPayload;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import net.minecraft.SharedConstants;
+import net.minecraft.network.protocol.common.ClientboundCustomPayloadPacket;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.level.Level;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * The mark/frame handler pair on an {@link EmbeddedChannel} laid out like vanilla's
+ * outbound tail ({@code compress} then {@code encoder}), with stubs standing in for both:
+ * the encoder turns any packet into the same three-byte frame, and the compressor tags
+ * what it sees with {@link #COMPRESSED}. A bypassed zstd column must reach the head as
+ * the uncompressed data-length marker plus its frame, untouched by the compressor; raw
+ * columns, other packets and plain buffers must go through it exactly as before.
+ */
+class FabricColumnFramingBypassTest {
+
+    private static final byte COMPRESSED = 0x7F;
+    private static final byte[] FRAME = {1, 2, 3};
+
+    @BeforeAll
+    static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    /** Vanilla's packet encoder, reduced to "every packet encodes to {@link #FRAME}". */
+    private static final class StubEncoder extends ChannelOutboundHandlerAdapter {
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            ctx.write(msg instanceof ByteBuf ? msg : Unpooled.wrappedBuffer(FRAME.clone()), promise);
+        }
+    }
+
+    /** The connection compressor, reduced to a one-byte tag in front of the frame. */
+    private static final class StubCompress extends ChannelOutboundHandlerAdapter {
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            var in = (ByteBuf) msg;
+            var out = ctx.alloc().buffer(in.readableBytes() + 1).writeByte(COMPRESSED).writeBytes(in);
+            in.release();
+            ctx.write(out, promise);
+        }
+    }
+
+    private static EmbeddedChannel channel(boolean bypass, ColumnFramingDiagnostics diag) {
+        var ch = new EmbeddedChannel();
+        ch.pipeline().addLast(FabricColumnFramingBypass.COMPRESS, new StubCompress());
+        ch.pipeline().addLast(FabricColumnFramingBypass.ENCODER, new StubEncoder());
+        FabricColumnFramingBypass.install(ch.pipeline(), bypass, diag);
+        return ch;
+    }
+
+    private static ClientboundCustomPayloadPacket column(byte codec) {
+        return new ClientboundCustomPayloadPacket(new VoxelColumnS2CPayload(7, -3, Level.OVERWORLD,
+                1234567L, LSSConstants.COLUMN_SOURCE_DISK, codec, new byte[]{9, 9}, 2));
+    }
+
+    /** Writes one message and returns the bytes that reached the channel's head. */
+    private static byte[] written(EmbeddedChannel ch, Object msg) {
+        ch.writeOutbound(msg);
+        ByteBuf out = ch.readOutbound();
+        try {
+            return ByteBufUtil.getBytes(out);
+        } finally {
+            out.release();
+        }
+    }
+
+    private static byte[] compressed() {
+        return new byte[]{COMPRESSED, 1, 2, 3};
+    }
+
+    private static byte[] marked() {
+        return new byte[]{0, 1, 2, 3};
+    }
+
+    @Test
+    void aZstdColumnGoesPastTheCompressorBehindTheUncompressedMarker() {
+        var diag = new ColumnFramingDiagnostics();
+        var ch = channel(true, diag);
+
+        assertArrayEquals(marked(), written(ch, column(LSSConstants.COLUMN_CODEC_ZSTD)),
+                "data length 0, then the encoded frame — never the compressor's output");
+        assertArrayEquals(marked(), written(ch, new ClientboundCustomPayloadPacket(
+                new ColumnPackS2CPayload(new byte[]{4, 5}))), "a pack is always one zstd frame");
+        assertNull(ch.readOutbound());
+        assertEquals(2, diag.getFrames());
+        assertEquals(2, diag.getBypassed());
+        ch.finishAndReleaseAll();
+    }
+
+    @Test
+    void rawColumnsOtherPacketsAndPlainBuffersStillCompress() {
+        var diag = new ColumnFramingDiagnostics();
+        var ch = channel(true, diag);
+
+        assertArrayEquals(compressed(), written(ch, column(LSSConstants.COLUMN_CODEC_RAW)),
+                "a raw (codec 0) column keeps the connection compressor");
+        assertArrayEquals(compressed(), written(ch, new ClientboundCustomPayloadPacket(
+                new SessionConfigS2CPayload(LSSConstants.PROTOCOL_VERSION, true, 64, true))));
+        assertArrayEquals(compressed(), written(ch, Unpooled.wrappedBuffer(FRAME.clone())));
+        // The flag a column raised is consumed by its own frame, never by the next write.
+        assertArrayEquals(marked(), written(ch, column(LSSConstants.COLUMN_CODEC_ZSTD)));
+        assertArrayEquals(compressed(), written(ch, Unpooled.wrappedBuffer(FRAME.clone())));
+        assertEquals(1, diag.getFrames(), "only column frames are timed");
+        ch.finishAndReleaseAll();
+    }
+
+    @Test
+    void withTheBypassOffColumnsAreTimedButStillCompressed() {
+        var diag = new ColumnFramingDiagnostics();
+        var ch = channel(false, diag);
+
+        assertArrayEquals(compressed(), written(ch, column(LSSConstants.COLUMN_CODEC_ZSTD)));
+        assertEquals(1, diag.getFrames());
+        assertEquals(0, diag.getBypassed());
+
+        FabricColumnFramingBypass.install(ch.pipeline(), true, diag); // a re-registration
+        assertArrayEquals(marked(), written(ch, column(LSSConstants.COLUMN_CODEC_ZSTD)),
+                "re-applying flips the installed handlers' flag");
+        ch.finishAndReleaseAll();
+    }
+}
@@ -373,4 +373,17 @@ class HandshakeGateTest {
         var d = HandshakeGate.evaluate(19, VOXEL_CAPS, true, true, true, true, true, true);
         assertEquals(HandshakeGate.WireDialect.V19, d.dialect());
     }
+
+    @Test
+    void compactWantSetsAreAcknowledgedOnlyToADeclaringCurrentClient() {
+        int declared = VOXEL_CAPS | LSSConstants.CAPABILITY_COMPACT_WANT_SETS;
+        assertEquals(LSSConstants.CAPABILITY_COMPACT_WANT_SETS,
+                HandshakeGate.serverCapabilities(declared, HandshakeGate.WireDialect.CURRENT));
+        assertEquals(0, HandshakeGate.serverCapabilities(VOXEL_CAPS,
+                HandshakeGate.WireDialect.CURRENT), "an undeclared client reads no trailer");
+        for (var legacy : new HandshakeGate.WireDialect[]{HandshakeGate.WireDialect.V19,
+                HandshakeGate.WireDialect.V18, HandshakeGate.WireDialect.V16}) {
+            assertEquals(0, HandshakeGate.serverCapabilities(declared, legacy), legacy.name());
+        }
+    }
 }
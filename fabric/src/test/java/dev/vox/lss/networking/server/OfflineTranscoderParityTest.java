@@ -0,0 +1,180 @@
+package dev.vox.lss.networking.server;
+
+import com.mojang.serialization.Lifecycle;
+import dev.vox.lss.common.store.offline.OfflineColumnTranscoder;
+import dev.vox.lss.common.store.offline.StoreBuildProfile;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.Holder;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.core.RegistrationInfo;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.data.registries.VanillaRegistries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.Biomes;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.chunk.PalettedContainerFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * The offline builder's claim, pinned against the real thing: the same chunk NBT run
+ * through {@link OfflineColumnTranscoder} (over a profile built from this registry, the
+ * way the live server writes it) and through {@link NbtSectionSerializer}'s transcode
+ * path comes out as the SAME v20 bytes. A drift here means the offline builder deposits
+ * rows the live server would never have written.
+ */
+class OfflineTranscoderParityTest {
+
+    private static final byte VERSION_NONE = 3;
+    private static final int MIN_SECTION_Y = -4;
+    private static final int MAX_SECTION_Y = 19;
+
+    private static RegistryAccess REGISTRY_ACCESS;
+    private static PalettedContainerFactory FACTORY;
+
+    @BeforeAll
+    static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        HolderLookup.Provider provider = VanillaRegistries.createLookup();
+        HolderLookup.RegistryLookup<Biome> src = provider.lookupOrThrow(Registries.BIOME);
+        MappedRegistry<Biome> biomes = new MappedRegistry<>(Registries.BIOME, Lifecycle.stable());
+        src.listElements().forEach(ref -> biomes.register(ref.key(), ref.value(), RegistrationInfo.BUILT_IN));
+        biomes.freeze();
+        REGISTRY_ACCESS = new RegistryAccess.ImmutableRegistryAccess(List.of(biomes));
+        FACTORY = PalettedContainerFactory.create(REGISTRY_ACCESS);
+    }
+
+    /** The profile exactly as {@code RequestProcessingService.writeStoreBuildProfile}
+     *  fills its registry tables. */
+    private static StoreBuildProfile profile() {
+        var profile = new StoreBuildProfile();
+        profile.mcVersion = "26.2-test";
+        profile.registryFingerprint = "test";
+        profile.blockStates = IdentityTables.blockIdentities();
+        var air = new it.unimi.dsi.fastutil.ints.IntArrayList();
+        var fluid = new it.unimi.dsi.fastutil.ints.IntArrayList();
+        for (var state : Block.BLOCK_STATE_REGISTRY) {
+            int id = Block.BLOCK_STATE_REGISTRY.getId(state);
+            if (state.isAir()) air.add(id);
+            if (!state.getFluidState().isEmpty()) fluid.add(id);
+        }
+        profile.airStates = air.toIntArray();
+        profile.fluidStates = fluid.toIntArray();
+        profile.biomes = NbtSectionSerializer.biomeIdentities(REGISTRY_ACCESS);
+        profile.defaultBiome = NbtSectionSerializer.defaultBiomeId(REGISTRY_ACCESS);
+        return profile;
+    }
+
+    private static CompoundTag chunkNbt(CompoundTag... sections) {
+        var c = new CompoundTag();
+        c.putString("Status", "minecraft:full");
+        var list = new ListTag();
+        for (var s : sections) list.add(s);
+        c.put("sections", list);
+        return c;
+    }
+
+    private static CompoundTag sectionNbt(int y, PalettedContainer<BlockState> states,
+                                          PalettedContainer<Holder<Biome>> biomes,
+                                          byte[] blockLight, byte[] skyLight) {
+        var s = new CompoundTag();
+        s.putInt("Y", y);
+        s.put("block_states", FACTORY.blockStatesContainerCodec()
+                .encodeStart(NbtOps.INSTANCE, states).getOrThrow());
+        s.put("biomes", FACTORY.biomeContainerCodec()
+                .encodeStart(NbtOps.INSTANCE, biomes).getOrThrow());
+        if (blockLight != null) s.putByteArray("BlockLight", blockLight);
+        if (skyLight != null) s.putByteArray("SkyLight", skyLight);
+        return s;
+    }
+
+    /** Stone floor, a water pool and a few property-carrying states. */
+    private static PalettedContainer<BlockState> mixedStates() {
+        var states = FACTORY.createForBlockStates();
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                states.set(x, 0, z, Blocks.STONE.defaultBlockState());
+                if (x < 4 && z < 4) states.set(x, 1, z, Blocks.WATER.defaultBlockState());
+            }
+        }
+        states.set(8, 1, 8, Blocks.OAK_LOG.defaultBlockState());
+        states.set(8, 2, 8, Blocks.OAK_STAIRS.defaultBlockState());
+        states.set(9, 1, 8, Blocks.TORCH.defaultBlockState());
+        return states;
+    }
+
+    private static PalettedContainer<BlockState> uniform(BlockState state) {
+        var states = FACTORY.createForBlockStates();
+        for (int x = 0; x < 16; x++) {
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) states.set(x, y, z, state);
+            }
+        }
+        return states;
+    }
+
+    /** Default biome with a desert corner (a two-entry biome palette). */
+    private static PalettedContainer<Holder<Biome>> biomeBorder() {
+        var biomes = FACTORY.createForBiomes();
+        var desert = REGISTRY_ACCESS.lookupOrThrow(Registries.BIOME).getOrThrow(Biomes.DESERT);
+        for (int x = 0; x < 2; x++) {
+            for (int y = 0; y < 4; y++) {
+                for (int z = 0; z < 4; z++) biomes.set(x, y, z, desert);
+            }
+        }
+        return biomes;
+    }
+
+    private static byte[] light(int index, byte value) {
+        byte[] b = new byte[2048];
+        b[index] = value;
+        return b;
+    }
+
+    private static byte[] nbtBytes(CompoundTag tag) throws Exception {
+        var out = new ByteArrayOutputStream();
+        try (var data = new DataOutputStream(out)) {
+            NbtIo.write(tag, data);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    void theOfflineTranscoderEmitsTheLiveSerializersBytes() throws Exception {
+        var air = Blocks.AIR.defaultBlockState();
+        var chunk = chunkNbt(
+                sectionNbt(-1, uniform(Blocks.DEEPSLATE.defaultBlockState()),
+                        FACTORY.createForBiomes(), null, null),
+                sectionNbt(0, mixedStates(), biomeBorder(),
+                        light(5, (byte) 0x3E), light(0, (byte) 0xF0)),
+                sectionNbt(1, uniform(air), FACTORY.createForBiomes(), null, light(0, (byte) 0xFF)),
+                sectionNbt(7, uniform(air), FACTORY.createForBiomes(), null, light(0, (byte) 0xFF)));
+
+        byte[] live = NbtSectionSerializer.serializeChunkNbt(chunk, REGISTRY_ACCESS, null,
+                MIN_SECTION_Y, MAX_SECTION_Y);
+        byte[] offline = new OfflineColumnTranscoder(profile())
+                .transcodeRecord(nbtBytes(chunk), VERSION_NONE, MIN_SECTION_Y, MAX_SECTION_Y);
+
+        assertNotNull(live);
+        assertNotNull(offline, "a vanilla-shaped column must not decline");
+        assertArrayEquals(live, offline, "offline rows must be byte-identical to live deposits");
+    }
+}
@@ -933,4 +933,106 @@ class ColumnTimestampCacheTest {
         assertEquals(ts(9L), reloaded.get(LSSConstants.DIM_STR_OVERWORLD, 20L));
         assertEquals(1, reloaded.size(), "exactly the one live entry persists");
     }
+
+    // ---- Journal: saves append dirty tiles; compaction rewrites the base ----
+
+    private static final long REGION_A = dev.vox.lss.common.PositionUtil.packPosition(0, 0);
+    private static final long REGION_B = dev.vox.lss.common.PositionUtil.packPosition(100, 0);
+    private static final long REGION_C = dev.vox.lss.common.PositionUtil.packPosition(0, 100);
+
+    /** A persistent cache: load() arms the dirty tracking the journal needs. */
+    private static ColumnTimestampCache persistentCache(Path dir) {
+        var c = new ColumnTimestampCache(DEFAULT_MAX, 0);
+        c.load(dir);
+        return c;
+    }
+
+    @Test
+    void aDeltaSaveAppendsOnlyDirtyTilesAndLoadReplaysIt(@TempDir Path tempDir) throws IOException {
+        var c = persistentCache(tempDir);
+        c.put(LSSConstants.DIM_STR_OVERWORLD, REGION_A, ts(1L), now);
+        c.put(LSSConstants.DIM_STR_OVERWORLD, REGION_B, ts(2L), now);
+        c.snapshotForSave().save(tempDir); // first save: a full base
+        Path base = tempDir.resolve("lss-timestamps.bin");
+        Path journal = tempDir.resolve("lss-timestamps.journal");
+        byte[] baseBytes = Files.readAllBytes(base);
+        assertFalse(Files.exists(journal));
+
+        c.put(LSSConstants.DIM_STR_OVERWORLD, REGION_C, ts(3L), now);
+        c.invalidate(LSSConstants.DIM_STR_OVERWORLD, new long[]{REGION_B});
+        var delta = c.snapshotForSave();
+        assertEquals(0L, delta.get(LSSConstants.DIM_STR_OVERWORLD, REGION_A),
+                "an unchanged tile is not copied into a delta");
+        delta.save(tempDir);
+        assertArrayEquals(baseBytes, Files.readAllBytes(base), "a delta save leaves the base alone");
+        assertTrue(Files.size(journal) < 2L * (4096 + 64),
+                "one live tile and one tombstone — not the whole cache");
+
+        var reloaded = new ColumnTimestampCache(DEFAULT_MAX, 0);
+        reloaded.load(tempDir);
+        assertEquals(ts(1L), reloaded.get(LSSConstants.DIM_STR_OVERWORLD, REGION_A));
+        assertEquals(0L, reloaded.get(LSSConstants.DIM_STR_OVERWORLD, REGION_B),
+                "the tombstone replays — an invalidated stamp never resurrects");
+        assertEquals(ts(3L), reloaded.get(LSSConstants.DIM_STR_OVERWORLD, REGION_C));
+        assertEquals(Map.of(LSSConstants.DIM_STR_OVERWORLD, 2), reloaded.sizesPerDimension());
+
+        reloaded.snapshotForSave(true).save(tempDir);
+        assertFalse(Files.exists(journal), "compaction folds the journal into the base");
+        var compacted = new ColumnTimestampCache(DEFAULT_MAX, 0);
+        compacted.load(tempDir);
+        assertEquals(2, compacted.size());
+        assertEquals(ts(3L), compacted.get(LSSConstants.DIM_STR_OVERWORLD, REGION_C));
+    }
+
+    @Test
+    void aTornJournalBatchKeepsEarlierBatchesAndForcesAFullSave(@TempDir Path tempDir) throws IOException {
+        var c = persistentCache(tempDir);
+        c.put(LSSConstants.DIM_STR_OVERWORLD, REGION_A, ts(1L), now);
+        c.snapshotForSave().save(tempDir);
+        c.put(LSSConstants.DIM_STR_OVERWORLD, REGION_B, ts(2L), now);
+        c.snapshotForSave().save(tempDir);
+        Path journal = tempDir.resolve("lss-timestamps.journal");
+        long firstBatchEnd = Files.size(journal);
+        c.put(LSSConstants.DIM_STR_OVERWORLD, REGION_C, ts(3L), now);
+        c.snapshotForSave().save(tempDir);
+        // Power loss mid-append: the second batch is cut short.
+        try (var ch = java.nio.channels.FileChannel.open(journal, java.nio.file.StandardOpenOption.WRITE)) {
+            ch.truncate(firstBatchEnd + 100);
+        }
+
+        var reloaded = persistentCache(tempDir);
+        assertEquals(ts(2L), reloaded.get(LSSConstants.DIM_STR_OVERWORLD, REGION_B),
+                "the intact batch before the tear replays");
+        assertEquals(0L, reloaded.get(LSSConstants.DIM_STR_OVERWORLD, REGION_C),
+                "a torn batch applies not at all");
+        reloaded.put(LSSConstants.DIM_STR_OVERWORLD, REGION_C, ts(4L), now);
+        reloaded.snapshotForSave().save(tempDir);
+        assertFalse(Files.exists(journal),
+                "nothing is appended after garbage — the next save rewrites the base");
+        var after = new ColumnTimestampCache(DEFAULT_MAX, 0);
+        after.load(tempDir);
+        assertEquals(3, after.size());
+    }
+
+    @Test
+    void aJournalLeftFromAnOlderBaseIsNeverReplayed(@TempDir Path tempDir) throws IOException {
+        var c = persistentCache(tempDir);
+        c.put(LSSConstants.DIM_STR_OVERWORLD, REGION_A, ts(1L), now);
+        c.snapshotForSave().save(tempDir);
+        c.put(LSSConstants.DIM_STR_OVERWORLD, REGION_B, ts(2L), now);
+        c.snapshotForSave().save(tempDir);
+        Path journal = tempDir.resolve("lss-timestamps.journal");
+        byte[] oldJournal = Files.readAllBytes(journal);
+
+        c.invalidate(LSSConstants.DIM_STR_OVERWORLD, new long[]{REGION_B});
+        c.snapshotForSave(true).save(tempDir);
+        // A crash between the base rename and the journal delete leaves the old journal.
+        Files.write(journal, oldJournal);
+
+        var reloaded = new ColumnTimestampCache(DEFAULT_MAX, 0);
+        reloaded.load(tempDir);
+        assertEquals(0L, reloaded.get(LSSConstants.DIM_STR_OVERWORLD, REGION_B),
+                "an older generation's journal must not resurrect the compacted-away stamp");
+        assertEquals(1, reloaded.size());
+    }
 }
@@ -4,12 +4,14 @@ import dev.vox.lss.networking.client.LSSClientNetworking;
 import dev.vox.lss.networking.payloads.BatchChunkRequestC2SPayload;
 import dev.vox.lss.networking.payloads.BatchResponseS2CPayload;
 import dev.vox.lss.networking.payloads.ClientInfoC2SPayload;
+import dev.vox.lss.networking.payloads.ColumnPackS2CPayload;
 import dev.vox.lss.networking.payloads.DirtyColumnsS2CPayload;
 import dev.vox.lss.networking.payloads.FarPlayerPrefsC2SPayload;
 import dev.vox.lss.networking.payloads.FarPlayerRosterS2CPayload;
 import dev.vox.lss.networking.payloads.FarPlayerUpdatesS2CPayload;
 import dev.vox.lss.networking.payloads.HandshakeC2SPayload;
 import dev.vox.lss.networking.payloads.RegionSummaryRequestC2SPayload;
+import dev.vox.lss.networking.payloads.WantSetC2SPayload;
 import dev.vox.lss.networking.payloads.ColumnStampsS2CPayload;
 import dev.vox.lss.networking.payloads.RegionSummaryS2CPayload;
 import dev.vox.lss.networking.payloads.SessionConfigS2CPayload;
@@ -52,6 +54,8 @@ public final class LSSNetworking {
                 LSSServerNetworking::handleFarPlayerPrefsPayload);
         registrar.playToServer(RegionSummaryRequestC2SPayload.TYPE, RegionSummaryRequestC2SPayload.CODEC,
                 LSSServerNetworking::handleRegionSummaryRequestPayload);
+        registrar.playToServer(WantSetC2SPayload.TYPE, WantSetC2SPayload.CODEC,
+                LSSServerNetworking::handleWantSetPayload);
 
         // Server -> Client (handlers run on physical clients only; the client half
         // wires real behavior at N-3 — see LSSClientNetworking).
@@ -71,5 +75,7 @@ public final class LSSNetworking {
                 LSSClientNetworking::handleRegionSummaryPayload);
         registrar.playToClient(ColumnStampsS2CPayload.TYPE, ColumnStampsS2CPayload.CODEC,
                 LSSClientNetworking::handleColumnStampsPayload);
+        registrar.playToClient(ColumnPackS2CPayload.TYPE, ColumnPackS2CPayload.CODEC,
+                LSSClientNetworking::handleColumnPackPayload);
     }
 }
@@ -131,4 +131,10 @@ public class LSSClientNetworking {
             IPayloadContext context) {
         ClientNetGlue.onColumnStampsFrame(payload.body());
     }
+
+    public static void handleColumnPackPayload(
+            dev.vox.lss.networking.payloads.ColumnPackS2CPayload payload,
+            IPayloadContext context) {
+        ClientNetGlue.onColumnPackFrame(payload.body());
+    }
 }
@@ -89,6 +89,8 @@ public class LSSServerNetworking {
             // membership — dim changes reuse that path and must keep both).
             service.getV16CompatManager().onDisconnect(player.getUUID());
             service.getDialectTracker().onDisconnect(player.getUUID());
+            // Compact want-sets: the held diff base is connection-scoped too.
+            service.getWantSets().onDisconnect(player.getUUID());
             // Far players: the subscription dies with the CONNECTION, never with the
             // dimension-change remove+register cycle (the v18-rung checklist).
             service.getFarPlayerService().removeViewer(player.getUUID());
@@ -144,4 +146,13 @@ public class LSSServerNetworking {
             service.handleRegionSummaryRequest(player, payload.body());
         }
     }
+
+    public static void handleWantSetPayload(
+            dev.vox.lss.networking.payloads.WantSetC2SPayload payload,
+            IPayloadContext context) {
+        var service = requestService;
+        if (service != null && context.player() instanceof ServerPlayer player) {
+            service.handleWantSet(player, payload.body());
+        }
+    }
 }
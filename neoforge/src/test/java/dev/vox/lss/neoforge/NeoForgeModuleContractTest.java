@@ -61,11 +61,11 @@ class NeoForgeModuleContractTest {
         String src = read("neoforge/src/main/java/dev/vox/lss/networking/LSSNetworking.java");
         List<String> c2s = List.of("HandshakeC2SPayload", "BatchChunkRequestC2SPayload",
                 "ClientInfoC2SPayload", "FarPlayerPrefsC2SPayload",
-                "RegionSummaryRequestC2SPayload");
+                "RegionSummaryRequestC2SPayload", "WantSetC2SPayload");
         List<String> s2c = List.of("SessionConfigS2CPayload", "BatchResponseS2CPayload",
                 "DirtyColumnsS2CPayload", "VoxelColumnS2CPayload",
                 "FarPlayerRosterS2CPayload", "FarPlayerUpdatesS2CPayload",
-                "RegionSummaryS2CPayload", "ColumnStampsS2CPayload");
+                "RegionSummaryS2CPayload", "ColumnStampsS2CPayload", "ColumnPackS2CPayload");
         for (String p : c2s) {
             assertTrue(src.contains("playToServer(" + p + ".TYPE, " + p + ".CODEC"),
                     p + " must register playToServer with its shared TYPE+CODEC");
@@ -74,20 +74,20 @@ class NeoForgeModuleContractTest {
             assertTrue(src.contains("playToClient(" + p + ".TYPE, " + p + ".CODEC"),
                     p + " must register playToClient with its shared TYPE+CODEC");
         }
-        assertEquals(5, count(src, Pattern.compile("playToServer\\(")),
-                "exactly the 5 C2S channels — a new channel must be added to BOTH loaders"
+        assertEquals(6, count(src, Pattern.compile("playToServer\\(")),
+                "exactly the 6 C2S channels — a new channel must be added to BOTH loaders"
                         + " and both WireParityTest censuses");
-        assertEquals(8, count(src, Pattern.compile("playToClient\\(")),
-                "exactly the 8 S2C channels");
+        assertEquals(9, count(src, Pattern.compile("playToClient\\(")),
+                "exactly the 9 S2C channels");
         // CROSS-LOADER census (N-2 review): the registrar's total must track the shared
         // CHANNEL_* constant count — a fabric-side channel add reds THIS module's build
         // instead of shipping a NeoForge jar that silently lacks the new channel.
         long sharedChannels = Arrays.stream(dev.vox.lss.common.LSSConstants.class.getFields())
                 .filter(f -> f.getName().startsWith("CHANNEL_"))
                 .count();
-        assertEquals(sharedChannels, 5 + 8,
+        assertEquals(sharedChannels, 5 + 9,
                 "LSSConstants declares " + sharedChannels + " CHANNEL_* constants but this"
-                        + " registrar registers 13 — add the new channel to LSSNetworking"
+                        + " registrar registers 14 — add the new channel to LSSNetworking"
                         + " (both loaders) and both WireParityTest censuses");
     }
 
@@ -137,6 +137,8 @@ public class LSSPaperPlugin extends JavaPlugin implements PluginMessageListener,
                         LSSPaperPlugin.this, LSSConstants.CHANNEL_FAR_PLAYER_PREFS, LSSPaperPlugin.this);
                 getServer().getMessenger().registerIncomingPluginChannel(
                         LSSPaperPlugin.this, LSSConstants.CHANNEL_REGION_SUMMARY_REQ, LSSPaperPlugin.this);
+                getServer().getMessenger().registerIncomingPluginChannel(
+                        LSSPaperPlugin.this, LSSConstants.CHANNEL_WANT_SET, LSSPaperPlugin.this);
             }
 
             @Override
@@ -246,7 +248,9 @@ public class LSSPaperPlugin extends JavaPlugin implements PluginMessageListener,
                 // latest-wins mailbox; the pump reads player state at admission. The
                 // kill switch is HANDLER-checked; boot-set in practice (not in the
                 // /lsslod set registry — a flip needs a restart).
-                data -> service.handleRegionSummaryRequest(nmsPlayer.getUUID(), data));
+                data -> service.handleRegionSummaryRequest(nmsPlayer.getUUID(), data),
+                // Compact want-sets: decode and serve exactly like the legacy batch above.
+                data -> service.handleWantSet(nmsPlayer, data));
     }
 
     /** Test seam: a per-channel message handler; hostile-frame decodes may throw. */
@@ -275,7 +279,8 @@ public class LSSPaperPlugin extends JavaPlugin implements PluginMessageListener,
                                       PluginMessageHandler chunkRequestHandler,
                                       PluginMessageHandler clientInfoHandler,
                                       PluginMessageHandler farPlayerPrefsHandler,
-                                      PluginMessageHandler regionSummaryReqHandler) {
+                                      PluginMessageHandler regionSummaryReqHandler,
+                                      PluginMessageHandler wantSetHandler) {
         try {
             switch (channel) {
                 case LSSConstants.CHANNEL_HANDSHAKE -> handshakeHandler.handle(message);
@@ -283,6 +288,7 @@ public class LSSPaperPlugin extends JavaPlugin implements PluginMessageListener,
                 case LSSConstants.CHANNEL_CLIENT_INFO -> clientInfoHandler.handle(message);
                 case LSSConstants.CHANNEL_FAR_PLAYER_PREFS -> farPlayerPrefsHandler.handle(message);
                 case LSSConstants.CHANNEL_REGION_SUMMARY_REQ -> regionSummaryReqHandler.handle(message);
+                case LSSConstants.CHANNEL_WANT_SET -> wantSetHandler.handle(message);
             }
         } catch (Exception e) {
             long released = hostileFrameLog.recordAndTryAcquire(System.nanoTime() / 1_000_000);
@@ -305,7 +311,7 @@ public class LSSPaperPlugin extends JavaPlugin implements PluginMessageListener,
     @FunctionalInterface
     interface SessionConfigSender {
         void send(HandshakeGate.WireDialect dialect, boolean enabled, int lodDistanceChunks,
-                  int syncCap, int genCap, boolean generationEnabled);
+                  int syncCap, int genCap, boolean generationEnabled, int serverCapabilities);
     }
 
     /**
@@ -338,7 +344,8 @@ public class LSSPaperPlugin extends JavaPlugin implements PluginMessageListener,
                 : dev.vox.lss.common.compat.ViaProbe.NO_SIGNAL;
         handleHandshake(data, nmsPlayer.getName().getString(), this.lssConfig, service != null,
                 viaProtocol, net.minecraft.SharedConstants.getProtocolVersion(),
-                (dialect, enabled, lodDistanceChunks, syncCap, genCap, generationEnabled) -> {
+                (dialect, enabled, lodDistanceChunks, syncCap, genCap, generationEnabled,
+                        serverCapabilities) -> {
                     // A cross-dialect re-handshake sheds the stale compat identities it is
                     // NOT — otherwise columns keep shipping the old dialect's shape and
                     // hard-kick the re-armed decoder. Placed on the sender seam because it
@@ -360,7 +367,8 @@ public class LSSPaperPlugin extends JavaPlugin implements PluginMessageListener,
                     } else {
                         PaperPayloadHandler.sendSessionConfig(bukkitPlayer,
                                 sessionConfigVersionFor(dialect),
-                                enabled, lodDistanceChunks, generationEnabled);
+                                enabled, lodDistanceChunks, generationEnabled,
+                                serverCapabilities);
                     }
                 },
                 (capabilities, dialect, replyAfterRegister) -> {
@@ -500,7 +508,8 @@ public class LSSPaperPlugin extends JavaPlugin implements PluginMessageListener,
                 // (ignored by the V18 sender branch; see the v16 compat design §4.1).
                 LSSConstants.SYNC_ON_LOAD_SLOT_CAP,
                 config.generationConcurrencyLimitPerPlayer,
-                config.enableChunkGeneration);
+                config.enableChunkGeneration,
+                HandshakeGate.serverCapabilities(handshake.capabilities(), decision.dialect()));
 
         if (decision.outcome() == HandshakeGate.Outcome.NO_CONSUMER) {
             // Reply-only outcome: no state will exist, so the inline reply cannot race it.
@@ -552,6 +561,7 @@ public class LSSPaperPlugin extends JavaPlugin implements PluginMessageListener,
             // v18-compat design §2.3).
             service.getV16CompatManager().onDisconnect(event.getPlayer().getUniqueId());
             service.getDialectTracker().onDisconnect(event.getPlayer().getUniqueId());
+            service.getWantSets().onDisconnect(event.getPlayer().getUniqueId());
         }
         // Service-independent: the sidecar fact is recorded at the network level
         // (possibly before any service exists) and must die with the connection.
@@ -31,7 +31,9 @@ import java.util.concurrent.atomic.AtomicLong;
  * {@code Priority.LOW} disk-read path. {@code addTicket=true} lets Moonrise own the load
  * ticket, and {@code ChunkStatus.FULL} is guaranteed before the completion fires (on the
  * chunk's owning thread — the region thread on Folia). Failure surfaces as a NULL chunk:
- * there is no throwable channel.
+ * there is no throwable channel. Under {@code lodOnlyGeneration} the schedule targets
+ * {@code ChunkStatus.LIGHT} instead and the completion serializes the proto-chunk Moonrise
+ * delivers — never promoted to FULL.
  */
 public class PaperChunkGenerationService {
 
@@ -71,6 +73,8 @@ public class PaperChunkGenerationService {
     private int maxConcurrent;
     private int maxPerPlayerActive;
     private final int timeoutTicks;
+    // The status every launch schedules: FULL, or LIGHT under lodOnlyGeneration.
+    private final ChunkStatus targetStatus;
 
     /** Test seam: hands the async-load completion back to the pump thread. Production
      *  default is the GlobalRegionScheduler (main thread on Paper, the pump's global-region
@@ -110,6 +114,10 @@ public class PaperChunkGenerationService {
         this.maxConcurrent = config.generationConcurrencyLimitGlobal;
         this.maxPerPlayerActive = config.generationConcurrencyLimitPerPlayer;
         this.timeoutTicks = config.generationTimeoutSeconds * LSSConstants.TICKS_PER_SECOND;
+        // LIGHT is the last status the LOD serve needs (twin of the Fabric service's choice):
+        // not FEATURES, because the serializer ships the light layers. What LOD-only skips
+        // is the spawn pass and the FULL promotion.
+        this.targetStatus = config.lodOnlyGeneration ? ChunkStatus.LIGHT : ChunkStatus.FULL;
         this.mainThreadScheduler = task ->
                 plugin.getServer().getGlobalRegionScheduler().execute(plugin, task);
     }
@@ -167,7 +175,7 @@ public class PaperChunkGenerationService {
     void launchAsyncLoad(PendingGenerationKey key, ServerLevel level, int cx, int cz, long token,
                          Priority priority) {
         ca.spottedleaf.moonrise.common.PlatformHooks.get().scheduleChunkLoad(
-                level, cx, cz, /*gen=*/true, ChunkStatus.FULL, /*addTicket=*/true, priority,
+                level, cx, cz, /*gen=*/true, this.targetStatus, /*addTicket=*/true, priority,
                 chunk -> completeAsyncLoad(key, level, chunk, cx, cz, token));
     }
 
@@ -252,11 +260,15 @@ public class PaperChunkGenerationService {
      * no contract pin for that, so any other shape falls back to the re-fetch, whose miss
      * stays the ONE transient flavor ({@code chunkVanished}). An extraction exception
      * stays permanent (a corrupt chunk must not be hammered), as does Moonrise's null.
+     * Under {@code lodOnlyGeneration} the delivery is the proto-chunk itself (or a
+     * LevelChunk that was already FULL) and is serialized as delivered: the re-fetch sees
+     * only FULL chunks, so it would miss every one.
      */
     ExtractionOutcome extractColumnData(ServerLevel level, ChunkAccess delivered, int cx, int cz) {
         try {
-            LevelChunk nmsChunk = delivered instanceof LevelChunk lc ? lc
-                    : level.getChunkSource().getChunkNow(cx, cz);
+            ChunkAccess nmsChunk = delivered instanceof LevelChunk
+                    || this.targetStatus != ChunkStatus.FULL
+                    ? delivered : level.getChunkSource().getChunkNow(cx, cz);
             if (nmsChunk == null) {
                 // The fallback re-fetch missed (non-LevelChunk delivery + unload in the
                 // window). TRANSIENT: the chunk was generated, it simply unloaded before we
@@ -410,6 +422,9 @@ public class PaperChunkGenerationService {
 
     public long getTotalSubmitted() { return this.totalSubmitted; }
 
+    /** The status launches schedule to: FULL, or LIGHT under {@code lodOnlyGeneration}. */
+    ChunkStatus targetStatus() { return this.targetStatus; }
+
     /** Null-chunk (permanent-failure) completions — warn-once logged, counted here. */
     public long getNullChunkFailures() { return this.nullChunkFailures.get(); }
     public long getVanishedFailures() { return this.vanishedFailures.get(); }
@@ -0,0 +1,132 @@
+package dev.vox.lss.paper;
+
+import dev.vox.lss.common.LSSConstants;
+import dev.vox.lss.common.LSSLogger;
+import dev.vox.lss.common.processing.ColumnFramingDiagnostics;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import net.minecraft.network.protocol.common.ClientboundCustomPayloadPacket;
+import net.minecraft.network.protocol.common.custom.DiscardedPayload;
+import net.minecraft.server.level.ServerPlayer;
+
+/**
+ * Paper adapter for the connection-compression bypass — the twin of Fabric's
+ * {@code FabricColumnFramingBypass} (see there for the two-handler protocol). The only
+ * difference is the packet test: Paper ships columns as {@link DiscardedPayload} bytes,
+ * so the mark handler matches the column channel and reads the frame's codec tag
+ * ({@link PaperPayloadHandler#columnCodec}) — or the pack channel, always a zstd frame.
+ */
+public final class PaperColumnFramingBypass {
+
+    /** Vanilla's pipeline names ({@code net.minecraft.network.HandlerNames}). */
+    static final String ENCODER = "encoder";
+    static final String COMPRESS = "compress";
+    static final String MARK_HANDLER = "lss_column_mark";
+    static final String FRAME_HANDLER = "lss_column_frame";
+    /** Frames at or above the netty length prepender's 21-bit ceiling keep the compressor
+     *  (unreachable under MAX_SEND_SECTIONS_SIZE; a guard, not a tuning point). */
+    private static final int MAX_RAW_FRAME_BYTES = (1 << 21) - 8;
+
+    private static volatile boolean warned;
+
+    private PaperColumnFramingBypass() {}
+
+    /** Installs (once per channel) or re-flags the handlers for {@code player}; a
+     *  connection without a compressor (threshold off) is left alone.
+     *  Runs on the channel's event loop; every failure degrades to the vanilla path. */
+    public static void apply(ServerPlayer player, boolean bypass, ColumnFramingDiagnostics diag) {
+        var channel = PaperChannelPressure.channelOf(player);
+        if (channel == null) return;
+        channel.eventLoop().execute(() -> {
+            try {
+                var pipeline = channel.pipeline();
+                if (pipeline.get(FRAME_HANDLER) instanceof FrameHandler existing) {
+                    existing.state.bypass = bypass;
+                    return;
+                }
+                if (pipeline.get(ENCODER) == null || pipeline.get(COMPRESS) == null) return;
+                var state = new State(bypass, diag);
+                pipeline.addAfter(COMPRESS, FRAME_HANDLER, new FrameHandler(state));
+                pipeline.addAfter(ENCODER, MARK_HANDLER, new MarkHandler(state));
+            } catch (Throwable t) {
+                if (!warned) {
+                    warned = true;
+                    LSSLogger.warn("Column framing handlers unavailable (" + t + ") —"
+                            + " LOD columns keep the connection compressor");
+                }
+            }
+        });
+    }
+
+    /** Per-channel, event-loop confined apart from the volatile flag. */
+    private static final class State {
+        volatile boolean bypass;
+        final ColumnFramingDiagnostics diag;
+        boolean columnPending;
+
+        State(boolean bypass, ColumnFramingDiagnostics diag) {
+            this.bypass = bypass;
+            this.diag = diag;
+        }
+    }
+
+    private static final class MarkHandler extends ChannelOutboundHandlerAdapter {
+        private final State state;
+
+        MarkHandler(State state) {
+            this.state = state;
+        }
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            if (!(msg instanceof ClientboundCustomPayloadPacket packet)
+                    || !(packet.payload() instanceof DiscardedPayload column)
+                    || !(column.id().equals(PaperPayloadHandler.ID_COLUMN_PACK)
+                            || column.id().equals(PaperPayloadHandler.ID_VOXEL_COLUMN)
+                                    && PaperPayloadHandler.columnCodec(column.data())
+                                            != LSSConstants.COLUMN_CODEC_RAW)) {
+                ctx.write(msg, promise);
+                return;
+            }
+            this.state.columnPending = true;
+            try {
+                ctx.write(msg, promise);
+            } finally {
+                this.state.columnPending = false;
+            }
+        }
+    }
+
+    private static final class FrameHandler extends ChannelOutboundHandlerAdapter {
+        private final State state;
+
+        FrameHandler(State state) {
+            this.state = state;
+        }
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            if (!this.state.columnPending || !(msg instanceof ByteBuf frame)) {
+                ctx.write(msg, promise);
+                return;
+            }
+            this.state.columnPending = false;
+            int bytes = frame.readableBytes();
+            long start = System.nanoTime();
+            var compress = this.state.bypass && bytes < MAX_RAW_FRAME_BYTES
+                    ? ctx.pipeline().context(COMPRESS) : null;
+            if (compress == null) {
+                ctx.write(frame, promise);
+            } else {
+                ByteBuf out = ctx.alloc().ioBuffer(bytes + 1);
+                out.writeByte(0); // data length 0: "not compressed"
+                out.writeBytes(frame);
+                frame.release();
+                compress.write(out, promise);
+            }
+            this.state.diag.recordFrame(bytes, System.nanoTime() - start, compress != null);
+        }
+    }
+}
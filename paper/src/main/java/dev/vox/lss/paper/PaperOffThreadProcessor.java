@@ -4,6 +4,7 @@ import dev.vox.lss.common.LSSConstants;
 import dev.vox.lss.common.LSSLogger;
 import dev.vox.lss.common.PositionUtil;
 import dev.vox.lss.common.processing.ColumnBytes;
+import dev.vox.lss.common.processing.ColumnPacker;
 import dev.vox.lss.common.processing.OffThreadProcessor;
 import dev.vox.lss.common.processing.QueuedPayload;
 import net.minecraft.server.level.ServerLevel;
@@ -170,16 +171,31 @@ public class PaperOffThreadProcessor extends OffThreadProcessor<PaperPlayerReque
             return true;
         }
 
+        // Packed-columns staging — twin of the Fabric build.
+        if (stageForPack(state, cx, cz, dimension, columnTimestamp, submissionOrder,
+                bytes, estimatedBytes, source)) {
+            if (PaperSoakProbeBridge.armed()) PaperSoakProbeBridge.recordServed(cx, cz, bytes.raw());
+            return true;
+        }
+
         // Per-recipient codec choice off the shared holder — twin of the Fabric build:
         // frame() only for capable sessions, memoized across the dedup fan-out; a v16
         // session's flag is derived false at registration, so its frames encode raw and
         // the egress splice stays two-byte-removable.
-        byte[] frame = state.wantsCompressedColumns() ? bytes.frame() : null;
-        byte codecTag = frame != null ? LSSConstants.COLUMN_CODEC_ZSTD
-                : LSSConstants.COLUMN_CODEC_RAW;
+        // A dictionary session takes the codec-2 form first (its own memo on the
+        // holder), falling back to codec 1 when that form is refused.
+        byte[] frame = state.wantsDictionaryColumns() ? bytes.dictFrame(wireDictionaryCodec())
+                : null;
+        byte codecTag = LSSConstants.COLUMN_CODEC_ZSTD_DICT;
+        if (frame == null) {
+            frame = state.wantsCompressedColumns() ? bytes.frame() : null;
+            codecTag = frame != null ? LSSConstants.COLUMN_CODEC_ZSTD
+                    : LSSConstants.COLUMN_CODEC_RAW;
+        }
         byte[] shipped = frame != null ? frame : bytes.raw();
         byte[] encoded = PaperPayloadHandler.encodeVoxelColumnPreEncoded(
-                cx, cz, dimension, columnTimestamp, source, codecTag, shipped);
+                cx, cz, dimension, columnTimestamp, source, codecTag, shipped, bytes.tier(),
+                bytes.deltaBase(), bytes.keep());
         int wireBytes = shipped.length + LSSConstants.ESTIMATED_COLUMN_OVERHEAD_BYTES;
         state.addReadyPayload(new QueuedPayload<>(encoded, estimatedBytes, wireBytes,
                 submissionOrder, PositionUtil.packPosition(cx, cz)));
@@ -191,6 +207,15 @@ public class PaperOffThreadProcessor extends OffThreadProcessor<PaperPlayerReque
         return true;
     }
 
+    /** The pack body is already the wire body; the flush's {@code sendPack} puts it on
+     *  the pack channel. */
+    @Override
+    protected boolean enqueueColumnPack(PaperPlayerRequestState state, ColumnPacker.Built pack) {
+        state.addReadyPack(QueuedPayload.ofPack(pack.body(), pack.estimatedBytes(),
+                pack.wireBytes(), pack.submissionOrder(), pack.members()));
+        return true;
+    }
+
     /** Translate a v20 raw body for a legacy session and choose its codec (textual twin
      *  of the Fabric build): v19 sessions keep their compression capability (recompress,
      *  gated by the same min-bytes + must-shrink rules as the shared holder's frame() —
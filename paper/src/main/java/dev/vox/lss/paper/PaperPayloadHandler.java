@@ -3,6 +3,7 @@ package dev.vox.lss.paper;
 import dev.vox.lss.common.LSSConstants;
 import dev.vox.lss.common.LSSLogger;
 import dev.vox.lss.common.PositionUtil;
+import dev.vox.lss.common.wire.SectionDelta;
 import io.netty.buffer.Unpooled;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.protocol.common.ClientboundCustomPayloadPacket;
@@ -33,6 +34,7 @@ public final class PaperPayloadHandler {
     private static final Identifier ID_BATCH_RESPONSE = Identifier.parse(LSSConstants.CHANNEL_BATCH_RESPONSE);
     private static final Identifier ID_REGION_SUMMARY = Identifier.parse(LSSConstants.CHANNEL_REGION_SUMMARY);
     private static final Identifier ID_COL_STAMPS = Identifier.parse(LSSConstants.CHANNEL_COL_STAMPS);
+    static final Identifier ID_COLUMN_PACK = Identifier.parse(LSSConstants.CHANNEL_COLUMN_PACK);
 
     // ---- S2C Encoding ----
 
@@ -41,6 +43,17 @@ public final class PaperPayloadHandler {
     public static byte[] encodeSessionConfig(int protocolVersion, boolean enabled,
                                              int lodDistanceChunks,
                                              boolean generationEnabled) {
+        return encodeSessionConfig(protocolVersion, enabled, lodDistanceChunks,
+                generationEnabled, 0);
+    }
+
+    /** As above, plus the server-capabilities trailer after the data version — written
+     *  only when nonzero (see {@code HandshakeGate.serverCapabilities}), so a client that
+     *  declared none of the bits gets the exact frame it always did. */
+    public static byte[] encodeSessionConfig(int protocolVersion, boolean enabled,
+                                             int lodDistanceChunks,
+                                             boolean generationEnabled,
+                                             int serverCapabilities) {
         return encodeToBytes(buf -> {
             buf.writeVarInt(protocolVersion);
             buf.writeBoolean(enabled);
@@ -52,6 +65,7 @@ public final class PaperPayloadHandler {
                 // echoes must stay 4-field or their strict clients hard-kick.
                 buf.writeVarInt(net.minecraft.SharedConstants.getCurrentVersion()
                         .dataVersion().version());
+                if (serverCapabilities != 0) buf.writeVarInt(serverCapabilities);
             }
         });
     }
@@ -65,9 +79,11 @@ public final class PaperPayloadHandler {
     public static void sendSessionConfig(Player player,
                                           int protocolVersion, boolean enabled,
                                           int lodDistanceChunks,
-                                          boolean generationEnabled) {
+                                          boolean generationEnabled,
+                                          int serverCapabilities) {
         sendRawNmsPayload(player, ID_SESSION_CONFIG, encodeSessionConfig(
-                protocolVersion, enabled, lodDistanceChunks, generationEnabled));
+                protocolVersion, enabled, lodDistanceChunks, generationEnabled,
+                serverCapabilities));
     }
 
     /** v16 compat reply: the OLD 6-field layout echoing protocol version 16 — the v0.6.2
@@ -134,12 +150,38 @@ public final class PaperPayloadHandler {
     }
 
     /** Full v19 layout: {@code sectionBytes} are the SHIPPED bytes for the given codec
-     *  (raw for {@code COLUMN_CODEC_RAW}, a zstd-1 frame for {@code COLUMN_CODEC_ZSTD}).
+     *  (raw for {@code COLUMN_CODEC_RAW}, a zstd-1 frame for {@code COLUMN_CODEC_ZSTD},
+     *  a dictionary frame for {@code COLUMN_CODEC_ZSTD_DICT}).
      *  Byte-identical to Fabric's {@code VoxelColumnS2CPayload} encode (wire-parity
      *  fixtures pin it). */
     public static byte[] encodeVoxelColumnPreEncoded(int chunkX, int chunkZ,
                                                       String dimensionStr, long columnTimestamp,
                                                       byte source, byte codec, byte[] sectionBytes) {
+        return encodeVoxelColumnPreEncoded(chunkX, chunkZ, dimensionStr, columnTimestamp,
+                source, codec, sectionBytes, 0);
+    }
+
+    /** As above for a downsampled LOD-tier body: the nonzero {@code tier} rides a
+     *  trailing byte (tier 0 encodes the unchanged layout) — byte-identical to Fabric's
+     *  {@code VoxelColumnS2CPayload} tier encode. */
+    public static byte[] encodeVoxelColumnPreEncoded(int chunkX, int chunkZ,
+                                                      String dimensionStr, long columnTimestamp,
+                                                      byte source, byte codec, byte[] sectionBytes,
+                                                      int tier) {
+        return encodeVoxelColumnPreEncoded(chunkX, chunkZ, dimensionStr, columnTimestamp,
+                source, codec, sectionBytes, tier, 0L, null);
+    }
+
+    /** As above for a section-delta body: a nonzero {@code deltaBase} (with its
+     *  {@code keep} map) forces the tier byte and follows it as {@code long base;
+     *  byte[] keep} — byte-identical to Fabric's {@code VoxelColumnS2CPayload} delta
+     *  encode. A null {@code keep} encodes an ordinary frame. */
+    public static byte[] encodeVoxelColumnPreEncoded(int chunkX, int chunkZ,
+                                                      String dimensionStr, long columnTimestamp,
+                                                      byte source, byte codec, byte[] sectionBytes,
+                                                      int tier, long deltaBase,
+                                                      SectionDelta.Keep keep) {
+        boolean delta = keep != null && deltaBase != 0;
         return encodeToBytes(sectionBytes.length + 64, buf -> {
             buf.writeInt(chunkX);
             buf.writeInt(chunkZ);
@@ -148,9 +190,34 @@ public final class PaperPayloadHandler {
             buf.writeByte(source);
             buf.writeByte(codec);
             buf.writeByteArray(sectionBytes);
+            if (tier != 0 || delta) {
+                buf.writeByte(tier);
+            }
+            if (delta) {
+                buf.writeLong(deltaBase);
+                buf.writeByteArray(keep.encode());
+            }
         });
     }
 
+    /** The codec tag of a CURRENT column frame (the fixed header the splices below
+     *  parse), or {@code COLUMN_CODEC_RAW} for a frame too short to carry one — the
+     *  column framing bypass's packet test. */
+    static byte columnCodec(byte[] frame) {
+        try {
+            return withReadBuffer(frame, buf -> {
+                buf.readInt();                                            // chunkX
+                buf.readInt();                                            // chunkZ
+                buf.readUtf(LSSConstants.MAX_DIMENSION_STRING_LENGTH);    // dimension
+                buf.readLong();                                           // columnTimestamp
+                buf.readByte();                                           // source
+                return buf.readByte();
+            });
+        } catch (RuntimeException e) {
+            return LSSConstants.COLUMN_CODEC_RAW;
+        }
+    }
+
     /**
      * v16 compat: splice a CURRENT column frame (serve-source tag + codec tag between
      * columnTimestamp and sectionBytes — one byte each) into the legacy pre-18 layout by
@@ -358,4 +425,14 @@ public final class PaperPayloadHandler {
                 new DiscardedPayload(ID_COL_STAMPS, body)));
         return true;
     }
+
+    /** Packed-columns S2C frame: the raw ColumnPackWire body on the NMS connection, the
+     *  column-stamps carrier's shape. The flush's pack sender; a closed connection is a
+     *  silent no-op like every column send. */
+    public static void sendColumnPack(net.minecraft.server.level.ServerPlayer nmsPlayer,
+                                      byte[] body) {
+        if (nmsPlayer.connection == null) return;
+        nmsPlayer.connection.send(new ClientboundCustomPayloadPacket(
+                new DiscardedPayload(ID_COLUMN_PACK, body)));
+    }
 }
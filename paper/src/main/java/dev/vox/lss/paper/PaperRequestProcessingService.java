@@ -3,14 +3,18 @@ package dev.vox.lss.paper;
 import dev.vox.lss.common.DiagnosticsFormatter;
 import dev.vox.lss.common.LSSConstants;
 import dev.vox.lss.common.LSSLogger;
+import dev.vox.lss.common.LogThrottle;
 import dev.vox.lss.common.PositionUtil;
 import dev.vox.lss.common.SharedBandwidthLimiter;
 import dev.vox.lss.common.compat.V16CompatManager;
 import dev.vox.lss.common.compat.WireDialectTracker;
+import dev.vox.lss.common.processing.AbstractPlayerRequestState;
+import dev.vox.lss.common.processing.GenerationAdmissionQueue;
 import dev.vox.lss.common.processing.IncomingBatch;
 import dev.vox.lss.common.processing.IncomingRequest;
 import dev.vox.lss.common.processing.LoadedColumnData;
 import dev.vox.lss.common.processing.OffThreadProcessor;
+import dev.vox.lss.common.processing.ProbeSerializerPool;
 import dev.vox.lss.common.processing.TickDiagnostics;
 import dev.vox.lss.common.processing.TickSnapshot;
 import dev.vox.lss.common.tracking.DirtyColumnTracker;
@@ -46,6 +50,8 @@ public class PaperRequestProcessingService {
     private final MinecraftServer server;
     private final PaperChunkDiskReader diskReader;
     private final PaperChunkGenerationService generationService;
+    // Server-wide generation admission order (see the Fabric twin); null with the service.
+    private final GenerationAdmissionQueue generationQueue;
     private final SharedBandwidthLimiter bandwidthLimiter;
     private final PaperConfig config;
     private final PaperOffThreadProcessor offThreadProcessor;
@@ -68,6 +74,10 @@ public class PaperRequestProcessingService {
     // shim). Marked ONLY on the pump (the dialectFlip runnable) — see
     // docs/planning/v18-compat-design.md §2.3.
     private final WireDialectTracker dialects = new WireDialectTracker();
+    // Compact want-sets: each session's last declaration, the base of its next diff —
+    // connection-scoped, dropped beside the dialect membership.
+    private final dev.vox.lss.common.processing.WantSetReceiver wantSets =
+            new dev.vox.lss.common.processing.WantSetReceiver();
     // Far players (E1, FARP §3.2): subscription identity at the service level (the
     // dialect-tracker precedent) — subscribed on the PUMP in the Register drain (after
     // the dialectFlip, so the CURRENT-dialect gate reads post-flip state), dropped at
@@ -131,6 +141,8 @@ public class PaperRequestProcessingService {
     private boolean v16SpliceWarned;
     /** Warn-once latch for the v18 egress splice guard (pump thread only). */
     private boolean v18SpliceWarned;
+    /** Warn-once latch for the legacy pack guard (pump thread only). */
+    private boolean legacyPackWarned;
 
     /** The per-player column egress (PUMP): {@link #routeColumnFrame} over the real
      *  NMS send. The routing itself is package-private so the Tier-1 twin can drive
@@ -195,11 +207,58 @@ public class PaperRequestProcessingService {
         rawSend.accept(data);
     }
 
+    /** The packed-columns egress (PUMP). Packs are negotiated only by CURRENT sessions, so
+     *  a legacy dialect here is the narrow re-handshake window — dropped with a warn-once
+     *  like the splice guards above; the client's re-declaration heals it. */
+    private void routeColumnPack(PaperPlayerRequestState state, byte[] data) {
+        if (this.dialects.dialectOf(state.getPlayerUUID())
+                != dev.vox.lss.common.HandshakeGate.WireDialect.CURRENT) {
+            if (!this.legacyPackWarned) {
+                this.legacyPackWarned = true;
+                LSSLogger.warn("Dropping a packed-columns frame for legacy session "
+                        + state.getPlayerName() + " (further drops are silent)");
+            }
+            return;
+        }
+        PaperPayloadHandler.sendColumnPack(state.getPlayer(), data);
+    }
+
     private LoadedColumnProbe loadedColumnProbe = (level, cx, cz) -> {
         LevelChunk chunk = level.getChunkSource().getChunkNow(cx, cz);
-        return chunk != null ? PaperSectionSerializer.serializeColumn(level, chunk, cx, cz) : null;
+        if (chunk == null) return null;
+        var pool = this.probeSerializers;
+        if (pool == null) return PaperSectionSerializer.serializeColumn(level, chunk, cx, cz);
+        // Pooled probe — twin of the Fabric pool: copy here on the chunk's thread (pump, or
+        // the owning region thread on Folia), serialize the copy on a worker.
+        var snapshot = PaperSectionSerializer.snapshotColumn(level, chunk, cx, cz, true);
+        if (snapshot == null) return new LoadedColumnData(cx, cz, null, 0);
+        return pool.submit(cx, cz, () -> serializePooledContained(snapshot));
     };
 
+    /** Serialize half of the probe (probeSerializerThreads, resolved). Null = the probing
+     *  thread serializes inline — the pre-pool behavior, and every test rig's. */
+    private ProbeSerializerPool probeSerializers;
+    /** Throttle for the pooled serialize's failure warn (a broken foreign mixin fails every
+     *  probe; per-column lines would flood the console). */
+    private final LogThrottle probeFailureWarn = new LogThrottle(60_000);
+
+    /** Worker body: a throwing serialize resolves as no probe (the router's disk/generation
+     *  ladder), with the Fabric twin's contained set. VirtualMachineErrors propagate. */
+    private LoadedColumnData serializePooledContained(PaperSectionSerializer.ColumnSnapshot snapshot) {
+        try {
+            return PaperSectionSerializer.serialize(snapshot);
+        } catch (Exception | LinkageError | AssertionError e) {
+            long releases = this.probeFailureWarn.recordAndTryAcquire(System.nanoTime() / 1_000_000);
+            if (releases > 0) {
+                LSSLogger.warn("In-memory probe serialization failed at " + snapshot.cx() + ", "
+                        + snapshot.cz() + " — column skipped, falls through to the disk/generation ladder"
+                        + (releases > 1 ? " (+" + (releases - 1) + " more since last report)" : ""),
+                        e);
+            }
+            return null;
+        }
+    }
+
     void setColumnPayloadSender(ColumnPayloadSender sender) {
         this.columnPayloadSender = sender;
     }
@@ -355,6 +414,9 @@ public class PaperRequestProcessingService {
 
     public PaperRequestProcessingService(MinecraftServer server, Plugin plugin, PaperConfig config) {
         this(server, config, productionWiring(server, plugin, config));
+        // Probe serializers (production only — the rigs keep the inline probe seam).
+        int probeThreads = config.effectiveProbeSerializerThreads();
+        if (probeThreads > 0) this.probeSerializers = new ProbeSerializerPool(probeThreads);
         this.plugin = plugin;
     }
 
@@ -365,6 +427,9 @@ public class PaperRequestProcessingService {
         this.players = wiring.players();
         this.diskReader = wiring.diskReader();
         this.generationService = wiring.generationService();
+        this.generationQueue = this.generationService == null ? null
+                : new GenerationAdmissionQueue(
+                        config.generationTimeoutSeconds * LSSConstants.TICKS_PER_SECOND);
         this.bandwidthLimiter = new SharedBandwidthLimiter(config.bytesPerSecondGlobal());
         this.offThreadProcessor = wiring.offThreadProcessor();
         this.dirtyTracker = wiring.dirtyTracker();
@@ -459,7 +524,12 @@ public class PaperRequestProcessingService {
                 diskReader.setServeStoreFrames(true);
                 wireCompressionLive = true;
             }
+            if (wireCompressionLive && config.useColumnDictionary) {
+                attachDictionaryCodec(offThreadProcessor);
+            }
         }
+        // Prepare shards — twin of the Fabric attach.
+        offThreadProcessor.attachPrepareShards(config.effectivePrepareShards());
         // LOD store: the SQLite engine for "on"/"full" (the memory tier is deleted) —
         // attached to both consumers BEFORE the processor starts / any submit. Environment resolved
         // eagerly on the construction thread (levels loaded at plugin enable); the
@@ -513,7 +583,11 @@ public class PaperRequestProcessingService {
                     dev.vox.lss.common.store.LodStores.brandedStoreDir(worldRoot), server.getServerVersion(),
                     LSSConstants.PROTOCOL_VERSION, regionDirs::get, maskFingerprints::get,
                     config.lodStoreResweepSeconds, config.lodStoreMaxBytes(),
-                    storeRegistryFingerprint(server));
+                    storeRegistryFingerprint(server), config.lodStoreSectionDedup,
+                    config.useColumnDictionary,
+                    dev.vox.lss.common.store.StoreEvictionPolicy.normalize(config.lodStoreEvictionPolicy),
+                    config.lodStoreHotCacheBytes(), config.lodStoreColdCompressionDays,
+                    config.lodStoreShardByDimension);
             lodStore = dev.vox.lss.common.store.LodStores.createOrNull(env);
             if (lodStore == null) {
                 // LodStores.createOrNull logged the per-cause warn (codec vs SQLite init —
@@ -762,10 +836,15 @@ public class PaperRequestProcessingService {
         void send(ServerPlayer player, PaperConfig config) throws Exception;
     }
 
-    private SessionConfigSender sessionConfigSender = (player, cfg) ->
-            PaperPayloadHandler.sendSessionConfig(player.getBukkitEntity(),
-                    LSSConstants.PROTOCOL_VERSION, cfg.enabled,
-                    cfg.lodDistanceChunks, cfg.enableChunkGeneration);
+    private SessionConfigSender sessionConfigSender = (player, cfg) -> {
+        var state = this.players.get(player.getUUID());
+        PaperPayloadHandler.sendSessionConfig(player.getBukkitEntity(),
+                LSSConstants.PROTOCOL_VERSION, cfg.enabled,
+                cfg.lodDistanceChunks, cfg.enableChunkGeneration,
+                dev.vox.lss.common.HandshakeGate.serverCapabilities(
+                        state != null ? state.getCapabilities() : 0,
+                        dev.vox.lss.common.HandshakeGate.WireDialect.CURRENT));
+    };
 
     void setSessionConfigSender(SessionConfigSender sender) {
         this.sessionConfigSender = sender;
@@ -847,6 +926,7 @@ public class PaperRequestProcessingService {
                         // the network-disconnect semantics and cannot break the
                         // identity-survives-dim-change contract.
                         this.dialects.onDisconnect(r.uuid());
+                        this.wantSets.onDisconnect(r.uuid());
                         this.farPlayerService.removeViewer(r.uuid());
                         // Region summaries: quit-originated only, same as above —
                         // connection-scoped cleanup, never the dim-change cycle.
@@ -882,10 +962,53 @@ public class PaperRequestProcessingService {
                 && (capabilities & LSSConstants.CAPABILITY_ZSTD_COLUMNS) != 0
                 && !this.dialects.isV16(player.getUUID())
                 && !this.dialects.isV18(player.getUUID()));
+        // LOD tiers ride the CURRENT frame's trailing byte, so every legacy dialect
+        // (v16, v18, and the native-body v19 rung) serves full resolution.
+        state.setServesLodTiers(this.config.enableLodTiers
+                && this.dialects.dialectOf(player.getUUID())
+                        == dev.vox.lss.common.HandshakeGate.WireDialect.CURRENT);
+        // Section deltas likewise ride the CURRENT frame's trailer, and only to clients
+        // that declared they can apply one.
+        state.setWantsSectionDeltas(this.config.enableSectionDeltas
+                && (capabilities & LSSConstants.CAPABILITY_SECTION_DELTAS) != 0
+                && this.dialects.dialectOf(player.getUUID())
+                        == dev.vox.lss.common.HandshakeGate.WireDialect.CURRENT);
+        // Dictionary frames ride the compressed shape (codec byte) and need the exact
+        // dictionary version — a mismatch is simply plain codec-1 frames.
+        state.setWantsDictionaryColumns(state.wantsCompressedColumns()
+                && this.offThreadProcessor.dictionaryFramesLive()
+                && dev.vox.lss.common.store.ColumnDictionary.declaredBy(capabilities)
+                && this.dialects.dialectOf(player.getUUID())
+                        == dev.vox.lss.common.HandshakeGate.WireDialect.CURRENT);
+        // Packs are a CURRENT-only channel of zstd frames.
+        state.setWantsPackedColumns(this.config.packColumns
+                && state.wantsCompressedColumns()
+                && (capabilities & LSSConstants.CAPABILITY_PACKED_COLUMNS) != 0
+                && this.dialects.dialectOf(player.getUUID())
+                        == dev.vox.lss.common.HandshakeGate.WireDialect.CURRENT);
+        // Column framing bypass — twin of the Fabric registration: handlers in for every
+        // compressed session (they time the frames), zlib skipped only when negotiated.
+        if (state.wantsCompressedColumns()) {
+            PaperColumnFramingBypass.apply(player, this.config.bypassConnectionCompression
+                            && (capabilities & LSSConstants.CAPABILITY_RAW_COLUMN_FRAMING) != 0,
+                    this.offThreadProcessor.getFramingDiagnostics());
+        }
         state.markHandshakeComplete();
         return state;
     }
 
+    /** The dictionary codec probe (useColumnDictionary on top of live compression):
+     *  failure leaves every session on plain frames, with one warning. */
+    private static void attachDictionaryCodec(OffThreadProcessor processor) {
+        var dictCodec = dev.vox.lss.common.store.StoreCodec.zstdWithDictionaryOrNull();
+        if (dictCodec == null) {
+            LSSLogger.warn("useColumnDictionary is enabled but the column dictionary"
+                    + " codec failed its probe — LOD columns will ship plain zstd frames");
+        } else {
+            processor.attachWireDictionaryCodec(dictCodec);
+        }
+    }
+
     public void removePlayer(UUID uuid) {
         this.players.remove(uuid);
         this.regionProbeResults.remove(uuid);
@@ -914,6 +1037,8 @@ public class PaperRequestProcessingService {
         this.diskReader.removePlayerResults(uuid);
         if (this.generationService != null)
             this.generationService.removePlayer(uuid);
+        if (this.generationQueue != null)
+            this.generationQueue.removePlayer(uuid);
     }
 
     /** Minimum interval between re-attach prompts per player — also the post-removal grace
@@ -1006,6 +1131,28 @@ public class PaperRequestProcessingService {
         this.reattachPromptSender.send(player);
     }
 
+    /** Ingress for {@code lss:want_set} (messenger/region thread): the compact form of
+     *  {@link #handleBatchRequest}, decoded against the session's held declaration and then
+     *  served exactly like a legacy batch. A diff whose base is not held is dropped (the
+     *  client's next whole frame replaces it); a malformed frame throws out into
+     *  dispatchPluginMessage's hostile-frame containment. CURRENT dialect only — the
+     *  capability is granted nowhere else. */
+    public void handleWantSet(ServerPlayer player, byte[] body) throws Exception {
+        if (!this.config.enabled) return;
+        if (this.dialects.dialectOf(player.getUUID())
+                != dev.vox.lss.common.HandshakeGate.WireDialect.CURRENT) {
+            return;
+        }
+        var declaration = this.wantSets.accept(player.getUUID(), body);
+        if (declaration == null) {
+            LSSLogger.debug("Want-set diff from " + player.getName().getString()
+                    + " against a base not held — dropped until its next whole frame");
+            return;
+        }
+        handleBatchRequest(player, new PaperPayloadHandler.DecodedBatchChunkRequest(
+                declaration.positions(), declaration.timestamps(), declaration.count()));
+    }
+
     public void handleBatchRequest(ServerPlayer player, PaperPayloadHandler.DecodedBatchChunkRequest batch) {
         int playerCx = player.getBlockX() >> 4;
         int playerCz = player.getBlockZ() >> 4;
@@ -1103,6 +1250,7 @@ public class PaperRequestProcessingService {
                 // sweep was the one removal path that leaked it).
                 this.dialects.onDisconnect(uuid);
                 this.v16Compat.onDisconnect(uuid);
+                this.wantSets.onDisconnect(uuid);
                 // E1 review M1: the sweep must shed the far-player subscription like
                 // the other two identities, or a swept viewer's roster state leaks and
                 // keeps charging the broadcast loop until a same-UUID rejoin.
@@ -1361,7 +1509,17 @@ public class PaperRequestProcessingService {
                 continue;
             long[] dropped = state.flushSendQueue(
                     state.getPingBackstop().apply(perPlayerCap), this.bandwidthLimiter, this.diag,
-                    data -> this.columnPayloadSender.send(state, data),
+                    new AbstractPlayerRequestState.PayloadSender<>() {
+                        @Override
+                        public void send(byte[] data) throws Exception {
+                            columnPayloadSender.send(state, data);
+                        }
+
+                        @Override
+                        public void sendPack(byte[] data) {
+                            routeColumnPack(state, data);
+                        }
+                    },
                     this.config.lodYieldsToVanillaTransport,
                     // Prune gated on the yield (review B-2) — the Fabric twin's comment.
                     this.config.lodYieldsToVanillaTransport
@@ -1612,28 +1770,58 @@ public class PaperRequestProcessingService {
             if (state == null || !state.hasCompletedHandshake())
                 continue;
 
-            var player = state.getPlayer();
-            var level = player.level();
-            String dimension = this.dimensionStringCache.computeIfAbsent(level.dimension(),
-                    k -> k.identifier().toString());
             // Ticket queued before a dimension change targets the old dimension's coordinates.
             // Dropping it leaks nothing: the admitting state was discarded by
             // removePlayer+registerPlayer (its slot dies with it), AND that same removePlayer
             // enqueues the removal event that sweeps the processing thread's UUID-keyed
             // generation in-flight tracking (removeGenerationTracking) — without that sweep the
             // dropped ticket's tracking would leak (do not add a drop path that skips it).
-            if (!dimension.equals(req.dimension())) continue;
-            boolean accepted = !player.isRemoved() && this.generationService.submitGeneration(
-                    req.playerUuid(), level, req.cx(), req.cz(),
+            // The queue's silent drop (NO_PLAYER) rests on the same argument.
+            if (!dimensionOf(state.getPlayer()).equals(req.dimension())) continue;
+            this.generationQueue.offer(req.playerUuid(), req.dimension(), req.cx(), req.cz(),
                     req.submissionOrder());
-            if (!accepted) {
-                // Capacity rejection or removed player — TRANSIENT: feed a transient outcome
-                // so the processing thread frees the pending slot silently (superseded); the
-                // client's re-declaration retries. Never NOT_GENERATED (session-permanent).
-                this.offThreadProcessor.feedGenerationFailure(
-                        req.playerUuid(), req.cx(), req.cz(), dimension, req.submissionOrder(), true);
-            }
         }
+
+        this.generationQueue.admit((uuid, dimension) -> {
+            var state = this.players.get(uuid);
+            if (state == null || !state.hasCompletedHandshake())
+                return GenerationAdmissionQueue.NO_PLAYER;
+            var player = state.getPlayer();
+            if (!dimensionOf(player).equals(dimension))
+                return GenerationAdmissionQueue.NO_PLAYER;
+            if (player.isRemoved())
+                return GenerationAdmissionQueue.RELEASE;
+            // Folia: a cross-region position read is stale-tolerant — it only ranks.
+            return PositionUtil.packPosition(player.chunkPosition().x(), player.chunkPosition().z());
+        }, (uuid, cx, cz) -> {
+            // The processing thread's latest applied declaration: a ticket the player has
+            // since stopped declaring frees its gen slot now, not at the timeout.
+            var state = this.players.get(uuid);
+            return state == null || state.stillDeclares(cx, cz);
+        }, this.config.lodDistanceChunks + LSSConstants.LOD_DISTANCE_BUFFER,
+                new GenerationAdmissionQueue.Sink() {
+            @Override
+            public boolean submit(UUID uuid, String dimension, int cx, int cz, long submissionOrder) {
+                // The locator just vouched for the state, its dimension and its handle.
+                return generationService.submitGeneration(uuid,
+                        players.get(uuid).getPlayer().level(), cx, cz, submissionOrder);
+            }
+
+            @Override
+            public void release(UUID uuid, String dimension, int cx, int cz, long submissionOrder) {
+                // Undeclared, out of range, queued past the timeout, or a removed player —
+                // TRANSIENT: feed a transient outcome so the processing thread frees the
+                // pending slot silently (superseded); the client's re-declaration retries.
+                // Never NOT_GENERATED (session-permanent).
+                offThreadProcessor.feedGenerationFailure(
+                        uuid, cx, cz, dimension, submissionOrder, true);
+            }
+        });
+    }
+
+    private String dimensionOf(ServerPlayer player) {
+        return this.dimensionStringCache.computeIfAbsent(player.level().dimension(),
+                k -> k.identifier().toString());
     }
 
     public Map<UUID, PaperPlayerRequestState> getPlayers() {
@@ -1710,6 +1898,10 @@ public class PaperRequestProcessingService {
         return this.farPlayerService;
     }
 
+    public dev.vox.lss.common.processing.WantSetReceiver getWantSets() {
+        return this.wantSets;
+    }
+
     public WireDialectTracker getDialectTracker() {
         return this.dialects;
     }
@@ -1722,6 +1914,11 @@ public class PaperRequestProcessingService {
         return this.generationService;
     }
 
+    /** Null when chunk generation is disabled. */
+    public GenerationAdmissionQueue getGenerationQueue() {
+        return this.generationQueue;
+    }
+
     public SharedBandwidthLimiter getBandwidthLimiter() {
         return this.bandwidthLimiter;
     }
@@ -1772,6 +1969,7 @@ public class PaperRequestProcessingService {
             for (var entry : this.dirtyTracker.drainAll().entrySet()) {
                 this.offThreadProcessor.invalidateTimestamps(entry.getKey(), entry.getValue());
             }
+            if (this.probeSerializers != null) this.probeSerializers.shutdown();
             this.offThreadProcessor.shutdown();
         } catch (Exception e) {
             LSSLogger.error("Error shutting down off-thread processor", e);
@@ -1793,6 +1991,7 @@ public class PaperRequestProcessingService {
         }
         try {
             if (this.generationService != null) {
+                this.generationQueue.clear();
                 this.generationService.shutdown();
             }
         } catch (Exception e) {
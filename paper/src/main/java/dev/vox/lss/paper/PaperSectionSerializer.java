@@ -2,13 +2,18 @@ package dev.vox.lss.paper;
 
 import dev.vox.lss.common.processing.LoadedColumnData;
 import io.netty.buffer.Unpooled;
+import net.minecraft.core.RegistryAccess;
 import net.minecraft.core.SectionPos;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.LightLayer;
+import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.DataLayer;
-import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Serializes loaded chunk columns into MC-native wire format for Paper.
@@ -23,24 +28,35 @@ import net.minecraft.world.level.chunk.LevelChunkSection;
  * the class must stay stateless/reentrant; the MC reads
  * are legal and tear-free off-thread — getChunkNow is a concurrent-map lookup, light
  * listeners clone SWMR state, PalettedContainer.write is synchronized (audited for the Folia
- * port, spec §3/§5).
+ * port, spec §3/§5). The pump's probes copy on their thread ({@link #snapshotColumn}) and
+ * serialize the copy on the {@code ProbeSerializerPool}.
  */
 final class PaperSectionSerializer {
     private PaperSectionSerializer() {}
 
+    /** One served section: its (possibly copied) palettes and the light layers pass 1 kept. */
+    record SectionInfo(int sectionY, LevelChunkSection section,
+                       DataLayer blLayer, boolean hasBlockLight,
+                       DataLayer slLayer, boolean hasSkyLight) {}
+
+    /** Everything the serialize half reads — see the Fabric twin. A copied snapshot owns its
+     *  sections and layers, so {@link #serialize} may run on any thread. */
+    record ColumnSnapshot(int cx, int cz, List<SectionInfo> sections,
+                          PaperXrayMaskManager.MaskEntry maskEntry, PalettedContainerFactory maskFactory,
+                          RegistryAccess registryAccess) {}
+
     /**
      * Serialize all non-air sections of a loaded chunk column into MC-native wire format.
      * Returns a {@link LoadedColumnData} with pre-serialized bytes.
      */
-    private record SectionInfo(int index, int sectionY, SectionPos sectionPos,
-                               DataLayer blLayer, boolean hasBlockLight,
-                               DataLayer slLayer, boolean hasSkyLight) {}
+    static LoadedColumnData serializeColumn(ServerLevel level, ChunkAccess chunk, int cx, int cz) {
+        var snapshot = snapshotColumn(level, chunk, cx, cz, false);
+        return snapshot == null ? new LoadedColumnData(cx, cz, null, 0) : serialize(snapshot);
+    }
 
-    // LevelChunkSection.write(buf) is @Deprecated on Paper (an anti-xray overload was added),
-    // but the 1-arg form is the canonical vanilla serialization and is byte-identical to the
-    // Fabric path. The wire format must match Fabric exactly, so keep this call (do not migrate).
-    @SuppressWarnings("deprecation")
-    static LoadedColumnData serializeColumn(ServerLevel level, LevelChunk chunk, int cx, int cz) {
+    /** Pass 1: the served sections and their light, copied when {@code copy} (the probe
+     *  pool's hand-off — see the Fabric twin). Null for a column with nothing to serve. */
+    static ColumnSnapshot snapshotColumn(ServerLevel level, ChunkAccess chunk, int cx, int cz, boolean copy) {
         int minSectionY = level.getMinSectionY();
         var sections = chunk.getSections();
         var lightEngine = level.getLightEngine();
@@ -51,7 +67,7 @@ final class PaperSectionSerializer {
         // WITH stored non-zero sky light are served too (2026-07-27, black-boundary-faces
         // fix — see the Fabric twin for the full rationale): those boundary air layers are
         // what lights top/side faces of adjacent terrain at chunk borders.
-        var includedSections = new java.util.ArrayList<SectionInfo>(sections.length);
+        var includedSections = new ArrayList<SectionInfo>(sections.length);
         for (int i = 0; i < sections.length; i++) {
             var section = sections[i];
             if (section == null) continue;
@@ -64,7 +80,7 @@ final class PaperSectionSerializer {
 
             if (section.hasOnlyAir() && !hasBlockLight && !hasSkyLight) continue;
 
-            includedSections.add(new SectionInfo(i, sectionY, sectionPos,
+            includedSections.add(new SectionInfo(sectionY, section,
                     blLayer, hasBlockLight, slLayer, hasSkyLight));
         }
 
@@ -74,36 +90,52 @@ final class PaperSectionSerializer {
         // a data column. BLOCK-lit air keeps its long-standing unconditional serve.
         int minContent = Integer.MAX_VALUE, maxContent = Integer.MIN_VALUE;
         for (var info : includedSections) {
-            if (!sections[info.index()].hasOnlyAir()) {
+            if (!info.section().hasOnlyAir()) {
                 minContent = Math.min(minContent, info.sectionY());
                 maxContent = Math.max(maxContent, info.sectionY());
             }
         }
         final boolean noContent = minContent == Integer.MAX_VALUE;
         final int lo = minContent - 1, hi = maxContent + 1;
-        includedSections.removeIf(info -> sections[info.index()].hasOnlyAir()
+        includedSections.removeIf(info -> info.section().hasOnlyAir()
                 && !info.hasBlockLight()
                 && (noContent || info.sectionY() < lo || info.sectionY() > hi));
 
         if (includedSections.isEmpty()) {
-            return new LoadedColumnData(cx, cz, null, 0);
+            return null;
+        }
+        if (copy) {
+            // Only what pass 2 will read: a dark layer is never written, so never copied.
+            includedSections.replaceAll(info -> new SectionInfo(info.sectionY(), info.section().copy(),
+                    info.hasBlockLight() ? info.blLayer().copy() : null, info.hasBlockLight(),
+                    info.hasSkyLight() ? info.slLayer().copy() : null, info.hasSkyLight()));
         }
 
-        // Second pass: serialize using cached results
         var maskEntry = PaperXrayMaskManager.entryForActive(level);
         var maskFactory = maskEntry != null ? PaperNbtSectionSerializer.factoryFor(level.registryAccess()) : null;
-        var buf = new FriendlyByteBuf(Unpooled.buffer(sections.length * 1024));
+        return new ColumnSnapshot(cx, cz, includedSections, maskEntry, maskFactory, level.registryAccess());
+    }
+
+    /** Pass 2: the wire bytes for a non-empty snapshot. */
+    // LevelChunkSection.write(buf) is @Deprecated on Paper (an anti-xray overload was added),
+    // but the 1-arg form is the canonical vanilla serialization and is byte-identical to the
+    // Fabric path. The wire format must match Fabric exactly, so keep this call (do not migrate).
+    @SuppressWarnings("deprecation")
+    static LoadedColumnData serialize(ColumnSnapshot snapshot) {
+        var maskEntry = snapshot.maskEntry();
+        var includedSections = snapshot.sections();
+        var buf = new FriendlyByteBuf(Unpooled.buffer(includedSections.size() * 1024));
         try {
             buf.writeVarInt(includedSections.size());
 
             for (var info : includedSections) {
-                var section = sections[info.index];
+                var section = info.section();
                 if (maskEntry != null) {
                     // Masking INSIDE the choke point: probe, generation, and every consumer
                     // see identical masked bytes by construction.
                     int[] replacedCells = new int[1];
-                    var masked = PaperXrayMaskFilter.mask(section, info.sectionY,
-                            maskEntry.mask(), maskEntry.kind(), maskFactory, replacedCells);
+                    var masked = PaperXrayMaskFilter.mask(section, info.sectionY(),
+                            maskEntry.mask(), maskEntry.kind(), snapshot.maskFactory(), replacedCells);
                     if (masked != section) {
                         section = masked;
                         // Count only when cells were actually hidden — see the Fabric twin.
@@ -114,19 +146,19 @@ final class PaperSectionSerializer {
                     }
                 }
 
-                buf.writeByte(info.sectionY);
+                buf.writeByte(info.sectionY());
                 section.write(buf);
 
                 // Block light (cached from pass 1)
-                buf.writeBoolean(info.hasBlockLight);
-                if (info.hasBlockLight) {
-                    buf.writeBytes(info.blLayer.getData());
+                buf.writeBoolean(info.hasBlockLight());
+                if (info.hasBlockLight()) {
+                    buf.writeBytes(info.blLayer().getData());
                 }
 
                 // Sky light (cached from pass 1)
-                buf.writeBoolean(info.hasSkyLight);
-                if (info.hasSkyLight) {
-                    buf.writeBytes(info.slLayer.getData());
+                buf.writeBoolean(info.hasSkyLight());
+                if (info.hasSkyLight()) {
+                    buf.writeBytes(info.slLayer().getData());
                 }
             }
 
@@ -135,8 +167,8 @@ final class PaperSectionSerializer {
             // C1 produce-path v20 hook (progress-doc decision 2026-08-07): native emit
             // unchanged, canonical translation at the boundary — live, generation, and
             // the dirty-detection consumers all see the same translated bytes.
-            serialized = PaperNbtSectionSerializer.toV20(serialized, level.registryAccess());
-            return new LoadedColumnData(cx, cz, serialized, serialized.length);
+            serialized = PaperNbtSectionSerializer.toV20(serialized, snapshot.registryAccess());
+            return new LoadedColumnData(snapshot.cx(), snapshot.cz(), serialized, serialized.length);
         } finally {
             buf.release();
         }
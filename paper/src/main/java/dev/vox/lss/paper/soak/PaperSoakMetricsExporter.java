@@ -342,6 +342,16 @@ public final class PaperSoakMetricsExporter {
         storeMap.put("read_p95_us", storeDiag.getReadP95Micros());
         result.put("store", storeMap);
 
+        // Column framing — verbatim twin of the Fabric exporter's group (same keys, same
+        // order; the shared server-snapshot.contract pins parity).
+        var framing = service.getOffThreadProcessor().getFramingDiagnostics();
+        var framingMap = new LinkedHashMap<String, Object>();
+        framingMap.put("frames", framing.getFrames());
+        framingMap.put("bytes", framing.getBytes());
+        framingMap.put("bypassed", framing.getBypassed());
+        framingMap.put("ns_per_mb", framing.nanosPerMiB());
+        result.put("framing", framingMap);
+
         // Wall-time per tick over the window since the last snapshot (a stalled server
         // reads >> 50). -1 when no sampler ticks were observed (sampler not wired).
         long nowNanos = System.nanoTime();
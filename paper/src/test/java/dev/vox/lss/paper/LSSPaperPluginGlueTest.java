@@ -97,12 +97,15 @@ class LSSPaperPluginGlueTest {
 
     private static final class RecordingSender implements LSSPaperPlugin.SessionConfigSender {
         final List<Reply> replies = new ArrayList<>();
+        final List<Integer> serverCaps = new ArrayList<>();
 
         @Override
         public void send(HandshakeGate.WireDialect dialect, boolean enabled, int lodDistanceChunks,
-                         int syncCap, int genCap, boolean generationEnabled) {
+                         int syncCap, int genCap, boolean generationEnabled,
+                         int serverCapabilities) {
             replies.add(new Reply(dialect, enabled, lodDistanceChunks, syncCap, genCap,
                     generationEnabled));
+            serverCaps.add(serverCapabilities);
         }
     }
 
@@ -330,6 +333,22 @@ class LSSPaperPluginGlueTest {
         assertEquals(List.of(), registrar.caps);
     }
 
+    @Test
+    void compactWantSetsAreGrantedOnlyToACurrentClientThatDeclaredThem() {
+        int declared = VOXEL_CAPS | LSSConstants.CAPABILITY_COMPACT_WANT_SETS;
+        var sender = new RecordingSender();
+        var registrar = new RecordingRegistrar();
+        LSSPaperPlugin.handleHandshake(handshakeFrame(V, declared),
+                "Steve", config(true), true, sender, registrar);
+        LSSPaperPlugin.handleHandshake(handshakeFrame(V, VOXEL_CAPS),
+                "Alex", config(true), true, sender, registrar);
+        LSSPaperPlugin.handleHandshake(handshakeFrame(19, declared),
+                "vx9m", config(true), true, sender, registrar);
+        registrar.runDeferredReplies();
+        assertEquals(List.of(LSSConstants.CAPABILITY_COMPACT_WANT_SETS, 0, 0), sender.serverCaps,
+                "the trailer rides only a declaring CURRENT session's reply");
+    }
+
     @Test
     void sessionConfigVersionEchoesV19ForTheV19Dialect() {
         assertEquals(LSSConstants.V19_COMPAT_PROTOCOL_VERSION,
@@ -424,7 +443,8 @@ class LSSPaperPluginGlueTest {
                     data -> { throw new AssertionError("handshake frame must not reach the chunk-request handler"); },
                     data -> { throw new AssertionError("handshake frame must not reach the client-info handler"); },
                     data -> { throw new AssertionError("handshake frame must not reach the far-player prefs handler"); },
-                    data -> { throw new AssertionError("handshake frame must not reach the region-summary handler"); }),
+                    data -> { throw new AssertionError("handshake frame must not reach the region-summary handler"); },
+                    data -> { throw new AssertionError("handshake frame must not reach the want-set handler"); }),
                     "a malformed frame must never propagate into Bukkit's messenger");
             assertEquals(List.of(), sender.replies, "no partial handshake handling");
 
@@ -442,7 +462,8 @@ class LSSPaperPluginGlueTest {
                     data -> { throw new AssertionError("handshake frame must not reach the chunk-request handler"); },
                     data -> { throw new AssertionError("handshake frame must not reach the client-info handler"); },
                     data -> { throw new AssertionError("handshake frame must not reach the far-player prefs handler"); },
-                    data -> { throw new AssertionError("handshake frame must not reach the region-summary handler"); });
+                    data -> { throw new AssertionError("handshake frame must not reach the region-summary handler"); },
+                    data -> { throw new AssertionError("handshake frame must not reach the want-set handler"); });
             assertEquals(1, sender.replies.size(), "subsequent messages still dispatch after a contained failure");
             assertEquals(1, capture.rows().stream().filter(r -> r.level() == Level.ERROR).count());
         }
@@ -469,7 +490,8 @@ class LSSPaperPluginGlueTest {
                     chunkHandler,
                     data -> { throw new AssertionError("chunk-request frame must not reach the client-info handler"); },
                     data -> { throw new AssertionError("chunk-request frame must not reach the far-player prefs handler"); },
-                    data -> { throw new AssertionError("chunk-request frame must not reach the region-summary handler"); }));
+                    data -> { throw new AssertionError("chunk-request frame must not reach the region-summary handler"); },
+                    data -> { throw new AssertionError("chunk-request frame must not reach the want-set handler"); }));
             assertEquals(List.of(), decoded, "no partial batch decode survives");
 
             var errors = capture.rows().stream().filter(r -> r.level() == Level.ERROR).toList();
@@ -488,7 +510,8 @@ class LSSPaperPluginGlueTest {
                     chunkHandler,
                     data -> { throw new AssertionError("chunk-request frame must not reach the client-info handler"); },
                     data -> { throw new AssertionError("chunk-request frame must not reach the far-player prefs handler"); },
-                    data -> { throw new AssertionError("chunk-request frame must not reach the region-summary handler"); });
+                    data -> { throw new AssertionError("chunk-request frame must not reach the region-summary handler"); },
+                    data -> { throw new AssertionError("chunk-request frame must not reach the want-set handler"); });
             assertEquals(1, decoded.size(), "subsequent messages still dispatch after a contained failure");
             assertEquals(PositionUtil.packPosition(-3, 9), decoded.get(0).packedPositions()[0]);
         }
@@ -508,7 +531,8 @@ class LSSPaperPluginGlueTest {
                         data -> { throw new AssertionError("handshake frame must not reach the chunk-request handler"); },
                         data -> { throw new AssertionError("handshake frame must not reach the client-info handler"); },
                         data -> { throw new AssertionError("handshake frame must not reach the far-player prefs handler"); },
-                    data -> { throw new AssertionError("handshake frame must not reach the region-summary handler"); });
+                    data -> { throw new AssertionError("handshake frame must not reach the region-summary handler"); },
+                    data -> { throw new AssertionError("handshake frame must not reach the want-set handler"); });
             }
             var errors = capture.rows().stream().filter(r -> r.level() == Level.ERROR).toList();
             assertEquals(1, errors.size(),
@@ -524,7 +548,8 @@ class LSSPaperPluginGlueTest {
                     data -> { throw new AssertionError("unknown channel must not reach the chunk-request handler"); },
                     data -> { throw new AssertionError("unknown channel must not reach the client-info handler"); },
                     data -> { throw new AssertionError("unknown channel must not reach the far-player prefs handler"); },
-                    data -> { throw new AssertionError("unknown channel must not reach the region-summary handler"); });
+                    data -> { throw new AssertionError("unknown channel must not reach the region-summary handler"); },
+                    data -> { throw new AssertionError("unknown channel must not reach the want-set handler"); });
             assertEquals(List.of(), capture.rows(), "unknown channels are silently ignored");
         }
     }
@@ -20,6 +20,7 @@ import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.level.chunk.PalettedContainerFactory;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
 import net.minecraft.world.level.lighting.LayerLightEventListener;
 import net.minecraft.world.level.lighting.LevelLightEngine;
 import ca.spottedleaf.concurrentutil.util.Priority;
@@ -640,6 +641,39 @@ class PaperChunkGenerationServiceTest {
                 "LOD generation must launch at Moonrise Priority.LOW");
     }
 
+    @Test
+    void lodOnlyGenerationStopsAtLightAndSerializesTheDeliveredProtoChunk() {
+        var config = config(32, 1, 60);
+        assertSame(ChunkStatus.FULL, new CapturingGenService(config).targetStatus(),
+                "the default schedules FULL");
+        config.lodOnlyGeneration = true;
+        var svc = new CapturingGenService(config);
+        assertSame(ChunkStatus.LIGHT, svc.targetStatus(),
+                "LOD-only stops at LIGHT — the last status whose data the serve reads");
+
+        // A proto-chunk delivery (not a LevelChunk) whose re-fetch would MISS: getChunkNow
+        // sees only FULL chunks, so LOD-only must serialize the delivery itself rather than
+        // triage every generation as vanished.
+        var section = new LevelChunkSection(FACTORY);
+        section.setBlockState(0, 0, 0, Blocks.STONE.defaultBlockState());
+        var proto = mock(ChunkAccess.class);
+        when(proto.getSections()).thenReturn(new LevelChunkSection[]{section});
+        var lightEngine = mock(LevelLightEngine.class);
+        when(lightEngine.getLayerListener(any())).thenReturn(mock(LayerLightEventListener.class));
+        var level = overworldLevel();
+        when(level.getChunkSource()).thenReturn(mock(ServerChunkCache.class));
+        when(level.getLightEngine()).thenReturn(lightEngine);
+
+        assertTrue(svc.submitGeneration(UUID.randomUUID(), level, 2, 3, 1L));
+        svc.completeAsyncLoad(svc.launches.get(0).key(), level, proto, 2, 3, svc.launches.get(0).token());
+
+        var ready = svc.tick();
+        assertEquals(1, ready.size());
+        assertNotNull(ready.get(0).columnData().serializedSections(), "the proto-chunk's stone section served");
+        assertEquals(0L, svc.getVanishedFailures(), "never triaged as a vanished chunk");
+        assertEquals(diag(1, 1, 0, 0, 0), svc.getDiagnostics());
+    }
+
     @Test
     void schedulerRejectionAfterAsyncCompletionNeverRunsTheCallbackInline() {
         // The completion (the Moonrise consumer) fires while the plugin is shutting down:
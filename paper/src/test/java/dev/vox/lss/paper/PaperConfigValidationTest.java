@@ -180,9 +180,26 @@ class PaperConfigValidationTest {
             Map.entry("lodStoreResweepSeconds",
                     new Bounds(LSSConstants.MIN_LOD_STORE_RESWEEP_SECONDS,
                             LSSConstants.MAX_LOD_STORE_RESWEEP_SECONDS)),
+            // lodStoreHotCacheMB's legal floor is 0 (= the hot-frame cache off).
+            Map.entry("lodStoreHotCacheMB",
+                    new Bounds(LSSConstants.MIN_LOD_STORE_HOT_CACHE_MB,
+                            LSSConstants.MAX_LOD_STORE_HOT_CACHE_MB)),
+            // lodStoreColdCompressionDays' legal floor is 0 (= the cold-tier walk off).
+            Map.entry("lodStoreColdCompressionDays",
+                    new Bounds(LSSConstants.MIN_LOD_STORE_COLD_COMPRESSION_DAYS,
+                            LSSConstants.MAX_LOD_STORE_COLD_COMPRESSION_DAYS)),
+            // 0 = AUTO for the prepare shards; -1 = probe serialization on the tick
+            // thread (the pool's off switch). Explicit values clamp to the pool ceilings.
+            Map.entry("processingPrepareShards",
+                    new Bounds(0, LSSConstants.MAX_PREPARE_SHARDS)),
+            Map.entry("probeSerializerThreads",
+                    new Bounds(-1, LSSConstants.MAX_PROBE_SERIALIZERS)),
             Map.entry("lodStoreBackfillColumnsPerSecond",
                     new Bounds(LSSConstants.MIN_LOD_STORE_BACKFILL_CPS,
                             LSSConstants.MAX_LOD_STORE_BACKFILL_CPS)),
+            Map.entry("lodStoreBackfillWorkers",
+                    new Bounds(LSSConstants.MIN_LOD_STORE_BACKFILL_WORKERS,
+                            LSSConstants.MAX_LOD_STORE_BACKFILL_WORKERS)),
             Map.entry("xrayMaxBlockHeight",
                     new Bounds(LSSConstants.MIN_XRAY_MAX_BLOCK_HEIGHT, LSSConstants.MAX_XRAY_MAX_BLOCK_HEIGHT)));
 
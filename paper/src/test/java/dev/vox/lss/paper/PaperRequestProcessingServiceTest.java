@@ -559,7 +559,7 @@ class PaperRequestProcessingServiceTest {
     }
 
     @Test
-    void capacityRejectedTicketFeedsAFailureSoTheSlotUnwinds() {
+    void capacityRejectedTicketWaitsInTheQueueAndIsRetried() {
         var uuid = UUID.randomUUID();
         var player = playerIn(uuid, level(Level.OVERWORLD));
         service.registerPlayer(player, 1);
@@ -570,11 +570,37 @@ class PaperRequestProcessingServiceTest {
         service.tick();
 
         assertEquals(List.of(new RecordingGenService.Submitted(uuid, 5, 5, 9L)), genService.submitted);
-        assertEquals(List.of(new RecordingProcessor.GenFailure(uuid, 5, 5, "minecraft:overworld", 9L, true)),
+        assertTrue(processor.genFailures.isEmpty(),
+                "a bounced submit stays queued — its pending slot is still held, not leaked");
+        assertEquals(1, service.getGenerationQueue().size());
+
+        genService.accept = true;
+        service.tick();
+        assertEquals(List.of(new RecordingGenService.Submitted(uuid, 5, 5, 9L),
+                new RecordingGenService.Submitted(uuid, 5, 5, 9L)), genService.submitted,
+                "capacity is momentary — the next tick retries it");
+        assertEquals(0, service.getGenerationQueue().size());
+        assertTrue(processor.genFailures.isEmpty());
+    }
+
+    @Test
+    void queuedTicketOutOfRangeFeedsATransientFailureSoTheSlotUnwinds() {
+        var uuid = UUID.randomUUID();
+        var player = playerIn(uuid, level(Level.OVERWORLD));
+        service.registerPlayer(player, 1);
+        genService.accept = false;
+        int far = config.lodDistanceChunks + LSSConstants.LOD_DISTANCE_BUFFER + 1;
+        processor.ticketQueue.add(new OffThreadProcessor.GenerationTicketRequest(
+                uuid, far, 0, "minecraft:overworld", 9L));
+
+        service.tick();
+
+        assertTrue(genService.submitted.isEmpty(), "nobody could still want it — never submitted");
+        assertEquals(List.of(new RecordingProcessor.GenFailure(uuid, far, 0, "minecraft:overworld", 9L, true)),
                 processor.genFailures,
-                "a bounced submit must feed a TRANSIENT failure (capacity is momentary — a "
-                        + "permanent NOT_GENERATED would blank the position for the session) "
-                        + "or the pending slot leaks forever");
+                "a cancelled waiter must feed a TRANSIENT failure (a permanent NOT_GENERATED "
+                        + "would blank the position for the session) or the pending slot leaks forever");
+        assertEquals(1, service.getGenerationQueue().getCancelled());
     }
 
     @Test
@@ -117,6 +117,27 @@ class WireParityTest {
                 3, true, 8, false));
     }
 
+    @Test
+    void sessionConfigServerCapabilitiesTrailOnlyWhenGranted() {
+        byte[] expected = ref(b -> {
+            b.writeVarInt(LSSConstants.PROTOCOL_VERSION);
+            b.writeBoolean(true);
+            b.writeVarInt(64);
+            b.writeBoolean(true);
+            b.writeVarInt(net.minecraft.SharedConstants.getCurrentVersion()
+                    .dataVersion().version());
+            b.writeVarInt(LSSConstants.CAPABILITY_COMPACT_WANT_SETS);
+        });
+        assertArrayEquals(expected, PaperPayloadHandler.encodeSessionConfig(
+                LSSConstants.PROTOCOL_VERSION, true, 64, true,
+                LSSConstants.CAPABILITY_COMPACT_WANT_SETS));
+        assertArrayEquals(PaperPayloadHandler.encodeSessionConfig(
+                LSSConstants.PROTOCOL_VERSION, true, 64, true),
+                PaperPayloadHandler.encodeSessionConfig(
+                        LSSConstants.PROTOCOL_VERSION, true, 64, true, 0),
+                "nothing granted, nothing appended");
+    }
+
     @Test
     void sessionConfigVarIntBoundaries() {
         // lodDistance crossing the 1->2 byte VarInt boundary (127/128) and the 2048 config
@@ -319,7 +340,10 @@ class WireParityTest {
                 // Stamped up_to_date (stamped-up-to-date-plan.md §3): ColumnStampsWire
                 // byte[] bodies, same doctrine (ColumnStampsWireTest owns the bytes;
                 // Paper's carrier is the same NMS DiscardedPayload send).
-                "lss:col_stamps");
+                "lss:col_stamps",
+                // Packed columns: ColumnPackWire byte[] bodies, same doctrine
+                // (ColumnPackWireTest owns the bytes; the same DiscardedPayload send).
+                "lss:column_pack");
         assertEquals(covered, declared,
                 "every LSS channel must be accounted for in this census — raw-byte[]"
                 + " channels are enumerated with their codec-owning suite named in the"
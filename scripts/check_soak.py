@@ -431,6 +431,10 @@ SERVER_MONOTONIC = (
     # service.bytes_sent (law A2's raw==raw identity stays exact). Counted on
     # completed sends only; zero on every non-opt-in scenario (the inert check).
     "summary.stamps_frames", "summary.stamps_entries", "summary.stamps_bytes",
+    # Column framing (bypassConnectionCompression): compressed column frames timed at the
+    # connection compressor. Observational — no law reads them; ns_per_mb is a GAUGE,
+    # absent here. All-zero on a harness run over an uncompressed local connection.
+    "framing.frames", "framing.bytes", "framing.bypassed",
 )
 CLIENT_MONOTONIC = (
     "received_columns", "received_bytes", "dropped",
@@ -452,7 +456,8 @@ KNOWN_SERVER_KEYS = {
     # JVM runs with -Dlss.soak.probes. All are observational — no law requires their presence.
     "snapshot": {"event", "wallMs", "tick", "service", "disk", "generation", "dirty",
                  "bandwidth", "players", "dedup", "jvm", "tscache", "store", "far_players",
-                 "summary", "mailbox_depth_hw", "mspt_avg_window", "probe_hashes"},
+                 "summary", "framing", "mailbox_depth_hw", "mspt_avg_window",
+                 "probe_hashes"},
     # mapped appears only on Folia runs, only when true: the driver acknowledged a timeline
     # command Folia unregisters (save-all) as a deliberate no-op instead of executing it.
     "command": {"event", "wallMs", "tick", "cmd", "anchor", "at", "ok", "mapped"},
@@ -3851,6 +3856,7 @@ def _srv(wall=1000, seg=0, over=None):
                       "queue": 0,
                       "db_bytes": 0, "wal_bytes": 0,
                       "checkpoint_ms_max": 0, "read_avg_us": 0, "read_p95_us": 0},
+            "framing": {"frames": 0, "bytes": 0, "bypassed": 0, "ns_per_mb": 0},
             "bandwidth": {"total_bytes": 0},
             "tscache": {"size_per_dimension": {}, "evictions": 0}, "players": []}
     for k, v in (over or {}).items():
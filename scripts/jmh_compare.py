@@ -0,0 +1,150 @@
+#!/usr/bin/env python3
+"""Baseline-vs-change report over two :benchmarks JMH result files.
+
+Usage:
+  jmh_compare.py <baseline.json> <change.json> [--threshold PCT]
+  jmh_compare.py --selftest
+
+Both files are JMH `-rf json` output (./gradlew :benchmarks:jmh writes
+benchmarks/build/jmh/results.json; copy it aside before changing code to keep a
+baseline). Rows pair up by benchmark name + params; a row present on one side only is
+listed as added/removed and never fails the run.
+
+Reading the output:
+  - time: the primary score (lower is better for the AverageTime suites). delta% is
+    change/baseline - 1. A row is a REGRESSION only when it is slower by more than
+    --threshold percent (default 5) AND the gap exceeds both runs' 99.9% error bars
+    combined. A slower row inside its error bars reads "noise", not a regression.
+  - alloc: gc.alloc.rate.norm (bytes per operation, from the gc profiler). It is
+    deterministic for these suites, so any growth past the threshold is flagged on its
+    own — an allocation regression shows up here before it shows up as GC time.
+  - Exit status 1 when any row regressed, else 0.
+"""
+import json
+import math
+import sys
+
+ALLOC_KEY = "·gc.alloc.rate.norm"
+
+
+def load(path):
+    with open(path) as f:
+        return json.load(f)
+
+
+def row_key(entry):
+    params = entry.get("params") or {}
+    suffix = ",".join(f"{k}={params[k]}" for k in sorted(params))
+    name = entry["benchmark"].rsplit(".", 2)
+    short = ".".join(name[-2:])
+    return f"{short}[{suffix}]" if suffix else short
+
+
+def index(results):
+    rows = {}
+    for entry in results:
+        primary = entry["primaryMetric"]
+        alloc = (entry.get("secondaryMetrics") or {}).get(ALLOC_KEY)
+        err = primary.get("scoreError")
+        rows[row_key(entry)] = {
+            "score": primary["score"],
+            "error": err if isinstance(err, (int, float)) and not math.isnan(err) else 0.0,
+            "unit": primary.get("scoreUnit", ""),
+            "alloc": alloc["score"] if alloc else None,
+        }
+    return rows
+
+
+def compare(baseline, change, threshold):
+    """Returns (lines, regressions)."""
+    base, chg = index(baseline), index(change)
+    lines = []
+    regressions = 0
+    width = max((len(k) for k in base.keys() | chg.keys()), default=10)
+    lines.append(f"{'benchmark':<{width}}  {'baseline':>12}  {'change':>12}  {'delta%':>8}  "
+                 f"{'alloc B/op':>21}  verdict")
+    for key in sorted(base.keys() | chg.keys()):
+        if key not in chg:
+            lines.append(f"{key:<{width}}  removed")
+            continue
+        if key not in base:
+            lines.append(f"{key:<{width}}  added ({chg[key]['score']:.3f} {chg[key]['unit']})")
+            continue
+        b, c = base[key], chg[key]
+        delta = (c["score"] / b["score"] - 1.0) * 100.0 if b["score"] else 0.0
+        verdicts = []
+        if delta > threshold:
+            if c["score"] - b["score"] > b["error"] + c["error"]:
+                verdicts.append("REGRESSION")
+            else:
+                verdicts.append("noise")
+        elif delta < -threshold and b["score"] - c["score"] > b["error"] + c["error"]:
+            verdicts.append("faster")
+        alloc = ""
+        if b["alloc"] is not None and c["alloc"] is not None:
+            alloc = f"{b['alloc']:.0f} -> {c['alloc']:.0f}"
+            grew = (c["alloc"] - b["alloc"]) / b["alloc"] * 100.0 if b["alloc"] else (
+                100.0 if c["alloc"] > 0 else 0.0)
+            if grew > threshold:
+                verdicts.append("ALLOC REGRESSION")
+        if any(v.endswith("REGRESSION") for v in verdicts):
+            regressions += 1
+        lines.append(f"{key:<{width}}  {b['score']:>12.3f}  {c['score']:>12.3f}  {delta:>+7.1f}%  "
+                     f"{alloc:>21}  {' '.join(verdicts) or 'ok'}")
+    lines.append(f"{regressions} regression(s) at a {threshold:g}% threshold")
+    return lines, regressions
+
+
+def _entry(name, score, error, alloc, **params):
+    return {"benchmark": "dev.vox.lss.benchmarks." + name, "params": params or None,
+            "primaryMetric": {"score": score, "scoreError": error, "scoreUnit": "us/op"},
+            "secondaryMetrics": {ALLOC_KEY: {"score": alloc, "scoreUnit": "B/op"}}}
+
+
+def selftest():
+    baseline = [
+        _entry("StoreCodecBenchmark.compress", 100.0, 2.0, 1000, codecName="zstd"),
+        _entry("StoreCodecBenchmark.compress", 100.0, 2.0, 1000, codecName="zstd-dict"),
+        _entry("WireCodecBenchmark.parseV20", 50.0, 10.0, 500, shape="CAVES"),
+        _entry("WireCodecBenchmark.emitV20", 40.0, 1.0, 400, shape="CAVES"),
+        _entry("TimestampCacheBenchmark.getHit", 20.0, 0.5, 0),
+    ]
+    change = [
+        _entry("StoreCodecBenchmark.compress", 120.0, 2.0, 1000, codecName="zstd"),  # slower
+        _entry("StoreCodecBenchmark.compress", 80.0, 2.0, 1000, codecName="zstd-dict"),  # faster
+        _entry("WireCodecBenchmark.parseV20", 56.0, 10.0, 500, shape="CAVES"),  # noise
+        _entry("WireCodecBenchmark.emitV20", 40.0, 1.0, 800, shape="CAVES"),  # alloc
+        _entry("LodTierBenchmark.digest", 5.0, 0.1, 64),  # added
+    ]
+    lines, regressions = compare(baseline, change, 5.0)
+    text = "\n".join(lines)
+    by_key = {l.split()[0]: l for l in lines[1:-1]}
+    assert "REGRESSION" in by_key["StoreCodecBenchmark.compress[codecName=zstd]"], text
+    assert by_key["StoreCodecBenchmark.compress[codecName=zstd-dict]"].endswith("faster"), text
+    assert by_key["WireCodecBenchmark.parseV20[shape=CAVES]"].endswith("noise"), text
+    assert "ALLOC REGRESSION" in by_key["WireCodecBenchmark.emitV20[shape=CAVES]"], text
+    assert "removed" in by_key["TimestampCacheBenchmark.getHit"], text
+    assert "added" in by_key["LodTierBenchmark.digest"], text
+    assert regressions == 2, text
+    print("selftest OK")
+
+
+def main():
+    args = sys.argv[1:]
+    if args == ["--selftest"]:
+        selftest()
+        return
+    threshold = 5.0
+    if "--threshold" in args:
+        i = args.index("--threshold")
+        threshold = float(args[i + 1])
+        del args[i:i + 2]
+    if len(args) != 2:
+        sys.exit(__doc__)
+    lines, regressions = compare(load(args[0]), load(args[1]), threshold)
+    print("\n".join(lines))
+    sys.exit(1 if regressions else 0)
+
+
+if __name__ == "__main__":
+    main()
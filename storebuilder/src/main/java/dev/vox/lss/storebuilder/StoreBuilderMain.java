@@ -0,0 +1,64 @@
+package dev.vox.lss.storebuilder;
+
+import dev.vox.lss.common.LSSConstants;
+import dev.vox.lss.common.store.offline.OfflineStoreBuilder;
+import dev.vox.lss.common.store.offline.StoreBuildProfile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * {@code storebuilder <world dir> [--workers N] [--profile <file>]}: builds the world's LOD
+ * store offline. Exit 0 on a completed walk, 1 on a stopped or failed one, 2 on bad usage.
+ */
+public final class StoreBuilderMain {
+    private StoreBuilderMain() {}
+
+    private static final String USAGE =
+            "usage: storebuilder <world dir> [--workers N] [--profile <build-profile.json>]";
+
+    public static void main(String[] args) {
+        Path world = null;
+        Path profilePath = null;
+        int workers = Math.max(1, Math.min(LSSConstants.MAX_LOD_STORE_BACKFILL_WORKERS,
+                Runtime.getRuntime().availableProcessors() / 2));
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--workers" -> workers = Integer.parseInt(args[++i]);
+                    case "--profile" -> profilePath = Path.of(args[++i]);
+                    default -> {
+                        if (world != null || args[i].startsWith("--")) throw new IllegalArgumentException(args[i]);
+                        world = Path.of(args[i]);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+        if (world == null || !Files.isDirectory(world)) {
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+        if (profilePath == null) profilePath = OfflineStoreBuilder.defaultProfilePath(world);
+
+        try {
+            var profile = StoreBuildProfile.read(profilePath);
+            System.out.println("Building the LOD store for " + world + " (" + profile.mcVersion
+                    + ", " + workers + " worker" + (workers == 1 ? "" : "s") + ")");
+            var result = new OfflineStoreBuilder(world, profile, workers).build();
+            System.out.println(result);
+            System.exit(result.walkLine() != null && result.walkLine().startsWith("complete") ? 0 : 1);
+        } catch (java.nio.file.NoSuchFileException e) {
+            System.err.println("No build profile at " + profilePath + " — boot the target server"
+                    + " once with lodStore on (it writes one next to the store), or pass --profile");
+            System.exit(1);
+        } catch (Exception e) {
+            System.err.println("Store build failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -414,6 +414,18 @@ public final class BenchmarkMetricsExporter {
         storeMap.put("read_p95_us", storeDiag.getReadP95Micros());
         result.put("store", storeMap);
 
+        // Column framing (bypassConnectionCompression): compressed column frames timed at
+        // the connection compressor, bypass or not — ns_per_mb is the CPU-per-MB figure
+        // to compare across a run with the key on and one with it off. The counters are
+        // monotonic; ns_per_mb is a gauge. All-zero on an uncompressed (local) connection.
+        var framing = src.processor().getFramingDiagnostics();
+        var framingMap = new LinkedHashMap<String, Object>();
+        framingMap.put("frames", framing.getFrames());
+        framingMap.put("bytes", framing.getBytes());
+        framingMap.put("bypassed", framing.getBypassed());
+        framingMap.put("ns_per_mb", framing.nanosPerMiB());
+        result.put("framing", framingMap);
+
         // Wall-time per tick over the window since the last snapshot (a stalled server
         // reads >> 50). -1 when no sampler ticks were observed (sampler not wired).
         long nowNanos = System.nanoTime();
@@ -669,6 +681,11 @@ public final class BenchmarkMetricsExporter {
             genMap.put("submitted", genService.getTotalSubmitted());
             genMap.put("completed", genService.getTotalCompleted());
             genMap.put("timeouts", genService.getTotalTimeouts());
+            var genQueue = service.getGenerationQueue();
+            genMap.put("queued", genQueue.size());
+            genMap.put("queue_wait_p50_ms", genQueue.waitPercentileMillis(0.50));
+            genMap.put("queue_wait_p95_ms", genQueue.waitPercentileMillis(0.95));
+            genMap.put("queue_wait_p99_ms", genQueue.waitPercentileMillis(0.99));
         }
         result.put("generation", genMap);
 
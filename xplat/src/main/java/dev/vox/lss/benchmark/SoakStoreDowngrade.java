@@ -66,12 +66,33 @@ final class SoakStoreDowngrade {
         // this dev-only tool must not add it there.
         try (Connection c = java.sql.DriverManager.getConnection("jdbc:sqlite:" + db)) {
             c.setAutoCommit(false);
+            // A dictionary store's blobs decode with the dictionary codec; the rewrite
+            // below emits plain zstd-1 frames (the only v0.9.x codec) either way.
+            StoreCodec readCodec = codec;
+            try (Statement st = c.createStatement();
+                 ResultSet rs = st.executeQuery("SELECT v FROM meta WHERE k = 'codec'")) {
+                if (rs.next() && !StoreCodec.NAME.equals(rs.getString(1))) {
+                    readCodec = StoreCodec.zstdWithDictionaryOrNull();
+                    if (readCodec == null) {
+                        throw new IllegalStateException("dictionary codec unavailable");
+                    }
+                }
+            }
             var dimIds = new ArrayList<Integer>();
             try (Statement st = c.createStatement();
                  ResultSet rs = st.executeQuery("SELECT id FROM dims")) {
                 while (rs.next()) dimIds.add(rs.getInt(1));
             }
             for (int dimId : dimIds) {
+                // Section-dedup rows (wirefmt 21) have no v0.9.x shape; drop them (the
+                // scenario re-warms them) along with the triggers that reference the
+                // wirefmt column the ALTER below removes.
+                try (Statement st = c.createStatement()) {
+                    st.executeUpdate("DELETE FROM lods_" + dimId + " WHERE wirefmt = "
+                            + LodStoreService.WIREFMT_V20_SECTIONS);
+                    st.executeUpdate("DROP TRIGGER IF EXISTS lods_" + dimId + "_unref_del");
+                    st.executeUpdate("DROP TRIGGER IF EXISTS lods_" + dimId + "_unref_upd");
+                }
                 // Translate first, update second — soak discs are small, so buffering
                 // the dimension keeps the SQL simple (no cursor-under-write).
                 var translated = new ArrayList<NativeRow>();
@@ -84,7 +105,7 @@ final class SoakStoreDowngrade {
                             allAir++; // all-air short-circuits hash validation; leave it
                             continue;
                         }
-                        byte[] v20 = codec.decompress(rs.getBytes(3), usize);
+                        byte[] v20 = readCodec.decompress(rs.getBytes(3), usize);
                         translated.add(new NativeRow(rs.getLong(1),
                                 (byte[]) fromV20.invoke(null, v20, registryAccess)));
                     }
@@ -107,6 +128,10 @@ final class SoakStoreDowngrade {
                     st.executeUpdate("ALTER TABLE lods_" + dimId + " DROP COLUMN wirefmt");
                 }
             }
+            try (Statement st = c.createStatement()) {
+                st.executeUpdate("DROP TABLE IF EXISTS section_refs");
+                st.executeUpdate("DROP TABLE IF EXISTS sections");
+            }
             // Synthesize one all-air 19-row per dimension (C6 review M-1): the walk
             // must RETAG usize-0 rows, and no populate world reliably produces one —
             // without this the gate's zero-anomaly assertion never covers the shape
@@ -128,6 +153,7 @@ final class SoakStoreDowngrade {
             try (Statement st = c.createStatement()) {
                 st.executeUpdate("UPDATE meta SET v='3' WHERE k='schema_version'");
                 st.executeUpdate("UPDATE meta SET v='19' WHERE k='wire_format_version'");
+                st.executeUpdate("UPDATE meta SET v='" + StoreCodec.NAME + "' WHERE k='codec'");
                 st.executeUpdate("DELETE FROM meta WHERE k IN ('store_layout',"
                         + " 'migrate_pending', 'migrate_total', 'migrate_done')"
                         + " OR k LIKE 'migrate_progress_%'");
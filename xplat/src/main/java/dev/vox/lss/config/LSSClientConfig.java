@@ -126,6 +126,21 @@ public class LSSClientConfig extends JsonConfig {
     // Sodium toggle ("Slow Start on Join"). false = sessions start uncapped, the
     // pre-slow-start shape.
     public boolean enableJoinSlowStart = true;
+    // Multi-resolution LOD tiers (LodTierDownsampler): beyond this Chebyshev chunk
+    // distance S, first asks declare a coarse tier — 2x cells past S, 4x past 2S, 8x past
+    // 4S — and the server ships the downsampled column (a fraction of the bytes and the
+    // decode work, where the detail is sub-pixel anyway). Walking closer re-asks the
+    // finer tier. Tier-unaware servers (and servers with enableLodTiers off) simply serve
+    // full resolution. 0 (and any non-positive value) = OFF, bit-identical to pre-tier
+    // behavior; positive values clamp to [MIN_LOD_TIER_START_CHUNKS, MAX_LOD_DISTANCE].
+    public int lodTierStartChunks = 0;
+    // Column decode workers (ClientColumnProcessor): received columns decompress,
+    // translate and build their sections on this many threads while the single drain
+    // thread still hands them to consumers in arrival order. 0 = AUTO (one per 4 cores,
+    // 1..4 — a warm join on an 8+ core client absorbs the server's full rate instead of
+    // tripping the decode-queue backpressure); 1 = decode on the drain thread itself,
+    // the pre-pool shape. Read once, at client start.
+    public int columnDecodeThreads = 0;
 
     // ---- Far players (v0.11.0, FARP §3.3 — ARMED since E2 via the client
     // ---- capability bit; these keys exist so upgrading users can pre-configure).
@@ -162,6 +177,13 @@ public class LSSClientConfig extends JsonConfig {
      *  ~a few hundred blocks is invisible sub-pixel work). */
     public int farPlayersMaxAnimationDistanceBlocks = 256;
 
+    /** Resolved column decode thread count, honouring the 0 = AUTO default (1 = inline). */
+    public int effectiveColumnDecodeThreads() {
+        if (columnDecodeThreads > 0) return columnDecodeThreads;
+        return Math.clamp(Runtime.getRuntime().availableProcessors()
+                / LSSConstants.AUTO_COLUMN_DECODE_CORES, 1, LSSConstants.AUTO_COLUMN_DECODE_THREADS_MAX);
+    }
+
     @Override
     protected String getFileName() {
         return CANDIDATES[0]; // brand-primary (creation target / default when not loaded via load())
@@ -202,6 +224,13 @@ public class LSSClientConfig extends JsonConfig {
         farPlayersShareDistanceBlocks = Math.clamp(farPlayersShareDistanceBlocks, 0, 16384);
         farPlayersMaxRenderDistanceBlocks = Math.clamp(farPlayersMaxRenderDistanceBlocks, 0, 16384);
         farPlayersMaxAnimationDistanceBlocks = Math.clamp(farPlayersMaxAnimationDistanceBlocks, 0, 16384);
+        if (lodTierStartChunks <= 0) {
+            lodTierStartChunks = 0;
+        } else {
+            lodTierStartChunks = Math.clamp(lodTierStartChunks,
+                    LSSConstants.MIN_LOD_TIER_START_CHUNKS, LSSConstants.MAX_LOD_DISTANCE);
+        }
+        columnDecodeThreads = Math.clamp(columnDecodeThreads, 0, LSSConstants.MAX_COLUMN_DECODE_THREADS);
         if (lodColumnsPerSecondLimit <= 0) {
             lodColumnsPerSecondLimit = 0;
         } else {
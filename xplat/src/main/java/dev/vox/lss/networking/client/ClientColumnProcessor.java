@@ -5,6 +5,7 @@ import dev.vox.lss.api.VoxelColumnData;
 import dev.vox.lss.common.Brand;
 import dev.vox.lss.common.LSSLogger;
 import dev.vox.lss.common.PositionUtil;
+import dev.vox.lss.common.wire.SectionDelta;
 import dev.vox.lss.config.LSSClientConfig;
 import dev.vox.lss.networking.payloads.VoxelColumnS2CPayload;
 import io.netty.buffer.Unpooled;
@@ -17,9 +18,17 @@ import net.minecraft.world.level.chunk.DataLayer;
 import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.level.chunk.PalettedContainerFactory;
 
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -39,6 +48,10 @@ class ClientColumnProcessor {
      *  attack. */
     static final long MAX_QUEUED_BYTES = 256L * 1024 * 1024;
     private static final long DROP_WARN_INTERVAL_MS = 5000;
+    /** Columns the drain keeps in decode per worker: enough to cover one slow column
+     *  without idling the rest, small enough that decoded-but-undispatched sections stay
+     *  a few MB. */
+    static final int DECODE_WINDOW_PER_THREAD = 4;
 
     /**
      * Receives every "delivered but never ingested" report this processor emits (queue
@@ -79,6 +92,48 @@ class ClientColumnProcessor {
      */
     private record QueuedColumn(VoxelColumnS2CPayload payload, boolean resync, int charge) {}
 
+    /**
+     * A column the drain has polled into its decode window but not yet dispatched. It is
+     * CLAIMED exactly once — by the drain (dispatch or failure report) or by a teardown
+     * sweep (report or discard) — so every polled column is released from the gauges and
+     * reported at most once, whichever side gets there first.
+     */
+    private static final class InFlight {
+        final QueuedColumn queued;
+        final Callable<VoxelColumnData> decode;
+        final AtomicBoolean claimed = new AtomicBoolean();
+        // Null = decode inline when the drain reaches it (no pool, or the pool refused).
+        Future<VoxelColumnData> decoded;
+
+        InFlight(QueuedColumn queued, Callable<VoxelColumnData> decode) {
+            this.queued = queued;
+            this.decode = decode;
+        }
+
+        boolean claim() {
+            return this.claimed.compareAndSet(false, true);
+        }
+
+        VoxelColumnData await() throws Exception {
+            if (this.decoded == null) return this.decode.call();
+            try {
+                return this.decoded.get();
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception ex ? ex : asThrown(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw e;
+            }
+        }
+
+        // Errors keep their type across the worker boundary (the drain's containment
+        // reports, then rethrows true Errors).
+        private static Exception asThrown(Throwable cause) {
+            if (cause instanceof Error err) throw err;
+            return new IllegalStateException(cause);
+        }
+    }
+
     private final ConcurrentLinkedQueue<QueuedColumn> columnQueue = new ConcurrentLinkedQueue<>();
     private final AtomicInteger queueSize = new AtomicInteger();
     private final AtomicLong queuedBytes = new AtomicLong();
@@ -96,14 +151,47 @@ class ClientColumnProcessor {
     private final AtomicBoolean processing = new AtomicBoolean();
     private volatile int sessionEpoch;
 
+    // Decode workers (columnDecodeThreads; null = decode inline on the drain thread). The
+    // drain thread stays the ONLY dispatcher: it polls up to decodeWindow columns ahead,
+    // hands their decode (decompress, v20 translation, section construction) to the pool,
+    // and dispatches strictly in poll order — consumers still see arrival order, so a newer
+    // column for a position can never overtake an older one. Core threads time out: the
+    // processor lives as long as the client, and a session without LOD traffic keeps none.
+    private final ThreadPoolExecutor decodePool;
+    private final int decodeWindow;
+    // Every polled-but-undispatched column, for the teardown sweeps (reportUndispatched,
+    // reportAndClearBacklog, shutdown): a window column is as undelivered as a queued one.
+    private final ConcurrentLinkedQueue<InFlight> inFlight = new ConcurrentLinkedQueue<>();
+
     ClientColumnProcessor() {
-        this(LSSClientNetworking::reportIngestFailure, ClientColumnProcessor::liveClientLevel);
+        this(LSSClientNetworking::reportIngestFailure, ClientColumnProcessor::liveClientLevel,
+                LSSClientConfig.CONFIG.effectiveColumnDecodeThreads());
     }
 
-    /** Seam constructor for tests; the no-arg constructor is the production wiring. */
+    /** Seam constructor for tests, decoding inline on the drain thread; the no-arg
+     *  constructor is the production wiring. Pooled tests pass a thread count. */
     ClientColumnProcessor(FailureReporter failureReporter, Supplier<ClientLevel> levelSupplier) {
+        this(failureReporter, levelSupplier, 1);
+    }
+
+    ClientColumnProcessor(FailureReporter failureReporter, Supplier<ClientLevel> levelSupplier,
+                          int decodeThreads) {
         this.failureReporter = failureReporter;
         this.levelSupplier = levelSupplier;
+        this.decodePool = decodeThreads > 1 ? newDecodePool(decodeThreads) : null;
+        this.decodeWindow = decodeThreads > 1 ? decodeThreads * DECODE_WINDOW_PER_THREAD : 1;
+    }
+
+    private static ThreadPoolExecutor newDecodePool(int threads) {
+        var index = new AtomicInteger();
+        var pool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    var t = new Thread(r, Brand.shortName() + "-ColumnDecode-" + index.getAndIncrement());
+                    t.setDaemon(true);
+                    return t;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
     }
 
     private static ClientLevel liveClientLevel() {
@@ -192,12 +280,25 @@ class ClientColumnProcessor {
     private void reportAndClearBacklog() {
         QueuedColumn queued;
         while ((queued = this.columnQueue.poll()) != null) {
-            this.queueSize.decrementAndGet();
-            this.queuedBytes.addAndGet(-queued.charge());
+            release(queued);
             var payload = queued.payload();
             this.failureReporter.report(payload.dimension(),
                     payload.chunkX(), payload.chunkZ());
         }
+        InFlight polled;
+        while ((polled = this.inFlight.poll()) != null) {
+            if (!polled.claim()) continue;
+            release(polled.queued);
+            var payload = polled.queued.payload();
+            this.failureReporter.report(payload.dimension(),
+                    payload.chunkX(), payload.chunkZ());
+        }
+    }
+
+    /** Return a consumed column's share of the queue gauges. */
+    private void release(QueuedColumn queued) {
+        this.queueSize.decrementAndGet();
+        this.queuedBytes.addAndGet(-queued.charge());
     }
 
     private void drainColumnQueue(ClientLevel level, int epoch) {
@@ -268,7 +369,9 @@ class ClientColumnProcessor {
      * is consumed silently (its stamp lives in the other dimension's map — a report here
      * would unstamp the wrong position); empty/absent bytes and any decode throw report
      * exactly once and the drain continues; the loop re-checks the session epoch at every
-     * poll, so a teardown mid-drain lets at most the already-polled column dispatch.
+     * poll, and a teardown's sweep claims every window column not yet dispatched, so a
+     * teardown mid-drain lets at most the column already being dispatched through.
+     * Dispatch order is poll order, whatever order the decode workers finish in.
      */
     /** Test-seam overload: drives the drain over NATIVE-layout fixture bodies (no v20
      *  translation) — the drain-mechanics suites predate protocol 20 and pin epoch/
@@ -286,118 +389,192 @@ class ClientColumnProcessor {
                           PalettedContainerFactory factory,
                           java.util.function.UnaryOperator<byte[]> v20ToNative,
                           ColumnDispatcher dispatcher, int epoch) {
-        QueuedColumn queued;
-        while (epoch == this.sessionEpoch && (queued = this.columnQueue.poll()) != null) {
-            this.queueSize.decrementAndGet();
-            this.queuedBytes.addAndGet(-queued.charge());
-            var payload = queued.payload();
-            if (!levelDimension.equals(payload.dimension())) continue;
-
-            byte[] shipped = payload.shippedSections();
-            if (shipped == null || shipped.length == 0) {
-                // Defensive (a compliant server always writes at least the section-count
-                // varint) — but the position was stamped received at arrival, so a silent
-                // drop here would be a permanent false stamp.
-                this.failureReporter.report(payload.dimension(),
-                        payload.chunkX(), payload.chunkZ());
-                continue;
-            }
-
-            try {
-                // Codec dispatch (protocol 19): codec 0 decodes the shipped bytes as-is;
-                // codec 1 decompresses first, inside this try — a bomb-guard rejection or
-                // any zstd throw reports through the same ingest-failure path as a decode
-                // throw (the server re-serves). Codec values outside {0,1} are decode
-                // failures too — NOT the source tag's pass-through rule; the byte changes
-                // how these bytes must be read (plan §0.7).
-                byte[] decompressed = decompressForDecode(payload.codec(), shipped);
-                // Protocol 20: translate the identity-dictionary body to THIS client's
-                // native layout (identities resolved through the §3 fallback ladder),
-                // then feed the existing native decode unchanged (§2.3). Gated per
-                // payload on the decode-time dialect stamp — a native body (v16/19
-                // session at the moment this frame decoded) skips translation even if
-                // the ladder has since re-established a different dialect.
-                byte[] nativeBytes = payload.nativeBodyAtDecode()
-                        ? decompressed : v20ToNative.apply(decompressed);
-                var sections = decodeSections(nativeBytes, levelSectionCount, factory);
-                if (ClientTraceLog.enabled()) {
-                    // Per-section light presence — the boundary-lighting instrument (black
-                    // leaf-face investigation 2026-07-27): [sectionY, hasBlockLight,
-                    // hasSkyLight, hasOnlyAir] per decoded section. Absent Ys are absent.
-                    var sb = new StringBuilder(64 + sections.length * 14);
-                    sb.append("\"pos\":[").append(payload.chunkX()).append(',')
-                            .append(payload.chunkZ()).append("],\"sections\":[");
-                    for (int i = 0; i < sections.length; i++) {
-                        var s = sections[i];
-                        if (i > 0) sb.append(',');
-                        sb.append('[').append(s.sectionY())
-                                .append(',').append(s.blockLight() != null ? 1 : 0)
-                                .append(',').append(s.skyLight() != null ? 1 : 0)
-                                .append(',').append(s.section().hasOnlyAir() ? 1 : 0).append(']');
+        var window = new ArrayDeque<InFlight>(this.decodeWindow);
+        try {
+            while (true) {
+                // Refill BEFORE waiting on the head, so the workers decode the next columns
+                // while this thread dispatches. Without a pool the window is one column and
+                // the loop is the old poll-decode-dispatch sequence exactly.
+                QueuedColumn queued;
+                while (window.size() < this.decodeWindow && epoch == this.sessionEpoch
+                        && (queued = this.columnQueue.poll()) != null) {
+                    var payload = queued.payload();
+                    if (!levelDimension.equals(payload.dimension())) {
+                        release(queued);
+                        continue;
                     }
-                    sb.append(']');
-                    ClientTraceLog.event("col_light", sb.toString());
-                }
-                if (hasSkyLight) {
-                    // Implicit-sky fill (2026-07-27, black-boundary-faces fix): vanilla
-                    // stores sky layers only up to heightmap+1 — everything above is
-                    // IMPLICITLY full-bright, a rule the vanilla client resolves in its
-                    // light engine but a per-section wire cannot carry. Without this, a
-                    // consumer sampling the never-served air above/beside terrain (leaf
-                    // tops, cliff sides across a chunk border against a lower column)
-                    // reads light 0 and shades those faces black. Mirror vanilla's rule
-                    // client-side: every absent section ABOVE the column's top served
-                    // section becomes explicit all-air with full-bright sky.
-                    // MUST run BEFORE the resync air-fill: this pass derives the column's
-                    // top from the SERVED sections, and after an air-fill every section-Y
-                    // is present so it finds nothing above the top. The shipped v0.8.0
-                    // order ran it second, which silently disabled it on every resync
-                    // delivery — re-served columns went dark above the terrain (M1 of the
-                    // 2026-07-28 review round).
-                    sections = withImplicitSkyAbove(sections, levelSectionCount, minSectionY, factory);
+                    byte[] shipped = payload.shippedSections();
+                    if (shipped == null || shipped.length == 0) {
+                        // Defensive (a compliant server always writes at least the
+                        // section-count varint) — but the position was stamped received at
+                        // arrival, so a silent drop here would be a permanent false stamp.
+                        release(queued);
+                        this.failureReporter.report(payload.dimension(),
+                                payload.chunkX(), payload.chunkZ());
+                        continue;
+                    }
+                    var column = queued;
+                    var polled = new InFlight(column, () -> decodeColumn(column, levelSectionCount,
+                            minSectionY, hasSkyLight, factory, v20ToNative));
+                    this.inFlight.add(polled);
+                    if (this.decodePool != null) {
+                        try {
+                            polled.decoded = this.decodePool.submit(polled.decode);
+                        } catch (RejectedExecutionException e) {
+                            // decoded stays null: the drain decodes it inline
+                        }
+                    }
+                    window.add(polled);
                 }
-                if (queued.resync()) {
-                    // The client already held data here; the server sends the current column
-                    // (which OMITS air sections) authoritatively. Fill every absent section-Y
-                    // with an all-air section so the consumer overwrites terrain the server
-                    // cleared (WorldEdit clears, fully-emptied 0-section columns). Only on
-                    // resync — a first serve had nothing, so absent == air == no-op. Runs
-                    // AFTER the sky fill, so the Ys still absent here are below/among the
-                    // served band, where unserved air is dark (correct for normal terrain;
-                    // the serializer's band rule already approximates floating-island
-                    // below-band sky air away, unchanged by this ordering).
-                    // The ONE exception: a 0-section CLEAR in a sky dimension fills BRIGHT —
-                    // vanilla sky light in an all-air column is 15 top to bottom (vertical
-                    // propagation is undiminished), so a dark fill turned a WorldEdit-cleared
-                    // column into a light-0 volume that shaded every neighbouring face black.
-                    boolean brightClear = hasSkyLight && sections.length == 0;
-                    sections = withAirFilledAbsentSections(sections, levelSectionCount, minSectionY,
-                            factory, brightClear);
+                InFlight head = window.poll();
+                if (head == null) return;
+                VoxelColumnData columnData = null;
+                Throwable failure = null;
+                try {
+                    columnData = head.await();
+                } catch (Throwable t) {
+                    failure = t;
                 }
-                var columnData = new VoxelColumnData(sections, payload.columnTimestamp());
-                dispatcher.dispatch(payload.dimension(),
-                        payload.chunkX(), payload.chunkZ(), columnData);
-            } catch (Throwable t) {
-                // Throwable, not Exception: an OOME allocating section buffers (or a
-                // LinkageError from MC internals) escaping here would consume the column —
-                // polled and decremented — with no dispatch AND no report, leaving a
-                // permanent false received-stamp that persists to the cache (the exact hole
-                // class the delivery-honesty refactor eliminated; LSSApi.dispatchColumn one
-                // frame downstream already treats Throwable this way). Report FIRST so the
-                // stamp is forgotten, then let true Errors propagate.
-                long n = PROCESS_FAIL_WARN.recordAndTryAcquire(System.nanoTime() / 1_000_000);
-                if (n > 0) {
-                    LSSLogger.error("Failed to process voxel column at "
-                            + payload.chunkX() + "," + payload.chunkZ() + " (" + n
-                            + " failure(s) since the last report)", t);
+                this.inFlight.remove(head);
+                // A teardown sweep that claimed it first already reported (or discarded) it.
+                if (!head.claim()) continue;
+                release(head.queued);
+                var payload = head.queued.payload();
+                try {
+                    if (failure != null) throw failure;
+                    dispatcher.dispatch(payload.dimension(),
+                            payload.chunkX(), payload.chunkZ(), columnData);
+                } catch (Throwable t) {
+                    // Throwable, not Exception: an OOME allocating section buffers (or a
+                    // LinkageError from MC internals) escaping here would consume the column —
+                    // polled and decremented — with no dispatch AND no report, leaving a
+                    // permanent false received-stamp that persists to the cache (the exact hole
+                    // class the delivery-honesty refactor eliminated; LSSApi.dispatchColumn one
+                    // frame downstream already treats Throwable this way). Report FIRST so the
+                    // stamp is forgotten, then let true Errors propagate. A decode worker's
+                    // throw arrives here too, in poll order.
+                    long n = PROCESS_FAIL_WARN.recordAndTryAcquire(System.nanoTime() / 1_000_000);
+                    if (n > 0) {
+                        LSSLogger.error("Failed to process voxel column at "
+                                + payload.chunkX() + "," + payload.chunkZ() + " (" + n
+                                + " failure(s) since the last report)", t);
+                    }
+                    this.failureReporter.report(payload.dimension(),
+                            payload.chunkX(), payload.chunkZ());
+                    if (t instanceof Error err && !(t instanceof AssertionError)) throw err;
                 }
+            }
+        } finally {
+            // An Error rethrown above leaves polled columns in the window that will never
+            // dispatch: report them like any other undelivered column.
+            for (InFlight polled : window) {
+                this.inFlight.remove(polled);
+                if (!polled.claim()) continue;
+                release(polled.queued);
+                var payload = polled.queued.payload();
                 this.failureReporter.report(payload.dimension(),
                         payload.chunkX(), payload.chunkZ());
-                if (t instanceof Error err && !(t instanceof AssertionError)) throw err;
             }
         }
     }
 
+    /**
+     * Decode one column into the data consumers receive: codec, identity translation,
+     * sections, and the sky/air fills. Runs on a decode worker (or inline on the drain
+     * thread); touches nothing shared but the thread-safe identity resolver and trace log.
+     * Any throw is the column's ingest failure, reported by the drain in order.
+     */
+    private static VoxelColumnData decodeColumn(QueuedColumn queued, int levelSectionCount,
+                                                int minSectionY, boolean hasSkyLight,
+                                                PalettedContainerFactory factory,
+                                                java.util.function.UnaryOperator<byte[]> v20ToNative) {
+        var payload = queued.payload();
+        byte[] shipped = payload.shippedSections();
+        // Codec dispatch (protocol 19): codec 0 decodes the shipped bytes as-is;
+        // codec 1 decompresses first, here — a bomb-guard rejection or any zstd
+        // throw reports through the same ingest-failure path as a decode throw
+        // (the server re-serves). Codec values outside {0,1} are decode
+        // failures too — NOT the source tag's pass-through rule; the byte changes
+        // how these bytes must be read (plan §0.7).
+        // A pack member's body is its slice of the shared pack frame, decompressed once
+        // by whichever member reaches a worker first (same guards, same failure path).
+        byte[] decompressed = payload.packFrame() != null
+                ? payload.packFrame().member(payload.packIndex())
+                : decompressForDecode(payload.codec(), shipped);
+        // Protocol 20: translate the identity-dictionary body to THIS client's
+        // native layout (identities resolved through the §3 fallback ladder),
+        // then feed the existing native decode unchanged (§2.3). Gated per
+        // payload on the decode-time dialect stamp — a native body (v16/19
+        // session at the moment this frame decoded) skips translation even if
+        // the ladder has since re-established a different dialect.
+        byte[] nativeBytes = payload.nativeBodyAtDecode()
+                ? decompressed : v20ToNative.apply(decompressed);
+        var sections = decodeSections(nativeBytes, levelSectionCount, factory);
+        if (ClientTraceLog.enabled()) {
+            // Per-section light presence — the boundary-lighting instrument (black
+            // leaf-face investigation 2026-07-27): [sectionY, hasBlockLight,
+            // hasSkyLight, hasOnlyAir] per decoded section. Absent Ys are absent.
+            var sb = new StringBuilder(64 + sections.length * 14);
+            sb.append("\"pos\":[").append(payload.chunkX()).append(',')
+                    .append(payload.chunkZ()).append("],\"sections\":[");
+            for (int i = 0; i < sections.length; i++) {
+                var s = sections[i];
+                if (i > 0) sb.append(',');
+                sb.append('[').append(s.sectionY())
+                        .append(',').append(s.blockLight() != null ? 1 : 0)
+                        .append(',').append(s.skyLight() != null ? 1 : 0)
+                        .append(',').append(s.section().hasOnlyAir() ? 1 : 0).append(']');
+            }
+            sb.append(']');
+            ClientTraceLog.event("col_light", sb.toString());
+        }
+        if (payload.isDelta()) {
+            // Section delta: the held copy keeps every Y the map marks, the
+            // shipped sections overwrite theirs, and the rest of the span (held,
+            // now all-air on the server) air-fills dark. No implicit-sky pass —
+            // the server only builds a delta when the top section is unchanged,
+            // so the base serve's bright fill above it is still exact.
+            sections = withDeltaAirFill(sections, payload.keep(), levelSectionCount,
+                    minSectionY, factory);
+        } else if (hasSkyLight) {
+            // Implicit-sky fill (2026-07-27, black-boundary-faces fix): vanilla
+            // stores sky layers only up to heightmap+1 — everything above is
+            // IMPLICITLY full-bright, a rule the vanilla client resolves in its
+            // light engine but a per-section wire cannot carry. Without this, a
+            // consumer sampling the never-served air above/beside terrain (leaf
+            // tops, cliff sides across a chunk border against a lower column)
+            // reads light 0 and shades those faces black. Mirror vanilla's rule
+            // client-side: every absent section ABOVE the column's top served
+            // section becomes explicit all-air with full-bright sky.
+            // MUST run BEFORE the resync air-fill: this pass derives the column's
+            // top from the SERVED sections, and after an air-fill every section-Y
+            // is present so it finds nothing above the top. The shipped v0.8.0
+            // order ran it second, which silently disabled it on every resync
+            // delivery — re-served columns went dark above the terrain (M1 of the
+            // 2026-07-28 review round).
+            sections = withImplicitSkyAbove(sections, levelSectionCount, minSectionY, factory);
+        }
+        if (queued.resync() && !payload.isDelta()) {
+            // The client already held data here; the server sends the current column
+            // (which OMITS air sections) authoritatively. Fill every absent section-Y
+            // with an all-air section so the consumer overwrites terrain the server
+            // cleared (WorldEdit clears, fully-emptied 0-section columns). Only on
+            // resync — a first serve had nothing, so absent == air == no-op. Runs
+            // AFTER the sky fill, so the Ys still absent here are below/among the
+            // served band, where unserved air is dark (correct for normal terrain;
+            // the serializer's band rule already approximates floating-island
+            // below-band sky air away, unchanged by this ordering).
+            // The ONE exception: a 0-section CLEAR in a sky dimension fills BRIGHT —
+            // vanilla sky light in an all-air column is 15 top to bottom (vertical
+            // propagation is undiminished), so a dark fill turned a WorldEdit-cleared
+            // column into a light-0 volume that shaded every neighbouring face black.
+            boolean brightClear = hasSkyLight && sections.length == 0;
+            sections = withAirFilledAbsentSections(sections, levelSectionCount, minSectionY,
+                    factory, brightClear);
+        }
+        return new VoxelColumnData(sections, payload.columnTimestamp());
+    }
+
     /**
      * Append an all-air {@link VoxelColumnData.SectionData} for every section-Y in
      * {@code [minSectionY, minSectionY + levelSectionCount)} that the decoded column does not
@@ -468,9 +645,35 @@ class ClientColumnProcessor {
         return out.toArray(new VoxelColumnData.SectionData[0]);
     }
 
+    /**
+     * The section-delta fill: an all-air section (dark — below the unchanged top) for
+     * every Y inside the keep span, within the client level, that the delta neither keeps
+     * nor ships. Ys outside the span were absent from both the base and the current
+     * column, so the consumer's held copy is already air there.
+     */
+    static VoxelColumnData.SectionData[] withDeltaAirFill(
+            VoxelColumnData.SectionData[] shipped, SectionDelta.Keep keep,
+            int levelSectionCount, int minSectionY, PalettedContainerFactory factory) {
+        var seen = new java.util.HashSet<Integer>(shipped.length * 2);
+        for (var s : shipped) seen.add(s.sectionY());
+
+        var out = new java.util.ArrayList<VoxelColumnData.SectionData>(shipped.length);
+        java.util.Collections.addAll(out, shipped);
+        int from = Math.max(keep.minSectionY(), minSectionY);
+        int to = Math.min(keep.minSectionY() + keep.span(), minSectionY + levelSectionCount);
+        for (int y = from; y < to; y++) {
+            if (!keep.kept(y) && !seen.contains(y)) {
+                out.add(new VoxelColumnData.SectionData(y,
+                        dev.vox.lss.platform.SectionConstruction.empty(factory), null, null));
+            }
+        }
+        return out.toArray(new VoxelColumnData.SectionData[0]);
+    }
+
     /**
      * Resolve the shipped bytes to raw section bytes for decode. Codec 0 returns them
-     * as-is. Codec 1 runs the decompression-bomb guard FIRST — the frame's declared
+     * as-is. Codecs 1 and 2 (the latter against the shared column dictionary) run the
+     * decompression-bomb guard FIRST — the frame's declared
      * content size must be in {@code (0, MAX_SECTIONS_SIZE]} before any allocation —
      * then an exact-size zstd decompress whose output length must match the declaration
      * (the store's own integrity discipline). Anything else — unknown codec, undeclared
@@ -479,7 +682,8 @@ class ClientColumnProcessor {
      */
     private static byte[] decompressForDecode(byte codec, byte[] shipped) {
         if (codec == dev.vox.lss.common.LSSConstants.COLUMN_CODEC_RAW) return shipped;
-        if (codec != dev.vox.lss.common.LSSConstants.COLUMN_CODEC_ZSTD) {
+        boolean dictionary = codec == dev.vox.lss.common.LSSConstants.COLUMN_CODEC_ZSTD_DICT;
+        if (codec != dev.vox.lss.common.LSSConstants.COLUMN_CODEC_ZSTD && !dictionary) {
             throw new IllegalStateException("unknown column codec " + codec);
         }
         long declared = dev.vox.lss.networking.payloads.ZstdWireSupport
@@ -489,8 +693,11 @@ class ClientColumnProcessor {
                     + " bytes (bomb guard: allowed 1.."
                     + dev.vox.lss.common.LSSConstants.MAX_SECTIONS_SIZE + ")");
         }
-        byte[] raw = dev.vox.lss.networking.payloads.ZstdWireSupport
-                .decompress(shipped, (int) declared);
+        byte[] raw = dictionary
+                ? dev.vox.lss.networking.payloads.ZstdWireSupport
+                        .decompressWithDictionary(shipped, (int) declared)
+                : dev.vox.lss.networking.payloads.ZstdWireSupport
+                        .decompress(shipped, (int) declared);
         if (raw.length != declared) {
             throw new IllegalStateException("column frame decompressed to " + raw.length
                     + " bytes, declared " + declared);
@@ -572,12 +779,20 @@ class ClientColumnProcessor {
         this.sessionEpoch++;
         QueuedColumn queued;
         while ((queued = this.columnQueue.poll()) != null) {
-            this.queueSize.decrementAndGet();
-            this.queuedBytes.addAndGet(-queued.charge());
+            release(queued);
             var payload = queued.payload();
             manager.onIngestFailure(payload.dimension(),
                     PositionUtil.packPosition(payload.chunkX(), payload.chunkZ()));
         }
+        // Columns already in the drain's decode window are just as undelivered.
+        InFlight polled;
+        while ((polled = this.inFlight.poll()) != null) {
+            if (!polled.claim()) continue;
+            release(polled.queued);
+            var payload = polled.queued.payload();
+            manager.onIngestFailure(payload.dimension(),
+                    PositionUtil.packPosition(payload.chunkX(), payload.chunkZ()));
+        }
     }
 
     /**
@@ -624,8 +839,11 @@ class ClientColumnProcessor {
         // the counter self-consistent no matter which thread removes each item.
         QueuedColumn drained;
         while ((drained = this.columnQueue.poll()) != null) {
-            this.queueSize.decrementAndGet();
-            this.queuedBytes.addAndGet(-drained.charge());
+            release(drained);
+        }
+        InFlight polled;
+        while ((polled = this.inFlight.poll()) != null) {
+            if (polled.claim()) release(polled.queued);
         }
     }
 
@@ -36,6 +36,8 @@ public final class ClientNetGlue {
     // one line/min — a persistent condition must not flood the client log.
     private static final dev.vox.lss.common.LogThrottle UNKNOWN_TYPE_WARN =
             new dev.vox.lss.common.LogThrottle(60_000);
+    private static final dev.vox.lss.common.LogThrottle PACK_DROP_WARN =
+            new dev.vox.lss.common.LogThrottle(60_000);
     private static final ClientColumnProcessor columnProcessor = new ClientColumnProcessor();
 
     // Session state and the JOIN / SessionConfig / DISCONNECT ladders live in the gate
@@ -47,7 +49,12 @@ public final class ClientNetGlue {
                 LoaderServices.get().sendToServer(new HandshakeC2SPayload(
                         version, LSSConstants.CAPABILITY_VOXEL_COLUMNS
                                 | ZstdWireSupport.capabilityBit()
-                                | FarPlayerClientSupport.capabilityBit()));
+                                | FarPlayerClientSupport.capabilityBit()
+                                | LSSConstants.CAPABILITY_SECTION_DELTAS
+                                | (ZstdWireSupport.available()
+                                        ? LSSConstants.CAPABILITY_PACKED_COLUMNS : 0)
+                                | LSSConstants.CAPABILITY_COMPACT_WANT_SETS
+                                | RawColumnFraming.capabilityBit()));
                 FarPlayerClientSupport.onHandshakeSent();
                 sendClientInfoSidecar();
             },
@@ -158,7 +165,12 @@ public final class ClientNetGlue {
                 LoaderServices.get().sendToServer(new HandshakeC2SPayload(
                         LSSConstants.PROTOCOL_VERSION, LSSConstants.CAPABILITY_VOXEL_COLUMNS
                                 | ZstdWireSupport.capabilityBit()
-                                | FarPlayerClientSupport.capabilityBit()));
+                                | FarPlayerClientSupport.capabilityBit()
+                                | LSSConstants.CAPABILITY_SECTION_DELTAS
+                                | (ZstdWireSupport.available()
+                                        ? LSSConstants.CAPABILITY_PACKED_COLUMNS : 0)
+                                | LSSConstants.CAPABILITY_COMPACT_WANT_SETS
+                                | RawColumnFraming.capabilityBit()));
                 FarPlayerClientSupport.onHandshakeSent();
                 sendClientInfoSidecar();
             } catch (Exception e) {
@@ -280,6 +292,31 @@ public final class ClientNetGlue {
                 handleVoxelColumn(sessionGate.getRequestManager(), columnProcessor, payload));
     }
 
+    /** Packed-columns receiver body: a malformed header drops the whole pack (throttled
+     *  warn — each member's position re-asks on its own timeout, like any lost frame);
+     *  otherwise every member runs the VoxelColumn body above, in pack order. */
+    public static void onColumnPackFrame(byte[] body) {
+        dev.vox.lss.common.wire.ColumnPackWire.Pack pack;
+        ResourceKey<Level> dimension;
+        try {
+            pack = dev.vox.lss.common.wire.ColumnPackWire.decode(body);
+            dimension = ResourceKey.create(net.minecraft.core.registries.Registries.DIMENSION,
+                    net.minecraft.resources.Identifier.parse(pack.dimension()));
+        } catch (RuntimeException e) {
+            long n = PACK_DROP_WARN.recordAndTryAcquire(System.nanoTime() / 1_000_000);
+            if (n > 0) {
+                LSSLogger.warn("Dropping malformed packed-columns frame: " + e.getMessage()
+                        + " (" + n + " dropped since the last report)");
+            }
+            return;
+        }
+        var frame = new dev.vox.lss.networking.payloads.ColumnPackFrame(pack);
+        var members = pack.members();
+        for (int i = 0; i < members.length; i++) {
+            onVoxelColumnFrame(VoxelColumnS2CPayload.packMember(dimension, members[i], frame, i));
+        }
+    }
+
     /**
      * VoxelColumn receive glue (main client thread). Ordering is load-bearing: "did the
      * client already hold data here" must be captured BEFORE {@code onColumnReceived}
@@ -294,6 +331,22 @@ public final class ClientNetGlue {
     public static void handleVoxelColumn(LodRequestManager manager, ClientColumnProcessor processor,
                                          VoxelColumnS2CPayload payload) {
         long packed = PositionUtil.packPosition(payload.chunkX(), payload.chunkZ());
+        if (payload.isDelta()) {
+            // A section delta applies only over the exact copy it was built against. A
+            // malformed keep map, or a held copy that is not the base (a newer serve landed
+            // first, a tier body, a forgotten stamp), fails into a ts=-1 re-ask — whole.
+            if (manager == null || payload.keep() == null
+                    || !manager.holdsDeltaBase(packed, payload.deltaBase())) {
+                if (manager != null) manager.onIngestFailure(payload.dimension(), packed);
+                return;
+            }
+            if (!manager.onColumnReceived(packed, payload.columnTimestamp(),
+                    payload.dimension(), false, payload.source(), 0)) {
+                return;
+            }
+            processor.offer(payload, true);
+            return;
+        }
         boolean resync = manager != null && manager.heldContentBefore(packed);
         // Codec-gated (plan §0.8): only raw bytes can be varint-peeked here. A compliant
         // server always ships clears raw (1-byte body, far below the compress threshold);
@@ -302,7 +355,7 @@ public final class ClientNetGlue {
         boolean clear = payload.codec() == LSSConstants.COLUMN_CODEC_RAW
                 && ClientColumnProcessor.isClearColumn(payload.shippedSections());
         if (manager != null && !manager.onColumnReceived(packed, payload.columnTimestamp(),
-                payload.dimension(), clear, payload.source())) {
+                payload.dimension(), clear, payload.source(), payload.tier())) {
             // Out-of-range unsolicited drop: the state map refused the stamp, and the
             // consumers must not ingest it either — a hostile/buggy server could otherwise
             // grow the LOD store without bound while /lss diag shows nothing tracked.
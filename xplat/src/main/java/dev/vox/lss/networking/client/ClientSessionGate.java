@@ -441,7 +441,9 @@ final class ClientSessionGate {
                 p.protocolVersion(),
                 p.enabled(),
                 Math.clamp(p.lodDistanceChunks(), LSSConstants.MIN_LOD_DISTANCE, LSSConstants.MAX_LOD_DISTANCE),
-                p.generationEnabled());
+                p.generationEnabled(),
+                p.serverDataVersion(),
+                p.serverCapabilities());
     }
 
     /**
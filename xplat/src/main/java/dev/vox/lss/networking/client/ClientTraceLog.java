@@ -21,7 +21,7 @@ import java.time.format.DateTimeFormatter;
  * costs one volatile read per hook — every formatting happens behind the gate.
  *
  * <p><b>Threading:</b> mostly the main client thread, but NOT exclusively —
- * {@code col_light} is emitted from {@code ClientColumnProcessor}'s drain thread. The
+ * {@code col_light} is emitted from {@code ClientColumnProcessor}'s decode workers. The
  * {@code synchronized} on {@link #event}/{@link #toggle}/{@link #stop} and the
  * {@code volatile} on {@code enabled} are therefore load-bearing, not defensive; this
  * javadoc used to claim main-thread-only, which invited exactly the "single-threaded
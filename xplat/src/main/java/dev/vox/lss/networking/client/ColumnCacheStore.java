@@ -4,22 +4,26 @@ import dev.vox.lss.common.Brand;
 import dev.vox.lss.common.LSSLogger;
 import dev.vox.lss.common.PositionUtil;
 import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
-import it.unimi.dsi.fastutil.longs.LongArrays;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.world.level.Level;
 
 import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.DataInputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
-import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -29,18 +33,51 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Per-server, per-dimension persisted column timestamps, TILED in the shape of
+ * {@link ColumnStateMap}'s leaves (v5). A dimension is a directory of tile files
+ * {@code t.<tx>.<tz>.bin}, each covering 16×16 leaves (128×128 chunks): a 16-byte header
+ * (magic, version, tx, tz) and then 256 fixed leaf slots of 64 raw stamps in the leaf's own
+ * bit order, -1 = absent. Fixed slots make every write positional — a save reads the tiles
+ * it touches, applies removals then the overlay, and rewrites only the leaf slots whose
+ * bytes changed — and every load selective: the request manager loads the tiles around
+ * the player and pulls more in as it moves, instead of the whole history up front.
+ *
+ * <p>The v4 layout was one flat {@code <dim>.bin} per dimension, loaded and rewritten
+ * whole by every save (up to 2M entries on the IO thread at each dimension change, with
+ * farthest-first eviction to stay under the loader's cap). A v4 file is migrated into
+ * tiles the first time its dimension is touched, then deleted.
+ *
+ * <p>Plain positional {@link FileChannel} IO, not memory mapping: a mapped tile cannot be
+ * deleted on Windows until the GC unmaps it, which would break the synchronous
+ * {@code /lss clearcache} contract — and each tile is read once per load anyway.
+ */
 public class ColumnCacheStore {
     private static final Pattern SANITIZE_PATTERN = Pattern.compile("[^a-zA-Z0-9._-]");
-    static final int FORMAT_VERSION = 4; // package-visible: corruption tests write real headers
-    private static final int MAX_CACHE_ENTRIES = 2_000_000;
-    // Merge-save eviction threshold. Defaults to the load cap (the loader discards oversized
-    // files WHOLESALE, so a merged file must never exceed it); package-visible so tests can
-    // exercise eviction without writing 2M entries. The load-side validity guard stays on the
-    // constant — a crafted file must not get a bigger allowance from a test override.
-    static volatile int mergeEvictionCap = MAX_CACHE_ENTRIES;
-    // Test observability: save() attempts (the coalesced-removal pin counts rewrites).
+    private static final Pattern TILE_FILE_PATTERN = Pattern.compile("t\\.(-?\\d+)\\.(-?\\d+)\\.bin");
+    static final int FORMAT_VERSION = 5; // tiled
+    static final int LEGACY_FORMAT_VERSION = 4; // package-visible: corruption tests write real v4 headers
+    // v4 load guard — kept for migration only: a crafted flat file must not force a huge read.
+    private static final int LEGACY_MAX_ENTRIES = 2_000_000;
+    static final int TILE_MAGIC = 0x4C535354; // "LSST"
+    /** log2 of the tile edge in leaves (16); a leaf is 8 chunks, so a tile is 128 chunks. */
+    static final int TILE_LEAF_SHIFT = 4;
+    static final int TILE_CHUNK_SHIFT = TILE_LEAF_SHIFT + 3;
+    private static final int TILE_LEAF_MASK = (1 << TILE_LEAF_SHIFT) - 1;
+    private static final int TILE_LEAVES = 1 << (2 * TILE_LEAF_SHIFT);
+    private static final int TILE_STAMPS = TILE_LEAVES * 64;
+    private static final int TILE_HEADER_BYTES = 16;
+    private static final int LEAF_BYTES = 64 * Long.BYTES;
+    static final int TILE_FILE_BYTES = TILE_HEADER_BYTES + TILE_LEAVES * LEAF_BYTES;
+    // Tile-file ceiling per dimension, replacing the v4 2M-entry cap: 1024 tiles is ~134 MB
+    // of disk and ~16.7M positions (8× the old ceiling). Past it, merge-save deletes the
+    // tiles farthest from the save-time player position. Package-visible so tests can
+    // exercise eviction without writing a thousand tiles.
+    static volatile int maxTileFiles = 1024;
+    // Test observability: write passes that changed at least one tile (the coalesced-removal
+    // pin counts rewrites).
     static final AtomicInteger SAVE_WRITES_FOR_TEST = new AtomicInteger();
-    /** save()/load() stream buffer — see the buffering note in save(). */
+    /** Legacy v4 stream buffer (migration reads only). */
     private static final int IO_BUFFER_BYTES = 1 << 16;
     /**
      * Cache root, resolved LAZILY through {@link #resolveCacheRoot} (v0.11.0 stage D —
@@ -90,49 +127,30 @@ public class ColumnCacheStore {
     static Path cacheRoot() {
         return cacheDir();
     }
-    // Daemon thread — saves use atomic rename so JVM shutdown mid-write won't corrupt,
-    // but the save may be lost. Acceptable for a rebuildable client cache.
+    // Daemon thread — a shutdown mid-write can tear at most the leaf slots of the tile being
+    // written (each slot is independent; the loader reads whatever stamps are there, and an
+    // older stamp only costs a revalidation). Acceptable for a rebuildable client cache.
     private static final ExecutorService IO_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
         Thread t = new Thread(r, Brand.shortName() + "-CacheIO");
         t.setDaemon(true);
         return t;
     });
 
+    /** Every tile of the dimension as one flat map — the test/compat whole-history read.
+     *  Production loads are tile-selective ({@link #loadStateAsync}). */
     public static Long2LongOpenHashMap load(String serverAddress, ResourceKey<Level> dimension) {
         var map = new Long2LongOpenHashMap();
         map.defaultReturnValue(-1L);
-        var file = getCacheFile(serverAddress, dimension);
-        if (!Files.exists(file)) return map;
-
-        try (var in = new DataInputStream(new BufferedInputStream(
-                Files.newInputStream(file), IO_BUFFER_BYTES))) {
-            int version = in.readInt();
-            if (version != FORMAT_VERSION) {
-                // Pre-v4 caches may hold fabricated client-clock stamps that are
-                // indistinguishable from real server timestamps, so they are discarded rather
-                // than migrated (the cache is rebuildable; one cold resync after upgrade).
-                LSSLogger.info("Column cache " + file + " is v" + version + " (< v" + FORMAT_VERSION
-                        + "); discarding — timestamps rebuild on resync");
-                return map;
-            }
-            int count = in.readInt();
-            if (count < 0 || count > MAX_CACHE_ENTRIES) {
-                LSSLogger.warn("Column cache " + file + " has invalid entry count " + count + ", discarding");
-                return map;
-            }
-            // Bound the pre-allocation by what the file can actually hold (8-byte header +
-            // 16 bytes/entry), matching ColumnTimestampCache.load: a corrupt/crafted count
-            // field must not force a ~64 MB ensureCapacity for entries that aren't there. A
-            // short read past this hits EOF and returns the partial map, same as truncation.
-            long maxPlausible = Math.max(0, (Files.size(file) - 8) / 16);
-            map.ensureCapacity((int) Math.min(count, maxPlausible));
-            for (int i = 0; i < count; i++) {
-                long pos = in.readLong();
-                map.put(pos, in.readLong()); // raw server timestamp
+        migrateLegacy(serverAddress, dimension);
+        for (var tile : listTiles(getDimensionDir(serverAddress, dimension))) {
+            long[] stamps = readTile(tile.file(), tile.tx(), tile.tz());
+            if (stamps == null) continue;
+            for (int i = 0; i < TILE_STAMPS; i++) {
+                if (stamps[i] != -1L) map.put(positionFor(tile.tx(), tile.tz(), i), stamps[i]);
             }
-            LSSLogger.info("Loaded " + count + " cached column entries for " + dimensionKey(dimension));
-        } catch (IOException e) {
-            LSSLogger.warn("Failed to load column cache from " + file, e);
+        }
+        if (!map.isEmpty()) {
+            LSSLogger.info("Loaded " + map.size() + " cached column entries for " + dimensionKey(dimension));
         }
         return map;
     }
@@ -142,16 +160,61 @@ public class ColumnCacheStore {
     }
 
     /**
-     * Load AND build the section-leaf state on the IO thread in one task (the A1 fix,
-     * quadtree-client-state-plan.md §3.4): the old flow returned the raw map and the
-     * render thread paid the whole per-entry apply — up to 2M un-presized hash inserts
-     * in ONE tick (est. 100-300 ms) at every join and dimension re-entry. The main
-     * thread now adopts pre-built leaves in O(leaves).
+     * Load the given tiles AND build their section-leaf state on the IO thread in one task
+     * (the A1 fix, quadtree-client-state-plan.md §3.4 — the main thread adopts pre-built
+     * leaves in O(leaves)). Tiles already are leaf-shaped, so the build is a slot copy, not
+     * a per-entry hash insert. {@code tileKeys} come from {@link #tilesCovering}.
      */
     static CompletableFuture<ColumnStateMap.LoadedState> loadStateAsync(
-            String serverAddress, ResourceKey<Level> dimension) {
+            String serverAddress, ResourceKey<Level> dimension, long[] tileKeys) {
         return CompletableFuture.supplyAsync(
-                () -> ColumnStateMap.buildLoaded(load(serverAddress, dimension)), IO_EXECUTOR);
+                () -> loadTiles(serverAddress, dimension, tileKeys), IO_EXECUTOR);
+    }
+
+    /** IO-thread body of {@link #loadStateAsync}; package-visible for inline tests. */
+    static ColumnStateMap.LoadedState loadTiles(String serverAddress, ResourceKey<Level> dimension,
+                                                long[] tileKeys) {
+        var state = new ColumnStateMap.LoadedState();
+        migrateLegacy(serverAddress, dimension);
+        var dir = getDimensionDir(serverAddress, dimension);
+        for (long tileKey : tileKeys) {
+            int tx = PositionUtil.unpackX(tileKey);
+            int tz = PositionUtil.unpackZ(tileKey);
+            long[] stamps = readTile(tileFile(dir, tx, tz), tx, tz);
+            if (stamps == null) continue;
+            for (int slot = 0; slot < TILE_LEAVES; slot++) {
+                state.addLeaf(PositionUtil.packPosition((tx << TILE_LEAF_SHIFT) | (slot & TILE_LEAF_MASK),
+                        (tz << TILE_LEAF_SHIFT) | (slot >> TILE_LEAF_SHIFT)), stamps, slot * 64);
+            }
+        }
+        return state;
+    }
+
+    /** Keys ({@code packPosition(tx, tz)}) of every tile intersecting the Chebyshev square of
+     *  {@code radius} chunks around a chunk. */
+    static long[] tilesCovering(int cx, int cz, int radius) {
+        int tx0 = (int) (((long) cx - radius) >> TILE_CHUNK_SHIFT);
+        int tx1 = (int) (((long) cx + radius) >> TILE_CHUNK_SHIFT);
+        int tz0 = (int) (((long) cz - radius) >> TILE_CHUNK_SHIFT);
+        int tz1 = (int) (((long) cz + radius) >> TILE_CHUNK_SHIFT);
+        long[] keys = new long[(tx1 - tx0 + 1) * (tz1 - tz0 + 1)];
+        int n = 0;
+        for (int tz = tz0; tz <= tz1; tz++) {
+            for (int tx = tx0; tx <= tx1; tx++) {
+                keys[n++] = PositionUtil.packPosition(tx, tz);
+            }
+        }
+        return keys;
+    }
+
+    /** True when no chunk of the tile lies within {@code radius} (Chebyshev) of the chunk. */
+    static boolean tileOutOfRange(long tileKey, int cx, int cz, int radius) {
+        long x0 = (long) PositionUtil.unpackX(tileKey) << TILE_CHUNK_SHIFT;
+        long z0 = (long) PositionUtil.unpackZ(tileKey) << TILE_CHUNK_SHIFT;
+        long edge = (1L << TILE_CHUNK_SHIFT) - 1;
+        long dx = cx < x0 ? x0 - cx : Math.max(0, cx - (x0 + edge));
+        long dz = cz < z0 ? z0 - cz : Math.max(0, cz - (z0 + edge));
+        return Math.max(dx, dz) > radius;
     }
 
     /** Test-only queue-a-plain-save helper (FIFO/flush ordering tests). NOT for production:
@@ -166,55 +229,39 @@ public class ColumnCacheStore {
         IO_EXECUTOR.execute(() -> save(serverAddress, dimension, copy));
     }
 
+    /** Replace the dimension's whole cache with {@code columns} (-1 entries are absent, not
+     *  stored). Test/compat form — production saves merge. */
     public static void save(String serverAddress, ResourceKey<Level> dimension, Long2LongOpenHashMap columns) {
         if (columns.isEmpty()) return;
-        SAVE_WRITES_FOR_TEST.incrementAndGet();
-
-        var file = getCacheFile(serverAddress, dimension);
-        var tmpFile = file.resolveSibling(file.getFileName() + ".tmp");
         try {
-            Files.createDirectories(file.getParent());
-            // Buffered: unbuffered per-writeLong 8-byte syscalls made big-cache disconnect
-            // flushes take seconds (same pattern as the server-side half of issue #62).
-            try (var out = new DataOutputStream(new BufferedOutputStream(
-                    Files.newOutputStream(tmpFile), IO_BUFFER_BYTES))) {
-                out.writeInt(FORMAT_VERSION);
-                out.writeInt(columns.size());
-                for (var entry : columns.long2LongEntrySet()) {
-                    out.writeLong(entry.getLongKey());
-                    out.writeLong(entry.getLongValue()); // raw timestamp
-                }
-            }
-            try {
-                Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
-            } catch (AtomicMoveNotSupportedException e) {
-                // Filesystems without atomic rename (some network mounts — same fallback as
-                // JsonConfig.save): a torn file on crash is tolerable, the loader discards it.
-                Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
-            }
-            LSSLogger.info("Saved " + columns.size() + " cached column entries for " + dimensionKey(dimension));
+            Files.deleteIfExists(getLegacyCacheFile(serverAddress, dimension));
         } catch (IOException e) {
-            LSSLogger.warn("Failed to save column cache to " + file, e);
-            try { Files.deleteIfExists(tmpFile); } catch (IOException e2) {
-                LSSLogger.warn("Failed to clean up temporary cache file " + tmpFile, e2);
-            }
+            LSSLogger.warn("Failed to delete legacy column cache for " + dimensionKey(dimension), e);
+        }
+        deleteTree(getDimensionDir(serverAddress, dimension));
+        var edits = new TileEdits();
+        var iter = columns.long2LongEntrySet().fastIterator();
+        while (iter.hasNext()) {
+            var entry = iter.next();
+            edits.put(entry.getLongKey(), entry.getLongValue());
         }
+        applyEdits(serverAddress, dimension, edits);
     }
 
     /**
-     * Merge-save on the IO thread: overlays the in-memory map onto the FILE's current
-     * contents instead of overwriting it. The movement prune bounds the in-memory map to a
+     * Merge-save on the IO thread: overlays the in-memory map onto the tiles' current
+     * contents instead of overwriting them. The movement prune bounds the in-memory map to a
      * disc around the player, so a plain overwrite silently truncated the persisted cache
      * to "near where you last stood" — every previously-visited region re-declared ts=-1 on
      * revisit, re-downloading in full AND treating deliveries as first serves (no air-fill),
-     * which re-opened the ghost-terrain hole the delivery-honesty work closed. Order:
-     * existing file (a corrupt/oversized/old-version file degrades to empty — merge becomes
-     * a plain overwrite, never a failed save) → delete {@code removals} (the session's
-     * deliberate unstamps; applied to the file BEFORE the overlay so a re-received position
-     * survives) → overlay memory (memory wins) → evict farthest-first past the cap (the
-     * loader discards oversized files wholesale). Both inputs are snapshotted on the caller
-     * thread. Safe against the coalesced removal drain ONLY because both run on the single
-     * FIFO IO thread — parallelizing this executor would corrupt the load-modify-write.
+     * which re-opened the ghost-terrain hole the delivery-honesty work closed. Per touched
+     * tile: existing contents (a corrupt tile degrades to empty — merge becomes a plain
+     * overwrite, never a failed save) → {@code removals} (the session's deliberate unstamps;
+     * applied BEFORE the overlay so a re-received position survives) → overlay memory
+     * (memory wins) → rewrite the changed leaf slots. Then evict the farthest tiles past
+     * {@link #maxTileFiles}. Both inputs are snapshotted on the caller thread. Safe against
+     * the coalesced removal drain ONLY because both run on the single FIFO IO thread —
+     * parallelizing this executor would corrupt the read-modify-write.
      */
     public static void mergeSaveAsync(String serverAddress, ResourceKey<Level> dimension,
                                       Long2LongOpenHashMap columns, LongOpenHashSet removals,
@@ -232,10 +279,9 @@ public class ColumnCacheStore {
      * The ownership-transfer save (the A2 fix, quadtree-client-state-plan.md §3.4):
      * consumes a {@link ColumnStateMap#detachForSave() detached} state — no PER-ENTRY
      * caller-thread copy (the detach's O(leaves) map-shell copy is ~16-31k reference
-     * puts, sub-ms), where {@link #mergeSaveAsync} pays a 1-2M-entry map copy on the
-     * render thread (est. 50-150 ms at every dimension change). The overlay map is synthesized
-     * from the leaves ON THE IO THREAD and then flows through the unchanged
-     * {@link #mergeSave} body (file merge → removals → overlay → evict → write).
+     * puts, sub-ms), where {@link #mergeSaveAsync} pays a whole-map copy on the render
+     * thread. The leaves are grouped into tile edits ON THE IO THREAD and then take the
+     * same per-tile merge as {@link #mergeSave}.
      */
     public static void mergeSaveDetachedAsync(String serverAddress, ResourceKey<Level> dimension,
                                               ColumnStateMap.DetachedState state,
@@ -248,66 +294,65 @@ public class ColumnCacheStore {
     static void mergeSaveDetached(String serverAddress, ResourceKey<Level> dimension,
                                   ColumnStateMap.DetachedState state,
                                   int centerCx, int centerCz) {
-        var overlay = new Long2LongOpenHashMap(Math.max(16, state.entries));
-        overlay.defaultReturnValue(-1L);
-        state.forEachPresent(overlay::put);
-        mergeSave(serverAddress, dimension, overlay, state.removals, centerCx, centerCz);
+        var edits = new TileEdits();
+        edits.removeAll(state.removals);
+        state.forEachPresent(edits::put);
+        mergeEdits(serverAddress, dimension, edits, centerCx, centerCz);
     }
 
     /** IO-thread body of {@link #mergeSaveAsync}; package-visible so tests can run it inline. */
     static void mergeSave(String serverAddress, ResourceKey<Level> dimension,
                           Long2LongOpenHashMap columns, LongOpenHashSet removals,
                           int centerCx, int centerCz) {
-        var merged = load(serverAddress, dimension);
-        var removalIter = removals.iterator();
-        while (removalIter.hasNext()) {
-            merged.remove(removalIter.nextLong());
-        }
-        merged.putAll(columns);
-        if (merged.size() > mergeEvictionCap) {
-            merged = evictFarthest(merged, centerCx, centerCz, mergeEvictionCap);
-        }
-        if (merged.isEmpty()) {
-            // save() skips empty maps; a removals-only merge that emptied the file must
-            // actually delete it, or the dishonest stamps survive.
-            deleteCacheFile(serverAddress, dimension);
-        } else {
-            save(serverAddress, dimension, merged);
+        var edits = new TileEdits();
+        edits.removeAll(removals);
+        var iter = columns.long2LongEntrySet().fastIterator();
+        while (iter.hasNext()) {
+            var entry = iter.next();
+            edits.put(entry.getLongKey(), entry.getLongValue());
         }
+        mergeEdits(serverAddress, dimension, edits, centerCx, centerCz);
     }
 
-    /**
-     * Keep the {@code cap} entries nearest (Chebyshev) to the save-time player position —
-     * the in-memory disc is within prune radius of it, so the hot working set always
-     * survives; what falls off is the farthest history, which a revisit re-downloads
-     * honestly. Primitive sort (no boxing); ~2M keys is a few hundred ms on the FIFO IO
-     * thread, and only when the cap is actually hit.
-     */
-    private static Long2LongOpenHashMap evictFarthest(Long2LongOpenHashMap merged,
-                                                      int centerCx, int centerCz, int cap) {
-        long[] keys = merged.keySet().toLongArray();
-        LongArrays.quickSort(keys, (a, b) -> Integer.compare(
-                PositionUtil.chebyshevDistance(PositionUtil.unpackX(a), PositionUtil.unpackZ(a), centerCx, centerCz),
-                PositionUtil.chebyshevDistance(PositionUtil.unpackX(b), PositionUtil.unpackZ(b), centerCx, centerCz)));
-        var kept = new Long2LongOpenHashMap(cap);
-        kept.defaultReturnValue(-1L);
-        for (int i = 0; i < cap; i++) {
-            kept.put(keys[i], merged.get(keys[i]));
+    private static void mergeEdits(String serverAddress, ResourceKey<Level> dimension,
+                                   TileEdits edits, int centerCx, int centerCz) {
+        migrateLegacy(serverAddress, dimension);
+        int changed = applyEdits(serverAddress, dimension, edits);
+        int evicted = evictFarthestTiles(getDimensionDir(serverAddress, dimension), centerCx, centerCz);
+        if (changed > 0 || evicted > 0) {
+            LSSLogger.info("Saved column cache for " + dimensionKey(dimension) + ": " + changed
+                    + " tile(s) written" + (evicted > 0 ? ", " + evicted + " far tile(s) evicted" : ""));
         }
-        return kept;
     }
 
-    private static void deleteCacheFile(String serverAddress, ResourceKey<Level> dimension) {
-        try {
-            Files.deleteIfExists(getCacheFile(serverAddress, dimension));
-        } catch (IOException e) {
-            LSSLogger.warn("Failed to delete emptied column cache for " + dimensionKey(dimension), e);
+    /**
+     * Keep the {@link #maxTileFiles} tiles nearest (Chebyshev, in tiles) to the save-time
+     * player position — the in-memory disc is within prune radius of it, so the hot working
+     * set always survives; what falls off is the farthest history, which a revisit
+     * re-downloads honestly. A directory listing plus a sort of at most a few thousand
+     * names, and only deletes when the cap is actually hit.
+     */
+    private static int evictFarthestTiles(Path dir, int centerCx, int centerCz) {
+        int cap = maxTileFiles;
+        var tiles = listTiles(dir);
+        if (tiles.size() <= cap) return 0;
+        int ctx = centerCx >> TILE_CHUNK_SHIFT;
+        int ctz = centerCz >> TILE_CHUNK_SHIFT;
+        tiles.sort(Comparator.comparingInt(t -> PositionUtil.chebyshevDistance(t.tx(), t.tz(), ctx, ctz)));
+        int evicted = 0;
+        for (int i = cap; i < tiles.size(); i++) {
+            try {
+                if (Files.deleteIfExists(tiles.get(i).file())) evicted++;
+            } catch (IOException e) {
+                LSSLogger.warn("Failed to evict column cache tile " + tiles.get(i).file(), e);
+            }
         }
+        return evicted;
     }
 
     // Coalesced cross-dimension removals: (sanitized server dir, sanitized dimension) → queued
     // positions. Keyed on the SANITIZED strings so key equality matches file identity. Guarded
-    // by REMOVAL_LOCK; drained on the FIFO IO thread (one load-modify-write per burst).
+    // by REMOVAL_LOCK; drained on the FIFO IO thread (one tile pass per burst).
     private static final Object REMOVAL_LOCK = new Object();
     private static final HashMap<String, LongOpenHashSet> PENDING_REMOVALS = new HashMap<>();
 
@@ -321,8 +366,7 @@ public class ColumnCacheStore {
      *
      * <p>Coalesced: a burst of reports (a consumer whose storage hiccups across a portal
      * transition can emit dozens in one tick) queues into one pending set per dimension and
-     * pays ONE whole-file load+rewrite when the drain runs — each call used to rewrite a
-     * potentially multi-MB file by itself, serialized ahead of the new dimension's cache
+     * pays ONE tile pass when the drain runs, serialized ahead of the new dimension's cache
      * load on the single IO thread (which gates scanning).
      */
     public static void removeAsync(String serverAddress, ResourceKey<Level> dimension, long packed) {
@@ -343,20 +387,251 @@ public class ColumnCacheStore {
                 batch = PENDING_REMOVALS.remove(key);
             }
             if (batch == null || batch.isEmpty()) return;
-            var map = load(serverAddress, dimension); // reuses the FIFO IO thread's file access
-            boolean changed = false;
-            var iter = batch.iterator();
-            while (iter.hasNext()) {
-                changed |= map.remove(iter.nextLong()) != map.defaultReturnValue();
+            migrateLegacy(serverAddress, dimension);
+            var edits = new TileEdits();
+            edits.removeAll(batch);
+            applyEdits(serverAddress, dimension, edits);
+        });
+    }
+
+    /**
+     * Pending tile edits, grouped by tile as (position, stamp) pairs in arrival order — the
+     * per-tile apply replays them in order, so removals queued first lose to a later overlay.
+     * Bounded by the edits themselves, never by the tiles' size.
+     */
+    private static final class TileEdits {
+        final Long2ObjectOpenHashMap<LongArrayList> byTile = new Long2ObjectOpenHashMap<>();
+
+        void put(long packed, long ts) {
+            long tileKey = PositionUtil.packPosition(PositionUtil.unpackX(packed) >> TILE_CHUNK_SHIFT,
+                    PositionUtil.unpackZ(packed) >> TILE_CHUNK_SHIFT);
+            var pairs = this.byTile.get(tileKey);
+            if (pairs == null) {
+                pairs = new LongArrayList();
+                this.byTile.put(tileKey, pairs);
             }
-            if (!changed) return; // none were present
-            if (map.isEmpty()) {
-                // save() skips empty maps, so delete the now-empty file directly.
-                deleteCacheFile(serverAddress, dimension);
+            pairs.add(packed);
+            pairs.add(ts <= -1L ? -1L : ts); // a claim-free stamp is stored as absent
+        }
+
+        void removeAll(LongOpenHashSet removals) {
+            if (removals == null) return;
+            var iter = removals.iterator();
+            while (iter.hasNext()) put(iter.nextLong(), -1L);
+        }
+    }
+
+    /** Apply the edits tile by tile; returns how many tiles changed on disk. */
+    private static int applyEdits(String serverAddress, ResourceKey<Level> dimension, TileEdits edits) {
+        if (edits.byTile.isEmpty()) return 0;
+        var dir = getDimensionDir(serverAddress, dimension);
+        int changed = 0;
+        var iter = edits.byTile.long2ObjectEntrySet().fastIterator();
+        while (iter.hasNext()) {
+            var entry = iter.next();
+            int tx = PositionUtil.unpackX(entry.getLongKey());
+            int tz = PositionUtil.unpackZ(entry.getLongKey());
+            var file = tileFile(dir, tx, tz);
+            long[] before = readTile(file, tx, tz);
+            long[] after;
+            if (before != null) {
+                after = before.clone();
             } else {
-                save(serverAddress, dimension, map);
+                after = new long[TILE_STAMPS];
+                Arrays.fill(after, -1L);
             }
-        });
+            var pairs = entry.getValue();
+            for (int i = 0; i < pairs.size(); i += 2) {
+                after[stampIndex(pairs.getLong(i))] = pairs.getLong(i + 1);
+            }
+            try {
+                if (writeTile(file, tx, tz, before, after)) changed++;
+            } catch (IOException e) {
+                LSSLogger.warn("Failed to write column cache tile " + file, e);
+            }
+        }
+        if (changed > 0) SAVE_WRITES_FOR_TEST.incrementAndGet();
+        return changed;
+    }
+
+    /**
+     * Persist one tile: an all-absent tile is deleted; a new (or unreadable) tile is written
+     * whole; otherwise only the runs of leaf slots whose stamps changed are rewritten in
+     * place. Returns whether the file changed.
+     */
+    private static boolean writeTile(Path file, int tx, int tz, long[] before, long[] after) throws IOException {
+        boolean empty = true;
+        for (long ts : after) {
+            if (ts != -1L) {
+                empty = false;
+                break;
+            }
+        }
+        if (empty) return Files.deleteIfExists(file);
+        if (before == null) {
+            Files.createDirectories(file.getParent());
+            var buf = ByteBuffer.allocate(TILE_FILE_BYTES);
+            buf.putInt(TILE_MAGIC).putInt(FORMAT_VERSION).putInt(tx).putInt(tz);
+            buf.asLongBuffer().put(after);
+            buf.rewind(); // the long view does not advance the byte buffer past the header
+            try (var ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (buf.hasRemaining()) ch.write(buf);
+            }
+            return true;
+        }
+        boolean wrote = false;
+        try (var ch = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            int slot = 0;
+            while (slot < TILE_LEAVES) {
+                if (slotEquals(before, after, slot)) {
+                    slot++;
+                    continue;
+                }
+                int end = slot + 1;
+                while (end < TILE_LEAVES && !slotEquals(before, after, end)) end++;
+                var buf = ByteBuffer.allocate((end - slot) * LEAF_BYTES);
+                buf.asLongBuffer().put(after, slot * 64, (end - slot) * 64);
+                long at = TILE_HEADER_BYTES + (long) slot * LEAF_BYTES;
+                while (buf.hasRemaining()) at += ch.write(buf, at);
+                wrote = true;
+                slot = end;
+            }
+        }
+        return wrote;
+    }
+
+    private static boolean slotEquals(long[] a, long[] b, int slot) {
+        int from = slot * 64;
+        return Arrays.equals(a, from, from + 64, b, from, from + 64);
+    }
+
+    /** The tile's stamps, or null when it is missing or fails validation (wrong size, magic,
+     *  version or coordinates — treated as empty, and rewritten whole by the next save). */
+    private static long[] readTile(Path file, int tx, int tz) {
+        if (!Files.exists(file)) return null;
+        try (var ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (ch.size() != TILE_FILE_BYTES) {
+                LSSLogger.warn("Column cache tile " + file + " has size " + ch.size() + ", discarding");
+                return null;
+            }
+            var buf = ByteBuffer.allocate(TILE_FILE_BYTES);
+            while (buf.hasRemaining()) {
+                if (ch.read(buf) < 0) break;
+            }
+            buf.flip();
+            if (buf.remaining() != TILE_FILE_BYTES || buf.getInt() != TILE_MAGIC
+                    || buf.getInt() != FORMAT_VERSION || buf.getInt() != tx || buf.getInt() != tz) {
+                LSSLogger.warn("Column cache tile " + file + " has an invalid header, discarding");
+                return null;
+            }
+            long[] stamps = new long[TILE_STAMPS];
+            buf.asLongBuffer().get(stamps);
+            return stamps;
+        } catch (IOException e) {
+            LSSLogger.warn("Failed to read column cache tile " + file, e);
+            return null;
+        }
+    }
+
+    /** Index of a position's stamp within its tile: leaf slot, then the leaf's own bit order. */
+    private static int stampIndex(long packed) {
+        int cx = PositionUtil.unpackX(packed);
+        int cz = PositionUtil.unpackZ(packed);
+        int slot = (((cz >> 3) & TILE_LEAF_MASK) << TILE_LEAF_SHIFT) | ((cx >> 3) & TILE_LEAF_MASK);
+        return (slot << 6) | ((cz & 7) << 3) | (cx & 7);
+    }
+
+    private static long positionFor(int tx, int tz, int index) {
+        int slot = index >> 6;
+        int bit = index & 63;
+        int cx = (tx << TILE_CHUNK_SHIFT) | ((slot & TILE_LEAF_MASK) << 3) | (bit & 7);
+        int cz = (tz << TILE_CHUNK_SHIFT) | ((slot >> TILE_LEAF_SHIFT) << 3) | (bit >> 3);
+        return PositionUtil.packPosition(cx, cz);
+    }
+
+    private record TileFile(Path file, int tx, int tz) {}
+
+    private static ArrayList<TileFile> listTiles(Path dir) {
+        var tiles = new ArrayList<TileFile>();
+        if (!Files.isDirectory(dir)) return tiles;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path file : stream) {
+                Matcher m = TILE_FILE_PATTERN.matcher(file.getFileName().toString());
+                if (!m.matches()) continue;
+                try {
+                    tiles.add(new TileFile(file, Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2))));
+                } catch (NumberFormatException ignored) {
+                    // Out-of-int coordinates: not a file this store wrote.
+                }
+            }
+        } catch (IOException e) {
+            LSSLogger.warn("Failed to list column cache tiles in " + dir, e);
+        }
+        return tiles;
+    }
+
+    /**
+     * Fold a v4 flat file into tiles (entries overlay whatever tiles exist) and delete it.
+     * Runs at the start of every IO-thread operation on the dimension; after the first it
+     * is one failed exists check. The v4 read keeps its validation: pre-v4 and
+     * out-of-range counts are discarded, a truncated tail keeps the entries before it.
+     */
+    private static void migrateLegacy(String serverAddress, ResourceKey<Level> dimension) {
+        var file = getLegacyCacheFile(serverAddress, dimension);
+        if (!Files.exists(file)) return;
+        var legacy = loadLegacy(file, dimension);
+        if (!legacy.isEmpty()) {
+            var edits = new TileEdits();
+            var iter = legacy.long2LongEntrySet().fastIterator();
+            while (iter.hasNext()) {
+                var entry = iter.next();
+                edits.put(entry.getLongKey(), entry.getLongValue());
+            }
+            applyEdits(serverAddress, dimension, edits);
+            LSSLogger.info("Migrated " + legacy.size() + " cached column entries for "
+                    + dimensionKey(dimension) + " to the tiled cache");
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LSSLogger.warn("Failed to delete migrated column cache " + file, e);
+        }
+    }
+
+    private static Long2LongOpenHashMap loadLegacy(Path file, ResourceKey<Level> dimension) {
+        var map = new Long2LongOpenHashMap();
+        map.defaultReturnValue(-1L);
+        try (var in = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(file), IO_BUFFER_BYTES))) {
+            int version = in.readInt();
+            if (version != LEGACY_FORMAT_VERSION) {
+                // Pre-v4 caches may hold fabricated client-clock stamps that are
+                // indistinguishable from real server timestamps, so they are discarded rather
+                // than migrated (the cache is rebuildable; one cold resync after upgrade).
+                LSSLogger.info("Column cache " + file + " is v" + version + " (< v" + LEGACY_FORMAT_VERSION
+                        + "); discarding — timestamps rebuild on resync");
+                return map;
+            }
+            int count = in.readInt();
+            if (count < 0 || count > LEGACY_MAX_ENTRIES) {
+                LSSLogger.warn("Column cache " + file + " has invalid entry count " + count + ", discarding");
+                return map;
+            }
+            // Bound the pre-allocation by what the file can actually hold (8-byte header +
+            // 16 bytes/entry): a corrupt/crafted count field must not force a ~64 MB
+            // ensureCapacity for entries that aren't there. A short read past this hits EOF
+            // and returns the partial map, same as truncation.
+            long maxPlausible = Math.max(0, (Files.size(file) - 8) / 16);
+            map.ensureCapacity((int) Math.min(count, maxPlausible));
+            for (int i = 0; i < count; i++) {
+                long pos = in.readLong();
+                map.put(pos, in.readLong()); // raw server timestamp
+            }
+        } catch (IOException e) {
+            LSSLogger.warn("Failed to load column cache from " + file + " for " + dimensionKey(dimension), e);
+        }
+        return map;
     }
 
     public static void clearForServer(String serverAddress) {
@@ -365,16 +640,7 @@ public class ColumnCacheStore {
         runIoAndWait(() -> {
             var dir = getServerDir(serverAddress);
             if (!Files.exists(dir)) return;
-
-            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
-                for (Path file : stream) {
-                    Files.deleteIfExists(file);
-                }
-                Files.deleteIfExists(dir);
-                LSSLogger.info("Cleared column cache for server " + serverAddress);
-            } catch (IOException e) {
-                LSSLogger.warn("Failed to clear column cache for " + serverAddress, e);
-            }
+            if (deleteTree(dir)) LSSLogger.info("Cleared column cache for server " + serverAddress);
         });
     }
 
@@ -384,23 +650,34 @@ public class ColumnCacheStore {
         runIoAndWait(() -> {
             if (!Files.exists(cacheDir())) return;
 
+            boolean cleared = true;
             try (DirectoryStream<Path> servers = Files.newDirectoryStream(cacheDir())) {
                 for (Path serverDir : servers) {
                     if (!Files.isDirectory(serverDir)) continue;
-                    try (DirectoryStream<Path> files = Files.newDirectoryStream(serverDir)) {
-                        for (Path file : files) {
-                            Files.deleteIfExists(file);
-                        }
-                    }
-                    Files.deleteIfExists(serverDir);
+                    cleared &= deleteTree(serverDir);
                 }
-                LSSLogger.info("Cleared all column caches");
             } catch (IOException e) {
                 LSSLogger.warn("Failed to clear all column caches", e);
+                return;
             }
+            if (cleared) LSSLogger.info("Cleared all column caches");
         });
     }
 
+    /** Delete a directory and everything under it (server dir → dimension dirs → tiles). */
+    private static boolean deleteTree(Path root) {
+        if (!Files.exists(root)) return true;
+        try (var paths = Files.walk(root)) {
+            for (Path p : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(p);
+            }
+            return true;
+        } catch (IOException | java.io.UncheckedIOException e) {
+            LSSLogger.warn("Failed to delete column cache " + root, e);
+            return false;
+        }
+    }
+
     /**
      * Block until all currently queued cache IO (saves/loads/clears) has completed.
      * The IO executor is a single FIFO thread, so an empty task draining through it
@@ -447,10 +724,20 @@ public class ColumnCacheStore {
         return cacheDir().resolve(sanitizeForFilePath(serverAddress));
     }
 
-    private static Path getCacheFile(String serverAddress, ResourceKey<Level> dimension) {
+    /** The v5 tile directory of a dimension. */
+    static Path getDimensionDir(String serverAddress, ResourceKey<Level> dimension) {
+        return getServerDir(serverAddress).resolve(dimensionKey(dimension));
+    }
+
+    /** The v4 flat file of a dimension (migration source only). */
+    static Path getLegacyCacheFile(String serverAddress, ResourceKey<Level> dimension) {
         return getServerDir(serverAddress).resolve(dimensionKey(dimension) + ".bin");
     }
 
+    private static Path tileFile(Path dir, int tx, int tz) {
+        return dir.resolve("t." + tx + "." + tz + ".bin");
+    }
+
     private static String dimensionKey(ResourceKey<Level> dimension) {
         return sanitizeForFilePath(dimension.identifier().toString());
     }
@@ -1,5 +1,6 @@
 package dev.vox.lss.networking.client;
 
+import dev.vox.lss.common.LSSConstants;
 import dev.vox.lss.common.PositionUtil;
 import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
@@ -69,6 +70,14 @@ class ColumnStateMap {
         long staleInFlight;
         /** Derived: bit set ⇔ classify(position) would return non-SATISFIED. */
         long needs;
+        // LOD-tier provenance (LodTierDownsampler): bit set ⇔ the held stamp came with a
+        // COARSE column, tier in {@code tiers[bit]} (allocated on the first coarse
+        // receive — most leaves never hold one). Deliberately OUTSIDE classify/needs: a
+        // tier is "enough" or not only relative to the player's distance, which the
+        // scanner's refinement rung owns. Invariant: coarse is a subset of positiveTs
+        // (tsPut clears the bit with the stamp).
+        long coarse;
+        byte[] tiers;
 
         Leaf() {
             java.util.Arrays.fill(this.ts, -1L);
@@ -194,6 +203,7 @@ class ColumnStateMap {
         leaf.ts[bit] = value;
         leaf.positiveTs &= ~m;
         leaf.zeroTs &= ~m;
+        leaf.coarse &= ~m; // a tier only describes the stamp it arrived with
         if (value > 0) {
             leaf.positiveTs |= m;
             this.receivedCount++;
@@ -279,22 +289,44 @@ class ColumnStateMap {
      * positions are -1 first asks) and returns false. O(ring-perimeter / 8) map lookups.
      */
     boolean ringNeedsFree(int px, int pz, int r) {
+        return ringNeedsFree(px, pz, r, LSSConstants.LOD_TIER_MAX);
+    }
+
+    /**
+     * As {@link #ringNeedsFree(int, int, int)}, additionally requiring that no crossed
+     * leaf holds a column COARSER than {@code wantTier} — such a position is satisfied
+     * by classify but owed a refinement ask by the scanner, so the ring must walk.
+     * Same leaf-granular conservatism (a coarse bit anywhere in a crossed leaf walks).
+     */
+    boolean ringNeedsFree(int px, int pz, int r, int wantTier) {
         int xl0 = (px - r) >> 3, xl1 = (px + r) >> 3;
         int zTop = (pz - r) >> 3, zBot = (pz + r) >> 3;
         for (int sx = xl0; sx <= xl1; sx++) {
-            if (leafHasNeeds(sx, zTop) || leafHasNeeds(sx, zBot)) return false;
+            if (leafHasNeeds(sx, zTop, wantTier) || leafHasNeeds(sx, zBot, wantTier)) return false;
         }
         int zl0 = zTop, zl1 = zBot;
         int xLeft = xl0, xRight = xl1;
         for (int sz = zl0; sz <= zl1; sz++) {
-            if (leafHasNeeds(xLeft, sz) || leafHasNeeds(xRight, sz)) return false;
+            if (leafHasNeeds(xLeft, sz, wantTier) || leafHasNeeds(xRight, sz, wantTier)) return false;
         }
         return true;
     }
 
-    private boolean leafHasNeeds(int sx, int sz) {
+    private boolean leafHasNeeds(int sx, int sz, int wantTier) {
         Leaf leaf = this.leaves.get(PositionUtil.packPosition(sx, sz));
-        return leaf == null || leaf.needs != 0;
+        if (leaf == null || leaf.needs != 0) return true;
+        for (long bits = leaf.coarse; bits != 0; bits &= bits - 1) {
+            if (leaf.tiers[Long.numberOfTrailingZeros(bits)] > wantTier) return true;
+        }
+        return false;
+    }
+
+    /** The LOD tier of the held column (0 = full resolution or nothing held). */
+    int heldTier(long packed) {
+        Leaf leaf = leafFor(packed);
+        if (leaf == null) return 0;
+        int bit = bitIndexFor(packed);
+        return (leaf.coarse & (1L << bit)) == 0 ? 0 : leaf.tiers[bit];
     }
 
     /** One tile's validation outcome (region-summary-sync-plan.md §6): how many stamps
@@ -541,6 +573,11 @@ class ColumnStateMap {
 
     /** Column data arrived (authoritative for the position, even if no longer tracked). */
     void onReceived(long packed, long columnTimestamp) {
+        onReceived(packed, columnTimestamp, 0);
+    }
+
+    /** As above for a column of LOD {@code tier} (0 = full resolution). */
+    void onReceived(long packed, long columnTimestamp, int tier) {
         Leaf leaf = leafForCreate(packed);
         int bit = bitIndexFor(packed);
         long m = 1L << bit;
@@ -557,6 +594,11 @@ class ColumnStateMap {
         // late-delivered column once and keep confirmedRing pinned at 0 for an extra scan.
         clearRetry(leaf, m);
         tsPut(leaf, bit, columnTimestamp);
+        if (tier > 0 && columnTimestamp > 0) {
+            if (leaf.tiers == null) leaf.tiers = new byte[64];
+            leaf.tiers[bit] = (byte) tier;
+            leaf.coarse |= m;
+        }
         leaf.validated |= m;
         leaf.summaryValidated &= ~m; // upgraded to a per-column proof — un-revocable
         leaf.recomputeNeeds();
@@ -866,6 +908,38 @@ class ColumnStateMap {
             this.leaves = leaves;
             this.clampedToAbsent = clampedToAbsent;
         }
+
+        /** An empty state for the tiled cache to fill with {@link #addLeaf}. */
+        LoadedState() {
+            this(new Long2ObjectOpenHashMap<>(), new it.unimi.dsi.fastutil.longs.LongArrayList());
+        }
+
+        /**
+         * Add one leaf from 64 stamps in {@link Leaf#ts} bit order (the tiled cache's slot
+         * layout, -1 = absent) starting at {@code offset}. Same clamp as {@link #buildLoaded}:
+         * a stamp below -1 is corrupt and lands in {@link #clampedToAbsent}. An all-absent
+         * slot adds nothing. IO-thread use.
+         */
+        void addLeaf(long leafKey, long[] stamps, int offset) {
+            Leaf leaf = null;
+            for (int bit = 0; bit < 64; bit++) {
+                long ts = stamps[offset + bit];
+                if (ts == -1L) continue;
+                if (ts < -1L) {
+                    this.clampedToAbsent.add(positionFor(leafKey, bit));
+                    continue;
+                }
+                if (leaf == null) leaf = new Leaf();
+                leaf.ts[bit] = ts;
+                long m = 1L << bit;
+                if (ts > 0) leaf.positiveTs |= m;
+                else leaf.zeroTs |= m;
+            }
+            if (leaf != null) {
+                leaf.recomputeNeeds();
+                this.leaves.put(leafKey, leaf);
+            }
+        }
     }
 
     /**
@@ -915,6 +989,30 @@ class ColumnStateMap {
      * touched timestamps, never marks).
      */
     void adoptLoaded(LoadedState loaded) {
+        adoptLoaded(loaded, false);
+    }
+
+    /**
+     * {@link #adoptLoaded(LoadedState)} with the twin-merge direction chosen by the caller.
+     * {@code liveWins} is the lazy tile load's mode: it lands mid-session, after the
+     * player's own answers stamped the tile's positions, so a file stamp only fills a
+     * position the live map holds nothing for — it never rewinds a live stamp, and a
+     * claim-free file row deletes nothing.
+     */
+    void adoptLoaded(LoadedState loaded, boolean liveWins) {
+        // The tiled cache loads lazily, mid-session: a stamp this session deliberately
+        // deleted is still on disk until the next save, and must not come back from it.
+        for (var removed = this.persistentRemovals.iterator(); removed.hasNext(); ) {
+            long packed = removed.nextLong();
+            Leaf incoming = loaded.leaves.get(leafKeyFor(packed));
+            if (incoming == null) continue;
+            int bit = bitIndexFor(packed);
+            long m = 1L << bit;
+            incoming.ts[bit] = -1L;
+            incoming.positiveTs &= ~m;
+            incoming.zeroTs &= ~m;
+            incoming.recomputeNeeds();
+        }
         var iter = loaded.leaves.long2ObjectEntrySet().fastIterator();
         while (iter.hasNext()) {
             var entry = iter.next();
@@ -927,12 +1025,18 @@ class ColumnStateMap {
                 this.entryCount += Long.bitCount(incoming.positiveTs | incoming.zeroTs);
                 continue;
             }
-            for (long bits = incoming.positiveTs | incoming.zeroTs; bits != 0; bits &= bits - 1) {
+            long bits = incoming.positiveTs | incoming.zeroTs;
+            if (liveWins) bits &= ~(live.positiveTs | live.zeroTs);
+            for (; bits != 0; bits &= bits - 1) {
                 int bit = Long.numberOfTrailingZeros(bits);
                 tsPut(live, bit, incoming.ts[bit]);
             }
             live.recomputeNeeds();
         }
+        if (liveWins) {
+            invalidateMemo();
+            return;
+        }
         // Corrupt-clamped file entries still overwrite (delete) any live stamp — the
         // file-wins contract (see LoadedState.clampedToAbsent). Absent leaves need
         // nothing: there is no live claim to delete.
@@ -982,7 +1086,10 @@ class ColumnStateMap {
             while (iter.hasNext()) {
                 var entry = iter.next();
                 Leaf leaf = entry.getValue();
-                for (long bits = leaf.positiveTs | leaf.zeroTs; bits != 0; bits &= bits - 1) {
+                // Coarse stamps never persist (see detachForSave) — skipped here, and
+                // queued as removals so a stale full-res file entry cannot outlive them.
+                for (long bits = (leaf.positiveTs | leaf.zeroTs) & ~leaf.coarse; bits != 0;
+                     bits &= bits - 1) {
                     int bit = Long.numberOfTrailingZeros(bits);
                     visitor.accept(positionFor(entry.getLongKey(), bit), leaf.ts[bit]);
                 }
@@ -1002,6 +1109,18 @@ class ColumnStateMap {
     DetachedState detachForSave() {
         var detachedLeaves = new Long2ObjectOpenHashMap<>(this.leaves);
         var detachedRemovals = this.persistentRemovals;
+        // Coarse (LOD-tier) stamps are session-only: persisted, a returning client would
+        // resync with them and draw an up_to_date that seals the coarse column at every
+        // distance. Dropping them — and any older full-res file entry beneath — makes
+        // the next session re-ask at its own distance-appropriate tier.
+        var iter = detachedLeaves.long2ObjectEntrySet().fastIterator();
+        while (iter.hasNext()) {
+            var entry = iter.next();
+            for (long bits = entry.getValue().coarse; bits != 0; bits &= bits - 1) {
+                detachedRemovals.add(positionFor(entry.getLongKey(),
+                        Long.numberOfTrailingZeros(bits)));
+            }
+        }
         int entries = this.entryCount;
         this.leaves.clear();
         this.persistentRemovals = new LongOpenHashSet();
@@ -1024,7 +1143,8 @@ class ColumnStateMap {
         while (iter.hasNext()) {
             var entry = iter.next();
             Leaf leaf = entry.getValue();
-            for (long bits = leaf.positiveTs | leaf.zeroTs; bits != 0; bits &= bits - 1) {
+            for (long bits = (leaf.positiveTs | leaf.zeroTs) & ~leaf.coarse; bits != 0;
+                 bits &= bits - 1) {
                 int bit = Long.numberOfTrailingZeros(bits);
                 map.put(positionFor(entry.getLongKey(), bit), leaf.ts[bit]);
             }
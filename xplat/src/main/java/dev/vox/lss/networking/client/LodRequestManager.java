@@ -4,6 +4,8 @@ import dev.vox.lss.api.LSSApi;
 import dev.vox.lss.common.LSSConstants;
 import dev.vox.lss.common.LSSLogger;
 import dev.vox.lss.common.PositionUtil;
+import dev.vox.lss.common.wire.WantSetWire;
+import dev.vox.lss.common.wire.WireFormatException;
 import dev.vox.lss.config.LSSClientConfig;
 import dev.vox.lss.networking.payloads.BatchChunkRequestC2SPayload;
 import dev.vox.lss.networking.payloads.SessionConfigS2CPayload;
@@ -69,6 +71,21 @@ public class LodRequestManager {
     // future put the whole per-entry apply (up to 2M un-presized hash inserts, est.
     // 100-300 ms) on the render thread in one tick (quadtree-client-state-plan.md A1).
     private volatile CompletableFuture<ColumnStateMap.LoadedState> pendingCacheLoad = null;
+    // Lazy tile loading (tiled cache v5): the cache tiles already requested for this
+    // dimension. A load covers the tiles within prune distance of the player; the gate
+    // requests the missing ones as the player moves (through the same pendingCacheLoad,
+    // so the failure/dirty/summary buffering below covers them too), and the movement
+    // prune forgets tiles wholly out of range so a return trip reloads them. Armed only
+    // by a real cache load — the gate tests' injected futures leave it off.
+    private final it.unimi.dsi.fastutil.longs.LongOpenHashSet loadedCacheTiles =
+            new it.unimi.dsi.fastutil.longs.LongOpenHashSet();
+    private boolean lazyCacheTiles = false;
+    // The pending load is a lazy tile load (not the dimension's first): it adopts
+    // live-wins, since the session's own answers may already cover its positions.
+    private boolean pendingCacheLoadIsLazy = false;
+    private int tileCheckCx;
+    private int tileCheckCz;
+    private int tileCheckRadius = -1;
     // Ingest failures reported while this dimension's cache load is still in flight: applied
     // against the not-yet-loaded map they are absorbed (onIngestFailed no-ops on an absent
     // entry) and loadFrom would then resurrect the stale ts>0 stamp from disk — a claim for
@@ -263,6 +280,10 @@ public class LodRequestManager {
         this.cacheLoaded = false;
         this.scanner.setConfig(config);
         this.scanner.reset();
+        // A new session's server holds no base: the first compact frame goes whole.
+        this.compactWantSets = (config.serverCapabilities()
+                & LSSConstants.CAPABILITY_COMPACT_WANT_SETS) != 0;
+        this.wantSetEncoder.reset();
     }
 
     /**
@@ -409,7 +430,7 @@ public class LodRequestManager {
             // one clear per halt episode. This is the ONLY producer of empty batches.
             if (!this.backpressureClearSent) {
                 this.backpressureClearSent = true;
-                sendClearBatch();
+                sendClearBatch(playerCx, playerCz);
             }
             return;
         }
@@ -420,10 +441,10 @@ public class LodRequestManager {
     }
 
     /** The explicit backpressure clear: an empty want-set replaces the server backlog with nothing. */
-    private void sendClearBatch() {
+    private void sendClearBatch(int playerCx, int playerCz) {
         if (ClientTraceLog.enabled()) ClientTraceLog.event("clear_batch", "");
         try {
-            this.batchSender.send(new BatchChunkRequestC2SPayload(new long[0], new long[0], 0));
+            declare(new long[0], new long[0], 0, playerCx, playerCz);
             // A real (empty) declaration went out — disarm the fast cadence with it. The
             // tracker is deliberately NOT replaced (late-status gating still wants the
             // pre-halt awaiting set), so without this the one declaration path that
@@ -446,11 +467,11 @@ public class LodRequestManager {
      *  coordinate scale centers the window correctly). First tick starts the initial load. */
     void tickDimensionAndCachePhase(ResourceKey<Level> currentDim, int playerCx, int playerCz) {
         if (this.lastDimension != null && !currentDim.equals(this.lastDimension)) {
-            this.onDimensionChange(currentDim);
+            this.onDimensionChange(currentDim, playerCx, playerCz);
             sendRegionSummaryRequest(currentDim, playerCx, playerCz);
         } else if (!this.cacheLoaded) {
             this.cacheLoaded = true;
-            startAsyncCacheLoad(currentDim);
+            startAsyncCacheLoad(currentDim, playerCx, playerCz);
             sendRegionSummaryRequest(currentDim, playerCx, playerCz);
         }
         this.lastDimension = currentDim;
@@ -488,6 +509,9 @@ public class LodRequestManager {
                 // Pruned in-flight requests will never get a tracked answer — drop their RTT
                 // stamps with them or they orphan toward the sampling cap.
                 this.metrics.pruneRttStampsOutOfRange(playerCx, playerCz, pruneDistance);
+                // Tiles whose leaves the prune just dropped reload on a return trip.
+                this.loadedCacheTiles.removeIf(tile ->
+                        ColumnCacheStore.tileOutOfRange(tile, playerCx, playerCz, pruneDistance));
                 this.lastPruneChunkX = playerCx;
                 this.lastPruneChunkZ = playerCz;
             }
@@ -542,7 +566,7 @@ public class LodRequestManager {
             try {
                 var loaded = this.pendingCacheLoad.getNow(null);
                 if (loaded != null && this.lastDimension != null) {
-                    this.columns.adoptLoaded(loaded);
+                    this.columns.adoptLoaded(loaded, this.pendingCacheLoadIsLazy);
                 }
             } catch (Exception ignored) {}
             this.pendingCacheLoad = null;
@@ -580,6 +604,33 @@ public class LodRequestManager {
                 onRegionSummaryFrame(frame);
             }
         }
+        return !requestMissingCacheTiles();
+    }
+
+    /**
+     * Lazy tile loading: when the player's position or prune distance changed since the last
+     * check, request the cache tiles the prune disc now reaches that no load has covered.
+     * Returns true when a load was started (the gate holds scanning until it lands — a
+     * position in an unloaded tile would otherwise be asked as a cold -1).
+     */
+    private boolean requestMissingCacheTiles() {
+        if (!this.lazyCacheTiles || this.serverAddress == null || this.lastDimension == null) return false;
+        int radius = this.scanner.getPruneDistance();
+        if (this.tileCheckCx == this.lastChunkX && this.tileCheckCz == this.lastChunkZ
+                && this.tileCheckRadius == radius) {
+            return false;
+        }
+        this.tileCheckCx = this.lastChunkX;
+        this.tileCheckCz = this.lastChunkZ;
+        this.tileCheckRadius = radius;
+        var missing = new it.unimi.dsi.fastutil.longs.LongArrayList();
+        for (long tile : ColumnCacheStore.tilesCovering(this.lastChunkX, this.lastChunkZ, radius)) {
+            if (this.loadedCacheTiles.add(tile)) missing.add(tile);
+        }
+        if (missing.isEmpty()) return false;
+        this.pendingCacheLoad = ColumnCacheStore.loadStateAsync(this.serverAddress, this.lastDimension,
+                missing.toLongArray());
+        this.pendingCacheLoadIsLazy = true;
         return true;
     }
 
@@ -627,7 +678,8 @@ public class LodRequestManager {
             // failed send before the next tick's predicate can read it).
             this.scanner.noteDeclared(scanned);
             if (scanned > 0) {
-                sendRequests(this.sendPositionBuffer, this.sendTimestampBuffer, scanned);
+                sendRequests(this.sendPositionBuffer, this.sendTimestampBuffer, scanned,
+                        playerCx, playerCz);
             }
         }
         return scanned;
@@ -642,7 +694,52 @@ public class LodRequestManager {
 
     private BatchSender batchSender = payload -> dev.vox.lss.platform.LoaderServices.get().sendToServer(payload);
 
-    private void sendRequests(long[] positionBuffer, long[] timestampBuffer, int count) {
+    /** Compact want-set transport ({@link LSSConstants#CAPABILITY_COMPACT_WANT_SETS}).
+     *  Seam for tests; production default sends the raw-body carrier. */
+    interface WantSetSender {
+        void send(byte[] body);
+    }
+
+    private WantSetSender wantSetSender = body -> dev.vox.lss.platform.LoaderServices.get()
+            .sendToServer(new dev.vox.lss.networking.payloads.WantSetC2SPayload(body));
+    /** Sequence numbers and the last declaration the server holds as the next diff's base.
+     *  Reset with every session config and after a failed send (the server may not hold
+     *  what the encoder thinks it sent), so the next frame goes whole. */
+    private final WantSetWire.Encoder wantSetEncoder = new WantSetWire.Encoder();
+    /** The server acknowledged compact want-sets in this session's config. */
+    private boolean compactWantSets;
+
+    /**
+     * One declaration onto the wire: the compact frame when the server acknowledged it,
+     * else the legacy batch. A declaration the compact codec refuses (a timestamp its
+     * delta cannot carry) goes out legacy — same replace semantics, and the encoder's
+     * base is untouched, so the next compact diff still describes the whole set.
+     */
+    private void declare(long[] positions, long[] timestamps, int count,
+                         int anchorX, int anchorZ) {
+        if (this.compactWantSets) {
+            byte[] body = null;
+            try {
+                body = this.wantSetEncoder.encode(anchorX, anchorZ, positions, timestamps, count);
+            } catch (WireFormatException e) {
+                LSSLogger.debug("Want-set not compactable, sending the legacy batch: "
+                        + e.getMessage());
+            }
+            if (body != null) {
+                try {
+                    this.wantSetSender.send(body);
+                } catch (RuntimeException e) {
+                    this.wantSetEncoder.reset();
+                    throw e;
+                }
+                return;
+            }
+        }
+        this.batchSender.send(new BatchChunkRequestC2SPayload(positions, timestamps, count));
+    }
+
+    private void sendRequests(long[] positionBuffer, long[] timestampBuffer, int count,
+                              int anchorX, int anchorZ) {
         // Snapshot to exact-length arrays: BatchChunkRequestC2SPayload's StreamCodec reads
         // these lazily when the connection encodes on the netty event loop, which races the
         // next scan overwriting the reused sendPositionBuffer/sendTimestampBuffer. The
@@ -661,7 +758,7 @@ public class LodRequestManager {
             }
         }
         try {
-            this.batchSender.send(new BatchChunkRequestC2SPayload(positions, timestamps, count));
+            declare(positions, timestamps, count, anchorX, anchorZ);
             this.declaredColumnsCumulative += count; // the governor's offer-backing input
             long nowMs = System.currentTimeMillis();
             for (int i = 0; i < count; i++) {
@@ -711,6 +808,13 @@ public class LodRequestManager {
      */
     public boolean onColumnReceived(long packed, long columnTimestamp, ResourceKey<Level> dimension,
                                  boolean authoritativeClear, byte source) {
+        return onColumnReceived(packed, columnTimestamp, dimension, authoritativeClear, source, 0);
+    }
+
+    /** @param tier the frame's LOD tier (0 = full resolution) — recorded so the scanner's
+     *         refinement rung re-asks a finer tier when the player closes in. */
+    public boolean onColumnReceived(long packed, long columnTimestamp, ResourceKey<Level> dimension,
+                                 boolean authoritativeClear, byte source, int tier) {
         // A column from another dimension is discarded by the dispatch drain
         // (ClientColumnProcessor filters on level.dimension()), so stamping it here would
         // mark the position SATISFIED in the current dimension's map with no data delivered.
@@ -742,10 +846,11 @@ public class LodRequestManager {
             ClientTraceLog.event("col", "\"pos\":[" + cx + "," + cz
                     + "],\"ring\":" + Math.max(Math.abs(cx - this.lastChunkX), Math.abs(cz - this.lastChunkZ))
                     + ",\"ts\":" + columnTimestamp
-                    + ",\"src\":" + source + (authoritativeClear ? ",\"clear\":true" : ""));
+                    + ",\"src\":" + source + (tier != 0 ? ",\"tier\":" + tier : "")
+                    + (authoritativeClear ? ",\"clear\":true" : ""));
         }
         this.tracker.removeByPosition(packed);
-        this.columns.onReceived(packed, columnTimestamp);
+        this.columns.onReceived(packed, columnTimestamp, tier);
         if (authoritativeClear) this.columns.markAuthoritativeClear(packed, preClearStamp);
         consumeStaleCrossing(packed); // a dirty that crossed this in-flight first serve forces a re-request
         this.metrics.recordColumnReceived(packed, System.currentTimeMillis()); // RTT sample + counter
@@ -1067,7 +1172,7 @@ public class LodRequestManager {
         this.metrics.recordUpToDate();
     }
 
-    private void onDimensionChange(ResourceKey<Level> newDimension) {
+    private void onDimensionChange(ResourceKey<Level> newDimension, int playerCx, int playerCz) {
         if (ClientTraceLog.enabled()) {
             ClientTraceLog.event("dim_change", "\"to\":\"" + newDimension.identifier() + "\"");
         }
@@ -1091,7 +1196,7 @@ public class LodRequestManager {
         this.lastPruneChunkZ = this.lastChunkZ;
         this.scanner.resetScanCounter();
         this.cacheLoaded = true;
-        startAsyncCacheLoad(newDimension);
+        startAsyncCacheLoad(newDimension, playerCx, playerCz);
     }
 
     private void resetRequestState() {
@@ -1100,10 +1205,21 @@ public class LodRequestManager {
         this.metrics.reset();
     }
 
-    private void startAsyncCacheLoad(ResourceKey<Level> dimension) {
+    /** The dimension's first load: the cache tiles within prune distance of the player.
+     *  The rest load lazily as the player moves ({@link #requestMissingCacheTiles}). */
+    private void startAsyncCacheLoad(ResourceKey<Level> dimension, int playerCx, int playerCz) {
         this.failuresDuringCacheLoad.clear(); // per-dimension buffer; a new load starts clean
         this.dirtyDuringCacheLoad.clear();     // same scope — old-dimension notices are stale
-        this.pendingCacheLoad = ColumnCacheStore.loadStateAsync(this.serverAddress, dimension);
+        int radius = this.scanner.getPruneDistance();
+        long[] tiles = ColumnCacheStore.tilesCovering(playerCx, playerCz, radius);
+        this.loadedCacheTiles.clear();
+        this.loadedCacheTiles.addAll(it.unimi.dsi.fastutil.longs.LongArrayList.wrap(tiles));
+        this.lazyCacheTiles = true;
+        this.tileCheckCx = playerCx;
+        this.tileCheckCz = playerCz;
+        this.tileCheckRadius = radius;
+        this.pendingCacheLoad = ColumnCacheStore.loadStateAsync(this.serverAddress, dimension, tiles);
+        this.pendingCacheLoadIsLazy = false;
     }
 
     public void disconnect() {
@@ -1151,6 +1267,8 @@ public class LodRequestManager {
             ColumnCacheStore.clearForServer(this.serverAddress);
         }
         this.pendingCacheLoad = null; // drop any in-flight load — its pre-clear result would resurrect flushed timestamps
+        this.loadedCacheTiles.clear(); // ...and with it any claim that a tile was loaded
+        this.tileCheckRadius = -1;
         this.pendingSummaryFrame = null; // a frame buffered for the pre-flush state dies with it
         this.failuresDuringCacheLoad.clear();
         this.dirtyDuringCacheLoad.clear();
@@ -1172,13 +1290,27 @@ public class LodRequestManager {
     /** Replace the batch send transport (production default sends via Fabric networking). */
     void setBatchSenderForTest(BatchSender sender) { this.batchSender = sender; }
 
+    /** Replace the compact want-set transport (production default sends the raw-body carrier). */
+    void setWantSetSenderForTest(WantSetSender sender) { this.wantSetSender = sender; }
+
     /** Inject a cache-load future to drive the cache gate without real cache IO. Keeps
      *  the historical raw-map signature; the leaf build happens on whatever thread
      *  completes the future (tests are single-threaded and small). */
     void setPendingCacheLoadForTest(CompletableFuture<Long2LongOpenHashMap> future) {
         this.pendingCacheLoad = future.thenApply(ColumnStateMap::buildLoaded);
+        this.pendingCacheLoadIsLazy = false;
     }
 
+    /** Arm lazy tile loading as a real dimension load would, without issuing that load —
+     *  the gate then requests the tiles around the player from {@code serverAddress}. */
+    void armLazyCacheTilesForTest() {
+        this.loadedCacheTiles.clear();
+        this.lazyCacheTiles = true;
+        this.tileCheckRadius = -1;
+    }
+
+    it.unimi.dsi.fastutil.longs.LongOpenHashSet loadedCacheTilesForTest() { return this.loadedCacheTiles; }
+
     /** Skip the first-tick async cache load — tick-phase tests drive the gate explicitly. */
     void markCacheLoadedForTest() { this.cacheLoaded = true; }
 
@@ -1207,6 +1339,12 @@ public class LodRequestManager {
      * (nothing held) does not.
      */
     public boolean heldContentBefore(long packed) { return this.columns.timestampFor(packed) > 0; }
+    /** Whether the held copy is the full-resolution one stamped {@code base} — the only
+     *  copy a section delta built against {@code base} may be applied over. */
+    public boolean holdsDeltaBase(long packed, long base) {
+        return base > 0 && this.columns.timestampFor(packed) == base
+                && this.columns.heldTier(packed) == 0;
+    }
 
     public int getReceivedColumnCount() { return this.columns.receivedCount(); }
     public int getEmptyColumnCount() { return this.columns.emptyCount(); }
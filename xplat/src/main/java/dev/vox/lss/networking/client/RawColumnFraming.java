@@ -0,0 +1,72 @@
+package dev.vox.lss.networking.client;
+
+import dev.vox.lss.common.LSSConstants;
+import dev.vox.lss.common.LSSLogger;
+import dev.vox.lss.mixin.AccessorConnection;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import net.minecraft.client.Minecraft;
+
+/**
+ * Client half of the connection-compression bypass
+ * ({@link LSSConstants#CAPABILITY_RAW_COLUMN_FRAMING}; the server half is
+ * {@code FabricColumnFramingBypass}). One inbound handler ahead of vanilla's
+ * {@code decompress} takes every frame whose data-length header is 0 ("not compressed")
+ * and hands the body straight to the packet decoder — exactly what vanilla does with such
+ * a frame, minus any size validation a replaced decompressor might apply to a zstd column
+ * frame the server sent past zlib at full size. Compressed frames pass through untouched.
+ *
+ * <p>The bit is declared only when the handler is in the pipeline: an integrated server's
+ * local channel has no compressor, and then nothing is declared (or needed).
+ */
+public final class RawColumnFraming {
+
+    /** Vanilla's pipeline name ({@code net.minecraft.network.HandlerNames.DECOMPRESS}). */
+    static final String DECOMPRESS = "decompress";
+    static final String HANDLER = "lss_raw_frames";
+
+    private static volatile boolean warned;
+
+    private RawColumnFraming() {}
+
+    /** Installs the handler on the current server connection (once) and returns the bit
+     *  to OR into the handshake, or 0 when it could not be installed. Client thread. */
+    public static int capabilityBit() {
+        try {
+            var listener = Minecraft.getInstance().getConnection();
+            if (listener == null) return 0;
+            var channel = ((AccessorConnection) listener.getConnection()).lss$getChannel();
+            if (channel == null) return 0;
+            var pipeline = channel.pipeline();
+            if (pipeline.get(HANDLER) == null) {
+                if (pipeline.get(DECOMPRESS) == null) return 0;
+                pipeline.addBefore(DECOMPRESS, HANDLER, new Handler());
+            }
+            return LSSConstants.CAPABILITY_RAW_COLUMN_FRAMING;
+        } catch (Throwable t) {
+            if (!warned) {
+                warned = true;
+                LSSLogger.warn("Raw column framing unavailable (" + t + ") — LOD columns"
+                        + " stay inside the connection compression");
+            }
+            return 0;
+        }
+    }
+
+    private static final class Handler extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            if (msg instanceof ByteBuf frame && frame.isReadable()
+                    && frame.getByte(frame.readerIndex()) == 0) {
+                var decompress = ctx.pipeline().context(DECOMPRESS);
+                if (decompress != null) {
+                    frame.skipBytes(1);
+                    decompress.fireChannelRead(frame);
+                    return;
+                }
+            }
+            ctx.fireChannelRead(msg);
+        }
+    }
+}
@@ -29,8 +29,8 @@ class SpiralScanner {
     /**
      * Adaptive cadence (docs/planning/adaptive-scan-cadence-design.md): minimum ticks
      * between consecutive fires — 5 ticks = 250 ms, capping the fast cadence at 4 Hz. Bounds
-     * the worst-case C2S declaration rate (and its ~12.8 KB/batch upstream cost) and the
-     * render-thread walk rate.
+     * the worst-case C2S declaration rate (and its ~12.8 KB/batch legacy upstream cost — a
+     * compact want-set diff is a few hundred bytes) and the render-thread walk rate.
      */
     static final int FAST_RESCAN_MIN_INTERVAL_TICKS = 5;
     /**
@@ -155,6 +155,14 @@ class SpiralScanner {
      *  store's lever). */
     BooleanSupplier quadtreeScanEnabled =
             () -> LSSClientConfig.CONFIG.enableQuadtreeScan;
+    /** LOD-tier start distance seam ({@code lodTierStartChunks}; 0 = off). Beyond it a
+     *  no-data ask declares the ring's coarse tier
+     *  ({@link LSSConstants#lodTierForRing}), and a held column coarser than its ring
+     *  now wants gets a refinement ask — see the tier rungs in {@link #scan}. */
+    IntSupplier lodTierStart = () -> LSSClientConfig.CONFIG.lodTierStartChunks;
+    /** The tier start the last walk used — a change resets the prefix (the lodDistance
+     *  rung's twin: confirmed rings were judged against the old boundaries). */
+    private int lastTierStart = -1;
     /** Rings the fast path confirmed without a position walk — session diagnostic
      *  (diag {@code ring_skips=}, exporter {@code scan.quad_ring_skips}). */
     private long quadRingSkips;
@@ -676,6 +684,13 @@ class SpiralScanner {
         }
         this.lastLodDistance = lodDistance;
 
+        int tierStart = this.lodTierStart.getAsInt();
+        if (this.lastTierStart >= 0 && tierStart != this.lastTierStart) {
+            this.confirmedRing = 0;
+            clearAllReopened();
+        }
+        this.lastTierStart = tierStart;
+
         // A SHRUNK exclusion radius (render distance lowered) resets the prefix once: the
         // rings between the new and old radius confirmed while vanilla rendered them and
         // would otherwise never be walked again for a stationary player (2026-08-05 review
@@ -744,7 +759,8 @@ class SpiralScanner {
             // positions. Any needs bit in any crossed leaf (even off-ring) falls through
             // to the per-position walk below, so emission order, budget accounting, and
             // confirmation stay bit-identical to the legacy walk (the differential pin).
-            if (quad && ringSize > 0 && columns.ringNeedsFree(playerCx, playerCz, r)) {
+            int wantTier = LSSConstants.lodTierForRing(r, tierStart);
+            if (quad && ringSize > 0 && columns.ringNeedsFree(playerCx, playerCz, r, wantTier)) {
                 this.quadRingSkips++;
                 if (reopenedBelowPrefix) {
                     reopenedClearBit(r);
@@ -787,7 +803,19 @@ class SpiralScanner {
                 // until its data actually arrives — confirmedRing lags the frontier by the
                 // in-flight window, and satisfied positions skip free, so the walk stays cheap.
                 long ts = columns.classify(packed);
-                if (ts == ColumnStateMap.SATISFIED) continue;
+                // Tier rungs (LodTierDownsampler). Refinement: a satisfied position
+                // holding a column COARSER than its ring now wants re-asks as no-data at
+                // the wanted tier (a coarse column never claims the finer content). A
+                // coarse position's resync (dirty) asks the same way — a stamp resync
+                // would draw full resolution, or an up_to_date that keeps it coarse.
+                int heldTier = columns.heldTier(packed);
+                if (ts == ColumnStateMap.SATISFIED) {
+                    if (heldTier <= wantTier) continue;
+                    ts = -1L;
+                } else if (heldTier > 0) {
+                    ts = -1L;
+                }
+                if (ts == -1L && wantTier > 0) ts = LSSConstants.lodTierAskTimestamp(wantTier);
 
                 ringFullySatisfied = false;
                 posOut[count] = packed;
@@ -872,6 +900,7 @@ class SpiralScanner {
         this.scanRing = 0;
         this.lastExclusionRadius = -1; // next session re-anchors; no spurious shrink reset
         this.lastLodDistance = -1;     // ...same for the lod-shrink rung
+        this.lastTierStart = -1;       // ...and the tier-start rung
         this.lastWalkTruncated = false; // fresh session predicts the full disc — fail closed
         this.scanTickCounter = LSSConstants.TICKS_PER_SECOND - 1;
         this.missingVanillaChunks = Integer.MAX_VALUE;
@@ -900,6 +929,7 @@ class SpiralScanner {
         this.recenteredSinceLastFire = false;
         this.truncatedBelowPrefix = false;
         this.lastLodDistance = -1;
+        this.lastTierStart = -1;
     }
 
     /** Movement re-center: adjust the scan state for a Chebyshev crossing of {@code d}
@@ -962,6 +992,19 @@ class SpiralScanner {
         for (int r = low; r <= high; r++) {
             reopenRing(r, lod); // ≥prefix skip + overflow valve inside
         }
+        // LOD-tier boundary bands: a position that crossed INWARD over a tier boundary
+        // now wants a finer tier, and lies on rings [b-d, b] of the new center — inside
+        // the retained prefix, so without a reopen its refinement ask would wait for the
+        // next prefix collapse.
+        int tierStart = this.lodTierStart.getAsInt();
+        if (tierStart > 0) {
+            for (int t = 1; t <= LSSConstants.LOD_TIER_MAX; t++) {
+                int boundary = tierStart << (t - 1);
+                for (int r = Math.max(0, boundary - d); r <= boundary; r++) {
+                    reopenRing(r, lod);
+                }
+            }
+        }
     }
 
 
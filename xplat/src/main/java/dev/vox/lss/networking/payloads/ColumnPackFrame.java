@@ -0,0 +1,82 @@
+package dev.vox.lss.networking.payloads;
+
+import dev.vox.lss.common.LSSConstants;
+import dev.vox.lss.common.wire.ColumnPackWire;
+
+import java.util.Arrays;
+
+/**
+ * Client side of one packed-columns frame ({@link LSSConstants#CHANNEL_COLUMN_PACK}):
+ * the compressed frame shared by every member payload
+ * ({@link VoxelColumnS2CPayload#packMember}). The first member the decode drain reaches
+ * decompresses the whole frame — off the netty thread, under the same bomb guard and
+ * exact-size discipline as a single codec-1/2 column — and each member takes a copy of
+ * its own slice. A throw fails the member that hit it into the usual ingest-failure
+ * re-ask; the next member retries, so one corrupt frame fails every member the same way.
+ */
+public final class ColumnPackFrame {
+
+    private final byte codec;
+    private final byte[] frame;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final int total;
+    /** Decompressed members, dropped once every member has taken its slice. */
+    private byte[] raw;
+    private int taken;
+
+    /** {@code pack} has passed {@link ColumnPackWire#decode}: codec 1 or 2, lengths
+     *  positive and summing to at most {@link LSSConstants#MAX_SECTIONS_SIZE}. */
+    public ColumnPackFrame(ColumnPackWire.Pack pack) {
+        this.codec = pack.codec();
+        this.frame = pack.frame();
+        this.total = (int) pack.totalRawLength();
+        var members = pack.members();
+        this.offsets = new int[members.length];
+        this.lengths = new int[members.length];
+        int offset = 0;
+        for (int i = 0; i < members.length; i++) {
+            this.offsets[i] = offset;
+            this.lengths[i] = members[i].rawLength();
+            offset += this.lengths[i];
+        }
+    }
+
+    public byte codec() { return this.codec; }
+
+    /** The shared compressed frame (the members' {@code shippedSections}). */
+    public byte[] frame() { return this.frame; }
+
+    /** Member {@code index}'s share of the shipped frame — the {@code wire_bytes} input,
+     *  so a pack's members sum to what actually crossed the wire. */
+    public int wireShare(int index) {
+        return (int) ((long) this.frame.length * this.lengths[index] / this.total);
+    }
+
+    /** Member {@code index}'s raw v20 body (decode worker). Throws on any zstd failure
+     *  or a frame whose content size is not exactly the members' total. */
+    public synchronized byte[] member(int index) {
+        if (this.raw == null) {
+            if (this.taken == this.offsets.length) {
+                throw new IllegalStateException("pack member " + index + " taken twice");
+            }
+            long declared = ZstdWireSupport.declaredContentSize(this.frame);
+            if (declared != this.total) {
+                throw new IllegalStateException("pack frame declares " + declared
+                        + " bytes, members total " + this.total);
+            }
+            byte[] out = this.codec == LSSConstants.COLUMN_CODEC_ZSTD_DICT
+                    ? ZstdWireSupport.decompressWithDictionary(this.frame, this.total)
+                    : ZstdWireSupport.decompress(this.frame, this.total);
+            if (out.length != this.total) {
+                throw new IllegalStateException("pack frame decompressed to " + out.length
+                        + " bytes, declared " + this.total);
+            }
+            this.raw = out;
+        }
+        byte[] body = Arrays.copyOfRange(this.raw, this.offsets[index],
+                this.offsets[index] + this.lengths[index]);
+        if (++this.taken == this.offsets.length) this.raw = null;
+        return body;
+    }
+}
@@ -0,0 +1,35 @@
+package dev.vox.lss.networking.payloads;
+
+import dev.vox.lss.common.LSSConstants;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.Identifier;
+
+/**
+ * Packed columns ({@link LSSConstants#CAPABILITY_PACKED_COLUMNS}): S2C frame carrying
+ * several adjacent columns under one zstd frame. The BODY is an opaque
+ * {@code dev.vox.lss.common.wire.ColumnPackWire} byte[] — one shared codec, two platform
+ * carriers (the column-stamps pattern). This wrapper adds NO framing beyond the raw body;
+ * decode is bounds-checked in ColumnPackWire, not here.
+ */
+public record ColumnPackS2CPayload(byte[] body) implements CustomPacketPayload {
+
+    public static final CustomPacketPayload.Type<ColumnPackS2CPayload> TYPE =
+            new CustomPacketPayload.Type<>(Identifier.parse(LSSConstants.CHANNEL_COLUMN_PACK));
+
+    public static final StreamCodec<FriendlyByteBuf, ColumnPackS2CPayload> CODEC =
+            StreamCodec.of(
+                    (buf, payload) -> buf.writeBytes(payload.body),
+                    buf -> {
+                        byte[] body = new byte[buf.readableBytes()];
+                        buf.readBytes(body);
+                        return new ColumnPackS2CPayload(body);
+                    }
+            );
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -20,6 +20,12 @@ import net.minecraft.resources.Identifier;
  * flag is off the encode is byte-identical to the pre-compat 4-field layout (pinned by
  * the wire tests). The v18 compat rung needs no shape of its own here — it is the SAME
  * 4-field encode with the version value 18 (the encoder never branches on the value).
+ *
+ * <p><b>Server capabilities:</b> a version-20 frame may carry one more VarInt after the
+ * data version — the C2S shapes the server accepts
+ * ({@link LSSConstants#CAPABILITY_COMPACT_WANT_SETS}). It is written only when nonzero,
+ * which the server grants only to clients that declared the bit, so a client that never
+ * asked never sees a byte it does not read.
  */
 public record SessionConfigS2CPayload(
         int protocolVersion,
@@ -29,7 +35,8 @@ public record SessionConfigS2CPayload(
         int legacySyncCap,
         int legacyGenCap,
         boolean v16Wire,
-        int serverDataVersion
+        int serverDataVersion,
+        int serverCapabilities
 ) implements CustomPacketPayload {
 
     /** Canonical current-protocol shape (the only one the client ever decodes). The
@@ -38,9 +45,17 @@ public record SessionConfigS2CPayload(
      *  their strict 4-field clients would hard-kick on a trailing byte. */
     public SessionConfigS2CPayload(int protocolVersion, boolean enabled,
                                    int lodDistanceChunks, boolean generationEnabled,
-                                   int serverDataVersion) {
+                                   int serverDataVersion, int serverCapabilities) {
         this(protocolVersion, enabled, lodDistanceChunks, generationEnabled, 0, 0, false,
-                serverDataVersion);
+                serverDataVersion, serverCapabilities);
+    }
+
+    /** No server capabilities: the reply to a client that declared none of them. */
+    public SessionConfigS2CPayload(int protocolVersion, boolean enabled,
+                                   int lodDistanceChunks, boolean generationEnabled,
+                                   int serverDataVersion) {
+        this(protocolVersion, enabled, lodDistanceChunks, generationEnabled,
+                serverDataVersion, 0);
     }
 
     /** Test/legacy convenience: no data version (encodes without the append for any
@@ -57,7 +72,7 @@ public record SessionConfigS2CPayload(
                                                     int syncCap, int genCap,
                                                     boolean generationEnabled) {
         return new SessionConfigS2CPayload(LSSConstants.V16_COMPAT_PROTOCOL_VERSION, enabled,
-                lodDistanceChunks, generationEnabled, syncCap, genCap, true, 0);
+                lodDistanceChunks, generationEnabled, syncCap, genCap, true, 0, 0);
     }
 
     public static final CustomPacketPayload.Type<SessionConfigS2CPayload> TYPE =
@@ -82,6 +97,9 @@ public record SessionConfigS2CPayload(
                             // per-frame on the leading version, so ONLY the version-20
                             // arm reads this — the v19/v18 echoes must stay 4-field.
                             buf.writeVarInt(payload.serverDataVersion);
+                            if (payload.serverCapabilities != 0) {
+                                buf.writeVarInt(payload.serverCapabilities);
+                            }
                         }
                     },
                     buf -> {
@@ -110,8 +128,11 @@ public record SessionConfigS2CPayload(
                             // Tolerate absence (a same-version peer built pre-append —
                             // dev-window frames): absent decodes as 0 = unknown.
                             int dataVersion = buf.isReadable() ? buf.readVarInt() : 0;
+                            // Present only when the server granted something this client
+                            // declared; absent is "legacy C2S shapes only".
+                            int serverCaps = buf.isReadable() ? buf.readVarInt() : 0;
                             return new SessionConfigS2CPayload(version, enabled, lodDist,
-                                    genEnabled, dataVersion);
+                                    genEnabled, dataVersion, serverCaps);
                         }
                         if (version == LSSConstants.V16_COMPAT_PROTOCOL_VERSION) {
                             // Client v16 backward compat: an old server's 6-field layout — the
@@ -1,6 +1,9 @@
 package dev.vox.lss.networking.payloads;
 
 import dev.vox.lss.common.LSSConstants;
+import dev.vox.lss.common.wire.ColumnPackWire;
+import dev.vox.lss.common.wire.SectionDelta;
+import dev.vox.lss.common.wire.WireFormatException;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.codec.StreamCodec;
@@ -15,7 +18,8 @@ import net.minecraft.world.level.Level;
  * Since protocol 19 the section bytes carry a one-byte codec tag
  * ({@code COLUMN_CODEC_RAW}/{@code COLUMN_CODEC_ZSTD} — compressed-columns-design.md):
  * codec 1 ships a zstd-1 frame of the raw section bytes, decompressed off-thread by
- * {@code ClientColumnProcessor}; codec 0 ships raw bytes as before (Minecraft's
+ * {@code ClientColumnProcessor}, and codec 2 the same against the shared column
+ * dictionary; codec 0 ships raw bytes as before (Minecraft's
  * connection zlib still wraps either transparently). Unknown codec values are accepted
  * at decode (the section array is length-prefixed, so alignment is safe) and rejected
  * at the drain through the ingest-failure path — NOT the source tag's pass-through
@@ -70,6 +74,25 @@ public final class VoxelColumnS2CPayload implements CustomPacketPayload {
      *  each queued column decoding under the dialect its bytes were produced for.
      *  Server-built payloads always stamp false (never consulted server-side). */
     private final boolean nativeBodyAtDecode;
+    /** LOD tier of the shipped body (0 = full resolution; see
+     *  {@link LSSConstants#LOD_TIER_MAX}). Written as a TRAILING byte only when nonzero,
+     *  so a full-res frame is byte-identical to the pre-tier layout; a nonzero tier is
+     *  only ever served in answer to a tier ask, which only tier-aware clients send, so
+     *  no client that would reject the extra byte ever receives one. */
+    private final int tier;
+    /** Section-delta base (0 = an ordinary whole-column body): the column timestamp the
+     *  recipient's held copy must carry for {@link #keep} to apply. Written, with the
+     *  keep map, after the tier byte (then always present) — only ever to sessions that
+     *  declared {@code CAPABILITY_SECTION_DELTAS}. */
+    private final long deltaBase;
+    /** Which held section Ys a delta leaves as they are; null on a whole-column body, or
+     *  on a delta whose map failed to decode (the drain reports that as ingest failure). */
+    private final SectionDelta.Keep keep;
+    /** CLIENT-only: the packed-columns frame this member came out of, or null for a
+     *  column that arrived on its own frame. A member's {@link #shippedSections} is the
+     *  shared pack frame; its body is {@code packFrame.member(packIndex)}. */
+    private final ColumnPackFrame packFrame;
+    private final int packIndex;
 
     /** Source-less convenience (tests/legacy rigs): tags the column with source -1
      *  ("unknown"), a legal wire value the client passes through verbatim. Production
@@ -99,18 +122,48 @@ public final class VoxelColumnS2CPayload implements CustomPacketPayload {
                 rawSize, WireShape.CURRENT);
     }
 
+    /** As the full server-build constructor, for a downsampled LOD-tier body. */
+    public VoxelColumnS2CPayload(int chunkX, int chunkZ,
+                                  ResourceKey<Level> dimension, long columnTimestamp,
+                                  byte source, byte codec, byte[] sectionBytes, int rawSize,
+                                  int tier) {
+        this(chunkX, chunkZ, dimension, columnTimestamp, source, codec, sectionBytes,
+                rawSize, WireShape.CURRENT, false, tier, 0L, null);
+    }
+
+    /** As the tier constructor, for a section-delta body ({@code deltaBase != 0} with a
+     *  non-null {@code keep}; 0/null builds an ordinary frame). */
+    public VoxelColumnS2CPayload(int chunkX, int chunkZ,
+                                  ResourceKey<Level> dimension, long columnTimestamp,
+                                  byte source, byte codec, byte[] sectionBytes, int rawSize,
+                                  int tier, long deltaBase, SectionDelta.Keep keep) {
+        this(chunkX, chunkZ, dimension, columnTimestamp, source, codec, sectionBytes,
+                rawSize, WireShape.CURRENT, false, tier, keep == null ? 0L : deltaBase, keep);
+    }
+
     private VoxelColumnS2CPayload(int chunkX, int chunkZ,
                                   ResourceKey<Level> dimension, long columnTimestamp,
                                   byte source, byte codec, byte[] sectionBytes, int rawSize,
                                   WireShape wireShape) {
         this(chunkX, chunkZ, dimension, columnTimestamp, source, codec, sectionBytes,
-                rawSize, wireShape, false);
+                rawSize, wireShape, false, 0, 0L, null);
+    }
+
+    private VoxelColumnS2CPayload(int chunkX, int chunkZ,
+                                  ResourceKey<Level> dimension, long columnTimestamp,
+                                  byte source, byte codec, byte[] sectionBytes, int rawSize,
+                                  WireShape wireShape, boolean nativeBodyAtDecode, int tier,
+                                  long deltaBase, SectionDelta.Keep keep) {
+        this(chunkX, chunkZ, dimension, columnTimestamp, source, codec, sectionBytes, rawSize,
+                wireShape, nativeBodyAtDecode, tier, deltaBase, keep, null, 0);
     }
 
     private VoxelColumnS2CPayload(int chunkX, int chunkZ,
                                   ResourceKey<Level> dimension, long columnTimestamp,
                                   byte source, byte codec, byte[] sectionBytes, int rawSize,
-                                  WireShape wireShape, boolean nativeBodyAtDecode) {
+                                  WireShape wireShape, boolean nativeBodyAtDecode, int tier,
+                                  long deltaBase, SectionDelta.Keep keep,
+                                  ColumnPackFrame packFrame, int packIndex) {
         this.chunkX = chunkX;
         this.chunkZ = chunkZ;
         this.dimension = dimension;
@@ -121,6 +174,24 @@ public final class VoxelColumnS2CPayload implements CustomPacketPayload {
         this.rawSize = rawSize;
         this.wireShape = wireShape;
         this.nativeBodyAtDecode = nativeBodyAtDecode;
+        this.tier = tier;
+        this.deltaBase = deltaBase;
+        this.keep = keep;
+        this.packFrame = packFrame;
+        this.packIndex = packIndex;
+    }
+
+    /** Client-side member {@code index} of a decoded pack: a full-resolution whole
+     *  column whose raw size is the member's declared length (validated against the
+     *  section cap at pack decode) and whose body the decode drain takes from
+     *  {@code frame}. Stamped with the decode-time dialect like {@link #read}. */
+    public static VoxelColumnS2CPayload packMember(ResourceKey<Level> dimension,
+                                                   ColumnPackWire.Member member,
+                                                   ColumnPackFrame frame, int index) {
+        return new VoxelColumnS2CPayload(member.chunkX(), member.chunkZ(), dimension,
+                member.timestamp(), member.source(), frame.codec(), frame.frame(),
+                member.rawLength(), WireShape.CURRENT, V16ClientWire.isNativeBodySession(),
+                0, 0L, null, frame, index);
     }
 
     /** See the field doc: the decode-time native-body dialect stamp (client only). */
@@ -159,12 +230,31 @@ public final class VoxelColumnS2CPayload implements CustomPacketPayload {
     public byte source() { return source; }
 
     /** Codec tag (COLUMN_CODEC_*): how {@link #shippedSections()} must be read. Values
-     *  outside {0,1} are rejected at the decode drain (ingest-failure), never here. */
+     *  outside {0,1,2} are rejected at the decode drain (ingest-failure), never here. */
     public byte codec() { return codec; }
 
-    /** The shipped section bytes: raw for codec 0, a zstd-1 frame for codec 1. */
+    /** The shipped section bytes: raw for codec 0, a zstd-1 frame for codec 1, a
+     *  dictionary zstd-1 frame for codec 2. */
     public byte[] shippedSections() { return sectionBytes; }
 
+    /** LOD tier of the body (0 = full resolution) — see the field doc. */
+    public int tier() { return tier; }
+
+    /** Whether the body is a section delta over the held copy stamped {@link #deltaBase}. */
+    public boolean isDelta() { return deltaBase != 0; }
+
+    /** The delta's base column timestamp (0 on a whole-column body). */
+    public long deltaBase() { return deltaBase; }
+
+    /** The delta's keep map; null on a whole-column body or a malformed map. */
+    public SectionDelta.Keep keep() { return keep; }
+
+    /** The pack frame this member came out of; null for a single-column frame. */
+    public ColumnPackFrame packFrame() { return packFrame; }
+
+    /** This member's index within {@link #packFrame}. */
+    public int packIndex() { return packIndex; }
+
     /** Raw section byte size (see the field doc for the client-side charge rule). */
     public int rawSize() { return rawSize; }
 
@@ -177,6 +267,9 @@ public final class VoxelColumnS2CPayload implements CustomPacketPayload {
     /** Shipped-size estimate — the {@code wire_bytes} counter's input. Null-tolerant
      *  like its raw sibling (the null-bytes rig shape the raw ctor documents). */
     public int wireEstimatedBytes() {
+        if (packFrame != null) {
+            return packFrame.wireShare(packIndex) + LSSConstants.ESTIMATED_COLUMN_OVERHEAD_BYTES;
+        }
         return (sectionBytes == null ? 0 : sectionBytes.length)
                 + LSSConstants.ESTIMATED_COLUMN_OVERHEAD_BYTES;
     }
@@ -195,6 +288,17 @@ public final class VoxelColumnS2CPayload implements CustomPacketPayload {
             case V16 -> {} // pre-18: neither byte
         }
         buf.writeByteArray(payload.sectionBytes);
+        // Trailing tier byte: CURRENT shape only, and only when nonzero or a delta
+        // trailer follows (see the field docs). A legacy shape never carries either —
+        // its sessions never serve one.
+        if (payload.wireShape != WireShape.CURRENT) return;
+        if (payload.tier != 0 || payload.deltaBase != 0) {
+            buf.writeByte(payload.tier);
+        }
+        if (payload.deltaBase != 0) {
+            buf.writeLong(payload.deltaBase);
+            buf.writeByteArray(payload.keep.encode());
+        }
     }
 
     private static VoxelColumnS2CPayload read(FriendlyByteBuf buf) {
@@ -214,13 +318,32 @@ public final class VoxelColumnS2CPayload implements CustomPacketPayload {
         byte source = sourceless ? (byte) -1 : buf.readByte();
         byte codec = sourceless ? LSSConstants.COLUMN_CODEC_RAW : buf.readByte();
         byte[] sectionBytes = buf.readByteArray(LSSConstants.MAX_SECTIONS_SIZE);
+        // Tolerant trailing tier byte (absent = full resolution). Clamped: a hostile
+        // value can only mis-label coarseness, which the next refinement ask heals.
+        int tier = !sourceless && buf.isReadable()
+                ? Math.clamp(buf.readByte(), 0, LSSConstants.LOD_TIER_MAX) : 0;
+        // Tolerant delta trailer (absent = whole column). A map that fails to decode
+        // keeps the delta flag with a null map: applying the body as a whole column would
+        // air-fill every kept section, so the drain fails it into a re-ask instead.
+        long deltaBase = 0L;
+        SectionDelta.Keep keep = null;
+        if (!sourceless && buf.isReadable()) {
+            deltaBase = buf.readLong();
+            byte[] encodedKeep = buf.readByteArray(SectionDelta.Keep.MAX_ENCODED_BYTES);
+            try {
+                keep = SectionDelta.Keep.decode(encodedKeep);
+            } catch (WireFormatException e) {
+                keep = null;
+            }
+        }
 
         // Memoize the raw-size charge at read (plan §0.5): shipped length for raw/unknown
-        // codecs; for codec 1 the frame's declared content size under the
+        // codecs; for codecs 1 and 2 the frame's declared content size under the
         // max(shipped, clamp(declared, 0, MAX)) rule — hostile headers can never
         // under-charge below resident bytes, negative/undeclared reads as shipped.
         int rawSize = sectionBytes.length;
-        if (codec == LSSConstants.COLUMN_CODEC_ZSTD) {
+        if (codec == LSSConstants.COLUMN_CODEC_ZSTD
+                || codec == LSSConstants.COLUMN_CODEC_ZSTD_DICT) {
             long declared = ZstdWireSupport.declaredContentSize(sectionBytes);
             long clamped = Math.min(declared, LSSConstants.MAX_SECTIONS_SIZE);
             rawSize = (int) Math.max(sectionBytes.length, clamped);
@@ -229,7 +352,8 @@ public final class VoxelColumnS2CPayload implements CustomPacketPayload {
         // The C3 dialect stamp (see the field doc): captured HERE, on the netty thread
         // in frame order, where the preceding SessionConfig's observe has already run.
         return new VoxelColumnS2CPayload(cx, cz, dim, columnTimestamp, source, codec,
-                sectionBytes, rawSize, WireShape.CURRENT, V16ClientWire.isNativeBodySession());
+                sectionBytes, rawSize, WireShape.CURRENT, V16ClientWire.isNativeBodySession(),
+                tier, deltaBase, keep);
     }
 
     @Override
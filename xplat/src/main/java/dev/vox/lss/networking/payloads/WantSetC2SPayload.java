@@ -0,0 +1,34 @@
+package dev.vox.lss.networking.payloads;
+
+import dev.vox.lss.common.LSSConstants;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.Identifier;
+
+/**
+ * Compact want-set declaration ({@link LSSConstants#CAPABILITY_COMPACT_WANT_SETS}). The BODY
+ * is an opaque {@code dev.vox.lss.common.wire.WantSetWire} byte[] — the region-summary
+ * request's one-codec-two-carriers shape, so Fabric/Paper parity holds by construction.
+ * No framing beyond the raw body; decode is bounds-checked in WantSetWire, not here.
+ */
+public record WantSetC2SPayload(byte[] body) implements CustomPacketPayload {
+
+    public static final CustomPacketPayload.Type<WantSetC2SPayload> TYPE =
+            new CustomPacketPayload.Type<>(Identifier.parse(LSSConstants.CHANNEL_WANT_SET));
+
+    public static final StreamCodec<FriendlyByteBuf, WantSetC2SPayload> CODEC =
+            StreamCodec.of(
+                    (buf, payload) -> buf.writeBytes(payload.body),
+                    buf -> {
+                        byte[] body = new byte[buf.readableBytes()];
+                        buf.readBytes(body);
+                        return new WantSetC2SPayload(body);
+                    }
+            );
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
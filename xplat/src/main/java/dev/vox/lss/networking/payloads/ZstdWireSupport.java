@@ -2,6 +2,7 @@ package dev.vox.lss.networking.payloads;
 
 import dev.vox.lss.common.LSSConstants;
 import dev.vox.lss.common.LSSLogger;
+import dev.vox.lss.common.store.ColumnDictionary;
 import dev.vox.lss.common.store.StoreCodec;
 
 /**
@@ -13,7 +14,8 @@ import dev.vox.lss.common.store.StoreCodec;
  *
  * <p>Used by the VoxelColumn decode path ({@link #declaredContentSize} for the
  * netty-time size memo, {@link #decompress} on the {@code ClientColumnProcessor} drain)
- * and the handshake declaration ({@link #capabilityBit}). The SERVER side deliberately
+ * and the handshake declaration ({@link #capabilityBit}), which also declares the
+ * shared {@link ColumnDictionary} (codec 2) when its codec probes. The SERVER side deliberately
  * does not use this holder — its probe latches at service start with its own warning
  * (plan §0.11) so a natives-less server degrades loudly-but-once to raw sessions.
  */
@@ -34,14 +36,25 @@ public final class ZstdWireSupport {
         }
     }
 
+    // Separate holder: the dictionary build + digest is only paid once a session needs
+    // it (the handshake declaration), and its failure leaves codec 1 intact.
+    private static final class DictHolder {
+        static final StoreCodec CODEC = Holder.CODEC == null ? null
+                : StoreCodec.zstdWithDictionaryOrNull();
+    }
+
     /** True when the zstd native probe succeeded (round-trip verified). */
     public static boolean available() {
         return Holder.CODEC != null;
     }
 
-    /** The capability bit to OR into the handshake: 0x2 when available, else 0. */
+    /** The capability bits to OR into the handshake: 0x2 when available, plus the
+     *  dictionary bit and version when the dictionary codec probes too; else 0. */
     public static int capabilityBit() {
-        return available() ? LSSConstants.CAPABILITY_ZSTD_COLUMNS : 0;
+        if (!available()) return 0;
+        return DictHolder.CODEC != null
+                ? LSSConstants.CAPABILITY_ZSTD_COLUMNS | ColumnDictionary.capabilityBits()
+                : LSSConstants.CAPABILITY_ZSTD_COLUMNS;
     }
 
     /** Frame-declared decompressed size, or non-positive for malformed/undeclared/no-native
@@ -60,4 +73,14 @@ public final class ZstdWireSupport {
         }
         return codec.decompress(frame, usize);
     }
+
+    /** {@link #decompress} for a codec-2 (dictionary) frame. */
+    public static byte[] decompressWithDictionary(byte[] frame, int usize) {
+        var codec = DictHolder.CODEC;
+        if (codec == null) {
+            throw new IllegalStateException("column dictionary unavailable — cannot decode"
+                    + " codec-2 column");
+        }
+        return codec.decompress(frame, usize);
+    }
 }
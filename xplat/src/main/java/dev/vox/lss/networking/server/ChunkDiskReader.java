@@ -3,6 +3,7 @@ package dev.vox.lss.networking.server;
 import dev.vox.lss.common.Brand;
 import dev.vox.lss.common.LSSLogger;
 import dev.vox.lss.common.processing.AbstractChunkDiskReader;
+import dev.vox.lss.common.processing.RegionBulkCache;
 import dev.vox.lss.compat.MoonriseReadCompat;
 import dev.vox.lss.mixin.AccessorServerChunkCache;
 import net.minecraft.nbt.CompoundTag;
@@ -59,6 +60,9 @@ public class ChunkDiskReader extends AbstractChunkDiskReader {
     private final boolean useBackgroundReadSplit;
     // Phase 4 (R2) selective root-whitelist parse at the split's pool-side parse site.
     private final boolean useSelectiveNbtParse;
+    // Dense cold-join rung (useBulkRegionReads): whole-region images on the split's raw
+    // path. Null = off; set once at service init, before the first submit.
+    private volatile RegionBulkCache bulkCache;
 
     /** Convenience for tests/gametests: production defaults for the serialize path
      *  (transcode ON — the {@code useNbtTranscode} default). */
@@ -87,6 +91,25 @@ public class ChunkDiskReader extends AbstractChunkDiskReader {
         this.useSelectiveNbtParse = useSelectiveNbtParse;
     }
 
+    /** Arms the split raw path's dense-region rung ({@code useBulkRegionReads}). Only the
+     *  vanilla-IOWorker raw rung consults it; Moonrise/foreground/rollback rungs never do. */
+    public void setBulkRegionReads(boolean enabled) {
+        this.bulkCache = enabled ? new RegionBulkCache() : null;
+    }
+
+    /** Synchronous inflate + serialize of one already-fetched raw record — the store
+     *  backfill's bulk rung ({@code StoreBackfill.RecordDecoder}), run on its decode pool.
+     *  The same parse + serializers as the split path, so deposited bytes match serves. */
+    public byte[] decodeRecordForBackfill(ServerLevel level, int chunkX, int chunkZ,
+                                          byte[] payload, byte version) throws Exception {
+        var record = Optional.of(new NbtSectionSerializer.RawChunkRecord(payload, version));
+        return NbtSectionSerializer.readAndSerializeSections(
+                (cx, cz) -> CompletableFuture.completedFuture(record),
+                level.registryAccess(), chunkX, chunkZ, XrayMaskManager.entryForActive(level),
+                level.getMinSectionY(), level.getMaxSectionY(), this.useNbtTranscode,
+                this.useSelectiveNbtParse);
+    }
+
     public void submitReadDirect(UUID playerUuid, String dimension, ServerLevel level,
                                   int chunkX, int chunkZ, long submissionOrder,
                                   long clientTimestamp) {
@@ -210,7 +233,8 @@ public class ChunkDiskReader extends AbstractChunkDiskReader {
                         try {
                             var region = ((dev.vox.lss.mixin.AccessorRegionFileStorage) (Object) handles.storage())
                                     .lss$getRegionFile(pos);
-                            var record = RegionFileRawRead.read(region, pos);
+                            var record = bulkRecordOrNull(handles.storage(), region, pos);
+                            if (record == null) record = RegionFileRawRead.read(region, pos);
                             // Count only PRESENT records (pre-D3 review L2-2): a
                             // not-found/corrupt fetch is no raw-path "serve", and on a
                             // miss-heavy backfill the diag token would climb at the miss
@@ -231,6 +255,40 @@ public class ChunkDiskReader extends AbstractChunkDiskReader {
         };
     }
 
+    /**
+     * The dense-region rung, on the executor inside the raw fetch: counts the read toward
+     * its region's density, pays the whole-file read when the region just armed, and
+     * serves this chunk's slice when a live image holds a clean, unmoved record. Null =
+     * no slice (rung off, cold region, fallback shape) — the per-chunk read runs as
+     * before. Keyed by the storage object, which is per dimension.
+     */
+    private Optional<NbtSectionSerializer.RawChunkRecord> bulkRecordOrNull(
+            Object storage, net.minecraft.world.level.chunk.storage.RegionFile region, ChunkPos pos)
+            throws java.io.IOException {
+        var cache = this.bulkCache;
+        if (cache == null) return null;
+        int cx = pos.x(), cz = pos.z();
+        long now = System.currentTimeMillis();
+        cache.noteSubmit(storage, cx, cz, now);
+        if (cache.claimLoad(storage, cx >> 5, cz >> 5)) {
+            dev.vox.lss.common.region.RegionFileBulkReader.RegionRecords records = null;
+            long start = System.nanoTime();
+            try {
+                records = RegionFileRawRead.readWhole(region);
+            } finally {
+                cache.put(storage, cx >> 5, cz >> 5, records, now);
+            }
+            if (records != null) {
+                this.diag.recordBulkRegion(records.fileBytes(), records.recordCount(),
+                        System.nanoTime() - start);
+            }
+        }
+        var slice = cache.take(storage, cx, cz, RegionFileRawRead.liveLocation(region, pos), now);
+        if (slice == null) return null;
+        this.diag.recordBulkServe();
+        return Optional.of(new NbtSectionSerializer.RawChunkRecord(slice.payload(), slice.version()));
+    }
+
     /** The plain foreground read. Package-private seam so ladder tests can observe which rung
      *  was chosen (and the inline latch fallback) without a live {@code ChunkMap}. */
     NbtSectionSerializer.ChunkNbtRead foregroundRead(ChunkMap chunkMap) {
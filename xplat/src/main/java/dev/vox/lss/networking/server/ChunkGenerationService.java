@@ -6,11 +6,15 @@ import dev.vox.lss.common.processing.LoadedColumnData;
 import dev.vox.lss.common.processing.TickSnapshot;
 import dev.vox.lss.config.LSSServerConfig;
 import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ChunkLevel;
+import net.minecraft.server.level.ChunkResult;
+import net.minecraft.server.level.FullChunkStatus;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.TicketType;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -18,6 +22,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public class ChunkGenerationService {
     // FLAG_LOADING makes the chunk load/generate; NO_TIMEOUT means we manage lifetime
@@ -37,6 +42,9 @@ public class ChunkGenerationService {
         final ChunkPos pos;
         final ServerLevel level;
         final List<GenerationCallback> callbacks = new ArrayList<>();
+        // LOD-only mode: the pull to the target status. Null on the FULL path, which polls
+        // getChunkNow instead.
+        CompletableFuture<ChunkResult<ChunkAccess>> pull;
         int ticksWaiting = 0;
 
         PendingGeneration(ChunkPos pos, ServerLevel level) {
@@ -51,7 +59,16 @@ public class ChunkGenerationService {
      *  {@link SectionSerializer#serializeColumn}. */
     @FunctionalInterface
     public interface ColumnSerializer {
-        LoadedColumnData serialize(ServerLevel level, LevelChunk chunk, int cx, int cz);
+        LoadedColumnData serialize(ServerLevel level, ChunkAccess chunk, int cx, int cz);
+    }
+
+    /** Starts the LOD-only pull to the target status. Test seam: injectable so a pull that
+     *  settles without a chunk (exceptionally, or with an empty ChunkResult) can be
+     *  exercised without breaking real worldgen; production always wires
+     *  {@code getChunkFuture(cx, cz, status, true)}. */
+    @FunctionalInterface
+    public interface ChunkPuller {
+        CompletableFuture<ChunkResult<ChunkAccess>> pull(ServerLevel level, int cx, int cz, ChunkStatus status);
     }
 
     private final LinkedHashMap<PendingGenerationKey, PendingGeneration> active = new LinkedHashMap<>();
@@ -68,7 +85,15 @@ public class ChunkGenerationService {
     private int maxPerPlayerActive;
     private final int timeoutTicks;
     private final ColumnSerializer columnSerializer;
+    private final ChunkPuller chunkPuller;
     private DirtyContentFilter dirtyContentFilter;
+    // lodOnlyGeneration: the status generation stops at (null = FULL, the default) and the
+    // radius that puts LSS_GEN_TICKET at that status's level. addTicketWithRadius places a
+    // ticket at FULL's level minus the radius, so a sub-FULL status is a NEGATIVE radius —
+    // the holder loads and generates up to the status but is never promoted to a ticking
+    // LevelChunk (no entity load, no spawn pass, no block-entity/ticking registration).
+    private final ChunkStatus lodOnlyStatus;
+    private final int ticketRadius;
 
     // Volatile is sufficient — only written from the main tick thread, read by /stats commands.
     private volatile long totalSubmitted = 0;
@@ -83,10 +108,25 @@ public class ChunkGenerationService {
     /** Test seam constructor (see {@link ColumnSerializer}); zero behavior change when
      *  default-wired through the production constructor above. */
     public ChunkGenerationService(LSSServerConfig config, ColumnSerializer columnSerializer) {
+        this(config, columnSerializer,
+                (level, cx, cz, status) -> level.getChunkSource().getChunkFuture(cx, cz, status, true));
+    }
+
+    /** Test seam constructor (see {@link ChunkPuller}). */
+    public ChunkGenerationService(LSSServerConfig config, ColumnSerializer columnSerializer,
+                                  ChunkPuller chunkPuller) {
         this.maxConcurrent = config.generationConcurrencyLimitGlobal;
         this.maxPerPlayerActive = config.generationConcurrencyLimitPerPlayer;
         this.timeoutTicks = config.generationTimeoutSeconds * LSSConstants.TICKS_PER_SECOND;
         this.columnSerializer = columnSerializer;
+        this.chunkPuller = chunkPuller;
+        // LIGHT, not FEATURES: the serializer ships the light layers (an unlit column renders
+        // black client-side) and LIGHT is where they become correct — what LOD-only skips is
+        // SPAWN and the FULL promotion. Resolved here, not in a static, so loading this class
+        // never initializes the chunk-status registry. Paper twin: PaperChunkGenerationService.
+        this.lodOnlyStatus = config.lodOnlyGeneration ? ChunkStatus.LIGHT : null;
+        this.ticketRadius = this.lodOnlyStatus == null ? 0
+                : ChunkLevel.byStatus(FullChunkStatus.FULL) - ChunkLevel.byStatus(this.lodOnlyStatus);
     }
 
     /** Wired by RequestProcessingService after construction (it owns the filter). */
@@ -125,10 +165,16 @@ public class ChunkGenerationService {
             // cancel the release and reuse it instead of add+remove churn through the
             // distance graph (the completion path's removal keeps the books 1:1).
             if (!this.deferredReleases.cancel(key)) {
-                level.getChunkSource().addTicketWithRadius(LSS_GEN_TICKET, pos, 0);
+                level.getChunkSource().addTicketWithRadius(LSS_GEN_TICKET, pos, this.ticketRadius);
             }
 
             var gen = new PendingGeneration(pos, level);
+            if (this.lodOnlyStatus != null) {
+                // A sub-FULL ticket only HOLDS the chunk — nothing promotes it, so generation
+                // must be pulled. The pull's own short-lived ticket expires within a tick;
+                // ours keeps the holder (and the pending future) alive until completion.
+                gen.pull = this.chunkPuller.pull(level, cx, cz, this.lodOnlyStatus);
+            }
             gen.callbacks.add(new GenerationCallback(playerUuid, submissionOrder));
             this.active.put(key, gen);
             incrementCount(this.perPlayerActiveCount, playerUuid);
@@ -175,13 +221,38 @@ public class ChunkGenerationService {
                 var level = gen.level;
                 var pos = gen.pos;
                 this.deferredReleases.defer(entry.getKey(),
-                        () -> level.getChunkSource().removeTicketWithRadius(LSS_GEN_TICKET, pos, 0));
+                        () -> level.getChunkSource().removeTicketWithRadius(LSS_GEN_TICKET, pos, this.ticketRadius));
                 iter.remove();
                 this.totalTimeouts++;
                 continue;
             }
 
-            LevelChunk chunk = gen.level.getChunkSource().getChunkNow(gen.pos.x(), gen.pos.z());
+            ChunkAccess chunk;
+            if (gen.pull == null) {
+                chunk = gen.level.getChunkSource().getChunkNow(gen.pos.x(), gen.pos.z());
+            } else if (!gen.pull.isDone()) {
+                chunk = null;
+            } else {
+                chunk = gen.pull.isCompletedExceptionally() ? null : gen.pull.join().orElse(null);
+                if (chunk == null) {
+                    // The pull settled without a chunk (generation threw, or the holder
+                    // dropped under it). TRANSIENT, like a timeout: the re-declaration
+                    // retries. Books it as removed-in-flight, as the extraction failure does.
+                    // The release is deferred like the timeout's: a worldgen fault fails a
+                    // burst of pulls within a tick, the same bunched-removal shape.
+                    LSSLogger.debug("LOD-only generation pull failed for chunk " + gen.pos.x() + ","
+                            + gen.pos.z() + " (" + gen.callbacks.size() + " callbacks)");
+                    if (ready == null) ready = new ArrayList<>();
+                    addFailures(ready, gen, true);
+                    var level = gen.level;
+                    var pos = gen.pos;
+                    this.deferredReleases.defer(entry.getKey(),
+                            () -> level.getChunkSource().removeTicketWithRadius(LSS_GEN_TICKET, pos, this.ticketRadius));
+                    iter.remove();
+                    this.totalRemovedInFlight++;
+                    continue;
+                }
+            }
             if (chunk != null) {
                 if (ready == null) ready = new ArrayList<>();
                 try {
@@ -219,7 +290,7 @@ public class ChunkGenerationService {
                     // Always release the force-load ticket and drop the active entry — even on an
                     // Error during serialization — or the chunk stays force-loaded forever and the
                     // entry is retried (and re-throws) every server tick.
-                    gen.level.getChunkSource().removeTicketWithRadius(LSS_GEN_TICKET, gen.pos, 0);
+                    gen.level.getChunkSource().removeTicketWithRadius(LSS_GEN_TICKET, gen.pos, this.ticketRadius);
                     iter.remove();
                 }
             }
@@ -257,7 +328,7 @@ public class ChunkGenerationService {
                 var level = gen.level;
                 var pos = gen.pos;
                 this.deferredReleases.defer(entry.getKey(),
-                        () -> level.getChunkSource().removeTicketWithRadius(LSS_GEN_TICKET, pos, 0));
+                        () -> level.getChunkSource().removeTicketWithRadius(LSS_GEN_TICKET, pos, this.ticketRadius));
                 iter.remove();
                 // Submitted but neither completed nor timed out — without this counter the
                 // submitted/completed books can never re-balance after a kick or dimension change
@@ -269,7 +340,7 @@ public class ChunkGenerationService {
     public void shutdown() {
         this.deferredReleases.flush(); // correctness over smoothness — never strand a ticket
         for (var gen : this.active.values()) {
-            gen.level.getChunkSource().removeTicketWithRadius(LSS_GEN_TICKET, gen.pos, 0);
+            gen.level.getChunkSource().removeTicketWithRadius(LSS_GEN_TICKET, gen.pos, this.ticketRadius);
         }
         this.active.clear();
         this.perPlayerActiveCount.clear();
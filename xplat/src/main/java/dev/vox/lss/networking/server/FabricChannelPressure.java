@@ -85,8 +85,9 @@ public final class FabricChannelPressure {
         };
     }
 
-    /** Channel resolution shared by both reads; null on any failure shape. */
-    private static Channel channelOf(ServerPlayer player) {
+    /** Channel resolution shared by both reads (and the column framing handlers); null
+     *  on any failure shape. */
+    static Channel channelOf(ServerPlayer player) {
         try {
             var listener = player.connection;
             if (listener == null) return null;
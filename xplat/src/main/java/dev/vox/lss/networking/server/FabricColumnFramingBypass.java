@@ -0,0 +1,150 @@
+package dev.vox.lss.networking.server;
+
+import dev.vox.lss.common.LSSConstants;
+import dev.vox.lss.common.LSSLogger;
+import dev.vox.lss.common.processing.ColumnFramingDiagnostics;
+import dev.vox.lss.networking.payloads.ColumnPackS2CPayload;
+import dev.vox.lss.networking.payloads.VoxelColumnS2CPayload;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import net.minecraft.network.protocol.common.ClientboundCustomPayloadPacket;
+import net.minecraft.server.level.ServerPlayer;
+
+/**
+ * Connection-compression bypass for zstd column frames ({@code bypassConnectionCompression},
+ * {@link LSSConstants#CAPABILITY_RAW_COLUMN_FRAMING}) — Fabric and NeoForge share it; the
+ * Paper twin is {@code PaperColumnFramingBypass}.
+ *
+ * <p>Two outbound handlers on the player's channel. The MARK handler sits on the tail side
+ * of vanilla's packet encoder and flags a {@link VoxelColumnS2CPayload} carrying a zstd
+ * codec, or a {@link ColumnPackS2CPayload} (always one zstd frame); the encoder runs
+ * synchronously inside that write, so the very next buffer the FRAME handler (tail side
+ * of {@code compress}) sees is that column's encoded packet.
+ * Bypassing, the frame handler writes the uncompressed data-length marker (VarInt 0 —
+ * the sub-threshold shape vanilla itself writes) and hands the frame on from the
+ * compressor's context, so zlib never sees it. Every other buffer passes untouched, and a
+ * flag left unconsumed (a handler between them deferring the write) is cleared when the
+ * mark handler's write returns — the failure direction is "compressed as before".
+ *
+ * <p>Installed for every CURRENT session on a compressed connection, bypass or not: the
+ * frame handler times the column frames either way ({@link ColumnFramingDiagnostics}),
+ * which is the exporter's before/after figure. A re-registration only flips the flag.
+ */
+public final class FabricColumnFramingBypass {
+
+    /** Vanilla's pipeline names ({@code net.minecraft.network.HandlerNames}). */
+    static final String ENCODER = "encoder";
+    static final String COMPRESS = "compress";
+    static final String MARK_HANDLER = "lss_column_mark";
+    static final String FRAME_HANDLER = "lss_column_frame";
+    /** Frames at or above the netty length prepender's 21-bit ceiling keep the compressor
+     *  (unreachable under MAX_SEND_SECTIONS_SIZE; a guard, not a tuning point). */
+    private static final int MAX_RAW_FRAME_BYTES = (1 << 21) - 8;
+
+    private static volatile boolean warned;
+
+    private FabricColumnFramingBypass() {}
+
+    /** Installs (once per channel) or re-flags the handlers for {@code player}; a
+     *  connection without a compressor (integrated/local, threshold off) is left alone.
+     *  Runs on the channel's event loop; every failure degrades to the vanilla path. */
+    public static void apply(ServerPlayer player, boolean bypass, ColumnFramingDiagnostics diag) {
+        var channel = FabricChannelPressure.channelOf(player);
+        if (channel == null) return;
+        channel.eventLoop().execute(() -> {
+            try {
+                install(channel.pipeline(), bypass, diag);
+            } catch (Throwable t) {
+                if (!warned) {
+                    warned = true;
+                    LSSLogger.warn("Column framing handlers unavailable (" + t + ") —"
+                            + " LOD columns keep the connection compressor");
+                }
+            }
+        });
+    }
+
+    /** The pipeline half of {@link #apply} (package-visible: the handler pin drives it on
+     *  an embedded channel). */
+    static void install(ChannelPipeline pipeline, boolean bypass, ColumnFramingDiagnostics diag) {
+        if (pipeline.get(FRAME_HANDLER) instanceof FrameHandler existing) {
+            existing.state.bypass = bypass;
+            return;
+        }
+        if (pipeline.get(ENCODER) == null || pipeline.get(COMPRESS) == null) return;
+        var state = new State(bypass, diag);
+        pipeline.addAfter(COMPRESS, FRAME_HANDLER, new FrameHandler(state));
+        pipeline.addAfter(ENCODER, MARK_HANDLER, new MarkHandler(state));
+    }
+
+    /** Per-channel, event-loop confined apart from the volatile flag. */
+    private static final class State {
+        volatile boolean bypass;
+        final ColumnFramingDiagnostics diag;
+        boolean columnPending;
+
+        State(boolean bypass, ColumnFramingDiagnostics diag) {
+            this.bypass = bypass;
+            this.diag = diag;
+        }
+    }
+
+    private static final class MarkHandler extends ChannelOutboundHandlerAdapter {
+        private final State state;
+
+        MarkHandler(State state) {
+            this.state = state;
+        }
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            if (!(msg instanceof ClientboundCustomPayloadPacket packet)
+                    || !(packet.payload() instanceof ColumnPackS2CPayload
+                            || packet.payload() instanceof VoxelColumnS2CPayload column
+                                    && column.codec() != LSSConstants.COLUMN_CODEC_RAW)) {
+                ctx.write(msg, promise);
+                return;
+            }
+            this.state.columnPending = true;
+            try {
+                ctx.write(msg, promise);
+            } finally {
+                this.state.columnPending = false;
+            }
+        }
+    }
+
+    private static final class FrameHandler extends ChannelOutboundHandlerAdapter {
+        private final State state;
+
+        FrameHandler(State state) {
+            this.state = state;
+        }
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            if (!this.state.columnPending || !(msg instanceof ByteBuf frame)) {
+                ctx.write(msg, promise);
+                return;
+            }
+            this.state.columnPending = false;
+            int bytes = frame.readableBytes();
+            long start = System.nanoTime();
+            var compress = this.state.bypass && bytes < MAX_RAW_FRAME_BYTES
+                    ? ctx.pipeline().context(COMPRESS) : null;
+            if (compress == null) {
+                ctx.write(frame, promise);
+            } else {
+                ByteBuf out = ctx.alloc().ioBuffer(bytes + 1);
+                out.writeByte(0); // data length 0: "not compressed"
+                out.writeBytes(frame);
+                frame.release();
+                compress.write(out, promise);
+            }
+            this.state.diag.recordFrame(bytes, System.nanoTime() - start, compress != null);
+        }
+    }
+}
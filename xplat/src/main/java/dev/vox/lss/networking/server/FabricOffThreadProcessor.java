@@ -4,8 +4,10 @@ import dev.vox.lss.common.LSSConstants;
 import dev.vox.lss.common.LSSLogger;
 import dev.vox.lss.common.PositionUtil;
 import dev.vox.lss.common.processing.ColumnBytes;
+import dev.vox.lss.common.processing.ColumnPacker;
 import dev.vox.lss.common.processing.OffThreadProcessor;
 import dev.vox.lss.common.processing.QueuedPayload;
+import dev.vox.lss.networking.payloads.ColumnPackS2CPayload;
 import dev.vox.lss.networking.payloads.VoxelColumnS2CPayload;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.Identifier;
@@ -185,15 +187,35 @@ public class FabricOffThreadProcessor extends OffThreadProcessor<PlayerRequestSt
             return true;
         }
 
+        // A packed-columns session's column waits for its tile's pack at cycle end
+        // (OffThreadProcessor.publishColumnPacks) instead of taking its own frame.
+        if (stageForPack(state, cx, cz, dimension, columnTimestamp, submissionOrder,
+                bytes, estimatedBytes, source)) {
+            if (SoakProbeBridge.armed()) SoakProbeBridge.recordServed(cx, cz, bytes.raw());
+            return true;
+        }
+
         // Per-recipient codec choice off the shared holder (plan §0.3/§0.4): frame() is
         // asked only for capable sessions and memoizes across the dedup fan-out; null
         // means "ship raw" (no codec, below threshold, or the frame didn't shrink).
-        byte[] frame = state.wantsCompressedColumns() ? bytes.frame() : null;
-        byte codecTag = frame != null ? LSSConstants.COLUMN_CODEC_ZSTD
-                : LSSConstants.COLUMN_CODEC_RAW;
+        // A dictionary session takes the codec-2 form first (its own memo on the
+        // holder), falling back to codec 1 when that form is refused.
+        byte[] frame = state.wantsDictionaryColumns() ? bytes.dictFrame(wireDictionaryCodec())
+                : null;
+        byte codecTag = LSSConstants.COLUMN_CODEC_ZSTD_DICT;
+        if (frame == null) {
+            frame = state.wantsCompressedColumns() ? bytes.frame() : null;
+            codecTag = frame != null ? LSSConstants.COLUMN_CODEC_ZSTD
+                    : LSSConstants.COLUMN_CODEC_RAW;
+        }
         byte[] shipped = frame != null ? frame : bytes.raw();
+        // A tiered holder (LOD-tier ask, CURRENT dialect only — servesLodTiers) carries
+        // its tier to the frame's trailing byte; tier 0 writes the unchanged layout. A
+        // section-delta holder (wantsSectionDeltas, likewise CURRENT only) adds its base
+        // and keep map after it.
         var payload = new VoxelColumnS2CPayload(cx, cz, dimensionKey, columnTimestamp,
-                source, codecTag, shipped, bytes.rawSize());
+                source, codecTag, shipped, bytes.rawSize(), bytes.tier(),
+                bytes.deltaBase(), bytes.keep());
         int wireBytes = shipped.length + LSSConstants.ESTIMATED_COLUMN_OVERHEAD_BYTES;
         state.addReadyPayload(new QueuedPayload<>(payload, estimatedBytes, wireBytes,
                 submissionOrder, PositionUtil.packPosition(cx, cz)));
@@ -205,6 +227,13 @@ public class FabricOffThreadProcessor extends OffThreadProcessor<PlayerRequestSt
         return true;
     }
 
+    @Override
+    protected boolean enqueueColumnPack(PlayerRequestState state, ColumnPacker.Built pack) {
+        state.addReadyPack(QueuedPayload.ofPack(new ColumnPackS2CPayload(pack.body()),
+                pack.estimatedBytes(), pack.wireBytes(), pack.submissionOrder(), pack.members()));
+        return true;
+    }
+
     /** Translate a v20 raw body for a legacy session and choose its codec: v19 sessions
      *  keep their compression capability (recompress, gated by the same min-bytes +
      *  must-shrink rules as the shared holder's frame() — incl. keeping the 1-byte
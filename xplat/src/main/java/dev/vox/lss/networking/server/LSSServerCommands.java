@@ -147,6 +147,16 @@ public class LSSServerCommands {
                 // The one-shot cap log (§2) points here — the ongoing capped
                 // steady-state must stay diagnosable without any log line.
                 + " evicted=" + store.diagnostics().getSqlEvictions()
+                // Eviction quality once the cap binds: post-eviction hit rate + regrets.
+                + store.diagnostics().evictionToken()
+                // Off-heap hot-frame cache: fill, hit share, ring evictions (empty when off).
+                + store.diagnostics().hotCacheToken()
+                // Cold tier: rows recompressed, bytes shed, recent pace (empty when off).
+                + store.diagnostics().coldTierToken()
+                // Section dedup: sections shared vs written, and GC'd once unreferenced.
+                + " sections=" + store.diagnostics().getSectionsReused() + "r/"
+                + store.diagnostics().getSectionsWritten() + "w/"
+                + store.diagnostics().getSectionsCollected() + "gc"
                 // C4: background-migration progress (empty once every row is v20).
                 + store.migrationStatusToken();
         var backfill = service.getStoreBackfill();
@@ -251,7 +261,8 @@ public class LSSServerCommands {
                 service.getTickDiag().getTotalWireBytesSent(),
                 service.getOffThreadProcessor().getDiagnostics(), service.getDiskReader(),
                 service.getBandwidthLimiter(),
-                genService != null ? genService.getDiagnostics() : null,
+                genService != null
+                        ? genService.getDiagnostics() + service.getGenerationQueue().diagToken() : null,
                 // LIVE store mode, not the config's ask (review MINOR-3): a codec-probe
                 // degrade renders store=unavailable, never a lying store=memory h=0.
                 // enabled=false is an OFF store, not a degraded one — without that term
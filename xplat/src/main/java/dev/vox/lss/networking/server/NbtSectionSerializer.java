@@ -944,6 +944,20 @@ final class NbtSectionSerializer {
         return scopedFor(registryAccess).biomeIdentityFor();
     }
 
+    /** The biome half of the offline builder's profile: the SAME holder-id table and
+     *  default id the transcode path resolves against, so a column the builder emits
+     *  names biomes exactly as this server's would. */
+    static String[] biomeIdentities(RegistryAccess registryAccess) {
+        var scoped = scopedFor(registryAccess);
+        var table = new String[scoped.biomeIdCount()];
+        for (int id = 0; id < table.length; id++) table[id] = scoped.biomeIdentityFor().apply(id);
+        return table;
+    }
+
+    static int defaultBiomeId(RegistryAccess registryAccess) {
+        return scopedFor(registryAccess).biomeResolver().defaultId();
+    }
+
     /** The C1 produce-path v20 hook (progress-doc decision 2026-08-07): every producer
      *  emits its NATIVE body exactly as before and translates at the return boundary —
      *  ONE corpus-proven encoder, byte-determinism across paths by construction. Since
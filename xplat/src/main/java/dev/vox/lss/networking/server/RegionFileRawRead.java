@@ -2,6 +2,7 @@ package dev.vox.lss.networking.server;
 
 import dev.vox.lss.common.LSSLogger;
 import dev.vox.lss.common.LogThrottle;
+import dev.vox.lss.common.region.RegionFileBulkReader;
 import dev.vox.lss.mixin.AccessorRegionFile;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.storage.RegionFile;
@@ -107,6 +108,29 @@ final class RegionFileRawRead {
         }
     }
 
+    /**
+     * The dense cold-join rung's whole-file read ({@code RegionBulkCache}): the entire
+     * region in one positional read of vanilla's own channel, under the same monitor and
+     * on the same executor as {@link #read} — so it is sequenced with every vanilla
+     * save/clear/close exactly like a per-chunk read. Null = declined (outsized or short
+     * file); the caller stays per chunk.
+     */
+    static RegionFileBulkReader.RegionRecords readWhole(RegionFile regionFile) throws IOException {
+        var acc = (AccessorRegionFile) (Object) regionFile;
+        synchronized (regionFile) {
+            return RegionFileBulkReader.read(acc.lss$getFile());
+        }
+    }
+
+    /** The chunk's CURRENT location word from vanilla's in-memory table (0 = absent) —
+     *  what a bulk slice is checked against before it serves. */
+    static int liveLocation(RegionFile regionFile, ChunkPos pos) {
+        var acc = (AccessorRegionFile) (Object) regionFile;
+        synchronized (regionFile) {
+            return acc.lss$getOffset(pos);
+        }
+    }
+
     private static Optional<NbtSectionSerializer.RawChunkRecord> corrupt(String detail) {
         long released = CORRUPT_WARN_THROTTLE.recordAndTryAcquire(System.nanoTime() / 1_000_000);
         if (released > 0) {
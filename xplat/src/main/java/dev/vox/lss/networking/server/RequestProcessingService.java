@@ -8,10 +8,12 @@ import dev.vox.lss.common.PositionUtil;
 import dev.vox.lss.common.SharedBandwidthLimiter;
 import dev.vox.lss.common.compat.V16CompatManager;
 import dev.vox.lss.common.compat.WireDialectTracker;
+import dev.vox.lss.common.processing.GenerationAdmissionQueue;
 import dev.vox.lss.common.processing.IncomingBatch;
 import dev.vox.lss.common.processing.IncomingRequest;
 import dev.vox.lss.common.processing.LoadedColumnData;
 import dev.vox.lss.common.processing.OffThreadProcessor;
+import dev.vox.lss.common.processing.ProbeSerializerPool;
 import dev.vox.lss.common.processing.TickDiagnostics;
 import dev.vox.lss.common.processing.TickSnapshot;
 import dev.vox.lss.common.tracking.DirtyColumnTracker;
@@ -47,6 +49,9 @@ public class RequestProcessingService {
     private final MinecraftServer server;
     private final ChunkDiskReader diskReader;
     private final ChunkGenerationService generationService;
+    // Server-wide generation admission order (nearest-first across players); null with
+    // the generation service.
+    private final GenerationAdmissionQueue generationQueue;
     private final SharedBandwidthLimiter bandwidthLimiter;
     private final FabricOffThreadProcessor offThreadProcessor;
     // Null while lodStore=off or when the codec native cannot load (degrade, never crash).
@@ -92,6 +97,9 @@ public class RequestProcessingService {
     // shim and consults this tracker for membership; its 75 s session prune is also the
     // v16 tracker-removal hook — the single-lifetime rule).
     private final WireDialectTracker dialects = new WireDialectTracker();
+    // Compact want-sets: each session's last declaration, the base of its next diff.
+    private final dev.vox.lss.common.processing.WantSetReceiver wantSets =
+            new dev.vox.lss.common.processing.WantSetReceiver();
     // Keyed by the lightweight ResourceKey (not ServerLevel): a ServerLevel key strongly
     // retains every world an LSS player ever visited — harmless for vanilla's permanent
     // dimensions, but a leak on world-cycling servers. The dimension string is derivable
@@ -121,6 +129,9 @@ public class RequestProcessingService {
      *  the disk-timeout warn (a broken foreign mixin fails EVERY probe; per-column lines
      *  would flood the console). */
     private final LogThrottle probeFailureWarn = new LogThrottle(60_000);
+    /** Serialize half of the probe (probeSerializerThreads, resolved); null = the tick
+     *  thread serializes inline, the pre-pool behavior. */
+    private final ProbeSerializerPool probeSerializers;
 
     // Send-drop fault seam state (see armSendDrops). Static so the soak driver and gametests
     // can arm it without a service reference; production code never arms it.
@@ -157,11 +168,15 @@ public class RequestProcessingService {
         this.diskReader = new ChunkDiskReader(readerThreads,
                 config.useBackgroundReadPriority, config.useNbtTranscode,
                 config.useBackgroundReadSplit, config.useSelectiveNbtParse);
+        this.diskReader.setBulkRegionReads(config.useBulkRegionReads);
         if (config.enableChunkGeneration) {
             this.generationService = new ChunkGenerationService(config);
             this.generationService.setDirtyContentFilter(this.dirtyContentFilter);
+            this.generationQueue = new GenerationAdmissionQueue(
+                    config.generationTimeoutSeconds * LSSConstants.TICKS_PER_SECOND);
         } else {
             this.generationService = null;
+            this.generationQueue = null;
         }
         this.bandwidthLimiter = new SharedBandwidthLimiter(config.bytesPerSecondGlobal());
 
@@ -198,8 +213,18 @@ public class RequestProcessingService {
                 this.diskReader.setServeStoreFrames(true);
                 wireCompressionLive = true;
             }
+            if (wireCompressionLive && config.useColumnDictionary) {
+                attachDictionaryCodec(this.offThreadProcessor);
+            }
         }
         this.wireCompressionLive = wireCompressionLive;
+        // Prepare shards: the per-result compress work of each drain fans out across
+        // workers (players hashed to shards); delivery stays on the processing thread.
+        this.offThreadProcessor.attachPrepareShards(config.effectivePrepareShards());
+        // Probe serializers: the tick copies a loaded column's sections + light, a worker
+        // writes and translates the copy (see probeLoadedChunks).
+        int probeThreads = config.effectiveProbeSerializerThreads();
+        this.probeSerializers = probeThreads > 0 ? new ProbeSerializerPool(probeThreads) : null;
 
         // LOD store (docs/planning/lod-store-implementation-plan.md): the SQLite engine
         // for "on"/"full" (the memory tier is deleted). Attached to BOTH consumers before any
@@ -316,7 +341,11 @@ public class RequestProcessingService {
                     dev.vox.lss.common.store.LodStores.brandedStoreDir(worldRoot), server.getServerVersion(),
                     LSSConstants.PROTOCOL_VERSION, regionDirs::get, maskFingerprints::get,
                     config.lodStoreResweepSeconds, config.lodStoreMaxBytes(),
-                    storeRegistryFingerprint(server));
+                    storeRegistryFingerprint(server), config.lodStoreSectionDedup,
+                    config.useColumnDictionary,
+                    dev.vox.lss.common.store.StoreEvictionPolicy.normalize(config.lodStoreEvictionPolicy),
+                    config.lodStoreHotCacheBytes(), config.lodStoreColdCompressionDays,
+                    config.lodStoreShardByDimension);
             this.lodStore = dev.vox.lss.common.store.LodStores.createOrNull(env);
             if (this.lodStore == null) {
                 // LodStores.createOrNull logged the per-cause warn (codec vs SQLite init —
@@ -330,6 +359,7 @@ public class RequestProcessingService {
                 this.lodStore.setLegacyMigrationTranslator(nativeRaw ->
                         NbtSectionSerializer.toV20(nativeRaw, this.server.registryAccess()));
                 this.offThreadProcessor.attachStore(this.lodStore);
+                writeStoreBuildProfile(server, worldRoot, regionDirs, maskFingerprints, config);
             }
             // Opt-in background backfill (Phase 4): built only over the SQLite store
             // (a memory store's backfill would evaporate at restart). Config-started;
@@ -369,7 +399,19 @@ public class RequestProcessingService {
                         // tick time is over the configured MSPT gate.
                         () -> server.getCurrentSmoothedTickTime()
                                 < LSSConstants.LOD_STORE_BACKFILL_TICK_CEILING_MS,
-                        config.lodStoreBackfillColumnsPerSecond);
+                        config.lodStoreBackfillColumnsPerSecond,
+                        // Bulk rung: whole-region reads decoded through the split's
+                        // parse — only where that split is the live read path.
+                        config.useBulkRegionReads && config.useBackgroundReadSplit
+                                ? (dim, cx, cz, payload, version) -> {
+                                    var level = levelByDim.get(dim);
+                                    return level == null ? null
+                                            : this.diskReader.decodeRecordForBackfill(
+                                                    level, cx, cz, payload, version);
+                                }
+                                : null,
+                        this.diskReader.getDiag(),
+                        config.lodStoreBackfillWorkers);
                 if (config.lodStoreBackfill) {
                     this.storeBackfill.start();
                 }
@@ -434,10 +476,54 @@ public class RequestProcessingService {
                 && (capabilities & LSSConstants.CAPABILITY_ZSTD_COLUMNS) != 0
                 && !this.dialects.isV16(player.getUUID())
                 && !this.dialects.isV18(player.getUUID()));
+        // LOD tiers ride the CURRENT frame's trailing byte, so every legacy dialect
+        // (v16, v18, and the native-body v19 rung) serves full resolution.
+        state.setServesLodTiers(LSSServerConfig.CONFIG.enableLodTiers
+                && this.dialects.dialectOf(player.getUUID())
+                        == dev.vox.lss.common.HandshakeGate.WireDialect.CURRENT);
+        // Section deltas likewise ride the CURRENT frame's trailer, and only to clients
+        // that declared they can apply one.
+        state.setWantsSectionDeltas(LSSServerConfig.CONFIG.enableSectionDeltas
+                && (capabilities & LSSConstants.CAPABILITY_SECTION_DELTAS) != 0
+                && this.dialects.dialectOf(player.getUUID())
+                        == dev.vox.lss.common.HandshakeGate.WireDialect.CURRENT);
+        // Dictionary frames ride the compressed shape (codec byte) and need the exact
+        // dictionary version — a mismatch is simply plain codec-1 frames.
+        state.setWantsDictionaryColumns(state.wantsCompressedColumns()
+                && this.offThreadProcessor.dictionaryFramesLive()
+                && dev.vox.lss.common.store.ColumnDictionary.declaredBy(capabilities)
+                && this.dialects.dialectOf(player.getUUID())
+                        == dev.vox.lss.common.HandshakeGate.WireDialect.CURRENT);
+        // Packs are a CURRENT-only channel of zstd frames.
+        state.setWantsPackedColumns(LSSServerConfig.CONFIG.packColumns
+                && state.wantsCompressedColumns()
+                && (capabilities & LSSConstants.CAPABILITY_PACKED_COLUMNS) != 0
+                && this.dialects.dialectOf(player.getUUID())
+                        == dev.vox.lss.common.HandshakeGate.WireDialect.CURRENT);
+        // Zstd column frames skip the connection zlib only for clients that read the
+        // uncompressed framing themselves; the handlers go in either way (they time
+        // the frames — the exporter's before/after figure).
+        if (state.wantsCompressedColumns()) {
+            FabricColumnFramingBypass.apply(player, LSSServerConfig.CONFIG.bypassConnectionCompression
+                            && (capabilities & LSSConstants.CAPABILITY_RAW_COLUMN_FRAMING) != 0,
+                    this.offThreadProcessor.getFramingDiagnostics());
+        }
         state.markHandshakeComplete();
         return state;
     }
 
+    /** The dictionary codec probe (useColumnDictionary on top of live compression):
+     *  failure leaves every session on plain frames, with one warning. */
+    private static void attachDictionaryCodec(OffThreadProcessor processor) {
+        var dictCodec = dev.vox.lss.common.store.StoreCodec.zstdWithDictionaryOrNull();
+        if (dictCodec == null) {
+            LSSLogger.warn("useColumnDictionary is enabled but the column dictionary"
+                    + " codec failed its probe — LOD columns will ship plain zstd frames");
+        } else {
+            processor.attachWireDictionaryCodec(dictCodec);
+        }
+    }
+
     public void removePlayer(UUID uuid) {
         this.players.remove(uuid);
         this.offThreadProcessor.notifyPlayerRemoved(uuid);
@@ -451,6 +537,7 @@ public class RequestProcessingService {
     private void cleanupPlayerServices(UUID uuid) {
         this.diskReader.removePlayerResults(uuid);
         if (this.generationService != null) this.generationService.removePlayer(uuid);
+        if (this.generationQueue != null) this.generationQueue.removePlayer(uuid);
     }
 
     public void handleBatchRequest(ServerPlayer player, BatchChunkRequestC2SPayload payload) {
@@ -497,6 +584,43 @@ public class RequestProcessingService {
         state.offerIncomingBatch(new IncomingBatch(accepted.toArray(new IncomingRequest[0])));
     }
 
+    /**
+     * Ingress for {@code lss:want_set} (MAIN thread): the compact form of
+     * {@link #handleBatchRequest}. Decoded against the session's held declaration, then
+     * served exactly like a legacy batch — a diff whose base this session does not hold
+     * is dropped (the client's next whole frame replaces it). CURRENT dialect only: the
+     * capability is granted only there, so anything else is a nonconforming sender.
+     */
+    public void handleWantSet(ServerPlayer player, byte[] body) {
+        if (!LSSServerConfig.CONFIG.enabled) return;
+        if (this.dialects.dialectOf(player.getUUID())
+                != dev.vox.lss.common.HandshakeGate.WireDialect.CURRENT) {
+            return;
+        }
+        dev.vox.lss.common.wire.WantSetWire.Declaration declaration;
+        try {
+            declaration = this.wantSets.accept(player.getUUID(), body);
+        } catch (Exception e) {
+            // Hostile/malformed frame: contained drop, throttled like the summary lane.
+            long n = WANT_SET_DECODE_WARN.recordAndTryAcquire(System.nanoTime() / 1_000_000);
+            if (n > 0) {
+                LSSLogger.warn("Malformed want-set from " + player.getName().getString()
+                        + " — ignored (" + n + " since the last report): " + e);
+            }
+            return;
+        }
+        if (declaration == null) {
+            LSSLogger.debug("Want-set diff from " + player.getName().getString()
+                    + " against a base not held — dropped until its next whole frame");
+            return;
+        }
+        handleBatchRequest(player, new BatchChunkRequestC2SPayload(declaration.positions(),
+                declaration.timestamps(), declaration.count()));
+    }
+
+    private static final dev.vox.lss.common.LogThrottle WANT_SET_DECODE_WARN =
+            new dev.vox.lss.common.LogThrottle(60_000);
+
     public void tick() {
         if (!LSSServerConfig.CONFIG.enabled) return;
 
@@ -726,7 +850,10 @@ public class RequestProcessingService {
                     config.lodDistanceChunks,
                     config.enableChunkGeneration,
                     net.minecraft.SharedConstants.getCurrentVersion()
-                            .dataVersion().version());
+                            .dataVersion().version(),
+                    dev.vox.lss.common.HandshakeGate.serverCapabilities(
+                            state.getCapabilities(),
+                            dev.vox.lss.common.HandshakeGate.WireDialect.CURRENT));
             try {
                 dev.vox.lss.platform.LoaderServices.get().sendToPlayer(state.getPlayer(), payload);
                 pushed++;
@@ -1191,8 +1318,10 @@ public class RequestProcessingService {
                 // would make that save hash equal — silencing the dirty broadcast every OTHER
                 // client holding the old column needs. Only generation serves seed (freshly
                 // generated content cannot be stale-held by anyone).
-                var data = serializeProbeContained(SectionSerializer::serializeColumn,
-                        level, chunk, req.cx(), req.cz(), this.probeFailureWarn);
+                var data = this.probeSerializers != null
+                        ? snapshotProbeContained(level, chunk, req.cx(), req.cz())
+                        : serializeProbeContained(SectionSerializer::serializeColumn,
+                                level, chunk, req.cx(), req.cz(), this.probeFailureWarn);
                 if (data != null) {
                     probes.put(packed, data);
                 }
@@ -1203,6 +1332,27 @@ public class RequestProcessingService {
         return probes;
     }
 
+    /**
+     * The pooled probe: the copy (pass 1) runs here on the tick thread, the serialize
+     * (pass 2 — {@code section.write}, masking, the v20 translation) on a
+     * {@link ProbeSerializerPool} worker, and the router waits on the deferred column. Both
+     * halves keep {@link #serializeProbeContained}'s containment: a throwing copy resolves
+     * as no probe right here, a throwing serialize as no probe at the router.
+     */
+    private LoadedColumnData snapshotProbeContained(ServerLevel level, LevelChunk chunk, int cx, int cz) {
+        SectionSerializer.ColumnSnapshot snapshot;
+        try {
+            snapshot = SectionSerializer.snapshotColumn(level, chunk, cx, cz, true);
+        } catch (Exception | LinkageError | AssertionError e) {
+            warnProbeFailure(this.probeFailureWarn, cx, cz, e);
+            return null;
+        }
+        if (snapshot == null) return new LoadedColumnData(cx, cz, null, 0);
+        return this.probeSerializers.submit(cx, cz, () -> serializeProbeContained(
+                (l, c, x, z) -> SectionSerializer.serialize(snapshot),
+                null, null, cx, cz, this.probeFailureWarn));
+    }
+
     /** Serializer seam for {@link #serializeProbeContained} — production passes
      *  {@link SectionSerializer#serializeColumn}. */
     @FunctionalInterface
@@ -1228,19 +1378,24 @@ public class RequestProcessingService {
         try {
             return serializer.serialize(level, chunk, cx, cz);
         } catch (Exception | LinkageError | AssertionError e) {
-            long releases = warnThrottle.recordAndTryAcquire(System.nanoTime() / 1_000_000);
-            if (releases > 0) {
-                LSSLogger.warn("In-memory probe serialization failed at " + cx + ", " + cz
-                        + " — column skipped, falls through to the disk/generation ladder"
-                        + (releases > 1 ? " (+" + (releases - 1) + " more since last report)" : ""),
-                        e);
-            }
+            warnProbeFailure(warnThrottle, cx, cz, e);
             return null;
         }
     }
 
+    private static void warnProbeFailure(LogThrottle warnThrottle, int cx, int cz, Throwable e) {
+        long releases = warnThrottle.recordAndTryAcquire(System.nanoTime() / 1_000_000);
+        if (releases > 0) {
+            LSSLogger.warn("In-memory probe serialization failed at " + cx + ", " + cz
+                    + " — column skipped, falls through to the disk/generation ladder"
+                    + (releases > 1 ? " (+" + (releases - 1) + " more since last report)" : ""),
+                    e);
+        }
+    }
+
     /**
-     * Drain generation ticket requests from the processing thread and submit MC tickets.
+     * Drain generation ticket requests from the processing thread into the server-wide
+     * admission queue, then submit MC tickets from it nearest-first across all players.
      * Must run on main thread (ticket management requires MC world state).
      */
     private void drainGenerationTicketRequests() {
@@ -1251,28 +1406,54 @@ public class RequestProcessingService {
             var state = this.players.get(req.playerUuid());
             if (state == null || !state.hasCompletedHandshake()) continue;
 
-            var player = state.getPlayer();
-            var level = player.level();
-            String dimension = this.dimensionStringCache.computeIfAbsent(level.dimension(),
-                    k -> k.identifier().toString());
             // Ticket queued before a dimension change targets the old dimension's coordinates.
             // Dropping it leaks nothing: the admitting state was discarded by
             // removePlayer+registerPlayer (its slot dies with it), AND that same removePlayer
             // enqueues the removal event that sweeps the processing thread's UUID-keyed
             // generation in-flight tracking (removeGenerationTracking) — without that sweep the
             // dropped ticket's tracking would leak (do not add a drop path that skips it).
-            if (!dimension.equals(req.dimension())) continue;
-            boolean accepted = !player.isRemoved() && this.generationService.submitGeneration(
-                    req.playerUuid(), level, req.cx(), req.cz(),
+            // The queue's silent drop (NO_PLAYER) rests on the same argument.
+            if (!dimensionOf(state.getPlayer()).equals(req.dimension())) continue;
+            this.generationQueue.offer(req.playerUuid(), req.dimension(), req.cx(), req.cz(),
                     req.submissionOrder());
-            if (!accepted) {
-                // Capacity rejection or removed player — TRANSIENT: feed a transient outcome
-                // so the processing thread frees the pending slot silently (superseded); the
-                // client's re-declaration retries. Never NOT_GENERATED (session-permanent).
-                this.offThreadProcessor.feedGenerationFailure(
-                        req.playerUuid(), req.cx(), req.cz(), dimension, req.submissionOrder(), true);
-            }
         }
+
+        this.generationQueue.admit((uuid, dimension) -> {
+            var state = this.players.get(uuid);
+            if (state == null || !state.hasCompletedHandshake()) return GenerationAdmissionQueue.NO_PLAYER;
+            var player = state.getPlayer();
+            if (!dimensionOf(player).equals(dimension)) return GenerationAdmissionQueue.NO_PLAYER;
+            if (player.isRemoved()) return GenerationAdmissionQueue.RELEASE;
+            return PositionUtil.packPosition(player.getBlockX() >> 4, player.getBlockZ() >> 4);
+        }, (uuid, cx, cz) -> {
+            // The processing thread's latest applied declaration: a ticket the player has
+            // since stopped declaring frees its gen slot now, not at the timeout.
+            var state = this.players.get(uuid);
+            return state == null || state.stillDeclares(cx, cz);
+        }, LSSServerConfig.CONFIG.lodDistanceChunks + LSSConstants.LOD_DISTANCE_BUFFER,
+                new GenerationAdmissionQueue.Sink() {
+            @Override
+            public boolean submit(UUID uuid, String dimension, int cx, int cz, long submissionOrder) {
+                // The locator just vouched for the state, its dimension and its handle.
+                return generationService.submitGeneration(uuid,
+                        players.get(uuid).getPlayer().level(), cx, cz, submissionOrder);
+            }
+
+            @Override
+            public void release(UUID uuid, String dimension, int cx, int cz, long submissionOrder) {
+                // Undeclared, out of range, queued past the timeout, or a removed player —
+                // TRANSIENT: feed a transient outcome so the processing thread frees the
+                // pending slot silently (superseded); the client's re-declaration retries.
+                // Never NOT_GENERATED (session-permanent).
+                offThreadProcessor.feedGenerationFailure(
+                        uuid, cx, cz, dimension, submissionOrder, true);
+            }
+        });
+    }
+
+    private String dimensionOf(ServerPlayer player) {
+        return this.dimensionStringCache.computeIfAbsent(player.level().dimension(),
+                k -> k.identifier().toString());
     }
 
     private void drainSendActions() {
@@ -1326,6 +1507,10 @@ public class RequestProcessingService {
         return this.dialects;
     }
 
+    public dev.vox.lss.common.processing.WantSetReceiver getWantSets() {
+        return this.wantSets;
+    }
+
     public dev.vox.lss.common.farplayers.FarPlayerBroadcastService getFarPlayerService() {
         return this.farPlayerService;
     }
@@ -1338,6 +1523,11 @@ public class RequestProcessingService {
         return this.generationService;
     }
 
+    /** Null when chunk generation is disabled. */
+    public GenerationAdmissionQueue getGenerationQueue() {
+        return this.generationQueue;
+    }
+
     public SharedBandwidthLimiter getBandwidthLimiter() {
         return this.bandwidthLimiter;
     }
@@ -1375,6 +1565,55 @@ public class RequestProcessingService {
         return dev.vox.lss.common.store.RegistryFingerprint.of(states, biomeKeys);
     }
 
+    /** Leaves this server's registry tables + store meta next to the store for the
+     *  offline builder ({@code StoreBuildProfile}). Best effort: a failed write only
+     *  costs the builder its input, never the store. */
+    private static void writeStoreBuildProfile(MinecraftServer server, java.nio.file.Path worldRoot,
+                                               Map<String, java.nio.file.Path> regionDirs,
+                                               Map<String, String> maskFingerprints,
+                                               LSSServerConfig config) {
+        try {
+            var profile = new dev.vox.lss.common.store.offline.StoreBuildProfile();
+            profile.mcVersion = server.getServerVersion();
+            profile.wireVersion = LSSConstants.PROTOCOL_VERSION;
+            profile.registryFingerprint = storeRegistryFingerprint(server);
+            profile.sectionDedup = config.lodStoreSectionDedup;
+            profile.columnDictionary = config.useColumnDictionary;
+            profile.shardByDimension = config.lodStoreShardByDimension;
+            profile.blockStates = IdentityTables.blockIdentities();
+            var air = new it.unimi.dsi.fastutil.ints.IntArrayList();
+            var fluid = new it.unimi.dsi.fastutil.ints.IntArrayList();
+            for (var state : net.minecraft.world.level.block.Block.BLOCK_STATE_REGISTRY) {
+                int id = net.minecraft.world.level.block.Block.BLOCK_STATE_REGISTRY.getId(state);
+                if (state.isAir()) air.add(id);
+                if (!state.getFluidState().isEmpty()) fluid.add(id);
+            }
+            profile.airStates = air.toIntArray();
+            profile.fluidStates = fluid.toIntArray();
+            profile.biomes = NbtSectionSerializer.biomeIdentities(server.registryAccess());
+            profile.defaultBiome = NbtSectionSerializer.defaultBiomeId(server.registryAccess());
+            for (ServerLevel level : server.getAllLevels()) {
+                String dim = level.dimension().identifier().toString();
+                var regionDir = regionDirs.get(dim);
+                if (regionDir == null) continue;
+                var entry = new dev.vox.lss.common.store.offline.StoreBuildProfile.Dimension();
+                entry.id = dim;
+                entry.regionDir = worldRoot.relativize(regionDir.normalize()).toString()
+                        .replace(java.io.File.separatorChar, '/');
+                entry.minSectionY = level.getMinSectionY();
+                entry.maxSectionY = level.getMaxSectionY();
+                var pos = level.getRespawnData().pos();
+                entry.spawnChunkX = pos == null ? 0 : pos.getX() >> 4;
+                entry.spawnChunkZ = pos == null ? 0 : pos.getZ() >> 4;
+                entry.maskFingerprint = maskFingerprints.get(dim);
+                profile.dimensions.add(entry);
+            }
+            profile.write(dev.vox.lss.common.store.offline.OfflineStoreBuilder.defaultProfilePath(worldRoot));
+        } catch (Throwable t) {
+            LSSLogger.warn("Could not write the LOD store build profile (offline builder input): " + t);
+        }
+    }
+
     /** The live LOD store (null while lodStore=off OR after the codec-probe degrade). */
     public dev.vox.lss.common.store.LodStoreService getLodStore() {
         return this.lodStore;
@@ -1471,6 +1710,7 @@ public class RequestProcessingService {
                 this.offThreadProcessor.invalidateTimestamps(entry.getKey(), entry.getValue());
             }
             if (this.storeBackfill != null) this.storeBackfill.shutdown();
+            if (this.probeSerializers != null) this.probeSerializers.shutdown();
             this.offThreadProcessor.shutdown();
         } catch (Exception e) {
             LSSLogger.error("Error shutting down off-thread processor", e);
@@ -1492,6 +1732,7 @@ public class RequestProcessingService {
         }
         try {
             if (this.generationService != null) {
+                this.generationQueue.clear();
                 this.generationService.shutdown();
             }
         } catch (Exception e) {
@@ -3,13 +3,18 @@ package dev.vox.lss.networking.server;
 import dev.vox.lss.common.processing.LoadedColumnData;
 import dev.vox.lss.compat.AntiXrayCompat;
 import io.netty.buffer.Unpooled;
+import net.minecraft.core.RegistryAccess;
 import net.minecraft.core.SectionPos;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.LightLayer;
+import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.DataLayer;
-import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Serializes loaded chunk columns into MC-native wire format.
@@ -21,26 +26,46 @@ import net.minecraft.world.level.chunk.LevelChunkSection;
  * {@code SerializableChunkData.copyOf} — C2ME/Moonrise save workers — where reading the
  * section and light data is safe because copyOf itself performs the same class of reads
  * there (under Moonrise the light layers come from Starlight's SWMR nibble arrays, which
- * are multi-reader by design).
+ * are multi-reader by design). The loaded-chunk probe splits the work: the server thread
+ * runs {@link #snapshotColumn} with copies, and {@link #serialize} runs on the
+ * {@code ProbeSerializerPool} against data the chunk no longer shares.
  */
 public final class SectionSerializer {
     private SectionSerializer() {}
 
-    /**
-     * Serialize all non-air sections of a loaded chunk column into MC-native wire format.
-     * Returns a {@link LoadedColumnData} with pre-serialized bytes.
-     */
-    private record SectionInfo(int index, int sectionY, SectionPos sectionPos,
+    /** One served section: its (possibly copied) palettes and the light layers pass 1 kept. */
+    record SectionInfo(int sectionY, LevelChunkSection section,
                                DataLayer blLayer, boolean hasBlockLight,
                                DataLayer slLayer, boolean hasSkyLight) {}
 
-    public static LoadedColumnData serializeColumn(ServerLevel level, LevelChunk chunk, int cx, int cz) {
-        // One AntiXray-shim scope per COLUMN (not per section): section.write crashes under
-        // the AntiXray mod's mixins outside this binding — see AntiXrayCompat.
-        return AntiXrayCompat.callSerializing(() -> serializeColumnInner(level, chunk, cx, cz));
+    /**
+     * Everything the serialize half reads, resolved on the thread that may read the level.
+     * A {@linkplain #snapshotColumn copied} snapshot owns its sections and layers outright,
+     * so {@link #serialize} may run on any thread while the chunk keeps ticking.
+     */
+    record ColumnSnapshot(int cx, int cz, List<SectionInfo> sections,
+                          XrayMaskManager.MaskEntry maskEntry, PalettedContainerFactory maskFactory,
+                          RegistryAccess registryAccess) {}
+
+    /**
+     * Serialize all non-air sections of a loaded chunk column into MC-native wire format.
+     * Returns a {@link LoadedColumnData} with pre-serialized bytes. Any {@link ChunkAccess}
+     * whose light is done: LOD-only generation serializes the proto-chunk it stopped at.
+     */
+    public static LoadedColumnData serializeColumn(ServerLevel level, ChunkAccess chunk, int cx, int cz) {
+        var snapshot = snapshotColumn(level, chunk, cx, cz, false);
+        return snapshot == null ? new LoadedColumnData(cx, cz, null, 0) : serialize(snapshot);
     }
 
-    private static LoadedColumnData serializeColumnInner(ServerLevel level, LevelChunk chunk, int cx, int cz) {
+    /**
+     * Pass 1 of {@link #serializeColumn}: pick the served sections and their light. With
+     * {@code copy} the sections and layers are copied ({@code LevelChunkSection.copy} /
+     * {@code DataLayer.copy} — the same copies {@code SerializableChunkData.copyOf} takes for
+     * async saves: array clones, no palette walk), which is what makes the snapshot safe to
+     * serialize off the thread that owns the chunk. Returns null for a column with nothing
+     * to serve (the all-air answer).
+     */
+    static ColumnSnapshot snapshotColumn(ServerLevel level, ChunkAccess chunk, int cx, int cz, boolean copy) {
         int minSectionY = level.getMinSectionY();
         var sections = chunk.getSections();
         var lightEngine = level.getLightEngine();
@@ -55,7 +80,7 @@ public final class SectionSerializer {
         // light 0 — leaves rendered black from one side. Fully-dark air (caves, deep
         // enclosures) still skips: its layers are null/zero, so the serve set stays
         // bounded to vanilla's own stored-light coverage (~1-2 extra sections per column).
-        var includedSections = new java.util.ArrayList<SectionInfo>(sections.length);
+        var includedSections = new ArrayList<SectionInfo>(sections.length);
         for (int i = 0; i < sections.length; i++) {
             var section = sections[i];
             if (section == null) continue;
@@ -68,7 +93,7 @@ public final class SectionSerializer {
 
             if (section.hasOnlyAir() && !hasBlockLight && !hasSkyLight) continue;
 
-            includedSections.add(new SectionInfo(i, sectionY, sectionPos,
+            includedSections.add(new SectionInfo(sectionY, section,
                     blLayer, hasBlockLight, slLayer, hasSkyLight));
         }
 
@@ -78,36 +103,55 @@ public final class SectionSerializer {
         // a data column. BLOCK-lit air keeps its long-standing unconditional serve.
         int minContent = Integer.MAX_VALUE, maxContent = Integer.MIN_VALUE;
         for (var info : includedSections) {
-            if (!sections[info.index()].hasOnlyAir()) {
+            if (!info.section().hasOnlyAir()) {
                 minContent = Math.min(minContent, info.sectionY());
                 maxContent = Math.max(maxContent, info.sectionY());
             }
         }
         final boolean noContent = minContent == Integer.MAX_VALUE;
         final int lo = minContent - 1, hi = maxContent + 1;
-        includedSections.removeIf(info -> sections[info.index()].hasOnlyAir()
+        includedSections.removeIf(info -> info.section().hasOnlyAir()
                 && !info.hasBlockLight()
                 && (noContent || info.sectionY() < lo || info.sectionY() > hi));
 
         if (includedSections.isEmpty()) {
-            return new LoadedColumnData(cx, cz, null, 0);
+            return null;
+        }
+        if (copy) {
+            // Only what pass 2 will read: a dark layer is never written, so never copied.
+            includedSections.replaceAll(info -> new SectionInfo(info.sectionY(), info.section().copy(),
+                    info.hasBlockLight() ? info.blLayer().copy() : null, info.hasBlockLight(),
+                    info.hasSkyLight() ? info.slLayer().copy() : null, info.hasSkyLight()));
         }
 
-        // Second pass: serialize using cached results
         var maskEntry = XrayMaskManager.entryForActive(level);
         var maskFactory = maskEntry != null ? NbtSectionSerializer.factoryFor(level.registryAccess()) : null;
-        var buf = new FriendlyByteBuf(Unpooled.buffer(sections.length * 1024));
+        return new ColumnSnapshot(cx, cz, includedSections, maskEntry, maskFactory, level.registryAccess());
+    }
+
+    /** Pass 2 of {@link #serializeColumn}: the wire bytes for a non-empty snapshot. */
+    static LoadedColumnData serialize(ColumnSnapshot snapshot) {
+        // One AntiXray-shim scope per COLUMN (not per section): section.write crashes under
+        // the AntiXray mod's mixins outside this binding — see AntiXrayCompat. The binding
+        // is per-thread, so it wraps the serialize wherever it runs.
+        return AntiXrayCompat.callSerializing(() -> serializeInner(snapshot));
+    }
+
+    private static LoadedColumnData serializeInner(ColumnSnapshot snapshot) {
+        var maskEntry = snapshot.maskEntry();
+        var includedSections = snapshot.sections();
+        var buf = new FriendlyByteBuf(Unpooled.buffer(includedSections.size() * 1024));
         try {
             buf.writeVarInt(includedSections.size());
 
             for (var info : includedSections) {
-                var section = sections[info.index];
+                var section = info.section();
                 if (maskEntry != null) {
                     // Masking INSIDE the choke point: probe, generation, and the
                     // DirtyContentFilter hash all see identical masked bytes by construction.
                     int[] replacedCells = new int[1];
-                    var masked = XrayMaskFilter.mask(section, info.sectionY,
-                            maskEntry.mask(), maskEntry.kind(), maskFactory, replacedCells);
+                    var masked = XrayMaskFilter.mask(section, info.sectionY(),
+                            maskEntry.mask(), maskEntry.kind(), snapshot.maskFactory(), replacedCells);
                     if (masked != section) {
                         section = masked;
                         // Count only when cells were actually hidden — a stale-palette
@@ -119,19 +163,19 @@ public final class SectionSerializer {
                     }
                 }
 
-                buf.writeByte(info.sectionY);
+                buf.writeByte(info.sectionY());
                 section.write(buf);
 
                 // Block light (cached from pass 1)
-                buf.writeBoolean(info.hasBlockLight);
-                if (info.hasBlockLight) {
-                    buf.writeBytes(info.blLayer.getData());
+                buf.writeBoolean(info.hasBlockLight());
+                if (info.hasBlockLight()) {
+                    buf.writeBytes(info.blLayer().getData());
                 }
 
                 // Sky light (cached from pass 1)
-                buf.writeBoolean(info.hasSkyLight);
-                if (info.hasSkyLight) {
-                    buf.writeBytes(info.slLayer.getData());
+                buf.writeBoolean(info.hasSkyLight());
+                if (info.hasSkyLight()) {
+                    buf.writeBytes(info.slLayer().getData());
                 }
             }
 
@@ -141,8 +185,8 @@ public final class SectionSerializer {
             // emit above is unchanged; the v20 body is its canonical translation. Live,
             // generation (which reuses this method), and the DirtyContentFilter hash all
             // see the same translated bytes.
-            byte[] serialized = NbtSectionSerializer.toV20(nativeBody, level.registryAccess());
-            return new LoadedColumnData(cx, cz, serialized, serialized.length);
+            byte[] serialized = NbtSectionSerializer.toV20(nativeBody, snapshot.registryAccess());
+            return new LoadedColumnData(snapshot.cx(), snapshot.cz(), serialized, serialized.length);
         } finally {
             buf.release();
         }
@@ -274,7 +274,10 @@ public final class ServerReceiverGlue {
                         config.enableChunkGeneration,
                         // v20-only append (the encoder omits it for the echo versions).
                         net.minecraft.SharedConstants.getCurrentVersion()
-                                .dataVersion().version()));
+                                .dataVersion().version(),
+                        // Trailer only to a CURRENT client that declared what it grants.
+                        HandshakeGate.serverCapabilities(payload.capabilities(),
+                                decision.dialect())));
 
         if (decision.outcome() == HandshakeGate.Outcome.NO_CONSUMER) {
             // A re-handshake that no longer carries a consumer sheds any prior